@@ -18,7 +18,7 @@ package com.societegenerale.failover.aspect;
 
 import com.societegenerale.failover.annotations.Failover;
 import com.societegenerale.failover.core.FailoverExecution;
-import lombok.AllArgsConstructor;
+import com.societegenerale.failover.core.plan.FailoverPlanner;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -35,16 +35,35 @@ import static java.util.Arrays.asList;
  * AspectJ around-advice that intercepts methods annotated with {@link Failover} and delegates
  * execution to the configured {@link FailoverExecution} strategy.
  *
+ * <p>When a {@link FailoverPlanner} is supplied, each intercepted method is executed from its
+ * pre-compiled {@link com.societegenerale.failover.core.plan.FailoverPlan} (resolved once per method);
+ * without one, the execution re-resolves its collaborators from the annotation on every call.
+ *
  * @param <T> the return type of the intercepted methods
  * @author Anand Manissery
  */
 @Aspect
 @Slf4j
-@AllArgsConstructor
 public class FailoverAspect<T> {
 
     private final FailoverExecution<T> failoverExecution;
 
+    private final @Nullable FailoverPlanner failoverPlanner;
+
+    /**
+     * @param failoverExecution the failover execution strategy
+     * @param failoverPlanner   per-method plan cache ({@code null} to resolve from the annotation on every call)
+     */
+    public FailoverAspect(FailoverExecution<T> failoverExecution, @Nullable FailoverPlanner failoverPlanner) {
+        this.failoverExecution = failoverExecution;
+        this.failoverPlanner = failoverPlanner;
+    }
+
+    /** Convenience constructor without a plan cache. */
+    public FailoverAspect(FailoverExecution<T> failoverExecution) {
+        this(failoverExecution, null);
+    }
+
     /**
      * Around advice applied to all methods annotated with {@link Failover}.
      * Stores the result on success and recovers from the store on failure.
@@ -57,6 +76,9 @@ public class FailoverAspect<T> {
     public T failoverAroundAdvice(ProceedingJoinPoint joinPoint, @Nullable Failover failover) {
         Method method = ((MethodSignature)joinPoint.getSignature()).getMethod();
         if (failover != null && !failover.name().isEmpty()) {
+            if (failoverPlanner != null) {
+                return failoverExecution.execute(failoverPlanner.plan(failover, method), ()-> returnResult(joinPoint), asList(joinPoint.getArgs()));
+            }
             return failoverExecution.execute(failover, ()-> returnResult(joinPoint), method, asList(joinPoint.getArgs()));
         }
         return returnResult(joinPoint);
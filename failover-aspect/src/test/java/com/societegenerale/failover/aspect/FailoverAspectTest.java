@@ -18,6 +18,8 @@ package com.societegenerale.failover.aspect;
 
 import com.societegenerale.failover.annotations.Failover;
 import com.societegenerale.failover.core.FailoverExecution;
+import com.societegenerale.failover.core.plan.FailoverPlan;
+import com.societegenerale.failover.core.plan.FailoverPlanner;
 import com.societegenerale.failover.domain.Referential;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -39,6 +41,7 @@ import java.util.function.Supplier;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
@@ -156,12 +159,38 @@ class FailoverAspectTest {
         assertThat(thrown).isSameAs(error);
     }
 
+    @Test
+    @DisplayName("should execute from the compiled plan when a planner is configured")
+    void shouldExecuteFromCompiledPlanWhenPlannerConfigured() throws Throwable {
+        FailoverPlanner failoverPlanner = mock(FailoverPlanner.class);
+        FailoverPlan plan = FailoverPlan.builder().failover(failover).method(TEST_METHOD).build();
+        given(failoverPlanner.plan(failover, TEST_METHOD)).willReturn(plan);
+        given(joinPoint.proceed()).willReturn(client);
+        given(joinPoint.getArgs()).willReturn(new Long[]{1L});
+        DummyFailoverExecution execution = new DummyFailoverExecution();
+        FailoverAspect<Client> plannedAspect = new FailoverAspect<>(execution, failoverPlanner);
+
+        Client result = plannedAspect.failoverAroundAdvice(joinPoint, failoverWithName("FAILOVER"));
+
+        assertThat(result).isEqualTo(client);
+        assertThat(execution.executedPlan).isSameAs(plan);
+    }
+
     private Failover failoverWithName(String name) {
         when(failover.name()).thenReturn(name);
         return failover;
     }
 
     class DummyFailoverExecution implements FailoverExecution<Client> {
+
+        private FailoverPlan executedPlan;
+
+        @Override
+        public Client execute(FailoverPlan plan, Supplier<Client> supplier, List<Object> args) {
+            executedPlan = plan;
+            return FailoverExecution.super.execute(plan, supplier, args);
+        }
+
         @Override
         public Client execute(Failover failover, Supplier<Client> supplier, Method method, List<Object> args) {
             Client client = supplier.get();
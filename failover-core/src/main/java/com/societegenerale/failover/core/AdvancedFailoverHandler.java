@@ -18,18 +18,21 @@ package com.societegenerale.failover.core;
 
 import com.societegenerale.failover.annotations.Failover;
 import com.societegenerale.failover.core.expiry.FailoverExpiryExtractor;
-import com.societegenerale.failover.core.observable.Metrics;
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.publisher.ObservablePublisher;
 import com.societegenerale.failover.core.payload.RecoveredPayloadHandler;
+import com.societegenerale.failover.core.plan.FailoverPlan;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.function.Supplier;
 
-import static com.societegenerale.failover.core.observable.Metrics.of;
-import static com.societegenerale.failover.core.util.CommonsUtil.*;
+import static com.societegenerale.failover.core.util.CommonsUtil.isNotNullOrEmpty;
+import static com.societegenerale.failover.core.util.CommonsUtil.methodId;
 import static com.societegenerale.failover.core.util.FailoverNameResolver.effectiveName;
 
 /**
@@ -41,6 +44,9 @@ import static com.societegenerale.failover.core.util.FailoverNameResolver.effect
  * a single {@code findAll()} is one recover event, not one per slice). Each metric carries the
  * intercepted {@code method} and the failover {@code domain}; the method is forwarded downstream.
  *
+ * <p>Each operation is published as a single typed {@link FailoverEvent}; the exception details of a
+ * recover event are derived from the cause only by publishers that render them.
+ *
  * @param <T> the type of the payload managed by this handler
  * @author Anand Manissery
  */
@@ -58,50 +64,82 @@ public class AdvancedFailoverHandler<T> implements FailoverHandler<T> {
 
     @Override
     public T store(@NonNull Failover failover, @NonNull Method method, List<Object> args, T payload) {
+        return doStore(failover, effectiveName(failover), methodId(method), () -> failoverHandler.store(failover, method, args, payload));
+    }
+
+    /** Plan-driven store: forwards the plan downstream and tags the event with the plan's precomputed domain and method. */
+    @Override
+    public T store(@NonNull FailoverPlan plan, List<Object> args, T payload) {
+        return doStore(plan.getFailover(), plan.getEffectiveName(), plan.getMethodId(), () -> failoverHandler.store(plan, args, payload));
+    }
+
+    @Override
+    public T recover(@NonNull Failover failover, @NonNull Method method, List<Object> args, Class<T> clazz, Throwable cause) {
+        return doRecover(failover, effectiveName(failover), methodId(method), args, clazz, cause, () -> failoverHandler.recover(failover, method, args, clazz, cause));
+    }
+
+    /** Plan-driven recover: forwards the plan downstream and tags the event with the plan's precomputed domain and method. */
+    @Override
+    public T recover(@NonNull FailoverPlan plan, List<Object> args, Class<T> clazz, Throwable cause) {
+        return doRecover(plan.getFailover(), plan.getEffectiveName(), plan.getMethodId(), args, clazz, cause, () -> failoverHandler.recover(plan, args, clazz, cause));
+    }
+
+    /** Publishes a recover event only when a payload is found: a miss leaves the call to its upstream. */
+    @Override
+    public @Nullable T recoverIfPresent(@NonNull Failover failover, @NonNull Method method, List<Object> args, Class<T> clazz, Throwable cause) {
+        return doRecoverIfPresent(failover, effectiveName(failover), methodId(method), args, clazz, cause, () -> failoverHandler.recoverIfPresent(failover, method, args, clazz, cause));
+    }
+
+    /** Plan-driven variant of {@link #recoverIfPresent(Failover, Method, List, Class, Throwable)}. */
+    @Override
+    public @Nullable T recoverIfPresent(@NonNull FailoverPlan plan, List<Object> args, Class<T> clazz, Throwable cause) {
+        return doRecoverIfPresent(plan.getFailover(), plan.getEffectiveName(), plan.getMethodId(), args, clazz, cause, () -> failoverHandler.recoverIfPresent(plan, args, clazz, cause));
+    }
+
+    private T doStore(@NonNull Failover failover, String domain, String methodId, Supplier<T> store) {
         T result = null;
         long startNanos = System.nanoTime();
         try {
-            result = failoverHandler.store(failover, method, args, payload);
+            result = store.get();
         } finally {
-            observablePublisher.publish(baseMetrics(failover, method, "store")
-                    .collect("expiry-duration", failoverExpiryExtractor.expiryDuration(failover))
-                    .collect("expiry-unit", failoverExpiryExtractor.expiryUnit(failover).name())
-                    .collect("is-stored", isNotNullOrEmpty(result))
-                    .collect("duration-ns", System.nanoTime() - startNanos));
+            observablePublisher.publish(FailoverEvent.store(failover.name(), domain, methodId,
+                    failoverExpiryExtractor.expiryDuration(failover), failoverExpiryExtractor.expiryUnit(failover),
+                    isNotNullOrEmpty(result), System.nanoTime() - startNanos));
         }
         return result;
     }
 
-    @Override
-    public T recover(@NonNull Failover failover, @NonNull Method method, List<Object> args, Class<T> clazz, Throwable cause) {
+    @SuppressWarnings("java:S107")
+    private T doRecover(@NonNull Failover failover, String domain, String methodId, List<Object> args, Class<T> clazz, Throwable cause, Supplier<T> recover) {
         T result = null;
         String recoveryFailureMsg = null;
         long startNanos = System.nanoTime();
         try {
-            result = failoverHandler.recover(failover, method, args, clazz, cause);
+            result = recover.get();
         } catch( Exception exception) {
             recoveryFailureMsg = exception.getMessage();
             log.error("Ignoring Failover Exception !! Exception occurred while trying to 'recover' the payload for failover. This will impact only the failover flow. However a 'null' payload will be handled by RecoveredPayloadHandler and returned.", exception);
         } finally {
-            Throwable rootCause = cause.getCause();        // first-level cause
-            Throwable finalCause = finalRootCauseOf(cause);      // innermost cause (== rootCause when single level)
-            observablePublisher.publish(baseMetrics(failover, method, "recover")
-                    .collect("expiry-duration", failoverExpiryExtractor.expiryDuration(failover))
-                    .collect("expiry-unit", failoverExpiryExtractor.expiryUnit(failover).name())
-                    .collect("exception-type", cause.getClass().getCanonicalName())
-                    .collect("exception-cause-type", canonicalTypeOf(rootCause))
-                    .collect("exception-final-cause-type", canonicalTypeOf(finalCause))
-                    .collect("exception-message", cause.getMessage())
-                    .collect("exception-cause-message", messageOf(rootCause))
-                    .collect("exception-final-cause-message", messageOf(finalCause))
-                    .collect("is-recovered", isNotNullOrEmpty(result))
-                    .collect("is-recovery-failed", recoveryFailureMsg != null)
-                    .collect("recovery-failure-message", recoveryFailureMsg)
-                    .collect("duration-ns", System.nanoTime() - startNanos));
+            observablePublisher.publish(FailoverEvent.recover(failover.name(), domain, methodId,
+                    failoverExpiryExtractor.expiryDuration(failover), failoverExpiryExtractor.expiryUnit(failover),
+                    cause, isNotNullOrEmpty(result), recoveryFailureMsg, System.nanoTime() - startNanos));
         }
         return handleRecoveredPayload(failover, args, clazz, result, cause);
     }
 
+    @SuppressWarnings("java:S107")
+    private @Nullable T doRecoverIfPresent(@NonNull Failover failover, String domain, String methodId, List<Object> args, Class<T> clazz, Throwable cause, Supplier<T> recover) {
+        long startNanos = System.nanoTime();
+        T result = recover.get();
+        if (!isNotNullOrEmpty(result)) {
+            return null;
+        }
+        observablePublisher.publish(FailoverEvent.recover(failover.name(), domain, methodId,
+                failoverExpiryExtractor.expiryDuration(failover), failoverExpiryExtractor.expiryUnit(failover),
+                cause, true, null, System.nanoTime() - startNanos));
+        return handleRecoveredPayload(failover, args, clazz, result, cause);
+    }
+
     /**
      * Post-processes the recovered payload via the {@link RecoveredPayloadHandler}, guarding against a
      * misbehaving handler. A handler failure must not break the failover flow — it is logged at
@@ -120,12 +158,4 @@ public class AdvancedFailoverHandler<T> implements FailoverHandler<T> {
     public void clean() {
         failoverHandler.clean();
     }
-
-    /** Builds the common metric bag carrying the action, failover {@code domain} and intercepted {@code method}. */
-    private Metrics baseMetrics(@NonNull Failover failover, @NonNull Method method, String action) {
-        return of(failover.name())
-                .collect("action", action)
-                .collect("domain", effectiveName(failover))
-                .collect("method", methodId(method));
-    }
 }
@@ -19,14 +19,32 @@ package com.societegenerale.failover.core;
 import com.societegenerale.failover.annotations.Failover;
 import com.societegenerale.failover.core.exception.MethodExceptionContext;
 import com.societegenerale.failover.core.exception.MethodExceptionHandler;
-import com.societegenerale.failover.core.observable.Metrics;
+import com.societegenerale.failover.core.flight.SingleFlight;
+import com.societegenerale.failover.core.flight.SingleFlightStats;
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.publisher.ObservablePublisher;
+import com.societegenerale.failover.core.plan.FailoverPlan;
+import com.societegenerale.failover.core.propagator.ContextPropagator;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import static com.societegenerale.failover.core.util.CastingUtils.cast;
 import static com.societegenerale.failover.core.util.CommonsUtil.methodId;
@@ -41,12 +59,28 @@ import static com.societegenerale.failover.core.util.FailoverNameResolver.effect
  * separate from the store/recover path. The {@code observablePublisher} is the non-blocking dispatching
  * publisher, so this never slows the caller; it is optional ({@code null} = no upstream metric).
  *
+ * <p>On the plan-driven path, a failover with {@link Failover#collapseRequests()} set runs at most one call per
+ * method and failover key at a time: concurrent callers with the same key wait for the call in flight and share
+ * its outcome, so the upstream is called, and its result stored, once for all of them. Calls are only shared
+ * within a call scope — the tenant, with a multi-tenant store — resolved on the calling thread.
+ *
+ * <p>A failover with a {@link Failover#latencyBudget()} calls the upstream on a virtual thread and waits for it
+ * at most the budget. Past it, the caller gets the recovered payload (marked not up to date by the handler) while
+ * the upstream call completes in the background and stores its result. When nothing can be recovered, the caller
+ * waits for the upstream as if there were no budget. The {@link ContextPropagator} carries the caller's thread-bound
+ * context (tenant, MDC, security) onto the virtual thread, as for the scatter/gather slices. At most
+ * {@code maxBackgroundCalls} calls per failover method are left running in the background: past that bound, a
+ * caller over budget waits for its call instead, so a stalled upstream cannot pile up an unbounded number of calls.
+ *
  * @param <T> the return type of the protected method
  * @author Anand Manissery
  */
 @Slf4j
 public class BasicFailoverExecution<T> implements FailoverExecution<T> {
 
+    /** Default number of calls per failover method left running in the background past their latency budget. */
+    public static final int DEFAULT_MAX_BACKGROUND_CALLS = 16;
+
     private static final String UPSTREAM_SUCCESS = "success";
     private static final String UPSTREAM_FAILURE = "failure";
 
@@ -56,6 +90,28 @@ public class BasicFailoverExecution<T> implements FailoverExecution<T> {
 
     private final @Nullable ObservablePublisher observablePublisher;
 
+    /** Identifies identical calls: same scope, same method, same failover key. */
+    private record CallKey(String scope, Method method, String key) {
+    }
+
+    /** Resolves the scope of the calling thread, e.g. its tenant; {@code null} means the shared scope. */
+    private final Supplier<@Nullable String> callScope;
+
+    private final SingleFlight<CallKey, T> collapsedCalls = new SingleFlight<>();
+
+    private final ContextPropagator contextPropagator;
+
+    private final Executor upstreamExecutor = task -> Thread.ofVirtual().name("failover-upstream").start(task);
+
+    private final LongAdder budgetExceeded = new LongAdder();
+
+    private final int maxBackgroundCalls;
+
+    /** Failover method → permits of the calls it may leave running in the background. */
+    private final Map<Method, Semaphore> backgroundPermits = new ConcurrentHashMap<>();
+
+    private final LongAdder budgetSaturated = new LongAdder();
+
     /**
      * @param failoverHandler        handler for store and recover operations
      * @param methodExceptionHandler policy for handling exceptions after recovery
@@ -64,9 +120,63 @@ public class BasicFailoverExecution<T> implements FailoverExecution<T> {
      */
     public BasicFailoverExecution(FailoverHandler<T> failoverHandler, MethodExceptionHandler methodExceptionHandler,
                                   @Nullable ObservablePublisher observablePublisher) {
+        this(failoverHandler, methodExceptionHandler, observablePublisher, () -> null);
+    }
+
+    /**
+     * @param failoverHandler        handler for store and recover operations
+     * @param methodExceptionHandler policy for handling exceptions after recovery
+     * @param observablePublisher    non-blocking publisher for the {@code failover.upstream.duration} metric
+     *                               ({@code null} to disable upstream timing)
+     * @param callScope              resolves the scope of the calling thread (e.g. its tenant) outside of which
+     *                               collapsed calls are never shared; may return {@code null} for the shared scope
+     */
+    public BasicFailoverExecution(FailoverHandler<T> failoverHandler, MethodExceptionHandler methodExceptionHandler,
+                                  @Nullable ObservablePublisher observablePublisher, Supplier<@Nullable String> callScope) {
+        this(failoverHandler, methodExceptionHandler, observablePublisher, callScope, ContextPropagator.noOp());
+    }
+
+    /**
+     * @param failoverHandler        handler for store and recover operations
+     * @param methodExceptionHandler policy for handling exceptions after recovery
+     * @param observablePublisher    non-blocking publisher for the {@code failover.upstream.duration} metric
+     *                               ({@code null} to disable upstream timing)
+     * @param callScope              resolves the scope of the calling thread (e.g. its tenant) outside of which
+     *                               collapsed calls are never shared; may return {@code null} for the shared scope
+     * @param contextPropagator      carries the caller's thread-bound context onto the thread running an upstream
+     *                               call under a latency budget
+     */
+    public BasicFailoverExecution(FailoverHandler<T> failoverHandler, MethodExceptionHandler methodExceptionHandler,
+                                  @Nullable ObservablePublisher observablePublisher, Supplier<@Nullable String> callScope,
+                                  ContextPropagator contextPropagator) {
+        this(failoverHandler, methodExceptionHandler, observablePublisher, callScope, contextPropagator,
+                DEFAULT_MAX_BACKGROUND_CALLS);
+    }
+
+    /**
+     * @param failoverHandler        handler for store and recover operations
+     * @param methodExceptionHandler policy for handling exceptions after recovery
+     * @param observablePublisher    non-blocking publisher for the {@code failover.upstream.duration} metric
+     *                               ({@code null} to disable upstream timing)
+     * @param callScope              resolves the scope of the calling thread (e.g. its tenant) outside of which
+     *                               collapsed calls are never shared; may return {@code null} for the shared scope
+     * @param contextPropagator      carries the caller's thread-bound context onto the thread running an upstream
+     *                               call under a latency budget
+     * @param maxBackgroundCalls     calls per failover method that may go on in the background past their latency
+     *                               budget; must be {@code > 0}
+     */
+    public BasicFailoverExecution(FailoverHandler<T> failoverHandler, MethodExceptionHandler methodExceptionHandler,
+                                  @Nullable ObservablePublisher observablePublisher, Supplier<@Nullable String> callScope,
+                                  ContextPropagator contextPropagator, int maxBackgroundCalls) {
+        if (maxBackgroundCalls <= 0) {
+            throw new IllegalArgumentException("maxBackgroundCalls must be > 0, but was " + maxBackgroundCalls);
+        }
         this.failoverHandler = failoverHandler;
         this.methodExceptionHandler = methodExceptionHandler;
         this.observablePublisher = observablePublisher;
+        this.callScope = callScope;
+        this.contextPropagator = contextPropagator;
+        this.maxBackgroundCalls = maxBackgroundCalls;
     }
 
     /** Convenience constructor without upstream-duration metrics (used in unit tests). */
@@ -76,37 +186,171 @@ public class BasicFailoverExecution<T> implements FailoverExecution<T> {
 
     @Override
     public T execute(Failover failover, Supplier<T> supplier, Method method, List<Object> args) {
+        return execute(failover, method, args,
+                timedSupplier(failover, supplier,
+                        (result, durationNanos) -> publishUpstreamDuration(failover, method, result, durationNanos),
+                        payload -> failoverHandler.store(failover, method, args, payload)),
+                cause -> failoverHandler.recover(failover, method, args, cast(method.getReturnType()), cause),
+                cause -> failoverHandler.recoverIfPresent(failover, method, args, cast(method.getReturnType()), cause));
+    }
+
+    /**
+     * Plan-driven execution: same semantics as {@link #execute(Failover, Supplier, Method, List)}, but the
+     * upstream event is tagged from the plan's precomputed domain and method id and the handler is called with the plan, so no
+     * collaborator is re-resolved per call. When the failover collapses requests, a caller whose scope, method
+     * and key match a call in flight waits for it and returns its outcome.
+     */
+    @Override
+    public T execute(FailoverPlan plan, Supplier<T> supplier, List<Object> args) {
+        if (!plan.getFailover().collapseRequests()) {
+            return executePlan(plan, supplier, args);
+        }
+        CallKey callKey;
+        try {
+            String scope = callScope.get();
+            callKey = new CallKey(scope == null ? "" : scope, plan.getMethod(), plan.getKeyGenerator().key(plan.getFailover(), args));
+        } catch (RuntimeException e) {
+            log.warn("Could not compute the key of failover '{}', the call is not collapsed. Cause: {}", plan.getName(), e.getMessage());
+            return executePlan(plan, supplier, args);
+        }
+        return collapsedCalls.execute(callKey, () -> executePlan(plan, supplier, args));
+    }
+
+    /** @return the calls run and the callers that shared a call in flight, for failovers collapsing requests */
+    public SingleFlightStats collapseStats() {
+        return collapsedCalls.stats();
+    }
+
+    /** @return the calls answered with the recovered payload because the upstream exceeded the latency budget */
+    public long latencyBudgetExceeded() {
+        return budgetExceeded.sum();
+    }
+
+    /** @return the upstream calls currently going on in the background past their latency budget, all failovers */
+    public int backgroundCalls() {
+        return backgroundPermits.values().stream().mapToInt(permits -> maxBackgroundCalls - permits.availablePermits()).sum();
+    }
+
+    /**
+     * @return the calls over their latency budget that waited for the upstream because their method already had
+     *         {@code maxBackgroundCalls} calls in the background
+     */
+    public long latencyBudgetSaturated() {
+        return budgetSaturated.sum();
+    }
+
+    private T executePlan(FailoverPlan plan, Supplier<T> supplier, List<Object> args) {
+        Failover failover = plan.getFailover();
+        return execute(failover, plan.getMethod(), args,
+                timedSupplier(failover, supplier,
+                        (result, durationNanos) -> publishUpstreamDuration(plan, result, durationNanos),
+                        payload -> failoverHandler.store(plan, args, payload)),
+                cause -> failoverHandler.recover(plan, args, cast(plan.getReturnType()), cause),
+                cause -> failoverHandler.recoverIfPresent(plan, args, cast(plan.getReturnType()), cause));
+    }
+
+    /**
+     * @param recovery       recovers the payload once the call failed
+     * @param budgetRecovery looks the payload up for a call still running past its latency budget, reporting a
+     *                       recovery only when a payload is found
+     */
+    private T execute(Failover failover, Method method, List<Object> args, Supplier<T> upstream, Function<Exception, T> recovery,
+                      Function<Exception, T> budgetRecovery) {
         T result;
         try {
-            result = failoverSupplier(failover, method, supplier, args).get();
+            Supplier<T> call = decorateSupplier(failover, upstream, args);
+            Duration budget = latencyBudget(failover);
+            result = budget.isZero() ? call.get() : callWithinBudget(failover, method, budget, call, budgetRecovery);
         } catch (Exception cause) {
             log.warn("Exception occurred while trying to 'execute' the actual method '{}' with failover. We will try to recover the data from failover...", method.getName(), cause);
-            result = executeRecoverOnException(method, args, failover, cause);
+            result = executeRecoverOnException(method, args, failover, cause, recovery);
         }
         return result;
     }
 
-    private Supplier<T> failoverSupplier(Failover failover, Method method, Supplier<T> supplier, List<Object> args) {
-        return decorateSupplier(failover,
-                () -> {
-                    // Time only the protected upstream call. On a decorated supplier (e.g. an OPEN circuit
-                    // breaker) that short-circuits before this lambda, nothing is timed — upstream wasn't called.
-                    long startNanos = System.nanoTime();
-                    T result;
-                    try {
-                        result = supplier.get();
-                    } catch (RuntimeException upstreamFailure) {
-                        publishUpstreamDuration(failover, method, UPSTREAM_FAILURE, System.nanoTime() - startNanos);
-                        throw upstreamFailure;
-                    }
-                    publishUpstreamDuration(failover, method, UPSTREAM_SUCCESS, System.nanoTime() - startNanos);
-                    try {
-                        failoverHandler.store(failover, method, args, result);
-                    } catch (Exception exception) {
-                        log.error("Ignoring Failover Exception !! Exception occurred while trying to 'store' the payload for failover '{}'. This will impact only the failover flow", failover.name(), exception);
-                    }
-                    return result;
-                }, args);
+    private static Duration latencyBudget(Failover failover) {
+        long budget = failover.latencyBudget();
+        return budget <= 0 ? Duration.ZERO : failover.latencyBudgetUnit().getDuration().multipliedBy(budget);
+    }
+
+    /**
+     * Runs the call in the background, with the caller's context, and waits for it at most {@code budget}. Past it,
+     * returns the recovered payload and leaves the call running, so that it stores its result; with nothing
+     * recovered, or with the failover's background calls at their bound, waits for the call. An interrupted caller
+     * leaves the call running in the background the same way, within the bound, and recovers. The lookup reports a
+     * recovery only when it returns a payload, so a call that ends up answered by its upstream is not also counted
+     * as recovered.
+     */
+    private T callWithinBudget(Failover failover, Method method, Duration budget, Supplier<T> call, Function<Exception, T> budgetRecovery) throws InterruptedException {
+        CompletableFuture<T> pending = CompletableFuture.supplyAsync(contextPropagator.wrapSupplier(call), upstreamExecutor);
+        try {
+            return pending.get(budget.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException failure) {
+            throw upstreamFailure(failure.getCause());
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            Semaphore permits = backgroundPermitsOf(method);
+            if (permits.tryAcquire()) {
+                pending.whenComplete((result, failure) -> permits.release());
+                throw interrupted;
+            }
+            budgetSaturated.increment();
+            log.debug("The caller of the actual method '{}' was interrupted, but failover '{}' already has {} calls in the background. Waiting for it.", method.getName(), failover.name(), maxBackgroundCalls);
+        } catch (TimeoutException timeout) {
+            Semaphore permits = backgroundPermitsOf(method);
+            if (permits.tryAcquire()) {
+                T recovered = recoverQuietly(failover, timeout, budgetRecovery);
+                if (recovered != null) {
+                    pending.whenComplete((result, failure) -> permits.release());
+                    budgetExceeded.increment();
+                    log.warn("The actual method '{}' did not answer within the latency budget of {} of failover '{}'. Returning the recovered payload, the call goes on in the background.", method.getName(), budget, failover.name());
+                    return recovered;
+                }
+                permits.release();
+                log.debug("The actual method '{}' exceeded the latency budget of failover '{}' but nothing could be recovered. Waiting for it.", method.getName(), failover.name());
+            } else {
+                budgetSaturated.increment();
+                log.debug("The actual method '{}' exceeded the latency budget of failover '{}', which already has {} calls in the background. Waiting for it.", method.getName(), failover.name(), maxBackgroundCalls);
+            }
+        }
+        try {
+            return pending.join();
+        } catch (CompletionException failure) {
+            throw upstreamFailure(failure.getCause());
+        }
+    }
+
+    private Semaphore backgroundPermitsOf(Method method) {
+        return backgroundPermits.computeIfAbsent(method, failoverMethod -> new Semaphore(maxBackgroundCalls));
+    }
+
+    private static RuntimeException upstreamFailure(Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+    }
+
+    private Supplier<T> timedSupplier(Failover failover, Supplier<T> supplier, ObjLongConsumer<String> upstreamPublisher, UnaryOperator<T> store) {
+        return () -> {
+            // Time only the protected upstream call. On a decorated supplier (e.g. an OPEN circuit
+            // breaker) that short-circuits before this lambda, nothing is timed — upstream wasn't called.
+            long startNanos = System.nanoTime();
+            T result;
+            try {
+                result = supplier.get();
+            } catch (RuntimeException upstreamFailure) {
+                upstreamPublisher.accept(UPSTREAM_FAILURE, System.nanoTime() - startNanos);
+                throw upstreamFailure;
+            }
+            upstreamPublisher.accept(UPSTREAM_SUCCESS, System.nanoTime() - startNanos);
+            try {
+                store.apply(result);
+            } catch (Exception exception) {
+                log.error("Ignoring Failover Exception !! Exception occurred while trying to 'store' the payload for failover '{}'. This will impact only the failover flow", failover.name(), exception);
+            }
+            return result;
+        };
     }
 
     /** Publishes the upstream-call latency (non-blocking). No-op when no publisher was supplied. */
@@ -114,12 +358,17 @@ public class BasicFailoverExecution<T> implements FailoverExecution<T> {
         if (observablePublisher == null) {
             return;
         }
-        observablePublisher.publish(Metrics.of(failover.name())
-                .collect("action", "upstream")
-                .collect("domain", effectiveName(failover))
-                .collect("method", methodId(method))
-                .collect("upstream-result", result)
-                .collect("upstream-duration-ns", durationNanos));
+        observablePublisher.publish(FailoverEvent.upstream(failover.name(), effectiveName(failover), methodId(method),
+                UPSTREAM_SUCCESS.equals(result), durationNanos));
+    }
+
+    /** Plan-driven variant of {@link #publishUpstreamDuration(Failover, Method, String, long)}. */
+    private void publishUpstreamDuration(FailoverPlan plan, String result, long durationNanos) {
+        if (observablePublisher == null) {
+            return;
+        }
+        observablePublisher.publish(FailoverEvent.upstream(plan.getName(), plan.getEffectiveName(), plan.getMethodId(),
+                UPSTREAM_SUCCESS.equals(result), durationNanos));
     }
 
     /**
@@ -136,14 +385,17 @@ public class BasicFailoverExecution<T> implements FailoverExecution<T> {
         return supplier;
     }
 
-    private T executeRecoverOnException(Method method, List<Object> args, Failover failover, Exception cause) {
-        T recovered = null;
+    private T executeRecoverOnException(Method method, List<Object> args, Failover failover, Exception cause, Function<Exception, T> recovery) {
+        T recovered = recoverQuietly(failover, cause, recovery);
+        return methodExceptionHandler.handle(new MethodExceptionContext<>(failover, method, args, recovered, cause));
+    }
+
+    private @Nullable T recoverQuietly(Failover failover, Exception cause, Function<Exception, T> recovery) {
         try {
-            Class<T> clazz = cast(method.getReturnType());
-            recovered = failoverHandler.recover(failover, method, args, clazz, cause);
+            return recovery.apply(cause);
         } catch (Exception exception) {
             log.error("Ignoring Failover Exception !! Exception occurred while trying to 'recover' the payload for failover '{}'. This will impact only the failover flow", failover.name(), exception);
+            return null;
         }
-        return methodExceptionHandler.handle(new MethodExceptionContext<>(failover, method, args, recovered, cause));
     }
 }
@@ -22,14 +22,26 @@ import com.societegenerale.failover.core.expiry.ExpiryPolicy;
 import com.societegenerale.failover.core.key.KeyGenerator;
 import com.societegenerale.failover.core.payload.PayloadEnricher;
 import com.societegenerale.failover.core.payload.ReferentialPayload;
+import com.societegenerale.failover.core.payload.splitter.RecoverContext;
+import com.societegenerale.failover.core.payload.splitter.StoreContext;
+import com.societegenerale.failover.core.plan.FailoverPlan;
 import com.societegenerale.failover.core.store.FailoverStore;
+import com.societegenerale.failover.core.store.FailoverStoreBatchException;
+import com.societegenerale.failover.core.store.RefreshThrottle;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.societegenerale.failover.core.util.CastingUtils.cast;
 import static com.societegenerale.failover.core.util.FailoverNameResolver.effectiveName;
@@ -55,28 +67,151 @@ public class DefaultFailoverHandler<T> extends AbstractFailoverHandler<T> {
 
     private final PayloadEnricher<T> payloadEnricher;
 
+    /** Skips writes of entries stored less than their minimum refresh interval ago. */
+    private final RefreshThrottle refreshThrottle;
+
+    /**
+     * Creates a handler that writes on every success unless a failover sets its own
+     * {@link Failover#minRefreshInterval()}.
+     *
+     * @param keyGenerator    computes the store key
+     * @param clock           failover clock
+     * @param failoverStore   the store
+     * @param expiryPolicy    computes and checks expiry
+     * @param payloadEnricher enriches payloads on store and recover
+     */
+    public DefaultFailoverHandler(KeyGenerator keyGenerator, FailoverClock clock, FailoverStore<T> failoverStore,
+                                  ExpiryPolicy<T> expiryPolicy, PayloadEnricher<T> payloadEnricher) {
+        this(keyGenerator, clock, failoverStore, expiryPolicy, payloadEnricher, new RefreshThrottle(Duration.ZERO));
+    }
+
     @Override
     protected T store(@NonNull Failover failover, List<Object> args, T payload) {
+        return doStore(failover, keyGenerator, expiryPolicy, args, payload);
+    }
+
+    /** Plan-driven store: uses the plan's pre-resolved key generator and expiry policy. */
+    @Override
+    public T store(@NonNull FailoverPlan plan, List<Object> args, T payload) {
+        return doStore(plan.getFailover(), plan.getKeyGenerator(), plan.getExpiryPolicy(), args, payload);
+    }
+
+    private T doStore(@NonNull Failover failover, KeyGenerator keyGenerator, ExpiryPolicy<T> expiryPolicy, List<Object> args, T payload) {
         if (payload == null) {
             log.debug("Failover store skipped for '{}': method returned null payload", failover.name());
             return null;
         }
-        Class<T> clazz = cast(payload.getClass());
-        var referentialPayload = payloadEnricher.enrichOnStore(failover, clazz, new ReferentialPayload<>(effectiveName(failover), keyGenerator.key(failover, args), true, clock.now(), expiryPolicy.computeExpiry(failover), payload));
-        failoverStore.store(referentialPayload);
+        var referentialPayload = toReferentialPayload(failover, keyGenerator, expiryPolicy, args, payload);
+        if (!shouldStore(failover, referentialPayload)) {
+            return referentialPayload.getPayload();
+        }
+        try {
+            failoverStore.store(referentialPayload);
+        } catch (RuntimeException e) {
+            // not written: the next successful call must try again rather than wait for the interval
+            forgetWrite(referentialPayload);
+            throw e;
+        }
         log.debug("Failover : Stored ReferentialPayload on '{}' : {{}}", failover.name(), referentialPayload);
         return referentialPayload.getPayload();
     }
 
+    /**
+     * Plan-driven batch store: enriches every non-null slice as {@link #store} would, then writes the ones
+     * due for a refresh with a single {@link FailoverStore#storeAll}.
+     */
+    @Override
+    public void storeEach(@NonNull FailoverPlan plan, List<StoreContext<T>> slices) {
+        Failover failover = plan.getFailover();
+        List<ReferentialPayload<T>> referentialPayloads = new ArrayList<>(slices.size());
+        for (StoreContext<T> slice : slices) {
+            if (slice.getPayload() == null) {
+                log.debug("Failover store skipped for '{}': slice with null payload", failover.name());
+                continue;
+            }
+            var referentialPayload = toReferentialPayload(failover, plan.getKeyGenerator(), plan.getExpiryPolicy(), slice.getArgs(), slice.getPayload());
+            if (shouldStore(failover, referentialPayload)) {
+                referentialPayloads.add(referentialPayload);
+            }
+        }
+        if (referentialPayloads.isEmpty()) {
+            return;
+        }
+        try {
+            failoverStore.storeAll(referentialPayloads);
+        } catch (FailoverStoreBatchException e) {
+            e.getFailedPayloads().forEach(this::forgetWrite);
+            throw e;
+        } catch (RuntimeException e) {
+            referentialPayloads.forEach(this::forgetWrite);
+            throw e;
+        }
+        log.debug("Failover : Stored {} ReferentialPayloads on '{}'", referentialPayloads.size(), failover.name());
+    }
+
+    private ReferentialPayload<T> toReferentialPayload(@NonNull Failover failover, KeyGenerator keyGenerator, ExpiryPolicy<T> expiryPolicy, List<Object> args, T payload) {
+        Class<T> clazz = cast(payload.getClass());
+        return payloadEnricher.enrichOnStore(failover, clazz, new ReferentialPayload<>(effectiveName(failover), keyGenerator.key(failover, args), true, clock.now(), expiryPolicy.computeExpiry(failover), payload));
+    }
+
+    private boolean shouldStore(@NonNull Failover failover, ReferentialPayload<T> referentialPayload) {
+        if (refreshThrottle.shouldStore(failover, referentialPayload.getName(), referentialPayload.getKey(), referentialPayload.getAsOf(), referentialPayload.getExpireOn())) {
+            return true;
+        }
+        log.debug("Failover store skipped for '{}': entry refreshed less than its minimum refresh interval ago", failover.name());
+        return false;
+    }
+
+    /** Drops the write that {@link #shouldStore} recorded for a payload the store failed to write. */
+    private void forgetWrite(ReferentialPayload<?> referentialPayload) {
+        refreshThrottle.forget(referentialPayload.getName(), referentialPayload.getKey());
+    }
+
     @Override
     protected @Nullable T recover(@NonNull Failover failover, List<Object> args, Class<T> clazz, Throwable cause) {
+        return doRecover(failover, keyGenerator, expiryPolicy, args, clazz, cause);
+    }
+
+    /** Plan-driven recover: uses the plan's pre-resolved key generator and expiry policy. */
+    @Override
+    public @Nullable T recover(@NonNull FailoverPlan plan, List<Object> args, Class<T> clazz, Throwable cause) {
+        return doRecover(plan.getFailover(), plan.getKeyGenerator(), plan.getExpiryPolicy(), args, clazz, cause);
+    }
+
+    private @Nullable T doRecover(@NonNull Failover failover, KeyGenerator keyGenerator, ExpiryPolicy<T> expiryPolicy, List<Object> args, Class<T> clazz, Throwable cause) {
         log.info("Failover Recovery : Recovering information on '{}' from failover store due to exception {}", failover.name(), cause.getMessage());
         log.debug("Failover Recovery : Recovering information on '{}' from failover store", failover.name(), cause);
-        var optionalReferential = failoverStore.find(effectiveName(failover), keyGenerator.key(failover, args));
-        return doRecover(failover, clazz, cause, optionalReferential.orElse(null));
+        var optionalReferential = failoverStore.find(effectiveName(failover), keyGenerator.key(failover, args), clock.now());
+        return doRecover(failover, expiryPolicy, clazz, cause, optionalReferential.orElse(null),
+                expired -> deleteExpired(List.of(expired)));
     }
 
-    private T doRecover(@NonNull Failover failover, Class<T> clazz, Throwable cause, ReferentialPayload<T> referentialPayload) {
+    /**
+     * Plan-driven batch recover: reads every slice with a single
+     * {@link FailoverStore#findAll(String, java.util.Collection, Instant)}, then applies to each slice the same expiry
+     * check and enrichment as {@link #recover}. Entries found expired are deleted together once every slice is done.
+     */
+    @Override
+    public List<@Nullable T> recoverEach(@NonNull FailoverPlan plan, List<RecoverContext<T>> slices) {
+        Failover failover = plan.getFailover();
+        log.info("Failover Recovery : Recovering {} slices on '{}' from failover store", slices.size(), failover.name());
+        List<String> keys = slices.stream().map(slice -> plan.getKeyGenerator().key(failover, slice.getArgs())).toList();
+        Map<String, ReferentialPayload<T>> found = new HashMap<>();
+        failoverStore.findAll(effectiveName(failover), keys.stream().distinct().toList(), clock.now())
+                .forEach(referentialPayload -> found.putIfAbsent(referentialPayload.getKey(), referentialPayload));
+        Map<String, ReferentialPayload<T>> expired = new LinkedHashMap<>();
+        List<@Nullable T> recovered = new ArrayList<>(slices.size());
+        for (int i = 0; i < slices.size(); i++) {
+            RecoverContext<T> slice = slices.get(i);
+            recovered.add(doRecover(failover, plan.getExpiryPolicy(), slice.getClazz(), slice.getCause(), found.get(keys.get(i)),
+                    payload -> expired.putIfAbsent(payload.getKey(), payload)));
+        }
+        deleteExpired(List.copyOf(expired.values()));
+        return recovered;
+    }
+
+    private T doRecover(@NonNull Failover failover, ExpiryPolicy<T> expiryPolicy, Class<T> clazz, Throwable cause, ReferentialPayload<T> referentialPayload,
+                        Consumer<ReferentialPayload<T>> expiredSink) {
         if(referentialPayload!=null) {
             if(!expiryPolicy.isExpired(failover, referentialPayload)) {
                 log.info("Failover Recovery : Successfully recovered the information on '{}' from failover store.", failover.name());
@@ -85,16 +220,32 @@ public class DefaultFailoverHandler<T> extends AbstractFailoverHandler<T> {
             }
             log.info("Failover Recovery : Deleting the expired payload on '{}' from failover store.", failover.name());
             log.debug("Failover Recovery : Deleting expired ReferentialPayload on '{}' : {{}}", failover.name(), referentialPayload);
-            failoverStore.delete(referentialPayload);
+            expiredSink.accept(referentialPayload);
         }
         log.warn("Failover Recovery : Could not recover information on '{}' from failover store, Either not found or expired for the given key!", failover.name());
         return payloadEnricher.enrichOnRecover(failover, clazz, null, cause).getPayload();
     }
 
     /**
-     * Recovers every stored entry for the failover's referential via {@link FailoverStore#findAll},
+     * Hands the expired entries to {@link FailoverStore#deleteExpired} in one call. The store only removes the ones
+     * not refreshed since they were read, and may defer the removal to a background thread.
+     */
+    private void deleteExpired(List<ReferentialPayload<T>> expired) {
+        if (expired.isEmpty()) {
+            return;
+        }
+        expired.forEach(referentialPayload -> refreshThrottle.forget(referentialPayload.getName(), referentialPayload.getKey()));
+        failoverStore.deleteExpired(expired);
+    }
+
+    /**
+     * Recovers every stored entry for the failover's referential via {@link FailoverStore#streamAll},
      * applying the same expiry check and enrichment as {@link #recover}.
      *
+     * <p>Entries are consumed one at a time from the store's stream, so only the recovered payloads
+     * are kept; entries already expired may reach it without their payload. Expired entries are
+     * deleted together once the stream is closed, so a JDBC cursor never waits on a second connection.
+     *
      * <p>This is the live recover-all path: it is invoked at the slice level by
      * {@link ScatterGatherFailoverHandler} on its slice delegate (the no-ID-args / recover-all
      * scenario routed through {@code recover}). It is not a top-level execution entry point.
@@ -107,8 +258,23 @@ public class DefaultFailoverHandler<T> extends AbstractFailoverHandler<T> {
      */
     @Override
     protected List<T> recoverAll(@NonNull Failover failover, List<Object> args, Class<T> clazz, Throwable cause) {
-        List<ReferentialPayload<T>> referentialPayloads = failoverStore.findAll(effectiveName(failover));
-        return referentialPayloads.stream().map(payload-> this.doRecover(failover, clazz, cause, payload)).toList();
+        return doRecoverAll(failover, expiryPolicy, clazz, cause);
+    }
+
+    /** Plan-driven recover-all: uses the plan's pre-resolved expiry policy. */
+    @Override
+    public List<T> recoverAll(@NonNull FailoverPlan plan, List<Object> args, Class<T> clazz, Throwable cause) {
+        return doRecoverAll(plan.getFailover(), plan.getExpiryPolicy(), clazz, cause);
+    }
+
+    private List<T> doRecoverAll(@NonNull Failover failover, ExpiryPolicy<T> expiryPolicy, Class<T> clazz, Throwable cause) {
+        List<ReferentialPayload<T>> expired = new ArrayList<>();
+        List<T> recovered;
+        try (Stream<ReferentialPayload<T>> referentialPayloads = failoverStore.streamAll(effectiveName(failover), clock.now())) {
+            recovered = referentialPayloads.map(payload -> this.doRecover(failover, expiryPolicy, clazz, cause, payload, expired::add)).toList();
+        }
+        deleteExpired(expired);
+        return recovered;
     }
 
     @Override
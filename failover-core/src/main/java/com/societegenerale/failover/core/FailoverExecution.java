@@ -17,6 +17,7 @@
 package com.societegenerale.failover.core;
 
 import com.societegenerale.failover.annotations.Failover;
+import com.societegenerale.failover.core.plan.FailoverPlan;
 
 import java.lang.reflect.Method;
 import java.util.List;
@@ -40,4 +41,19 @@ public interface FailoverExecution<T> {
      * @return the result from the supplier, or a recovered value on failure
      */
     T execute(Failover failover, Supplier<T> supplier, Method method, List<Object> args);
+
+    /**
+     * Executes the given supplier with failover protection, driven by a pre-compiled {@link FailoverPlan}.
+     *
+     * <p>The default delegates to {@link #execute(Failover, Supplier, Method, List)}; implementations
+     * override it to use the plan's resolved collaborators instead of re-resolving them per call.
+     *
+     * @param plan     the pre-compiled plan of the intercepted method
+     * @param supplier the actual method invocation to execute
+     * @param args     resolved method arguments
+     * @return the result from the supplier, or a recovered value on failure
+     */
+    default T execute(FailoverPlan plan, Supplier<T> supplier, List<Object> args) {
+        return execute(plan.getFailover(), supplier, plan.getMethod(), args);
+    }
 }
@@ -17,7 +17,11 @@
 package com.societegenerale.failover.core;
 
 import com.societegenerale.failover.annotations.Failover;
+import com.societegenerale.failover.core.payload.splitter.RecoverContext;
+import com.societegenerale.failover.core.payload.splitter.StoreContext;
+import com.societegenerale.failover.core.plan.FailoverPlan;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.util.List;
@@ -90,6 +94,114 @@ public interface FailoverHandler<T> {
                         + "this handler (" + getClass().getSimpleName() + ") drives recover-all via recover(...)");
     }
 
+    /**
+     * Stores the payload for later recovery, driven by a pre-compiled {@link FailoverPlan}.
+     *
+     * <p>The default delegates to {@link #store(Failover, Method, List, Object)}. Handlers that resolve
+     * collaborators per call (key generator, expiry policy, splitter) override it to use the plan's.
+     *
+     * @param plan    the pre-compiled plan of the intercepted method
+     * @param args    method arguments used to derive the store key
+     * @param payload the result to store
+     * @return the stored payload
+     */
+    default T store(@NonNull FailoverPlan plan, List<Object> args, T payload) {
+        return store(plan.getFailover(), plan.getMethod(), args, payload);
+    }
+
+    /**
+     * Recovers a previously stored payload after a failure, driven by a pre-compiled {@link FailoverPlan}.
+     *
+     * <p>The default delegates to {@link #recover(Failover, Method, List, Class, Throwable)}.
+     *
+     * @param plan      the pre-compiled plan of the intercepted method
+     * @param args      method arguments used to derive the lookup key
+     * @param clazz     expected return type
+     * @param throwable the exception that triggered recovery
+     * @return the recovered payload, or {@code null} if not found or expired
+     */
+    default T recover(@NonNull FailoverPlan plan, List<Object> args, Class<T> clazz, Throwable throwable) {
+        return recover(plan.getFailover(), plan.getMethod(), args, clazz, throwable);
+    }
+
+    /**
+     * Recovers a stored payload for a call whose upstream is still running, e.g. past its latency budget. Unlike
+     * {@link #recover(Failover, Method, List, Class, Throwable)}, finding nothing is not an outcome of the call:
+     * the caller goes on waiting for the upstream, so a handler reporting recoveries reports one only when a
+     * payload is returned.
+     *
+     * <p>The default delegates to {@link #recover(Failover, Method, List, Class, Throwable)}.
+     *
+     * @param failover  annotation metadata for the failover point
+     * @param method    the reflected intercepted method (never {@code null})
+     * @param args      method arguments used to derive the lookup key
+     * @param clazz     expected return type
+     * @param throwable the reason the payload is looked up
+     * @return the recovered payload, or {@code null} if not found or expired
+     */
+    default @Nullable T recoverIfPresent(@NonNull Failover failover, @NonNull Method method, List<Object> args, Class<T> clazz, Throwable throwable) {
+        return recover(failover, method, args, clazz, throwable);
+    }
+
+    /**
+     * Plan-driven variant of {@link #recoverIfPresent(Failover, Method, List, Class, Throwable)}; the default
+     * delegates to {@link #recover(FailoverPlan, List, Class, Throwable)}.
+     *
+     * @param plan      the pre-compiled plan of the intercepted method
+     * @param args      method arguments used to derive the lookup key
+     * @param clazz     expected return type
+     * @param throwable the reason the payload is looked up
+     * @return the recovered payload, or {@code null} if not found or expired
+     */
+    default @Nullable T recoverIfPresent(@NonNull FailoverPlan plan, List<Object> args, Class<T> clazz, Throwable throwable) {
+        return recover(plan, args, clazz, throwable);
+    }
+
+    /**
+     * Plan-driven variant of {@link #recoverAll(Failover, Method, List, Class, Throwable)} — an
+     * <strong>optional operation</strong>; the default delegates to it.
+     *
+     * @param plan      the pre-compiled plan of the intercepted method
+     * @param args      method arguments used to derive the lookup key
+     * @param clazz     expected return type
+     * @param throwable the exception that triggered recovery
+     * @return the recovered payloads (never {@code null} for supporting implementations)
+     * @throws UnsupportedOperationException if this handler does not support recover-all (the default)
+     */
+    default List<T> recoverAll(@NonNull FailoverPlan plan, List<Object> args, Class<T> clazz, Throwable throwable) {
+        return recoverAll(plan.getFailover(), plan.getMethod(), args, clazz, throwable);
+    }
+
+    /**
+     * Stores several slices of one intercepted call, driven by a pre-compiled {@link FailoverPlan} — the
+     * batched form of {@link #store(FailoverPlan, List, Object)} used by the scatter path.
+     *
+     * <p>The default stores each slice on its own. {@link DefaultFailoverHandler} overrides it to write
+     * every slice with a single {@link com.societegenerale.failover.core.store.FailoverStore#storeAll}.
+     *
+     * @param plan   the pre-compiled plan of the intercepted method, shared by every slice
+     * @param slices the slices to store, each carrying its own arguments and payload
+     */
+    default void storeEach(@NonNull FailoverPlan plan, List<StoreContext<T>> slices) {
+        slices.forEach(ctx -> store(plan, ctx.getArgs(), ctx.getPayload()));
+    }
+
+    /**
+     * Recovers several slices of one intercepted call, driven by a pre-compiled {@link FailoverPlan} — the
+     * batched form of {@link #recover(FailoverPlan, List, Class, Throwable)} used by the gather path.
+     *
+     * <p>The default recovers each slice on its own. {@link DefaultFailoverHandler} overrides it to read
+     * every slice with a single {@link com.societegenerale.failover.core.store.FailoverStore#findAll(String, java.util.Collection)}.
+     *
+     * @param plan   the pre-compiled plan of the intercepted method, shared by every slice
+     * @param slices the slices to recover, each carrying its own arguments, type and cause
+     * @return the recovered payloads, positionally matching {@code slices}; {@code null} for a slice not
+     *         found or expired
+     */
+    default List<@Nullable T> recoverEach(@NonNull FailoverPlan plan, List<RecoverContext<T>> slices) {
+        return slices.stream().map(ctx -> recover(plan, ctx.getArgs(), ctx.getClazz(), ctx.getCause())).toList();
+    }
+
     /** Removes all expired entries from the failover store. */
     void clean();
 }
@@ -17,24 +17,31 @@
 package com.societegenerale.failover.core;
 
 import com.societegenerale.failover.annotations.Failover;
-import com.societegenerale.failover.core.observable.Metrics;
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.publisher.ObservablePublisher;
 import com.societegenerale.failover.core.payload.splitter.PayloadSplitter;
 import com.societegenerale.failover.core.payload.splitter.RecoverContext;
+import com.societegenerale.failover.core.plan.FailoverPlan;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static com.societegenerale.failover.core.util.CommonsUtil.methodId;
 
 /**
  * Gather (recover) side of {@link ScatterGatherFailoverHandler}: splits the composite key into
  * per-slice keys, recovers each slice via {@code delegateR} (dispatched through
  * {@link SliceDispatcher}), then merges the slices back into the composite type via the
- * {@link PayloadSplitter}.
+ * {@link PayloadSplitter}. On the sequential plan-driven path, the slices are recovered together in
+ * one batch ({@link FailoverHandler#recoverEach}).
  *
  * <p>Package-private collaborator; the facade owns the pass-through decision and only delegates
  * here when {@link Failover#payloadSplitter()} is configured.
@@ -58,11 +65,42 @@ class PayloadGather<T, R> {
     private final ObservablePublisher observablePublisher;
 
     @Nullable T recover(@NonNull Failover failover, @NonNull Method method, List<Object> args, Class<T> clazz, Throwable cause) {
-        PayloadSplitter<T, R> splitter = splitterInvoker.lookup(failover);
+        return gather(splitterInvoker.lookup(failover), failover, methodId(method), args, clazz, cause,
+                slices -> dispatch(slices, ctx -> delegateR.recover(ctx.getFailover(), method, ctx.getArgs(), ctx.getClazz(), ctx.getCause())),
+                ctx -> delegateR.recoverAll(ctx.getFailover(), method, ctx.getArgs(), ctx.getClazz(), ctx.getCause()));
+    }
+
+    /**
+     * Plan-driven gather: uses the plan's pre-resolved splitter, and recovers each slice with the plan
+     * when the splitter kept the composite's {@link Failover} (the common case).
+     *
+     * <p>When slices run sequentially and all of them kept the composite's {@link Failover}, they are
+     * recovered together through {@link FailoverHandler#recoverEach}, so the store can read them in a
+     * single round trip. Parallel dispatch keeps recovering slice by slice, each under its own timeout.
+     */
+    @Nullable T recover(@NonNull FailoverPlan plan, List<Object> args, Class<T> clazz, Throwable cause) {
+        Failover failover = plan.getFailover();
+        Method method = plan.getMethod();
+        return gather(splitterInvoker.lookup(plan), failover, plan.getMethodId(), args, clazz, cause,
+                slices -> {
+                    if (sliceDispatcher.isSequential() && slices.stream().allMatch(ctx -> ctx.getFailover() == failover)) {
+                        return recoverBatch(plan, slices);
+                    }
+                    return dispatch(slices, ctx -> ctx.getFailover() == failover
+                            ? delegateR.recover(plan, ctx.getArgs(), ctx.getClazz(), ctx.getCause())
+                            : delegateR.recover(ctx.getFailover(), method, ctx.getArgs(), ctx.getClazz(), ctx.getCause()));
+                },
+                ctx -> ctx.getFailover() == failover
+                        ? delegateR.recoverAll(plan, ctx.getArgs(), ctx.getClazz(), ctx.getCause())
+                        : delegateR.recoverAll(ctx.getFailover(), method, ctx.getArgs(), ctx.getClazz(), ctx.getCause()));
+    }
+
+    private @Nullable T gather(PayloadSplitter<T, R> splitter, @NonNull Failover failover, String methodId, List<Object> args, Class<T> clazz, Throwable cause,
+                               UnaryOperator<List<RecoverContext<R>>> slicesRecover, Function<RecoverContext<R>, List<R>> sliceRecoverAll) {
         RecoverContext<T> compositeCtx = RecoverContext.<T>builder().failover(failover).args(args).clazz(clazz).cause(cause).build();
         List<RecoverContext<R>> recovered = shouldRecoverAll(failover, args)
-                ? doRecoverAll(splitter, method, compositeCtx)
-                : doRecover(splitter, method, compositeCtx);
+                ? doRecoverAll(splitter, sliceRecoverAll, compositeCtx)
+                : doRecover(splitter, slicesRecover, compositeCtx);
         if (recovered.isEmpty()) {
             log.warn("Failover scatter-recover: '{}' — no slices recovered, returning null", failover.name());
             return null;
@@ -79,7 +117,7 @@ class PayloadGather<T, R> {
             // partial responses are never silent (audit I-04).
             log.warn("Failover scatter-recover: '{}' — PARTIAL recovery, {} of {} slices missing; the merged result may be incomplete (PayloadSplitter.merge owns the policy).",
                     failover.name(), missing, total);
-            publishPartial(failover, method, missing, total);
+            publishPartial(failover, methodId, missing, total);
         } else if (missing == total) {
             // Every slice missing — this is full non-recovery, not partial. No recover-partial metric is
             // published; the all-null/empty merged composite is reported as not-recovered upstream by
@@ -109,67 +147,71 @@ class PayloadGather<T, R> {
         return args == null || args.isEmpty() || failover.recoverAll();
     }
 
-    private @NonNull List<RecoverContext<R>> doRecover(PayloadSplitter<T, R> splitter, @NonNull Method method, RecoverContext<T> compositeCtx) {
+    private @NonNull List<RecoverContext<R>> doRecover(PayloadSplitter<T, R> splitter, UnaryOperator<List<RecoverContext<R>>> slicesRecover, RecoverContext<T> compositeCtx) {
         List<RecoverContext<R>> slices = splitterInvoker.splitOnRecover(splitter, compositeCtx.getFailover(), compositeCtx);
-        return sliceDispatcher.dispatchRecover(slices, ctx -> recoverSlice(method, ctx), this::notRecovered);
+        return slicesRecover.apply(slices);
+    }
+
+    private List<RecoverContext<R>> dispatch(List<RecoverContext<R>> slices, Function<RecoverContext<R>, R> sliceRecover) {
+        return sliceDispatcher.dispatchRecover(slices, ctx -> recoverSlice(sliceRecover, ctx), this::notRecovered);
     }
 
-    private @NonNull List<RecoverContext<R>> doRecoverAll(PayloadSplitter<T, R> splitter, @NonNull Method method, RecoverContext<T> compositeCtx) {
+    private List<RecoverContext<R>> recoverBatch(FailoverPlan plan, List<RecoverContext<R>> slices) {
+        log.debug("Failover scatter-recover: recovering {} slices for '{}' in one batch", slices.size(), plan.getFailover().name());
+        List<R> payloads = delegateR.recoverEach(plan, slices);
+        List<RecoverContext<R>> recovered = new ArrayList<>(slices.size());
+        for (int i = 0; i < slices.size(); i++) {
+            recovered.add(withPayload(slices.get(i), payloads.get(i)));
+        }
+        return recovered;
+    }
+
+    private @NonNull List<RecoverContext<R>> doRecoverAll(PayloadSplitter<T, R> splitter, Function<RecoverContext<R>, List<R>> sliceRecoverAll, RecoverContext<T> compositeCtx) {
         List<RecoverContext<R>> slices = splitterInvoker.splitOnRecover(splitter, compositeCtx.getFailover(), compositeCtx);
         if (slices.isEmpty()) {
             log.warn("Failover scatter-recover-all: '{}' splitOnRecover returned empty — no template context to recover from", compositeCtx.getFailover().name());
             return List.of();
         }
-        return sliceDispatcher.dispatchRecover(slices, ctx -> recoverSliceForAll(method, ctx), ctx -> List.<RecoverContext<R>>of())
-                .stream().flatMap(Collection::stream).toList();
+        List<List<RecoverContext<R>>> recovered = sliceDispatcher.dispatchRecover(slices, ctx -> recoverSliceForAll(sliceRecoverAll, ctx), ctx -> List.<RecoverContext<R>>of());
+        // Recover-all usually runs a single template slice: hand its contexts over as they are rather than copying a whole referential.
+        return recovered.size() == 1 ? recovered.get(0) : recovered.stream().flatMap(Collection::stream).toList();
     }
 
-    private RecoverContext<R> recoverSlice(@NonNull Method method, RecoverContext<R> ctx) {
+    private RecoverContext<R> recoverSlice(Function<RecoverContext<R>, R> sliceRecover, RecoverContext<R> ctx) {
         log.debug("Failover scatter-recover: recovering slice {} for '{}'", ctx, ctx.getFailover().name());
-        R payload = delegateR.recover(ctx.getFailover(), method, ctx.getArgs(), ctx.getClazz(), ctx.getCause());
+        R payload = sliceRecover.apply(ctx);
         log.debug("Failover scatter-recover: recovered slice {} for '{}' with recoveredPayload '{}'", ctx, ctx.getFailover().name(), payload);
-        return RecoverContext.<R>builder()
-                .failover(ctx.getFailover())
-                .args(ctx.getArgs())
-                .clazz(ctx.getClazz())
-                .cause(ctx.getCause())
-                .payload(payload)
-                .build();
+        return withPayload(ctx, payload);
     }
 
-    private List<RecoverContext<R>> recoverSliceForAll(@NonNull Method method, RecoverContext<R> ctx) {
+    private List<RecoverContext<R>> recoverSliceForAll(Function<RecoverContext<R>, List<R>> sliceRecoverAll, RecoverContext<R> ctx) {
         log.debug("Failover scatter-recover-all: recovering slice-for-all {} for '{}'", ctx, ctx.getFailover().name());
-        List<R> payloads = delegateR.recoverAll(ctx.getFailover(), method, ctx.getArgs(), ctx.getClazz(), ctx.getCause());
+        List<R> payloads = sliceRecoverAll.apply(ctx);
         log.debug("Failover scatter-recover-all: recovered slice-for-all {} for '{}' with recoveredPayloads '{}'", ctx, ctx.getFailover().name(), payloads);
-        return payloads.stream().map(payload -> RecoverContext.<R>builder()
-                .failover(ctx.getFailover())
-                .args(ctx.getArgs())
-                .clazz(ctx.getClazz())
-                .cause(ctx.getCause())
-                .payload(payload)
-                .build()).toList();
+        return payloads.stream().map(payload -> withPayload(ctx, payload)).toList();
     }
 
     /** A recover context carrying a null payload — the "slice not recovered" marker used on timeout. */
     private RecoverContext<R> notRecovered(RecoverContext<R> ctx) {
+        return withPayload(ctx, null);
+    }
+
+    /** A copy of the slice context carrying the given recovered payload. */
+    private RecoverContext<R> withPayload(RecoverContext<R> ctx, @Nullable R payload) {
         return RecoverContext.<R>builder()
                 .failover(ctx.getFailover())
                 .args(ctx.getArgs())
                 .clazz(ctx.getClazz())
                 .cause(ctx.getCause())
-                .payload(null)
+                .payload(payload)
                 .build();
     }
 
     /** Publishes a {@code recover-partial} metric event (audit I-04); no-op when no publisher is wired. */
-    private void publishPartial(Failover failover, Method method, long missing, int total) {
+    private void publishPartial(Failover failover, String methodId, long missing, int total) {
         if (observablePublisher == null) {
             return;
         }
-        observablePublisher.publish(Metrics.of(failover.name())
-                .collect("action", "recover-partial")
-                .collect("method", method.getDeclaringClass().getSimpleName() + "#" + method.getName())
-                .collect("missing", missing)
-                .collect("total", total));
+        observablePublisher.publish(FailoverEvent.recoverPartial(failover.name(), methodId, missing, total));
     }
 }
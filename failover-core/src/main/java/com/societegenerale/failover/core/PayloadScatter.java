@@ -19,17 +19,21 @@ package com.societegenerale.failover.core;
 import com.societegenerale.failover.annotations.Failover;
 import com.societegenerale.failover.core.payload.splitter.PayloadSplitter;
 import com.societegenerale.failover.core.payload.splitter.StoreContext;
+import com.societegenerale.failover.core.plan.FailoverPlan;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Scatter (store) side of {@link ScatterGatherFailoverHandler}: splits a composite payload into
  * per-entity slices and stores each slice via {@code delegateR}, dispatched through
- * {@link SliceDispatcher} (sequential or parallel).
+ * {@link SliceDispatcher} (sequential or parallel). On the sequential plan-driven path, the slices are
+ * stored together in one batch ({@link FailoverHandler#storeEach}).
  *
  * <p>Package-private collaborator; the facade owns the pass-through decision and only delegates
  * here when {@link Failover#payloadSplitter()} is configured.
@@ -49,18 +53,47 @@ class PayloadScatter<T, R> {
     private final SliceDispatcher<R> sliceDispatcher;
 
     T store(@NonNull Failover failover, @NonNull Method method, List<Object> args, T payload) {
-        PayloadSplitter<T, R> splitter = splitterInvoker.lookup(failover);
+        return doStore(splitterInvoker.lookup(failover), failover, args, payload,
+                slices -> dispatch(slices, ctx -> delegateR.store(ctx.getFailover(), method, ctx.getArgs(), ctx.getPayload())));
+    }
+
+    /**
+     * Plan-driven scatter: uses the plan's pre-resolved splitter, and stores each slice with the plan
+     * when the splitter kept the composite's {@link Failover} (the common case).
+     *
+     * <p>When slices run sequentially and all of them kept the composite's {@link Failover}, they are
+     * stored together through {@link FailoverHandler#storeEach}, so the store can write them in a single
+     * round trip. Parallel dispatch keeps storing slice by slice, each under its own timeout.
+     */
+    T store(@NonNull FailoverPlan plan, List<Object> args, T payload) {
+        return doStore(splitterInvoker.lookup(plan), plan.getFailover(), args, payload, slices -> {
+            if (sliceDispatcher.isSequential() && slices.stream().allMatch(ctx -> ctx.getFailover() == plan.getFailover())) {
+                log.debug("Failover scatter-store: storing {} slices for '{}' in one batch", slices.size(), plan.getFailover().name());
+                delegateR.storeEach(plan, slices);
+                return;
+            }
+            dispatch(slices, ctx -> ctx.getFailover() == plan.getFailover()
+                    ? delegateR.store(plan, ctx.getArgs(), ctx.getPayload())
+                    : delegateR.store(ctx.getFailover(), plan.getMethod(), ctx.getArgs(), ctx.getPayload()));
+        });
+    }
+
+    private T doStore(PayloadSplitter<T, R> splitter, @NonNull Failover failover, List<Object> args, T payload, Consumer<List<StoreContext<R>>> sliceStore) {
         StoreContext<T> compositeCtx = StoreContext.<T>builder().failover(failover).args(args).payload(payload).build();
         List<StoreContext<R>> slices = splitterInvoker.splitOnStore(splitter, failover, compositeCtx);
 
-        sliceDispatcher.dispatchStore(slices, ctx -> storeSlice(method, ctx));
+        sliceStore.accept(slices);
 
         log.debug("Failover scatter-store: stored {} slices for '{}'", slices.size(), failover.name());
         return payload;
     }
 
-    private void storeSlice(@NonNull Method method, StoreContext<R> ctx) {
+    private void dispatch(List<StoreContext<R>> slices, Function<StoreContext<R>, R> sliceStore) {
+        sliceDispatcher.dispatchStore(slices, ctx -> storeSlice(sliceStore, ctx));
+    }
+
+    private void storeSlice(Function<StoreContext<R>, R> sliceStore, StoreContext<R> ctx) {
         log.debug("Failover scatter-store: storing slice {} for '{}'", ctx, ctx.getFailover().name());
-        delegateR.store(ctx.getFailover(), method, ctx.getArgs(), ctx.getPayload());
+        sliceStore.apply(ctx);
     }
 }
@@ -19,6 +19,7 @@ package com.societegenerale.failover.core;
 import com.societegenerale.failover.annotations.Failover;
 import com.societegenerale.failover.core.observable.publisher.ObservablePublisher;
 import com.societegenerale.failover.core.payload.splitter.*;
+import com.societegenerale.failover.core.plan.FailoverPlan;
 import com.societegenerale.failover.core.propagator.ContextPropagator;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
@@ -29,6 +30,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * {@link FailoverHandler} decorator that adds scatter/gather routing to
@@ -197,15 +199,9 @@ public class ScatterGatherFailoverHandler<T, R> implements FailoverHandler<T> {
      */
     @Override
     public T store(@NonNull Failover failover, @NonNull Method method, List<Object> args, T payload) {
-        if (payload == null) {
-            log.debug("Failover scatter-store skipped for '{}': method returned null payload", failover.name());
-            return null;
-        }
-        if (!failover.payloadSplitter().isEmpty()) {
-            log.debug("Failover scatter-store: storing '{}' via scatter", failover.name());
-            return payloadScatter.store(failover, method, args, payload);
-        }
-        return delegateT.store(failover, method, args, payload);
+        return store(failover, payload,
+                () -> payloadScatter.store(failover, method, args, payload),
+                () -> delegateT.store(failover, method, args, payload));
     }
 
     /**
@@ -225,11 +221,25 @@ public class ScatterGatherFailoverHandler<T, R> implements FailoverHandler<T> {
      */
     @Override
     public @Nullable T recover(@NonNull Failover failover, @NonNull Method method, List<Object> args, Class<T> clazz, Throwable cause) {
-        if (!failover.payloadSplitter().isEmpty()) {
-            log.debug("Failover scatter-recover: recovering '{}' due to {}", failover.name(), cause.getMessage());
-            return payloadGather.recover(failover, method, args, clazz, cause);
-        }
-        return delegateT.recover(failover, method, args, clazz, cause);
+        return recover(failover, cause,
+                () -> payloadGather.recover(failover, method, args, clazz, cause),
+                () -> delegateT.recover(failover, method, args, clazz, cause));
+    }
+
+    /** Plan-driven store: the scatter path uses the plan's pre-resolved splitter; the plan is forwarded downstream. */
+    @Override
+    public T store(@NonNull FailoverPlan plan, List<Object> args, T payload) {
+        return store(plan.getFailover(), payload,
+                () -> payloadScatter.store(plan, args, payload),
+                () -> delegateT.store(plan, args, payload));
+    }
+
+    /** Plan-driven recover: the gather path uses the plan's pre-resolved splitter; the plan is forwarded downstream. */
+    @Override
+    public @Nullable T recover(@NonNull FailoverPlan plan, List<Object> args, Class<T> clazz, Throwable cause) {
+        return recover(plan.getFailover(), cause,
+                () -> payloadGather.recover(plan, args, clazz, cause),
+                () -> delegateT.recover(plan, args, clazz, cause));
     }
 
     /**
@@ -245,4 +255,28 @@ public class ScatterGatherFailoverHandler<T, R> implements FailoverHandler<T> {
             delegateR.clean();
         }
     }
+
+    private @Nullable T store(Failover failover, @Nullable T payload, Supplier<T> scatter, Supplier<T> passThrough) {
+        if (payload == null) {
+            log.debug("Failover scatter-store skipped for '{}': method returned null payload", failover.name());
+            return null;
+        }
+        if (isScattered(failover)) {
+            log.debug("Failover scatter-store: storing '{}' via scatter", failover.name());
+            return scatter.get();
+        }
+        return passThrough.get();
+    }
+
+    private @Nullable T recover(Failover failover, Throwable cause, Supplier<T> gather, Supplier<T> passThrough) {
+        if (isScattered(failover)) {
+            log.debug("Failover scatter-recover: recovering '{}' due to {}", failover.name(), cause.getMessage());
+            return gather.get();
+        }
+        return passThrough.get();
+    }
+
+    private static boolean isScattered(Failover failover) {
+        return !failover.payloadSplitter().isEmpty();
+    }
 }
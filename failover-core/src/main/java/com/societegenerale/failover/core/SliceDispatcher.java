@@ -63,6 +63,11 @@ class SliceDispatcher<R> {
     @Nullable
     private final Duration timeout;
 
+    /** Whether slices run one after the other on the calling thread (no executor configured). */
+    boolean isSequential() {
+        return executor == null;
+    }
+
     /**
      * Runs {@code action} for every store slice. Parallel path dispatches each slice via
      * {@code runAsync}, joins with {@code allOf} and applies {@link #timeout}; any slice failure
@@ -18,6 +18,7 @@ package com.societegenerale.failover.core;
 
 import com.societegenerale.failover.annotations.Failover;
 import com.societegenerale.failover.core.payload.splitter.*;
+import com.societegenerale.failover.core.plan.FailoverPlan;
 import lombok.AllArgsConstructor;
 
 import java.util.List;
@@ -50,6 +51,15 @@ class SplitterInvoker<T, R> {
         return splitter;
     }
 
+    /**
+     * Returns the splitter pre-resolved by {@code plan}, falling back to {@link #lookup(Failover)} when
+     * the plan could not resolve it (which then reports the error).
+     */
+    PayloadSplitter<T, R> lookup(FailoverPlan plan) {
+        PayloadSplitter<T, R> splitter = plan.getPayloadSplitter();
+        return splitter != null ? splitter : lookup(plan.getFailover());
+    }
+
     List<StoreContext<R>> splitOnStore(PayloadSplitter<T, R> splitter, Failover failover, StoreContext<T> ctx) {
         try {
             return splitter.splitOnStore(ctx);
@@ -19,19 +19,31 @@ package com.societegenerale.failover.core.expiry;
 import com.societegenerale.failover.annotations.Failover;
 
 import java.time.temporal.ChronoUnit;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Base {@link FailoverExpiryExtractor} that resolves expiry configuration from a {@code @Failover}
  * annotation, preferring SpEL expression attributes over the literal numeric ones.
  *
+ * <p>Expression results are cached per {@code @Failover} instance, so placeholder/SpEL resolution runs
+ * once per annotation rather than on every store, recover and metric tag. {@link #refresh()} drops the
+ * cache so the next call re-resolves against the current configuration. The caches are copy-on-write
+ * identity maps: reads are lock-free, and writes only happen once per annotation after each refresh.
+ *
  * @author Anand Manissery
  */
 public abstract class AbstractFailoverExpiryExtractor implements FailoverExpiryExtractor {
 
+    private final ExpressionCache<Long> durations = new ExpressionCache<>();
+
+    private final ExpressionCache<ChronoUnit> units = new ExpressionCache<>();
+
     @Override
     public long expiryDuration(Failover failover) {
         if(failover.expiryDurationExpression()!=null && !failover.expiryDurationExpression().isBlank()) {
-            return resolveExpiryDuration(failover.expiryDurationExpression());
+            return durations.get(failover, f -> resolveExpiryDuration(f.expiryDurationExpression()));
         }
         return failover.expiryDuration();
     }
@@ -39,11 +51,21 @@ public abstract class AbstractFailoverExpiryExtractor implements FailoverExpiryE
     @Override
     public ChronoUnit expiryUnit(Failover failover) {
         if(failover.expiryUnitExpression()!=null && !failover.expiryUnitExpression().isBlank()) {
-            return resolveExpiryUnit(failover.expiryUnitExpression());
+            return units.get(failover, f -> resolveExpiryUnit(f.expiryUnitExpression()));
         }
         return failover.expiryUnit();
     }
 
+    /**
+     * Drops every cached expression result; the next {@link #expiryDuration}/{@link #expiryUnit} call
+     * for each {@code @Failover} resolves its expression again.
+     */
+    @Override
+    public void refresh() {
+        durations.clear();
+        units.clear();
+    }
+
     /**
      * Resolves the expiry duration from a string expression (e.g. a SpEL expression or property placeholder).
      *
@@ -60,5 +82,38 @@ public abstract class AbstractFailoverExpiryExtractor implements FailoverExpiryE
      */
     protected abstract ChronoUnit resolveExpiryUnit(String expression);
 
+    /** Copy-on-write cache of resolved expression values keyed by {@code @Failover} identity. */
+    private static final class ExpressionCache<V> {
+
+        private volatile Map<Failover, V> values = new IdentityHashMap<>();
 
+        /** Bumped by {@link #clear()} so a resolution racing with a refresh is not cached as current. */
+        private long generation;
+
+        V get(Failover failover, Function<Failover, V> resolver) {
+            V value = values.get(failover);
+            if (value != null) {
+                return value;
+            }
+            long startGeneration;
+            synchronized (this) {
+                startGeneration = generation;
+            }
+            // resolved outside the lock; a failing expression is not cached and keeps failing per call
+            value = resolver.apply(failover);
+            synchronized (this) {
+                if (startGeneration == generation) {
+                    Map<Failover, V> copy = new IdentityHashMap<>(values);
+                    copy.put(failover, value);
+                    values = copy;
+                }
+            }
+            return value;
+        }
+
+        synchronized void clear() {
+            generation++;
+            values = new IdentityHashMap<>();
+        }
+    }
 }
@@ -42,4 +42,12 @@ public interface FailoverExpiryExtractor {
      * @return the {@link ChronoUnit} for the expiry duration
      */
     ChronoUnit expiryUnit(Failover failover);
+
+    /**
+     * Discards any expiry values cached from expressions, so the next call resolves them against the
+     * current configuration (e.g. after a Spring {@code Environment} refresh). No-op by default.
+     */
+    default void refresh() {
+        // nothing cached by default
+    }
 }
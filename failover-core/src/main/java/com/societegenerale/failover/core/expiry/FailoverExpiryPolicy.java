@@ -38,15 +38,25 @@ public class FailoverExpiryPolicy<T> implements ExpiryPolicy<T> {
 
     @Override
     public Instant computeExpiry(Failover failover) {
-        return getExpiryPolicy(failover).computeExpiry(failover);
+        return resolve(failover).computeExpiry(failover);
     }
 
     @Override
     public boolean isExpired(Failover failover, ReferentialPayload<T> referentialPayload) {
-        return getExpiryPolicy(failover).isExpired(failover, referentialPayload);
+        return resolve(failover).isExpired(failover, referentialPayload);
     }
 
-    private ExpiryPolicy<T> getExpiryPolicy(Failover failover) {
+    /**
+     * Resolves the {@link ExpiryPolicy} that governs {@code failover}: the named policy when
+     * {@code @Failover#expiryPolicy()} is set, the default policy otherwise. Exposed so the
+     * resolution can be done once per intercepted method ({@code FailoverPlanner}) instead of on
+     * every store/recover.
+     *
+     * @param failover annotation metadata for the failover point
+     * @return the resolved policy (never {@code null})
+     * @throws ExpiryPolicyNotFoundException if a named policy is configured but not found
+     */
+    public ExpiryPolicy<T> resolve(Failover failover) {
         if(failover.expiryPolicy().isEmpty()) {
             return defaultExpiryPolicy;
         }
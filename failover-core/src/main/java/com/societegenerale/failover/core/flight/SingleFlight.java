@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.flight;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls of the same key into one.
+ *
+ * <p>The first caller of a key — the leader — runs the call on its own thread. Callers of the same key arriving while
+ * it runs — the followers — do not run it: they wait for the leader and get its result, or the exception it threw.
+ * Once the call completes the key is released, so the next caller runs the call again; nothing is cached.
+ *
+ * <p>Every follower receives the very object the leader returned. Callers handing out mutable results must copy
+ * them, as {@link #execute(Object, Supplier)} does not.
+ *
+ * <p>A call must not execute the same key again on its own thread: it would wait for itself.
+ *
+ * @param <K> the key type; must implement {@code equals}/{@code hashCode}
+ * @param <V> the result type
+ * @author Anand Manissery
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final SingleFlightStats stats;
+
+    /** Counts on a stats object of its own. */
+    public SingleFlight() {
+        this(new SingleFlightStats());
+    }
+
+    /**
+     * @param stats counts the leaders and followers; may be shared by several instances
+     */
+    public SingleFlight(SingleFlightStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * Runs {@code call} for {@code key}, or waits for the call already running for it.
+     *
+     * @param key  identifies identical calls
+     * @param call the call; run at most once for all the callers of the key that overlap it
+     * @return the result of the call, shared by every overlapping caller
+     * @throws RuntimeException the one thrown by the call, rethrown to every overlapping caller
+     * @throws Error            the one thrown by the call, rethrown to every overlapping caller
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            stats.recordFollower();
+            return await(running);
+        }
+        stats.recordLeader();
+        try {
+            V result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /** @return the leader and follower counts */
+    public SingleFlightStats stats() {
+        return stats;
+    }
+
+    /** @return the number of keys whose call is running right now */
+    public int inFlight() {
+        return inFlight.size();
+    }
+}
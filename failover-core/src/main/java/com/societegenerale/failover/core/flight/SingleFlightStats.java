@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.flight;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how many callers a {@link SingleFlight} collapsed. May be shared by several of them (one per tenant) to
+ * report a single total.
+ *
+ * @author Anand Manissery
+ */
+public class SingleFlightStats {
+
+    private final LongAdder leaders = new LongAdder();
+
+    private final LongAdder followers = new LongAdder();
+
+    void recordLeader() {
+        leaders.increment();
+    }
+
+    void recordFollower() {
+        followers.increment();
+    }
+
+    /** @return the number of calls actually run, one per leader */
+    public long leaders() {
+        return leaders.sum();
+    }
+
+    /** @return the number of callers that shared the outcome of a call already running instead of running it */
+    public long followers() {
+        return followers.sum();
+    }
+
+    /** @return callers per call actually run, {@code (leaders + followers) / leaders}; {@code NaN} before any call */
+    public double fanIn() {
+        long ran = leaders();
+        return ran == 0 ? Double.NaN : (double) (ran + followers()) / ran;
+    }
+}
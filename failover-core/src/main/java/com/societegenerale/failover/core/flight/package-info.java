@@ -0,0 +1,7 @@
+/**
+ * Collapsing of concurrent identical calls.
+ *
+ * <p>{@link com.societegenerale.failover.core.flight.SingleFlight} lets the first caller of a key run the call while
+ * concurrent callers of the same key wait for, and share, its outcome.
+ */
+package com.societegenerale.failover.core.flight;
@@ -19,17 +19,13 @@ package com.societegenerale.failover.core.key;
 import com.societegenerale.failover.annotations.Failover;
 import lombok.extern.slf4j.Slf4j;
 
-import java.lang.reflect.Array;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.Integer.toHexString;
-import static java.lang.String.valueOf;
 import static java.util.Objects.isNull;
-import static java.util.stream.Collectors.joining;
 
 /**
  * Default {@link KeyGenerator} that derives a cache key from method arguments.
@@ -48,7 +44,10 @@ import static java.util.stream.Collectors.joining;
  *       {@code hashCode} or configure a custom {@link KeyGenerator}</li>
  * </ul>
  *
- * <p>Multiple arguments are joined with {@code ":"}.
+ * <p>Multiple arguments are joined with {@code ":"}. The key is written straight into a single
+ * {@link StringBuilder} (no streams, no per-element strings); {@link #appendKey} exposes that buffer
+ * path to {@link FailoverKeyGenerator}'s {@link KeyMode#FAST_HASH} mode. The rule matching an argument
+ * class is resolved once and cached per class; primitive arrays are appended without boxing.
  *
  * @author Anand Manissery
  * @see FailoverKeyGenerator
@@ -58,17 +57,30 @@ public class DefaultKeyGenerator implements KeyGenerator {
 
     private static final String NO_ARG_STRING = "NO-ARG";
 
-    private static final String EMPTY_STRING = "";
+    private static final char COLLECTIONS_DELIMITER = ',';
 
-    private static final String COLLECTIONS_DELIMITER = ",";
+    private static final char KEY_DELIMITER = ':';
 
-    private static final String KEY_DELIMITER = ":";
+    private static final int KEY_BUFFER_CAPACITY = 64;
 
-    private static final List<Class<?>> NUMBER_TYPES = List.of(Number.class, String.class, Boolean.class);
+    private static final List<Class<?>> SCALAR_TYPES = List.of(Number.class, String.class, Boolean.class);
+
+    /**
+     * Per-argument-class encoder, resolved once per class instead of re-running the type checks and the
+     * {@code toString()} reflection on every argument of every call. {@link ClassValue} keeps the cache
+     * lock-free on reads. No encoder captures the class it was computed for — the one that needs the class
+     * reads it from the argument — so a cached encoder keeps no argument class reachable.
+     */
+    private final ClassValue<ArgumentEncoder> encoders = new ClassValue<>() {
+        @Override
+        protected ArgumentEncoder computeValue(Class<?> type) {
+            return encoderFor(type);
+        }
+    };
 
     /**
      * Tracks the {@code failover-name|type} pairs already warned about, so the unstable-key warning is
-     * logged once per pair instead of on every call — {@link #castToStringValue} runs on the hot path
+     * logged once per pair instead of on every call — {@link #appendValue} runs on the hot path
      * (every intercepted invocation) and an unstable arg type would otherwise flood the logs.
      */
     private final Set<String> warnedUnstableKeyTypes = ConcurrentHashMap.newKeySet();
@@ -89,35 +101,160 @@ public class DefaultKeyGenerator implements KeyGenerator {
         if (isNull(args) || args.isEmpty()) {
             return NO_ARG_STRING;
         }
-        return args.stream().map(e-> this.castToStringValue(e, failover)).collect(joining(KEY_DELIMITER));
+        StringBuilder buffer = new StringBuilder(KEY_BUFFER_CAPACITY);
+        appendKey(failover, args, buffer);
+        return buffer.toString();
     }
 
-    private String castToStringValue(Object item, Failover failover) {
+    /**
+     * Appends the same raw key {@link #key} returns directly to {@code buffer}.
+     *
+     * @param failover annotation metadata; used in warning logs for unrecognised argument types
+     * @param args     resolved method arguments; may be {@code null} or empty
+     * @param buffer   the buffer to append the raw key to
+     */
+    @Override
+    public void appendKey(Failover failover, List<Object> args, StringBuilder buffer) {
+        if (isNull(args) || args.isEmpty()) {
+            buffer.append(NO_ARG_STRING);
+            return;
+        }
+        boolean first = true;
+        for (Object arg : args) {
+            if (!first) {
+                buffer.append(KEY_DELIMITER);
+            }
+            appendValue(buffer, arg, failover);
+            first = false;
+        }
+    }
+
+    private void appendValue(StringBuilder buffer, Object item, Failover failover) {
         if (isNull(item)) {
-            return EMPTY_STRING;
+            return;
         }
-        if(isOfType(item)) {
-            return valueOf(item);
+        encoders.get(item.getClass()).encode(buffer, item, failover);
+    }
+
+    /**
+     * Compiles the encoder for an argument class. Called once per class by {@link #encoders}; the
+     * checks run in the same order as the class-level rules so the produced key is unchanged.
+     */
+    private ArgumentEncoder encoderFor(Class<?> type) {
+        if (isScalar(type)) {
+            return (buffer, item, failover) -> buffer.append(item);
         }
-        if (Collection.class.isAssignableFrom(item.getClass())) {
-            var collection = (Collection<?>) item;
-            return collection.stream().map(e-> this.castToStringValue(e, failover)).collect(joining(COLLECTIONS_DELIMITER));
+        if (Collection.class.isAssignableFrom(type)) {
+            return this::appendCollection;
         }
-        if (item.getClass().isArray()) {
-            var len = Array.getLength(item);
-            var list = new ArrayList<>();
-            for (var i = 0; i < len; i++) {
-                list.add(Array.get(item, i));
-            }
-            return list.stream().map(e-> this.castToStringValue(e, failover)).collect(joining(COLLECTIONS_DELIMITER));
+        if (type.isArray()) {
+            return arrayEncoderFor(type.getComponentType());
         }
-        if (overridesToString(item.getClass())) {
+        if (overridesToString(type)) {
             // Records, enums and value types with a real toString() yield a deterministic, readable
             // key that is stable across JVM restarts — safe for a persistent store.
-            return valueOf(item);
+            return (buffer, item, failover) -> buffer.append(item);
+        }
+        return this::appendIdentity;
+    }
+
+    /** Identity {@code toString()}: the class is read from the argument, not captured by the encoder. */
+    private void appendIdentity(StringBuilder buffer, Object item, Failover failover) {
+        Class<?> type = item.getClass();
+        warnOnceOnUnstableKeyType(failover, type);
+        buffer.append(type.getName()).append('@').append(toHexString(item.hashCode()));
+    }
+
+    /**
+     * Primitive arrays are appended element by element without boxing; the output is the same as
+     * {@link String#valueOf} on each boxed element.
+     */
+    private ArgumentEncoder arrayEncoderFor(Class<?> componentType) {
+        if (componentType == long.class) {
+            return (buffer, item, failover) -> {
+                long[] array = (long[]) item;
+                for (int i = 0; i < array.length; i++) {
+                    appendDelimiter(buffer, i).append(array[i]);
+                }
+            };
+        }
+        if (componentType == int.class) {
+            return (buffer, item, failover) -> {
+                int[] array = (int[]) item;
+                for (int i = 0; i < array.length; i++) {
+                    appendDelimiter(buffer, i).append(array[i]);
+                }
+            };
+        }
+        if (componentType == short.class) {
+            return (buffer, item, failover) -> {
+                short[] array = (short[]) item;
+                for (int i = 0; i < array.length; i++) {
+                    appendDelimiter(buffer, i).append(array[i]);
+                }
+            };
+        }
+        if (componentType == byte.class) {
+            return (buffer, item, failover) -> {
+                byte[] array = (byte[]) item;
+                for (int i = 0; i < array.length; i++) {
+                    appendDelimiter(buffer, i).append(array[i]);
+                }
+            };
+        }
+        if (componentType == char.class) {
+            return (buffer, item, failover) -> {
+                char[] array = (char[]) item;
+                for (int i = 0; i < array.length; i++) {
+                    appendDelimiter(buffer, i).append(array[i]);
+                }
+            };
+        }
+        if (componentType == double.class) {
+            return (buffer, item, failover) -> {
+                double[] array = (double[]) item;
+                for (int i = 0; i < array.length; i++) {
+                    appendDelimiter(buffer, i).append(array[i]);
+                }
+            };
+        }
+        if (componentType == float.class) {
+            return (buffer, item, failover) -> {
+                float[] array = (float[]) item;
+                for (int i = 0; i < array.length; i++) {
+                    appendDelimiter(buffer, i).append(array[i]);
+                }
+            };
+        }
+        if (componentType == boolean.class) {
+            return (buffer, item, failover) -> {
+                boolean[] array = (boolean[]) item;
+                for (int i = 0; i < array.length; i++) {
+                    appendDelimiter(buffer, i).append(array[i]);
+                }
+            };
+        }
+        return (buffer, item, failover) -> {
+            Object[] array = (Object[]) item;
+            for (int i = 0; i < array.length; i++) {
+                appendValue(appendDelimiter(buffer, i), array[i], failover);
+            }
+        };
+    }
+
+    private void appendCollection(StringBuilder buffer, Object item, Failover failover) {
+        boolean first = true;
+        for (Object element : (Collection<?>) item) {
+            if (!first) {
+                buffer.append(COLLECTIONS_DELIMITER);
+            }
+            appendValue(buffer, element, failover);
+            first = false;
         }
-        warnOnceOnUnstableKeyType(failover, item.getClass());
-        return "%s@%s".formatted(item.getClass().getName(), toHexString(item.hashCode()));
+    }
+
+    private static StringBuilder appendDelimiter(StringBuilder buffer, int index) {
+        return index > 0 ? buffer.append(COLLECTIONS_DELIMITER) : buffer;
     }
 
     /**
@@ -138,7 +275,7 @@ public class DefaultKeyGenerator implements KeyGenerator {
      * {@link Object#toString()}. Such a {@code toString()} is treated as a deterministic key source;
      * the bare {@link Object#toString()} (identity hash) is not.
      */
-    private boolean overridesToString(Class<?> clazz) {
+    private static boolean overridesToString(Class<?> clazz) {
         try {
             return clazz.getMethod("toString").getDeclaringClass() != Object.class;
         } catch (NoSuchMethodException e) {
@@ -146,11 +283,21 @@ public class DefaultKeyGenerator implements KeyGenerator {
         }
     }
 
-    private boolean isOfType(Object item) {
-        return NUMBER_TYPES.stream().anyMatch(cls-> isOfType(item, cls));
+    private static boolean isScalar(Class<?> type) {
+        for (Class<?> scalarType : SCALAR_TYPES) {
+            if (scalarType.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private boolean isOfType(Object item, Class<?>type) {
-        return type.isAssignableFrom(item.getClass());
+    /**
+     * Appends one non-null argument to the key buffer. Compiled once per argument class by
+     * {@link #encoderFor} and cached in {@link #encoders}.
+     */
+    @FunctionalInterface
+    private interface ArgumentEncoder {
+        void encode(StringBuilder buffer, Object item, Failover failover);
     }
 }
@@ -17,7 +17,6 @@
 package com.societegenerale.failover.core.key;
 
 import com.societegenerale.failover.annotations.Failover;
-import lombok.AllArgsConstructor;
 
 import java.util.List;
 import java.util.UUID;
@@ -42,18 +41,47 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * {@code effectiveName} is {@link com.societegenerale.failover.annotations.Failover#domain()} when
  * non-blank, otherwise {@link com.societegenerale.failover.annotations.Failover#name()}.
  * Hashing normalises key length and prevents store-column overflow regardless of argument size.
+ * With {@link KeyMode#FAST_HASH} the UUID-formatted key is a MurmurHash3 128-bit hash instead of MD5,
+ * computed over a single buffer the raw key is appended to (see {@link KeyGenerator#appendKey}).
  *
  * @author Anand Manissery
  * @see DefaultKeyGenerator
  * @see KeyGeneratorLookup
  */
-@AllArgsConstructor
 public class FailoverKeyGenerator implements KeyGenerator {
 
+    private static final String KEY_SEPARATOR = ":";
+
+    /** Initial capacity of the {@link KeyMode#FAST_HASH} key buffer — fits a name plus a few ids without resizing. */
+    private static final int KEY_BUFFER_CAPACITY = 128;
+
     private final KeyGenerator defaultKeyGenerator;
 
     private final KeyGeneratorLookup keyGeneratorLookup;
 
+    private final KeyMode keyMode;
+
+    /**
+     * @param defaultKeyGenerator generator used when {@code @Failover#keyGenerator()} is empty
+     * @param keyGeneratorLookup  lookup for named key generators
+     * @param keyMode             how the prefixed raw key is hashed into the final key
+     */
+    public FailoverKeyGenerator(KeyGenerator defaultKeyGenerator, KeyGeneratorLookup keyGeneratorLookup, KeyMode keyMode) {
+        this.defaultKeyGenerator = defaultKeyGenerator;
+        this.keyGeneratorLookup = keyGeneratorLookup;
+        this.keyMode = keyMode;
+    }
+
+    /**
+     * Creates a generator in the default {@link KeyMode#MD5_UUID} mode.
+     *
+     * @param defaultKeyGenerator generator used when {@code @Failover#keyGenerator()} is empty
+     * @param keyGeneratorLookup  lookup for named key generators
+     */
+    public FailoverKeyGenerator(KeyGenerator defaultKeyGenerator, KeyGeneratorLookup keyGeneratorLookup) {
+        this(defaultKeyGenerator, keyGeneratorLookup, KeyMode.MD5_UUID);
+    }
+
     /**
      * Resolves the appropriate {@link KeyGenerator} and returns the final UUID key.
      *
@@ -70,18 +98,43 @@ public class FailoverKeyGenerator implements KeyGenerator {
      */
     @Override
     public String key(Failover failover, List<Object> args) {
+        return generateFinalKey(effectiveName(failover) + KEY_SEPARATOR, resolve(failover), failover, args);
+    }
+
+    /**
+     * Resolves the key generator for {@code failover} once and returns a {@link KeyGenerator} bound to
+     * it: the returned generator produces the same final keys as {@link #key} for that failover, but
+     * skips the {@link KeyGeneratorLookup} resolution and the effective-name prefix building on every
+     * call. Used by {@code FailoverPlanner} to pre-compile the per-method key path.
+     *
+     * @param failover annotation metadata for the intercepted method
+     * @return a generator producing final UUID keys for {@code failover}
+     * @throws KeyGeneratorNotFoundException if {@code failover.keyGenerator()} is non-empty but
+     *         no matching bean is found (neither by qualifier nor by bean name)
+     */
+    public KeyGenerator bind(Failover failover) {
+        KeyGenerator keyGenerator = resolve(failover);
+        String prefix = effectiveName(failover) + KEY_SEPARATOR;
+        return (boundFailover, args) -> generateFinalKey(prefix, keyGenerator, boundFailover, args);
+    }
+
+    private KeyGenerator resolve(Failover failover) {
         if(failover.keyGenerator().isEmpty()) {
-            return generateFinalKey(failover, defaultKeyGenerator.key(failover, args));
+            return defaultKeyGenerator;
         }
         KeyGenerator keyGenerator = keyGeneratorLookup.lookup(failover.keyGenerator());
         if(keyGenerator == null) {
             throw new KeyGeneratorNotFoundException("No matching KeyGenerator bean found for failover '%s' with key generator qualifier '%s'. Neither qualifier match nor bean name match!".formatted(failover.name(), failover.keyGenerator()));
         }
-        return generateFinalKey(failover, keyGenerator.key(failover, args));
+        return keyGenerator;
     }
 
-    private String generateFinalKey(Failover failover, String tempKey) {
-        var key = effectiveName(failover) + ":" + tempKey;
-        return UUID.nameUUIDFromBytes(key.getBytes(UTF_8)).toString();
+    private String generateFinalKey(String prefix, KeyGenerator keyGenerator, Failover failover, List<Object> args) {
+        if (keyMode == KeyMode.FAST_HASH) {
+            StringBuilder buffer = new StringBuilder(KEY_BUFFER_CAPACITY).append(prefix);
+            keyGenerator.appendKey(failover, args, buffer);
+            return Murmur3.hash128(buffer).toString();
+        }
+        return UUID.nameUUIDFromBytes((prefix + keyGenerator.key(failover, args)).getBytes(UTF_8)).toString();
     }
 }
@@ -50,4 +50,22 @@ public interface KeyGenerator {
      * @return non-null string key representing this call
      */
     String key(Failover failover, List<Object> args);
+
+    /**
+     * Appends the raw key for the given failover call to {@code buffer}.
+     *
+     * <p>Used by {@link FailoverKeyGenerator} in {@link KeyMode#FAST_HASH} mode, which builds the
+     * prefixed key in a single buffer. The default appends {@link #key}; implementations that can write
+     * their key directly (see {@link DefaultKeyGenerator}) override it to skip the intermediate string.
+     *
+     * <p><strong>Implementation contract:</strong> must append exactly the characters {@link #key} would
+     * return for the same arguments, and nothing else.
+     *
+     * @param failover annotation metadata for the intercepted method
+     * @param args     resolved method arguments; may be {@code null} or empty
+     * @param buffer   the buffer to append the raw key to
+     */
+    default void appendKey(Failover failover, List<Object> args, StringBuilder buffer) {
+        buffer.append(key(failover, args));
+    }
 }
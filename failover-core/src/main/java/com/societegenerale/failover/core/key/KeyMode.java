@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.key;
+
+/**
+ * How {@link FailoverKeyGenerator} turns {@code effectiveName + ":" + rawKey} into the final store key.
+ *
+ * <p>Both modes produce a fixed-length, UUID-formatted 36-character key, so either fits the store key
+ * column. The modes yield <strong>different</strong> keys for the same call: switching mode on an
+ * application with a persistent store orphans the entries written under the previous mode (they are
+ * no longer found and simply expire).
+ *
+ * @author Anand Manissery
+ * @see FailoverKeyGenerator
+ */
+public enum KeyMode {
+
+    /**
+     * Default. Type-3 (MD5) {@link java.util.UUID#nameUUIDFromBytes name-based UUID} over the UTF-8
+     * bytes of the prefixed raw key — the historical key format.
+     */
+    MD5_UUID,
+
+    /**
+     * Opt-in, allocation-lean mode. The raw key is appended straight into one buffer behind the prefix
+     * (see {@link KeyGenerator#appendKey}) and hashed with the non-cryptographic 128-bit MurmurHash3
+     * (x64, seed 0) over its UTF-8 encoding — no intermediate key strings, no {@code byte[]} copy and no
+     * {@code MessageDigest}. The hash is a pure function of the input, so keys are stable across JVM
+     * restarts and safe for persistent stores.
+     */
+    FAST_HASH
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.key;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.UUID;
+
+/**
+ * Allocation-free MurmurHash3 (x64, 128-bit, seed {@code 0}) over the UTF-8 encoding of a
+ * {@link CharSequence}.
+ *
+ * <p>The characters are encoded to UTF-8 on the fly and fed straight into the 16-byte mixing blocks,
+ * so hashing a {@link StringBuilder} neither copies it into a {@code String} nor allocates a
+ * {@code byte[]}. The result is bit-for-bit the reference MurmurHash3_x64_128 of
+ * {@code s.toString().getBytes(UTF_8)} — a pure function of the input, hence stable across JVM
+ * restarts, versions and vendors (a hard requirement for keys kept in a persistent store). Unpaired
+ * surrogates are encoded as {@code '?'}, exactly as {@link String#getBytes(java.nio.charset.Charset)} does.
+ *
+ * <p>Not a cryptographic hash: it is used for store-key derivation only, where the input is not
+ * adversarial and a 128-bit space makes accidental collisions negligible.
+ *
+ * @author Anand Manissery
+ * @see KeyMode#FAST_HASH
+ */
+@UtilityClass
+class Murmur3 {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    /**
+     * Hashes the UTF-8 encoding of {@code chars}.
+     *
+     * @param chars the characters to hash
+     * @return the 128-bit hash as a {@link UUID} ({@code h1} = most significant bits, {@code h2} = least)
+     */
+    static UUID hash128(CharSequence chars) {
+        Hasher hasher = new Hasher();
+        int length = chars.length();
+        for (int i = 0; i < length; i++) {
+            char c = chars.charAt(i);
+            if (c < 0x80) {
+                hasher.put(c);
+            } else if (c < 0x800) {
+                hasher.put(0xC0 | (c >> 6));
+                hasher.put(0x80 | (c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                hasher.put(0xE0 | (c >> 12));
+                hasher.put(0x80 | ((c >> 6) & 0x3F));
+                hasher.put(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                hasher.put(0xF0 | (codePoint >> 18));
+                hasher.put(0x80 | ((codePoint >> 12) & 0x3F));
+                hasher.put(0x80 | ((codePoint >> 6) & 0x3F));
+                hasher.put(0x80 | (codePoint & 0x3F));
+            } else {
+                hasher.put('?');
+            }
+        }
+        return hasher.finish();
+    }
+
+    /** Streaming state; short-lived and never escapes {@link #hash128}, so the JIT can scalar-replace it. */
+    private static final class Hasher {
+
+        private long h1;
+        private long h2;
+        private long k1;
+        private long k2;
+        private int position;
+        private long length;
+
+        void put(int b) {
+            long value = b & 0xFFL;
+            if (position < 8) {
+                k1 |= value << (position << 3);
+            } else {
+                k2 |= value << ((position - 8) << 3);
+            }
+            length++;
+            if (++position == 16) {
+                mix();
+                k1 = 0;
+                k2 = 0;
+                position = 0;
+            }
+        }
+
+        private void mix() {
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        UUID finish() {
+            if (position > 8) {
+                h2 ^= mixK2(k2);
+            }
+            if (position > 0) {
+                h1 ^= mixK1(k1);
+            }
+            h1 ^= length;
+            h2 ^= length;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix64(h1);
+            h2 = fmix64(h2);
+            h1 += h2;
+            h2 += h1;
+            return new UUID(h1, h2);
+        }
+
+        private static long mixK1(long k) {
+            return Long.rotateLeft(k * C1, 31) * C2;
+        }
+
+        private static long mixK2(long k) {
+            return Long.rotateLeft(k * C2, 33) * C1;
+        }
+
+        private static long fmix64(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
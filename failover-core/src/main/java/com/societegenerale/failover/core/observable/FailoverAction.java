@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.observable;
+
+/**
+ * The failover operation a {@link FailoverEvent} reports on.
+ *
+ * @author Anand Manissery
+ */
+public enum FailoverAction {
+
+    /** A successful upstream result was handed to the store. */
+    STORE("store"),
+
+    /** The upstream call failed and recovery from the store was attempted. */
+    RECOVER("recover"),
+
+    /** A scatter/gather recovery where some, but not all, slices were recovered. */
+    RECOVER_PARTIAL("recover-partial"),
+
+    /** Latency of the protected upstream call itself. */
+    UPSTREAM("upstream"),
+
+    /** An async store-layer operation failed inside the executor. */
+    STORE_ASYNC_FAILED("store-async-failed");
+
+    private final String tag;
+
+    FailoverAction(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * @return the {@code failover-action} value used by {@link Metrics} and as the {@code action} meter tag
+     */
+    public String tag() {
+        return tag;
+    }
+}
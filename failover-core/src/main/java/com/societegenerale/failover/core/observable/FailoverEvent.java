@@ -0,0 +1,267 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.observable;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static com.societegenerale.failover.core.util.CommonsUtil.canonicalTypeOf;
+import static com.societegenerale.failover.core.util.CommonsUtil.finalRootCauseOf;
+import static com.societegenerale.failover.core.util.CommonsUtil.messageOf;
+
+/**
+ * Typed failover event published on every store, recover, upstream call, partial recovery and async
+ * store failure.
+ *
+ * <p>Unlike {@link Metrics}, an event is a single object with primitive durations, enum
+ * {@link FailoverAction action}/{@link FailoverOutcome outcome} and references to the name, domain and
+ * method strings held by the caller (the per-method plan), so emitting it costs no map, no key
+ * concatenation and no number formatting. Exception details are derived from the
+ * cause only when a consumer asks for them.
+ *
+ * <p>{@link #toMetrics()} renders the event as the historical {@code failover-*} string map, which is
+ * what {@link com.societegenerale.failover.core.observable.publisher.ObservablePublisher#publish(FailoverEvent)}
+ * hands to publishers that only implement the {@link Metrics} contract.
+ *
+ * <p>Events are immutable apart from {@code getPublishedOn()}, stamped once by the composite publisher
+ * before fan-out.
+ *
+ * @author Anand Manissery
+ */
+@Getter
+public final class FailoverEvent {
+
+    /** Value of the numeric fields an event does not carry. */
+    public static final long NO_VALUE = -1L;
+
+    private final FailoverAction action;
+
+    private final FailoverOutcome outcome;
+
+    /** {@code @Failover#name()}. */
+    private final String name;
+
+    /** Effective name (domain or name); {@code null} for partial-recovery and async-failure events. */
+    private final @Nullable String domain;
+
+    /** {@code SimpleClassName#methodName}; {@code null} for async-failure events. */
+    private final @Nullable String method;
+
+    private final long expiryDuration;
+
+    private final @Nullable ChronoUnit expiryUnit;
+
+    /** Exception that triggered recovery, or the async store failure. */
+    private final @Nullable Throwable cause;
+
+    /** Message of the exception thrown by the recover path, if any. */
+    private final @Nullable String recoveryFailureMessage;
+
+    /** Wall time of the store/recover path or of the upstream call, in nanoseconds; {@link #NO_VALUE} if absent. */
+    private final long durationNanos;
+
+    /** Slices not recovered (partial recovery only). */
+    private final long missing;
+
+    /** Total slices (partial recovery only). */
+    private final long total;
+
+    /** Async store operation that failed ({@code store}, {@code delete}, ...). */
+    private final @Nullable String asyncOperation;
+
+    private volatile @Nullable Instant publishedOn;
+
+    @SuppressWarnings("java:S107") // private all-fields constructor behind the per-action factories
+    private FailoverEvent(FailoverAction action, FailoverOutcome outcome, String name, @Nullable String domain, @Nullable String method,
+                          long expiryDuration, @Nullable ChronoUnit expiryUnit, @Nullable Throwable cause, @Nullable String recoveryFailureMessage,
+                          long durationNanos, long missing, long total, @Nullable String asyncOperation) {
+        this.action = action;
+        this.outcome = outcome;
+        this.name = name;
+        this.domain = domain;
+        this.method = method;
+        this.expiryDuration = expiryDuration;
+        this.expiryUnit = expiryUnit;
+        this.cause = cause;
+        this.recoveryFailureMessage = recoveryFailureMessage;
+        this.durationNanos = durationNanos;
+        this.missing = missing;
+        this.total = total;
+        this.asyncOperation = asyncOperation;
+    }
+
+    /**
+     * Store event.
+     *
+     * @param name           failover name
+     * @param domain         effective name
+     * @param method         method id
+     * @param expiryDuration configured expiry duration
+     * @param expiryUnit     configured expiry unit
+     * @param stored         whether a non-empty payload was stored
+     * @param durationNanos  wall time of the store path
+     * @return the event
+     */
+    public static FailoverEvent store(String name, String domain, String method, long expiryDuration, ChronoUnit expiryUnit,
+                                      boolean stored, long durationNanos) {
+        return new FailoverEvent(FailoverAction.STORE, stored ? FailoverOutcome.SUCCESS : FailoverOutcome.MISS, name, domain, method,
+                expiryDuration, expiryUnit, null, null, durationNanos, NO_VALUE, NO_VALUE, null);
+    }
+
+    /**
+     * Recover event. The outcome is {@link FailoverOutcome#FAILURE} when {@code recoveryFailureMessage}
+     * is non-null, otherwise {@link FailoverOutcome#SUCCESS} or {@link FailoverOutcome#MISS}.
+     *
+     * @param name                   failover name
+     * @param domain                 effective name
+     * @param method                 method id
+     * @param expiryDuration         configured expiry duration
+     * @param expiryUnit             configured expiry unit
+     * @param cause                  the exception that triggered recovery
+     * @param recovered              whether a non-empty payload was recovered
+     * @param recoveryFailureMessage message of the exception thrown by the recover path, if any
+     * @param durationNanos          wall time of the recover path
+     * @return the event
+     */
+    @SuppressWarnings("java:S107")
+    public static FailoverEvent recover(String name, String domain, String method, long expiryDuration, ChronoUnit expiryUnit,
+                                        Throwable cause, boolean recovered, @Nullable String recoveryFailureMessage, long durationNanos) {
+        FailoverOutcome outcome = recoveryFailureMessage != null ? FailoverOutcome.FAILURE
+                : recovered ? FailoverOutcome.SUCCESS : FailoverOutcome.MISS;
+        return new FailoverEvent(FailoverAction.RECOVER, outcome, name, domain, method,
+                expiryDuration, expiryUnit, cause, recoveryFailureMessage, durationNanos, NO_VALUE, NO_VALUE, null);
+    }
+
+    /**
+     * Upstream-call latency event.
+     *
+     * @param name          failover name
+     * @param domain        effective name
+     * @param method        method id
+     * @param success       whether the upstream call returned
+     * @param durationNanos latency of the upstream call
+     * @return the event
+     */
+    public static FailoverEvent upstream(String name, String domain, String method, boolean success, long durationNanos) {
+        return new FailoverEvent(FailoverAction.UPSTREAM, success ? FailoverOutcome.SUCCESS : FailoverOutcome.FAILURE, name, domain, method,
+                NO_VALUE, null, null, null, durationNanos, NO_VALUE, NO_VALUE, null);
+    }
+
+    /**
+     * Partial scatter/gather recovery event.
+     *
+     * @param name    failover name
+     * @param method  method id
+     * @param missing slices not recovered
+     * @param total   total slices
+     * @return the event
+     */
+    public static FailoverEvent recoverPartial(String name, String method, long missing, long total) {
+        return new FailoverEvent(FailoverAction.RECOVER_PARTIAL, FailoverOutcome.MISS, name, null, method,
+                NO_VALUE, null, null, null, NO_VALUE, missing, total, null);
+    }
+
+    /**
+     * Async store-layer failure event.
+     *
+     * @param name      failover name
+     * @param operation the failed operation
+     * @param cause     the failure
+     * @return the event
+     */
+    public static FailoverEvent storeAsyncFailed(String name, String operation, Throwable cause) {
+        return new FailoverEvent(FailoverAction.STORE_ASYNC_FAILED, FailoverOutcome.FAILURE, name, null, null,
+                NO_VALUE, null, cause, null, NO_VALUE, NO_VALUE, NO_VALUE, operation);
+    }
+
+    /**
+     * Stamps the publish timestamp. Called once by the composite publisher before fan-out.
+     *
+     * @param publishedOn the publish instant
+     */
+    public void markPublished(Instant publishedOn) {
+        this.publishedOn = publishedOn;
+    }
+
+    /** @return canonical type of {@code getCause()}, or {@code null} */
+    public @Nullable String exceptionType() {
+        return canonicalTypeOf(cause);
+    }
+
+    /** @return canonical type of the first-level cause of {@code getCause()}, or {@code null} */
+    public @Nullable String causeType() {
+        return cause == null ? null : canonicalTypeOf(cause.getCause());
+    }
+
+    /** @return canonical type of the innermost cause of {@code getCause()}, or {@code null} */
+    public @Nullable String finalCauseType() {
+        return canonicalTypeOf(finalRootCauseOf(cause));
+    }
+
+    /**
+     * Renders this event as the {@code failover-*} string map published before typed events existed,
+     * with the same keys, order and values for each action.
+     *
+     * @return a new {@link Metrics} for this event
+     */
+    public Metrics toMetrics() {
+        Metrics metrics = Metrics.of(name).collect("action", action.tag());
+        switch (action) {
+            case STORE -> metrics.collect("domain", domain)
+                    .collect("method", method)
+                    .collect("expiry-duration", expiryDuration)
+                    .collect("expiry-unit", expiryUnit == null ? null : expiryUnit.name())
+                    .collect("is-stored", outcome == FailoverOutcome.SUCCESS)
+                    .collect("duration-ns", durationNanos);
+            case RECOVER -> {
+                Throwable rootCause = cause == null ? null : cause.getCause();
+                Throwable finalCause = finalRootCauseOf(cause);
+                metrics.collect("domain", domain)
+                        .collect("method", method)
+                        .collect("expiry-duration", expiryDuration)
+                        .collect("expiry-unit", expiryUnit == null ? null : expiryUnit.name())
+                        .collect("exception-type", exceptionType())
+                        .collect("exception-cause-type", canonicalTypeOf(rootCause))
+                        .collect("exception-final-cause-type", canonicalTypeOf(finalCause))
+                        .collect("exception-message", messageOf(cause))
+                        .collect("exception-cause-message", messageOf(rootCause))
+                        .collect("exception-final-cause-message", messageOf(finalCause))
+                        .collect("is-recovered", outcome == FailoverOutcome.SUCCESS)
+                        .collect("is-recovery-failed", outcome == FailoverOutcome.FAILURE)
+                        .collect("recovery-failure-message", recoveryFailureMessage)
+                        .collect("duration-ns", durationNanos);
+            }
+            case UPSTREAM -> metrics.collect("domain", domain)
+                    .collect("method", method)
+                    .collect("upstream-result", outcome == FailoverOutcome.SUCCESS ? "success" : "failure")
+                    .collect("upstream-duration-ns", durationNanos);
+            case RECOVER_PARTIAL -> metrics.collect("method", method)
+                    .collect("missing", missing)
+                    .collect("total", total);
+            case STORE_ASYNC_FAILED -> metrics.collect("async-operation", asyncOperation)
+                    .collect("exception-type", exceptionType());
+        }
+        Instant stamp = publishedOn;
+        if (stamp != null) {
+            metrics.collect("report-publish-on", stamp.toString());
+        }
+        return metrics;
+    }
+}
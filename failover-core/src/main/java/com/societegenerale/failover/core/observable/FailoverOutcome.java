@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.observable;
+
+/**
+ * Result of the operation a {@link FailoverEvent} reports on, read in the context of its
+ * {@link FailoverAction}.
+ *
+ * @author Anand Manissery
+ */
+public enum FailoverOutcome {
+
+    /** Payload stored, payload recovered, or upstream call returned. */
+    SUCCESS,
+
+    /** Nothing stored or nothing recovered (not found or expired), or only part of the slices recovered. */
+    MISS,
+
+    /** The upstream call threw, the recover path threw, or an async store operation failed. */
+    FAILURE
+}
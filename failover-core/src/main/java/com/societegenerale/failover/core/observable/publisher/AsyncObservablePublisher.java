@@ -16,35 +16,44 @@
 
 package com.societegenerale.failover.core.observable.publisher;
 
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.Metrics;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Non-blocking {@link ObservablePublisher} decorator: it guarantees that publishing failover metrics
  * can never block or slow the caller's {@code @Failover} business call.
  *
- * <p>The {@code @Failover} path only ever does an O(1), allocation-light {@link BlockingQueue#offer}
- * onto a <strong>bounded</strong> queue and returns immediately. A single drain worker (a virtual
- * thread) takes metrics off the queue and forwards them to the wrapped {@code delegate}
- * (typically the {@link CompositeObservablePublisher}) off the hot path. Whatever the delegates do —
- * Micrometer writes, MDC logging, a remote snapshot push — happens on the drain thread, never the
- * caller's.
+ * <p>The {@code @Failover} path only ever does an O(1), lock-free {@link MpscRingBuffer#offer} onto a
+ * <strong>bounded</strong> ring buffer and returns immediately; concurrent callers contend on a single CAS,
+ * never on a queue lock. A single drain worker (a virtual thread) takes whole batches off the buffer and
+ * forwards them to the wrapped {@code delegate} (typically the {@link CompositeObservablePublisher}) off the
+ * hot path — typed events through {@link ObservablePublisher#publishAll}, so delegates can amortise their
+ * per-event work. Whatever the delegates do — Micrometer writes, MDC logging, a remote snapshot push —
+ * happens on the drain thread, never the caller's. The worker parks while the buffer is empty and is
+ * unparked by the next producer.
  *
- * <p><strong>Drop-on-full.</strong> When the queue is full the metric is dropped and {@link #dropped()}
+ * <p><strong>Drop-on-full.</strong> When the buffer is full the metric is dropped and {@link #dropped()}
  * is incremented; the caller is never back-pressured. This is deliberate: the whole point of this
  * decorator is that observability is invisible to the business call, so a "run on the caller thread"
  * fallback is intentionally <em>not</em> offered here. Loss is made visible via the drop counter
  * (bound by the Micrometer layer as {@code failover.metrics.dropped.total}) and a throttled {@code WARN}.
+ * The capacity is rounded up to the next power of two (at least two).
  *
- * <p>Metrics handed to {@link #publish} must not be mutated by the caller afterwards — the existing
- * emission sites build a fresh {@link Metrics} per event and publish it once, so this already holds.
+ * <p>Both {@link Metrics} and typed {@link FailoverEvent}s share the buffer and are delivered in publish
+ * order: consecutive events go out as one {@code publishAll} batch, a {@link Metrics} item through
+ * {@link ObservablePublisher#publish(Metrics)}. Items handed to {@link #publish} must not be mutated by the
+ * caller afterwards — the existing emission sites build a fresh object per event and publish it once, so
+ * this already holds.
  *
  * <p>Disable via {@code failover.observable.async.enabled=false} to publish synchronously on the caller
  * thread — used for deterministic assertions in integration tests, mirroring {@code failover.store.async=false}.
@@ -54,24 +63,34 @@ import java.util.concurrent.atomic.AtomicLong;
 @Slf4j
 public class AsyncObservablePublisher implements ObservablePublisher, AutoCloseable {
 
-    /** How long the drain worker blocks waiting for the next metric before re-checking the running flag. */
+    /** Longest the idle drain worker parks before re-checking the running flag. */
     private static final long POLL_MILLIS = 200;
 
+    /** Most items taken off the buffer per drain pass. */
+    static final int MAX_BATCH = 256;
+
     /** Log a dropped-metric WARN on the 1st drop and then every Nth, to avoid log flooding under saturation. */
     private static final long DROP_LOG_INTERVAL = 1000;
 
-    /** Grace period for the drain worker to flush the queue on {@link #close()}. */
+    /** Grace period for the drain worker to flush the buffer on {@link #close()}. */
     private static final long SHUTDOWN_AWAIT_SECONDS = 5;
 
     private final ObservablePublisher delegate;
-    private final BlockingQueue<Metrics> queue;
+    /** Holds {@link Metrics} and {@link FailoverEvent} items. */
+    private final MpscRingBuffer<Object> buffer;
     private final ExecutorService worker;
     private final AtomicLong dropped = new AtomicLong();
+    /** Set by the worker before it parks on an empty buffer; the first producer to clear it unparks the worker. */
+    private final AtomicBoolean idle = new AtomicBoolean();
     private volatile boolean running = true;
+    private volatile Thread drainThread;
+    private volatile int lastBatchSize;
+    private volatile long lastDrainLagNanos;
 
     /**
      * @param delegate     the publisher that does the real fan-out (usually the composite); runs on the drain thread
-     * @param queueCapacity bounded queue size; must be {@code > 0}. A full queue drops metrics rather than blocking
+     * @param queueCapacity bounded buffer size (rounded up to a power of two, at least two); must be {@code > 0}. A full buffer
+     *                      drops metrics rather than blocking
      */
     public AsyncObservablePublisher(ObservablePublisher delegate, int queueCapacity) {
         if (queueCapacity <= 0) {
@@ -79,21 +98,39 @@ public class AsyncObservablePublisher implements ObservablePublisher, AutoClosea
                     "queueCapacity must be > 0 to bound the async publisher, but was " + queueCapacity);
         }
         this.delegate = delegate;
-        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.buffer = new MpscRingBuffer<>(queueCapacity);
         this.worker = Executors.newSingleThreadExecutor(
                 Thread.ofVirtual().name("failover-metrics-drain").factory());
         this.worker.execute(this::drainLoop);
-        log.debug("AsyncObservablePublisher started (queueCapacity={}).", queueCapacity);
+        log.debug("AsyncObservablePublisher started (queueCapacity={}).", buffer.capacity());
     }
 
     @Override
     public void publish(Metrics metrics) {
-        if (!queue.offer(metrics)) {
-            long n = dropped.incrementAndGet();
-            if (n == 1 || n % DROP_LOG_INTERVAL == 0) {
-                log.warn("Failover metrics queue is full — dropped {} metric(s) so far. Publishing is "
-                        + "non-blocking by design; raise failover.observable.async.queue-capacity if this recurs.", n);
+        enqueue(metrics);
+    }
+
+    @Override
+    public void publish(FailoverEvent event) {
+        enqueue(event);
+    }
+
+    @Override
+    public void publishAll(List<FailoverEvent> events) {
+        events.forEach(this::enqueue);
+    }
+
+    private void enqueue(Object item) {
+        if (buffer.offer(item)) {
+            if (idle.get() && idle.compareAndSet(true, false)) {
+                LockSupport.unpark(drainThread);
             }
+            return;
+        }
+        long n = dropped.incrementAndGet();
+        if (n == 1 || n % DROP_LOG_INTERVAL == 0) {
+            log.warn("Failover metrics queue is full — dropped {} metric(s) so far. Publishing is "
+                    + "non-blocking by design; raise failover.observable.async.queue-capacity if this recurs.", n);
         }
     }
 
@@ -102,31 +139,84 @@ public class AsyncObservablePublisher implements ObservablePublisher, AutoClosea
         return dropped.get();
     }
 
-    /** Current number of metrics waiting to be drained (for diagnostics / tests). */
+    /** Current number of metrics waiting to be drained. Bound by the Micrometer layer as the queue-depth gauge. */
     public int queueSize() {
-        return queue.size();
+        return buffer.size();
+    }
+
+    /** Number of items in the most recent drained batch. Bound by the Micrometer layer as the batch-size gauge. */
+    public int lastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * How long the oldest item of the most recent batch waited in the buffer before dispatch, in nanoseconds.
+     * Bound by the Micrometer layer as the drain-lag gauge.
+     */
+    public long drainLagNanos() {
+        return lastDrainLagNanos;
     }
 
     private void drainLoop() {
-        while (running) {
-            try {
-                Metrics metrics = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
-                if (metrics != null) {
-                    dispatch(metrics);
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
+        drainThread = Thread.currentThread();
+        List<Object> batch = new ArrayList<>(MAX_BATCH);
+        List<FailoverEvent> events = new ArrayList<>(MAX_BATCH);
+        while (running && !Thread.currentThread().isInterrupted()) {
+            if (!drain(batch, events)) {
+                park();
             }
         }
         // Flush whatever is left so a clean shutdown does not silently lose buffered metrics.
-        Metrics remaining;
-        while ((remaining = queue.poll()) != null) {
-            dispatch(remaining);
+        while (drain(batch, events)) {
+            // keep draining
+        }
+    }
+
+    /** Parks until a producer unparks the worker, the poll interval elapses or {@link #close()} is called. */
+    private void park() {
+        idle.set(true);
+        if (buffer.isEmpty()) {
+            LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(POLL_MILLIS));
         }
+        idle.set(false);
+    }
+
+    /** Drains and dispatches one batch; {@code false} when the buffer was empty. */
+    private boolean drain(List<Object> batch, List<FailoverEvent> events) {
+        long firstOfferedAt = buffer.drainTo(batch, MAX_BATCH);
+        if (batch.isEmpty()) {
+            return false;
+        }
+        lastBatchSize = batch.size();
+        lastDrainLagNanos = System.nanoTime() - firstOfferedAt;
+        for (Object item : batch) {
+            if (item instanceof FailoverEvent event) {
+                events.add(event);
+            } else {
+                flush(events);
+                dispatch((Metrics) item);
+            }
+        }
+        flush(events);
+        batch.clear();
+        return true;
     }
 
     /** A failing delegate must never kill the drain loop or leak out of the worker thread. */
+    private void flush(List<FailoverEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            delegate.publishAll(events);
+        } catch (RuntimeException e) {
+            log.warn("A failover metrics publisher threw while draining a batch of {} event(s) starting with '{}' — skipping. Cause: {}",
+                    events.size(), events.getFirst().getName(), e.toString());
+        } finally {
+            events.clear();
+        }
+    }
+
     private void dispatch(Metrics metrics) {
         try {
             delegate.publish(metrics);
@@ -136,10 +226,11 @@ public class AsyncObservablePublisher implements ObservablePublisher, AutoClosea
         }
     }
 
-    /** Stops the drain worker after a best-effort flush of the queue. Idempotent. */
+    /** Stops the drain worker after a best-effort flush of the buffer. Idempotent. */
     @Override
     public void close() {
         running = false;
+        LockSupport.unpark(drainThread);
         worker.shutdown();
         try {
             if (!worker.awaitTermination(SHUTDOWN_AWAIT_SECONDS, TimeUnit.SECONDS)) {
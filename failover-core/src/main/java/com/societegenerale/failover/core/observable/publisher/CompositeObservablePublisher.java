@@ -17,8 +17,10 @@
 package com.societegenerale.failover.core.observable.publisher;
 
 import com.societegenerale.failover.core.clock.FailoverClock;
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.Metrics;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -27,7 +29,8 @@ import java.util.List;
  *
  * <p>The timestamp is collected on the shared {@link Metrics} object exactly once here,
  * before fan-out, so every delegate sees the same value regardless of how many publishers
- * are registered.
+ * are registered. Typed {@link FailoverEvent}s are stamped the same way and fanned out as events,
+ * so each delegate decides whether it needs the {@link Metrics} rendering.
  *
  * @author Anand Manissery
  */
@@ -53,4 +56,18 @@ public class CompositeObservablePublisher implements ObservablePublisher {
         metrics.collect("report-publish-on", clock.now().toString());
         delegates.forEach(delegate -> delegate.publish(metrics));
     }
+
+    @Override
+    public void publish(FailoverEvent event) {
+        event.markPublished(clock.now());
+        delegates.forEach(delegate -> delegate.publish(event));
+    }
+
+    /** Stamps the whole batch with a single timestamp and fans the batch out, so each delegate sees it whole. */
+    @Override
+    public void publishAll(List<FailoverEvent> events) {
+        Instant now = clock.now();
+        events.forEach(event -> event.markPublished(now));
+        delegates.forEach(delegate -> delegate.publishAll(events));
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
 
 package com.societegenerale.failover.core.observable.publisher;
 
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
@@ -26,11 +27,21 @@ import java.util.Map;
  * {@link AbstractObservablePublisher} that publishes failover metrics by writing each metric
  * entry into the MDC before emitting a single INFO log line, then restoring the prior MDC state.
  *
+ * <p>Typed {@link FailoverEvent}s are only rendered as {@link Metrics} when INFO is enabled for this
+ * logger, so a muted MDC log costs nothing on the drain path.
+ *
  * @author Anand Manissery
  */
 @Slf4j
 public class MdcLoggerObservablePublisher extends AbstractObservablePublisher {
 
+    @Override
+    public void publish(FailoverEvent event) {
+        if (log.isInfoEnabled()) {
+            doPublish(event.toMetrics());
+        }
+    }
+
     @Override
     public void doPublish(Metrics metrics) {
         final Map<String, String> copyOfMdc = MDC.getCopyOfContextMap();
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.observable.publisher;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free multi-producer / single-consumer ring buffer backing {@link AsyncObservablePublisher}.
+ *
+ * <p>Producers claim a slot with a single CAS on the tail sequence and publish it by advancing the slot's
+ * own sequence number (Vyukov's bounded queue), so concurrent {@link #offer} calls never contend on a lock
+ * the way {@code ArrayBlockingQueue} does — only on the tail counter, and only when they collide. The single
+ * consumer takes whole batches with {@link #drainTo} without any CAS.
+ *
+ * <p>Each slot also records the {@link System#nanoTime()} at which it was offered, so the consumer can
+ * report how long the oldest item of a batch waited ({@link #drainTo} returns it).
+ *
+ * <p>The capacity is rounded up to the next power of two (at least two).
+ * {@link #drainTo} must only ever be called from one thread at a time.
+ *
+ * @param <E> the element type
+ * @author Anand Manissery
+ */
+final class MpscRingBuffer<E> {
+
+    /** Largest capacity that still rounds up to a power of two {@code int}. */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final long[] offeredAt;
+    private final AtomicLong tail = new AtomicLong();
+
+    /** Consumer position; written by the consumer only, volatile so {@link #size()} can read it from any thread. */
+    private volatile long head;
+
+    MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0 || requestedCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be > 0 and <= " + MAX_CAPACITY + ", but was " + requestedCapacity);
+        }
+        // At least two slots: with one, "published at n" and "free for n + 1" share the same sequence value.
+        this.capacity = Math.max(2, Integer.highestOneBit(requestedCapacity - 1) << 1);
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        this.offeredAt = new long[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Appends {@code element} if a slot is free. Never blocks.
+     *
+     * @param element the element to append (non-null)
+     * @return {@code false} when the buffer is full
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long delta = sequences.get(index) - position;
+            if (delta == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    offeredAt[index] = System.nanoTime();
+                    elements.set(index, element);
+                    sequences.set(index, position + 1); // publishes the slot (and offeredAt) to the consumer
+                    return true;
+                }
+                position = tail.get();
+            } else if (delta < 0) {
+                return false; // the slot still holds an element from one lap ago: full
+            } else {
+                position = tail.get(); // another producer claimed this position first
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code maxElements} published elements, in offer order, into {@code target}.
+     * Single consumer only.
+     *
+     * @param target      receives the drained elements
+     * @param maxElements upper bound on the batch size
+     * @return the {@link System#nanoTime()} at which the first drained element was offered, or {@code -1}
+     *         when nothing was drained
+     */
+    long drainTo(List<E> target, int maxElements) {
+        long position = head;
+        long firstOfferedAt = -1;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break; // not yet published
+            }
+            if (drained == 0) {
+                firstOfferedAt = offeredAt[index];
+            }
+            target.add(elements.get(index));
+            elements.set(index, null);
+            sequences.set(index, position + capacity); // frees the slot for the producer one lap ahead
+            position++;
+            drained++;
+        }
+        head = position;
+        return firstOfferedAt;
+    }
+
+    /** @return {@code true} when no published element is waiting */
+    boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+
+    /** @return number of elements claimed by producers and not yet drained (approximate under concurrency) */
+    int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    /** @return the effective (power-of-two) capacity */
+    int capacity() {
+        return capacity;
+    }
+}
@@ -16,8 +16,11 @@
 
 package com.societegenerale.failover.core.observable.publisher;
 
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.Metrics;
 
+import java.util.List;
+
 /**
  * SPI for publishing failover metrics to an external sink (log, metrics system, event bus, etc.).
  *
@@ -31,4 +34,29 @@ public interface ObservablePublisher {
      * @param metrics the failover metrics to publish
      */
     void publish(Metrics metrics);
+
+    /**
+     * Publishes a typed failover event. The default renders the event as {@link Metrics} via
+     * {@link FailoverEvent#toMetrics()} and calls {@link #publish(Metrics)}, so publishers that only
+     * understand the string map keep working; publishers on the hot path override this to read the
+     * typed fields directly and skip the conversion.
+     *
+     * @param event the failover event to publish
+     */
+    default void publish(FailoverEvent event) {
+        publish(event.toMetrics());
+    }
+
+    /**
+     * Publishes a batch of typed failover events, in order. {@link AsyncObservablePublisher} drains its buffer
+     * in batches and hands them over through this method, so publishers can amortise per-event work (a single
+     * flush, a single notification) across the batch. The default publishes each event on its own.
+     *
+     * <p>The list is only valid for the duration of the call; implementations must not retain it.
+     *
+     * @param events the failover events to publish
+     */
+    default void publishAll(List<FailoverEvent> events) {
+        events.forEach(this::publish);
+    }
 }
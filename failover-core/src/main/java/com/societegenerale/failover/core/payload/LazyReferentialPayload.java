@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.payload;
+
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * {@link ReferentialPayload} whose business payload is produced on the first {@link #getPayload()} call
+ * instead of when the entry is read from the store.
+ *
+ * <p>A store that reads a serialized form (e.g. the JDBC store) hands its deserialization over as the
+ * {@code loader}, so a caller that only looks at the metadata — the expiry check on recovery, an expired
+ * entry that is only deleted — never pays for it. The loader runs at most once, shared with the
+ * {@link #copy() copies} made before it ran; when it throws, {@link #getPayload()} throws and the next call
+ * runs it again. A {@link #detachedCopy() detached copy} runs it again, for a payload of its own.
+ * {@link #setPayload} replaces the payload without running it.
+ *
+ * <p>Like {@link ReferentialPayload}, an instance is not meant to be shared between threads.
+ *
+ * @param <T> the type of the business payload
+ * @author Anand Manissery
+ */
+public class LazyReferentialPayload<T> extends ReferentialPayload<T> {
+
+    private final Loader<T> loader;
+
+    private boolean loaded;
+
+    private boolean replaced;
+
+    /**
+     * Creates an entry whose payload is produced by {@code loader} on first access.
+     *
+     * @param name     the referential name
+     * @param key      the key within the referential
+     * @param upToDate {@code true} for a live payload, {@code false} for a failover payload
+     * @param asOf     the instant the payload was retrieved from the golden source
+     * @param expireOn the instant after which the payload is eligible for eviction
+     * @param loader   produces the payload; called at most once
+     */
+    public LazyReferentialPayload(String name, String key, boolean upToDate, Instant asOf, Instant expireOn, Supplier<? extends T> loader) {
+        this(name, key, upToDate, asOf, expireOn, new Loader<T>(loader));
+    }
+
+    private LazyReferentialPayload(String name, String key, boolean upToDate, Instant asOf, Instant expireOn, Loader<T> loader) {
+        super(name, key, upToDate, asOf, expireOn, null);
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the payload, running the loader on the first call.
+     *
+     * @return the business payload
+     */
+    @Override
+    public T getPayload() {
+        if (!loaded) {
+            super.setPayload(loader.get());
+            loaded = true;
+        }
+        return super.getPayload();
+    }
+
+    @Override
+    public void setPayload(T payload) {
+        super.setPayload(payload);
+        loaded = true;
+        replaced = true;
+    }
+
+    /**
+     * Copies this entry without running the loader: until the payload is loaded, the copy shares the loader,
+     * so the payload is still produced once for both.
+     *
+     * @return a new entry with the same field values
+     */
+    @Override
+    public ReferentialPayload<T> copy() {
+        if (loaded) {
+            return new ReferentialPayload<>(getName(), getKey(), isUpToDate(), getAsOf(), getExpireOn(), super.getPayload());
+        }
+        return new LazyReferentialPayload<>(getName(), getKey(), isUpToDate(), getAsOf(), getExpireOn(), loader);
+    }
+
+    /**
+     * Copies this entry with a loader of its own: the copy produces its payload again from the stored form, so
+     * it never shares the business object with this entry. Once {@link #setPayload} replaced the payload, there
+     * is no stored form to produce it from, and the copy is a plain {@link #copy()}.
+     *
+     * @return a new entry with the same field values, whose payload is produced on its first access
+     */
+    @Override
+    public ReferentialPayload<T> detachedCopy() {
+        if (replaced) {
+            return copy();
+        }
+        return new LazyReferentialPayload<T>(getName(), getKey(), isUpToDate(), getAsOf(), getExpireOn(), loader.source);
+    }
+
+    /** Runs the wrapped supplier once and keeps its result. */
+    private static final class Loader<T> implements Supplier<T> {
+
+        private final Supplier<? extends T> source;
+
+        private Supplier<? extends T> supplier;
+
+        private T value;
+
+        private Loader(Supplier<? extends T> supplier) {
+            this.source = supplier;
+            this.supplier = supplier;
+        }
+
+        @Override
+        public synchronized T get() {
+            if (supplier != null) {
+                value = supplier.get();
+                supplier = null;
+            }
+            return value;
+        }
+    }
+}
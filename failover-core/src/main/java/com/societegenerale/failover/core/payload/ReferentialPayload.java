@@ -82,6 +82,19 @@ public class ReferentialPayload<T> {
         return new ReferentialPayload<>(this.name, this.key, this.upToDate, this.asOf, this.expireOn, this.payload);
     }
 
+    /**
+     * Creates a copy that does not share the business payload with this one when it can be produced again,
+     * e.g. deserialized anew from the stored form by a {@link LazyReferentialPayload}. The default is
+     * {@link #copy()}: the business payload is shared.
+     *
+     * <p>Intended for handing one entry to several callers that may each enrich its payload.
+     *
+     * @return a new {@link ReferentialPayload} with the same field values
+     */
+    public ReferentialPayload<T> detachedCopy() {
+        return copy();
+    }
+
     @Override
     public String toString() {
         return "ReferentialPayload{" +
@@ -89,7 +102,7 @@ public class ReferentialPayload<T> {
                 ", upToDate=" + upToDate +
                 ", asOf=" + asOf +
                 ", expireOn=" + expireOn +
-                ", payload=" + payload +
+                ", payload=" + getPayload() +
                 '}';
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.plan;
+
+import com.societegenerale.failover.annotations.Failover;
+import com.societegenerale.failover.core.expiry.ExpiryPolicy;
+import com.societegenerale.failover.core.key.KeyGenerator;
+import com.societegenerale.failover.core.payload.splitter.PayloadSplitter;
+import lombok.Builder;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Method;
+
+import static com.societegenerale.failover.core.util.CastingUtils.cast;
+
+/**
+ * Immutable, pre-compiled execution plan for one intercepted {@code @Failover} method.
+ *
+ * <p>Built once per {@link Method} by {@link FailoverPlanner} and reused on every call, so the hot
+ * path no longer re-resolves the {@link KeyGenerator}, {@link ExpiryPolicy} and
+ * {@link PayloadSplitter} through their bean-factory lookups, nor rebuilds the effective name
+ * and method id.
+ *
+ * <p>The {@code keyGenerator} produces <em>final</em> store keys (the same UUIDs
+ * {@link com.societegenerale.failover.core.key.FailoverKeyGenerator#key} would produce).
+ * {@code payloadSplitter} is {@code null} when the method is not scatter/gather or when the
+ * splitter could not be resolved at plan time (callers then fall back to the per-call lookup,
+ * which reports the error as before).
+ *
+ * @author Anand Manissery
+ * @see FailoverPlanner
+ */
+@Builder
+@Value
+public class FailoverPlan {
+
+    Failover failover;
+
+    Method method;
+
+    /** Erased return type of {@link #method}, used as the recovery target type. */
+    Class<?> returnType;
+
+    /** {@link Failover#name()} — the metric name. */
+    String name;
+
+    /** {@code domain} when non-blank, otherwise {@code name} — the store referential. */
+    String effectiveName;
+
+    /** {@code SimpleClassName#methodName} — the {@code method} metric tag. */
+    String methodId;
+
+    KeyGenerator keyGenerator;
+
+    ExpiryPolicy<?> expiryPolicy;
+
+    @Nullable
+    PayloadSplitter<?, ?> payloadSplitter;
+
+    /**
+     * @param <T> the payload type governed by the policy
+     * @return the resolved expiry policy for this method
+     */
+    public <T> ExpiryPolicy<T> getExpiryPolicy() {
+        return cast(expiryPolicy);
+    }
+
+    /**
+     * @param <T> the composite payload type
+     * @param <R> the slice payload type
+     * @return the resolved payload splitter, or {@code null} if none was resolved at plan time
+     */
+    public <T, R> @Nullable PayloadSplitter<T, R> getPayloadSplitter() {
+        return cast(payloadSplitter);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.plan;
+
+import com.societegenerale.failover.annotations.Failover;
+import com.societegenerale.failover.core.expiry.ExpiryPolicy;
+import com.societegenerale.failover.core.expiry.FailoverExpiryPolicy;
+import com.societegenerale.failover.core.key.FailoverKeyGenerator;
+import com.societegenerale.failover.core.key.KeyGenerator;
+import com.societegenerale.failover.core.payload.splitter.PayloadSplitter;
+import com.societegenerale.failover.core.payload.splitter.PayloadSplitterLookup;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.societegenerale.failover.core.util.CommonsUtil.methodId;
+import static com.societegenerale.failover.core.util.FailoverNameResolver.effectiveName;
+
+/**
+ * Compiles and caches one {@link FailoverPlan} per intercepted {@link Method}.
+ *
+ * <p>Resolution happens on the first call of each method (the application context is fully started
+ * by then) and the plan is reused for the lifetime of the planner:
+ * <ul>
+ *   <li>the composite {@link FailoverKeyGenerator} is {@linkplain FailoverKeyGenerator#bind bound}
+ *       to the annotation, so the named/default generator and the key prefix are resolved once;</li>
+ *   <li>the composite {@link FailoverExpiryPolicy} is {@linkplain FailoverExpiryPolicy#resolve resolved}
+ *       to the named/default policy;</li>
+ *   <li>the named {@link PayloadSplitter} is looked up when {@code payloadSplitter} is set.</li>
+ * </ul>
+ * Custom (non-composite) key generators and expiry policies are kept as-is and keep their own
+ * per-call semantics.
+ *
+ * <p>A resolution failure (e.g. an unknown qualifier) never fails the intercepted call: it is logged
+ * at {@code WARN} and the plan falls back to the composite, which reports the same error on every
+ * store/recover exactly as before — caught and logged by the execution, impacting only the failover flow.
+ *
+ * @author Anand Manissery
+ * @see FailoverPlan
+ */
+@Slf4j
+public class FailoverPlanner {
+
+    private final Map<Method, FailoverPlan> plans = new ConcurrentHashMap<>();
+
+    private final KeyGenerator keyGenerator;
+
+    private final ExpiryPolicy<?> expiryPolicy;
+
+    private final PayloadSplitterLookup<?, ?> payloadSplitterLookup;
+
+    /**
+     * @param keyGenerator          the composite key generator ({@code failoverKeyGenerator})
+     * @param expiryPolicy          the composite expiry policy ({@code failoverExpiryPolicy})
+     * @param payloadSplitterLookup lookup for named payload splitters
+     */
+    public FailoverPlanner(KeyGenerator keyGenerator, ExpiryPolicy<?> expiryPolicy, PayloadSplitterLookup<?, ?> payloadSplitterLookup) {
+        this.keyGenerator = keyGenerator;
+        this.expiryPolicy = expiryPolicy;
+        this.payloadSplitterLookup = payloadSplitterLookup;
+    }
+
+    /**
+     * Returns the plan for {@code method}, compiling it on first use.
+     *
+     * @param failover the {@code @Failover} annotation of {@code method}
+     * @param method   the intercepted method
+     * @return the cached plan (never {@code null})
+     */
+    public FailoverPlan plan(Failover failover, Method method) {
+        FailoverPlan plan = plans.get(method);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(method, m -> compile(failover, m));
+        }
+        return plan;
+    }
+
+    /** @return the number of compiled plans (one per intercepted method seen so far) */
+    public int size() {
+        return plans.size();
+    }
+
+    private FailoverPlan compile(Failover failover, Method method) {
+        String effectiveName = effectiveName(failover);
+        String methodId = methodId(method);
+        FailoverPlan plan = FailoverPlan.builder()
+                .failover(failover)
+                .method(method)
+                .returnType(method.getReturnType())
+                .name(failover.name())
+                .effectiveName(effectiveName)
+                .methodId(methodId)
+                .keyGenerator(bindKeyGenerator(failover))
+                .expiryPolicy(resolveExpiryPolicy(failover))
+                .payloadSplitter(lookupPayloadSplitter(failover))
+                .build();
+        log.debug("Failover : Compiled execution plan for '{}' on {}", failover.name(), methodId);
+        return plan;
+    }
+
+    private KeyGenerator bindKeyGenerator(Failover failover) {
+        if (keyGenerator instanceof FailoverKeyGenerator failoverKeyGenerator) {
+            try {
+                return failoverKeyGenerator.bind(failover);
+            } catch (RuntimeException exception) {
+                log.warn("Failover : Could not resolve the key generator for failover '{}' at plan time, falling back to per-call resolution. {}", failover.name(), exception.getMessage());
+            }
+        }
+        return keyGenerator;
+    }
+
+    private ExpiryPolicy<?> resolveExpiryPolicy(Failover failover) {
+        if (expiryPolicy instanceof FailoverExpiryPolicy<?> failoverExpiryPolicy) {
+            try {
+                return failoverExpiryPolicy.resolve(failover);
+            } catch (RuntimeException exception) {
+                log.warn("Failover : Could not resolve the expiry policy for failover '{}' at plan time, falling back to per-call resolution. {}", failover.name(), exception.getMessage());
+            }
+        }
+        return expiryPolicy;
+    }
+
+    private @Nullable PayloadSplitter<?, ?> lookupPayloadSplitter(Failover failover) {
+        if (failover.payloadSplitter().isEmpty()) {
+            return null;
+        }
+        try {
+            return payloadSplitterLookup.lookup(failover.payloadSplitter());
+        } catch (RuntimeException exception) {
+            log.warn("Failover : Could not resolve the payload splitter for failover '{}' at plan time, falling back to per-call resolution. {}", failover.name(), exception.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Per-method execution plans for intercepted {@code @Failover} methods.
+ *
+ * <p>{@link com.societegenerale.failover.core.plan.FailoverPlanner} compiles a
+ * {@link com.societegenerale.failover.core.plan.FailoverPlan} once per
+ * {@link java.lang.reflect.Method}, resolving the key generator, expiry policy, payload splitter,
+ * effective name and method id up front so the per-call path does no bean lookups or
+ * string building.
+ */
+package com.societegenerale.failover.core.plan;
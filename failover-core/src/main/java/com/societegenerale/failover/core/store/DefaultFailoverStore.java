@@ -21,9 +21,12 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static com.societegenerale.failover.core.util.CommonsUtil.closeQuietly;
 import static java.lang.Boolean.FALSE;
 
 /**
@@ -37,7 +40,7 @@ import static java.lang.Boolean.FALSE;
  * @param <T> the type of the payload held by each referential entry
  */
 @RequiredArgsConstructor
-public class DefaultFailoverStore<T> implements FailoverStore<T>, FailoverStoreSizeAware {
+public class DefaultFailoverStore<T> implements FailoverStore<T>, FailoverStoreSizeAware, AutoCloseable {
 
     @Getter
     private final FailoverStore<T> failoverStore;
@@ -54,6 +57,31 @@ public class DefaultFailoverStore<T> implements FailoverStore<T>, FailoverStoreS
         failoverStore.store(referentialPayload.copy().withUpToDate(FALSE));
     }
 
+    /**
+     * Stores copies of the given payloads with {@code upToDate} forced to {@code false},
+     * then delegates them to the underlying store in a single call.
+     *
+     * @param referentialPayloads the payloads to persist; must not be {@code null}
+     * @throws FailoverStoreException if the delegate store operation fails
+     */
+    @Override
+    public void storeAll(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        failoverStore.storeAll(referentialPayloads.stream().map(r -> r.copy().withUpToDate(FALSE)).toList());
+    }
+
+    /**
+     * Touches a copy of the given payload with {@code upToDate} forced to {@code false},
+     * then delegates to the underlying store.
+     *
+     * @param referentialPayload the payload carrying the new {@code asOf}/{@code expireOn}; must not be {@code null}
+     * @param writtenExpireOn    the {@code expireOn} the caller last wrote the entry with
+     * @throws FailoverStoreException if the delegate store operation fails
+     */
+    @Override
+    public void touch(ReferentialPayload<T> referentialPayload, Instant writtenExpireOn) throws FailoverStoreException {
+        failoverStore.touch(referentialPayload.copy().withUpToDate(FALSE), writtenExpireOn);
+    }
+
     /**
      * Deletes a copy of the given payload with {@code upToDate} forced to {@code false},
      * then delegates to the underlying store.
@@ -66,6 +94,18 @@ public class DefaultFailoverStore<T> implements FailoverStore<T>, FailoverStoreS
         failoverStore.delete(referentialPayload.copy().withUpToDate(FALSE));
     }
 
+    /**
+     * Delegates the conditional delete of expired entries directly to the underlying store; the entries are only
+     * read by it, so no copy is taken.
+     *
+     * @param referentialPayloads the expired payloads, as read from the store
+     * @throws FailoverStoreException if the delegate delete operation fails
+     */
+    @Override
+    public void deleteExpired(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        failoverStore.deleteExpired(referentialPayloads);
+    }
+
     /**
      * Looks up a payload by name and key, returning a copy with {@code upToDate} forced to
      * {@code false} if found.
@@ -80,6 +120,21 @@ public class DefaultFailoverStore<T> implements FailoverStore<T>, FailoverStoreS
         return failoverStore.find(name, key).map(r -> r.copy().withUpToDate(FALSE));
     }
 
+    /**
+     * Looks up an unexpired payload by name and key, returning a copy with {@code upToDate} forced to
+     * {@code false} if found. The cutoff is passed on, so the underlying store filters expired entries out.
+     *
+     * @param name          the referential name
+     * @param key           the unique key within that referential
+     * @param expiredBefore entries expiring before this instant are left out
+     * @return an {@link Optional} containing a defensive copy with {@code upToDate=false}, or empty if not found or expired
+     * @throws FailoverStoreException if the delegate lookup operation fails
+     */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.find(name, key, expiredBefore).map(r -> r.copy().withUpToDate(FALSE));
+    }
+
     /**
      * Returns all payloads for the given name, each as a defensive copy with {@code upToDate}
      * forced to {@code false}.
@@ -97,6 +152,49 @@ public class DefaultFailoverStore<T> implements FailoverStore<T>, FailoverStoreS
         return failoverStore.findAll(name).stream().map(r -> r.copy().withUpToDate(FALSE)).toList();
     }
 
+    /**
+     * Streams all payloads for the given name, each as a defensive copy with {@code upToDate} forced to
+     * {@code false}. Closing the returned stream closes the delegate's.
+     *
+     * @param name          the referential name
+     * @param expiredBefore entries expiring before this instant may come without their payload
+     * @return a stream of defensive copies with {@code upToDate=false}
+     * @throws FailoverStoreException if the delegate lookup operation fails
+     */
+    @Override
+    public Stream<ReferentialPayload<T>> streamAll(String name, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.streamAll(name, expiredBefore).map(r -> r.copy().withUpToDate(FALSE));
+    }
+
+    /**
+     * Returns the payloads found for the given name and keys, each as a defensive copy with
+     * {@code upToDate} forced to {@code false}.
+     *
+     * @param name the referential name
+     * @param keys the keys to look up
+     * @return defensive copies of the payloads found with {@code upToDate=false}, or an empty list
+     * @throws FailoverStoreException if the delegate lookup operation fails
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys) throws FailoverStoreException {
+        return failoverStore.findAll(name, keys).stream().map(r -> r.copy().withUpToDate(FALSE)).toList();
+    }
+
+    /**
+     * Returns the unexpired payloads found for the given name and keys, each as a defensive copy with
+     * {@code upToDate} forced to {@code false}. The cutoff is passed on to the underlying store.
+     *
+     * @param name          the referential name
+     * @param keys          the keys to look up
+     * @param expiredBefore entries expiring before this instant are left out
+     * @return defensive copies of the unexpired payloads found with {@code upToDate=false}, or an empty list
+     * @throws FailoverStoreException if the delegate lookup operation fails
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.findAll(name, keys, expiredBefore).stream().map(r -> r.copy().withUpToDate(FALSE)).toList();
+    }
+
     /**
      * Delegates expiry-based cleanup directly to the underlying store without modification.
      *
@@ -119,4 +217,10 @@ public class DefaultFailoverStore<T> implements FailoverStore<T>, FailoverStoreS
     public boolean liveEntryCountSupported() {
         return failoverStore instanceof FailoverStoreSizeAware sizeAware && sizeAware.liveEntryCountSupported();
     }
-}
\ No newline at end of file
+
+    /** Closes the wrapped store, so a stage below it with pending work (deferred deletes, write-behind) can finish it. */
+    @Override
+    public void close() {
+        closeQuietly(failoverStore);
+    }
+}
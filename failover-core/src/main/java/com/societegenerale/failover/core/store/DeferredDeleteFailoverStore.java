@@ -0,0 +1,272 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.societegenerale.failover.core.store;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static com.societegenerale.failover.core.util.CommonsUtil.closeQuietly;
+
+/**
+ * {@link FailoverStore} decorator that takes the removal of expired entries off the recovering thread.
+ *
+ * <p>{@link #deleteExpired} only queues the entries; a drain task, started on the executor when the first entry is
+ * queued, hands everything queued by then to the delegate's {@link FailoverStore#deleteExpired} in one call, and
+ * starts again while entries keep coming. A recover that finds an expired entry thus costs no write round trip,
+ * and a burst of them ends up in a few batched deletes. Every other operation — including {@link #delete} —
+ * delegates as-is, on the calling thread.
+ *
+ * <p>The queue holds at most {@code maxPendingDeletes} entries. An entry queued while it is full, or while the
+ * executor refuses the drain, is dropped: it stays in the store until the expiry cleanup removes it, and reads
+ * already leave it out. A failed drain is logged and its entries left to the cleanup the same way.
+ *
+ * <p>{@link #close()} waits for a running drain, deletes what is still queued on the closing thread, then closes
+ * the delegate; entries handed over afterwards are deleted on the calling thread.
+ *
+ * @param <T> the type of the payload held by each referential entry
+ * @author Anand Manissery
+ */
+@Slf4j
+public class DeferredDeleteFailoverStore<T> implements FailoverStore<T>, FailoverStoreSizeAware, AutoCloseable {
+
+    /** Default number of expired entries that may wait for their delete. */
+    public static final int DEFAULT_MAX_PENDING_DELETES = 10_000;
+
+    @Getter
+    private final FailoverStore<T> failoverStore;
+
+    private final Executor executor;
+
+    private final BlockingQueue<ReferentialPayload<T>> pending;
+
+    /** {@code true} while a drain task is submitted or running. */
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /** Serialises a drain with the final one run by {@link #close()}. */
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    private final LongAdder droppedDeletes = new LongAdder();
+
+    private volatile boolean closed;
+
+    /**
+     * Queues up to {@value #DEFAULT_MAX_PENDING_DELETES} entries and drains them on a new virtual thread.
+     *
+     * @param failoverStore the delegate store
+     */
+    public DeferredDeleteFailoverStore(FailoverStore<T> failoverStore) {
+        this(failoverStore, DEFAULT_MAX_PENDING_DELETES);
+    }
+
+    /**
+     * Drains the queued entries on a new virtual thread.
+     *
+     * @param failoverStore     the delegate store
+     * @param maxPendingDeletes entries that may wait for their delete; must be {@code > 0}
+     */
+    public DeferredDeleteFailoverStore(FailoverStore<T> failoverStore, int maxPendingDeletes) {
+        this(failoverStore, maxPendingDeletes, task -> Thread.ofVirtual().name("failover-deferred-delete").start(task));
+    }
+
+    /**
+     * @param failoverStore     the delegate store
+     * @param maxPendingDeletes entries that may wait for their delete; must be {@code > 0}
+     * @param executor          runs the drain tasks
+     */
+    public DeferredDeleteFailoverStore(FailoverStore<T> failoverStore, int maxPendingDeletes, Executor executor) {
+        if (maxPendingDeletes <= 0) {
+            throw new IllegalArgumentException("maxPendingDeletes must be > 0, but was " + maxPendingDeletes);
+        }
+        this.failoverStore = failoverStore;
+        this.pending = new ArrayBlockingQueue<>(maxPendingDeletes);
+        this.executor = executor;
+    }
+
+    /** Queues the expired entries for the next drain; entries that do not fit are dropped. */
+    @Override
+    public void deleteExpired(List<ReferentialPayload<T>> referentialPayloads) {
+        if (closed) {
+            failoverStore.deleteExpired(referentialPayloads);
+            return;
+        }
+        for (ReferentialPayload<T> referentialPayload : referentialPayloads) {
+            if (!pending.offer(referentialPayload)) {
+                droppedDeletes.increment();
+                log.debug("Deferred delete queue full, expired entry left to the expiry cleanup: name='{}', key='{}'",
+                        referentialPayload.getName(), referentialPayload.getKey());
+            }
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (pending.isEmpty() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            List<ReferentialPayload<T>> dropped = new ArrayList<>();
+            pending.drainTo(dropped);
+            droppedDeletes.add(dropped.size());
+            log.warn("Deferred delete rejected by its executor, {} expired entries left to the expiry cleanup. Cause: {}",
+                    dropped.size(), e.getMessage());
+        }
+    }
+
+    private void drain() {
+        try {
+            deletePending();
+        } finally {
+            draining.set(false);
+        }
+        // entries queued while this drain ran found it in progress and did not start one
+        if (!closed) {
+            scheduleDrain();
+        }
+    }
+
+    private void deletePending() {
+        List<ReferentialPayload<T>> batch = new ArrayList<>();
+        drainLock.lock();
+        try {
+            pending.drainTo(batch);
+            if (!batch.isEmpty()) {
+                failoverStore.deleteExpired(batch);
+                log.debug("Deferred delete of {} expired entries done", batch.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Deferred delete of {} expired entries failed, left to the expiry cleanup. Cause: {}", batch.size(), e.getMessage());
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Stops deferring: waits for a running drain, deletes the entries still queued on the calling thread, and
+     * closes the delegate.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        deletePending();
+        closeQuietly(failoverStore);
+    }
+
+    /** @return the number of expired entries waiting for their delete */
+    public int pendingDeletes() {
+        return pending.size();
+    }
+
+    /** @return the number of expired entries dropped because the queue was full or the executor refused the drain */
+    public long droppedDeletes() {
+        return droppedDeletes.sum();
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void store(ReferentialPayload<T> referentialPayload) throws FailoverStoreException {
+        failoverStore.store(referentialPayload);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void storeAll(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        failoverStore.storeAll(referentialPayloads);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void touch(ReferentialPayload<T> referentialPayload, Instant writtenExpireOn) throws FailoverStoreException {
+        failoverStore.touch(referentialPayload, writtenExpireOn);
+    }
+
+    /** Delegates as-is: an unconditional delete is never deferred. */
+    @Override
+    public void delete(ReferentialPayload<T> referentialPayload) throws FailoverStoreException {
+        failoverStore.delete(referentialPayload);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key) throws FailoverStoreException {
+        return failoverStore.find(name, key);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.find(name, key, expiredBefore);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name) throws FailoverStoreException {
+        return failoverStore.findAll(name);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public Stream<ReferentialPayload<T>> streamAll(String name, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.streamAll(name, expiredBefore);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys) throws FailoverStoreException {
+        return failoverStore.findAll(name, keys);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.findAll(name, keys, expiredBefore);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void cleanByExpiry(Instant expiry) throws FailoverStoreException {
+        failoverStore.cleanByExpiry(expiry);
+    }
+
+    /** Forwards the live entry count to the delegate when it is size-aware; otherwise reports 0. */
+    @Override
+    public long liveEntryCount(String name) {
+        return failoverStore instanceof FailoverStoreSizeAware sizeAware ? sizeAware.liveEntryCount(name) : 0L;
+    }
+
+    /** Live counting is supported only when the delegate supports it. */
+    @Override
+    public boolean liveEntryCountSupported() {
+        return failoverStore instanceof FailoverStoreSizeAware sizeAware && sizeAware.liveEntryCountSupported();
+    }
+}
@@ -19,8 +19,11 @@ package com.societegenerale.failover.core.store;
 import com.societegenerale.failover.core.payload.ReferentialPayload;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Persistence contract for failover referential data.
@@ -42,6 +45,54 @@ public interface FailoverStore<T> {
      */
     void store(ReferentialPayload<T> referentialPayload) throws FailoverStoreException;
 
+    /**
+     * Persists or updates several referential payload entries at once.
+     *
+     * <p>The default implementation calls {@link #store} once per payload; stores that can write several
+     * entries in a single round trip (e.g. {@code FailoverStoreJdbc}) override it. Used by the scatter path,
+     * which stores every slice of a composite payload together, and by buffered writers flushing many entries.
+     *
+     * <p>A payload that cannot be written does not stop the others: every payload that can be written is,
+     * then a {@link FailoverStoreBatchException} names the ones that failed.
+     *
+     * @param referentialPayloads the payloads to store; must not be {@code null}, may be empty
+     * @throws FailoverStoreBatchException if some payloads could not be stored
+     * @throws FailoverStoreException      if the underlying store operation fails
+     */
+    default void storeAll(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        List<ReferentialPayload<T>> failed = new ArrayList<>();
+        RuntimeException firstFailure = null;
+        for (ReferentialPayload<T> referentialPayload : referentialPayloads) {
+            try {
+                store(referentialPayload);
+            } catch (RuntimeException e) {
+                firstFailure = firstFailure == null ? e : firstFailure;
+                failed.add(referentialPayload);
+            }
+        }
+        if (firstFailure != null) {
+            throw new FailoverStoreBatchException(failed, firstFailure);
+        }
+    }
+
+    /**
+     * Refreshes the {@code asOf} and {@code expireOn} of an entry whose payload is known to be unchanged since the
+     * caller wrote it, without rewriting the payload itself. The entry is only touched while the store still holds
+     * it with the {@code expireOn} the caller last wrote: when it no longer exists, or was rewritten or touched by
+     * another writer since (e.g. another instance sharing the store), it is written in full, as {@link #store}
+     * would.
+     *
+     * <p>The default implementation simply delegates to {@link #store}; stores where rewriting the payload
+     * is costly (e.g. {@code FailoverStoreJdbc}) override it with a metadata-only update.
+     *
+     * @param referentialPayload the payload carrying the new {@code asOf}/{@code expireOn}; must not be {@code null}
+     * @param writtenExpireOn    the {@code expireOn} the caller last wrote the entry with
+     * @throws FailoverStoreException if the underlying store operation fails
+     */
+    default void touch(ReferentialPayload<T> referentialPayload, Instant writtenExpireOn) throws FailoverStoreException {
+        store(referentialPayload);
+    }
+
     /**
      * Removes a referential payload entry from the store.
      *
@@ -50,6 +101,26 @@ public interface FailoverStore<T> {
      */
     void delete(ReferentialPayload<T> referentialPayload) throws FailoverStoreException;
 
+    /**
+     * Removes entries that were read from the store and found expired, each only while the store still holds it
+     * with the same {@code expireOn}: an entry rewritten or touched since it was read is kept.
+     *
+     * <p>Used by the recover path, which may remove expired entries after the read — in the background, or batched
+     * at the end of a recover-all — when a successful call may meanwhile have refreshed them. The default
+     * implementation re-reads each entry and deletes it when its {@code expireOn} is unchanged; stores that can
+     * make the check part of the delete (e.g. {@code FailoverStoreJdbc}, in one batch) override it.
+     *
+     * @param referentialPayloads the expired entries, as read from the store; must not be {@code null}, may be empty
+     * @throws FailoverStoreException if the underlying delete operation fails
+     */
+    default void deleteExpired(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        for (ReferentialPayload<T> referentialPayload : referentialPayloads) {
+            find(referentialPayload.getName(), referentialPayload.getKey())
+                    .filter(stored -> stored.getExpireOn().equals(referentialPayload.getExpireOn()))
+                    .ifPresent(this::delete);
+        }
+    }
+
     /**
      * Looks up a referential payload by its logical name and key.
      *
@@ -67,6 +138,25 @@ public interface FailoverStore<T> {
      */
     Optional<ReferentialPayload<T>> find(String name, String key) throws FailoverStoreException;
 
+    /**
+     * Looks up a referential payload by its logical name and key, leaving it out when its {@code expireOn} is
+     * before {@code expiredBefore}.
+     *
+     * <p>Used by the recover path, so an entry already expired is neither copied nor deserialized. The default
+     * implementation filters the result of {@link #find(String, String)}; stores that can filter while reading
+     * (e.g. {@code FailoverStoreJdbc}, with {@code EXPIRE_ON >= ?} in its query) override it.
+     * Same defensive-copy contract as {@link #find(String, String)}.
+     *
+     * @param name          the referential name
+     * @param key           the unique key within that referential
+     * @param expiredBefore entries expiring before this instant are left out
+     * @return an {@link Optional} containing the stored payload, or empty if not found or expired
+     * @throws FailoverStoreException if the underlying lookup operation fails
+     */
+    default Optional<ReferentialPayload<T>> find(String name, String key, Instant expiredBefore) throws FailoverStoreException {
+        return find(name, key).filter(referentialPayload -> !referentialPayload.getExpireOn().isBefore(expiredBefore));
+    }
+
     /**
      * Looks up every referential payload stored under the given logical name.
      *
@@ -86,6 +176,70 @@ public interface FailoverStore<T> {
      */
     List<ReferentialPayload<T>> findAll(String name) throws FailoverStoreException;
 
+    /**
+     * Streams every referential payload stored under the given logical name.
+     *
+     * <p>Used by the recover-all path instead of {@link #findAll(String)}: entries are produced as the caller
+     * consumes them, so a large referential is never held in memory as a whole. The default implementation
+     * streams over {@link #findAll(String)}; stores that can read incrementally (e.g. {@code FailoverStoreJdbc},
+     * with a database cursor) override it.
+     *
+     * <p>An entry whose {@code expireOn} is before {@code expiredBefore} is expired for the caller anyway, so a
+     * store may return it without materializing its payload: its name, key, {@code asOf} and {@code expireOn}
+     * are set and its {@code payload} is {@code null}.
+     *
+     * <p><strong>Implementation contract:</strong> like {@link #findAll(String)}, each entry must be a defensive
+     * copy. The stream may hold a store resource (e.g. a JDBC connection): callers must close it, typically with
+     * try-with-resources. Ordering is unspecified.
+     *
+     * @param name          the referential name whose entries should be returned
+     * @param expiredBefore entries expiring before this instant may be returned without their payload
+     * @return a stream of defensive copies of the stored payloads, empty if none match
+     * @throws FailoverStoreException if the underlying lookup operation fails
+     */
+    default Stream<ReferentialPayload<T>> streamAll(String name, Instant expiredBefore) throws FailoverStoreException {
+        return findAll(name).stream();
+    }
+
+    /**
+     * Looks up the referential payloads stored under the given logical name for each of the given keys.
+     *
+     * <p>Used by the gather path, which recovers every slice of a composite payload together. The default
+     * implementation calls {@link #find} once per key; stores that can read several entries in a single
+     * round trip (e.g. {@code FailoverStoreJdbc}) override it.
+     *
+     * <p><strong>Implementation contract:</strong> like {@link #find}, each returned entry must be a
+     * defensive copy. Keys without an entry are left out, so the returned list may be shorter than
+     * {@code keys}; callers match entries back to keys by their {@code key}.
+     * Ordering is unspecified.
+     *
+     * @param name the referential name
+     * @param keys the keys to look up within that referential; must not be {@code null}, may be empty
+     * @return a list of defensive copies of the stored payloads found, or an empty list if none
+     * @throws FailoverStoreException if the underlying lookup operation fails
+     */
+    default List<ReferentialPayload<T>> findAll(String name, Collection<String> keys) throws FailoverStoreException {
+        return keys.stream().map(key -> find(name, key)).flatMap(Optional::stream).toList();
+    }
+
+    /**
+     * Looks up the referential payloads stored under the given logical name for each of the given keys, leaving
+     * out the ones whose {@code expireOn} is before {@code expiredBefore}.
+     *
+     * <p>Used by the gather path. The default implementation filters the result of
+     * {@link #findAll(String, Collection)}; stores that can filter while reading override it. Same contract as
+     * {@link #findAll(String, Collection)} otherwise.
+     *
+     * @param name          the referential name
+     * @param keys          the keys to look up within that referential; must not be {@code null}, may be empty
+     * @param expiredBefore entries expiring before this instant are left out
+     * @return a list of defensive copies of the unexpired payloads found, or an empty list if none
+     * @throws FailoverStoreException if the underlying lookup operation fails
+     */
+    default List<ReferentialPayload<T>> findAll(String name, Collection<String> keys, Instant expiredBefore) throws FailoverStoreException {
+        return findAll(name, keys).stream().filter(referentialPayload -> !referentialPayload.getExpireOn().isBefore(expiredBefore)).toList();
+    }
+
     /**
      * Evicts all entries whose expiry instant is before the given cutoff.
      *
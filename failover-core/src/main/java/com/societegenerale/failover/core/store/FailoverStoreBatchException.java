@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.societegenerale.failover.core.store;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Thrown by {@link FailoverStore#storeAll} when some payloads of the batch could not be written while the others
+ * were. Carries the failed payloads, so callers can tell them apart from the ones that made it to the store.
+ *
+ * @author Anand Manissery
+ */
+@Getter
+public class FailoverStoreBatchException extends FailoverStoreException {
+
+    /** The payloads that were not written, in batch order. */
+    private final transient List<ReferentialPayload<?>> failedPayloads;
+
+    /**
+     * Creates an exception for the given failed payloads.
+     *
+     * @param failedPayloads the payloads that were not written; must not be empty
+     * @param cause          the failure of the first failed payload
+     */
+    public FailoverStoreBatchException(List<? extends ReferentialPayload<?>> failedPayloads, Throwable cause) {
+        super(failedPayloads.size() + " payload(s) of the batch could not be stored", cause);
+        this.failedPayloads = List.copyOf(failedPayloads);
+    }
+}
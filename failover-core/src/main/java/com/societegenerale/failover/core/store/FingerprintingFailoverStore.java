@@ -0,0 +1,314 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.store;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static com.societegenerale.failover.core.util.CommonsUtil.closeQuietly;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * {@link FailoverStore} decorator that skips rewriting payloads that did not change since their last write.
+ *
+ * <p>On {@link #store}, the payload is rendered by a {@link PayloadCanonicalizer} and hashed (SHA-256, together
+ * with the payload class). When the hash matches the one recorded for the same {@code (name, key)} at the last
+ * write, the delegate is only {@link FailoverStore#touch touched} — {@code asOf} and {@code expireOn} move on,
+ * the payload is not rewritten. Otherwise the payload is stored in full and its hash recorded.
+ *
+ * <p>The hashes are kept locally, in a bounded map that is reset once full, each with the {@code expireOn} this
+ * store last wrote the entry with. A hash that is missing or stale only costs a full write. The touch only applies
+ * while the delegate still holds the entry with that {@code expireOn}: an entry removed behind this store's back
+ * (expiry cleanup) or rewritten by another instance sharing the persistent store is written in full, so a payload
+ * another instance wrote meanwhile is never kept under a refreshed {@code asOf}.
+ *
+ * @param <T> the type of the payload held by each referential entry
+ * @author Anand Manissery
+ */
+@Slf4j
+public class FingerprintingFailoverStore<T> implements FailoverStore<T>, FailoverStoreSizeAware, AutoCloseable {
+
+    /** Default number of entries whose fingerprint is tracked. */
+    public static final int DEFAULT_MAX_TRACKED_ENTRIES = 100_000;
+
+    private static final String ALGORITHM = "SHA-256";
+
+    /** Identifies a stored entry. */
+    private record Entry(String name, String key) {
+    }
+
+    /** The fingerprint of the payload last written for an entry, and the {@code expireOn} it was written with. */
+    private record Written(byte[] fingerprint, Instant expireOn) {
+
+        private boolean sameContent(byte[] other) {
+            return MessageDigest.isEqual(fingerprint, other);
+        }
+    }
+
+    @Getter
+    private final FailoverStore<T> failoverStore;
+
+    private final PayloadCanonicalizer canonicalizer;
+
+    private final int maxTrackedEntries;
+
+    /** Entry → fingerprint of the payload last written for it. */
+    private final Map<Entry, Written> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * @param failoverStore the delegate store
+     * @param canonicalizer renders payloads for hashing
+     */
+    public FingerprintingFailoverStore(FailoverStore<T> failoverStore, PayloadCanonicalizer canonicalizer) {
+        this(failoverStore, canonicalizer, DEFAULT_MAX_TRACKED_ENTRIES);
+    }
+
+    /**
+     * @param failoverStore     the delegate store
+     * @param canonicalizer     renders payloads for hashing
+     * @param maxTrackedEntries entries tracked before the map is reset; must be {@code > 0}
+     */
+    public FingerprintingFailoverStore(FailoverStore<T> failoverStore, PayloadCanonicalizer canonicalizer, int maxTrackedEntries) {
+        if (maxTrackedEntries <= 0) {
+            throw new IllegalArgumentException("maxTrackedEntries must be > 0, but was " + maxTrackedEntries);
+        }
+        this.failoverStore = failoverStore;
+        this.canonicalizer = canonicalizer;
+        this.maxTrackedEntries = maxTrackedEntries;
+    }
+
+    /**
+     * Touches the entry when its payload is unchanged since the last write, otherwise stores it in full.
+     *
+     * @param referentialPayload the payload to persist; must not be {@code null}
+     * @throws FailoverStoreException if the delegate store operation fails
+     */
+    @Override
+    public void store(ReferentialPayload<T> referentialPayload) throws FailoverStoreException {
+        var entry = new Entry(referentialPayload.getName(), referentialPayload.getKey());
+        byte[] fingerprint = fingerprintOf(referentialPayload.getPayload());
+        if (fingerprint == null) {
+            fingerprints.remove(entry);
+            failoverStore.store(referentialPayload);
+            return;
+        }
+        Written previous = fingerprints.get(entry);
+        try {
+            if (previous != null && previous.sameContent(fingerprint)) {
+                log.debug("Failover Store : payload unchanged for '{}', touching expiry only", referentialPayload.getName());
+                failoverStore.touch(referentialPayload, previous.expireOn());
+            } else {
+                failoverStore.store(referentialPayload);
+            }
+        } catch (RuntimeException e) {
+            fingerprints.remove(entry);
+            throw e;
+        }
+        record(entry, previous, new Written(fingerprint, referentialPayload.getExpireOn()));
+    }
+
+    /**
+     * Touches the entries whose payload is unchanged since the last write, one by one, and stores the others in
+     * full with a single {@link FailoverStore#storeAll} on the delegate. When the delegate names the payloads it
+     * could not store, only their fingerprints are forgotten.
+     *
+     * @param referentialPayloads the payloads to persist; must not be {@code null}
+     * @throws FailoverStoreException if a delegate store operation fails
+     */
+    @Override
+    public void storeAll(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        List<ReferentialPayload<T>> changed = new ArrayList<>(referentialPayloads.size());
+        List<byte @Nullable []> changedFingerprints = new ArrayList<>(referentialPayloads.size());
+        for (ReferentialPayload<T> referentialPayload : referentialPayloads) {
+            var entry = new Entry(referentialPayload.getName(), referentialPayload.getKey());
+            byte[] fingerprint = fingerprintOf(referentialPayload.getPayload());
+            Written previous = fingerprints.get(entry);
+            if (fingerprint != null && previous != null && previous.sameContent(fingerprint)) {
+                touchUnchanged(entry, previous, referentialPayload);
+            } else {
+                changed.add(referentialPayload);
+                changedFingerprints.add(fingerprint);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        FailoverStoreBatchException partialFailure = null;
+        try {
+            failoverStore.storeAll(changed);
+        } catch (FailoverStoreBatchException e) {
+            partialFailure = e;
+        } catch (RuntimeException e) {
+            changed.forEach(p -> fingerprints.remove(new Entry(p.getName(), p.getKey())));
+            throw e;
+        }
+        List<ReferentialPayload<?>> failed = partialFailure == null ? List.of() : partialFailure.getFailedPayloads();
+        for (int i = 0; i < changed.size(); i++) {
+            var entry = new Entry(changed.get(i).getName(), changed.get(i).getKey());
+            byte[] fingerprint = changedFingerprints.get(i);
+            if (fingerprint == null || failed.contains(changed.get(i))) {
+                fingerprints.remove(entry);
+            } else {
+                record(entry, fingerprints.get(entry), new Written(fingerprint, changed.get(i).getExpireOn()));
+            }
+        }
+        if (partialFailure != null) {
+            throw partialFailure;
+        }
+    }
+
+    private void touchUnchanged(Entry entry, Written previous, ReferentialPayload<T> referentialPayload) {
+        log.debug("Failover Store : payload unchanged for '{}', touching expiry only", referentialPayload.getName());
+        try {
+            failoverStore.touch(referentialPayload, previous.expireOn());
+        } catch (RuntimeException e) {
+            fingerprints.remove(entry);
+            throw e;
+        }
+        record(entry, previous, new Written(previous.fingerprint(), referentialPayload.getExpireOn()));
+    }
+
+    private void record(Entry entry, @Nullable Written previous, Written written) {
+        if (previous == null && fingerprints.size() >= maxTrackedEntries) {
+            log.debug("Failover Store : {} fingerprints tracked, resetting", fingerprints.size());
+            fingerprints.clear();
+        }
+        fingerprints.put(entry, written);
+    }
+
+    /**
+     * Forgets the entry's fingerprint, then delegates: the {@code expireOn} the touch moves the entry to was not
+     * written by this store.
+     */
+    @Override
+    public void touch(ReferentialPayload<T> referentialPayload, Instant writtenExpireOn) throws FailoverStoreException {
+        fingerprints.remove(new Entry(referentialPayload.getName(), referentialPayload.getKey()));
+        failoverStore.touch(referentialPayload, writtenExpireOn);
+    }
+
+    /** Forgets the entry's fingerprint, then deletes it from the delegate. */
+    @Override
+    public void delete(ReferentialPayload<T> referentialPayload) throws FailoverStoreException {
+        fingerprints.remove(new Entry(referentialPayload.getName(), referentialPayload.getKey()));
+        failoverStore.delete(referentialPayload);
+    }
+
+    /**
+     * Forgets the entries' fingerprints, then deletes them from the delegate. An entry the delegate keeps because
+     * it was refreshed meanwhile just loses its fingerprint: its next store is a full write.
+     */
+    @Override
+    public void deleteExpired(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        referentialPayloads.forEach(p -> fingerprints.remove(new Entry(p.getName(), p.getKey())));
+        failoverStore.deleteExpired(referentialPayloads);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key) throws FailoverStoreException {
+        return failoverStore.find(name, key);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.find(name, key, expiredBefore);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name) throws FailoverStoreException {
+        return failoverStore.findAll(name);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public Stream<ReferentialPayload<T>> streamAll(String name, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.streamAll(name, expiredBefore);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys) throws FailoverStoreException {
+        return failoverStore.findAll(name, keys);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.findAll(name, keys, expiredBefore);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void cleanByExpiry(Instant expiry) throws FailoverStoreException {
+        failoverStore.cleanByExpiry(expiry);
+    }
+
+    /** Forwards the live entry count to the delegate when it is size-aware; otherwise reports 0. */
+    @Override
+    public long liveEntryCount(String name) {
+        return failoverStore instanceof FailoverStoreSizeAware sizeAware ? sizeAware.liveEntryCount(name) : 0L;
+    }
+
+    /** Live counting is supported only when the delegate supports it. */
+    @Override
+    public boolean liveEntryCountSupported() {
+        return failoverStore instanceof FailoverStoreSizeAware sizeAware && sizeAware.liveEntryCountSupported();
+    }
+
+    private byte @Nullable [] fingerprintOf(@Nullable T payload) {
+        if (payload == null) {
+            return null;
+        }
+        String canonical = canonicalizer.canonicalize(payload);
+        if (canonical == null) {
+            return null;
+        }
+        MessageDigest digest = sha256();
+        digest.update(payload.getClass().getName().getBytes(UTF_8));
+        digest.update((byte) 0);
+        return digest.digest(canonical.getBytes(UTF_8));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is required on every Java platform", e);
+        }
+    }
+
+    /** Forwards the close to the wrapped store; the fingerprints themselves hold nothing to release. */
+    @Override
+    public void close() {
+        closeQuietly(failoverStore);
+    }
+}
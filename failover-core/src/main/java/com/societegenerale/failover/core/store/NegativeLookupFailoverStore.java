@@ -0,0 +1,361 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.store;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.societegenerale.failover.core.util.CommonsUtil.closeQuietly;
+
+/**
+ * {@link FailoverStore} decorator that remembers, for a short time, the keys a lookup did not find.
+ *
+ * <p>While an upstream is down, callers keep recovering keys that were never stored, and every one of them costs a
+ * store query. Once a {@link #find} or keyed {@link #findAll} comes back without an entry, further lookups of the
+ * same {@code (name, key)} are answered empty from memory until {@code timeToLive} has elapsed. Any {@link #store},
+ * {@link #storeAll} or {@link #touch} of the key forgets the miss at once; a write made through another instance
+ * sharing the store is seen when the miss expires.
+ *
+ * <p>A miss is only remembered when no write went through this store while the lookup ran — writes forget the key
+ * both before and after reaching the delegate — so a lookup racing a store of the same key never hides the stored
+ * entry. A lookup with an {@code expiredBefore} cutoff that finds nothing only shows that no entry is live at that
+ * cutoff: it answers later lookups with the same or a later cutoff, never a lookup without one, which still finds an
+ * expired entry. At most {@code maxTrackedEntries} misses are kept; past it,
+ * the map is reset. {@link #findAll(String)} and {@link #streamAll} always read the store.
+ *
+ * @param <T> the type of the payload held by each referential entry
+ * @author Anand Manissery
+ */
+@Slf4j
+public class NegativeLookupFailoverStore<T> implements FailoverStore<T>, FailoverStoreSizeAware, AutoCloseable {
+
+    /** Default time a miss is remembered. */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(1);
+
+    /** Default number of misses remembered before the map is reset. */
+    public static final int DEFAULT_MAX_TRACKED_ENTRIES = 100_000;
+
+    /** Identifies a stored entry. */
+    private record Entry(String name, String key) {
+    }
+
+    /**
+     * A remembered miss, valid until the {@link System#nanoTime()} {@code until}. A miss with a {@code expiredBefore}
+     * cutoff only answers lookups with the same or a later cutoff; one without answers every lookup.
+     */
+    private record Miss(long until, @Nullable Instant expiredBefore) {
+
+        boolean answers(@Nullable Instant cutoff) {
+            return expiredBefore == null || cutoff != null && !cutoff.isBefore(expiredBefore);
+        }
+    }
+
+    @Getter
+    private final FailoverStore<T> failoverStore;
+
+    private final long timeToLiveNanos;
+
+    private final int maxTrackedEntries;
+
+    private final LongSupplier nanoTime;
+
+    /** Entry → the miss a lookup of it is answered empty with. */
+    private final Map<Entry, Miss> missedUntil = new ConcurrentHashMap<>();
+
+    /** Incremented by every write, so a lookup can tell whether one ran concurrently. */
+    private final AtomicLong writes = new AtomicLong();
+
+    private final LongAdder negativeHits;
+
+    /**
+     * Remembers misses for {@link #DEFAULT_TIME_TO_LIVE}, up to {@value #DEFAULT_MAX_TRACKED_ENTRIES} of them.
+     *
+     * @param failoverStore the delegate store
+     */
+    public NegativeLookupFailoverStore(FailoverStore<T> failoverStore) {
+        this(failoverStore, DEFAULT_TIME_TO_LIVE, DEFAULT_MAX_TRACKED_ENTRIES);
+    }
+
+    /**
+     * @param failoverStore     the delegate store
+     * @param timeToLive        time a miss is remembered; must be positive
+     * @param maxTrackedEntries misses remembered before the map is reset; must be {@code > 0}
+     */
+    public NegativeLookupFailoverStore(FailoverStore<T> failoverStore, Duration timeToLive, int maxTrackedEntries) {
+        this(failoverStore, timeToLive, maxTrackedEntries, new LongAdder());
+    }
+
+    /**
+     * @param failoverStore     the delegate store
+     * @param timeToLive        time a miss is remembered; must be positive
+     * @param maxTrackedEntries misses remembered before the map is reset; must be {@code > 0}
+     * @param negativeHits      counts the lookups answered from memory; may be shared by several stores (one per
+     *                          tenant) to report a single total
+     */
+    public NegativeLookupFailoverStore(FailoverStore<T> failoverStore, Duration timeToLive, int maxTrackedEntries, LongAdder negativeHits) {
+        this(failoverStore, timeToLive, maxTrackedEntries, negativeHits, System::nanoTime);
+    }
+
+    NegativeLookupFailoverStore(FailoverStore<T> failoverStore, Duration timeToLive, int maxTrackedEntries, LongAdder negativeHits,
+                                LongSupplier nanoTime) {
+        if (!timeToLive.isPositive()) {
+            throw new IllegalArgumentException("timeToLive must be positive, but was " + timeToLive);
+        }
+        if (maxTrackedEntries <= 0) {
+            throw new IllegalArgumentException("maxTrackedEntries must be > 0, but was " + maxTrackedEntries);
+        }
+        this.failoverStore = failoverStore;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.maxTrackedEntries = maxTrackedEntries;
+        this.negativeHits = negativeHits;
+        this.nanoTime = nanoTime;
+    }
+
+    /** Answers empty while a miss of the entry is remembered; otherwise delegates and remembers an empty result. */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key) throws FailoverStoreException {
+        Entry entry = new Entry(name, key);
+        if (isRememberedMiss(entry, null)) {
+            return Optional.empty();
+        }
+        long writesBefore = writes.get();
+        Optional<ReferentialPayload<T>> found = failoverStore.find(name, key);
+        if (found.isEmpty()) {
+            rememberMisses(List.of(entry), null, writesBefore);
+        }
+        return found;
+    }
+
+    /**
+     * Answers empty while a miss of the entry is remembered for this cutoff; otherwise delegates and remembers an
+     * empty result as a miss at this cutoff.
+     */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key, Instant expiredBefore) throws FailoverStoreException {
+        Entry entry = new Entry(name, key);
+        if (isRememberedMiss(entry, expiredBefore)) {
+            return Optional.empty();
+        }
+        long writesBefore = writes.get();
+        Optional<ReferentialPayload<T>> found = failoverStore.find(name, key, expiredBefore);
+        if (found.isEmpty()) {
+            rememberMisses(List.of(entry), expiredBefore, writesBefore);
+        }
+        return found;
+    }
+
+    /** Reads only the keys whose miss is not remembered, and remembers those the store did not return. */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys) throws FailoverStoreException {
+        List<String> toRead = keysToRead(name, keys, null);
+        if (toRead.isEmpty()) {
+            return List.of();
+        }
+        long writesBefore = writes.get();
+        List<ReferentialPayload<T>> found = failoverStore.findAll(name, toRead);
+        rememberMissing(name, toRead, found, null, writesBefore);
+        return found;
+    }
+
+    /**
+     * Reads only the keys whose miss is not remembered for this cutoff, and remembers those the store did not return
+     * as misses at this cutoff.
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys, Instant expiredBefore) throws FailoverStoreException {
+        List<String> toRead = keysToRead(name, keys, expiredBefore);
+        if (toRead.isEmpty()) {
+            return List.of();
+        }
+        long writesBefore = writes.get();
+        List<ReferentialPayload<T>> found = failoverStore.findAll(name, toRead, expiredBefore);
+        rememberMissing(name, toRead, found, expiredBefore, writesBefore);
+        return found;
+    }
+
+    /** Delegates, forgetting the miss of the entry before and after the write. */
+    @Override
+    public void store(ReferentialPayload<T> referentialPayload) throws FailoverStoreException {
+        forget(referentialPayload);
+        try {
+            failoverStore.store(referentialPayload);
+        } finally {
+            forget(referentialPayload);
+        }
+    }
+
+    /** Delegates, forgetting the misses of the entries before and after the write. */
+    @Override
+    public void storeAll(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        referentialPayloads.forEach(this::forget);
+        try {
+            failoverStore.storeAll(referentialPayloads);
+        } finally {
+            referentialPayloads.forEach(this::forget);
+        }
+    }
+
+    /** Delegates, forgetting the miss of the entry before and after the write. */
+    @Override
+    public void touch(ReferentialPayload<T> referentialPayload, Instant writtenExpireOn) throws FailoverStoreException {
+        forget(referentialPayload);
+        try {
+            failoverStore.touch(referentialPayload, writtenExpireOn);
+        } finally {
+            forget(referentialPayload);
+        }
+    }
+
+    /** Delegates as-is: a deleted entry is found missing, and remembered as such, by the next lookup. */
+    @Override
+    public void delete(ReferentialPayload<T> referentialPayload) throws FailoverStoreException {
+        failoverStore.delete(referentialPayload);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void deleteExpired(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        failoverStore.deleteExpired(referentialPayloads);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name) throws FailoverStoreException {
+        return failoverStore.findAll(name);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public Stream<ReferentialPayload<T>> streamAll(String name, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.streamAll(name, expiredBefore);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void cleanByExpiry(Instant expiry) throws FailoverStoreException {
+        failoverStore.cleanByExpiry(expiry);
+    }
+
+    /** Forwards the live entry count to the delegate when it is size-aware; otherwise reports 0. */
+    @Override
+    public long liveEntryCount(String name) {
+        return failoverStore instanceof FailoverStoreSizeAware sizeAware ? sizeAware.liveEntryCount(name) : 0L;
+    }
+
+    /** Live counting is supported only when the delegate supports it. */
+    @Override
+    public boolean liveEntryCountSupported() {
+        return failoverStore instanceof FailoverStoreSizeAware sizeAware && sizeAware.liveEntryCountSupported();
+    }
+
+    /** @return the number of lookups answered empty from memory, without reaching the store (shared counter total) */
+    public long negativeHits() {
+        return negativeHits.sum();
+    }
+
+    /** @return the number of misses currently remembered, expired ones included until they are next looked up */
+    public int trackedEntries() {
+        return missedUntil.size();
+    }
+
+    private boolean isRememberedMiss(Entry entry, @Nullable Instant expiredBefore) {
+        if (missedUntil.isEmpty()) {
+            return false;
+        }
+        Miss miss = missedUntil.get(entry);
+        if (miss == null) {
+            return false;
+        }
+        if (nanoTime.getAsLong() - miss.until() >= 0) {
+            missedUntil.remove(entry, miss);
+            return false;
+        }
+        if (miss.answers(expiredBefore)) {
+            negativeHits.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private List<String> keysToRead(String name, Collection<String> keys, @Nullable Instant expiredBefore) {
+        if (missedUntil.isEmpty()) {
+            return keys instanceof List<String> list ? list : new ArrayList<>(keys);
+        }
+        List<String> toRead = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            if (!isRememberedMiss(new Entry(name, key), expiredBefore)) {
+                toRead.add(key);
+            }
+        }
+        return toRead;
+    }
+
+    private void rememberMissing(String name, List<String> keys, List<ReferentialPayload<T>> found, @Nullable Instant expiredBefore,
+                                 long writesBefore) {
+        if (found.size() >= keys.size()) {
+            return;
+        }
+        Set<String> foundKeys = found.stream().map(ReferentialPayload::getKey).collect(Collectors.toSet());
+        rememberMisses(keys.stream().filter(key -> !foundKeys.contains(key)).map(key -> new Entry(name, key)).toList(), expiredBefore, writesBefore);
+    }
+
+    private void rememberMisses(List<Entry> entries, @Nullable Instant expiredBefore, long writesBefore) {
+        if (writes.get() != writesBefore) {
+            return;
+        }
+        if (missedUntil.size() + entries.size() > maxTrackedEntries) {
+            log.debug("Failover negative lookup cache tracks {} misses — resetting it.", missedUntil.size());
+            missedUntil.clear();
+        }
+        Miss miss = new Miss(nanoTime.getAsLong() + timeToLiveNanos, expiredBefore);
+        entries.forEach(entry -> missedUntil.put(entry, miss));
+        // a write that started after the check above must not be hidden by the misses just recorded
+        if (writes.get() != writesBefore) {
+            entries.forEach(entry -> missedUntil.remove(entry, miss));
+        }
+    }
+
+    private void forget(ReferentialPayload<T> referentialPayload) {
+        writes.incrementAndGet();
+        if (!missedUntil.isEmpty()) {
+            missedUntil.remove(new Entry(referentialPayload.getName(), referentialPayload.getKey()));
+        }
+    }
+
+    /** Forwards the close to the wrapped store; remembered misses need no flushing. */
+    @Override
+    public void close() {
+        closeQuietly(failoverStore);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.store;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Renders a payload into the canonical text {@link FingerprintingFailoverStore} hashes to tell whether it
+ * changed since the last write.
+ *
+ * <p>Two payloads with the same business content must render identically: the form must be deterministic,
+ * unencrypted, and leave out the per-write metadata the framework sets on every store ({@code asOf},
+ * {@code upToDate}). Rendering differently for equal content only costs a full write; rendering equally for
+ * different content would keep a stale payload, so when in doubt include the field.
+ *
+ * @author Anand Manissery
+ */
+@FunctionalInterface
+public interface PayloadCanonicalizer {
+
+    /**
+     * @param payload the payload to render; {@code null} is allowed
+     * @return the canonical form, or {@code null} when the payload cannot be fingerprinted (always written in full)
+     */
+    @Nullable String canonicalize(@Nullable Object payload);
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.store;
+
+import com.societegenerale.failover.annotations.Failover;
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Skips redundant store writes: once an entry has been written, further successful calls for the same
+ * {@code (name, key)} are not written again until the minimum refresh interval has elapsed.
+ *
+ * <p>The interval is {@link Failover#minRefreshInterval()} / {@link Failover#minRefreshUnit()} when the
+ * annotation sets one ({@code >= 0}), otherwise the global default ({@code failover.store.min-refresh-interval}).
+ * {@code 0} writes on every success, as before.
+ *
+ * <p>The check is local: the time of the last write per entry is kept in a bounded in-memory map. A write is
+ * never skipped past the expiry it set, so an entry cannot expire in the store while its refreshes are being
+ * skipped — and because a skipped call writes nothing, the stored expiry is only extended by writes that
+ * actually happen.
+ *
+ * <p>The throttle sits above the store, so a multi-tenant store would otherwise see one tenant's write skip
+ * another tenant's: entries are therefore keyed by a scope as well, resolved on the calling thread like the
+ * tenant of the store itself. Without a scope every entry shares a single one.
+ *
+ * <p>A write the store fails synchronously is forgotten by the handler. An asynchronous store only fails later, on
+ * its executor: as a {@link WriteFailureListener} bound on the calling thread, the throttle forgets such a write in
+ * the scope it was recorded in.
+ *
+ * @author Anand Manissery
+ */
+@Slf4j
+public class RefreshThrottle implements WriteFailureListener {
+
+    /** Default number of entries whose last write is tracked. */
+    public static final int DEFAULT_MAX_TRACKED_ENTRIES = 100_000;
+
+    /** Identifies a stored entry within a scope. */
+    private record Entry(String scope, String name, String key) {
+    }
+
+    private final Duration defaultInterval;
+    private final int maxTrackedEntries;
+    /** Resolves the scope (typically the tenant) of the calling thread; {@code null} means the shared scope. */
+    private final Supplier<@Nullable String> scope;
+    /** Entry → instant before which a new write is skipped. */
+    private final Map<Entry, Instant> nextWriteAt = new ConcurrentHashMap<>();
+
+    /**
+     * @param defaultInterval minimum refresh interval for failovers that do not set one; {@link Duration#ZERO}
+     *                        writes on every success
+     */
+    public RefreshThrottle(Duration defaultInterval) {
+        this(defaultInterval, DEFAULT_MAX_TRACKED_ENTRIES);
+    }
+
+    /**
+     * @param defaultInterval   minimum refresh interval for failovers that do not set one; must not be negative
+     * @param maxTrackedEntries entries tracked before the map is reset; must be {@code > 0}
+     */
+    public RefreshThrottle(Duration defaultInterval, int maxTrackedEntries) {
+        this(defaultInterval, maxTrackedEntries, () -> null);
+    }
+
+    /**
+     * @param defaultInterval   minimum refresh interval for failovers that do not set one; must not be negative
+     * @param maxTrackedEntries entries tracked before the map is reset; must be {@code > 0}
+     * @param scope             resolves the scope of the calling thread, e.g. the current tenant; may return
+     *                          {@code null} for the shared scope
+     */
+    public RefreshThrottle(Duration defaultInterval, int maxTrackedEntries, Supplier<@Nullable String> scope) {
+        if (defaultInterval.isNegative()) {
+            throw new IllegalArgumentException("defaultInterval must not be negative, but was " + defaultInterval);
+        }
+        if (maxTrackedEntries <= 0) {
+            throw new IllegalArgumentException("maxTrackedEntries must be > 0, but was " + maxTrackedEntries);
+        }
+        this.defaultInterval = defaultInterval;
+        this.maxTrackedEntries = maxTrackedEntries;
+        this.scope = scope;
+    }
+
+    /**
+     * Decides whether the payload about to be stored for {@code (name, key)} must be written, and records the
+     * write when it must.
+     *
+     * @param failover the failover being stored
+     * @param name     the store referential name
+     * @param key      the store key
+     * @param now      the store time
+     * @param expireOn the expiry the write would set
+     * @return {@code true} to write; {@code false} when the entry was written less than the interval ago
+     */
+    public boolean shouldStore(Failover failover, String name, String key, Instant now, Instant expireOn) {
+        Duration interval = intervalOf(failover);
+        if (interval.isZero()) {
+            return true;
+        }
+        Entry entry = entryOf(name, key);
+        Instant next = nextWriteAt.get(entry);
+        if (next != null && now.isBefore(next)) {
+            return false;
+        }
+        if (next == null && nextWriteAt.size() >= maxTrackedEntries) {
+            log.debug("Failover refresh throttle tracks {} entries — resetting it.", maxTrackedEntries);
+            nextWriteAt.clear();
+        }
+        Instant refreshAt = now.plus(interval);
+        nextWriteAt.put(entry, refreshAt.isBefore(expireOn) ? refreshAt : expireOn);
+        return true;
+    }
+
+    /**
+     * Forgets the last write of {@code (name, key)} in the scope of the calling thread, so the next successful
+     * call writes again. Called when the entry is deleted from the store, or when its write failed on the calling
+     * thread.
+     *
+     * @param name the store referential name
+     * @param key  the store key
+     */
+    public void forget(String name, String key) {
+        forget(currentScope(), name, key);
+    }
+
+    /**
+     * Binds the scope of the calling thread: an entry whose write fails later, on another thread, is forgotten in
+     * that scope, as {@link #forget} would on the calling thread.
+     *
+     * @return callback forgetting the last write of a payload that could not be written
+     */
+    @Override
+    public Consumer<ReferentialPayload<?>> bind() {
+        String bound = currentScope();
+        return failed -> forget(bound, failed.getName(), failed.getKey());
+    }
+
+    private void forget(String scope, String name, String key) {
+        if (!nextWriteAt.isEmpty()) {
+            nextWriteAt.remove(new Entry(scope, name, key));
+        }
+    }
+
+    private Entry entryOf(String name, String key) {
+        return new Entry(currentScope(), name, key);
+    }
+
+    private String currentScope() {
+        String current = scope.get();
+        return current == null ? "" : current;
+    }
+
+    private Duration intervalOf(Failover failover) {
+        long interval = failover.minRefreshInterval();
+        if (interval < 0) {
+            return defaultInterval;
+        }
+        return interval == 0 ? Duration.ZERO : failover.minRefreshUnit().getDuration().multipliedBy(interval);
+    }
+}
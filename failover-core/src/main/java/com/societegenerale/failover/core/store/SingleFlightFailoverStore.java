@@ -0,0 +1,192 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.store;
+
+import com.societegenerale.failover.core.flight.SingleFlight;
+import com.societegenerale.failover.core.flight.SingleFlightStats;
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.societegenerale.failover.core.util.CommonsUtil.closeQuietly;
+
+/**
+ * {@link FailoverStore} decorator that collapses concurrent lookups of the same entry into one.
+ *
+ * <p>During an outage many threads recover the same {@code (name, key)} at once. The first {@link #find} of an entry
+ * reads the delegate; the ones arriving while it runs wait for it and share its outcome, so the store sees at most
+ * one lookup per entry in flight, whatever the request rate. Nothing is kept once the lookup completes.
+ *
+ * <p>Only the entry found is shared: each waiter gets its own {@link ReferentialPayload#detachedCopy() detached copy}
+ * of it. An entry read in serialized form (e.g. by the JDBC store) is deserialized by each waiter, so each gets a
+ * business object of its own to enrich. An entry whose store holds the business object itself (e.g. the in-memory
+ * stores) shares it between waiters, as it does between any two lookups of that store.
+ *
+ * <p>Lookups with and without an {@code expiredBefore} cutoff never share a flight. A waiter of
+ * {@link #find(String, String, Instant)} gets the entry found with the cutoff of the caller that started the lookup,
+ * filtered again with its own cutoff; a waiter whose cutoff is earlier than that one, for which the shared lookup may
+ * have dropped an entry still live, reads the delegate itself. Every other operation delegates as-is.
+ *
+ * @param <T> the type of the payload held by each referential entry
+ * @author Anand Manissery
+ */
+public class SingleFlightFailoverStore<T> implements FailoverStore<T>, FailoverStoreSizeAware, AutoCloseable {
+
+    /** Identifies a stored entry. */
+    private record Entry(String name, String key) {
+    }
+
+    /** The outcome of a lookup filtered with {@code expiredBefore}. */
+    private record CutoffLookup<T>(Instant expiredBefore, Optional<ReferentialPayload<T>> found) {
+    }
+
+    @Getter
+    private final FailoverStore<T> failoverStore;
+
+    private final SingleFlight<Entry, Optional<ReferentialPayload<T>>> lookups;
+
+    private final SingleFlight<Entry, CutoffLookup<T>> cutoffLookups;
+
+    /**
+     * Counts on a stats object of its own.
+     *
+     * @param failoverStore the delegate store
+     */
+    public SingleFlightFailoverStore(FailoverStore<T> failoverStore) {
+        this(failoverStore, new SingleFlightStats());
+    }
+
+    /**
+     * @param failoverStore the delegate store
+     * @param stats         counts lookups run and shared; may be shared by several stores (one per tenant)
+     */
+    public SingleFlightFailoverStore(FailoverStore<T> failoverStore, SingleFlightStats stats) {
+        this.failoverStore = failoverStore;
+        this.lookups = new SingleFlight<>(stats);
+        this.cutoffLookups = new SingleFlight<>(stats);
+    }
+
+    /** Joins the lookup of the entry already running, or runs it. */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key) throws FailoverStoreException {
+        return lookups.execute(new Entry(name, key), () -> failoverStore.find(name, key)).map(ReferentialPayload::detachedCopy);
+    }
+
+    /**
+     * Joins the lookup of the entry with a cutoff already running, or runs it. Reads the delegate itself when the
+     * running lookup has a later cutoff than {@code expiredBefore}.
+     */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key, Instant expiredBefore) throws FailoverStoreException {
+        CutoffLookup<T> lookup = cutoffLookups.execute(new Entry(name, key),
+                () -> new CutoffLookup<>(expiredBefore, failoverStore.find(name, key, expiredBefore)));
+        if (expiredBefore.isBefore(lookup.expiredBefore())) {
+            return failoverStore.find(name, key, expiredBefore);
+        }
+        return lookup.found()
+                .filter(referentialPayload -> !referentialPayload.getExpireOn().isBefore(expiredBefore))
+                .map(ReferentialPayload::detachedCopy);
+    }
+
+    /** @return the lookups run and shared */
+    public SingleFlightStats stats() {
+        return lookups.stats();
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void store(ReferentialPayload<T> referentialPayload) throws FailoverStoreException {
+        failoverStore.store(referentialPayload);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void storeAll(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        failoverStore.storeAll(referentialPayloads);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void touch(ReferentialPayload<T> referentialPayload, Instant writtenExpireOn) throws FailoverStoreException {
+        failoverStore.touch(referentialPayload, writtenExpireOn);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void delete(ReferentialPayload<T> referentialPayload) throws FailoverStoreException {
+        failoverStore.delete(referentialPayload);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void deleteExpired(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        failoverStore.deleteExpired(referentialPayloads);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name) throws FailoverStoreException {
+        return failoverStore.findAll(name);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public Stream<ReferentialPayload<T>> streamAll(String name, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.streamAll(name, expiredBefore);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys) throws FailoverStoreException {
+        return failoverStore.findAll(name, keys);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.findAll(name, keys, expiredBefore);
+    }
+
+    /** Delegates as-is. */
+    @Override
+    public void cleanByExpiry(Instant expiry) throws FailoverStoreException {
+        failoverStore.cleanByExpiry(expiry);
+    }
+
+    /** Forwards the live entry count to the delegate when it is size-aware; otherwise reports 0. */
+    @Override
+    public long liveEntryCount(String name) {
+        return failoverStore instanceof FailoverStoreSizeAware sizeAware ? sizeAware.liveEntryCount(name) : 0L;
+    }
+
+    /** Live counting is supported only when the delegate supports it. */
+    @Override
+    public boolean liveEntryCountSupported() {
+        return failoverStore instanceof FailoverStoreSizeAware sizeAware && sizeAware.liveEntryCountSupported();
+    }
+
+    /** Forwards the close to the wrapped store. Lookups still in flight are not waited for. */
+    @Override
+    public void close() {
+        closeQuietly(failoverStore);
+    }
+}
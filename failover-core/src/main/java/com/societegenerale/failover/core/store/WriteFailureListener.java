@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.store;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+
+import java.util.function.Consumer;
+
+/**
+ * Told when a write that a {@link FailoverStore} accepted fails later, on another thread, so the caller does not
+ * assume it was persisted — {@link RefreshThrottle} forgets the write, and the next successful call writes again.
+ *
+ * <p>What the listener records may depend on the calling thread (the tenant, for instance), which the thread
+ * that later sees the failure no longer has. {@link #bind()} is therefore called on the calling thread when the
+ * write is accepted; the callback it returns runs on whichever thread the write fails on.
+ *
+ * @author Anand Manissery
+ */
+@FunctionalInterface
+public interface WriteFailureListener {
+
+    /** Listener that ignores every failure. */
+    WriteFailureListener NONE = () -> failed -> {
+    };
+
+    /**
+     * Binds the listener to the calling thread.
+     *
+     * @return callback run once for each payload of the accepted write that could not be written; must not throw
+     */
+    Consumer<ReferentialPayload<?>> bind();
+}
@@ -18,6 +18,8 @@ package com.societegenerale.failover.core.util;
 
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
@@ -26,8 +28,8 @@ import java.util.Objects;
 
 /**
  * Small shared helpers across the failover core: null/emptiness checks, exception-chain inspection
- * ({@link #finalRootCauseOf}, {@link #canonicalTypeOf}, {@link #messageOf}) and method identity
- * ({@link #methodId}).
+ * ({@link #finalRootCauseOf}, {@link #canonicalTypeOf}, {@link #messageOf}), method identity
+ * ({@link #methodId}) and closing store chains ({@link #closeQuietly}).
  *
  * <p>"Empty" is defined per type, which matters for scatter/gather where a recovered slice may be a
  * collection, a map, or an array:
@@ -46,6 +48,7 @@ import java.util.Objects;
  *
  * @author Anand Manissery
  */
+@Slf4j
 @UtilityClass
 public class CommonsUtil {
 
@@ -109,4 +112,24 @@ public class CommonsUtil {
     public static String methodId(@NonNull Method method) {
         return method.getDeclaringClass().getSimpleName() + "#" + method.getName();
     }
+
+    /**
+     * Closes {@code resource} when it is {@link AutoCloseable}, and leaves anything else alone. A failure is
+     * logged rather than thrown, so closing a chain of stores never stops half way.
+     *
+     * @param resource the resource to close (any type, may be {@code null})
+     */
+    public static void closeQuietly(@Nullable Object resource) {
+        if (!(resource instanceof AutoCloseable closeable)) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while closing {}.", resource.getClass().getSimpleName());
+        } catch (Exception e) {
+            log.warn("Failed to close {}. Cause: {}", resource.getClass().getSimpleName(), e.getMessage(), e);
+        }
+    }
 }
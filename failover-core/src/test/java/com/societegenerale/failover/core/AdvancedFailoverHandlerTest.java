@@ -21,6 +21,7 @@ import com.societegenerale.failover.core.expiry.BasicFailoverExpiryExtractor;
 import com.societegenerale.failover.core.payload.RecoveredPayloadHandler;
 import com.societegenerale.failover.core.observable.publisher.AbstractObservablePublisher;
 import com.societegenerale.failover.core.observable.Metrics;
+import com.societegenerale.failover.core.plan.FailoverPlan;
 import lombok.Getter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +39,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * @author Anand Manissery
@@ -453,6 +455,72 @@ class AdvancedFailoverHandlerTest {
         assertIsRecoveredFor(List.of("data"), "true");
     }
 
+    @Test
+    @DisplayName("plan-driven store forwards the plan and tags the metric from the plan")
+    void planDrivenStoreForwardsPlanAndUsesPlanTags() {
+        FailoverPlan plan = plan();
+        given(failoverHandler.store(plan, ARGS, PAYLOAD)).willReturn(PAYLOAD);
+
+        advancedFailoverHandler.store(plan, ARGS, PAYLOAD);
+
+        verify(failoverHandler).store(plan, ARGS, PAYLOAD);
+        assertThat(observablePublisher.getMetrics().getInfo()).containsEntry("failover-action", "store")
+                .containsEntry("failover-domain", "plan-domain").containsEntry("failover-method", "List#size")
+                .containsEntry("failover-expiry-duration", "1").containsEntry("failover-is-stored", "true");
+    }
+
+    @Test
+    @DisplayName("plan-driven recover forwards the plan, tags the metric from the plan and post-processes the payload")
+    void planDrivenRecoverForwardsPlanAndUsesPlanTags() {
+        FailoverPlan plan = plan();
+        given(failoverHandler.recover(plan, ARGS, String.class, cause)).willReturn(PAYLOAD);
+        given(recoveredPayloadHandler.handle(failover, ARGS, String.class, PAYLOAD, cause)).willReturn(PAYLOAD);
+
+        String result = advancedFailoverHandler.recover(plan, ARGS, String.class, cause);
+
+        assertThat(result).isEqualTo(PAYLOAD);
+        assertThat(observablePublisher.getMetrics().getInfo()).containsEntry("failover-action", "recover")
+                .containsEntry("failover-domain", "plan-domain").containsEntry("failover-method", "List#size")
+                .containsEntry("failover-is-recovered", "true");
+    }
+
+    @Test
+    @DisplayName("recover-if-present reports the recovery and post-processes the payload when one is found")
+    void recoverIfPresentReportsFoundPayload() {
+        FailoverPlan plan = plan();
+        given(failoverHandler.recoverIfPresent(plan, ARGS, String.class, cause)).willReturn(PAYLOAD);
+        given(recoveredPayloadHandler.handle(failover, ARGS, String.class, PAYLOAD, cause)).willReturn(PAYLOAD);
+
+        String result = advancedFailoverHandler.recoverIfPresent(plan, ARGS, String.class, cause);
+
+        assertThat(result).isEqualTo(PAYLOAD);
+        assertThat(observablePublisher.getMetrics().getInfo()).containsEntry("failover-action", "recover")
+                .containsEntry("failover-domain", "plan-domain").containsEntry("failover-is-recovered", "true");
+    }
+
+    @Test
+    @DisplayName("recover-if-present reports nothing and skips post-processing when nothing is found")
+    void recoverIfPresentReportsNothingOnMiss() {
+        given(failoverHandler.recoverIfPresent(failover, METHOD, ARGS, String.class, cause)).willReturn(null);
+
+        String result = advancedFailoverHandler.recoverIfPresent(failover, METHOD, ARGS, String.class, cause);
+
+        assertThat(result).isNull();
+        assertThat(observablePublisher.getMetrics()).isNull();
+        verifyNoInteractions(recoveredPayloadHandler);
+    }
+
+    private FailoverPlan plan() {
+        return FailoverPlan.builder()
+                .failover(failover)
+                .method(METHOD)
+                .returnType(String.class)
+                .name(FAILOVER_NAME)
+                .effectiveName("plan-domain")
+                .methodId("List#size")
+                .build();
+    }
+
     /**
      * Recovers a payload of an arbitrary container type and asserts the published {@code is-recovered}
      * flag. Uses an {@code Object}-typed handler because the shared mocks are {@code String}-typed.
@@ -19,8 +19,13 @@ package com.societegenerale.failover.core;
 import com.societegenerale.failover.annotations.Failover;
 import com.societegenerale.failover.core.exception.MethodExceptionContext;
 import com.societegenerale.failover.core.exception.MethodExceptionHandler;
-import com.societegenerale.failover.core.observable.Metrics;
+import com.societegenerale.failover.core.key.KeyGenerator;
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.publisher.ObservablePublisher;
+import com.societegenerale.failover.core.plan.FailoverPlan;
+import com.societegenerale.failover.core.propagator.CompositeContextPropagator;
+import com.societegenerale.failover.core.propagator.ContextPropagator;
+import com.societegenerale.failover.core.propagator.MdcContextPropagator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,18 +33,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
 
 import java.lang.reflect.Method;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * @author Anand Manissery
@@ -66,6 +84,9 @@ class BasicFailoverExecutionTest {
     @Mock
     private ObservablePublisher observablePublisher;
 
+    @Mock
+    private KeyGenerator keyGenerator;
+
     private Method method;
 
     private BasicFailoverExecution<String> basicFailoverExecution;
@@ -191,10 +212,500 @@ class BasicFailoverExecutionTest {
         assertThat(capturePublishedMetric()).containsEntry("failover-upstream-result", "failure");
     }
 
+    // ── plan-driven execution ──────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("plan-driven execution stores through the plan-aware handler on success")
+    void planDrivenExecutionStoresWithPlan() {
+        FailoverPlan plan = plan();
+        given(supplier.get()).willReturn(PAYLOAD);
+
+        String result = basicFailoverExecution.execute(plan, supplier, ARGS);
+
+        assertThat(result).isEqualTo(PAYLOAD);
+        verify(failoverHandler).store(plan, ARGS, PAYLOAD);
+        verify(failoverHandler, never()).store(failover, method, ARGS, PAYLOAD);
+    }
+
+    @Test
+    @DisplayName("plan-driven execution recovers through the plan-aware handler using the plan's return type")
+    void planDrivenExecutionRecoversWithPlan() {
+        FailoverPlan plan = plan();
+        Throwable throwable = new RuntimeException("Some Exception");
+        given(supplier.get()).willThrow(throwable);
+        given(failoverHandler.recover(plan, ARGS, String.class, throwable)).willReturn(PAYLOAD);
+        given(methodExceptionHandler.handle(any())).willReturn(PAYLOAD);
+
+        String result = basicFailoverExecution.execute(plan, supplier, ARGS);
+
+        assertThat(result).isEqualTo(PAYLOAD);
+        verify(failoverHandler).recover(plan, ARGS, String.class, throwable);
+    }
+
+    @Test
+    @DisplayName("plan-driven execution publishes the upstream metric with the plan's static tags")
+    void planDrivenExecutionPublishesUpstreamMetricWithPlanTags() {
+        given(supplier.get()).willReturn(PAYLOAD);
+        BasicFailoverExecution<String> execution =
+                new BasicFailoverExecution<>(failoverHandler, methodExceptionHandler, observablePublisher);
+
+        execution.execute(plan(), supplier, ARGS);
+
+        assertThat(capturePublishedMetric()).containsEntry("failover-name", "country")
+                .containsEntry("failover-action", "upstream")
+                .containsEntry("failover-domain", "country-domain")
+                .containsEntry("failover-method", "ReferentialMethod#findReferential")
+                .containsEntry("failover-upstream-result", "success");
+    }
+
+    // ── request collapsing ─────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("collapsing execution shares the in-flight upstream call with concurrent callers of the same key, storing once")
+    void collapsingExecutionSharesInFlightCall() throws Exception {
+        given(failover.collapseRequests()).willReturn(true);
+        given(keyGenerator.key(failover, ARGS)).willReturn("key-1");
+        FailoverPlan plan = plan();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Supplier<String> slowUpstream = () -> {
+            upstreamCalls.incrementAndGet();
+            started.countDown();
+            awaitQuietly(release);
+            return PAYLOAD;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<String> leader = executor.submit(() -> basicFailoverExecution.execute(plan, slowUpstream, ARGS));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> first = executor.submit(() -> basicFailoverExecution.execute(plan, slowUpstream, ARGS));
+            Future<String> second = executor.submit(() -> basicFailoverExecution.execute(plan, slowUpstream, ARGS));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (basicFailoverExecution.collapseStats().followers() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(PAYLOAD);
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(PAYLOAD);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(PAYLOAD);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(upstreamCalls).hasValue(1);
+        verify(failoverHandler, times(1)).store(plan, ARGS, PAYLOAD);
+        assertThat(basicFailoverExecution.collapseStats().leaders()).isEqualTo(1);
+        assertThat(basicFailoverExecution.collapseStats().followers()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("collapsing execution shares the recovery, or the exception the policy raised, with the waiting callers")
+    void collapsingExecutionSharesRecoveryOutcome() throws Exception {
+        given(failover.collapseRequests()).willReturn(true);
+        given(keyGenerator.key(failover, ARGS)).willReturn("key-1");
+        FailoverPlan plan = plan();
+        RuntimeException upstreamDown = new RuntimeException("upstream down");
+        RuntimeException rethrown = new RuntimeException("rethrown");
+        given(failoverHandler.recover(plan, ARGS, String.class, upstreamDown)).willReturn(null);
+        given(methodExceptionHandler.handle(any())).willThrow(rethrown);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> failingUpstream = () -> {
+            started.countDown();
+            awaitQuietly(release);
+            throw upstreamDown;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> basicFailoverExecution.execute(plan, failingUpstream, ARGS));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = executor.submit(() -> basicFailoverExecution.execute(plan, failingUpstream, ARGS));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (basicFailoverExecution.collapseStats().followers() < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(rethrown);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(rethrown);
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(failoverHandler, times(1)).recover(plan, ARGS, String.class, upstreamDown);
+    }
+
+    @Test
+    @DisplayName("collapsing execution runs calls with different keys independently")
+    void collapsingExecutionKeepsKeysApart() {
+        List<Object> otherArgs = List.of(2L);
+        given(failover.collapseRequests()).willReturn(true);
+        given(keyGenerator.key(failover, ARGS)).willReturn("key-1");
+        given(keyGenerator.key(failover, otherArgs)).willReturn("key-2");
+        given(supplier.get()).willReturn(PAYLOAD);
+        FailoverPlan plan = plan();
+
+        basicFailoverExecution.execute(plan, supplier, ARGS);
+        basicFailoverExecution.execute(plan, supplier, otherArgs);
+        basicFailoverExecution.execute(plan, supplier, ARGS);
+
+        verify(supplier, times(3)).get();
+        assertThat(basicFailoverExecution.collapseStats().leaders()).isEqualTo(3);
+        assertThat(basicFailoverExecution.collapseStats().followers()).isZero();
+    }
+
+    @Test
+    @DisplayName("collapsing execution never shares a call between callers of different scopes")
+    void collapsingExecutionKeepsScopesApart() throws Exception {
+        given(failover.collapseRequests()).willReturn(true);
+        given(keyGenerator.key(failover, ARGS)).willReturn("key-1");
+        ThreadLocal<String> tenant = new ThreadLocal<>();
+        var scoped = new BasicFailoverExecution<>(failoverHandler, methodExceptionHandler, null, tenant::get);
+        FailoverPlan plan = plan();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> slowUpstream = () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return "acme";
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> acme = executor.submit(() -> {
+                tenant.set("acme");
+                return scoped.execute(plan, slowUpstream, ARGS);
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> globex = executor.submit(() -> {
+                tenant.set("globex");
+                return scoped.execute(plan, () -> "globex", ARGS);
+            });
+
+            assertThat(globex.get(5, TimeUnit.SECONDS)).isEqualTo("globex");
+            release.countDown();
+            assertThat(acme.get(5, TimeUnit.SECONDS)).isEqualTo("acme");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+        assertThat(scoped.collapseStats().leaders()).isEqualTo(2);
+        assertThat(scoped.collapseStats().followers()).isZero();
+    }
+
+    @Test
+    @DisplayName("collapsing execution falls back to an uncollapsed call when the key cannot be computed")
+    void collapsingExecutionFallsBackWhenKeyFails() {
+        given(failover.collapseRequests()).willReturn(true);
+        given(keyGenerator.key(failover, ARGS)).willThrow(new IllegalArgumentException("no key"));
+        given(supplier.get()).willReturn(PAYLOAD);
+        FailoverPlan plan = plan();
+
+        assertThat(basicFailoverExecution.execute(plan, supplier, ARGS)).isEqualTo(PAYLOAD);
+
+        verify(failoverHandler).store(plan, ARGS, PAYLOAD);
+        assertThat(basicFailoverExecution.collapseStats().leaders()).isZero();
+    }
+
+    @Test
+    @DisplayName("non-collapsing execution does not compute the key")
+    void nonCollapsingExecutionDoesNotComputeKey() {
+        given(supplier.get()).willReturn(PAYLOAD);
+
+        basicFailoverExecution.execute(plan(), supplier, ARGS);
+
+        verifyNoInteractions(keyGenerator);
+        assertThat(basicFailoverExecution.collapseStats().leaders()).isZero();
+    }
+
+    // ── latency budget ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("over the latency budget, returns the recovered payload and lets the upstream call store its result in the background")
+    void overLatencyBudgetReturnsRecoveredPayload() throws Exception {
+        givenLatencyBudget(50);
+        FailoverPlan plan = plan();
+        given(failoverHandler.recoverIfPresent(eq(plan), eq(ARGS), eq(String.class), any(TimeoutException.class))).willReturn("Stored");
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> slowUpstream = () -> {
+            awaitQuietly(release);
+            return PAYLOAD;
+        };
+
+        String result = basicFailoverExecution.execute(plan, slowUpstream, ARGS);
+
+        assertThat(result).isEqualTo("Stored");
+        assertThat(basicFailoverExecution.latencyBudgetExceeded()).isEqualTo(1);
+        verify(failoverHandler, never()).store(plan, ARGS, PAYLOAD);
+        verifyNoInteractions(methodExceptionHandler);
+
+        release.countDown();
+
+        verify(failoverHandler, timeout(5_000)).store(plan, ARGS, PAYLOAD);
+    }
+
+    @Test
+    @DisplayName("within the latency budget, returns and stores the upstream result without recovering")
+    void withinLatencyBudgetReturnsUpstreamResult() {
+        givenLatencyBudget(5_000);
+        given(supplier.get()).willReturn(PAYLOAD);
+
+        String result = basicFailoverExecution.execute(failover, supplier, method, ARGS);
+
+        assertThat(result).isEqualTo(PAYLOAD);
+        verify(failoverHandler).store(failover, method, ARGS, PAYLOAD);
+        verify(failoverHandler, never()).recover(any(Failover.class), any(), any(), any(), any());
+        assertThat(basicFailoverExecution.latencyBudgetExceeded()).isZero();
+    }
+
+    @Test
+    @DisplayName("over the latency budget with nothing to recover, waits for the upstream result")
+    void overLatencyBudgetWithNothingStoredWaitsForUpstream() {
+        givenLatencyBudget(10);
+        FailoverPlan plan = plan();
+        given(failoverHandler.recoverIfPresent(eq(plan), eq(ARGS), eq(String.class), any(TimeoutException.class))).willReturn(null);
+        CountDownLatch never = new CountDownLatch(1);
+        Supplier<String> slowUpstream = () -> {
+            awaitQuietly(never, 100);
+            return PAYLOAD;
+        };
+
+        String result = basicFailoverExecution.execute(plan, slowUpstream, ARGS);
+
+        assertThat(result).isEqualTo(PAYLOAD);
+        verify(failoverHandler).store(plan, ARGS, PAYLOAD);
+        assertThat(basicFailoverExecution.latencyBudgetExceeded()).isZero();
+    }
+
+    @Test
+    @DisplayName("with a latency budget, an upstream failure is recovered and handled by the exception policy")
+    void latencyBudgetKeepsFailureHandling() {
+        givenLatencyBudget(5_000);
+        RuntimeException upstreamDown = new RuntimeException("upstream down");
+        given(supplier.get()).willThrow(upstreamDown);
+        given(failoverHandler.recover(failover, method, ARGS, String.class, upstreamDown)).willReturn(PAYLOAD);
+        given(methodExceptionHandler.handle(any())).willReturn(PAYLOAD);
+
+        String result = basicFailoverExecution.execute(failover, supplier, method, ARGS);
+
+        assertThat(result).isEqualTo(PAYLOAD);
+        ArgumentCaptor<MethodExceptionContext<String>> captor = ArgumentCaptor.captor();
+        verify(methodExceptionHandler).handle(captor.capture());
+        assertThat(captor.getValue().cause()).isSameAs(upstreamDown);
+    }
+
+    @Test
+    @DisplayName("with a latency budget, an error raised by the upstream is propagated")
+    void latencyBudgetPropagatesErrors() {
+        givenLatencyBudget(5_000);
+        given(supplier.get()).willThrow(new StackOverflowError());
+
+        assertThatThrownBy(() -> basicFailoverExecution.execute(failover, supplier, method, ARGS))
+                .isInstanceOf(StackOverflowError.class);
+        verifyNoInteractions(methodExceptionHandler);
+    }
+
+    @Test
+    @DisplayName("over the latency budget, a failing recovery is ignored and the caller waits for the upstream")
+    void overLatencyBudgetIgnoresFailingRecovery() {
+        givenLatencyBudget(10);
+        FailoverPlan plan = plan();
+        given(failoverHandler.recoverIfPresent(eq(plan), eq(ARGS), eq(String.class), any(TimeoutException.class)))
+                .willThrow(new IllegalStateException("store down"));
+        RuntimeException upstreamDown = new RuntimeException("upstream down");
+        CountDownLatch never = new CountDownLatch(1);
+        Supplier<String> slowFailingUpstream = () -> {
+            awaitQuietly(never, 100);
+            throw upstreamDown;
+        };
+        given(failoverHandler.recover(plan, ARGS, String.class, upstreamDown)).willReturn(PAYLOAD);
+        given(methodExceptionHandler.handle(any())).willReturn(PAYLOAD);
+
+        String result = basicFailoverExecution.execute(plan, slowFailingUpstream, ARGS);
+
+        assertThat(result).isEqualTo(PAYLOAD);
+        verify(failoverHandler).recover(plan, ARGS, String.class, upstreamDown);
+    }
+
+    @Test
+    @DisplayName("an interrupted caller stops waiting for the upstream, recovers and keeps its interrupt flag")
+    void latencyBudgetInterruptedCallerRecovers() throws InterruptedException {
+        givenLatencyBudget(5_000);
+        FailoverPlan plan = plan();
+        given(failoverHandler.recover(eq(plan), eq(ARGS), eq(String.class), any(InterruptedException.class))).willReturn(PAYLOAD);
+        given(methodExceptionHandler.handle(any())).willReturn(PAYLOAD);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> slowUpstream = () -> {
+            awaitQuietly(release);
+            return PAYLOAD;
+        };
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(basicFailoverExecution.execute(plan, slowUpstream, ARGS)).isEqualTo(PAYLOAD);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            assertThat(basicFailoverExecution.backgroundCalls()).isEqualTo(1);
+        } finally {
+            Thread.interrupted();
+            release.countDown();
+        }
+        awaitNoBackgroundCalls(basicFailoverExecution);
+    }
+
+    @Test
+    @DisplayName("an interrupted caller waits for the upstream when the background calls are at their bound")
+    void latencyBudgetInterruptedCallerBoundsBackgroundCalls() throws InterruptedException {
+        givenLatencyBudget(50);
+        FailoverPlan plan = plan();
+        given(failoverHandler.recoverIfPresent(eq(plan), eq(ARGS), eq(String.class), any(TimeoutException.class))).willReturn("Stored");
+        var bounded = new BasicFailoverExecution<>(failoverHandler, methodExceptionHandler, null, () -> null,
+                ContextPropagator.noOp(), 1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> stalledUpstream = () -> {
+            awaitQuietly(release);
+            return PAYLOAD;
+        };
+        CountDownLatch never = new CountDownLatch(1);
+        Supplier<String> slowUpstream = () -> {
+            awaitQuietly(never, 100);
+            return PAYLOAD;
+        };
+
+        try {
+            assertThat(bounded.execute(plan, stalledUpstream, ARGS)).isEqualTo("Stored");
+
+            Thread.currentThread().interrupt();
+            assertThat(bounded.execute(plan, slowUpstream, ARGS)).isEqualTo(PAYLOAD);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            assertThat(bounded.backgroundCalls()).isEqualTo(1);
+            assertThat(bounded.latencyBudgetSaturated()).isEqualTo(1);
+            verifyNoInteractions(methodExceptionHandler);
+        } finally {
+            Thread.interrupted();
+            release.countDown();
+        }
+        awaitNoBackgroundCalls(bounded);
+    }
+
+    @Test
+    @DisplayName("latency budget runs the upstream call with the caller's tenant and MDC")
+    void latencyBudgetPropagatesCallerContext() {
+        givenLatencyBudget(5_000);
+        ThreadLocal<String> tenant = new ThreadLocal<>();
+        ContextPropagator tenantPropagator = task -> {
+            String captured = tenant.get();
+            return () -> {
+                tenant.set(captured);
+                try {
+                    task.run();
+                } finally {
+                    tenant.remove();
+                }
+            };
+        };
+        var propagating = new BasicFailoverExecution<>(failoverHandler, methodExceptionHandler, null, () -> null,
+                CompositeContextPropagator.of(tenantPropagator, new MdcContextPropagator()));
+        Supplier<String> upstream = () -> tenant.get() + "/" + MDC.get("traceId") + "/" + Thread.currentThread().isVirtual();
+        tenant.set("acme");
+        MDC.put("traceId", "trace-1");
+        try {
+            assertThat(propagating.execute(plan(), upstream, ARGS)).isEqualTo("acme/trace-1/true");
+        } finally {
+            tenant.remove();
+            MDC.remove("traceId");
+        }
+    }
+
+    @Test
+    @DisplayName("over the latency budget with the background calls at their bound, waits for the upstream result")
+    void latencyBudgetBoundsBackgroundCalls() throws Exception {
+        givenLatencyBudget(50);
+        FailoverPlan plan = plan();
+        given(failoverHandler.recoverIfPresent(eq(plan), eq(ARGS), eq(String.class), any(TimeoutException.class))).willReturn("Stored");
+        var bounded = new BasicFailoverExecution<>(failoverHandler, methodExceptionHandler, null, () -> null,
+                ContextPropagator.noOp(), 1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> stalledUpstream = () -> {
+            awaitQuietly(release);
+            return PAYLOAD;
+        };
+        CountDownLatch never = new CountDownLatch(1);
+        Supplier<String> slowUpstream = () -> {
+            awaitQuietly(never, 200);
+            return PAYLOAD;
+        };
+
+        try {
+            assertThat(bounded.execute(plan, stalledUpstream, ARGS)).isEqualTo("Stored");
+            assertThat(bounded.backgroundCalls()).isEqualTo(1);
+
+            assertThat(bounded.execute(plan, slowUpstream, ARGS)).isEqualTo(PAYLOAD);
+            assertThat(bounded.latencyBudgetSaturated()).isEqualTo(1);
+            assertThat(bounded.latencyBudgetExceeded()).isEqualTo(1);
+            verify(failoverHandler, times(1)).recoverIfPresent(eq(plan), eq(ARGS), eq(String.class), any(TimeoutException.class));
+        } finally {
+            release.countDown();
+        }
+
+        verify(failoverHandler, timeout(5_000).times(2)).store(plan, ARGS, PAYLOAD);
+        awaitNoBackgroundCalls(bounded);
+    }
+
+    @Test
+    @DisplayName("should reject a bound of background calls that is not positive")
+    void shouldRejectNonPositiveMaxBackgroundCalls() {
+        assertThatThrownBy(() -> new BasicFailoverExecution<>(failoverHandler, methodExceptionHandler, null, () -> null,
+                ContextPropagator.noOp(), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxBackgroundCalls must be > 0, but was 0");
+    }
+
+    private static void awaitNoBackgroundCalls(BasicFailoverExecution<String> execution) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (execution.backgroundCalls() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(execution.backgroundCalls()).isZero();
+    }
+
+    private void givenLatencyBudget(long millis) {
+        given(failover.latencyBudget()).willReturn(millis);
+        given(failover.latencyBudgetUnit()).willReturn(ChronoUnit.MILLIS);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch, long millis) {
+        try {
+            latch.await(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private FailoverPlan plan() {
+        return FailoverPlan.builder()
+                .failover(failover)
+                .method(method)
+                .returnType(String.class)
+                .name("country")
+                .effectiveName("country-domain")
+                .methodId("ReferentialMethod#findReferential")
+                .keyGenerator(keyGenerator)
+                .build();
+    }
+
     private Map<String, String> capturePublishedMetric() {
-        ArgumentCaptor<Metrics> captor = ArgumentCaptor.forClass(Metrics.class);
+        ArgumentCaptor<FailoverEvent> captor = ArgumentCaptor.forClass(FailoverEvent.class);
         verify(observablePublisher).publish(captor.capture());
-        return captor.getValue().getInfo();
+        return captor.getValue().toMetrics().getInfo();
     }
 
     interface ReferentialMethod {
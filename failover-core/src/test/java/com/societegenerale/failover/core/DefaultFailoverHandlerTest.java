@@ -26,8 +26,13 @@ import com.societegenerale.failover.core.key.KeyGeneratorLookup;
 import com.societegenerale.failover.core.payload.DefaultPayloadEnricher;
 import com.societegenerale.failover.core.payload.PayloadEnricher;
 import com.societegenerale.failover.core.payload.ReferentialPayload;
+import com.societegenerale.failover.core.payload.splitter.RecoverContext;
+import com.societegenerale.failover.core.payload.splitter.StoreContext;
+import com.societegenerale.failover.core.plan.FailoverPlan;
 import com.societegenerale.failover.core.store.FailoverStore;
+import com.societegenerale.failover.core.store.FailoverStoreBatchException;
 import com.societegenerale.failover.core.store.FailoverStoreException;
+import com.societegenerale.failover.core.store.RefreshThrottle;
 import com.societegenerale.failover.domain.Referential;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -36,20 +41,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static java.util.Optional.of;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 /**
@@ -111,7 +124,8 @@ class DefaultFailoverHandlerTest {
     void shouldRecoverTheReferentialWhenNotExpired() {
         var thirdParty = new ThirdParty(1L, "Tata", 1);
         var referentialPayload = new ReferentialPayload<>(FAILOVER_NAME, "1", false, now, now, thirdParty);
-        given(failoverStore.find(FAILOVER_NAME, "1")).willReturn(of(referentialPayload));
+        given(clock.now()).willReturn(now);
+        given(failoverStore.find(FAILOVER_NAME, "1", now)).willReturn(of(referentialPayload));
 
         ThirdParty result = defaultFailoverHandler.recover(failover, List.of(1L), ThirdParty.class, cause);
 
@@ -119,21 +133,22 @@ class DefaultFailoverHandlerTest {
         assertThat(result).isEqualTo(thirdParty);
         assertThat(result.getAsOf()).isEqualTo(now);
         assertThat(result.getUpToDate()).isFalse();
-        verify(failoverStore).find(FAILOVER_NAME, "1");
-        verify(failoverStore, never()).delete(referentialPayload);
+        verify(failoverStore).find(FAILOVER_NAME, "1", now);
+        verify(failoverStore, never()).deleteExpired(any());
         verify(expiryPolicy).isExpired(failover, referentialPayload);
     }
 
     @Test
     @DisplayName("should return null when no referential payload found for the given name and key")
     void shouldReturnNullWhenReferentialIsNotFound() {
-        given(failoverStore.find(FAILOVER_NAME, "1")).willReturn(Optional.empty());
+        given(clock.now()).willReturn(now);
+        given(failoverStore.find(FAILOVER_NAME, "1", now)).willReturn(Optional.empty());
 
         ThirdParty result = defaultFailoverHandler.recover(failover, List.of(1L), ThirdParty.class, cause);
 
         assertThat(result).isNull();
-        verify(failoverStore).find(FAILOVER_NAME, "1");
-        verify(failoverStore, never()).delete(any());
+        verify(failoverStore).find(FAILOVER_NAME, "1", now);
+        verify(failoverStore, never()).deleteExpired(any());
         verify(expiryPolicy, never()).isExpired(any(), any());
     }
 
@@ -145,7 +160,8 @@ class DefaultFailoverHandlerTest {
         var sentinel = new ThirdParty(99L, "DEFAULT", 0);
         var enriched = new ReferentialPayload<>(FAILOVER_NAME, "1", false, now, now, sentinel);
         given(mockEnricher.enrichOnRecover(failover, ThirdParty.class, null, cause)).willReturn(enriched);
-        given(failoverStore.find(FAILOVER_NAME, "1")).willReturn(Optional.empty());
+        given(clock.now()).willReturn(now);
+        given(failoverStore.find(FAILOVER_NAME, "1", now)).willReturn(Optional.empty());
         var handler = new DefaultFailoverHandler<>(keyGenerator, clock, failoverStore, expiryPolicy, mockEnricher);
 
         ThirdParty result = handler.recover(failover, List.of(1L), ThirdParty.class, cause);
@@ -158,24 +174,62 @@ class DefaultFailoverHandlerTest {
     void shouldReturnNullWhenReferentialIsExpired() {
         var thirdParty = new ThirdParty(1L, "Tata", 1);
         var referentialPayload = new ReferentialPayload<>(FAILOVER_NAME, "1", false, now, now, thirdParty);
-        given(failoverStore.find(FAILOVER_NAME, "1")).willReturn(of(referentialPayload));
+        given(clock.now()).willReturn(now);
+        given(failoverStore.find(FAILOVER_NAME, "1", now)).willReturn(of(referentialPayload));
         given(expiryPolicy.isExpired(failover, referentialPayload)).willReturn(true);
 
         ThirdParty result = defaultFailoverHandler.recover(failover, List.of(1L), ThirdParty.class, cause);
 
         assertThat(result).isNull();
-        verify(failoverStore).find(FAILOVER_NAME, "1");
-        verify(failoverStore).delete(referentialPayload);
+        verify(failoverStore).find(FAILOVER_NAME, "1", now);
+        verify(failoverStore).deleteExpired(List.of(referentialPayload));
         verify(expiryPolicy).isExpired(failover, referentialPayload);
     }
 
+    @Test
+    @DisplayName("should skip the store write within the minimum refresh interval and still return the payload")
+    void shouldSkipStoreWithinMinRefreshInterval() {
+        var handler = new DefaultFailoverHandler<>(keyGenerator, clock, failoverStore, expiryPolicy, payloadEnricher, new RefreshThrottle(Duration.ofMinutes(1)));
+        given(failover.minRefreshInterval()).willReturn(-1L);
+        given(clock.now()).willReturn(now, now.plusSeconds(30));
+        given(expiryPolicy.computeExpiry(failover)).willReturn(now.plus(1, ChronoUnit.HOURS));
+
+        handler.store(failover, List.of(1L), new ThirdParty(1L, "Tata", 1));
+        ThirdParty result = handler.store(failover, List.of(1L), new ThirdParty(1L, "Titi", 1));
+
+        assertThat(result.getName()).isEqualTo("Titi");
+        assertThat(result.getUpToDate()).isTrue();
+        verify(failoverStore, times(1)).store(any());
+    }
+
+    @Test
+    @DisplayName("should write again right after an expired entry was deleted on recover")
+    void shouldStoreAfterExpiredEntryDeleted() {
+        var handler = new DefaultFailoverHandler<>(keyGenerator, clock, failoverStore, expiryPolicy, payloadEnricher, new RefreshThrottle(Duration.ofMinutes(1)));
+        var thirdParty = new ThirdParty(1L, "Tata", 1);
+        var referentialPayload = new ReferentialPayload<>(FAILOVER_NAME, "1", false, now, now, thirdParty);
+        given(failover.minRefreshInterval()).willReturn(-1L);
+        given(clock.now()).willReturn(now);
+        given(expiryPolicy.computeExpiry(failover)).willReturn(now.plus(1, ChronoUnit.HOURS));
+        given(failoverStore.find(FAILOVER_NAME, "1", now)).willReturn(of(referentialPayload));
+        given(expiryPolicy.isExpired(failover, referentialPayload)).willReturn(true);
+
+        handler.store(failover, List.of(1L), thirdParty);
+        handler.recover(failover, List.of(1L), ThirdParty.class, cause);
+        handler.store(failover, List.of(1L), thirdParty);
+
+        verify(failoverStore).deleteExpired(List.of(referentialPayload));
+        verify(failoverStore, times(2)).store(any());
+    }
+
     @Test
     @DisplayName("should enrich metadata on Referential payload with exception info when recovering")
     void shouldEnrichMetadataOnReferentialPayloadWithExceptionInfoWhenRecovering() {
         var cause = new RuntimeException("upstream-failure");
         var thirdParty = new ThirdParty(1L, "Tata", 1);
         var referentialPayload = new ReferentialPayload<>(FAILOVER_NAME, "1", false, now, now, thirdParty);
-        given(failoverStore.find(FAILOVER_NAME, "1")).willReturn(of(referentialPayload));
+        given(clock.now()).willReturn(now);
+        given(failoverStore.find(FAILOVER_NAME, "1", now)).willReturn(of(referentialPayload));
 
         ThirdParty result = defaultFailoverHandler.recover(failover, List.of(1L), ThirdParty.class, cause);
 
@@ -241,7 +295,8 @@ class DefaultFailoverHandlerTest {
         var tp2 = new ThirdParty(2L, "Bata", 2);
         var rp1 = new ReferentialPayload<>(FAILOVER_NAME, "1", false, now, now, tp1);
         var rp2 = new ReferentialPayload<>(FAILOVER_NAME, "2", false, now, now, tp2);
-        given(failoverStore.findAll(FAILOVER_NAME)).willReturn(List.of(rp1, rp2));
+        given(clock.now()).willReturn(now);
+        given(failoverStore.streamAll(FAILOVER_NAME, now)).willReturn(Stream.of(rp1, rp2));
         given(expiryPolicy.isExpired(failover, rp1)).willReturn(false);
         given(expiryPolicy.isExpired(failover, rp2)).willReturn(false);
 
@@ -257,7 +312,8 @@ class DefaultFailoverHandlerTest {
         var tp2 = new ThirdParty(2L, "Bata", 2);
         var rp1 = new ReferentialPayload<>(FAILOVER_NAME, "1", false, now, now, tp1);
         var rp2 = new ReferentialPayload<>(FAILOVER_NAME, "2", false, now, now, tp2);
-        given(failoverStore.findAll(FAILOVER_NAME)).willReturn(List.of(rp1, rp2));
+        given(clock.now()).willReturn(now);
+        given(failoverStore.streamAll(FAILOVER_NAME, now)).willReturn(Stream.of(rp1, rp2));
         given(expiryPolicy.isExpired(failover, rp1)).willReturn(false);
         given(expiryPolicy.isExpired(failover, rp2)).willReturn(true);
 
@@ -265,19 +321,182 @@ class DefaultFailoverHandlerTest {
 
         assertThat(result).hasSize(2).first().isEqualTo(tp1);
         assertThat(result).element(1).isNull();
-        verify(failoverStore).delete(rp2);
+        verify(failoverStore).deleteExpired(List.of(rp2));
+    }
+
+    @Test
+    @DisplayName("recoverAll: closes the store stream before deleting the expired entries")
+    void shouldRecoverAllCloseStreamBeforeDeletingExpiredEntries() {
+        var rp1 = new ReferentialPayload<ThirdParty>(FAILOVER_NAME, "1", false, now, now, null);
+        var closed = new AtomicBoolean();
+        given(clock.now()).willReturn(now);
+        given(failoverStore.streamAll(FAILOVER_NAME, now)).willReturn(Stream.of(rp1).onClose(() -> closed.set(true)));
+        given(expiryPolicy.isExpired(failover, rp1)).willReturn(true);
+        willAnswer(invocation -> {
+            assertThat(closed).isTrue();
+            return null;
+        }).given(failoverStore).deleteExpired(List.of(rp1));
+
+        List<ThirdParty> result = defaultFailoverHandler.recoverAll(failover, List.of(), ThirdParty.class, cause);
+
+        assertThat(result).containsExactly((ThirdParty) null);
+        verify(failoverStore).deleteExpired(List.of(rp1));
     }
 
     @Test
     @DisplayName("recoverAll: returns empty list when store has no entries")
     void shouldReturnEmptyListWhenStoreHasNoEntriesForRecoverAll() {
-        given(failoverStore.findAll(FAILOVER_NAME)).willReturn(List.of());
+        given(clock.now()).willReturn(now);
+        given(failoverStore.streamAll(FAILOVER_NAME, now)).willReturn(Stream.empty());
 
         List<ThirdParty> result = defaultFailoverHandler.recoverAll(failover, List.of(), ThirdParty.class, cause);
 
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("plan-driven store uses the plan's key generator and expiry policy, not the handler's")
+    void planDrivenStoreUsesPlanCollaborators() {
+        @SuppressWarnings("unchecked")
+        ExpiryPolicy<ThirdParty> planExpiryPolicy = mock(ExpiryPolicy.class);
+        KeyGenerator planKeyGenerator = (f, args) -> "plan-key";
+        var thirdParty = new ThirdParty(1L, "Tata", 1);
+        given(clock.now()).willReturn(now);
+        given(planExpiryPolicy.computeExpiry(failover)).willReturn(now);
+
+        defaultFailoverHandler.store(plan(planKeyGenerator, planExpiryPolicy), List.of(1L), thirdParty);
+
+        verify(failoverStore).store(new ReferentialPayload<>(FAILOVER_NAME, "plan-key", true, now, now, thirdParty));
+        verify(expiryPolicy, never()).computeExpiry(any());
+    }
+
+    @Test
+    @DisplayName("plan-driven recover uses the plan's key generator and expiry policy, not the handler's")
+    void planDrivenRecoverUsesPlanCollaborators() {
+        @SuppressWarnings("unchecked")
+        ExpiryPolicy<ThirdParty> planExpiryPolicy = mock(ExpiryPolicy.class);
+        KeyGenerator planKeyGenerator = (f, args) -> "plan-key";
+        var thirdParty = new ThirdParty(1L, "Tata", 1);
+        var referentialPayload = new ReferentialPayload<>(FAILOVER_NAME, "plan-key", false, now, now, thirdParty);
+        given(clock.now()).willReturn(now);
+        given(failoverStore.find(FAILOVER_NAME, "plan-key", now)).willReturn(of(referentialPayload));
+
+        ThirdParty result = defaultFailoverHandler.recover(plan(planKeyGenerator, planExpiryPolicy), List.of(1L), ThirdParty.class, cause);
+
+        assertThat(result).isEqualTo(thirdParty);
+        verify(planExpiryPolicy).isExpired(failover, referentialPayload);
+        verify(expiryPolicy, never()).isExpired(any(), any());
+    }
+
+    @Test
+    @DisplayName("plan-driven storeEach writes every non-null slice with a single storeAll")
+    void planDrivenStoreEachWritesSlicesInOneBatch() {
+        var tata = new ThirdParty(1L, "Tata", 1);
+        var titi = new ThirdParty(3L, "Titi", 3);
+        given(clock.now()).willReturn(now);
+        given(expiryPolicy.computeExpiry(failover)).willReturn(now);
+
+        defaultFailoverHandler.storeEach(plan(keyGenerator, expiryPolicy), List.of(
+                StoreContext.<ThirdParty>builder().failover(failover).args(List.of(1L)).payload(tata).build(),
+                StoreContext.<ThirdParty>builder().failover(failover).args(List.of(2L)).build(),
+                StoreContext.<ThirdParty>builder().failover(failover).args(List.of(3L)).payload(titi).build()));
+
+        verify(failoverStore).storeAll(List.of(
+                new ReferentialPayload<>(FAILOVER_NAME, "1", true, now, now, tata),
+                new ReferentialPayload<>(FAILOVER_NAME, "3", true, now, now, titi)));
+        verify(failoverStore, never()).store(any());
+    }
+
+    @Test
+    @DisplayName("plan-driven storeEach skips the store call when every slice is within its minimum refresh interval")
+    void planDrivenStoreEachSkipsThrottledSlices() {
+        var handler = new DefaultFailoverHandler<>(keyGenerator, clock, failoverStore, expiryPolicy, payloadEnricher, new RefreshThrottle(Duration.ofMinutes(1)));
+        given(failover.minRefreshInterval()).willReturn(-1L);
+        given(clock.now()).willReturn(now, now.plusSeconds(30));
+        given(expiryPolicy.computeExpiry(failover)).willReturn(now.plus(1, ChronoUnit.HOURS));
+        var slices = List.of(StoreContext.<ThirdParty>builder().failover(failover).args(List.of(1L)).payload(new ThirdParty(1L, "Tata", 1)).build());
+
+        handler.storeEach(plan(keyGenerator, expiryPolicy), slices);
+        handler.storeEach(plan(keyGenerator, expiryPolicy), slices);
+
+        verify(failoverStore, times(1)).storeAll(any());
+    }
+
+    @Test
+    @DisplayName("should write again within the minimum refresh interval when the previous write failed")
+    void shouldStoreAgainAfterFailedWrite() {
+        var handler = new DefaultFailoverHandler<>(keyGenerator, clock, failoverStore, expiryPolicy, payloadEnricher, new RefreshThrottle(Duration.ofMinutes(1)));
+        given(failover.minRefreshInterval()).willReturn(-1L);
+        given(clock.now()).willReturn(now, now.plusSeconds(30));
+        given(expiryPolicy.computeExpiry(failover)).willReturn(now.plus(1, ChronoUnit.HOURS));
+        willThrow(new FailoverStoreException("store down")).willDoNothing().given(failoverStore).store(any());
+        List<Object> args = List.of(1L);
+        var first = new ThirdParty(1L, "Tata", 1);
+
+        assertThatThrownBy(() -> handler.store(failover, args, first)).isInstanceOf(FailoverStoreException.class);
+        handler.store(failover, args, new ThirdParty(1L, "Titi", 1));
+
+        verify(failoverStore, times(2)).store(any());
+    }
+
+    @Test
+    @DisplayName("plan-driven storeEach writes again the slices a batch failed to store, and only those")
+    @SuppressWarnings("unchecked")
+    void planDrivenStoreEachRetriesFailedSlices() {
+        var handler = new DefaultFailoverHandler<>(keyGenerator, clock, failoverStore, expiryPolicy, payloadEnricher, new RefreshThrottle(Duration.ofMinutes(1)));
+        given(failover.minRefreshInterval()).willReturn(-1L);
+        given(clock.now()).willReturn(now, now.plusSeconds(30));
+        given(expiryPolicy.computeExpiry(failover)).willReturn(now.plus(1, ChronoUnit.HOURS));
+        var failed = new ReferentialPayload<>(FAILOVER_NAME, "1", true, now, now, new ThirdParty(1L, "Tata", 1));
+        willThrow(new FailoverStoreBatchException(List.of(failed), new IllegalStateException("row 1")))
+                .willDoNothing().given(failoverStore).storeAll(any());
+        var slices = List.of(
+                StoreContext.<ThirdParty>builder().failover(failover).args(List.of(1L)).payload(new ThirdParty(1L, "Tata", 1)).build(),
+                StoreContext.<ThirdParty>builder().failover(failover).args(List.of(3L)).payload(new ThirdParty(3L, "Titi", 3)).build());
+        FailoverPlan plan = plan(keyGenerator, expiryPolicy);
+
+        assertThatThrownBy(() -> handler.storeEach(plan, slices)).isInstanceOf(FailoverStoreBatchException.class);
+        handler.storeEach(plan, slices);
+
+        ArgumentCaptor<List<ReferentialPayload<ThirdParty>>> batches = ArgumentCaptor.forClass(List.class);
+        verify(failoverStore, times(2)).storeAll(batches.capture());
+        assertThat(batches.getAllValues().get(1)).extracting(ReferentialPayload::getKey).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("plan-driven recoverEach reads every slice with a single findAll and keeps the results positional")
+    void planDrivenRecoverEachReadsSlicesInOneBatch() {
+        var tata = new ThirdParty(1L, "Tata", 1);
+        var expired = new ReferentialPayload<>(FAILOVER_NAME, "2", false, now, now, new ThirdParty(2L, "Toto", 2));
+        var found = new ReferentialPayload<>(FAILOVER_NAME, "1", false, now, now, tata);
+        given(clock.now()).willReturn(now);
+        given(failoverStore.findAll(FAILOVER_NAME, List.of("1", "2", "3"), now)).willReturn(List.of(found, expired));
+        given(expiryPolicy.isExpired(failover, found)).willReturn(false);
+        given(expiryPolicy.isExpired(failover, expired)).willReturn(true);
+
+        List<ThirdParty> result = defaultFailoverHandler.recoverEach(plan(keyGenerator, expiryPolicy), List.of(
+                recoverSlice(1L), recoverSlice(2L), recoverSlice(1L), recoverSlice(3L)));
+
+        assertThat(result).containsExactly(tata, null, tata, null);
+        verify(failoverStore).deleteExpired(List.of(expired));
+        verify(failoverStore, never()).find(any(), any(), any());
+    }
+
+    private RecoverContext<ThirdParty> recoverSlice(long id) {
+        return RecoverContext.<ThirdParty>builder().failover(failover).args(List.of(id)).clazz(ThirdParty.class).cause(cause).build();
+    }
+
+    private FailoverPlan plan(KeyGenerator planKeyGenerator, ExpiryPolicy<ThirdParty> planExpiryPolicy) {
+        return FailoverPlan.builder()
+                .failover(failover)
+                .returnType(ThirdParty.class)
+                .name(FAILOVER_NAME)
+                .effectiveName(FAILOVER_NAME)
+                .keyGenerator(planKeyGenerator)
+                .expiryPolicy(planExpiryPolicy)
+                .build();
+    }
+
     static class TestFailoverStore<T> implements FailoverStore<T> {
         private final Map<String, ReferentialPayload<T>> store = new ConcurrentHashMap<>();
 
@@ -69,7 +69,7 @@ class PayloadGatherTest {
     @Mock private PayloadSplitter<String, String> splitter;
     @Mock private com.societegenerale.failover.core.observable.publisher.ObservablePublisher observablePublisher;
 
-    @org.mockito.Captor private org.mockito.ArgumentCaptor<com.societegenerale.failover.core.observable.Metrics> metricsCaptor;
+    @org.mockito.Captor private org.mockito.ArgumentCaptor<com.societegenerale.failover.core.observable.FailoverEvent> metricsCaptor;
 
     private PayloadGather<String, String> gather;
 
@@ -147,7 +147,7 @@ class PayloadGatherTest {
             gather.recover(failover, METHOD, COMPOSITE_ARGS, String.class, cause);
 
             verify(observablePublisher).publish(metricsCaptor.capture());
-            java.util.Map<String, String> info = metricsCaptor.getValue().getInfo();
+            java.util.Map<String, String> info = metricsCaptor.getValue().toMetrics().getInfo();
             assertThat(info)
                     .containsEntry("failover-action", "recover-partial")
                     .containsEntry("failover-method", "List#size")
@@ -165,7 +165,7 @@ class PayloadGatherTest {
 
             gather.recover(failover, METHOD, COMPOSITE_ARGS, String.class, cause);
 
-            verify(observablePublisher, never()).publish(any());
+            verify(observablePublisher, never()).publish(any(com.societegenerale.failover.core.observable.FailoverEvent.class));
         }
 
         @Test
@@ -178,7 +178,7 @@ class PayloadGatherTest {
 
             gather.recover(failover, METHOD, COMPOSITE_ARGS, String.class, cause);
 
-            verify(observablePublisher, never()).publish(any());
+            verify(observablePublisher, never()).publish(any(com.societegenerale.failover.core.observable.FailoverEvent.class));
         }
     }
 
@@ -228,7 +228,7 @@ class PayloadGatherTest {
             gather.recover(failover, METHOD, List.of(), String.class, cause);
 
             verify(observablePublisher).publish(metricsCaptor.capture());
-            assertThat(metricsCaptor.getValue().getInfo())
+            assertThat(metricsCaptor.getValue().toMetrics().getInfo())
                     .containsEntry("failover-action", "recover-partial")
                     .containsEntry("failover-missing", "1")
                     .containsEntry("failover-total", "2");
@@ -244,7 +244,7 @@ class PayloadGatherTest {
 
             gather.recover(failover, METHOD, List.of(), String.class, cause);
 
-            verify(observablePublisher, never()).publish(any());
+            verify(observablePublisher, never()).publish(any(com.societegenerale.failover.core.observable.FailoverEvent.class));
         }
 
         @Test
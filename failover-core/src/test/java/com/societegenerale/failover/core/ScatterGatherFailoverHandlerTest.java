@@ -18,6 +18,7 @@ package com.societegenerale.failover.core;
 
 import com.societegenerale.failover.annotations.Failover;
 import com.societegenerale.failover.core.payload.splitter.*;
+import com.societegenerale.failover.core.plan.FailoverPlan;
 import com.societegenerale.failover.core.propagator.ContextPropagator;
 import com.societegenerale.failover.domain.Referential;
 import lombok.AllArgsConstructor;
@@ -48,6 +49,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willCallRealMethod;
+import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.*;
 
 /**
@@ -255,6 +258,202 @@ class ScatterGatherFailoverHandlerTest {
         }
     }
 
+    // ════════════════════════════════════════════════════════════════════════
+    // PLAN-DRIVEN — pre-resolved splitter, plan forwarded to the slice delegate
+    // ════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("Plan-driven scatter/gather")
+    class PlanDrivenTests {
+
+        @BeforeEach
+        void setUp() {
+            // The mocked slice delegate falls back to the per-slice defaults of the batched calls.
+            willCallRealMethod().given(delegateR).storeEach(any(), any());
+            willCallRealMethod().given(delegateR).recoverEach(any(), any());
+        }
+
+        private FailoverPlan plan(PayloadSplitter<?, ?> splitter) {
+            return FailoverPlan.builder()
+                    .failover(failover)
+                    .method(METHOD)
+                    .returnType(ThirdPartiesResult.class)
+                    .name(FAILOVER_NAME)
+                    .effectiveName(FAILOVER_NAME)
+                    .methodId("SampleService#findAll")
+                    .payloadSplitter(splitter)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("should scatter with the plan's splitter (no lookup) and store each slice with the plan")
+        void shouldScatterWithPlanSplitterAndStoreSlicesWithPlan() {
+            FailoverPlan plan = plan(thirdPartyPayloadSplitter);
+            ThirdPartiesResult compositePayload = result(TP_1, TP_2, TP_3);
+
+            handler.store(plan, ARGS_1_2_3, compositePayload);
+
+            verify(payloadSplitterLookup, never()).lookup(any());
+            verify(delegateR).store(plan, ARGS_1, TP_1);
+            verify(delegateR).store(plan, ARGS_2, TP_2);
+            verify(delegateR).store(plan, ARGS_3, TP_3);
+            verify(delegateR, never()).store(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should gather with the plan's splitter (no lookup) and recover each slice with the plan")
+        void shouldGatherWithPlanSplitterAndRecoverSlicesWithPlan() {
+            FailoverPlan plan = plan(thirdPartyPayloadSplitter);
+            given(delegateR.recover(plan, ARGS_1, ThirdParty.class, cause)).willReturn(TP_1);
+            given(delegateR.recover(plan, ARGS_2, ThirdParty.class, cause)).willReturn(TP_2);
+
+            ThirdPartiesResult recovered = handler.recover(plan, ARGS_1_2, ThirdPartiesResult.class, cause);
+
+            assertThat(recovered).isEqualTo(result(TP_1, TP_2));
+            verify(payloadSplitterLookup, never()).lookup(any());
+        }
+
+        @Test
+        @DisplayName("should store the slices in one batch with the plan on the sequential path")
+        void shouldStoreSlicesInOneBatchWithPlan() {
+            FailoverPlan plan = plan(thirdPartyPayloadSplitter);
+
+            handler.store(plan, ARGS_1_2_3, result(TP_1, TP_2, TP_3));
+
+            verify(delegateR).storeEach(eq(plan), argThat(slices -> slices.stream().map(StoreContext::getPayload).toList().equals(List.of(TP_1, TP_2, TP_3))));
+        }
+
+        @Test
+        @DisplayName("should recover the slices in one batch with the plan")
+        void shouldRecoverSlicesInOneBatchWithPlan() {
+            FailoverPlan plan = plan(thirdPartyPayloadSplitter);
+            willReturn(List.of(TP_1, TP_2)).given(delegateR).recoverEach(eq(plan), any());
+
+            ThirdPartiesResult recovered = handler.recover(plan, ARGS_1_2, ThirdPartiesResult.class, cause);
+
+            assertThat(recovered).isEqualTo(result(TP_1, TP_2));
+            verify(delegateR, never()).recover(any(FailoverPlan.class), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should store and recover slice by slice with the plan on the parallel path")
+        void shouldNotBatchOnParallelPath() {
+            ExecutorService executorService = Executors.newFixedThreadPool(2);
+            try {
+                var parallelHandler = ScatterGatherFailoverHandler.builder(delegateT, delegateR, payloadSplitterLookup)
+                        .executor(executorService).build();
+                FailoverPlan plan = plan(thirdPartyPayloadSplitter);
+                given(delegateR.recover(plan, ARGS_1, ThirdParty.class, cause)).willReturn(TP_1);
+                given(delegateR.recover(plan, ARGS_2, ThirdParty.class, cause)).willReturn(TP_2);
+
+                parallelHandler.store(plan, ARGS_1_2, result(TP_1, TP_2));
+                ThirdPartiesResult recovered = parallelHandler.recover(plan, ARGS_1_2, ThirdPartiesResult.class, cause);
+
+                assertThat(recovered).isEqualTo(result(TP_1, TP_2));
+                verify(delegateR).store(plan, ARGS_1, TP_1);
+                verify(delegateR).store(plan, ARGS_2, TP_2);
+                verify(delegateR, never()).storeEach(any(), any());
+                verify(delegateR, never()).recoverEach(any(), any());
+            } finally {
+                executorService.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("should fall back to the splitter lookup when the plan carries no splitter")
+        void shouldFallBackToLookupWhenPlanHasNoSplitter() {
+            FailoverPlan plan = plan(null);
+
+            handler.store(plan, ARGS_1_2_3, result(TP_1, TP_2, TP_3));
+
+            verify(payloadSplitterLookup).lookup(SPLITTER_NAME);
+            verify(delegateR).store(plan, ARGS_1, TP_1);
+        }
+
+        @Test
+        @DisplayName("should forward the plan to delegateT when payloadSplitter not configured")
+        void shouldForwardPlanToDelegateTWhenNoSplitterConfigured() {
+            given(failover.payloadSplitter()).willReturn("");
+            FailoverPlan plan = plan(null);
+            ThirdPartiesResult compositePayload = result(TP_1, TP_2);
+
+            handler.store(plan, ARGS_1_2, compositePayload);
+
+            verify(delegateT).store(plan, ARGS_1_2, compositePayload);
+            verify(payloadSplitterLookup, never()).lookup(any());
+        }
+
+        @Test
+        @DisplayName("should forward the plan to delegateT on recover when payloadSplitter not configured")
+        void shouldForwardPlanToDelegateTOnRecoverWhenNoSplitterConfigured() {
+            given(failover.payloadSplitter()).willReturn("");
+            FailoverPlan plan = plan(null);
+            given(delegateT.recover(plan, ARGS_1_2, ThirdPartiesResult.class, cause)).willReturn(result(TP_1, TP_2));
+
+            ThirdPartiesResult recovered = handler.recover(plan, ARGS_1_2, ThirdPartiesResult.class, cause);
+
+            assertThat(recovered).isEqualTo(result(TP_1, TP_2));
+            verify(payloadSplitterLookup, never()).lookup(any());
+        }
+
+        @Test
+        @DisplayName("should return null without scattering when the plan-driven payload is null")
+        void shouldReturnNullWhenPlanDrivenPayloadIsNull() {
+            ThirdPartiesResult stored = handler.store(plan(thirdPartyPayloadSplitter), ARGS_1_2_3, null);
+
+            assertThat(stored).isNull();
+            verifyNoInteractions(delegateR, delegateT);
+        }
+
+        @Test
+        @DisplayName("should recover all slices with the plan when args are empty")
+        void shouldRecoverAllSlicesWithPlanWhenArgsEmpty() {
+            FailoverPlan plan = plan(thirdPartyPayloadSplitterForRecoverAll);
+            given(delegateR.recoverAll(plan, List.of(), ThirdParty.class, cause)).willReturn(List.of(TP_1, TP_2));
+
+            ThirdPartiesResult recovered = handler.recover(plan, List.of(), ThirdPartiesResult.class, cause);
+
+            assertThat(recovered).isEqualTo(result(TP_1, TP_2));
+        }
+
+        @Test
+        @DisplayName("should fall back to method-aware slice calls when the splitter rewrites the slice Failover")
+        void shouldFallBackToMethodAwareCallsWhenSplitterRewritesFailover() {
+            Failover sliceFailover = mock(Failover.class);
+            PayloadSplitter<ThirdPartiesResult, ThirdParty> rewritingSplitter = mock();
+            given(rewritingSplitter.splitOnStore(any())).willReturn(List.of(
+                    StoreContext.<ThirdParty>builder().failover(sliceFailover).args(ARGS_1).payload(TP_1).build()));
+            given(rewritingSplitter.splitOnRecover(any())).willReturn(List.of(
+                    RecoverContext.<ThirdParty>builder().failover(sliceFailover).args(ARGS_1).clazz(ThirdParty.class).cause(cause).build()));
+            given(rewritingSplitter.merge(any())).willAnswer(invocation -> RecoverContext.<ThirdPartiesResult>builder()
+                    .payload(result(TP_1)).build());
+            given(delegateR.recover(sliceFailover, METHOD, ARGS_1, ThirdParty.class, cause)).willReturn(TP_1);
+            FailoverPlan plan = plan(rewritingSplitter);
+
+            handler.store(plan, ARGS_1, result(TP_1));
+            ThirdPartiesResult recovered = handler.recover(plan, ARGS_1, ThirdPartiesResult.class, cause);
+
+            verify(delegateR).store(sliceFailover, METHOD, ARGS_1, TP_1);
+            assertThat(recovered).isEqualTo(result(TP_1));
+        }
+
+        @Test
+        @DisplayName("should fall back to method-aware recover-all slice calls when the splitter rewrites the slice Failover")
+        void shouldFallBackToMethodAwareRecoverAllWhenSplitterRewritesFailover() {
+            Failover sliceFailover = mock(Failover.class);
+            PayloadSplitter<ThirdPartiesResult, ThirdParty> rewritingSplitter = mock();
+            given(rewritingSplitter.splitOnRecover(any())).willReturn(List.of(
+                    RecoverContext.<ThirdParty>builder().failover(sliceFailover).args(List.of()).clazz(ThirdParty.class).cause(cause).build()));
+            given(rewritingSplitter.merge(any())).willAnswer(invocation -> RecoverContext.<ThirdPartiesResult>builder()
+                    .payload(result(TP_1)).build());
+            given(delegateR.recoverAll(sliceFailover, METHOD, List.of(), ThirdParty.class, cause)).willReturn(List.of(TP_1));
+
+            ThirdPartiesResult recovered = handler.recover(plan(rewritingSplitter), List.of(), ThirdPartiesResult.class, cause);
+
+            assertThat(recovered).isEqualTo(result(TP_1));
+        }
+    }
+
     // ════════════════════════════════════════════════════════════════════════
     // CLEAN
     // ════════════════════════════════════════════════════════════════════════
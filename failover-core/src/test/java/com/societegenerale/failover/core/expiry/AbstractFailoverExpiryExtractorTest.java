@@ -7,10 +7,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.HOURS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 class AbstractFailoverExpiryExtractorTest {
@@ -79,4 +84,94 @@ class AbstractFailoverExpiryExtractorTest {
         var result = failoverExpiryExtractor.expiryUnit(failover);
         assertThat(result).isEqualTo(DAYS);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should resolve the duration and unit expressions once per failover and serve them from cache")
+    void shouldResolveExpressionsOncePerFailover() {
+        var extractor = new CountingExpiryExtractor();
+        given(failover.expiryDurationExpression()).willReturn("${ttl}");
+        given(failover.expiryUnitExpression()).willReturn("${unit}");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(extractor.expiryDuration(failover)).isEqualTo(5L);
+            assertThat(extractor.expiryUnit(failover)).isEqualTo(DAYS);
+        }
+
+        assertThat(extractor.durationResolutions).hasValue(1);
+        assertThat(extractor.unitResolutions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should resolve each failover annotation instance separately")
+    void shouldResolveEachFailoverSeparately() {
+        var extractor = new CountingExpiryExtractor();
+        Failover other = mock(Failover.class);
+        given(failover.expiryDurationExpression()).willReturn("${ttl}");
+        given(other.expiryDurationExpression()).willReturn("${ttl}");
+
+        extractor.expiryDuration(failover);
+        extractor.expiryDuration(other);
+        extractor.expiryDuration(failover);
+
+        assertThat(extractor.durationResolutions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should re-resolve expressions against the current configuration after a refresh")
+    void shouldReResolveAfterRefresh() {
+        var extractor = new CountingExpiryExtractor();
+        given(failover.expiryDurationExpression()).willReturn("${ttl}");
+        given(failover.expiryUnitExpression()).willReturn("${unit}");
+        extractor.expiryDuration(failover);
+        extractor.expiryUnit(failover);
+
+        extractor.duration = 30L;
+        extractor.unit = "minutes";
+        assertThat(extractor.expiryDuration(failover)).as("still cached before refresh").isEqualTo(5L);
+
+        extractor.refresh();
+
+        assertThat(extractor.expiryDuration(failover)).isEqualTo(30L);
+        assertThat(extractor.expiryUnit(failover)).isEqualTo(ChronoUnit.MINUTES);
+        assertThat(extractor.durationResolutions).hasValue(2);
+        assertThat(extractor.unitResolutions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should not cache a failing expression")
+    void shouldNotCacheAFailingExpression() {
+        var extractor = new CountingExpiryExtractor();
+        given(failover.expiryUnitExpression()).willReturn("${unit}");
+        extractor.unit = "fortnights";
+
+        assertThatThrownBy(() -> extractor.expiryUnit(failover)).isInstanceOf(IllegalArgumentException.class);
+
+        extractor.unit = "hours";
+        assertThat(extractor.expiryUnit(failover)).isEqualTo(HOURS);
+        assertThat(extractor.unitResolutions).hasValue(2);
+    }
+
+    /** Resolves every expression to mutable values, counting resolutions. */
+    private static final class CountingExpiryExtractor extends AbstractFailoverExpiryExtractor {
+
+        private final AtomicInteger durationResolutions = new AtomicInteger();
+
+        private final AtomicInteger unitResolutions = new AtomicInteger();
+
+        private long duration = 5L;
+
+        private String unit = "days";
+
+        @Override
+        protected long resolveExpiryDuration(String expression) {
+            durationResolutions.incrementAndGet();
+            return duration;
+        }
+
+        @Override
+        protected ChronoUnit resolveExpiryUnit(String expression) {
+            unitResolutions.incrementAndGet();
+            return ChronoUnit.valueOf(unit.toUpperCase());
+        }
+    }
+}
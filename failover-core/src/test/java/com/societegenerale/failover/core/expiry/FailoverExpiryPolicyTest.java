@@ -160,4 +160,15 @@ class FailoverExpiryPolicyTest {
         assertThat(exception).isInstanceOf(ExpiryPolicyNotFoundException.class);
         assertThat(exception.getMessage()).isEqualTo("No matching ExpiryPolicy bean found for failover 'failover-xyz' with expiry policy qualifier 'failover-expiry-policy'. Neither qualifier match nor bean name match!");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("resolve returns the named expiry policy when expiry policy specified, the default otherwise")
+    void resolveReturnsNamedOrDefaultExpiryPolicy() {
+        given(failover.expiryPolicy()).willReturn(EXPIRY_POLICY_NAME);
+        given(expiryPolicyLookup.lookup(EXPIRY_POLICY_NAME)).willReturn(customExpiryPolicy);
+        assertThat(failoverExpiryPolicy.resolve(failover)).isSameAs(customExpiryPolicy);
+
+        given(failover.expiryPolicy()).willReturn("");
+        assertThat(failoverExpiryPolicy.resolve(failover)).isSameAs(defaultExpiryPolicy);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.flight;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlightStats stats = new SingleFlightStats();
+
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>(stats);
+
+    @Test
+    @DisplayName("should run the call on the caller thread and release the key once done")
+    void shouldRunCallAndRelease() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(singleFlight.execute("FR", () -> "value-" + calls.incrementAndGet())).isEqualTo("value-1");
+        assertThat(singleFlight.execute("FR", () -> "value-" + calls.incrementAndGet())).isEqualTo("value-2");
+
+        assertThat(singleFlight.inFlight()).isZero();
+        assertThat(stats.leaders()).isEqualTo(2);
+        assertThat(stats.followers()).isZero();
+        assertThat(stats.fanIn()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("should share the running call with the callers of the same key")
+    void shouldShareRunningCall() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Object result = new Object();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("FR", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                awaitQuietly(release);
+                return result;
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Future<Object>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("FR", () -> {
+                    calls.incrementAndGet();
+                    return new Object();
+                })));
+            }
+            waitUntil(() -> stats.followers() == 3);
+
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(result);
+            for (Future<Object> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(stats.leaders()).isEqualTo(1);
+        assertThat(stats.fanIn()).isEqualTo(4.0);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("should not collapse calls of different keys")
+    void shouldRunEachKey() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("FR", () -> {
+                started.countDown();
+                awaitQuietly(release);
+                return "FR";
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(singleFlight.execute("DE", () -> "DE")).isEqualTo("DE");
+            assertThat(singleFlight.inFlight()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("FR");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(stats.leaders()).isEqualTo(2);
+        assertThat(stats.followers()).isZero();
+    }
+
+    @Test
+    @DisplayName("should rethrow the exception of the call to the leader and its followers, then release the key")
+    void shouldShareFailure() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("store down");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("FR", () -> {
+                started.countDown();
+                awaitQuietly(release);
+                throw failure;
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Object> follower = executor.submit(() -> singleFlight.execute("FR", Object::new));
+            waitUntil(() -> stats.followers() == 1);
+
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(singleFlight.inFlight()).isZero();
+        assertThat(singleFlight.execute("FR", () -> "again")).isEqualTo("again");
+    }
+
+    @Test
+    @DisplayName("should report NaN fan-in before any call")
+    void shouldReportNaNFanInBeforeAnyCall() {
+        assertThat(new SingleFlight<>().stats().fanIn()).isNaN();
+    }
+
+    /** Followers are counted before they block, so once counted they are waiting on the leader. */
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("condition not met within 5s").isNegative();
+            Thread.sleep(1);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
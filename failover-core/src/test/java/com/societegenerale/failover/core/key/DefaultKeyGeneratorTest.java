@@ -32,6 +32,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.Integer.toHexString;
@@ -55,6 +56,14 @@ class DefaultKeyGeneratorTest {
         assertThat(key).isEqualTo("NO-ARG");
     }
 
+    @Test
+    @DisplayName("should append 'no-arg' when argument is null")
+    void shouldAppendNoArgWhenArgumentIsNull() {
+        StringBuilder buffer = new StringBuilder();
+        defaultKeyProvider.appendKey(FAILOVER, null, buffer);
+        assertThat(buffer).hasToString("NO-ARG");
+    }
+
     @Test
     @DisplayName("should return 'no-arg' when argument is empty")
     void shouldReturnNoArgWhenArgumentIsEmpty() {
@@ -83,6 +92,61 @@ class DefaultKeyGeneratorTest {
         assertThat(key).isEqualTo("x:1,2,3:y");
     }
 
+    @Test
+    @DisplayName("should encode every primitive array type like its boxed elements")
+    void shouldEncodePrimitiveArraysLikeBoxedElements() {
+        String key = defaultKeyProvider.key(FAILOVER, List.of(new long[]{1L, -2L}, new short[]{3, 4}, new byte[]{5, 6},
+                new char[]{'a', 'b'}, new double[]{1.5, 2.0}, new float[]{0.5f, 3f}, new boolean[]{true, false}));
+        assertThat(key).isEqualTo("1,-2:3,4:5,6:a,b:1.5,2.0:0.5,3.0:true,false");
+    }
+
+    @Test
+    @DisplayName("should encode empty arrays and collections as an empty value")
+    void shouldEncodeEmptyArraysAndCollectionsAsEmptyValue() {
+        String key = defaultKeyProvider.key(FAILOVER, List.of("x", new long[0], List.of(), new String[0], "y"));
+        assertThat(key).isEqualTo("x::::y");
+    }
+
+    @Test
+    @DisplayName("should encode object arrays and nested collections recursively")
+    void shouldEncodeObjectArraysAndNestedCollectionsRecursively() {
+        String key = defaultKeyProvider.key(FAILOVER, asList(new Object[]{"a", null, 1L, new int[]{2, 3}}, List.of(List.of(4L, 5L), Set.of(6))));
+        assertThat(key).isEqualTo("a,,1,2,3:4,5,6");
+    }
+
+    @Test
+    @DisplayName("should produce the same key on repeated calls once the per-class encoder is cached")
+    void shouldProduceTheSameKeyOnRepeatedCalls() {
+        List<Object> args = List.of(List.of(1L, 2L, 3L), new long[]{4L, 5L}, "EUR");
+        String first = defaultKeyProvider.key(FAILOVER, args);
+        for (int i = 0; i < 3; i++) {
+            assertThat(defaultKeyProvider.key(FAILOVER, args)).isEqualTo(first);
+        }
+        assertThat(first).isEqualTo("1,2,3:4,5:EUR");
+    }
+
+    @Test
+    @DisplayName("should append the same key to an existing buffer")
+    void shouldAppendTheSameKeyToAnExistingBuffer() {
+        List<Object> args = asList("x", asList(1L, 2, 3), new int[]{4, 5}, null, "y");
+        StringBuilder buffer = new StringBuilder("prefix:");
+
+        defaultKeyProvider.appendKey(FAILOVER, args, buffer);
+
+        assertThat(buffer).hasToString("prefix:" + defaultKeyProvider.key(FAILOVER, args));
+        assertThat(buffer).hasToString("prefix:x:1,2,3:4,5::y");
+    }
+
+    @Test
+    @DisplayName("should append 'NO-ARG' to an existing buffer when there is no argument")
+    void shouldAppendNoArgToAnExistingBuffer() {
+        StringBuilder buffer = new StringBuilder("prefix:");
+
+        defaultKeyProvider.appendKey(FAILOVER, List.of(), buffer);
+
+        assertThat(buffer).hasToString("prefix:NO-ARG");
+    }
+
     @Test
     @DisplayName("should return the key when one of the argument is a null value")
     void shouldReturnTheKeyWhenOneArgIsNull() {
@@ -206,6 +270,20 @@ class DefaultKeyGeneratorTest {
         assertThat(key).isEqualTo("1:java.lang.Object@%s:3".formatted(toHexString(object.hashCode())));
     }
 
+    @Test
+    @DisplayName("should name the class of each identity-hash arg, whatever class was encoded first")
+    void shouldNameEachIdentityHashArgClass() {
+        class FirstUnstable { }
+        class SecondUnstable { }
+        Object first = new FirstUnstable();
+        Object second = new SecondUnstable();
+        String key = defaultKeyProvider.key(FAILOVER, List.of(first, second, first));
+        assertThat(key).isEqualTo("%s@%s:%s@%s:%s@%s".formatted(
+                FirstUnstable.class.getName(), toHexString(first.hashCode()),
+                SecondUnstable.class.getName(), toHexString(second.hashCode()),
+                FirstUnstable.class.getName(), toHexString(first.hashCode())));
+    }
+
     @Test
     @DisplayName("should use toString() for a record arg (deterministic, JVM-restart-stable key)")
     void shouldUseToStringForRecordArg() {
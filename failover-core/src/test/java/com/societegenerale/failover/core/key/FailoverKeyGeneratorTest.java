@@ -31,6 +31,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willCallRealMethod;
 import static org.mockito.Mockito.*;
 
 /**
@@ -188,4 +189,61 @@ class FailoverKeyGeneratorTest {
 
         assertThat(keyA).isNotEqualTo(keyB);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("bound key generator resolves the named generator once and produces the same final keys")
+    void boundKeyGeneratorResolvesOnceAndProducesSameFinalKeys() {
+        given(failover.keyGenerator()).willReturn(KEY_GEN_NAME);
+        given(customKeyGenerator.key(failover, ARGS)).willReturn(KEY);
+        given(keyGeneratorLookup.lookup(KEY_GEN_NAME)).willReturn(customKeyGenerator);
+
+        KeyGenerator bound = failoverKeyGenerator.bind(failover);
+
+        assertThat(bound.key(failover, ARGS)).isEqualTo(FINAL_KEY);
+        assertThat(bound.key(failover, ARGS)).isEqualTo(FINAL_KEY);
+        verify(keyGeneratorLookup, times(1)).lookup(KEY_GEN_NAME);
+    }
+
+    @Test
+    @DisplayName("bind throws when no custom key generator found for a given key generator name")
+    void bindThrowsWhenNoCustomKeyGeneratorFound() {
+        given(failover.keyGenerator()).willReturn(KEY_GEN_NAME);
+        given(keyGeneratorLookup.lookup(KEY_GEN_NAME)).willReturn(null);
+
+        assertThrows(KeyGeneratorNotFoundException.class, () -> failoverKeyGenerator.bind(failover));
+    }
+
+    @Test
+    @DisplayName("fast-hash mode produces a MurmurHash3 UUID over the prefixed raw key")
+    void fastHashModeProducesMurmur3Key() {
+        given(failover.keyGenerator()).willReturn("");
+        FailoverKeyGenerator fastHash = new FailoverKeyGenerator(new DefaultKeyGenerator(), keyGeneratorLookup, KeyMode.FAST_HASH);
+
+        String key = fastHash.key(failover, List.of(KEY));
+
+        assertThat(key).isEqualTo("61c1eac5-b54a-641c-69f9-f904af8650ba")
+                .isEqualTo(Murmur3.hash128(FAILOVER_NAME + ":" + KEY).toString())
+                .isNotEqualTo(FINAL_KEY);
+    }
+
+    @Test
+    @DisplayName("fast-hash mode gives the same key through the bound generator")
+    void fastHashModeBoundKeyMatchesKey() {
+        given(failover.keyGenerator()).willReturn("");
+        FailoverKeyGenerator fastHash = new FailoverKeyGenerator(new DefaultKeyGenerator(), keyGeneratorLookup, KeyMode.FAST_HASH);
+
+        assertThat(fastHash.bind(failover).key(failover, List.of(KEY, 42L))).isEqualTo(fastHash.key(failover, List.of(KEY, 42L)));
+    }
+
+    @Test
+    @DisplayName("fast-hash mode falls back to key() for generators that do not override appendKey")
+    void fastHashModeUsesKeyOfCustomGenerator() {
+        given(failover.keyGenerator()).willReturn(KEY_GEN_NAME);
+        given(keyGeneratorLookup.lookup(KEY_GEN_NAME)).willReturn(customKeyGenerator);
+        given(customKeyGenerator.key(failover, ARGS)).willReturn(KEY);
+        willCallRealMethod().given(customKeyGenerator).appendKey(eq(failover), eq(ARGS), any(StringBuilder.class));
+        FailoverKeyGenerator fastHash = new FailoverKeyGenerator(defaultKeyGenerator, keyGeneratorLookup, KeyMode.FAST_HASH);
+
+        assertThat(fastHash.key(failover, ARGS)).isEqualTo("61c1eac5-b54a-641c-69f9-f904af8650ba");
+    }
+}
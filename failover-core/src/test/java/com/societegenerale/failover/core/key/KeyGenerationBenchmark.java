@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.key;
+
+import com.societegenerale.failover.annotations.Failover;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmark for the final key computation done on every store and recover call: a
+ * {@link FailoverKeyGenerator} bound to a failover (as {@code FailoverPlanner} does) with the default
+ * {@link DefaultKeyGenerator}, comparing {@link KeyMode#MD5_UUID} (raw key joined, concatenated with
+ * the prefix, encoded and MD5-hashed) against {@link KeyMode#FAST_HASH} (raw key appended to a single
+ * buffer and MurmurHash3-hashed without an intermediate byte array).
+ *
+ * <p>Not a unit test (named {@code *Benchmark} so Surefire skips it). Run via the {@code benchmark}
+ * profile:
+ *
+ * <pre>{@code mvn -pl failover-core -Pbenchmark test-compile exec:exec}</pre>
+ *
+ * @author Anand Manissery
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyGenerationBenchmark {
+
+    private static final Failover FAILOVER = failover();
+
+    private static final List<Object> ARGS = List.of("EUR", 42L, List.of("FR0000130809", "FR0000120271"));
+
+    private final KeyGenerator md5Uuid = new FailoverKeyGenerator(new DefaultKeyGenerator(), name -> null, KeyMode.MD5_UUID).bind(FAILOVER);
+
+    private final KeyGenerator fastHash = new FailoverKeyGenerator(new DefaultKeyGenerator(), name -> null, KeyMode.FAST_HASH).bind(FAILOVER);
+
+    /** Default mode: joined raw key, prefix concatenation, UTF-8 byte array, MD5 type-3 UUID. */
+    @Benchmark
+    public String md5UuidKey() {
+        return md5Uuid.key(FAILOVER, ARGS);
+    }
+
+    /** Opt-in mode: raw key appended to one presized buffer, MurmurHash3 x64 128-bit. */
+    @Benchmark
+    public String fastHashKey() {
+        return fastHash.key(FAILOVER, ARGS);
+    }
+
+    @Failover(name = "third-parties-failover")
+    private static void annotated() {
+        // annotation holder only
+    }
+
+    private static Failover failover() {
+        try {
+            return KeyGenerationBenchmark.class.getDeclaredMethod("annotated").getAnnotation(Failover.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.key;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies {@link Murmur3} against the reference MurmurHash3_x64_128 (seed 0) test vectors.
+ *
+ * @author Anand Manissery
+ */
+class Murmur3Test {
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+            "''|00000000-0000-0000-0000-000000000000",
+            "hello|cbd8a7b3-41bd-9b02-5b1e-906a48ae1d19",
+            "The quick brown fox jumps over the lazy dog|e34bbc7b-bc07-1b6c-7a43-3ca9c49a9347",
+            "0123456789abcdef|4be06d94-cf4a-d1a7-87c3-5b5c63a708da",
+            "failover-X:key-X|61c1eac5-b54a-641c-69f9-f904af8650ba",
+            "héllo wörld € 𝄞|02ee0b2a-a0ce-c16e-3a4b-97c7d3ae46c2"
+    })
+    @DisplayName("matches the reference MurmurHash3_x64_128 of the UTF-8 bytes")
+    void matchesReferenceVectors(String input, String expected) {
+        assertThat(Murmur3.hash128(input)).hasToString(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a", "abé", "a€€€€€€€", "𝄞𝄞𝄞𝄞𝄞"})
+    @DisplayName("hashing a StringBuilder equals hashing the same String (no toString needed)")
+    void builderAndStringHashAlike(String input) {
+        assertThat(Murmur3.hash128(new StringBuilder(input))).isEqualTo(Murmur3.hash128(input));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a\uD800b", "a\uDC00b", "ab\uD800"})
+    @DisplayName("unpaired surrogates are hashed as '?' like String#getBytes(UTF_8)")
+    void unpairedSurrogatesHashAsQuestionMark(String input) {
+        assertThat(Murmur3.hash128(input)).isEqualTo(Murmur3.hash128(input.replaceAll("[\uD800-\uDFFF]", "?")));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.observable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * @author Anand Manissery
+ */
+class FailoverEventTest {
+
+    private static final IllegalStateException CAUSE =
+            new IllegalStateException("outer", new IllegalArgumentException("middle", new NullPointerException("inner")));
+
+    @Nested
+    @DisplayName("store")
+    class Store {
+
+        @Test
+        @DisplayName("should render the historical store map in order")
+        void shouldRenderStoreMap() {
+            FailoverEvent event = FailoverEvent.store("country", "referential", "Api#find", 1, ChronoUnit.HOURS, true, 42);
+
+            assertThat(event.getAction()).isEqualTo(FailoverAction.STORE);
+            assertThat(event.getOutcome()).isEqualTo(FailoverOutcome.SUCCESS);
+            assertThat(event.toMetrics().getInfo()).containsExactly(
+                    entry("failover-name", "country"),
+                    entry("failover-action", "store"),
+                    entry("failover-domain", "referential"),
+                    entry("failover-method", "Api#find"),
+                    entry("failover-expiry-duration", "1"),
+                    entry("failover-expiry-unit", "HOURS"),
+                    entry("failover-is-stored", "true"),
+                    entry("failover-duration-ns", "42"));
+        }
+
+        @Test
+        @DisplayName("should be a miss when nothing was stored")
+        void shouldBeMissWhenNotStored() {
+            FailoverEvent event = FailoverEvent.store("country", "country", "Api#find", 1, ChronoUnit.HOURS, false, 42);
+
+            assertThat(event.getOutcome()).isEqualTo(FailoverOutcome.MISS);
+            assertThat(event.toMetrics().getInfo()).containsEntry("failover-is-stored", "false");
+        }
+    }
+
+    @Nested
+    @DisplayName("recover")
+    class Recover {
+
+        @Test
+        @DisplayName("should render the historical recover map in order with the exception chain")
+        void shouldRenderRecoverMap() {
+            FailoverEvent event = FailoverEvent.recover("country", "referential", "Api#find", 30, ChronoUnit.MINUTES, CAUSE, true, null, 7);
+
+            assertThat(event.getOutcome()).isEqualTo(FailoverOutcome.SUCCESS);
+            assertThat(event.exceptionType()).isEqualTo("java.lang.IllegalStateException");
+            assertThat(event.causeType()).isEqualTo("java.lang.IllegalArgumentException");
+            assertThat(event.finalCauseType()).isEqualTo("java.lang.NullPointerException");
+            assertThat(event.toMetrics().getInfo()).containsExactly(
+                    entry("failover-name", "country"),
+                    entry("failover-action", "recover"),
+                    entry("failover-domain", "referential"),
+                    entry("failover-method", "Api#find"),
+                    entry("failover-expiry-duration", "30"),
+                    entry("failover-expiry-unit", "MINUTES"),
+                    entry("failover-exception-type", "java.lang.IllegalStateException"),
+                    entry("failover-exception-cause-type", "java.lang.IllegalArgumentException"),
+                    entry("failover-exception-final-cause-type", "java.lang.NullPointerException"),
+                    entry("failover-exception-message", "outer"),
+                    entry("failover-exception-cause-message", "middle"),
+                    entry("failover-exception-final-cause-message", "inner"),
+                    entry("failover-is-recovered", "true"),
+                    entry("failover-is-recovery-failed", "false"),
+                    entry("failover-recovery-failure-message", ""),
+                    entry("failover-duration-ns", "7"));
+        }
+
+        @Test
+        @DisplayName("should be a miss when nothing was recovered and render empty causes")
+        void shouldBeMissWhenNotRecovered() {
+            FailoverEvent event = FailoverEvent.recover("country", "country", "Api#find", 30, ChronoUnit.MINUTES,
+                    new IllegalStateException("single"), false, null, 7);
+
+            assertThat(event.getOutcome()).isEqualTo(FailoverOutcome.MISS);
+            assertThat(event.causeType()).isNull();
+            assertThat(event.finalCauseType()).isNull();
+            assertThat(event.toMetrics().getInfo())
+                    .containsEntry("failover-exception-cause-type", "")
+                    .containsEntry("failover-exception-final-cause-type", "")
+                    .containsEntry("failover-is-recovered", "false");
+        }
+
+        @Test
+        @DisplayName("should be a failure when the recover path failed")
+        void shouldBeFailureWhenRecoveryFailed() {
+            FailoverEvent event = FailoverEvent.recover("country", "country", "Api#find", 30, ChronoUnit.MINUTES, CAUSE, false, "store down", 7);
+
+            assertThat(event.getOutcome()).isEqualTo(FailoverOutcome.FAILURE);
+            assertThat(event.toMetrics().getInfo())
+                    .containsEntry("failover-is-recovery-failed", "true")
+                    .containsEntry("failover-recovery-failure-message", "store down");
+        }
+    }
+
+    @Test
+    @DisplayName("should render the historical upstream map in order")
+    void shouldRenderUpstreamMap() {
+        assertThat(FailoverEvent.upstream("country", "referential", "Api#find", true, 99).toMetrics().getInfo()).containsExactly(
+                entry("failover-name", "country"),
+                entry("failover-action", "upstream"),
+                entry("failover-domain", "referential"),
+                entry("failover-method", "Api#find"),
+                entry("failover-upstream-result", "success"),
+                entry("failover-upstream-duration-ns", "99"));
+        FailoverEvent failure = FailoverEvent.upstream("country", "referential", "Api#find", false, 99);
+        assertThat(failure.getOutcome()).isEqualTo(FailoverOutcome.FAILURE);
+        assertThat(failure.toMetrics().getInfo()).containsEntry("failover-upstream-result", "failure");
+    }
+
+    @Test
+    @DisplayName("should render the historical recover-partial map in order")
+    void shouldRenderRecoverPartialMap() {
+        FailoverEvent event = FailoverEvent.recoverPartial("country", "Api#findAll", 2, 5);
+
+        assertThat(event.getDomain()).isNull();
+        assertThat(event.getDurationNanos()).isEqualTo(FailoverEvent.NO_VALUE);
+        assertThat(event.toMetrics().getInfo()).containsExactly(
+                entry("failover-name", "country"),
+                entry("failover-action", "recover-partial"),
+                entry("failover-method", "Api#findAll"),
+                entry("failover-missing", "2"),
+                entry("failover-total", "5"));
+    }
+
+    @Test
+    @DisplayName("should render the historical store-async-failed map in order")
+    void shouldRenderStoreAsyncFailedMap() {
+        FailoverEvent event = FailoverEvent.storeAsyncFailed("country", "delete", new IllegalStateException("boom"));
+
+        assertThat(event.getOutcome()).isEqualTo(FailoverOutcome.FAILURE);
+        assertThat(event.toMetrics().getInfo()).containsExactly(
+                entry("failover-name", "country"),
+                entry("failover-action", "store-async-failed"),
+                entry("failover-async-operation", "delete"),
+                entry("failover-exception-type", "java.lang.IllegalStateException"));
+    }
+
+    @Test
+    @DisplayName("should append the publish timestamp once stamped")
+    void shouldAppendPublishTimestamp() {
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        FailoverEvent event = FailoverEvent.recoverPartial("country", "Api#findAll", 2, 5);
+        event.markPublished(now);
+
+        assertThat(event.getPublishedOn()).isEqualTo(now);
+        assertThat(event.toMetrics().getInfo()).containsEntry("failover-report-publish-on", now.toString());
+    }
+
+    @Test
+    @DisplayName("should render a missing expiry unit and cause as empty values")
+    void shouldRenderMissingExpiryUnitAndCause() {
+        FailoverEvent store = FailoverEvent.store("country", "country", "Api#find", 1, null, true, 5);
+        FailoverEvent recover = FailoverEvent.recover("country", "country", "Api#find", 1, null, null, false, null, 7);
+
+        assertThat(store.causeType()).isNull();
+        assertThat(store.toMetrics().getInfo()).containsEntry("failover-expiry-unit", "");
+        assertThat(recover.exceptionType()).isNull();
+        assertThat(recover.causeType()).isNull();
+        assertThat(recover.finalCauseType()).isNull();
+        assertThat(recover.toMetrics().getInfo())
+                .containsEntry("failover-expiry-unit", "")
+                .containsEntry("failover-exception-type", "")
+                .containsEntry("failover-exception-cause-type", "");
+    }
+}
@@ -27,6 +27,7 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.time.temporal.ChronoUnit;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -35,7 +36,8 @@ import java.util.concurrent.TimeUnit;
  * Micro-benchmark backing audit A-3/Q-2: builds the full recover-path metric bag (the heaviest of
  * the two paths, 11 entries) and compares the previous implementation — {@code String.format} key
  * building plus per-call {@code Long.toString}/{@code Boolean.toString}/ternary noise — against the
- * current {@link Metrics} helper (plain key concatenation plus typed {@code collect} overloads).
+ * current {@link Metrics} helper (plain key concatenation plus typed {@code collect} overloads), and
+ * both against the typed {@link FailoverEvent} now published by the handler (no map at all).
  *
  * <p>Not a unit test (named {@code *Benchmark} so Surefire skips it). Run via the {@code benchmark}
  * profile:
@@ -101,4 +103,14 @@ public class MetricsBuildBenchmark {
         bh.consume(metrics);
         return metrics.getInfo();
     }
+
+    /** Typed event: the object the handler publishes now; the map is only rendered by publishers that need it. */
+    @Benchmark
+    public FailoverEvent typedRecoverEvent(Blackhole bh) {
+        long startNanos = System.nanoTime();
+        FailoverEvent event = FailoverEvent.recover(NAME, NAME, "Api#find", EXPIRY_DURATION, ChronoUnit.MINUTES,
+                cause, false, "recovery failed", System.nanoTime() - startNanos);
+        bh.consume(event);
+        return event;
+    }
 }
@@ -16,6 +16,7 @@
 
 package com.societegenerale.failover.core.observable.publisher;
 
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.Metrics;
 import org.junit.jupiter.api.Test;
 
@@ -65,7 +66,7 @@ class AsyncObservablePublisherTest {
         };
 
         try (AsyncObservablePublisher publisher = new AsyncObservablePublisher(slowDelegate, 1)) {
-            // 1 metric is taken by the worker (then blocks), 1 fills the queue; the rest must be dropped.
+            // 1 metric is taken by the worker (then blocks), 2 fill the queue (minimum capacity); the rest must be dropped.
             for (int i = 0; i < 50; i++) {
                 publisher.publish(Metrics.of("m" + i));
             }
@@ -123,6 +124,127 @@ class AsyncObservablePublisherTest {
         }
     }
 
+    @Test
+    void shouldForwardTypedEventsAsEventsAndSurviveAThrowingDelegate() throws Exception {
+        List<Object> received = new CopyOnWriteArrayList<>();
+        CountDownLatch thrown = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(2);
+        ObservablePublisher delegate = new ObservablePublisher() {
+            @Override
+            public void publish(Metrics metrics) {
+                received.add(metrics);
+                latch.countDown();
+            }
+
+            @Override
+            public void publish(FailoverEvent event) {
+                if ("boom".equals(event.getName())) {
+                    thrown.countDown();
+                    throw new IllegalStateException("publisher failure");
+                }
+                received.add(event);
+                latch.countDown();
+            }
+        };
+        FailoverEvent event = FailoverEvent.recoverPartial("ok", "Api#find", 1, 2);
+        Metrics metrics = Metrics.of("metrics");
+
+        try (AsyncObservablePublisher publisher = new AsyncObservablePublisher(delegate, 100)) {
+            publisher.publish(FailoverEvent.recoverPartial("boom", "Api#find", 1, 2));
+            assertThat(thrown.await(2, TimeUnit.SECONDS)).isTrue();
+            publisher.publish(event);
+            publisher.publish(metrics);
+
+            assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(received).containsExactly(event, metrics);
+        }
+    }
+
+    @Test
+    void shouldDeliverConsecutiveEventsAsOneOrderedBatchAroundMetrics() throws Exception {
+        List<Object> received = new CopyOnWriteArrayList<>();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        ObservablePublisher delegate = new ObservablePublisher() {
+            @Override
+            public void publish(Metrics metrics) {
+                started.countDown();
+                await(release); // hold the worker so the next items buffer up and drain as one batch
+                received.add(metrics);
+                if (received.size() == 4) {
+                    delivered.countDown();
+                }
+            }
+
+            @Override
+            public void publishAll(List<FailoverEvent> events) {
+                batchSizes.add(events.size());
+                received.addAll(events);
+                if (received.size() == 4) {
+                    delivered.countDown();
+                }
+            }
+        };
+        Metrics first = Metrics.of("first");
+        FailoverEvent a = FailoverEvent.recoverPartial("a", "Api#find", 1, 2);
+        FailoverEvent b = FailoverEvent.recoverPartial("b", "Api#find", 1, 2);
+        FailoverEvent c = FailoverEvent.recoverPartial("c", "Api#find", 1, 2);
+
+        try (AsyncObservablePublisher publisher = new AsyncObservablePublisher(delegate, 100)) {
+            publisher.publish(first);
+            assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+            publisher.publishAll(List.of(a, b));
+            publisher.publish(c);
+            release.countDown();
+
+            assertThat(delivered.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(received).containsExactly(first, a, b, c);
+            assertThat(batchSizes).containsExactly(3);
+            assertThat(publisher.lastBatchSize()).isEqualTo(3);
+            assertThat(publisher.drainLagNanos()).isPositive();
+            assertThat(publisher.queueSize()).isZero();
+        }
+    }
+
+    @Test
+    void shouldSkipOnlyTheFailingBatch() throws Exception {
+        CountDownLatch thrown = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        ObservablePublisher delegate = new ObservablePublisher() {
+            @Override
+            public void publish(Metrics metrics) {
+                // unused
+            }
+
+            @Override
+            public void publishAll(List<FailoverEvent> events) {
+                if ("boom".equals(events.getFirst().getName())) {
+                    thrown.countDown();
+                    throw new IllegalStateException("publisher failure");
+                }
+                delivered.countDown();
+            }
+        };
+
+        try (AsyncObservablePublisher publisher = new AsyncObservablePublisher(delegate, 100)) {
+            publisher.publish(FailoverEvent.recoverPartial("boom", "Api#find", 1, 2));
+            assertThat(thrown.await(2, TimeUnit.SECONDS)).isTrue();
+            publisher.publish(FailoverEvent.recoverPartial("ok", "Api#find", 1, 2));
+
+            assertThat(delivered.await(2, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Test
     void shouldRejectANonPositiveQueueCapacity() {
         assertThatThrownBy(() -> new AsyncObservablePublisher(m -> { }, 0))
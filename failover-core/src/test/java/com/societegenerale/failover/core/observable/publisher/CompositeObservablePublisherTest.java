@@ -17,6 +17,7 @@
 package com.societegenerale.failover.core.observable.publisher;
 
 import com.societegenerale.failover.core.clock.FailoverClock;
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.Metrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,8 +28,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -68,4 +71,30 @@ class CompositeObservablePublisherTest {
         verify(publisher1).publish(metrics);
         verify(publisher2).publish(metrics);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should stamp a typed event once and fan it out as an event")
+    void shouldStampTypedEventAndFanOut() {
+        when(failoverClock.now()).thenReturn(NOW);
+        FailoverEvent event = FailoverEvent.recoverPartial("failover", "Api#find", 1, 3);
+        compositeObservablePublisher.publish(event);
+        assertThat(event.getPublishedOn()).isEqualTo(NOW);
+        assertThat(event.toMetrics().getInfo()).containsEntry("failover-report-publish-on", NOW.toString());
+        verify(publisher1).publish(event);
+        verify(publisher2).publish(event);
+    }
+
+    @Test
+    @DisplayName("should stamp a batch once and fan the whole batch out")
+    void shouldStampBatchAndFanOut() {
+        when(failoverClock.now()).thenReturn(NOW);
+        List<FailoverEvent> events = List.of(
+                FailoverEvent.recoverPartial("a", "Api#find", 1, 3),
+                FailoverEvent.recoverPartial("b", "Api#find", 1, 3));
+        compositeObservablePublisher.publishAll(events);
+        assertThat(events).extracting(FailoverEvent::getPublishedOn).containsOnly(NOW);
+        verify(failoverClock, times(1)).now();
+        verify(publisher1).publishAll(events);
+        verify(publisher2).publishAll(events);
+    }
+}
@@ -16,8 +16,10 @@
 
 package com.societegenerale.failover.core.observable.publisher;
 
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.Metrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +34,8 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -79,4 +83,28 @@ class MdcLoggerObservablePublisherTest {
         publisher.publish(metrics);
         assertThat(MDC.getCopyOfContextMap()).isNullOrEmpty();
     }
+
+    @Test
+    @DisplayName("should publish a typed event to MDC and log")
+    void shouldPublishTypedEventToMdcAndLog() {
+        FailoverEvent event = FailoverEvent.recoverPartial("failover", "Api#find", 1, 3);
+        publisher.publish(event);
+        verify(appender).doAppend(captor.capture());
+        assertThat(captor.getValue().getMDCPropertyMap()).containsAllEntriesOf(event.toMetrics().getInfo());
+        assertThat(captor.getValue().getFormattedMessage()).contains("failover");
+    }
+
+    @Test
+    @DisplayName("should not render a typed event when INFO is disabled")
+    void shouldSkipTypedEventWhenInfoDisabled() {
+        var logger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(MdcLoggerObservablePublisher.class);
+        Level previous = logger.getLevel();
+        logger.setLevel(Level.WARN);
+        try {
+            publisher.publish(FailoverEvent.recoverPartial("failover", "Api#find", 1, 3));
+            verify(appender, never()).doAppend(any());
+        } finally {
+            logger.setLevel(previous);
+        }
+    }
 }
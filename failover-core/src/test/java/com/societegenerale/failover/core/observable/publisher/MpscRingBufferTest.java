@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.observable.publisher;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Anand Manissery
+ */
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("should round the capacity up to a power of two, with a minimum of two")
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        assertThat(new MpscRingBuffer<>(1).capacity()).isEqualTo(2);
+        assertThat(new MpscRingBuffer<>(3).capacity()).isEqualTo(4);
+        assertThat(new MpscRingBuffer<>(8).capacity()).isEqualTo(8);
+        assertThat(new MpscRingBuffer<>(10_000).capacity()).isEqualTo(16_384);
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive capacity")
+    void shouldRejectNonPositiveCapacity() {
+        assertThatThrownBy(() -> new MpscRingBuffer<>(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("capacity must be > 0");
+    }
+
+    @Test
+    @DisplayName("should reject a capacity that cannot be rounded up to a power of two")
+    void shouldRejectTooLargeCapacity() {
+        assertThatThrownBy(() -> new MpscRingBuffer<>(MpscRingBuffer.MAX_CAPACITY + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("<= 1073741824");
+    }
+
+    @Test
+    @DisplayName("should drain in offer order, bounded by the batch size, and report when the batch was offered")
+    void shouldDrainInOrderInBatches() {
+        MpscRingBuffer<String> buffer = new MpscRingBuffer<>(4);
+        long before = System.nanoTime();
+        buffer.offer("a");
+        buffer.offer("b");
+        buffer.offer("c");
+        List<String> batch = new ArrayList<>();
+
+        long offeredAt = buffer.drainTo(batch, 2);
+
+        assertThat(batch).containsExactly("a", "b");
+        assertThat(offeredAt).isGreaterThanOrEqualTo(before);
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.isEmpty()).isFalse();
+
+        batch.clear();
+        buffer.drainTo(batch, 10);
+        assertThat(batch).containsExactly("c");
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.drainTo(batch, 10)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("should refuse offers when full and accept them again once drained, across laps")
+    void shouldRefuseWhenFullAndWrapAround() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2);
+        List<Integer> batch = new ArrayList<>();
+        for (int lap = 0; lap < 3; lap++) {
+            assertThat(buffer.offer(lap * 2)).isTrue();
+            assertThat(buffer.offer(lap * 2 + 1)).isTrue();
+            assertThat(buffer.offer(-1)).isFalse();
+            assertThat(buffer.size()).isEqualTo(2);
+            buffer.drainTo(batch, 10);
+        }
+        assertThat(batch).containsExactly(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @DisplayName("should deliver every element exactly once under concurrent producers")
+    void shouldDeliverEveryElementOnceUnderConcurrentProducers() throws Exception {
+        int producers = 8;
+        int perProducer = 10_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+
+        start.countDown();
+        Set<Integer> seen = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drainTo(batch, 256);
+            seen.addAll(batch);
+            batch.clear();
+        }
+        pool.shutdown();
+
+        assertThat(seen).hasSize(producers * perProducer);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.payload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// @author Anand Manissery
+class LazyReferentialPayloadTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Supplier<String> loader = () -> {
+        loads.incrementAndGet();
+        return "PAYLOAD";
+    };
+
+    private final LazyReferentialPayload<String> lazy = new LazyReferentialPayload<>("NAME", "KEY", false, NOW, NOW.plusSeconds(60), loader);
+
+    @Test
+    @DisplayName("does not run the loader for the metadata")
+    void metadataDoesNotLoad() {
+        assertThat(lazy.getName()).isEqualTo("NAME");
+        assertThat(lazy.getKey()).isEqualTo("KEY");
+        assertThat(lazy.isUpToDate()).isFalse();
+        assertThat(lazy.getAsOf()).isEqualTo(NOW);
+        assertThat(lazy.getExpireOn()).isEqualTo(NOW.plusSeconds(60));
+
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("runs the loader once, on first access")
+    void loadsOnce() {
+        assertThat(lazy.getPayload()).isEqualTo("PAYLOAD");
+        assertThat(lazy.getPayload()).isEqualTo("PAYLOAD");
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("a copy made before loading shares the loader")
+    void copyBeforeLoadSharesLoader() {
+        ReferentialPayload<String> copy = lazy.copy().withUpToDate(true);
+
+        assertThat(loads).hasValue(0);
+        assertThat(copy.getPayload()).isEqualTo("PAYLOAD");
+        assertThat(lazy.getPayload()).isEqualTo("PAYLOAD");
+        assertThat(copy.isUpToDate()).isTrue();
+        assertThat(lazy.isUpToDate()).isFalse();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("a copy made after loading is a plain payload")
+    void copyAfterLoadIsPlain() {
+        lazy.getPayload();
+
+        ReferentialPayload<String> copy = lazy.copy();
+
+        assertThat(copy).isExactlyInstanceOf(ReferentialPayload.class).isEqualTo(lazy);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("a detached copy runs the loader again, for a payload of its own")
+    void detachedCopyLoadsAgain() {
+        var detaching = new LazyReferentialPayload<StringBuilder>("NAME", "KEY", false, NOW, NOW.plusSeconds(60), () -> {
+            loads.incrementAndGet();
+            return new StringBuilder("PAYLOAD");
+        });
+        detaching.getPayload();
+
+        ReferentialPayload<StringBuilder> detached = detaching.detachedCopy();
+
+        assertThat(detached.getExpireOn()).isEqualTo(detaching.getExpireOn());
+        assertThat(detached.getPayload()).isNotSameAs(detaching.getPayload()).hasToString("PAYLOAD");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("a detached copy of a replaced payload shares it")
+    void detachedCopyAfterSetPayloadIsPlain() {
+        lazy.setPayload("OTHER");
+
+        ReferentialPayload<String> detached = lazy.detachedCopy();
+
+        assertThat(detached).isExactlyInstanceOf(ReferentialPayload.class);
+        assertThat(detached.getPayload()).isEqualTo("OTHER");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("setPayload replaces the payload without running the loader")
+    void setPayloadSkipsLoader() {
+        lazy.setPayload("OTHER");
+
+        assertThat(lazy.getPayload()).isEqualTo("OTHER");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("a failing loader is run again on the next access")
+    void failingLoaderRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        var failingOnce = new LazyReferentialPayload<String>("NAME", "KEY", false, NOW, NOW, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return "PAYLOAD";
+        });
+
+        assertThatThrownBy(failingOnce::getPayload).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(failingOnce.getPayload()).isEqualTo("PAYLOAD");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("equals a plain payload with the same values, and shows the payload in toString")
+    void equalsPlainPayload() {
+        var plain = new ReferentialPayload<>("NAME", "KEY", false, NOW, NOW.plusSeconds(60), "PAYLOAD");
+
+        assertThat(lazy).isEqualTo(plain).hasSameHashCodeAs(plain);
+        assertThat(lazy.toString()).contains("payload=PAYLOAD");
+    }
+}
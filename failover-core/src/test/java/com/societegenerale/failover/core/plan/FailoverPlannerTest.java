@@ -0,0 +1,181 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.plan;
+
+import com.societegenerale.failover.annotations.Failover;
+import com.societegenerale.failover.core.expiry.ExpiryPolicy;
+import com.societegenerale.failover.core.expiry.ExpiryPolicyLookup;
+import com.societegenerale.failover.core.expiry.FailoverExpiryPolicy;
+import com.societegenerale.failover.core.key.FailoverKeyGenerator;
+import com.societegenerale.failover.core.key.KeyGenerator;
+import com.societegenerale.failover.core.key.KeyGeneratorLookup;
+import com.societegenerale.failover.core.payload.splitter.PayloadSplitter;
+import com.societegenerale.failover.core.payload.splitter.PayloadSplitterLookup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Anand Manissery
+ */
+@ExtendWith(MockitoExtension.class)
+class FailoverPlannerTest {
+
+    private static final List<Object> ARGS = List.of("args-X");
+
+    @Mock
+    private Failover failover;
+
+    @Mock
+    private KeyGenerator defaultKeyGenerator;
+
+    @Mock
+    private KeyGenerator customKeyGenerator;
+
+    @Mock
+    private KeyGeneratorLookup keyGeneratorLookup;
+
+    @Mock
+    private ExpiryPolicy<Object> defaultExpiryPolicy;
+
+    @Mock
+    private ExpiryPolicy<Object> customExpiryPolicy;
+
+    @Mock
+    private ExpiryPolicyLookup<Object> expiryPolicyLookup;
+
+    @Mock
+    private PayloadSplitter<Object, Object> payloadSplitter;
+
+    @Mock
+    private PayloadSplitterLookup<Object, Object> payloadSplitterLookup;
+
+    private FailoverPlanner failoverPlanner;
+
+    private Method method;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        lenient().when(failover.name()).thenReturn("failover-X");
+        lenient().when(failover.domain()).thenReturn("");
+        lenient().when(failover.keyGenerator()).thenReturn("");
+        lenient().when(failover.expiryPolicy()).thenReturn("");
+        lenient().when(failover.payloadSplitter()).thenReturn("");
+        failoverPlanner = new FailoverPlanner(new FailoverKeyGenerator(defaultKeyGenerator, keyGeneratorLookup),
+                new FailoverExpiryPolicy<>(defaultExpiryPolicy, expiryPolicyLookup), payloadSplitterLookup);
+        method = DummyClient.class.getMethod("findById", String.class);
+    }
+
+    @Test
+    @DisplayName("compiles effective name, method id and return type")
+    void compilesNamesAndTags() {
+        FailoverPlan plan = failoverPlanner.plan(failover, method);
+
+        assertThat(plan.getFailover()).isSameAs(failover);
+        assertThat(plan.getMethod()).isEqualTo(method);
+        assertThat(plan.getReturnType()).isEqualTo(String.class);
+        assertThat(plan.getName()).isEqualTo("failover-X");
+        assertThat(plan.getEffectiveName()).isEqualTo("failover-X");
+        assertThat(plan.getMethodId()).isEqualTo("DummyClient#findById");
+        assertThat(plan.getPayloadSplitter()).isNull();
+    }
+
+    @Test
+    @DisplayName("plan is compiled once per method and reused")
+    void planIsCompiledOncePerMethod() {
+        given(failover.keyGenerator()).willReturn("key-gen-X");
+        given(keyGeneratorLookup.lookup("key-gen-X")).willReturn(customKeyGenerator);
+
+        FailoverPlan first = failoverPlanner.plan(failover, method);
+        FailoverPlan second = failoverPlanner.plan(failover, method);
+
+        assertThat(second).isSameAs(first);
+        assertThat(failoverPlanner.size()).isEqualTo(1);
+        verify(keyGeneratorLookup, times(1)).lookup("key-gen-X");
+    }
+
+    @Test
+    @DisplayName("bound key generator produces the same final keys as the composite key generator")
+    void boundKeyGeneratorProducesFinalKeys() {
+        given(defaultKeyGenerator.key(failover, ARGS)).willReturn("key-X");
+
+        String key = failoverPlanner.plan(failover, method).getKeyGenerator().key(failover, ARGS);
+
+        assertThat(key).isEqualTo(UUID.nameUUIDFromBytes("failover-X:key-X".getBytes(UTF_8)).toString());
+    }
+
+    @Test
+    @DisplayName("named expiry policy and payload splitter are resolved at plan time")
+    void namedExpiryPolicyAndSplitterAreResolved() {
+        given(failover.expiryPolicy()).willReturn("expiry-X");
+        given(failover.payloadSplitter()).willReturn("splitter-X");
+        given(expiryPolicyLookup.lookup("expiry-X")).willReturn(customExpiryPolicy);
+        given(payloadSplitterLookup.lookup("splitter-X")).willReturn(payloadSplitter);
+
+        FailoverPlan plan = failoverPlanner.plan(failover, method);
+
+        assertThat(plan.<Object>getExpiryPolicy()).isSameAs(customExpiryPolicy);
+        assertThat(plan.<Object, Object>getPayloadSplitter()).isSameAs(payloadSplitter);
+    }
+
+    @Test
+    @DisplayName("unresolvable key generator and expiry policy fall back to the composites")
+    void unresolvableCollaboratorsFallBackToComposites() {
+        KeyGenerator compositeKeyGenerator = new FailoverKeyGenerator(defaultKeyGenerator, keyGeneratorLookup);
+        ExpiryPolicy<Object> compositeExpiryPolicy = new FailoverExpiryPolicy<>(defaultExpiryPolicy, expiryPolicyLookup);
+        failoverPlanner = new FailoverPlanner(compositeKeyGenerator, compositeExpiryPolicy, payloadSplitterLookup);
+        given(failover.keyGenerator()).willReturn("missing-key-gen");
+        given(failover.expiryPolicy()).willReturn("missing-expiry");
+        given(failover.payloadSplitter()).willReturn("missing-splitter");
+
+        FailoverPlan plan = failoverPlanner.plan(failover, method);
+
+        assertThat(plan.getKeyGenerator()).isSameAs(compositeKeyGenerator);
+        assertThat(plan.<Object>getExpiryPolicy()).isSameAs(compositeExpiryPolicy);
+        assertThat(plan.getPayloadSplitter()).isNull();
+    }
+
+    @Test
+    @DisplayName("custom (non-composite) key generator and expiry policy are kept as-is")
+    void customCollaboratorsAreKeptAsIs() {
+        failoverPlanner = new FailoverPlanner(customKeyGenerator, customExpiryPolicy, payloadSplitterLookup);
+
+        FailoverPlan plan = failoverPlanner.plan(failover, method);
+
+        assertThat(plan.getKeyGenerator()).isSameAs(customKeyGenerator);
+        assertThat(plan.<Object>getExpiryPolicy()).isSameAs(customExpiryPolicy);
+        verifyNoInteractions(keyGeneratorLookup, expiryPolicyLookup);
+    }
+
+    static class DummyClient {
+        public String findById(String id) {
+            return id;
+        }
+    }
+}
@@ -12,6 +12,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -66,6 +68,88 @@ class DefaultFailoverStoreTest {
         assertThatThrownBy(() -> store.store(original)).isInstanceOf(FailoverStoreException.class);
     }
 
+    // --- touch() ---
+
+    @Test
+    @DisplayName("touch delegates with up to date false")
+    void touchDelegatesWithUpToDateFalse() throws FailoverStoreException {
+        ReferentialPayload<String> original = new ReferentialPayload<>("name", "key", true, AS_OF, EXPIRE_ON, "payload");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ReferentialPayload<String>> captor = ArgumentCaptor.forClass(ReferentialPayload.class);
+
+        store.touch(original, AS_OF);
+
+        verify(delegate).touch(captor.capture(), eq(AS_OF));
+        verify(delegate, never()).store(any());
+        assertThat(captor.getValue().isUpToDate()).isFalse();
+        assertThat(captor.getValue().getExpireOn()).isEqualTo(EXPIRE_ON);
+        assertThat(original.isUpToDate()).isTrue();
+    }
+
+    @Test
+    @DisplayName("touch stores in full on a store that does not override it")
+    @SuppressWarnings("unchecked")
+    void defaultTouchStoresInFull() throws FailoverStoreException {
+        FailoverStore<String> plain = mock(FailoverStore.class, CALLS_REAL_METHODS);
+        ReferentialPayload<String> original = new ReferentialPayload<>("name", "key", false, AS_OF, EXPIRE_ON, "payload");
+        doNothing().when(plain).store(any());
+
+        plain.touch(original, AS_OF);
+
+        verify(plain).store(original);
+    }
+
+    // --- storeAll() ---
+
+    @Test
+    @DisplayName("storeAll delegates every payload with up to date false in a single call")
+    void storeAllDelegatesWithUpToDateFalse() throws FailoverStoreException {
+        ReferentialPayload<String> r1 = new ReferentialPayload<>("name", "k1", true, AS_OF, EXPIRE_ON, "p1");
+        ReferentialPayload<String> r2 = new ReferentialPayload<>("name", "k2", true, AS_OF, EXPIRE_ON, "p2");
+
+        store.storeAll(List.of(r1, r2));
+
+        verify(delegate).storeAll(List.of(r1.copy().withUpToDate(false), r2.copy().withUpToDate(false)));
+        assertThat(r1.isUpToDate()).isTrue();
+    }
+
+    @Test
+    @DisplayName("storeAll stores one by one on a store that does not override it")
+    @SuppressWarnings("unchecked")
+    void defaultStoreAllStoresOneByOne() throws FailoverStoreException {
+        FailoverStore<String> plain = mock(FailoverStore.class, CALLS_REAL_METHODS);
+        ReferentialPayload<String> r1 = new ReferentialPayload<>("name", "k1", false, AS_OF, EXPIRE_ON, "p1");
+        ReferentialPayload<String> r2 = new ReferentialPayload<>("name", "k2", false, AS_OF, EXPIRE_ON, "p2");
+        doNothing().when(plain).store(any());
+
+        plain.storeAll(List.of(r1, r2));
+
+        verify(plain).store(r1);
+        verify(plain).store(r2);
+    }
+
+    @Test
+    @DisplayName("storeAll stores every other payload and names the failed ones on a store that does not override it")
+    @SuppressWarnings("unchecked")
+    void defaultStoreAllIsolatesFailingPayloads() throws FailoverStoreException {
+        FailoverStore<String> plain = mock(FailoverStore.class, CALLS_REAL_METHODS);
+        ReferentialPayload<String> r1 = new ReferentialPayload<>("name", "k1", false, AS_OF, EXPIRE_ON, "p1");
+        ReferentialPayload<String> r2 = new ReferentialPayload<>("name", "k2", false, AS_OF, EXPIRE_ON, "p2");
+        ReferentialPayload<String> r3 = new ReferentialPayload<>("name", "k3", false, AS_OF, EXPIRE_ON, "p3");
+        IllegalStateException first = new IllegalStateException("first");
+        doThrow(first).when(plain).store(r1);
+        doNothing().when(plain).store(r2);
+        doThrow(new IllegalStateException("second")).when(plain).store(r3);
+
+        assertThatThrownBy(() -> plain.storeAll(List.of(r1, r2, r3)))
+                .isInstanceOfSatisfying(FailoverStoreBatchException.class, e -> {
+                    assertThat(e.getFailedPayloads()).containsExactly(r1, r3);
+                    assertThat(e.getCause()).isSameAs(first);
+                    assertThat(e.getMessage()).isEqualTo("2 payload(s) of the batch could not be stored");
+                });
+        verify(plain).store(r2);
+    }
+
     // --- delete() ---
 
     @Test
@@ -182,6 +266,134 @@ class DefaultFailoverStoreTest {
         verify(delegate).findAll("name");
     }
 
+    @Test
+    @DisplayName("findAll by keys delegates and returns defensive copies with upToDate=false")
+    void findAllByKeysDelegatesAndReturnsCopiesWithUpToDateFalse() throws FailoverStoreException {
+        ReferentialPayload<String> r1 = new ReferentialPayload<>("name", "k1", true, AS_OF, EXPIRE_ON, "p1");
+        given(delegate.findAll("name", List.of("k1", "k2"))).willReturn(List.of(r1));
+
+        List<ReferentialPayload<String>> result = store.findAll("name", List.of("k1", "k2"));
+
+        assertThat(result).singleElement().satisfies(r -> {
+            assertThat(r.isUpToDate()).isFalse();
+            assertThat(r.getPayload()).isEqualTo("p1");
+        });
+        assertThat(r1.isUpToDate()).isTrue();
+    }
+
+    @Test
+    @DisplayName("findAll by keys finds one by one on a store that does not override it, leaving out missing keys")
+    @SuppressWarnings("unchecked")
+    void defaultFindAllByKeysFindsOneByOne() throws FailoverStoreException {
+        FailoverStore<String> plain = mock(FailoverStore.class, CALLS_REAL_METHODS);
+        ReferentialPayload<String> r1 = new ReferentialPayload<>("name", "k1", false, AS_OF, EXPIRE_ON, "p1");
+        doReturn(Optional.of(r1)).when(plain).find("name", "k1");
+        doReturn(Optional.empty()).when(plain).find("name", "k2");
+
+        assertThat(plain.findAll("name", List.of("k1", "k2"))).containsExactly(r1);
+    }
+
+    @Test
+    @DisplayName("streamAll delegates, returns defensive copies with upToDate=false and closes the delegate stream")
+    void streamAllDelegatesAndReturnsDefensiveCopiesWithUpToDateFalse() throws FailoverStoreException {
+        ReferentialPayload<String> r1 = new ReferentialPayload<>("name", "k1", true, AS_OF, EXPIRE_ON, "p1");
+        AtomicBoolean closed = new AtomicBoolean();
+        given(delegate.streamAll("name", EXPIRE_ON)).willReturn(Stream.of(r1).onClose(() -> closed.set(true)));
+
+        List<ReferentialPayload<String>> result;
+        try (Stream<ReferentialPayload<String>> stream = store.streamAll("name", EXPIRE_ON)) {
+            result = stream.toList();
+        }
+
+        assertThat(result).singleElement().isNotSameAs(r1).satisfies(r -> {
+            assertThat(r.isUpToDate()).isFalse();
+            assertThat(r.getPayload()).isEqualTo("p1");
+        });
+        assertThat(r1.isUpToDate()).isTrue();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("streamAll streams over findAll on a store that does not override it")
+    @SuppressWarnings("unchecked")
+    void defaultStreamAllStreamsOverFindAll() throws FailoverStoreException {
+        FailoverStore<String> plain = mock(FailoverStore.class, CALLS_REAL_METHODS);
+        ReferentialPayload<String> r1 = new ReferentialPayload<>("name", "k1", false, AS_OF, EXPIRE_ON, "p1");
+        doReturn(List.of(r1)).when(plain).findAll("name");
+
+        assertThat(plain.streamAll("name", EXPIRE_ON)).containsExactly(r1);
+    }
+
+    // --- expiry-aware reads and deleteExpired() ---
+
+    @Test
+    @DisplayName("find with a cutoff passes it on and returns a copy with upToDate=false")
+    void findWithCutoffDelegatesAndReturnsCopyWithUpToDateFalse() throws FailoverStoreException {
+        ReferentialPayload<String> found = new ReferentialPayload<>("name", "key", true, AS_OF, EXPIRE_ON, "payload");
+        given(delegate.find("name", "key", AS_OF)).willReturn(Optional.of(found));
+
+        assertThat(store.find("name", "key", AS_OF)).hasValueSatisfying(r -> {
+            assertThat(r).isNotSameAs(found);
+            assertThat(r.isUpToDate()).isFalse();
+        });
+        verify(delegate, never()).find("name", "key");
+    }
+
+    @Test
+    @DisplayName("findAll by keys with a cutoff passes it on and returns copies with upToDate=false")
+    void findAllByKeysWithCutoffDelegatesAndReturnsCopiesWithUpToDateFalse() throws FailoverStoreException {
+        ReferentialPayload<String> r1 = new ReferentialPayload<>("name", "k1", true, AS_OF, EXPIRE_ON, "p1");
+        given(delegate.findAll("name", List.of("k1"), AS_OF)).willReturn(List.of(r1));
+
+        assertThat(store.findAll("name", List.of("k1"), AS_OF)).singleElement()
+                .satisfies(r -> assertThat(r.isUpToDate()).isFalse());
+    }
+
+    @Test
+    @DisplayName("deleteExpired delegates the entries as-is")
+    void deleteExpiredDelegatesAsIs() throws FailoverStoreException {
+        List<ReferentialPayload<String>> expired = List.of(new ReferentialPayload<>("name", "k1", false, AS_OF, EXPIRE_ON, null));
+
+        store.deleteExpired(expired);
+
+        verify(delegate).deleteExpired(expired);
+    }
+
+    @Test
+    @DisplayName("find and findAll with a cutoff leave out the entries expiring before it on a store that does not override them")
+    @SuppressWarnings("unchecked")
+    void defaultFindWithCutoffFiltersExpiredEntries() throws FailoverStoreException {
+        FailoverStore<String> plain = mock(FailoverStore.class, CALLS_REAL_METHODS);
+        ReferentialPayload<String> live = new ReferentialPayload<>("name", "k1", false, AS_OF, EXPIRE_ON, "p1");
+        ReferentialPayload<String> expired = new ReferentialPayload<>("name", "k2", false, AS_OF, AS_OF, "p2");
+        doReturn(Optional.of(live)).when(plain).find("name", "k1");
+        doReturn(Optional.of(expired)).when(plain).find("name", "k2");
+
+        assertThat(plain.find("name", "k1", EXPIRE_ON)).contains(live);
+        assertThat(plain.find("name", "k2", EXPIRE_ON)).isEmpty();
+        assertThat(plain.findAll("name", List.of("k1", "k2"), EXPIRE_ON)).containsExactly(live);
+    }
+
+    @Test
+    @DisplayName("deleteExpired deletes the entries still holding the same expireOn and keeps refreshed or missing ones on a store that does not override it")
+    @SuppressWarnings("unchecked")
+    void defaultDeleteExpiredKeepsRefreshedEntries() throws FailoverStoreException {
+        FailoverStore<String> plain = mock(FailoverStore.class, CALLS_REAL_METHODS);
+        ReferentialPayload<String> unchanged = new ReferentialPayload<>("name", "k1", false, AS_OF, AS_OF, null);
+        ReferentialPayload<String> refreshed = new ReferentialPayload<>("name", "k2", false, AS_OF, AS_OF, null);
+        ReferentialPayload<String> gone = new ReferentialPayload<>("name", "k3", false, AS_OF, AS_OF, null);
+        ReferentialPayload<String> stored = new ReferentialPayload<>("name", "k1", false, AS_OF, AS_OF, "p1");
+        doReturn(Optional.of(stored)).when(plain).find("name", "k1");
+        doReturn(Optional.of(new ReferentialPayload<>("name", "k2", false, AS_OF, EXPIRE_ON, "p2"))).when(plain).find("name", "k2");
+        doReturn(Optional.empty()).when(plain).find("name", "k3");
+        doNothing().when(plain).delete(any());
+
+        plain.deleteExpired(List.of(unchanged, refreshed, gone));
+
+        verify(plain).delete(stored);
+        verify(plain, times(1)).delete(any());
+    }
+
     // --- liveEntryCount() forwarding ---
 
     @Test
@@ -210,6 +422,24 @@ class DefaultFailoverStoreTest {
         assertThat(store.liveEntryCountSupported()).isFalse();   // && short-circuits on the delegate's flag
     }
 
+    @Test
+    @DisplayName("close forwards to a closeable delegate")
+    void closeForwardsToCloseableDelegate() throws Exception {
+        FailoverStore<String> closeable = mock(FailoverStore.class, withSettings().extraInterfaces(AutoCloseable.class));
+
+        new DefaultFailoverStore<>(closeable).close();
+
+        verify((AutoCloseable) closeable).close();
+    }
+
+    @Test
+    @DisplayName("close is a no-op on a delegate that holds nothing to close")
+    void closeIgnoresPlainDelegate() {
+        store.close();
+
+        verifyNoInteractions(delegate);
+    }
+
     /** A delegate that is both a store and size-aware, for the forwarding test. */
     static class SizeAwareStore implements FailoverStore<String>, FailoverStoreSizeAware {
         @Override public void store(ReferentialPayload<String> p) { /* no-op: test only exercises liveEntryCount */ }
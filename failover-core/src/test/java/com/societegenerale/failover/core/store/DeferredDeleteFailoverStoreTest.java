@@ -0,0 +1,271 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.societegenerale.failover.core.store;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeferredDeleteFailoverStoreTest {
+
+    private static final Instant AS_OF = Instant.parse("2026-01-01T10:00:00Z");
+
+    private static final Instant EXPIRE_ON = Instant.parse("2026-01-02T10:00:00Z");
+
+    @Mock
+    private FailoverStore<Object> delegate;
+
+    /** Drain tasks submitted to the executor, run by the test. */
+    private final Queue<Runnable> submitted = new ArrayDeque<>();
+
+    private DeferredDeleteFailoverStore<Object> store;
+
+    @BeforeEach
+    void setUp() {
+        store = new DeferredDeleteFailoverStore<>(delegate, 10, submitted::add);
+    }
+
+    private static ReferentialPayload<Object> payload(String key) {
+        return new ReferentialPayload<>("country", key, false, AS_OF, EXPIRE_ON, null);
+    }
+
+    @Test
+    @DisplayName("should queue the expired entries and delete everything queued in one delegate call per drain")
+    void shouldDrainQueuedEntriesInOneBatch() {
+        store.deleteExpired(List.of(payload("FR")));
+        store.deleteExpired(List.of(payload("DE"), payload("IT")));
+
+        verifyNoInteractions(delegate);
+        assertThat(store.pendingDeletes()).isEqualTo(3);
+        assertThat(submitted).hasSize(1);
+
+        submitted.poll().run();
+
+        verify(delegate).deleteExpired(List.of(payload("FR"), payload("DE"), payload("IT")));
+        assertThat(store.pendingDeletes()).isZero();
+        assertThat(submitted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should start a new drain for the entries queued while one was running")
+    void shouldDrainAgainForEntriesQueuedDuringDrain() {
+        willAnswer(invocation -> {
+            store.deleteExpired(List.of(payload("DE")));
+            return null;
+        }).given(delegate).deleteExpired(List.of(payload("FR")));
+
+        store.deleteExpired(List.of(payload("FR")));
+        submitted.poll().run();
+        assertThat(submitted).hasSize(1);
+        submitted.poll().run();
+
+        verify(delegate).deleteExpired(List.of(payload("DE")));
+        assertThat(submitted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should not start a drain for an empty list")
+    void shouldIgnoreEmptyList() {
+        store.deleteExpired(List.of());
+
+        assertThat(submitted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should drop the entries that do not fit in the queue")
+    void shouldDropEntriesBeyondBound() {
+        var bounded = new DeferredDeleteFailoverStore<>(delegate, 1, submitted::add);
+
+        bounded.deleteExpired(List.of(payload("FR"), payload("DE")));
+        submitted.poll().run();
+
+        verify(delegate).deleteExpired(List.of(payload("FR")));
+        assertThat(bounded.droppedDeletes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should drop the queued entries and drain again on the next call when the executor refuses the drain")
+    void shouldDropQueuedEntriesWhenExecutorRejects() {
+        var refusing = new DeferredDeleteFailoverStore<>(delegate, 10, task -> {
+            throw new RejectedExecutionException("saturated");
+        });
+
+        refusing.deleteExpired(List.of(payload("FR"), payload("DE")));
+        refusing.deleteExpired(List.of(payload("IT")));
+
+        assertThat(refusing.droppedDeletes()).isEqualTo(3);
+        assertThat(refusing.pendingDeletes()).isZero();
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("should leave the entries of a failed drain to the expiry cleanup and keep draining")
+    void shouldSurviveFailedDrain() {
+        willThrow(new FailoverStoreException("boom")).given(delegate).deleteExpired(List.of(payload("FR")));
+
+        store.deleteExpired(List.of(payload("FR")));
+        submitted.poll().run();
+        store.deleteExpired(List.of(payload("DE")));
+        submitted.poll().run();
+
+        verify(delegate).deleteExpired(List.of(payload("DE")));
+    }
+
+    @Test
+    @DisplayName("should drain on a virtual thread by default")
+    void shouldDrainOnVirtualThreadByDefault() throws InterruptedException {
+        var drainedOnVirtualThread = new AtomicBoolean();
+        var drained = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            drainedOnVirtualThread.set(Thread.currentThread().isVirtual());
+            drained.countDown();
+            return null;
+        }).given(delegate).deleteExpired(List.of(payload("FR")));
+
+        new DeferredDeleteFailoverStore<>(delegate).deleteExpired(List.of(payload("FR")));
+
+        assertThat(drained.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(drainedOnVirtualThread).isTrue();
+    }
+
+    @Test
+    @DisplayName("should delegate every other operation as-is, delete included")
+    void shouldDelegateOtherOperations() {
+        var found = payload("FR");
+        given(delegate.find("country", "FR")).willReturn(Optional.of(found));
+        given(delegate.find("country", "FR", AS_OF)).willReturn(Optional.of(found));
+        given(delegate.findAll("country")).willReturn(List.of(found));
+        given(delegate.findAll("country", List.of("FR"))).willReturn(List.of(found));
+        given(delegate.findAll("country", List.of("FR"), AS_OF)).willReturn(List.of(found));
+        given(delegate.streamAll("country", EXPIRE_ON)).willReturn(Stream.of(found));
+
+        store.store(found);
+        store.storeAll(List.of(found));
+        store.touch(found, EXPIRE_ON);
+        store.delete(found);
+        store.cleanByExpiry(EXPIRE_ON);
+
+        assertThat(store.find("country", "FR")).contains(found);
+        assertThat(store.find("country", "FR", AS_OF)).contains(found);
+        assertThat(store.findAll("country")).containsExactly(found);
+        assertThat(store.findAll("country", List.of("FR"))).containsExactly(found);
+        assertThat(store.findAll("country", List.of("FR"), AS_OF)).containsExactly(found);
+        assertThat(store.streamAll("country", EXPIRE_ON)).containsExactly(found);
+        assertThat(store.getFailoverStore()).isSameAs(delegate);
+        verify(delegate).store(found);
+        verify(delegate).storeAll(List.of(found));
+        verify(delegate).touch(found, EXPIRE_ON);
+        verify(delegate).delete(found);
+        verify(delegate).cleanByExpiry(EXPIRE_ON);
+        assertThat(submitted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should forward the live entry count only to a size-aware delegate")
+    @SuppressWarnings("unchecked")
+    void shouldForwardLiveEntryCount() {
+        FailoverStore<Object> sizeAware = mock(FailoverStore.class, withSettings().extraInterfaces(FailoverStoreSizeAware.class));
+        given(((FailoverStoreSizeAware) sizeAware).liveEntryCount("country")).willReturn(3L);
+        given(((FailoverStoreSizeAware) sizeAware).liveEntryCountSupported()).willReturn(true);
+        var counted = new DeferredDeleteFailoverStore<>(sizeAware, 10, submitted::add);
+
+        assertThat(counted.liveEntryCount("country")).isEqualTo(3L);
+        assertThat(counted.liveEntryCountSupported()).isTrue();
+        assertThat(store.liveEntryCount("country")).isZero();
+        assertThat(store.liveEntryCountSupported()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should delete the queued entries on close, close the delegate, and then delete on the calling thread")
+    @SuppressWarnings("unchecked")
+    void shouldDeleteQueuedEntriesOnClose() throws Exception {
+        FailoverStore<Object> closeable = mock(FailoverStore.class, withSettings().extraInterfaces(AutoCloseable.class));
+        var closing = new DeferredDeleteFailoverStore<>(closeable, 10, submitted::add);
+        closing.deleteExpired(List.of(payload("FR"), payload("DE")));
+
+        closing.close();
+
+        verify(closeable).deleteExpired(List.of(payload("FR"), payload("DE")));
+        verify((AutoCloseable) closeable).close();
+        assertThat(closing.pendingDeletes()).isZero();
+
+        submitted.poll().run();
+        closing.deleteExpired(List.of(payload("IT")));
+
+        verify(closeable).deleteExpired(List.of(payload("IT")));
+        verifyNoMoreInteractions(closeable);
+        assertThat(submitted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should wait for a running drain before the final delete on close")
+    void shouldWaitForRunningDrainOnClose() throws InterruptedException {
+        var draining = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            draining.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(delegate).deleteExpired(List.of(payload("FR")));
+        store.deleteExpired(List.of(payload("FR")));
+        Thread drainer = Thread.ofVirtual().start(submitted.poll());
+        assertThat(draining.await(5, TimeUnit.SECONDS)).isTrue();
+        store.deleteExpired(List.of(payload("DE")));
+
+        Thread closer = Thread.ofVirtual().start(store::close);
+        closer.join(100);
+        assertThat(closer.isAlive()).isTrue();
+        verify(delegate, never()).deleteExpired(List.of(payload("DE")));
+
+        release.countDown();
+        closer.join(5_000);
+        drainer.join(5_000);
+
+        verify(delegate).deleteExpired(List.of(payload("DE")));
+        assertThat(store.pendingDeletes()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive bound")
+    void shouldRejectInvalidBound() {
+        assertThatThrownBy(() -> new DeferredDeleteFailoverStore<>(delegate, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxPendingDeletes");
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.store;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Anand Manissery
+ */
+@ExtendWith(MockitoExtension.class)
+class FingerprintingFailoverStoreTest {
+
+    private static final Instant AS_OF = Instant.parse("2026-01-01T10:00:00Z");
+
+    private static final Instant EXPIRE_ON = Instant.parse("2026-01-02T10:00:00Z");
+
+    private static final PayloadCanonicalizer TO_STRING = String::valueOf;
+
+    @Mock
+    private FailoverStore<Object> delegate;
+
+    private FingerprintingFailoverStore<Object> store;
+
+    @BeforeEach
+    void setUp() {
+        store = new FingerprintingFailoverStore<>(delegate, TO_STRING);
+    }
+
+    private static ReferentialPayload<Object> payload(String key, Object payload) {
+        return new ReferentialPayload<>("country", key, false, AS_OF, EXPIRE_ON, payload);
+    }
+
+    @Test
+    @DisplayName("should store the first write in full, then only touch an unchanged payload")
+    void shouldTouchUnchangedPayload() {
+        var second = payload("FR", "France");
+
+        store.store(payload("FR", "France"));
+        store.store(second);
+
+        verify(delegate, times(1)).store(any());
+        verify(delegate).touch(second, EXPIRE_ON);
+    }
+
+    @Test
+    @DisplayName("should touch only the entry as this store last wrote it, moving on with each write")
+    void shouldTouchWithLastWrittenExpiry() {
+        Instant touchedExpiry = EXPIRE_ON.plusSeconds(3_600);
+        var touched = new ReferentialPayload<Object>("country", "FR", false, AS_OF, touchedExpiry, "France");
+        var touchedAgain = new ReferentialPayload<Object>("country", "FR", false, AS_OF, touchedExpiry.plusSeconds(3_600), "France");
+
+        store.store(payload("FR", "France"));
+        store.store(touched);
+        store.store(touchedAgain);
+
+        verify(delegate).touch(touched, EXPIRE_ON);
+        verify(delegate).touch(touchedAgain, touchedExpiry);
+    }
+
+    @Test
+    @DisplayName("should store in full again after the entry was touched by another caller")
+    void shouldForgetOnForeignTouch() {
+        var touched = payload("FR", "France");
+
+        store.store(payload("FR", "France"));
+        store.touch(touched, AS_OF);
+        store.store(payload("FR", "France"));
+
+        verify(delegate).touch(touched, AS_OF);
+        verify(delegate, times(2)).store(any());
+    }
+
+    @Test
+    @DisplayName("should store in full a changed payload, per (name, key)")
+    void shouldStoreChangedPayload() {
+        store.store(payload("FR", "France"));
+        store.store(payload("FR", "République française"));
+        store.store(payload("BE", "République française"));
+        store.store(new ReferentialPayload<>("currency", "BE", false, AS_OF, EXPIRE_ON, "République française"));
+
+        verify(delegate, times(4)).store(any());
+        verify(delegate, never()).touch(any(), any());
+    }
+
+    @Test
+    @DisplayName("should tell apart payloads of different classes that render identically")
+    void shouldIncludePayloadClass() {
+        store.store(payload("FR", "1"));
+        store.store(payload("FR", 1));
+
+        verify(delegate, times(2)).store(any());
+        verify(delegate, never()).touch(any(), any());
+    }
+
+    @Test
+    @DisplayName("should always store in full a payload that cannot be fingerprinted")
+    void shouldStoreUnfingerprintablePayload() {
+        var nullRendering = new FingerprintingFailoverStore<>(delegate, p -> null);
+
+        nullRendering.store(payload("FR", "France"));
+        nullRendering.store(payload("FR", "France"));
+        store.store(payload("BE", "Belgique"));
+        store.store(payload("BE", null));
+        store.store(payload("BE", "Belgique"));
+
+        verify(delegate, times(5)).store(any());
+        verify(delegate, never()).touch(any(), any());
+    }
+
+    @Test
+    @DisplayName("should store in full again after the entry was deleted")
+    void shouldForgetOnDelete() {
+        var removed = payload("FR", "France");
+
+        store.store(payload("FR", "France"));
+        store.delete(removed);
+        store.store(payload("FR", "France"));
+
+        verify(delegate).delete(removed);
+        verify(delegate, times(2)).store(any());
+        verify(delegate, never()).touch(any(), any());
+    }
+
+    @Test
+    @DisplayName("should store in full again after the expired entry was handed to deleteExpired")
+    void shouldForgetOnDeleteExpired() {
+        var expired = payload("FR", "France");
+
+        store.store(payload("FR", "France"));
+        store.deleteExpired(List.of(expired));
+        store.store(payload("FR", "France"));
+
+        verify(delegate).deleteExpired(List.of(expired));
+        verify(delegate, times(2)).store(any());
+        verify(delegate, never()).touch(any(), any());
+    }
+
+    @Test
+    @DisplayName("should forget the fingerprint and rethrow when the delegate write fails")
+    void shouldForgetOnFailure() {
+        store.store(payload("FR", "France"));
+        willThrow(new FailoverStoreException("down", new RuntimeException())).given(delegate).touch(any(), any());
+
+        assertThatThrownBy(() -> store.store(payload("FR", "France"))).isInstanceOf(FailoverStoreException.class);
+        store.store(payload("FR", "France"));
+
+        verify(delegate, times(2)).store(any());
+    }
+
+    @Test
+    @DisplayName("should store changed payloads of a batch together and touch the unchanged ones")
+    void shouldBatchChangedPayloads() {
+        var unchanged = payload("FR", "France");
+        var changed = payload("BE", "België");
+        var unfingerprintable = payload("LU", null);
+
+        store.storeAll(List.of(payload("FR", "France"), payload("BE", "Belgique")));
+        store.storeAll(List.of(unchanged, changed, unfingerprintable));
+        store.storeAll(List.of(payload("BE", "België")));
+
+        verify(delegate).storeAll(List.of(payload("FR", "France"), payload("BE", "Belgique")));
+        verify(delegate).storeAll(List.of(changed, unfingerprintable));
+        verify(delegate, times(2)).storeAll(any());
+        verify(delegate).touch(unchanged, EXPIRE_ON);
+        verify(delegate).touch(payload("BE", "België"), EXPIRE_ON);
+    }
+
+    @Test
+    @DisplayName("should forget the fingerprints of a batch and rethrow when the delegate write fails")
+    void shouldForgetBatchOnFailure() {
+        store.storeAll(List.of(payload("FR", "France"), payload("BE", "Belgique")));
+        willThrow(new FailoverStoreException("down", new RuntimeException())).given(delegate).touch(any(), any());
+        assertThatThrownBy(() -> store.storeAll(List.of(payload("FR", "France")))).isInstanceOf(FailoverStoreException.class);
+        willThrow(new FailoverStoreException("down", new RuntimeException())).given(delegate).storeAll(List.of(payload("BE", "België")));
+        assertThatThrownBy(() -> store.storeAll(List.of(payload("BE", "België")))).isInstanceOf(FailoverStoreException.class);
+
+        store.store(payload("FR", "France"));
+        store.store(payload("BE", "Belgique"));
+
+        verify(delegate, times(2)).store(any());
+    }
+
+    @Test
+    @DisplayName("should forget only the fingerprints of the payloads the delegate could not store")
+    void shouldForgetOnlyFailedPayloadsOfBatch() {
+        var failed = payload("BE", "Belgique");
+        willThrow(new FailoverStoreBatchException(List.of(failed), new RuntimeException("row rejected")))
+                .given(delegate).storeAll(List.of(payload("FR", "France"), failed));
+        assertThatThrownBy(() -> store.storeAll(List.of(payload("FR", "France"), failed))).isInstanceOf(FailoverStoreBatchException.class);
+
+        store.store(payload("FR", "France"));
+        store.store(payload("BE", "Belgique"));
+
+        verify(delegate).touch(payload("FR", "France"), EXPIRE_ON);
+        verify(delegate).store(payload("BE", "Belgique"));
+    }
+
+    @Test
+    @DisplayName("should reset the tracked fingerprints once the bound is reached")
+    void shouldResetWhenFull() {
+        var bounded = new FingerprintingFailoverStore<>(delegate, TO_STRING, 1);
+
+        bounded.store(payload("FR", "France"));
+        bounded.store(payload("BE", "Belgique"));
+        bounded.store(payload("BE", "Belgique"));
+        bounded.store(payload("FR", "France"));
+
+        verify(delegate, times(3)).store(any());
+        verify(delegate, times(1)).touch(any(), any());
+    }
+
+    @Test
+    @DisplayName("should delegate touch, every find and findAll, streamAll and cleanByExpiry as-is")
+    void shouldDelegateOtherOperations() {
+        var found = payload("FR", "France");
+        given(delegate.find("country", "FR")).willReturn(Optional.of(found));
+        given(delegate.findAll("country")).willReturn(List.of(found));
+        given(delegate.findAll("country", List.of("FR"))).willReturn(List.of(found));
+        given(delegate.streamAll("country", EXPIRE_ON)).willReturn(Stream.of(found));
+        given(delegate.find("country", "FR", AS_OF)).willReturn(Optional.of(found));
+        given(delegate.findAll("country", List.of("FR"), AS_OF)).willReturn(List.of(found));
+
+        store.touch(found, EXPIRE_ON);
+        store.cleanByExpiry(EXPIRE_ON);
+
+        assertThat(store.find("country", "FR")).contains(found);
+        assertThat(store.findAll("country")).containsExactly(found);
+        assertThat(store.findAll("country", List.of("FR"))).containsExactly(found);
+        assertThat(store.streamAll("country", EXPIRE_ON)).containsExactly(found);
+        assertThat(store.find("country", "FR", AS_OF)).contains(found);
+        assertThat(store.findAll("country", List.of("FR"), AS_OF)).containsExactly(found);
+        assertThat(store.getFailoverStore()).isSameAs(delegate);
+        verify(delegate).touch(found, EXPIRE_ON);
+        verify(delegate).cleanByExpiry(EXPIRE_ON);
+    }
+
+    @Test
+    @DisplayName("should forward the live entry count only to a size-aware delegate")
+    @SuppressWarnings("unchecked")
+    void shouldForwardLiveEntryCount() {
+        FailoverStore<Object> sizeAware = mock(FailoverStore.class, withSettings().extraInterfaces(FailoverStoreSizeAware.class));
+        given(((FailoverStoreSizeAware) sizeAware).liveEntryCount("country")).willReturn(3L);
+        given(((FailoverStoreSizeAware) sizeAware).liveEntryCountSupported()).willReturn(true);
+        var counted = new FingerprintingFailoverStore<>(sizeAware, TO_STRING);
+
+        assertThat(counted.liveEntryCount("country")).isEqualTo(3L);
+        assertThat(counted.liveEntryCountSupported()).isTrue();
+        given(((FailoverStoreSizeAware) sizeAware).liveEntryCountSupported()).willReturn(false);
+        assertThat(counted.liveEntryCountSupported()).isFalse();
+        assertThat(store.liveEntryCount("country")).isZero();
+        assertThat(store.liveEntryCountSupported()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive bound")
+    void shouldRejectInvalidBound() {
+        assertThatThrownBy(() -> new FingerprintingFailoverStore<>(delegate, TO_STRING, 0))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("maxTrackedEntries");
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.store;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NegativeLookupFailoverStoreTest {
+
+    private static final Instant AS_OF = Instant.parse("2026-01-01T10:00:00Z");
+
+    private static final Instant EXPIRE_ON = Instant.parse("2026-01-02T10:00:00Z");
+
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(1);
+
+    @Mock
+    private FailoverStore<Object> delegate;
+
+    private final AtomicLong nanoTime = new AtomicLong(1_000L);
+
+    private NegativeLookupFailoverStore<Object> store;
+
+    @BeforeEach
+    void setUp() {
+        store = new NegativeLookupFailoverStore<>(delegate, TIME_TO_LIVE, 100, new LongAdder(), nanoTime::get);
+    }
+
+    private static ReferentialPayload<Object> payload(String key) {
+        return new ReferentialPayload<>("country", key, false, AS_OF, EXPIRE_ON, "value-" + key);
+    }
+
+    private void elapse(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("should answer a repeated miss from memory until the time to live has elapsed")
+    void shouldRememberMissUntilTimeToLive() {
+        given(delegate.find("country", "FR")).willReturn(Optional.empty());
+
+        assertThat(store.find("country", "FR")).isEmpty();
+        assertThat(store.find("country", "FR")).isEmpty();
+        elapse(TIME_TO_LIVE.minusNanos(1));
+        assertThat(store.find("country", "FR")).isEmpty();
+
+        verify(delegate, times(1)).find("country", "FR");
+        assertThat(store.negativeHits()).isEqualTo(2);
+
+        elapse(Duration.ofNanos(1));
+        assertThat(store.find("country", "FR")).isEmpty();
+        verify(delegate, times(2)).find("country", "FR");
+    }
+
+    @Test
+    @DisplayName("should not remember a lookup that found the entry")
+    void shouldNotRememberHits() {
+        given(delegate.find("country", "FR")).willReturn(Optional.of(payload("FR")));
+
+        assertThat(store.find("country", "FR")).contains(payload("FR"));
+        assertThat(store.find("country", "FR")).contains(payload("FR"));
+
+        verify(delegate, times(2)).find("country", "FR");
+        assertThat(store.trackedEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("should keep misses per name and key")
+    void shouldKeepMissesPerEntry() {
+        given(delegate.find("country", "FR")).willReturn(Optional.empty());
+        given(delegate.find("country", "DE")).willReturn(Optional.of(payload("DE")));
+        given(delegate.find("city", "FR")).willReturn(Optional.empty());
+
+        store.find("country", "FR");
+
+        assertThat(store.find("country", "DE")).contains(payload("DE"));
+        assertThat(store.find("city", "FR")).isEmpty();
+        verify(delegate).find("city", "FR");
+    }
+
+    @Test
+    @DisplayName("should answer a miss of the lookup with an expiry bound only for the same or a later bound")
+    void shouldRememberUnexpiredLookupMisses() {
+        Instant now = Instant.parse("2026-01-03T12:00:00Z");
+        Instant earlier = now.minus(Duration.ofDays(2));
+        given(delegate.find("country", "FR", now)).willReturn(Optional.empty());
+        given(delegate.find("country", "FR", earlier)).willReturn(Optional.of(payload("FR")));
+        given(delegate.find("country", "FR")).willReturn(Optional.of(payload("FR")));
+
+        assertThat(store.find("country", "FR", now)).isEmpty();
+        assertThat(store.find("country", "FR", now)).isEmpty();
+        assertThat(store.find("country", "FR", now.plusSeconds(1))).isEmpty();
+        assertThat(store.find("country", "FR", earlier)).contains(payload("FR"));
+        assertThat(store.find("country", "FR")).contains(payload("FR"));
+
+        verify(delegate, times(1)).find("country", "FR", now);
+        verify(delegate, never()).find("country", "FR", now.plusSeconds(1));
+        assertThat(store.negativeHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should answer a lookup with an expiry bound from a miss of the lookup without one")
+    void shouldAnswerBoundedLookupFromPlainMiss() {
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+        given(delegate.find("country", "FR")).willReturn(Optional.empty());
+
+        assertThat(store.find("country", "FR")).isEmpty();
+        assertThat(store.find("country", "FR", now)).isEmpty();
+        assertThat(store.findAll("country", List.of("FR"), now)).isEmpty();
+
+        verify(delegate, never()).find("country", "FR", now);
+        verify(delegate, never()).findAll(eq("country"), anyCollection(), eq(now));
+        assertThat(store.negativeHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should forget a miss when the entry is stored, touched or stored in a batch")
+    void shouldForgetMissOnWrite() {
+        given(delegate.find(eq("country"), anyString())).willReturn(Optional.empty());
+        store.find("country", "FR");
+        store.find("country", "DE");
+        store.find("country", "IT");
+
+        store.store(payload("FR"));
+        store.touch(payload("DE"), EXPIRE_ON);
+        store.storeAll(List.of(payload("IT")));
+
+        store.find("country", "FR");
+        store.find("country", "DE");
+        store.find("country", "IT");
+        verify(delegate, times(2)).find("country", "FR");
+        verify(delegate, times(2)).find("country", "DE");
+        verify(delegate, times(2)).find("country", "IT");
+        verify(delegate).store(payload("FR"));
+        verify(delegate).touch(payload("DE"), EXPIRE_ON);
+        verify(delegate).storeAll(List.of(payload("IT")));
+    }
+
+    @Test
+    @DisplayName("should forget a miss even when the write fails")
+    void shouldForgetMissWhenWriteFails() {
+        given(delegate.find("country", "FR")).willReturn(Optional.empty());
+        willThrow(new FailoverStoreException("down")).given(delegate).store(payload("FR"));
+        store.find("country", "FR");
+
+        assertThatThrownBy(() -> store.store(payload("FR"))).isInstanceOf(FailoverStoreException.class);
+
+        store.find("country", "FR");
+        verify(delegate, times(2)).find("country", "FR");
+    }
+
+    @Test
+    @DisplayName("should not remember a miss when a write ran while the lookup was in flight")
+    void shouldNotRememberMissRacingWrite() {
+        willAnswer(invocation -> {
+            store.store(payload("FR"));
+            return Optional.empty();
+        }).given(delegate).find("country", "FR");
+
+        assertThat(store.find("country", "FR")).isEmpty();
+
+        assertThat(store.trackedEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("should read only the keys whose miss is not remembered, and remember the keys not returned")
+    void shouldFilterKeyedFindAll() {
+        given(delegate.findAll("country", List.of("FR", "DE", "IT"))).willReturn(List.of(payload("DE")));
+        given(delegate.findAll("country", List.of("DE", "ES"))).willReturn(List.of(payload("DE"), payload("ES")));
+
+        assertThat(store.findAll("country", List.of("FR", "DE", "IT"))).containsExactly(payload("DE"));
+        assertThat(store.findAll("country", List.of("FR", "DE", "IT", "ES"))).containsExactly(payload("DE"), payload("ES"));
+        assertThat(store.trackedEntries()).isEqualTo(2);
+        assertThat(store.negativeHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should not reach the store when every key of a keyed findAll is a remembered miss")
+    void shouldSkipKeyedFindAllOfRememberedMisses() {
+        Instant now = Instant.parse("2026-01-03T12:00:00Z");
+        given(delegate.findAll("country", List.of("FR", "IT"), now)).willReturn(List.of());
+        given(delegate.findAll("country", List.of("FR"))).willReturn(List.of(payload("FR")));
+
+        assertThat(store.findAll("country", List.of("FR", "IT"), now)).isEmpty();
+        assertThat(store.findAll("country", List.of("IT", "FR"), now)).isEmpty();
+        assertThat(store.findAll("country", List.of("FR"))).containsExactly(payload("FR"));
+
+        verify(delegate, times(1)).findAll(eq("country"), anyCollection(), eq(now));
+    }
+
+    @Test
+    @DisplayName("should reset the remembered misses once the bound is reached")
+    void shouldResetWhenFull() {
+        store = new NegativeLookupFailoverStore<>(delegate, TIME_TO_LIVE, 2, new LongAdder(), nanoTime::get);
+        given(delegate.find(eq("country"), anyString())).willReturn(Optional.empty());
+
+        store.find("country", "FR");
+        store.find("country", "DE");
+        assertThat(store.trackedEntries()).isEqualTo(2);
+
+        store.find("country", "IT");
+        assertThat(store.trackedEntries()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should delegate the other operations as-is")
+    void shouldDelegateOtherOperations() {
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+        given(delegate.findAll("country")).willReturn(List.of(payload("FR")));
+        given(delegate.streamAll("country", now)).willReturn(Stream.of(payload("FR")));
+
+        store.delete(payload("FR"));
+        store.deleteExpired(List.of(payload("DE")));
+        store.cleanByExpiry(now);
+
+        assertThat(store.findAll("country")).containsExactly(payload("FR"));
+        assertThat(store.streamAll("country", now)).containsExactly(payload("FR"));
+        assertThat(store.getFailoverStore()).isSameAs(delegate);
+        verify(delegate).delete(payload("FR"));
+        verify(delegate).deleteExpired(List.of(payload("DE")));
+        verify(delegate).cleanByExpiry(now);
+    }
+
+    @Test
+    @DisplayName("should forward the live entry count only to a size-aware delegate")
+    void shouldForwardLiveEntryCount() {
+        assertThat(store.liveEntryCount("country")).isZero();
+        assertThat(store.liveEntryCountSupported()).isFalse();
+
+        FailoverStore<Object> sizeAware = mock(FailoverStore.class, withSettings().extraInterfaces(FailoverStoreSizeAware.class));
+        given(((FailoverStoreSizeAware) sizeAware).liveEntryCount("country")).willReturn(3L);
+        given(((FailoverStoreSizeAware) sizeAware).liveEntryCountSupported()).willReturn(true);
+        NegativeLookupFailoverStore<Object> forwarding = new NegativeLookupFailoverStore<>(sizeAware);
+
+        assertThat(forwarding.liveEntryCount("country")).isEqualTo(3L);
+        assertThat(forwarding.liveEntryCountSupported()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should count the lookups answered from memory on the shared counter")
+    void shouldCountOnSharedCounter() {
+        LongAdder shared = new LongAdder();
+        given(delegate.find("country", "FR")).willReturn(Optional.empty());
+        NegativeLookupFailoverStore<Object> first = new NegativeLookupFailoverStore<>(delegate, TIME_TO_LIVE, 10, shared);
+        NegativeLookupFailoverStore<Object> second = new NegativeLookupFailoverStore<>(delegate, TIME_TO_LIVE, 10, shared);
+
+        first.find("country", "FR");
+        first.find("country", "FR");
+        second.find("country", "FR");
+        second.find("country", "FR");
+
+        assertThat(shared.sum()).isEqualTo(2);
+        assertThat(first.negativeHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive time to live or bound")
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> new NegativeLookupFailoverStore<>(delegate, Duration.ZERO, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("timeToLive");
+        assertThatThrownBy(() -> new NegativeLookupFailoverStore<>(delegate, TIME_TO_LIVE, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxTrackedEntries");
+    }
+}
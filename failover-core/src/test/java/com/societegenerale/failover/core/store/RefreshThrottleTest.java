@@ -0,0 +1,181 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.store;
+
+import com.societegenerale.failover.annotations.Failover;
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * @author Anand Manissery
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshThrottleTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private static final Instant EXPIRE_ON = NOW.plus(1, ChronoUnit.HOURS);
+
+    @Mock
+    private Failover failover;
+
+    @Test
+    @DisplayName("should write on every success when no interval is configured")
+    void shouldAlwaysStoreWithoutInterval() {
+        given(failover.minRefreshInterval()).willReturn(-1L);
+        RefreshThrottle throttle = new RefreshThrottle(Duration.ZERO);
+
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should skip writes of the same entry within the global interval, per entry")
+    void shouldSkipWithinGlobalInterval() {
+        given(failover.minRefreshInterval()).willReturn(-1L);
+        RefreshThrottle throttle = new RefreshThrottle(Duration.ofMinutes(1));
+
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW.plusSeconds(59), EXPIRE_ON)).isFalse();
+        assertThat(throttle.shouldStore(failover, "country", "DE", NOW.plusSeconds(59), EXPIRE_ON)).isTrue();
+        assertThat(throttle.shouldStore(failover, "currency", "FR", NOW.plusSeconds(59), EXPIRE_ON)).isTrue();
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW.plusSeconds(60), EXPIRE_ON)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should let the annotation override the global interval, 0 writing on every success")
+    void shouldPreferAnnotationInterval() {
+        RefreshThrottle throttle = new RefreshThrottle(Duration.ofMinutes(1));
+
+        given(failover.minRefreshInterval()).willReturn(0L);
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+
+        given(failover.minRefreshInterval()).willReturn(5L);
+        given(failover.minRefreshUnit()).willReturn(ChronoUnit.MINUTES);
+        assertThat(throttle.shouldStore(failover, "country", "DE", NOW, EXPIRE_ON)).isTrue();
+        assertThat(throttle.shouldStore(failover, "country", "DE", NOW.plus(4, ChronoUnit.MINUTES), EXPIRE_ON)).isFalse();
+        assertThat(throttle.shouldStore(failover, "country", "DE", NOW.plus(5, ChronoUnit.MINUTES), EXPIRE_ON)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should never skip a write past the expiry of the stored entry")
+    void shouldNotSkipPastExpiry() {
+        given(failover.minRefreshInterval()).willReturn(-1L);
+        RefreshThrottle throttle = new RefreshThrottle(Duration.ofHours(2));
+
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        assertThat(throttle.shouldStore(failover, "country", "FR", EXPIRE_ON.minusSeconds(1), EXPIRE_ON)).isFalse();
+        assertThat(throttle.shouldStore(failover, "country", "FR", EXPIRE_ON, EXPIRE_ON.plus(1, ChronoUnit.HOURS))).isTrue();
+    }
+
+    @Test
+    @DisplayName("should write again right after the entry was forgotten")
+    void shouldStoreAfterForget() {
+        given(failover.minRefreshInterval()).willReturn(-1L);
+        RefreshThrottle throttle = new RefreshThrottle(Duration.ofMinutes(1));
+        throttle.forget("country", "FR");
+
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        throttle.forget("country", "FR");
+
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should track the writes of each scope apart, and forget only in the calling scope")
+    void shouldKeepScopesApart() {
+        given(failover.minRefreshInterval()).willReturn(-1L);
+        AtomicReference<String> tenant = new AtomicReference<>("acme");
+        RefreshThrottle throttle = new RefreshThrottle(Duration.ofMinutes(1), RefreshThrottle.DEFAULT_MAX_TRACKED_ENTRIES, tenant::get);
+
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        tenant.set("globex");
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isFalse();
+
+        throttle.forget("country", "FR");
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        tenant.set("acme");
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isFalse();
+
+        tenant.set(null);
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should forget a write failed elsewhere in the scope bound when it was accepted")
+    void shouldForgetFailedWriteInBoundScope() {
+        given(failover.minRefreshInterval()).willReturn(-1L);
+        AtomicReference<String> tenant = new AtomicReference<>("acme");
+        RefreshThrottle throttle = new RefreshThrottle(Duration.ofMinutes(1), RefreshThrottle.DEFAULT_MAX_TRACKED_ENTRIES, tenant::get);
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        tenant.set("globex");
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        tenant.set("acme");
+        Consumer<ReferentialPayload<?>> onFailure = throttle.bind();
+
+        // the failure is reported from a thread that no longer has the tenant
+        tenant.set(null);
+        onFailure.accept(new ReferentialPayload<>("country", "FR", true, NOW, EXPIRE_ON, "France"));
+
+        tenant.set("acme");
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        tenant.set("globex");
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reset the tracked entries once the bound is reached")
+    void shouldResetWhenFull() {
+        given(failover.minRefreshInterval()).willReturn(-1L);
+        RefreshThrottle throttle = new RefreshThrottle(Duration.ofMinutes(1), 2);
+
+        throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON);
+        throttle.shouldStore(failover, "country", "DE", NOW, EXPIRE_ON);
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isFalse();
+
+        throttle.shouldStore(failover, "country", "IT", NOW, EXPIRE_ON);
+
+        assertThat(throttle.shouldStore(failover, "country", "FR", NOW, EXPIRE_ON)).isTrue();
+        assertThat(throttle.shouldStore(failover, "country", "IT", NOW, EXPIRE_ON)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reject a negative interval or a non-positive bound")
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> new RefreshThrottle(Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("defaultInterval");
+        assertThatThrownBy(() -> new RefreshThrottle(Duration.ZERO, 0))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("maxTrackedEntries");
+    }
+}
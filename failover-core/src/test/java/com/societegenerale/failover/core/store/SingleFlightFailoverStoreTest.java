@@ -0,0 +1,292 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.core.store;
+
+import com.societegenerale.failover.core.flight.SingleFlightStats;
+import com.societegenerale.failover.core.payload.DefaultPayloadEnricher;
+import com.societegenerale.failover.core.payload.LazyReferentialPayload;
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import com.societegenerale.failover.domain.Referential;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightFailoverStoreTest {
+
+    private static final Instant AS_OF = Instant.parse("2026-01-01T10:00:00Z");
+
+    private static final Instant EXPIRE_ON = Instant.parse("2026-01-02T10:00:00Z");
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Mock
+    private FailoverStore<Object> delegate;
+
+    private final SingleFlightStats stats = new SingleFlightStats();
+
+    private SingleFlightFailoverStore<Object> store;
+
+    @BeforeEach
+    void setUp() {
+        store = new SingleFlightFailoverStore<>(delegate, stats);
+    }
+
+    private static ReferentialPayload<Object> payload(String key) {
+        return new ReferentialPayload<>("country", key, false, AS_OF, EXPIRE_ON, "value-" + key);
+    }
+
+    @Test
+    @DisplayName("should return a copy of the entry the delegate found")
+    void shouldReturnCopy() {
+        ReferentialPayload<Object> stored = payload("FR");
+        given(delegate.find("country", "FR")).willReturn(Optional.of(stored));
+        given(delegate.find("country", "DE", NOW)).willReturn(Optional.empty());
+
+        Optional<ReferentialPayload<Object>> found = store.find("country", "FR");
+
+        assertThat(found).contains(stored);
+        assertThat(found.orElseThrow()).isNotSameAs(stored);
+        assertThat(store.find("country", "DE", NOW)).isEmpty();
+        assertThat(stats.leaders()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should collapse concurrent lookups of the same entry into one, each caller getting its own copy")
+    void shouldCollapseConcurrentLookups() throws Exception {
+        ReferentialPayload<Object> stored = payload("FR");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(stored);
+        }).given(delegate).find("country", "FR", NOW);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<Optional<ReferentialPayload<Object>>> leader = executor.submit(() -> store.find("country", "FR", NOW));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Optional<ReferentialPayload<Object>>> first = executor.submit(() -> store.find("country", "FR", NOW));
+            Future<Optional<ReferentialPayload<Object>>> second = executor.submit(() -> store.find("country", "FR", NOW.plusMillis(1)));
+            awaitFollowers(2);
+
+            release.countDown();
+
+            ReferentialPayload<Object> fromLeader = leader.get(5, TimeUnit.SECONDS).orElseThrow();
+            ReferentialPayload<Object> fromFirst = first.get(5, TimeUnit.SECONDS).orElseThrow();
+            ReferentialPayload<Object> fromSecond = second.get(5, TimeUnit.SECONDS).orElseThrow();
+            assertThat(List.of(fromLeader, fromFirst, fromSecond)).allSatisfy(found -> {
+                assertThat(found).isEqualTo(stored);
+                assertThat(found).isNotSameAs(stored);
+            });
+            fromFirst.withUpToDate(true);
+            assertThat(fromLeader.isUpToDate()).isFalse();
+            assertThat(fromSecond.isUpToDate()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, times(1)).find(eq("country"), eq("FR"), any(Instant.class));
+        assertThat(stats.fanIn()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("should deserialize a shared entry for each waiter, so enriching one never shows through another")
+    void shouldGiveEachWaiterItsOwnBusinessObject() throws Exception {
+        ReferentialPayload<Object> stored = new LazyReferentialPayload<>("country", "FR", false, AS_OF, EXPIRE_ON, () -> new Country("FR"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(stored);
+        }).given(delegate).find("country", "FR", NOW);
+        DefaultPayloadEnricher<Object> enricher = new DefaultPayloadEnricher<>();
+        CountDownLatch enrich = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> {
+                ReferentialPayload<Object> found = store.find("country", "FR", NOW).orElseThrow();
+                enrich.await(5, TimeUnit.SECONDS);
+                return enricher.enrichOnRecover(null, Object.class, found, new IllegalStateException("leader down")).getPayload();
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Object> waiter = executor.submit(() -> {
+                ReferentialPayload<Object> found = store.find("country", "FR", NOW).orElseThrow();
+                enrich.await(5, TimeUnit.SECONDS);
+                return enricher.enrichOnRecover(null, Object.class, found, new IllegalArgumentException("waiter down")).getPayload();
+            });
+            awaitFollowers(1);
+
+            release.countDown();
+            enrich.countDown();
+
+            Country fromLeader = (Country) leader.get(5, TimeUnit.SECONDS);
+            Country fromWaiter = (Country) waiter.get(5, TimeUnit.SECONDS);
+            assertThat(fromLeader).isNotSameAs(fromWaiter);
+            assertThat(fromLeader.getMetadata().getInfo())
+                    .containsEntry("cause", "leader down")
+                    .containsEntry("exception-name", IllegalStateException.class.getCanonicalName());
+            assertThat(fromWaiter.getMetadata().getInfo())
+                    .containsEntry("cause", "waiter down")
+                    .containsEntry("exception-name", IllegalArgumentException.class.getCanonicalName());
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, times(1)).find(eq("country"), eq("FR"), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("should filter a shared lookup with each waiter's own cutoff, and look up again for an earlier cutoff")
+    void shouldHonourEachCutoffInFlight() throws Exception {
+        ReferentialPayload<Object> stored = payload("FR");
+        Instant earlier = NOW.minusSeconds(3_600);
+        Instant afterExpiry = EXPIRE_ON.plusSeconds(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(stored);
+        }).given(delegate).find("country", "FR", NOW);
+        given(delegate.find("country", "FR", earlier)).willReturn(Optional.of(stored));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<Optional<ReferentialPayload<Object>>> leader = executor.submit(() -> store.find("country", "FR", NOW));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Optional<ReferentialPayload<Object>>> later = executor.submit(() -> store.find("country", "FR", afterExpiry));
+            Future<Optional<ReferentialPayload<Object>>> sooner = executor.submit(() -> store.find("country", "FR", earlier));
+            awaitFollowers(2);
+
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).contains(stored);
+            assertThat(later.get(5, TimeUnit.SECONDS)).isEmpty();
+            assertThat(sooner.get(5, TimeUnit.SECONDS)).contains(stored);
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, never()).find("country", "FR", afterExpiry);
+        verify(delegate).find("country", "FR", earlier);
+    }
+
+    @Test
+    @DisplayName("should not share a lookup with a cutoff with one without")
+    void shouldNotShareLookupsWithAndWithoutCutoff() throws Exception {
+        ReferentialPayload<Object> expired = payload("FR");
+        Instant afterExpiry = EXPIRE_ON.plusSeconds(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        }).given(delegate).find("country", "FR", afterExpiry);
+        given(delegate.find("country", "FR")).willReturn(Optional.of(expired));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<ReferentialPayload<Object>>> withCutoff = executor.submit(() -> store.find("country", "FR", afterExpiry));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(store.find("country", "FR")).contains(expired);
+
+            release.countDown();
+            assertThat(withCutoff.get(5, TimeUnit.SECONDS)).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(stats.followers()).isZero();
+    }
+
+    @Test
+    @DisplayName("should delegate the other operations as-is")
+    void shouldDelegateOtherOperations() {
+        given(delegate.findAll("country")).willReturn(List.of(payload("FR")));
+        given(delegate.findAll("country", List.of("FR"))).willReturn(List.of(payload("FR")));
+        given(delegate.findAll("country", List.of("DE"), NOW)).willReturn(List.of(payload("DE")));
+        given(delegate.streamAll("country", NOW)).willReturn(Stream.of(payload("IT")));
+
+        store.store(payload("FR"));
+        store.storeAll(List.of(payload("DE")));
+        store.touch(payload("IT"), EXPIRE_ON);
+        store.delete(payload("ES"));
+        store.deleteExpired(List.of(payload("PT")));
+        store.cleanByExpiry(NOW);
+
+        assertThat(store.findAll("country")).containsExactly(payload("FR"));
+        assertThat(store.findAll("country", List.of("FR"))).containsExactly(payload("FR"));
+        assertThat(store.findAll("country", List.of("DE"), NOW)).containsExactly(payload("DE"));
+        assertThat(store.streamAll("country", NOW)).containsExactly(payload("IT"));
+        assertThat(store.getFailoverStore()).isSameAs(delegate);
+        assertThat(store.stats()).isSameAs(stats);
+        verify(delegate).store(payload("FR"));
+        verify(delegate).storeAll(List.of(payload("DE")));
+        verify(delegate).touch(payload("IT"), EXPIRE_ON);
+        verify(delegate).delete(payload("ES"));
+        verify(delegate).deleteExpired(List.of(payload("PT")));
+        verify(delegate).cleanByExpiry(NOW);
+    }
+
+    @Test
+    @DisplayName("should forward the live entry count only to a size-aware delegate")
+    void shouldForwardLiveEntryCount() {
+        assertThat(store.liveEntryCount("country")).isZero();
+        assertThat(store.liveEntryCountSupported()).isFalse();
+
+        FailoverStore<Object> sizeAware = mock(FailoverStore.class, withSettings().extraInterfaces(FailoverStoreSizeAware.class));
+        given(((FailoverStoreSizeAware) sizeAware).liveEntryCount("country")).willReturn(3L);
+        given(((FailoverStoreSizeAware) sizeAware).liveEntryCountSupported()).willReturn(true);
+        SingleFlightFailoverStore<Object> forwarding = new SingleFlightFailoverStore<>(sizeAware);
+
+        assertThat(forwarding.liveEntryCount("country")).isEqualTo(3L);
+        assertThat(forwarding.liveEntryCountSupported()).isTrue();
+    }
+
+    private static class Country extends Referential {
+
+        private final String code;
+
+        private Country(String code) {
+            this.code = code;
+        }
+    }
+
+    private void awaitFollowers(long followers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stats.followers() < followers && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(stats.followers()).isEqualTo(followers);
+    }
+}
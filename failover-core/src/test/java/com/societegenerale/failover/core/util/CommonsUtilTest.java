@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -214,4 +215,48 @@ class CommonsUtilTest {
                     .isInstanceOf(NullPointerException.class);
         }
     }
+
+    @Nested
+    @DisplayName("closeQuietly")
+    class CloseQuietly {
+
+        @Test
+        @DisplayName("closes an AutoCloseable")
+        void closesAutoCloseable() {
+            AtomicInteger closed = new AtomicInteger();
+
+            CommonsUtil.closeQuietly((AutoCloseable) closed::incrementAndGet);
+
+            assertThat(closed).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("ignores null and objects that are not AutoCloseable")
+        void ignoresNonCloseable() {
+            CommonsUtil.closeQuietly(null);
+            CommonsUtil.closeQuietly("not closeable");
+        }
+
+        @Test
+        @DisplayName("logs instead of throwing when close fails")
+        void swallowsCloseFailure() {
+            CommonsUtil.closeQuietly((AutoCloseable) () -> {
+                throw new IllegalStateException("boom");
+            });
+        }
+
+        @Test
+        @DisplayName("restores the interrupt flag when close is interrupted")
+        void restoresInterruptFlag() {
+            try {
+                CommonsUtil.closeQuietly((AutoCloseable) () -> {
+                    throw new InterruptedException();
+                });
+
+                assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            } finally {
+                Thread.interrupted();
+            }
+        }
+    }
 }
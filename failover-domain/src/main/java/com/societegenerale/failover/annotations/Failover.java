@@ -180,5 +180,67 @@ public @interface Failover {
      */
     boolean recoverAll() default false;
 
+    /**
+     * Minimum time between two store writes of the same entry. Within that interval a successful call is still
+     * returned to the caller, but its payload is not written again — the stored copy, and its expiry, stay as
+     * they were. A write is never skipped past the stored entry's expiry.
+     *
+     * <p>{@code 0} writes on every success. A negative value (default {@code -1}) uses the global
+     * {@code failover.store.min-refresh-interval}.
+     *
+     * @return minimum refresh interval, in {@link #minRefreshUnit()}; negative to use the global default
+     * @see #minRefreshUnit()
+     */
+    long minRefreshInterval() default -1;
+
+    /**
+     * The unit of {@link #minRefreshInterval()}. The default value is {@link ChronoUnit#SECONDS}.
+     *
+     * @return unit of the minimum refresh interval
+     */
+    ChronoUnit minRefreshUnit() default ChronoUnit.SECONDS;
+
+    /**
+     * Collapses concurrent calls with the same failover key into one. While a call of the method is in flight,
+     * other callers with the same key (as computed by the {@link #keyGenerator()}) do not call the upstream: they
+     * wait for the call in flight and get its outcome — the upstream result, or the recovered payload when it
+     * failed, or the exception the exception policy raised. Its result is stored once.
+     *
+     * <p>Every caller sharing a call receives the very same returned object, not a copy: return immutable values,
+     * or values no caller modifies. The method must not call itself with the same key, as it would wait for itself.
+     *
+     * <p>Only callers of the same tenant share a call when the store is multi-tenant. A result that depends on
+     * anything else the key leaves out — the calling user, its roles, its locale — must have it in the key, or
+     * one caller gets the result computed for another.
+     *
+     * @return {@code true} to collapse concurrent calls with the same key; {@code false} (default) to call the
+     *         upstream on every call
+     */
+    boolean collapseRequests() default false;
+
+    /**
+     * Maximum time the caller waits for the upstream. When the upstream has not answered within the budget, the
+     * stored payload is returned right away, marked as not up to date, and the upstream call goes on in the
+     * background: its result, when it comes, refreshes the store. When nothing is stored for the call, the caller
+     * keeps waiting for the upstream.
+     *
+     * <p>With a budget, the upstream is called on another thread. The context propagator carries the caller's
+     * thread-bound context over to it: the MDC, the tenant with a multi-tenant store, and the security context or
+     * any other context a propagator is registered for. A transaction does not follow the call: the upstream runs
+     * outside of the caller's transaction. {@code 0} (default) calls the upstream on the caller's thread, without
+     * budget.
+     *
+     * @return latency budget, in {@link #latencyBudgetUnit()}; {@code 0} or negative for no budget
+     * @see #latencyBudgetUnit()
+     */
+    long latencyBudget() default 0;
+
+    /**
+     * The unit of {@link #latencyBudget()}. The default value is {@link ChronoUnit#MILLIS}.
+     *
+     * @return unit of the latency budget
+     */
+    ChronoUnit latencyBudgetUnit() default ChronoUnit.MILLIS;
+
 
 }
@@ -21,6 +21,7 @@ import com.societegenerale.failover.core.BasicFailoverExecution;
 import com.societegenerale.failover.core.FailoverHandler;
 import com.societegenerale.failover.core.exception.MethodExceptionHandler;
 import com.societegenerale.failover.core.observable.publisher.ObservablePublisher;
+import com.societegenerale.failover.core.propagator.ContextPropagator;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import org.jspecify.annotations.Nullable;
@@ -59,7 +60,57 @@ public class ResilienceFailoverExecution<T> extends BasicFailoverExecution<T> {
      * @param observablePublisher      non-blocking publisher for the {@code failover.upstream.duration} metric
      */
     public ResilienceFailoverExecution(FailoverHandler<T> failoverHandler, MethodExceptionHandler methodExceptionHandler, CircuitBreakerRegistry circuitBreakerRegistry, @Nullable ObservablePublisher observablePublisher) {
-        super(failoverHandler, methodExceptionHandler, observablePublisher);
+        this(failoverHandler, methodExceptionHandler, circuitBreakerRegistry, observablePublisher, () -> null);
+    }
+
+    /**
+     * Creates a resilience-backed failover execution whose collapsed calls are only shared within a call scope.
+     *
+     * @param failoverHandler          handler for store and recover operations
+     * @param methodExceptionHandler   policy for handling exceptions after recovery
+     * @param circuitBreakerRegistry   Resilience4j registry used to look up circuit breakers by name
+     * @param observablePublisher      non-blocking publisher for the {@code failover.upstream.duration} metric
+     * @param callScope                resolves the scope of the calling thread, e.g. its tenant
+     */
+    public ResilienceFailoverExecution(FailoverHandler<T> failoverHandler, MethodExceptionHandler methodExceptionHandler, CircuitBreakerRegistry circuitBreakerRegistry,
+                                       @Nullable ObservablePublisher observablePublisher, Supplier<@Nullable String> callScope) {
+        this(failoverHandler, methodExceptionHandler, circuitBreakerRegistry, observablePublisher, callScope, ContextPropagator.noOp());
+    }
+
+    /**
+     * Creates a resilience-backed failover execution that also carries the caller's context onto the thread of an
+     * upstream call run under a latency budget.
+     *
+     * @param failoverHandler          handler for store and recover operations
+     * @param methodExceptionHandler   policy for handling exceptions after recovery
+     * @param circuitBreakerRegistry   Resilience4j registry used to look up circuit breakers by name
+     * @param observablePublisher      non-blocking publisher for the {@code failover.upstream.duration} metric
+     * @param callScope                resolves the scope of the calling thread, e.g. its tenant
+     * @param contextPropagator        carries the caller's thread-bound context across the latency-budget thread
+     */
+    public ResilienceFailoverExecution(FailoverHandler<T> failoverHandler, MethodExceptionHandler methodExceptionHandler, CircuitBreakerRegistry circuitBreakerRegistry,
+                                       @Nullable ObservablePublisher observablePublisher, Supplier<@Nullable String> callScope,
+                                       ContextPropagator contextPropagator) {
+        this(failoverHandler, methodExceptionHandler, circuitBreakerRegistry, observablePublisher, callScope, contextPropagator,
+                DEFAULT_MAX_BACKGROUND_CALLS);
+    }
+
+    /**
+     * Creates a resilience-backed failover execution that also carries the caller's context onto the thread of an
+     * upstream call run under a latency budget, and bounds the calls left running past it.
+     *
+     * @param failoverHandler          handler for store and recover operations
+     * @param methodExceptionHandler   policy for handling exceptions after recovery
+     * @param circuitBreakerRegistry   Resilience4j registry used to look up circuit breakers by name
+     * @param observablePublisher      non-blocking publisher for the {@code failover.upstream.duration} metric
+     * @param callScope                resolves the scope of the calling thread, e.g. its tenant
+     * @param contextPropagator        carries the caller's thread-bound context across the latency-budget thread
+     * @param maxBackgroundCalls       calls per failover method that may go on in the background past their latency budget
+     */
+    public ResilienceFailoverExecution(FailoverHandler<T> failoverHandler, MethodExceptionHandler methodExceptionHandler, CircuitBreakerRegistry circuitBreakerRegistry,
+                                       @Nullable ObservablePublisher observablePublisher, Supplier<@Nullable String> callScope,
+                                       ContextPropagator contextPropagator, int maxBackgroundCalls) {
+        super(failoverHandler, methodExceptionHandler, observablePublisher, callScope, contextPropagator, maxBackgroundCalls);
         this.circuitBreakerRegistry = circuitBreakerRegistry;
     }
 
@@ -135,6 +135,8 @@ class ResilienceFailoverExecutionTest {
         //then
         assertThat(recovered).isNull();
 
+        // the expired entry is filtered out by the store read, and removed by the expiry cleanup
+        failoverStore.cleanByExpiry(NOW.plusSeconds(7200));
         var optionalClientReferentialPayload = failoverStore.find("client-by-id", "1");
         assertThat(optionalClientReferentialPayload).isNotPresent();
     }
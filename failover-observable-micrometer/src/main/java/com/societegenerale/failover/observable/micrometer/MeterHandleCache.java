@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.observable.micrometer;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.societegenerale.failover.core.util.CastingUtils.cast;
+
+/**
+ * Bounded cache of registered {@link Meter} handles, so publishing an event is a map hit plus
+ * {@code increment()}/{@code record()} instead of a {@code builder(...).tag(...).register(registry)} round
+ * trip (meter id construction, tag sorting and the registry's own lookup) for every meter of every event.
+ *
+ * <p>A handle is keyed by its {@link Registration} (one constant per meter, compared by identity) and up to
+ * four tag values; the registration builds the meter from those values on a miss. Registrations are
+ * stateless lambdas, so a lookup allocates nothing but the small key.
+ *
+ * <p><strong>Bounded.</strong> At most {@code maxSize} handles are cached. Past that, meters are registered
+ * on every call exactly as before caching existed — correct, just slower — and a single {@code WARN} is
+ * logged, so a tag explosion (e.g. unbounded exception types) can never grow this cache without limit.
+ * {@code maxSize = 0} disables caching. Meters denied by a {@code MeterFilter} (the cardinality guard)
+ * resolve to the registry's no-op meter, which is cached like any other handle.
+ *
+ * @author Anand Manissery
+ */
+@Slf4j
+class MeterHandleCache {
+
+    /** Default maximum number of cached meter handles. */
+    static final int DEFAULT_MAX_SIZE = 10_000;
+
+    /**
+     * Builds and registers one meter from the tag values of its key.
+     *
+     * @param <M> the meter type
+     */
+    @FunctionalInterface
+    interface Registration<M extends Meter> {
+        M register(MeterRegistry registry, Key key);
+    }
+
+    /** Cache key: the registration plus its tag values ({@code null} for unused slots). */
+    record Key(Registration<?> registration, String t1, @Nullable String t2, @Nullable String t3, @Nullable String t4) {
+    }
+
+    private final MeterRegistry registry;
+    private final int maxSize;
+    private final Map<Key, Meter> handles = new ConcurrentHashMap<>();
+    private volatile boolean overflowLogged;
+
+    MeterHandleCache(MeterRegistry registry) {
+        this(registry, DEFAULT_MAX_SIZE);
+    }
+
+    MeterHandleCache(MeterRegistry registry, int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must be >= 0, but was " + maxSize);
+        }
+        this.registry = registry;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached handle for {@code registration} and the given tag values, registering it on a miss.
+     *
+     * @param registration the meter registration (one constant per meter)
+     * @param t1           first tag value
+     * @param t2           second tag value, or {@code null}
+     * @param t3           third tag value, or {@code null}
+     * @param t4           fourth tag value, or {@code null}
+     * @param <M>          the meter type
+     * @return the registered meter
+     */
+    <M extends Meter> M get(Registration<M> registration, String t1, @Nullable String t2, @Nullable String t3, @Nullable String t4) {
+        Key key = new Key(registration, t1, t2, t3, t4);
+        Meter handle = handles.get(key);
+        if (handle != null) {
+            return cast(handle);
+        }
+        M registered = registration.register(registry, key);
+        if (handles.size() < maxSize) {
+            handles.putIfAbsent(key, registered);
+        } else if (!overflowLogged) {
+            overflowLogged = true;
+            log.warn("Failover meter handle cache is full ({} handles) — further meters are registered per call. "
+                    + "Check for a high-cardinality tag (exception type, method) on the failover.* meters.", maxSize);
+        }
+        return registered;
+    }
+
+    /** Number of cached handles (for diagnostics / tests). */
+    int size() {
+        return handles.size();
+    }
+}
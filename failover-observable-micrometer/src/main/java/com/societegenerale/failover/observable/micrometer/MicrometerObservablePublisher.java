@@ -16,14 +16,20 @@
 
 package com.societegenerale.failover.observable.micrometer;
 
+import com.societegenerale.failover.core.observable.FailoverAction;
+import com.societegenerale.failover.core.observable.FailoverEvent;
+import com.societegenerale.failover.core.observable.FailoverOutcome;
 import com.societegenerale.failover.core.observable.Metrics;
 import com.societegenerale.failover.core.observable.publisher.ObservablePublisher;
 import com.societegenerale.failover.observable.micrometer.FailoverApiHealthTracker.Outcome;
+import com.societegenerale.failover.observable.micrometer.MeterHandleCache.Registration;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.Nullable;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -67,6 +73,10 @@ import java.util.concurrent.TimeUnit;
  *       the executor thread (the async store layer is otherwise visible only in logs)</li>
  * </ul>
  *
+ * <h2>Meter handles</h2>
+ * Counter and timer handles are resolved once per distinct tag combination and cached in a bounded
+ * {@link MeterHandleCache}, so recording an event does not rebuild meter ids or hit the registry's lookup.
+ *
  * <h2>Tag cardinality</h2>
  * Boolean tags ({@code stored}, {@code recovered}, {@code recovery_failed}) have cardinality 2.
  * {@code exception_type}, {@code cause_type} and {@code final_cause_type} use class canonical names and are expected to be
@@ -75,7 +85,8 @@ import java.util.concurrent.TimeUnit;
  * <h2>Event discrimination</h2>
  * Operational events (store/recover) carry a {@code failover-action} key.
  * Startup report events do not, and are silently ignored by this publisher
- * (they are handled by {@link FailoverMeterBinder}).
+ * (they are handled by {@link FailoverMeterBinder}). Typed {@link FailoverEvent}s are read field by field,
+ * without building the {@link Metrics} map.
  *
  * @author Anand Manissery
  */
@@ -106,6 +117,9 @@ public class MicrometerObservablePublisher implements ObservablePublisher {
     static final String RESULT_SUCCESS  = "success";
     static final String RESULT_FAILOVER = "failover";
 
+    /** {@code result} tag value of {@code failover.upstream.duration} for a failed upstream call. */
+    static final String UPSTREAM_FAILURE = "failure";
+
     /** {@code impact} tag values for {@code failover.user.impact.total}. */
     static final String IMPACT_UNBLOCKED = "unblocked";
     static final String IMPACT_BLOCKED   = "blocked";
@@ -113,9 +127,85 @@ public class MicrometerObservablePublisher implements ObservablePublisher {
     /** Fallback tag value when a tag is absent from the metrics bag. */
     static final String UNKNOWN              = "unknown";
 
+    // ── meter registrations: stateless, one per meter, keyed by identity in the handle cache ──
+
+    private static final Registration<Counter> STORE_TOTAL = (registry, key) -> Counter.builder("failover.store.total")
+        .description("Total failover store attempts")
+        .tag("name", key.t1())
+        .tag("stored", key.t2())
+        .register(registry);
+
+    private static final Registration<Counter> CALL_TOTAL = (registry, key) -> Counter.builder("failover.call.total")
+        .description("Total failover-protected calls by result: success (upstream ok) or failover (upstream failed)")
+        .tag("name", key.t1())
+        .tag("domain", key.t2())
+        .tag("result", key.t3())
+        .register(registry);
+
+    private static final Registration<Counter> USER_IMPACT_TOTAL = (registry, key) -> Counter.builder("failover.user.impact.total")
+        .description("Whether the caller got a value (unblocked) or upstream failed with nothing to recover (blocked)")
+        .tag("name", key.t1())
+        .tag("domain", key.t2())
+        .tag("impact", key.t3())
+        .register(registry);
+
+    private static final Registration<Counter> RECOVER_TOTAL = (registry, key) -> Counter.builder("failover.recover.total")
+        .description("Total failover recovery attempts")
+        .tag("name", key.t1())
+        .tag("recovered", key.t2())
+        .tag("recovery_failed", key.t3())
+        .register(registry);
+
+    private static final Registration<Counter> EXCEPTION_TOTAL = (registry, key) -> Counter.builder("failover.exception.total")
+        .description("Root exceptions triggering failover recovery")
+        .tag("name", key.t1())
+        .tag("exception_type", key.t2())
+        .tag("cause_type", key.t3())
+        .tag("final_cause_type", key.t4())
+        .register(registry);
+
+    private static final Registration<Counter> RECOVERY_OUTCOME_TOTAL = (registry, key) -> Counter.builder("failover.recovery.outcome.total")
+        .description("Failover recover outcomes per intercepted method: recovered / not_recovered / error")
+        .tag("name", key.t1())
+        .tag("domain", key.t2())
+        .tag("method", key.t3())
+        .tag("outcome", key.t4())
+        .register(registry);
+
+    private static final Registration<Counter> RECOVERY_PARTIAL_TOTAL = (registry, key) -> Counter.builder("failover.recovery.partial.total")
+        .description("Scatter/gather recoveries where some (not all) slices were recovered")
+        .tag("name", key.t1())
+        .tag("method", key.t2())
+        .register(registry);
+
+    private static final Registration<Counter> STORE_ASYNC_FAILED = (registry, key) -> Counter.builder("failover.store.async.failed")
+        .description("Async store-layer operations that failed inside the executor")
+        .tag("name", key.t1())
+        .tag("operation", key.t2())
+        .tag("exception_type", key.t3())
+        .register(registry);
+
+    private static final Registration<Timer> UPSTREAM_DURATION = (registry, key) -> Timer.builder("failover.upstream.duration")
+        .description("Latency of the protected upstream call (success vs failure)")
+        .tag("name", key.t1())
+        .tag("result", key.t2())
+        .publishPercentileHistogram()
+        .register(registry);
+
+    private static final Registration<Timer> OPERATION_DURATION = (registry, key) -> Timer.builder("failover.operation.duration")
+        .description("Wall time of failover store/recover path")
+        .tag("name", key.t1())
+        .tag("action", key.t2())
+        .publishPercentileHistogram()                 // buckets → Prometheus histogram_quantile
+        .publishPercentiles(0.5, 0.95, 0.99)          // client-side percentiles → local dashboard p95/p99
+        .register(registry);
+
     private final MeterRegistry registry;
     private final Runnable publishHook;
 
+    /** Resolved counter/timer handles, so the hot path is a map hit plus {@code increment()}/{@code record()}. */
+    private final MeterHandleCache meters;
+
     /** Rolling per-API outcome state behind the health/stale gauges. */
     private final FailoverApiHealthTracker healthTracker = new FailoverApiHealthTracker();
 
@@ -139,8 +229,20 @@ public class MicrometerObservablePublisher implements ObservablePublisher {
      * @param publishHook called after each action-based publish; must be non-blocking
      */
     public MicrometerObservablePublisher(MeterRegistry registry, Runnable publishHook) {
+        this(registry, publishHook, MeterHandleCache.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a publisher with a publish hook and an explicit bound on cached meter handles.
+     *
+     * @param registry       the Micrometer registry to publish meters to
+     * @param publishHook    called after each action-based publish; must be non-blocking
+     * @param meterCacheSize maximum number of cached counter/timer handles; {@code 0} disables caching
+     */
+    public MicrometerObservablePublisher(MeterRegistry registry, Runnable publishHook, int meterCacheSize) {
         this.registry = registry;
         this.publishHook = publishHook;
+        this.meters = new MeterHandleCache(registry, meterCacheSize);
     }
 
     @Override
@@ -150,88 +252,99 @@ public class MicrometerObservablePublisher implements ObservablePublisher {
         if (action == null) {
             return; // startup/config event — handled by FailoverMeterBinder
         }
-        String name = info.getOrDefault(NAME_KEY, "unknown");
+        String name = info.getOrDefault(NAME_KEY, UNKNOWN);
+        String domain = info.getOrDefault(DOMAIN_KEY, name);
         switch (action) {
-            case "store"   -> publishStore(name, info);
-            case "recover" -> publishRecover(name, info);
-            case "recover-partial" -> publishRecoverPartial(name, info);
-            case "upstream" -> publishUpstream(name, info);
-            case ASYNC_FAILED -> publishAsyncFailed(name, info);
+            case "store"   -> publishStore(name, domain, "true".equals(info.get(STORED_KEY)));
+            case "recover" -> publishRecover(name, domain, info.getOrDefault(METHOD_KEY, UNKNOWN),
+                    "true".equals(info.get(RECOVERED_KEY)), "true".equals(info.get(RECOVERY_FAIL)),
+                    orUnknown(info.get(EX_TYPE_KEY)), info.get(CAUSE_TYPE_KEY), info.get(FINAL_CAUSE_TYPE_KEY));
+            case "recover-partial" -> publishRecoverPartial(name, info.getOrDefault(METHOD_KEY, UNKNOWN));
+            case "upstream" -> {
+                Long upstreamNanos = parseNanos(info.get(UPSTREAM_DURATION_NS_KEY));
+                if (upstreamNanos != null) {
+                    publishUpstream(name, info.getOrDefault(UPSTREAM_RESULT_KEY, UNKNOWN), upstreamNanos);
+                }
+            }
+            case ASYNC_FAILED -> publishAsyncFailed(name, orUnknown(info.get(ASYNC_OP_KEY)), orUnknown(info.get(EX_TYPE_KEY)));
             default        -> { /* unknown action — ignore */ }
         }
-        recordDuration(name, action, info);
+        Long nanos = parseNanos(info.get(DURATION_NS_KEY));
+        if (nanos != null) {
+            recordDuration(name, action, nanos);
+        }
         publishHook.run();
     }
 
-    private void publishStore(String name, Map<String, String> info) {
-        String stored = info.getOrDefault(STORED_KEY, "false");
-        Counter.builder("failover.store.total")
-            .description("Total failover store attempts")
-            .tag("name", name)
-            .tag("stored", stored)
-            .register(registry)
-            .increment();
+    /**
+     * Typed path: reads the event's fields directly, so no {@link Metrics} map is built and no string is
+     * parsed. Records exactly the meters {@link #publish(Metrics)} records for the equivalent map.
+     */
+    @Override
+    public void publish(FailoverEvent event) {
+        record(event);
+        publishHook.run();
+    }
+
+    /**
+     * Records every event of the batch and runs the publish hook once for the whole batch, so an event-driven
+     * snapshot push is triggered per drained batch rather than per event.
+     */
+    @Override
+    public void publishAll(List<FailoverEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        events.forEach(this::record);
+        publishHook.run();
+    }
+
+    private void record(FailoverEvent event) {
+        String name = event.getName();
+        String domain = event.getDomain() != null ? event.getDomain() : name;
+        String method = event.getMethod() != null ? event.getMethod() : UNKNOWN;
+        FailoverOutcome outcome = event.getOutcome();
+        switch (event.getAction()) {
+            case STORE -> publishStore(name, domain, outcome == FailoverOutcome.SUCCESS);
+            case RECOVER -> publishRecover(name, domain, method,
+                    outcome == FailoverOutcome.SUCCESS, outcome == FailoverOutcome.FAILURE,
+                    orUnknown(event.exceptionType()), event.causeType(), event.finalCauseType());
+            case RECOVER_PARTIAL -> publishRecoverPartial(name, method);
+            case UPSTREAM -> publishUpstream(name, outcome == FailoverOutcome.SUCCESS ? RESULT_SUCCESS : UPSTREAM_FAILURE, event.getDurationNanos());
+            case STORE_ASYNC_FAILED -> publishAsyncFailed(name, orUnknown(event.getAsyncOperation()), orUnknown(event.exceptionType()));
+        }
+        if (event.getAction() != FailoverAction.UPSTREAM && event.getDurationNanos() != FailoverEvent.NO_VALUE) {
+            recordDuration(name, event.getAction().tag(), event.getDurationNanos());
+        }
+    }
+
+    private void publishStore(String name, String domain, boolean stored) {
+        meters.get(STORE_TOTAL, name, Boolean.toString(stored), null, null).increment();
         // A store event fires on the success path: the upstream call returned, so the caller is unblocked.
-        publishCallAndImpact(name, info, RESULT_SUCCESS, IMPACT_UNBLOCKED);
-        recordHealth(name, info, Outcome.SERVED_FRESH);
+        publishCallAndImpact(name, domain, RESULT_SUCCESS, IMPACT_UNBLOCKED);
+        recordHealth(name, domain, Outcome.SERVED_FRESH);
     }
 
     /**
      * Per-call volume ({@code failover.call.total}) and user-impact ({@code failover.user.impact.total})
      * counters, derived from the store/recover events so no extra emission is needed in the core handler.
      */
-    private void publishCallAndImpact(String name, Map<String, String> info, String result, String impact) {
-        String domain = info.getOrDefault(DOMAIN_KEY, name);
-        Counter.builder("failover.call.total")
-            .description("Total failover-protected calls by result: success (upstream ok) or failover (upstream failed)")
-            .tag("name", name)
-            .tag("domain", domain)
-            .tag("result", result)
-            .register(registry)
-            .increment();
-        Counter.builder("failover.user.impact.total")
-            .description("Whether the caller got a value (unblocked) or upstream failed with nothing to recover (blocked)")
-            .tag("name", name)
-            .tag("domain", domain)
-            .tag("impact", impact)
-            .register(registry)
-            .increment();
+    private void publishCallAndImpact(String name, String domain, String result, String impact) {
+        meters.get(CALL_TOTAL, name, domain, result, null).increment();
+        meters.get(USER_IMPACT_TOTAL, name, domain, impact, null).increment();
     }
 
-    private void publishRecover(String name, Map<String, String> info) {
-        String recovered   = info.getOrDefault(RECOVERED_KEY, "false");
-        String recoveryFailed = info.getOrDefault(RECOVERY_FAIL, "false");
-        String exType      = info.getOrDefault(EX_TYPE_KEY, "unknown");
-        String causeType   = info.getOrDefault(CAUSE_TYPE_KEY, "");
-        if (causeType.isBlank()) causeType = "none";
-        String finalCauseType = info.getOrDefault(FINAL_CAUSE_TYPE_KEY, "");
-        if (finalCauseType.isBlank()) {
-            finalCauseType = "none";
-        }
+    @SuppressWarnings("java:S107")
+    private void publishRecover(String name, String domain, String method, boolean recovered, boolean recoveryFailed,
+                                String exType, @Nullable String causeType, @Nullable String finalCauseType) {
+        meters.get(RECOVER_TOTAL, name, Boolean.toString(recovered), Boolean.toString(recoveryFailed), null).increment();
+        meters.get(EXCEPTION_TOTAL, name, exType, orNone(causeType), orNone(finalCauseType)).increment();
 
-        Counter.builder("failover.recover.total")
-            .description("Total failover recovery attempts")
-            .tag("name", name)
-            .tag("recovered", recovered)
-            .tag("recovery_failed", recoveryFailed)
-            .register(registry)
-            .increment();
-
-        Counter.builder("failover.exception.total")
-            .description("Root exceptions triggering failover recovery")
-            .tag("name", name)
-            .tag("exception_type", exType)
-            .tag("cause_type", causeType)
-            .tag("final_cause_type", finalCauseType)
-            .register(registry)
-            .increment();
-
-        publishRecoveryOutcome(name, info, recovered, recoveryFailed);
+        publishRecoveryOutcome(name, domain, method, recovered, recoveryFailed);
         // A recover event fires on the failure path (failover triggered). The caller is unblocked only if a
         // value was recovered (served stale); otherwise blocked — upstream failed with nothing to return.
-        String impact = "true".equals(recovered) ? IMPACT_UNBLOCKED : IMPACT_BLOCKED;
-        publishCallAndImpact(name, info, RESULT_FAILOVER, impact);
-        recordHealth(name, info, "true".equals(recovered) ? Outcome.SERVED_STALE : Outcome.BLOCKED);
+        publishCallAndImpact(name, domain, RESULT_FAILOVER, recovered ? IMPACT_UNBLOCKED : IMPACT_BLOCKED);
+        recordHealth(name, domain, recovered ? Outcome.SERVED_STALE : Outcome.BLOCKED);
     }
 
     /**
@@ -245,76 +358,40 @@ public class MicrometerObservablePublisher implements ObservablePublisher {
      * A recover-path failure ({@code recovery_failed=true}) is reported as a distinct
      * {@code outcome=error} so a store/serialization fault is never miscounted as a clean miss.
      */
-    private void publishRecoveryOutcome(String name, Map<String, String> info, String recovered, String recovFailed) {
-        String outcome = "true".equals(recovFailed) ? OUTCOME_ERROR
-                : "true".equals(recovered) ? OUTCOME_RECOVERED
+    private void publishRecoveryOutcome(String name, String domain, String method, boolean recovered, boolean recoveryFailed) {
+        String outcome = recoveryFailed ? OUTCOME_ERROR
+                : recovered ? OUTCOME_RECOVERED
                 : OUTCOME_NOT_RECOVERED;
-        Counter.builder("failover.recovery.outcome.total")
-            .description("Failover recover outcomes per intercepted method: recovered / not_recovered / error")
-            .tag("name", name)
-            .tag("domain", info.getOrDefault(DOMAIN_KEY, name))
-            .tag("method", info.getOrDefault(METHOD_KEY, UNKNOWN))
-            .tag("outcome", outcome)
-            .register(registry)
-            .increment();
+        meters.get(RECOVERY_OUTCOME_TOTAL, name, domain, method, outcome).increment();
     }
 
     /**
      * Per-method partial-recovery counter (audit I-04): a scatter/gather recover where some — but not
      * all — slices were recovered, so the merged collection may be incomplete. Alert on a non-zero rate.
      */
-    private void publishRecoverPartial(String name, Map<String, String> info) {
-        Counter.builder("failover.recovery.partial.total")
-            .description("Scatter/gather recoveries where some (not all) slices were recovered")
-            .tag("name", name)
-            .tag("method", info.getOrDefault(METHOD_KEY, UNKNOWN))
-            .register(registry)
-            .increment();
+    private void publishRecoverPartial(String name, String method) {
+        meters.get(RECOVERY_PARTIAL_TOTAL, name, method, null, null).increment();
     }
 
-    private void publishAsyncFailed(String name, Map<String, String> info) {
-        String operation = info.getOrDefault(ASYNC_OP_KEY, "unknown");
-        String exType    = info.getOrDefault(EX_TYPE_KEY, "unknown");
-        Counter.builder("failover.store.async.failed")
-            .description("Async store-layer operations that failed inside the executor")
-            .tag("name", name)
-            .tag("operation", operation)
-            .tag("exception_type", exType)
-            .register(registry)
-            .increment();
+    private void publishAsyncFailed(String name, String operation, String exType) {
+        meters.get(STORE_ASYNC_FAILED, name, operation, exType, null).increment();
     }
 
     /**
      * Latency of the protected upstream call itself ({@code failover.upstream.duration}), tagged by result
      * (success/failure) — distinct from the store/recover path timed by {@code failover.operation.duration}.
      */
-    private void publishUpstream(String name, Map<String, String> info) {
-        String nanosStr = info.get(UPSTREAM_DURATION_NS_KEY);
-        if (nanosStr == null) {
-            return;
-        }
-        try {
-            long nanos = Long.parseLong(nanosStr);
-            Timer.builder("failover.upstream.duration")
-                .description("Latency of the protected upstream call (success vs failure)")
-                .tag("name", name)
-                .tag("result", info.getOrDefault(UPSTREAM_RESULT_KEY, UNKNOWN))
-                .publishPercentileHistogram()
-                .register(registry)
-                .record(nanos, TimeUnit.NANOSECONDS);
-        } catch (NumberFormatException ignored) {
-            // malformed value — skip silently
-        }
+    private void publishUpstream(String name, String result, long nanos) {
+        meters.get(UPSTREAM_DURATION, name, result, null, null).record(nanos, TimeUnit.NANOSECONDS);
     }
 
     /**
      * Feeds the rolling health state and lazily registers the per-API {@code failover.api.health} and
      * {@code failover.stale.served.ratio} gauges (once per name) that read from it.
      */
-    private void recordHealth(String name, Map<String, String> info, Outcome outcome) {
+    private void recordHealth(String name, String domain, Outcome outcome) {
         healthTracker.record(name, outcome);
         if (healthGaugeNames.add(name)) {
-            String domain = info.getOrDefault(DOMAIN_KEY, name);
             Gauge.builder("failover.api.health", healthTracker, t -> t.healthRatio(name))
                 .description("Recent fraction of calls where the caller got a value (1.0 healthy, lower = users blocked)")
                 .tag("name", name)
@@ -328,21 +405,29 @@ public class MicrometerObservablePublisher implements ObservablePublisher {
         }
     }
 
-    private void recordDuration(String name, String action, Map<String, String> info) {
-        String nanosStr = info.get(DURATION_NS_KEY);
-        if (nanosStr == null) return;
+    private void recordDuration(String name, String action, long nanos) {
+        meters.get(OPERATION_DURATION, name, action, null, null).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Parses a nanosecond value from the metrics bag; {@code null} when absent or malformed (skipped silently). */
+    private static @Nullable Long parseNanos(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
         try {
-            long nanos = Long.parseLong(nanosStr);
-            Timer.builder("failover.operation.duration")
-                .description("Wall time of failover store/recover path")
-                .tag("name", name)
-                .tag("action", action)
-                .publishPercentileHistogram()                 // buckets → Prometheus histogram_quantile
-                .publishPercentiles(0.5, 0.95, 0.99)          // client-side percentiles → local dashboard p95/p99
-                .register(registry)
-                .record(nanos, TimeUnit.NANOSECONDS);
+            return Long.parseLong(value);
         } catch (NumberFormatException ignored) {
-            // malformed value — skip silently
+            return null;
         }
     }
+
+    /** Missing or blank exception types and async operations are tagged {@code unknown}, on both paths. */
+    private static String orUnknown(@Nullable String value) {
+        return value == null || value.isBlank() ? UNKNOWN : value;
+    }
+
+    /** Blank cause types are tagged {@code none}. */
+    private static String orNone(@Nullable String value) {
+        return value == null || value.isBlank() ? "none" : value;
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.observable.micrometer;
+
+import com.societegenerale.failover.observable.micrometer.MeterHandleCache.Registration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MeterHandleCacheTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final AtomicInteger registrations = new AtomicInteger();
+
+    private final Registration<Counter> calls = (meterRegistry, key) -> {
+        registrations.incrementAndGet();
+        return Counter.builder("failover.test.total").tag("name", key.t1()).tag("result", key.t2()).register(meterRegistry);
+    };
+
+    @Test
+    void registersOncePerTagCombinationAndReusesTheHandle() {
+        MeterHandleCache cache = new MeterHandleCache(registry);
+
+        Counter first = cache.get(calls, "api", "success", null, null);
+        Counter second = cache.get(calls, "api", "success", null, null);
+        cache.get(calls, "api", "failure", null, null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(registrations).hasValue(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void distinguishesRegistrationsWithIdenticalTagValues() {
+        MeterHandleCache cache = new MeterHandleCache(registry);
+        Registration<Counter> other = (meterRegistry, key) -> Counter.builder("failover.other.total")
+                .tag("name", key.t1()).tag("result", key.t2()).register(meterRegistry);
+
+        assertThat(cache.get(other, "api", "success", null, null))
+                .isNotSameAs(cache.get(calls, "api", "success", null, null));
+    }
+
+    @Test
+    void keepsRegisteringPerCallOnceTheBoundIsReached() {
+        MeterHandleCache cache = new MeterHandleCache(registry, 1);
+
+        cache.get(calls, "api", "success", null, null);
+        Counter overflow = cache.get(calls, "api", "failure", null, null);
+        overflow.increment();
+        cache.get(calls, "api", "failure", null, null).increment();
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(registrations).hasValue(3);
+        // uncached registrations still resolve to the same registry meter, so nothing is lost
+        assertThat(registry.get("failover.test.total").tag("result", "failure").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void zeroMaxSizeDisablesCaching() {
+        MeterHandleCache cache = new MeterHandleCache(registry, 0);
+
+        cache.get(calls, "api", "success", null, null);
+        cache.get(calls, "api", "success", null, null);
+
+        assertThat(cache.size()).isZero();
+        assertThat(registrations).hasValue(2);
+    }
+
+    @Test
+    void cachesTheNoopMeterOfADeniedSeries() {
+        registry.config().meterFilter(MeterFilter.deny());
+        MeterHandleCache cache = new MeterHandleCache(registry);
+
+        cache.get(calls, "api", "success", null, null).increment();
+        cache.get(calls, "api", "success", null, null).increment();
+
+        assertThat(registrations).hasValue(1);
+        assertThat(registry.find("failover.test.total").counter()).isNull();
+    }
+
+    @Test
+    void rejectsANegativeMaxSize() {
+        assertThatThrownBy(() -> new MeterHandleCache(registry, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxSize must be >= 0");
+    }
+}
@@ -16,16 +16,24 @@
 
 package com.societegenerale.failover.observable.micrometer;
 
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.Metrics;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -500,6 +508,150 @@ class MicrometerObservablePublisherTest {
         assertThat(registry.find("failover.recover.total").counter()).isNull();
     }
 
+    // ── meter handle cache ────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("repeated events record through cached handles — counts accumulate on one meter")
+    void shouldReuseCachedMeterHandles() {
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(storeMetrics("my-failover", "true").collect("duration-ns", "1000"));
+        }
+
+        assertThat(registry.get("failover.store.total").tag("stored", "true").counters()).hasSize(1);
+        assertThat(registry.get("failover.store.total").tag("stored", "true").counter().count()).isEqualTo(3.0);
+        assertThat(registry.get("failover.operation.duration").tag("action", "store").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("disabled handle cache (size 0) — meters are still recorded")
+    void shouldRecordWithoutHandleCache() {
+        MicrometerObservablePublisher uncached = new MicrometerObservablePublisher(registry, () -> {}, 0);
+
+        uncached.publish(storeMetrics("my-failover", "true"));
+        uncached.publish(storeMetrics("my-failover", "true"));
+
+        assertThat(registry.get("failover.store.total").tag("stored", "true").counter().count()).isEqualTo(2.0);
+    }
+
+    // ── typed events ──────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("typed FailoverEvent path")
+    class TypedEvents {
+
+        private static final IllegalStateException CAUSE =
+                new IllegalStateException("outer", new IllegalArgumentException("inner"));
+
+        @Test
+        @DisplayName("records exactly the meters of the equivalent Metrics map for every action")
+        void shouldMatchTheMetricsPath() {
+            List<FailoverEvent> events = List.of(
+                    FailoverEvent.store("country", "referential", "Api#find", 1, ChronoUnit.HOURS, true, 10),
+                    FailoverEvent.store("country", "referential", "Api#find", 1, ChronoUnit.HOURS, false, 20),
+                    FailoverEvent.recover("country", "referential", "Api#find", 1, ChronoUnit.HOURS, CAUSE, true, null, 30),
+                    FailoverEvent.recover("country", "referential", "Api#find", 1, ChronoUnit.HOURS, new IllegalStateException("x"), false, null, 40),
+                    FailoverEvent.recover("country", "referential", "Api#find", 1, ChronoUnit.HOURS, CAUSE, false, "store down", 50),
+                    FailoverEvent.upstream("country", "referential", "Api#find", true, 60),
+                    FailoverEvent.upstream("country", "referential", "Api#find", false, 70),
+                    FailoverEvent.recoverPartial("country", "Api#findAll", 1, 3),
+                    FailoverEvent.storeAsyncFailed("country", "delete", new IllegalStateException("boom")));
+            MeterRegistry viaMetrics = new SimpleMeterRegistry();
+            MicrometerObservablePublisher metricsPublisher = new MicrometerObservablePublisher(viaMetrics);
+
+            events.forEach(event -> {
+                publisher.publish(event);
+                metricsPublisher.publish(event.toMetrics());
+            });
+
+            assertThat(snapshot(registry)).isNotEmpty().isEqualTo(snapshot(viaMetrics));
+        }
+
+        @Test
+        @DisplayName("runs the publish hook once per event")
+        void shouldRunPublishHook() {
+            AtomicInteger hooks = new AtomicInteger();
+            MicrometerObservablePublisher hooked = new MicrometerObservablePublisher(new SimpleMeterRegistry(), hooks::incrementAndGet);
+
+            hooked.publish(FailoverEvent.recoverPartial("country", "Api#findAll", 1, 3));
+            hooked.publish(FailoverEvent.upstream("country", "country", "Api#find", true, 1));
+
+            assertThat(hooks).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("records a whole batch and runs the publish hook once for it")
+        void shouldRecordBatchWithOneHook() {
+            AtomicInteger hooks = new AtomicInteger();
+            SimpleMeterRegistry batchRegistry = new SimpleMeterRegistry();
+            MicrometerObservablePublisher hooked = new MicrometerObservablePublisher(batchRegistry, hooks::incrementAndGet);
+
+            hooked.publishAll(List.of(
+                    FailoverEvent.upstream("country", "country", "Api#find", true, 1),
+                    FailoverEvent.upstream("country", "country", "Api#find", false, 1)));
+            hooked.publishAll(List.of());
+
+            assertThat(hooks).hasValue(1);
+            assertThat(batchRegistry.get("failover.upstream.duration").tag("name", "country").timers().stream()
+                    .mapToLong(Timer::count).sum()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("tags a recover event without cause with unknown and none exception types")
+        void shouldTagRecoverWithoutCause() {
+            publisher.publish(FailoverEvent.recover("country", "country", "Api#find", 1, ChronoUnit.HOURS, null, false, null, 5));
+
+            assertThat(registry.get("failover.exception.total").tag("exception_type", "unknown").tag("cause_type", "none").counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("tags missing exception types and async operations the same on the typed and the map paths")
+        void shouldTagMissingFieldsLikeTheMetricsPath() {
+            FailoverEvent recover = FailoverEvent.recover("country", "country", "Api#find", 1, ChronoUnit.HOURS, null, false, null, 5);
+            FailoverEvent asyncFailed = FailoverEvent.storeAsyncFailed("country", "", new IllegalStateException("boom"));
+            Metrics withoutException = recover.toMetrics();
+            withoutException.setInfo(withoutException.getInfo().entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals("failover-exception-type"))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+            MeterRegistry viaMetrics = new SimpleMeterRegistry();
+            MeterRegistry viaRawMap = new SimpleMeterRegistry();
+            MicrometerObservablePublisher metricsPublisher = new MicrometerObservablePublisher(viaMetrics);
+            MicrometerObservablePublisher rawMapPublisher = new MicrometerObservablePublisher(viaRawMap);
+
+            publisher.publish(recover);
+            publisher.publish(asyncFailed);
+            metricsPublisher.publish(recover.toMetrics());
+            metricsPublisher.publish(asyncFailed.toMetrics());
+            rawMapPublisher.publish(withoutException);
+            rawMapPublisher.publish(asyncFailed.toMetrics());
+
+            assertThat(snapshot(registry)).isEqualTo(snapshot(viaMetrics)).isEqualTo(snapshot(viaRawMap));
+            assertThat(registry.get("failover.exception.total").tag("exception_type", "unknown").counter().count()).isEqualTo(1);
+            assertThat(registry.get("failover.store.async.failed").tag("operation", "unknown").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("records the operation timer only for events carrying a duration")
+        void shouldRecordOperationTimerOnlyWithDuration() {
+            publisher.publish(FailoverEvent.recoverPartial("country", "Api#findAll", 1, 3));
+            assertThat(registry.find("failover.operation.duration").timer()).isNull();
+
+            publisher.publish(FailoverEvent.store("country", "country", "Api#find", 1, ChronoUnit.HOURS, true, 1_000));
+            assertThat(registry.get("failover.operation.duration").tag("action", "store").timer().count()).isEqualTo(1);
+        }
+
+        /** Meter id → total count (counters and timers), so two registries can be compared wholesale. */
+        private static Map<String, Double> snapshot(MeterRegistry meterRegistry) {
+            return meterRegistry.getMeters().stream()
+                    .filter(meter -> meter instanceof Counter || meter instanceof Timer)
+                    .collect(Collectors.toMap(meter -> meter.getId().toString(), TypedEvents::countOf));
+        }
+
+        private static double countOf(Meter meter) {
+            return meter instanceof Counter counter ? counter.count() : ((Timer) meter).count();
+        }
+    }
+
     // ── helpers ───────────────────────────────────────────────────────────────
 
     private static Metrics storeMetrics(String name, String stored) {
@@ -25,6 +25,7 @@ import com.societegenerale.failover.core.exception.policy.MethodExceptionPolicy;
 import com.societegenerale.failover.core.exception.policy.NeverRethrowMethodExceptionPolicy;
 import com.societegenerale.failover.core.exception.policy.RethrowIfNoRecoveryMethodExceptionPolicy;
 import com.societegenerale.failover.core.expiry.*;
+import com.societegenerale.failover.core.flight.SingleFlightStats;
 import com.societegenerale.failover.core.key.*;
 import com.societegenerale.failover.core.observable.publisher.AsyncObservablePublisher;
 import com.societegenerale.failover.core.observable.publisher.CompositeObservablePublisher;
@@ -39,6 +40,7 @@ import com.societegenerale.failover.lookup.BeanFactoryFailoverExpiryExtractor;
 import com.societegenerale.failover.lookup.BeanFactoryKeyGeneratorLookup;
 import com.societegenerale.failover.lookup.BeanFactoryPayloadSplitterLookup;
 import com.societegenerale.failover.core.payload.splitter.PayloadSplitterLookup;
+import com.societegenerale.failover.core.plan.FailoverPlanner;
 import com.societegenerale.failover.core.propagator.CompositeContextPropagator;
 import com.societegenerale.failover.core.propagator.ContextPropagator;
 import com.societegenerale.failover.core.propagator.MdcContextPropagator;
@@ -50,6 +52,7 @@ import com.societegenerale.failover.core.scanner.FailoverScanner;
 import com.societegenerale.failover.observable.micrometer.health.FailoverHealthIndicator;
 import com.societegenerale.failover.scanner.SpringContextFailoverScanner;
 import com.societegenerale.failover.core.store.FailoverStore;
+import com.societegenerale.failover.core.store.RefreshThrottle;
 import com.societegenerale.failover.properties.ExceptionPolicy;
 import com.societegenerale.failover.properties.FailoverProperties;
 import com.societegenerale.failover.properties.FailoverType;
@@ -58,7 +61,9 @@ import com.societegenerale.failover.store.async.BoundedTaskExecutor;
 import com.societegenerale.failover.scheduler.ExpiryCleanupScheduler;
 import com.societegenerale.failover.scheduler.ObservableScheduler;
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.config.MeterFilter;
 import lombok.extern.slf4j.Slf4j;
@@ -81,6 +86,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Root Spring Boot autoconfiguration for the failover framework.
@@ -148,12 +155,13 @@ public class FailoverAutoConfiguration {
      *
      * @param defaultKeyGenerator fallback key generator when no named override is found
      * @param keyGeneratorLookup  lookup that resolves per-{@code @Failover} named key generators
+     * @param failoverProperties  failover properties; {@code failover.key.mode} selects the final key hashing
      * @return composite {@link FailoverKeyGenerator} that delegates to named generators or the default
      */
     @ConditionalOnMissingBean(name = "failoverKeyGenerator")
     @Bean(name = "failoverKeyGenerator")
-    public KeyGenerator failoverKeyGenerator(@Qualifier("defaultKeyGenerator") KeyGenerator defaultKeyGenerator, KeyGeneratorLookup keyGeneratorLookup) {
-        return new FailoverKeyGenerator(defaultKeyGenerator, keyGeneratorLookup);
+    public KeyGenerator failoverKeyGenerator(@Qualifier("defaultKeyGenerator") KeyGenerator defaultKeyGenerator, KeyGeneratorLookup keyGeneratorLookup, FailoverProperties failoverProperties) {
+        return new FailoverKeyGenerator(defaultKeyGenerator, keyGeneratorLookup, failoverProperties.getKey().getMode());
     }
 
     /**
@@ -385,11 +393,13 @@ public class FailoverAutoConfiguration {
 
     /**
      * Exposes {@code failover.metrics.dropped.total} when async publishing is active, so any metric dropped
-     * by a full queue is observable rather than silent. Bound only when the dispatching publisher is in fact
+     * by a full queue is observable rather than silent, together with the drain-side gauges
+     * ({@code failover.metrics.queue.depth}, {@code failover.metrics.drain.lag},
+     * {@code failover.metrics.drain.batch.size}). Bound only when the dispatching publisher is in fact
      * an {@link AsyncObservablePublisher} (i.e. async enabled).
      *
      * @param applicationContext context used to resolve the (non-autowire-candidate) dispatching publisher by name
-     * @return a {@link MeterBinder} registering the drop counter, or a no-op when publishing is synchronous
+     * @return a {@link MeterBinder} registering the drop counter and drain gauges, or a no-op when publishing is synchronous
      */
     @ConditionalOnClass(MeterRegistry.class)
     @Bean
@@ -400,6 +410,15 @@ public class FailoverAutoConfiguration {
                 FunctionCounter.builder("failover.metrics.dropped.total", async, AsyncObservablePublisher::dropped)
                         .description("Failover metrics dropped because the non-blocking publish queue was full")
                         .register(registry);
+                Gauge.builder("failover.metrics.queue.depth", async, AsyncObservablePublisher::queueSize)
+                        .description("Failover metrics waiting in the non-blocking publish queue")
+                        .register(registry);
+                TimeGauge.builder("failover.metrics.drain.lag", async, TimeUnit.NANOSECONDS, AsyncObservablePublisher::drainLagNanos)
+                        .description("How long the oldest metric of the last drained batch waited in the publish queue")
+                        .register(registry);
+                Gauge.builder("failover.metrics.drain.batch.size", async, AsyncObservablePublisher::lastBatchSize)
+                        .description("Number of metrics in the last batch drained from the publish queue")
+                        .register(registry);
             }
         };
     }
@@ -420,6 +439,22 @@ public class FailoverAutoConfiguration {
         return MeterFilter.maximumAllowableTags("failover", "name", maxApis, MeterFilter.deny());
     }
 
+    /**
+     * Registers the {@link RefreshThrottle} that skips writes of entries stored less than their minimum refresh
+     * interval ago. It is a bean so the store chain can report the writes that failed on its executor to it.
+     *
+     * @param tenantScopeProvider optional {@code failoverTenantScope}; absent unless the store is multi-tenant
+     * @param failoverProperties  framework properties (minimum refresh interval)
+     * @return {@link RefreshThrottle}
+     */
+    @ConditionalOnMissingBean
+    @Bean
+    public RefreshThrottle failoverRefreshThrottle(@Qualifier("failoverTenantScope") ObjectProvider<Supplier<String>> tenantScopeProvider,
+                                                   FailoverProperties failoverProperties) {
+        return new RefreshThrottle(failoverProperties.getStore().getMinRefreshInterval(),
+                RefreshThrottle.DEFAULT_MAX_TRACKED_ENTRIES, tenantScopeProvider.getIfAvailable(() -> () -> null));
+    }
+
     /**
      * Assembles the full {@link FailoverHandler} decorator chain:
      * {@code AdvancedFailoverHandler(ScatterGatherFailoverHandler(DefaultFailoverHandler))}.
@@ -435,7 +470,8 @@ public class FailoverAutoConfiguration {
      * @param payloadSplitterLookup      looks up named splitter beans
      * @param contextPropagator          propagates thread context to scatter executor threads
      * @param scatterGatherExecutorProvider optional executor for parallel scatter (null = sequential)
-     * @param failoverProperties         framework properties (provides the scatter slice timeout)
+     * @param refreshThrottle            skips writes within the minimum refresh interval
+     * @param failoverProperties         framework properties (scatter slice timeout)
      * @return assembled {@link AdvancedFailoverHandler}
      */
     @ConditionalOnMissingBean
@@ -452,11 +488,12 @@ public class FailoverAutoConfiguration {
             PayloadSplitterLookup<Object,Object> payloadSplitterLookup,
             @Qualifier("contextPropagator") ContextPropagator contextPropagator,
             @Qualifier("scatterGatherExecutor") ObjectProvider<TaskExecutor> scatterGatherExecutorProvider,
+            RefreshThrottle refreshThrottle,
             FailoverProperties failoverProperties) {
         // Resolved by name: the dispatching publisher is autowireCandidate=false to keep it out of the
         // composite's fan-out list, so it cannot be injected by type/@Qualifier — see failoverObservablePublisher.
         ObservablePublisher observablePublisher = applicationContext.getBean("failoverObservablePublisher", ObservablePublisher.class);
-        var defaultHandler = new DefaultFailoverHandler<>(keyGenerator, clock, failoverStore, expiryPolicy, payloadEnricher);
+        var defaultHandler = new DefaultFailoverHandler<>(keyGenerator, clock, failoverStore, expiryPolicy, payloadEnricher, refreshThrottle);
         var scatterHandler = ScatterGatherFailoverHandler.builder(defaultHandler, defaultHandler, payloadSplitterLookup)
                 .executor(scatterGatherExecutorProvider.getIfAvailable())
                 .contextPropagator(contextPropagator)
@@ -484,27 +521,105 @@ public class FailoverAutoConfiguration {
      * @param failoverHandler        assembled failover handler
      * @param methodExceptionHandler exception handler applying the configured policy
      * @param applicationContext     resolves the non-blocking dispatching publisher (by name) for upstream-duration metrics
+     * @param tenantScopeProvider    optional {@code failoverTenantScope}, so collapsed calls are shared per tenant
+     * @param contextPropagator      carries the caller's context onto the thread of a call under a latency budget
+     * @param failoverProperties     framework properties (calls left running past their latency budget)
      * @return {@link BasicFailoverExecution}
      */
     @ConditionalOnProperty(prefix = "failover", name = "type", havingValue = "basic", matchIfMissing = true)
     @ConditionalOnMissingBean
     @Bean
-    public FailoverExecution<Object> failoverExecution(FailoverHandler<Object> failoverHandler, MethodExceptionHandler methodExceptionHandler, ApplicationContext applicationContext) {
+    public FailoverExecution<Object> failoverExecution(FailoverHandler<Object> failoverHandler, MethodExceptionHandler methodExceptionHandler, ApplicationContext applicationContext,
+                                                       @Qualifier("failoverTenantScope") ObjectProvider<Supplier<String>> tenantScopeProvider,
+                                                       @Qualifier("contextPropagator") ContextPropagator contextPropagator,
+                                                       FailoverProperties failoverProperties) {
         log.info("FailoverExecution configured to BasicFailoverExecution. Available options are :  {{}}", (Object) FailoverType.values());
         ObservablePublisher observablePublisher = applicationContext.getBean("failoverObservablePublisher", ObservablePublisher.class);
-        return new BasicFailoverExecution<>(failoverHandler, methodExceptionHandler, observablePublisher);
+        return new BasicFailoverExecution<>(failoverHandler, methodExceptionHandler, observablePublisher, tenantScopeProvider.getIfAvailable(() -> () -> null),
+                contextPropagator, failoverProperties.getLatencyBudget().getMaxBackgroundCalls());
+    }
+
+    /**
+     * Exposes {@code failover.request.collapse.calls.total} and {@code failover.request.collapsed.total}, so the
+     * upstream calls saved by {@code @Failover(collapseRequests = true)} are observable. Bound only when the
+     * execution is a {@link BasicFailoverExecution} (basic or resilience type).
+     *
+     * @param failoverExecutionProvider the configured failover execution, if any
+     * @return a {@link MeterBinder} registering both counters, or a no-op for a custom execution
+     */
+    @ConditionalOnClass(MeterRegistry.class)
+    @Bean
+    public MeterBinder failoverRequestCollapsingMeterBinder(ObjectProvider<FailoverExecution<Object>> failoverExecutionProvider) {
+        return registry -> {
+            if (failoverExecutionProvider.getIfAvailable() instanceof BasicFailoverExecution<Object> execution) {
+                SingleFlightStats stats = execution.collapseStats();
+                FunctionCounter.builder("failover.request.collapse.calls.total", stats, SingleFlightStats::leaders)
+                        .description("Calls run by failovers collapsing concurrent requests with the same key")
+                        .register(registry);
+                FunctionCounter.builder("failover.request.collapsed.total", stats, SingleFlightStats::followers)
+                        .description("Requests that shared a call with the same key already in flight instead of calling the upstream")
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Exposes {@code failover.upstream.budget.exceeded.total}: the calls answered with the stored payload because
+     * the upstream did not answer within the {@code @Failover(latencyBudget)};
+     * {@code failover.upstream.budget.background}: the upstream calls going on in the background past it; and
+     * {@code failover.upstream.budget.saturated.total}: the calls that waited for the upstream because their failover
+     * method had {@code failover.latency-budget.max-background-calls} calls in the background already. Bound only
+     * when the execution is a {@link BasicFailoverExecution} (basic or resilience type).
+     *
+     * @param failoverExecutionProvider the configured failover execution, if any
+     * @return a {@link MeterBinder} registering the meters, or a no-op for a custom execution
+     */
+    @ConditionalOnClass(MeterRegistry.class)
+    @Bean
+    public MeterBinder failoverLatencyBudgetMeterBinder(ObjectProvider<FailoverExecution<Object>> failoverExecutionProvider) {
+        return registry -> {
+            if (failoverExecutionProvider.getIfAvailable() instanceof BasicFailoverExecution<Object> execution) {
+                FunctionCounter.builder("failover.upstream.budget.exceeded.total", execution, BasicFailoverExecution::latencyBudgetExceeded)
+                        .description("Calls answered with the stored payload because the upstream exceeded the latency budget")
+                        .register(registry);
+                Gauge.builder("failover.upstream.budget.background", execution, BasicFailoverExecution::backgroundCalls)
+                        .description("Upstream calls going on in the background past their latency budget")
+                        .register(registry);
+                FunctionCounter.builder("failover.upstream.budget.saturated.total", execution, BasicFailoverExecution::latencyBudgetSaturated)
+                        .description("Calls over the latency budget that waited for the upstream because their failover method had the max background calls running")
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Registers the per-method {@link FailoverPlanner} that compiles one execution plan per intercepted
+     * method (key generator, expiry policy and splitter resolved once).
+     *
+     * @param keyGenerator          composite key generator
+     * @param expiryPolicy          composite expiry policy
+     * @param payloadSplitterLookup looks up named splitter beans
+     * @return {@link FailoverPlanner}
+     */
+    @ConditionalOnMissingBean
+    @Bean
+    public FailoverPlanner failoverPlanner(@Qualifier("failoverKeyGenerator") KeyGenerator keyGenerator,
+                                           @Qualifier("failoverExpiryPolicy") ExpiryPolicy<Object> expiryPolicy,
+                                           PayloadSplitterLookup<Object, Object> payloadSplitterLookup) {
+        return new FailoverPlanner(keyGenerator, expiryPolicy, payloadSplitterLookup);
     }
 
     /**
      * Registers the AOP aspect that intercepts {@code @Failover}-annotated methods.
      *
      * @param failoverExecution the configured failover execution strategy
+     * @param failoverPlanner   per-method execution plan cache
      * @return {@link FailoverAspect}
      */
     @ConditionalOnProperty(prefix = "failover", name = "aspect.enabled", havingValue = "true", matchIfMissing = true)
     @Bean
-    public FailoverAspect<Object> failoverAspect(FailoverExecution<Object> failoverExecution) {
-        return new FailoverAspect<>(failoverExecution);
+    public FailoverAspect<Object> failoverAspect(FailoverExecution<Object> failoverExecution, FailoverPlanner failoverPlanner) {
+        return new FailoverAspect<>(failoverExecution, failoverPlanner);
     }
 
     /**
@@ -562,6 +677,21 @@ public class FailoverAutoConfiguration {
         }
     }
 
+    @Configuration
+    @ConditionalOnExpression("${failover.enabled:true} eq true")
+    @ConditionalOnClass(name = "org.springframework.cloud.context.environment.EnvironmentChangeEvent")
+    static class FailoverRefreshConfiguration {
+
+        /**
+         * Re-resolves cached expiry expressions after a Spring Cloud environment refresh.
+         */
+        @ConditionalOnMissingBean
+        @Bean
+        public FailoverExpiryRefreshListener failoverExpiryRefreshListener(FailoverExpiryExtractor failoverExpiryExtractor) {
+            return new FailoverExpiryRefreshListener(failoverExpiryExtractor);
+        }
+    }
+
     @Configuration
     @ConditionalOnExpression("${failover.enabled:true} eq true")
     @ConditionalOnProperty(prefix = "failover", name = "scheduler.enabled", havingValue = "true", matchIfMissing = true)
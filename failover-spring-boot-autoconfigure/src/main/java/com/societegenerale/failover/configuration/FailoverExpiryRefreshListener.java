@@ -0,0 +1,44 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.configuration;
+
+import com.societegenerale.failover.core.expiry.FailoverExpiryExtractor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Drops the expiry values cached by the {@link FailoverExpiryExtractor} whenever Spring Cloud publishes
+ * an {@link EnvironmentChangeEvent} (e.g. {@code /actuator/refresh} or a config-server push), so
+ * {@code expiryDurationExpression}/{@code expiryUnitExpression} pick up the new configuration on the
+ * next call. Registered only when {@code spring-cloud-context} is on the classpath.
+ *
+ * @author Anand Manissery
+ */
+public class FailoverExpiryRefreshListener implements ApplicationListener<EnvironmentChangeEvent> {
+
+    private final FailoverExpiryExtractor failoverExpiryExtractor;
+
+    public FailoverExpiryRefreshListener(FailoverExpiryExtractor failoverExpiryExtractor) {
+        this.failoverExpiryExtractor = failoverExpiryExtractor;
+    }
+
+    @Override
+    public void onApplicationEvent(@NonNull EnvironmentChangeEvent event) {
+        failoverExpiryExtractor.refresh();
+    }
+}
@@ -123,15 +123,18 @@ public class FailoverMicrometerAutoConfiguration {
      * Emits {@code failover.store.total}, {@code failover.recover.total},
      * {@code failover.exception.total}, and {@code failover.operation.duration} meters.
      *
-     * @param meterRegistry active meter registry
+     * @param meterRegistry     active meter registry
+     * @param snapshotPublisher optional snapshot publisher notified after each event
+     * @param properties        failover properties ({@code failover.observable.meter-cache.max-size})
      * @return {@link MicrometerObservablePublisher}
      */
     @ConditionalOnMissingBean(MicrometerObservablePublisher.class)
     @Bean
     public ObservablePublisher micrometerObservablePublisher(MeterRegistry meterRegistry,
-            ObjectProvider<AbstractSnapshotPublisher> snapshotPublisher) {
+            ObjectProvider<AbstractSnapshotPublisher> snapshotPublisher, FailoverProperties properties) {
         return new MicrometerObservablePublisher(meterRegistry,
-                () -> snapshotPublisher.ifAvailable(AbstractSnapshotPublisher::onPublish));
+                () -> snapshotPublisher.ifAvailable(AbstractSnapshotPublisher::onPublish),
+                properties.getObservable().getMeterCache().getMaxSize());
     }
 
     /**
@@ -174,6 +174,9 @@ public class FailoverStartupSummaryLogger {
         if (!f.expiryPolicy().isBlank())    sb.append(", expiryPolicy='").append(f.expiryPolicy()).append("'");
         if (!f.payloadSplitter().isBlank()) sb.append(", splitter='").append(f.payloadSplitter()).append("'");
         if (f.recoverAll())                 sb.append(", recoverAll=true");
+        if (f.minRefreshInterval() > 0)     sb.append(", minRefresh=").append(f.minRefreshInterval()).append(" ").append(f.minRefreshUnit().name());
+        if (f.collapseRequests())           sb.append(", collapseRequests=true");
+        if (f.latencyBudget() > 0)          sb.append(", latencyBudget=").append(f.latencyBudget()).append(" ").append(f.latencyBudgetUnit().name());
         return sb.toString();
     }
 }
@@ -17,24 +17,43 @@
 package com.societegenerale.failover.configuration;
 
 import com.societegenerale.failover.core.clock.FailoverClock;
+import com.societegenerale.failover.core.flight.SingleFlightStats;
 import com.societegenerale.failover.core.observable.publisher.CompositeObservablePublisher;
 import com.societegenerale.failover.core.scanner.FailoverScanner;
 import com.societegenerale.failover.core.payload.ReferentialPayload;
 import com.societegenerale.failover.core.store.DefaultFailoverStore;
+import com.societegenerale.failover.core.store.DeferredDeleteFailoverStore;
 import com.societegenerale.failover.core.store.FailoverStore;
+import com.societegenerale.failover.core.store.FingerprintingFailoverStore;
+import com.societegenerale.failover.core.store.NegativeLookupFailoverStore;
+import com.societegenerale.failover.core.store.PayloadCanonicalizer;
+import com.societegenerale.failover.core.store.RefreshThrottle;
+import com.societegenerale.failover.core.store.SingleFlightFailoverStore;
+import com.societegenerale.failover.core.store.WriteFailureListener;
+import com.societegenerale.failover.properties.Coalescing;
+import com.societegenerale.failover.properties.DeferredDelete;
 import com.societegenerale.failover.properties.FailoverProperties;
+import com.societegenerale.failover.properties.Fingerprint;
 import com.societegenerale.failover.properties.Jdbc;
 import com.societegenerale.failover.properties.MultiTenant;
+import com.societegenerale.failover.properties.NegativeCache;
+import com.societegenerale.failover.properties.PayloadColumnType;
 import com.societegenerale.failover.properties.StoreType;
+import com.societegenerale.failover.properties.Tiered;
 import com.societegenerale.failover.store.async.BoundedTaskExecutor;
 import com.societegenerale.failover.store.async.FailoverStoreAsync;
+import com.societegenerale.failover.store.async.WriteCoalescing;
 import com.societegenerale.failover.store.caffeine.FailoverStoreCaffeine;
+import com.societegenerale.failover.store.caffeine.TieredFailoverStore;
+import com.societegenerale.failover.store.caffeine.TieredStats;
 import com.societegenerale.failover.store.inmemory.FailoverStoreInmemory;
+import com.societegenerale.failover.store.jdbc.ChunkedCleanup;
 import com.societegenerale.failover.store.jdbc.FailoverStoreJdbc;
 import com.societegenerale.failover.store.jdbc.mapper.ReferentialPayloadRowMapper;
 import com.societegenerale.failover.store.multitenant.MultiTenantFailoverStore;
 import com.societegenerale.failover.store.multitenant.TenantResolver;
 import com.societegenerale.failover.store.multitenant.TenantStoreFactory;
+import com.societegenerale.failover.store.jdbc.resolver.BlobPayloadColumnResolver;
 import com.societegenerale.failover.store.jdbc.resolver.DatabaseResolver;
 import com.societegenerale.failover.store.jdbc.resolver.DefaultDatabaseResolver;
 import com.societegenerale.failover.store.jdbc.resolver.DefaultFailoverStoreQueryResolver;
@@ -47,6 +66,15 @@ import com.societegenerale.failover.store.jdbc.serializer.cipher.AesGcmPayloadCi
 import com.societegenerale.failover.store.jdbc.serializer.cipher.Base64PayloadCipher;
 import com.societegenerale.failover.store.jdbc.serializer.cipher.EncryptingSerializer;
 import com.societegenerale.failover.store.jdbc.serializer.cipher.PayloadCipher;
+import com.societegenerale.failover.store.jdbc.serializer.compression.CompressingSerializer;
+import com.societegenerale.failover.store.jdbc.serializer.compression.CompressionStats;
+import com.societegenerale.failover.store.jdbc.serializer.compression.DeflatePayloadCodec;
+import com.societegenerale.failover.store.jdbc.serializer.compression.PayloadCodec;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.ObjectProvider;
@@ -66,35 +94,46 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import tools.jackson.databind.ObjectMapper;
 
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.UnaryOperator;
 
 /**
  * Central assembler that creates the single {@link FailoverStore}{@code <Object>} bean by
  * combining a {@link TenantStoreFactory} (raw store) with the standard decorator chain
- * ({@link DefaultFailoverStore} + optionally {@link FailoverStoreAsync} and/or {@link MultiTenantFailoverStore}).
+ * ({@link DefaultFailoverStore} + the optional stages below, and {@link MultiTenantFailoverStore} in multi-tenant mode).
  *
  * <p>Also owns all single-tenant {@link TenantStoreFactory} registrations (inmemory, caffeine,
  * jdbc) via inner {@link Configuration} classes, keeping all store configuration in one place.
  *
- * <h2>Decorator chain — four modes</h2>
+ * <h2>Decorator chain</h2>
  *
  * <table border="1">
- *   <caption>Decorator chain modes</caption>
- *   <tr><th>multitenant.enabled</th><th>async</th><th>Chain (outermost → innermost)</th></tr>
- *   <tr><td>{@code false} (default)</td><td>{@code true} (default)</td>
- *       <td>{@code FailoverStoreAsync → DefaultFailoverStore → raw}</td></tr>
- *   <tr><td>{@code false} (default)</td><td>{@code false}</td>
- *       <td>{@code DefaultFailoverStore → raw}</td></tr>
- *   <tr><td>{@code true}</td><td>{@code true} (default)</td>
- *       <td>{@code MultiTenantFailoverStore → (per tenant) FailoverStoreAsync → DefaultFailoverStore → raw}</td></tr>
- *   <tr><td>{@code true}</td><td>{@code false}</td>
- *       <td>{@code MultiTenantFailoverStore → (per tenant) DefaultFailoverStore → raw}</td></tr>
+ *   <caption>Decorator chain stages, outermost → innermost</caption>
+ *   <tr><th>Stage</th><th>Applied when</th></tr>
+ *   <tr><td>{@link MultiTenantFailoverStore}</td><td>{@code failover.store.multitenant.enabled=true}; the stages
+ *       below are then built per tenant</td></tr>
+ *   <tr><td>{@link FailoverStoreAsync}</td><td>{@code failover.store.async=true} (default)</td></tr>
+ *   <tr><td>{@link DefaultFailoverStore}</td><td>always</td></tr>
+ *   <tr><td>{@link SingleFlightFailoverStore}</td><td>{@code failover.store.single-flight=true}</td></tr>
+ *   <tr><td>{@link DeferredDeleteFailoverStore}</td><td>{@code failover.store.deferred-delete.enabled=true}</td></tr>
+ *   <tr><td>{@link NegativeLookupFailoverStore}</td><td>{@code failover.store.negative-cache.enabled=true}</td></tr>
+ *   <tr><td>{@link TieredFailoverStore}</td><td>{@code failover.store.tiered.enabled=true} and Caffeine on the
+ *       classpath</td></tr>
+ *   <tr><td>{@link FingerprintingFailoverStore}</td><td>{@code failover.store.fingerprint.enabled=true} and a
+ *       {@link PayloadCanonicalizer} for the store type (JDBC)</td></tr>
+ *   <tr><td>raw store</td><td>always — {@code failover.store.type}</td></tr>
  * </table>
  *
+ * <p>With the defaults the chain is {@code FailoverStoreAsync → DefaultFailoverStore → raw}. The chain actually
+ * assembled is logged at startup.
+ *
  * <p>{@code MultiTenantFailoverStore} is always the outermost bean in multi-tenant mode.
  * It resolves the tenant on the calling thread before any executor boundary is crossed,
  * then delegates to the correct per-tenant decorated store.
@@ -140,6 +179,112 @@ public class FailoverStoreAutoConfiguration {
         return executor;
     }
 
+    /**
+     * Write-coalescing settings shared by every {@link FailoverStoreAsync} of the store chain (one per tenant in
+     * multi-tenant mode), so their coalesced/flushed counters add up. Only when
+     * {@code failover.store.coalescing.enabled=true} and writes are async.
+     *
+     * @param properties failover properties (flush interval, max pending writes)
+     * @return the shared {@link WriteCoalescing}
+     */
+    @Bean("failoverWriteCoalescing")
+    @ConditionalOnProperty(prefix = "failover.store", name = "async", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnProperty(prefix = "failover.store.coalescing", name = "enabled", havingValue = "true")
+    public WriteCoalescing failoverWriteCoalescing(FailoverProperties properties) {
+        Coalescing coalescing = properties.getStore().getCoalescing();
+        log.info("Failover async store writes are coalesced per (name, key): flushInterval={}, maxPendingWrites={}.",
+                coalescing.getFlushInterval(), coalescing.getMaxPendingWrites());
+        return new WriteCoalescing(coalescing.getFlushInterval(), coalescing.getMaxPendingWrites());
+    }
+
+    /**
+     * Exposes {@code failover.store.coalesced.total} and {@code failover.store.flushed.total}, so the write
+     * volume saved by coalescing is observable.
+     *
+     * @param writeCoalescing the shared coalescing settings and counters
+     * @return a {@link MeterBinder} registering both counters
+     */
+    @Bean
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "failover.store", name = "async", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnProperty(prefix = "failover.store.coalescing", name = "enabled", havingValue = "true")
+    public MeterBinder failoverWriteCoalescingMeterBinder(@Qualifier("failoverWriteCoalescing") WriteCoalescing writeCoalescing) {
+        return registry -> {
+            FunctionCounter.builder("failover.store.coalesced.total", writeCoalescing, WriteCoalescing::coalescedWrites)
+                    .description("Async store writes replaced by a later write for the same entry before being flushed")
+                    .register(registry);
+            FunctionCounter.builder("failover.store.flushed.total", writeCoalescing, WriteCoalescing::flushedWrites)
+                    .description("Coalesced async store writes applied to the store")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Counter of the recovers answered by the negative lookup cache, shared by every
+     * {@link NegativeLookupFailoverStore} of the store chain (one per tenant in multi-tenant mode). Only when
+     * {@code failover.store.negative-cache.enabled=true}.
+     *
+     * @return the shared hit counter
+     */
+    @Bean("failoverNegativeCacheHits")
+    @ConditionalOnProperty(prefix = "failover.store.negative-cache", name = "enabled", havingValue = "true")
+    public LongAdder failoverNegativeCacheHits() {
+        return new LongAdder();
+    }
+
+    /**
+     * Exposes {@code failover.store.negative.hits.total}, so the store queries saved by the negative lookup cache
+     * are observable.
+     *
+     * @param negativeCacheHits the shared hit counter
+     * @return a {@link MeterBinder} registering the counter
+     */
+    @Bean
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "failover.store.negative-cache", name = "enabled", havingValue = "true")
+    public MeterBinder failoverNegativeCacheMeterBinder(@Qualifier("failoverNegativeCacheHits") LongAdder negativeCacheHits) {
+        return registry -> FunctionCounter.builder("failover.store.negative.hits.total", negativeCacheHits, LongAdder::sum)
+                .description("Recovers of a missing entry answered from memory, without querying the store")
+                .register(registry);
+    }
+
+    /**
+     * Lookup counters shared by every {@link SingleFlightFailoverStore} of the store chain (one per tenant in
+     * multi-tenant mode). Only when {@code failover.store.single-flight=true}.
+     *
+     * @return the shared {@link SingleFlightStats}
+     */
+    @Bean("failoverSingleFlightStats")
+    @ConditionalOnProperty(prefix = "failover.store", name = "single-flight", havingValue = "true")
+    public SingleFlightStats failoverSingleFlightStats() {
+        return new SingleFlightStats();
+    }
+
+    /**
+     * Exposes {@code failover.store.single.flight.lookups.total}, {@code failover.store.single.flight.shared.total}
+     * and the {@code failover.store.single.flight.fan.in} gauge, so the store reads saved by collapsing concurrent
+     * recoveries are observable.
+     *
+     * @param singleFlightStats the shared lookup counters
+     * @return a {@link MeterBinder} registering the counters and the gauge
+     */
+    @Bean
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "failover.store", name = "single-flight", havingValue = "true")
+    public MeterBinder failoverSingleFlightMeterBinder(@Qualifier("failoverSingleFlightStats") SingleFlightStats singleFlightStats) {
+        return registry -> {
+            FunctionCounter.builder("failover.store.single.flight.lookups.total", singleFlightStats, SingleFlightStats::leaders)
+                    .description("Store lookups run on behalf of concurrent recoveries of the same entry")
+                    .register(registry);
+            FunctionCounter.builder("failover.store.single.flight.shared.total", singleFlightStats, SingleFlightStats::followers)
+                    .description("Recoveries that shared a lookup already running instead of reading the store")
+                    .register(registry);
+            Gauge.builder("failover.store.single.flight.fan.in", singleFlightStats, SingleFlightStats::fanIn)
+                    .description("Recoveries per store lookup since startup")
+                    .register(registry);
+        };
+    }
+
     /**
      * Merges the operator-configured payload-class allowlist with the scanner-discovered payload types.
      *
@@ -182,12 +327,18 @@ public class FailoverStoreAutoConfiguration {
 
     /**
      * Assembles the single {@code failoverStore} bean from the raw {@link TenantStoreFactory} and the
-     * decorator chain, driven by two properties — see the four modes in the class Javadoc.
+     * decorator chain — see the stages in the class Javadoc.
      *
      * <p>The chain is built in one place, reading top-to-bottom in invocation order:
      * <ol>
      *   <li>{@code perTenantChain} wraps a raw store in {@link DefaultFailoverStore} (defensive copy,
-     *       ADR 10) and, when {@code failover.store.async=true}, in {@link FailoverStoreAsync};</li>
+     *       ADR 10) — first in a {@link FingerprintingFailoverStore} when {@code failover.store.fingerprint.enabled=true}
+     *       and a {@link PayloadCanonicalizer} bean is present, then behind a near cache ({@link TieredFailoverStore})
+     *       when {@code failover.store.tiered.enabled=true}, then in a {@link NegativeLookupFailoverStore} when
+     *       {@code failover.store.negative-cache.enabled=true}, then in a {@link DeferredDeleteFailoverStore} when
+     *       {@code failover.store.deferred-delete.enabled=true}, then in a {@link SingleFlightFailoverStore} when
+     *       {@code failover.store.single-flight=true} — and, when {@code failover.store.async=true}, in {@link FailoverStoreAsync} (coalescing its
+     *       writes when a {@link WriteCoalescing} bean is present, and reporting the writes it fails to the {@link RefreshThrottle});</li>
      *   <li>when {@code failover.store.multitenant.enabled=true}, that chain becomes the per-tenant
      *       decorator inside an outermost {@link MultiTenantFailoverStore}; otherwise it is applied
      *       directly to the single-tenant raw store.</li>
@@ -201,6 +352,12 @@ public class FailoverStoreAutoConfiguration {
      * @param props                 failover properties (async, multitenant, type/strategy)
      * @param taskExecutorProvider  lazy {@code failoverTaskExecutor}; resolved only when async
      * @param tenantResolverProvider lazy {@link TenantResolver}; resolved only in multi-tenant mode
+     * @param writeCoalescingProvider optional {@code failoverWriteCoalescing}; absent unless coalescing is enabled
+     * @param canonicalizerProvider optional {@link PayloadCanonicalizer}; resolved only when fingerprinting is enabled
+     * @param tieredStageProvider   optional {@code failoverTieredStage}; absent unless the tiered store is enabled
+     * @param negativeCacheHitsProvider optional {@code failoverNegativeCacheHits}; absent unless the negative cache is enabled
+     * @param singleFlightStatsProvider optional {@code failoverSingleFlightStats}; absent unless single-flight lookups are enabled
+     * @param refreshThrottleProvider optional {@link RefreshThrottle}; told about the writes that failed on the async executor
      * @param observablePublisher   sink for async-failure metrics
      * @return the assembled {@link FailoverStore} chain
      */
@@ -212,36 +369,129 @@ public class FailoverStoreAutoConfiguration {
             FailoverProperties props,
             @Qualifier("failoverTaskExecutor") ObjectProvider<TaskExecutor> taskExecutorProvider,
             ObjectProvider<TenantResolver> tenantResolverProvider,
+            @Qualifier("failoverWriteCoalescing") ObjectProvider<WriteCoalescing> writeCoalescingProvider,
+            ObjectProvider<PayloadCanonicalizer> canonicalizerProvider,
+            @Qualifier("failoverTieredStage") ObjectProvider<UnaryOperator<FailoverStore<Object>>> tieredStageProvider,
+            @Qualifier("failoverNegativeCacheHits") ObjectProvider<LongAdder> negativeCacheHitsProvider,
+            @Qualifier("failoverSingleFlightStats") ObjectProvider<SingleFlightStats> singleFlightStatsProvider,
+            ObjectProvider<RefreshThrottle> refreshThrottleProvider,
             CompositeObservablePublisher observablePublisher) {
 
         boolean async = props.getStore().isAsync();
         MultiTenant mt = props.getStore().getMultitenant();
 
         // Per-tenant chain (also the entire chain in single-tenant mode):
-        //   DefaultFailoverStore(raw)            — defensive copy (ADR 10)
+        //   FingerprintingFailoverStore(raw)     — only when fingerprinting is enabled and supported
+        //   TieredFailoverStore(near cache, ...) — only when the tiered store is enabled
+        //   NegativeLookupFailoverStore(...)     — only when the negative cache is enabled
+        //   DeferredDeleteFailoverStore(...)     — only when deferred-delete is enabled
+        //   SingleFlightFailoverStore(...)       — only when single-flight lookups are enabled
+        //   DefaultFailoverStore(...)            — defensive copy (ADR 10)
         //   wrapped in FailoverStoreAsync(...)   — only when async=true
+        WriteCoalescing writeCoalescing = async ? writeCoalescingProvider.getIfAvailable() : null;
+        RefreshThrottle refreshThrottle = refreshThrottleProvider.getIfAvailable();
+        WriteFailureListener writeFailureListener = refreshThrottle == null ? WriteFailureListener.NONE : refreshThrottle;
+        PayloadCanonicalizer canonicalizer = fingerprintCanonicalizer(props.getStore().getFingerprint(), canonicalizerProvider);
+        int maxFingerprints = props.getStore().getFingerprint().getMaxTrackedEntries();
+        DeferredDelete deferredDelete = props.getStore().getDeferredDelete();
+        if (deferredDelete.isEnabled()) {
+            log.info("Failover deferred delete ENABLED (up to {} pending per store): expired entries found on recover are deleted in the background.",
+                    deferredDelete.getMaxPending());
+        }
+        UnaryOperator<FailoverStore<Object>> tieredStage = tieredStageProvider.getIfAvailable();
+        if (tieredStage == null && props.getStore().getTiered().isEnabled()) {
+            log.warn("failover.store.tiered.enabled=true but Caffeine is not on the classpath — the near cache is disabled. "
+                    + "Add com.github.ben-manes.caffeine:caffeine to enable it.");
+        }
+        NegativeCache negativeCache = props.getStore().getNegativeCache();
+        LongAdder negativeCacheHits = negativeCacheHitsProvider.getIfAvailable();
+        if (negativeCacheHits != null) {
+            log.info("Failover negative lookup cache ENABLED (timeToLive={}, up to {} misses per store): recovers of a missing entry are answered from memory.",
+                    negativeCache.getTimeToLive(), negativeCache.getMaxTrackedEntries());
+        }
+        SingleFlightStats singleFlightStats = singleFlightStatsProvider.getIfAvailable();
+        if (singleFlightStats != null) {
+            log.info("Failover single-flight lookups ENABLED: concurrent recoveries of the same entry share one store read.");
+        }
         UnaryOperator<FailoverStore<Object>> perTenantChain = raw -> {
-            FailoverStore<Object> store = new DefaultFailoverStore<>(raw);
+            FailoverStore<Object> fingerprinted = canonicalizer == null ? raw : new FingerprintingFailoverStore<>(raw, canonicalizer, maxFingerprints);
+            FailoverStore<Object> tiered = tieredStage == null ? fingerprinted : tieredStage.apply(fingerprinted);
+            FailoverStore<Object> negative = negativeCacheHits == null ? tiered
+                    : new NegativeLookupFailoverStore<>(tiered, negativeCache.getTimeToLive(), negativeCache.getMaxTrackedEntries(), negativeCacheHits);
+            FailoverStore<Object> deferred = deferredDelete.isEnabled()
+                    ? new DeferredDeleteFailoverStore<>(negative, deferredDelete.getMaxPending())
+                    : negative;
+            FailoverStore<Object> store = new DefaultFailoverStore<>(singleFlightStats == null ? deferred
+                    : new SingleFlightFailoverStore<>(deferred, singleFlightStats));
             return async
-                    ? new FailoverStoreAsync<>(store, taskExecutorProvider.getObject(), observablePublisher)
+                    ? new FailoverStoreAsync<>(store, taskExecutorProvider.getObject(), observablePublisher, writeCoalescing, writeFailureListener)
                     : store;
         };
 
+        String chain = describeChain(async, singleFlightStats != null, deferredDelete.isEnabled(), negativeCacheHits != null,
+                tieredStage != null, canonicalizer != null);
         if (mt.isEnabled()) {
             TenantResolver tenantResolver = tenantResolverProvider.getObject();
             log.info("FailoverStore assembled: MultiTenantFailoverStore(per-tenant {}) — async={}, store.type={}, strategy={}.",
-                    async ? "FailoverStoreAsync(DefaultFailoverStore(raw))" : "DefaultFailoverStore(raw)",
-                    async, props.getStore().getType(), mt.getStrategy());
+                    chain, async, props.getStore().getType(), mt.getStrategy());
             var store = new MultiTenantFailoverStore<>(tenantResolver, storeFactory, perTenantChain, mt.getDefaultTenant());
             store.prewarm(mt.getTenants().keySet());
             return store;
         }
 
-        log.info("FailoverStore assembled: {} — async={}.",
-                async ? "FailoverStoreAsync(DefaultFailoverStore(raw))" : "DefaultFailoverStore(raw)", async);
+        log.info("FailoverStore assembled: {} — async={}.", chain, async);
         return perTenantChain.apply(storeFactory.create(TenantStoreFactory.SINGLE_TENANT_ID));
     }
 
+    /**
+     * Describes the per-tenant chain built by {@code perTenantChain} from the stages it applies, outermost first,
+     * e.g. {@code FailoverStoreAsync(DefaultFailoverStore(raw))}.
+     */
+    static String describeChain(boolean async, boolean singleFlight, boolean deferredDelete, boolean negativeCache,
+                                boolean tiered, boolean fingerprint) {
+        List<String> stages = new ArrayList<>();
+        if (async) {
+            stages.add("FailoverStoreAsync");
+        }
+        stages.add("DefaultFailoverStore");
+        if (singleFlight) {
+            stages.add("SingleFlightFailoverStore");
+        }
+        if (deferredDelete) {
+            stages.add("DeferredDeleteFailoverStore");
+        }
+        if (negativeCache) {
+            stages.add("NegativeLookupFailoverStore");
+        }
+        if (tiered) {
+            stages.add("TieredFailoverStore");
+        }
+        if (fingerprint) {
+            stages.add("FingerprintingFailoverStore");
+        }
+        return String.join("(", stages) + "(raw" + ")".repeat(stages.size());
+    }
+
+    /**
+     * Resolves the canonicalizer of the fingerprint stage, or {@code null} when fingerprinting is disabled or the
+     * configured store type provides none (only the JDBC store does; the in-memory stores gain nothing from it).
+     */
+    @Nullable
+    private static PayloadCanonicalizer fingerprintCanonicalizer(Fingerprint fingerprint, ObjectProvider<PayloadCanonicalizer> canonicalizerProvider) {
+        if (!fingerprint.isEnabled()) {
+            return null;
+        }
+        PayloadCanonicalizer canonicalizer = canonicalizerProvider.getIfAvailable();
+        if (canonicalizer == null) {
+            log.warn("failover.store.fingerprint.enabled=true but no PayloadCanonicalizer bean is available for this store type — "
+                    + "content-fingerprint deduplication is disabled. It is provided by the JDBC store.");
+            return null;
+        }
+        log.info("Failover content-fingerprint deduplication ENABLED (tracking up to {} entries): unchanged payloads are touched, not rewritten.",
+                fingerprint.getMaxTrackedEntries());
+        return canonicalizer;
+    }
+
     // ── Store type configurations ─────────────────────────────────────────────
 
     @Configuration
@@ -284,6 +534,76 @@ public class FailoverStoreAutoConfiguration {
         }
     }
 
+    /**
+     * Near cache in front of the configured store, applied by {@link #failoverStore} to each raw store (one per tenant
+     * in multi-tenant mode). Activated when {@code failover.store.tiered.enabled=true} and Caffeine is on the classpath.
+     */
+    @Configuration
+    @ConditionalOnClass(name = {"com.github.benmanes.caffeine.cache.Caffeine"})
+    @ConditionalOnProperty(prefix = "failover.store.tiered", name = "enabled", havingValue = "true")
+    @Slf4j
+    static class TieredStoreConfiguration {
+
+        /**
+         * Hit/miss counters shared by every {@link TieredFailoverStore} (one per tenant in multi-tenant mode), so
+         * they are published as a single set of meters.
+         *
+         * @return the shared {@link TieredStats}
+         */
+        @Bean("failoverTieredStats")
+        public TieredStats failoverTieredStats() {
+            return new TieredStats();
+        }
+
+        /**
+         * Wraps a store in a {@link TieredFailoverStore} with its own {@link FailoverStoreCaffeine} near cache.
+         *
+         * @param failoverClock the clock driving the near cache expiry
+         * @param properties    failover properties ({@code failover.store.tiered.*})
+         * @param tieredStats   the shared hit/miss counters
+         * @return the stage applied to each raw store
+         */
+        @Bean("failoverTieredStage")
+        public UnaryOperator<FailoverStore<Object>> failoverTieredStage(FailoverClock failoverClock, FailoverProperties properties,
+                                                                         @Qualifier("failoverTieredStats") TieredStats tieredStats) {
+            Tiered tiered = properties.getStore().getTiered();
+            log.info("Failover tiered store ENABLED: near cache of up to {} entries per store (time-to-live {}), {}.",
+                    tiered.getMaxSize(), tiered.getTimeToLive(), tiered.isWriteBehind()
+                            ? "write-behind (up to " + tiered.getMaxPendingWrites() + " pending writes)" : "write-through");
+            return store -> {
+                FailoverStoreCaffeine<Object> nearCache = new FailoverStoreCaffeine<>(failoverClock, tiered.getMaxSize(), tiered.getTimeToLive());
+                return tiered.isWriteBehind()
+                        ? new TieredFailoverStore<>(nearCache, store, tieredStats, tiered.getMaxPendingWrites())
+                        : new TieredFailoverStore<>(nearCache, store, tieredStats);
+            };
+        }
+
+        /**
+         * Exposes the near cache hits, misses and hit ratio, and the failed write-behind writes.
+         *
+         * @param tieredStats the shared hit/miss counters
+         * @return a {@link MeterBinder} registering the counters and the gauge
+         */
+        @Bean
+        @ConditionalOnClass(MeterRegistry.class)
+        public MeterBinder failoverTieredMeterBinder(@Qualifier("failoverTieredStats") TieredStats tieredStats) {
+            return registry -> {
+                FunctionCounter.builder("failover.store.tiered.hits.total", tieredStats, TieredStats::hits)
+                        .description("Store lookups answered by the near cache")
+                        .register(registry);
+                FunctionCounter.builder("failover.store.tiered.misses.total", tieredStats, TieredStats::misses)
+                        .description("Store lookups the near cache passed on to the persistent store")
+                        .register(registry);
+                Gauge.builder("failover.store.tiered.hit.ratio", tieredStats, TieredStats::hitRatio)
+                        .description("Share of the store lookups answered by the near cache since startup")
+                        .register(registry);
+                FunctionCounter.builder("failover.store.tiered.write.failed.total", tieredStats, TieredStats::failedWrites)
+                        .description("Write-behind writes the persistent store failed to apply")
+                        .register(registry);
+            };
+        }
+    }
+
     /**
      * Registers all beans required for the JDBC-backed failover store.
      *
@@ -335,10 +655,32 @@ public class FailoverStoreAutoConfiguration {
             return AesGcmPayloadCipher.fromBase64(failoverProperties.getStore().getJdbc().getEncryption().getKey());
         }
 
+        /**
+         * Built-in {@link DeflatePayloadCodec} (id {@code "deflate"}), at the level of
+         * {@code failover.store.jdbc.compression.level}. Registered unless the application already declares its
+         * own {@code DeflatePayloadCodec}, so {@code CMP(deflate:...)} rows are always readable.
+         */
+        @Bean
+        @ConditionalOnMissingBean(DeflatePayloadCodec.class)
+        public DeflatePayloadCodec deflatePayloadCodec(FailoverProperties failoverProperties) {
+            return new DeflatePayloadCodec(failoverProperties.getStore().getJdbc().getCompression().getLevel());
+        }
+
+        /**
+         * Counters of the payload compression stage, exposed as meters by
+         * {@link #failoverCompressionMeterBinder} when compression is enabled.
+         *
+         * @return the shared {@link CompressionStats}
+         */
+        @Bean("failoverCompressionStats")
+        public CompressionStats failoverCompressionStats() {
+            return new CompressionStats();
+        }
+
         /**
          * Registers a {@link JsonSerializer} backed by the application's {@link ObjectMapper}
-         * unless a {@link Serializer} bean is already present, wrapped in an
-         * {@link EncryptingSerializer} so {@code PAYLOAD} values can be encrypted at rest.
+         * unless a {@link Serializer} bean is already present, wrapped in a {@link CompressingSerializer}
+         * and then an {@link EncryptingSerializer}, so {@code PAYLOAD} values are compressed, then encrypted.
          *
          * <p>The deserialization allowlist is resolved lazily (after the scanner has run) by merging
          * two sources: the exact class name of every {@code @Failover} payload type discovered by
@@ -350,24 +692,89 @@ public class FailoverStoreAutoConfiguration {
          * declares) are registered for <b>reads</b>, so a store may hold a mix of plaintext and
          * differently-enciphered rows. Writes are encrypted only when
          * {@code failover.store.jdbc.encryption.enabled=true}, using the cipher whose id matches
-         * {@code failover.store.jdbc.encryption.cipher}.
+         * {@code failover.store.jdbc.encryption.cipher}. {@link PayloadCodec} beans and
+         * {@code failover.store.jdbc.compression.*} work the same way for compression.
          */
         @Bean
         @ConditionalOnMissingBean
         public Serializer serializer(ObjectMapper objectMapper,
                                      FailoverProperties failoverProperties,
                                      ObjectProvider<FailoverScanner> failoverScannerProvider,
-                                     ObjectProvider<PayloadCipher> payloadCipherProvider) {
+                                     ObjectProvider<PayloadCipher> payloadCipherProvider,
+                                     ObjectProvider<PayloadCodec> payloadCodecProvider,
+                                     @Qualifier("failoverCompressionStats") CompressionStats compressionStats) {
             List<String> configured = failoverProperties.getStore().getJdbc().getAllowedPayloadClasses();
             boolean strictAllowlist = failoverProperties.getStore().getJdbc().isStrictAllowlist();
             Serializer jsonSerializer = new JsonSerializer(objectMapper,
                     () -> mergeAllowedPayloadClasses(configured, failoverScannerProvider.getIfAvailable()),
                     strictAllowlist);
 
+            List<PayloadCodec> codecs = payloadCodecProvider.orderedStream().toList();
+            Jdbc.Compression compression = failoverProperties.getStore().getJdbc().getCompression();
+            Serializer compressingSerializer = new CompressingSerializer(jsonSerializer, codecs,
+                    resolveWriteCodec(codecs, compression), compression.getThreshold(), compressionStats);
+
             List<PayloadCipher> ciphers = payloadCipherProvider.orderedStream().toList();
             Jdbc.Encryption encryption = failoverProperties.getStore().getJdbc().getEncryption();
             PayloadCipher writeCipher = resolveWriteCipher(ciphers, encryption);
-            return new EncryptingSerializer(jsonSerializer, ciphers, writeCipher);
+            return new EncryptingSerializer(compressingSerializer, ciphers, writeCipher);
+        }
+
+        /**
+         * Resolves the active write codec when compression is enabled, or {@code null} (write as is) when
+         * disabled. Fails fast if the configured codec id is not among the registered codecs.
+         */
+        private PayloadCodec resolveWriteCodec(List<PayloadCodec> codecs, Jdbc.Compression compression) {
+            if (!compression.isEnabled()) {
+                return null;
+            }
+            PayloadCodec writeCodec = codecs.stream()
+                    .filter(c -> c.id().equals(compression.getCodec()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException(
+                            "failover.store.jdbc.compression.enabled=true but no PayloadCodec bean has id '"
+                                    + compression.getCodec() + "'. Registered ids: " + codecs.stream().map(PayloadCodec::id).toList()
+                                    + ". Declare a PayloadCodec bean with that id, or correct failover.store.jdbc.compression.codec."));
+            log.info("Failover JDBC payload compression is ENABLED; payloads of {} bytes or more are compressed with codec '{}'.",
+                    compression.getThreshold(), writeCodec.id());
+            return writeCodec;
+        }
+
+        /**
+         * Exposes the {@code failover.store.compression.*} meters: bytes in and out, their ratio, and the
+         * time spent compressing and decompressing.
+         *
+         * @param compressionStats the compression counters
+         * @return a {@link MeterBinder} registering the meters
+         */
+        @Bean
+        @ConditionalOnClass(MeterRegistry.class)
+        @ConditionalOnProperty(prefix = "failover.store.jdbc.compression", name = "enabled", havingValue = "true")
+        public MeterBinder failoverCompressionMeterBinder(@Qualifier("failoverCompressionStats") CompressionStats compressionStats) {
+            return registry -> {
+                FunctionCounter.builder("failover.store.compression.bytes.in", compressionStats, CompressionStats::uncompressedBytes)
+                        .description("Serialized size of the payloads written compressed")
+                        .baseUnit("bytes")
+                        .register(registry);
+                FunctionCounter.builder("failover.store.compression.bytes.out", compressionStats, CompressionStats::compressedBytes)
+                        .description("Compressed size of the payloads written compressed")
+                        .baseUnit("bytes")
+                        .register(registry);
+                FunctionCounter.builder("failover.store.compression.skipped.total", compressionStats, CompressionStats::skipped)
+                        .description("Payloads written uncompressed: below the threshold, or not smaller once compressed")
+                        .register(registry);
+                Gauge.builder("failover.store.compression.ratio", compressionStats, CompressionStats::ratio)
+                        .description("Serialized over compressed size of the payloads written compressed")
+                        .register(registry);
+                FunctionTimer.builder("failover.store.compression.duration", compressionStats,
+                                CompressionStats::compressions, CompressionStats::compressionNanos, TimeUnit.NANOSECONDS)
+                        .description("Payloads compressed and the time it took")
+                        .register(registry);
+                FunctionTimer.builder("failover.store.decompression.duration", compressionStats,
+                                CompressionStats::decompressions, CompressionStats::decompressionNanos, TimeUnit.NANOSECONDS)
+                        .description("Payloads decompressed and the time it took")
+                        .register(registry);
+            };
         }
 
         /**
@@ -398,13 +805,29 @@ public class FailoverStoreAutoConfiguration {
         }
 
         /**
-         * Registers a {@link com.societegenerale.failover.store.jdbc.resolver.VarcharPayloadColumnResolver}
-         * (VARCHAR payload column) unless a {@link PayloadColumnResolver} bean is already present.
+         * Exposes the {@link Serializer}'s canonical form to the fingerprint stage
+         * ({@code failover.store.fingerprint.enabled}), unless a {@link PayloadCanonicalizer} bean is already present.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public PayloadCanonicalizer payloadCanonicalizer(Serializer serializer) {
+            return serializer::canonicalize;
+        }
+
+        /**
+         * Registers the {@link PayloadColumnResolver} matching {@code failover.store.jdbc.payload-column-type}
+         * unless one is already present: a {@link VarcharPayloadColumnResolver} by default, or a
+         * {@link BlobPayloadColumnResolver} bound as {@code BLOB} / {@code VARBINARY} for a binary column.
          */
         @Bean
         @ConditionalOnMissingBean
-        public PayloadColumnResolver payloadColumnHandler() {
-            return new VarcharPayloadColumnResolver();
+        public PayloadColumnResolver payloadColumnHandler(FailoverProperties failoverProperties) {
+            PayloadColumnType type = failoverProperties.getStore().getJdbc().getPayloadColumnType();
+            return switch (type) {
+                case VARCHAR -> new VarcharPayloadColumnResolver();
+                case BLOB -> new BlobPayloadColumnResolver(Types.BLOB);
+                case VARBINARY -> new BlobPayloadColumnResolver(Types.VARBINARY);
+            };
         }
 
         /**
@@ -437,6 +860,45 @@ public class FailoverStoreAutoConfiguration {
                     payloadColumnResolver);
         }
 
+        /**
+         * Chunked expiry-cleanup settings shared by every {@link FailoverStoreJdbc} (one per tenant in multi-tenant
+         * mode), so their deleted-row counter and run timer add up. Only when
+         * {@code failover.store.jdbc.cleanup.chunked=true}.
+         *
+         * @param failoverProperties failover properties (chunk size, pause, time budget)
+         * @return the shared {@link ChunkedCleanup}
+         */
+        @Bean("failoverChunkedCleanup")
+        @ConditionalOnProperty(prefix = "failover.store.jdbc.cleanup", name = "chunked", havingValue = "true")
+        public ChunkedCleanup failoverChunkedCleanup(FailoverProperties failoverProperties) {
+            Jdbc.Cleanup cleanup = failoverProperties.getStore().getJdbc().getCleanup();
+            log.info("Failover JDBC expiry cleanup is chunked: chunkSize={}, pause={}, timeBudget={}.",
+                    cleanup.getChunkSize(), cleanup.getPause(), cleanup.getTimeBudget());
+            return new ChunkedCleanup(cleanup.getChunkSize(), cleanup.getPause(), cleanup.getTimeBudget());
+        }
+
+        /**
+         * Exposes {@code failover.store.cleanup.deleted.total} and the {@code failover.store.cleanup.duration}
+         * timer, so the cost of the chunked expiry cleanup is observable.
+         *
+         * @param chunkedCleanup the shared chunked-cleanup settings and counters
+         * @return a {@link MeterBinder} registering the counter and the timer
+         */
+        @Bean
+        @ConditionalOnClass(MeterRegistry.class)
+        @ConditionalOnProperty(prefix = "failover.store.jdbc.cleanup", name = "chunked", havingValue = "true")
+        public MeterBinder failoverChunkedCleanupMeterBinder(@Qualifier("failoverChunkedCleanup") ChunkedCleanup chunkedCleanup) {
+            return registry -> {
+                FunctionCounter.builder("failover.store.cleanup.deleted.total", chunkedCleanup, ChunkedCleanup::deletedRows)
+                        .description("Expired rows deleted by the chunked JDBC expiry cleanup")
+                        .register(registry);
+                FunctionTimer.builder("failover.store.cleanup.duration", chunkedCleanup,
+                                ChunkedCleanup::cleanupRuns, ChunkedCleanup::cleanupNanos, TimeUnit.NANOSECONDS)
+                        .description("Runs of the chunked JDBC expiry cleanup and the time they took")
+                        .register(registry);
+            };
+        }
+
         /**
          * Registers a {@link TenantStoreFactory} that creates a {@link FailoverStoreJdbc} per tenant.
          *
@@ -451,10 +913,14 @@ public class FailoverStoreAutoConfiguration {
                 JdbcTemplate jdbcTemplate,
                 FailoverStoreQueryResolver failoverStoreQueryResolver,
                 RowMapper<ReferentialPayload<Object>> rowMapper,
-                FailoverProperties failoverProperties) {
+                FailoverProperties failoverProperties,
+                @Qualifier("failoverChunkedCleanup") ObjectProvider<ChunkedCleanup> chunkedCleanupProvider) {
             boolean liveEntriesGauge = failoverProperties.getStore().getJdbc().isLiveEntriesGaugeEnabled();
-            log.info("FailoverStore configured to FailoverStoreJdbc (live-entries gauge {}).", liveEntriesGauge ? "ENABLED" : "disabled");
-            return tenantId -> new FailoverStoreJdbc<>(jdbcTemplate, failoverStoreQueryResolver, rowMapper, liveEntriesGauge);
+            int batchSize = failoverProperties.getStore().getJdbc().getBatchSize();
+            ChunkedCleanup chunkedCleanup = chunkedCleanupProvider.getIfAvailable();
+            log.info("FailoverStore configured to FailoverStoreJdbc (live-entries gauge {}, batch size {}, chunked cleanup {}).",
+                    liveEntriesGauge ? "ENABLED" : "disabled", batchSize, chunkedCleanup != null ? "ENABLED" : "disabled");
+            return tenantId -> new FailoverStoreJdbc<>(jdbcTemplate, failoverStoreQueryResolver, rowMapper, liveEntriesGauge, batchSize, chunkedCleanup);
         }
     }
 }
\ No newline at end of file
@@ -24,15 +24,19 @@ import com.societegenerale.failover.properties.FailoverProperties;
 import com.societegenerale.failover.properties.MultiTenant;
 import com.societegenerale.failover.properties.TenantConfig;
 import com.societegenerale.failover.store.caffeine.FailoverStoreCaffeine;
+import com.societegenerale.failover.store.jdbc.ChunkedCleanup;
 import com.societegenerale.failover.store.jdbc.FailoverStoreJdbc;
 import com.societegenerale.failover.store.inmemory.FailoverStoreInmemory;
 import com.societegenerale.failover.store.multitenant.TenantContextPropagator;
+import com.societegenerale.failover.store.multitenant.TenantResolver;
 import com.societegenerale.failover.store.multitenant.TenantStoreFactory;
 import com.societegenerale.failover.store.jdbc.resolver.DatabaseResolver;
 import com.societegenerale.failover.store.jdbc.resolver.DefaultFailoverStoreQueryResolver;
 import com.societegenerale.failover.store.jdbc.resolver.PayloadColumnResolver;
 import com.societegenerale.failover.store.jdbc.serializer.Serializer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -44,6 +48,7 @@ import org.springframework.jdbc.core.RowMapper;
 
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Autoconfiguration that activates when {@code failover.store.multitenant.enabled=true}.
@@ -82,6 +87,26 @@ public class FailoverStoreMultiTenantAutoConfiguration {
         return new TenantContextPropagator();
     }
 
+    /**
+     * Exposes the tenant of the calling thread — as the multi-tenant store resolves it, {@code defaultTenant}
+     * included — to the state {@link FailoverAutoConfiguration} keeps above the store, so that state is kept
+     * per tenant as well.
+     *
+     * @param tenantResolverProvider the application's {@link TenantResolver}
+     * @param props                  failover properties holding the default tenant
+     * @return supplier of the current tenant ID
+     */
+    @Bean("failoverTenantScope")
+    @ConditionalOnMissingBean(name = "failoverTenantScope")
+    public Supplier<String> failoverTenantScope(ObjectProvider<TenantResolver> tenantResolverProvider, FailoverProperties props) {
+        TenantResolver tenantResolver = tenantResolverProvider.getObject();
+        String defaultTenant = props.getStore().getMultitenant().getDefaultTenant();
+        return () -> {
+            String tenantId = tenantResolver.resolve();
+            return tenantId != null ? tenantId : defaultTenant;
+        };
+    }
+
     // ─── TenantStoreFactory (per store type) ─────────────────────────────────
 
     /**
@@ -104,6 +129,7 @@ public class FailoverStoreMultiTenantAutoConfiguration {
      * @param databaseResolver      detects the database product for merge dialect selection
      * @param payloadColumnResolver determines the SQL type of the PAYLOAD column
      * @param rowMapper             maps result-set rows to {@link com.societegenerale.failover.core.payload.ReferentialPayload}
+     * @param chunkedCleanupProvider optional {@code failoverChunkedCleanup}; absent unless chunked cleanup is enabled
      * @return per-tenant JDBC store factory using the TABLE_PREFIX strategy
      */
     @Bean
@@ -115,12 +141,14 @@ public class FailoverStoreMultiTenantAutoConfiguration {
             Serializer serializer,
             DatabaseResolver databaseResolver,
             PayloadColumnResolver payloadColumnResolver,
-            RowMapper<ReferentialPayload<Object>> rowMapper) {
+            RowMapper<ReferentialPayload<Object>> rowMapper,
+            @Qualifier("failoverChunkedCleanup") ObjectProvider<ChunkedCleanup> chunkedCleanupProvider) {
         log.info("MultiTenant TenantStoreFactory: JDBC (strategy={})", props.getStore().getMultitenant().getStrategy());
+        ChunkedCleanup chunkedCleanup = chunkedCleanupProvider.getIfAvailable();
         return tenantId -> {
             String effectivePrefix = resolveJdbcPrefix(props, tenantId);
             var qr = new DefaultFailoverStoreQueryResolver(effectivePrefix, serializer, databaseResolver, payloadColumnResolver);
-            return new FailoverStoreJdbc<>(jdbcTemplate, qr, rowMapper);
+            return new FailoverStoreJdbc<>(jdbcTemplate, qr, rowMapper, false, props.getStore().getJdbc().getBatchSize(), chunkedCleanup);
         };
     }
 
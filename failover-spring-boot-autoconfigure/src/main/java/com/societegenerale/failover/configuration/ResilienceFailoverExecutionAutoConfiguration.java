@@ -20,16 +20,22 @@ import com.societegenerale.failover.core.FailoverExecution;
 import com.societegenerale.failover.core.FailoverHandler;
 import com.societegenerale.failover.core.exception.MethodExceptionHandler;
 import com.societegenerale.failover.core.observable.publisher.ObservablePublisher;
+import com.societegenerale.failover.core.propagator.ContextPropagator;
 import com.societegenerale.failover.execution.resilience.ResilienceFailoverExecution;
+import com.societegenerale.failover.properties.FailoverProperties;
 import com.societegenerale.failover.properties.FailoverType;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 
+import java.util.function.Supplier;
+
 /**
  * Autoconfiguration for the Resilience4j-based {@code FailoverExecution}.
  *
@@ -58,12 +64,19 @@ public class ResilienceFailoverExecutionAutoConfiguration {
      * @param methodExceptionHandler  exception handler applying the configured policy
      * @param circuitBreakerRegistry  Resilience4j registry providing per-failover circuit breakers
      * @param applicationContext      resolves the non-blocking dispatching publisher (by name) for upstream-duration metrics
+     * @param tenantScopeProvider     optional {@code failoverTenantScope}, so collapsed calls are shared per tenant
+     * @param contextPropagator       carries the caller's context onto the thread of a call under a latency budget
+     * @param failoverProperties      framework properties (calls left running past their latency budget)
      * @return {@link ResilienceFailoverExecution} wrapping the handler with circuit-breaker protection
      */
     @Bean
-    public FailoverExecution<Object> failoverExecution(FailoverHandler<Object> failoverHandler, MethodExceptionHandler methodExceptionHandler, CircuitBreakerRegistry circuitBreakerRegistry, ApplicationContext applicationContext) {
+    public FailoverExecution<Object> failoverExecution(FailoverHandler<Object> failoverHandler, MethodExceptionHandler methodExceptionHandler, CircuitBreakerRegistry circuitBreakerRegistry, ApplicationContext applicationContext,
+                                                       @Qualifier("failoverTenantScope") ObjectProvider<Supplier<String>> tenantScopeProvider,
+                                                       @Qualifier("contextPropagator") ContextPropagator contextPropagator,
+                                                       FailoverProperties failoverProperties) {
         log.info("FailoverExecution configured to ResilienceFailoverExecution. NOTE : You should not mix more than 1 framework for failover (like Resilience Retry and Feign Retry etc). Available options are : { {} }", (Object) FailoverType.values());
         ObservablePublisher observablePublisher = applicationContext.getBean("failoverObservablePublisher", ObservablePublisher.class);
-        return new ResilienceFailoverExecution<>(failoverHandler, methodExceptionHandler, circuitBreakerRegistry, observablePublisher);
+        return new ResilienceFailoverExecution<>(failoverHandler, methodExceptionHandler, circuitBreakerRegistry, observablePublisher,
+                tenantScopeProvider.getIfAvailable(() -> () -> null), contextPropagator, failoverProperties.getLatencyBudget().getMaxBackgroundCalls());
     }
 }
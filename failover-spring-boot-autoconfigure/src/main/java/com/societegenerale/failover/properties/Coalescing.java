@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Write-coalescing settings for the async store, bound to {@code failover.store.coalescing.*}.
+ *
+ * <p>When enabled, async {@code store}/{@code delete} calls are parked per {@code (name, key)} and only the
+ * latest one is written, on every {@link #flushInterval} or as soon as {@link #maxPendingWrites} distinct
+ * entries are waiting. Only relevant when {@code failover.store.async} is {@code true}. Off by default.
+ *
+ * @author Anand Manissery
+ */
+@Data
+public class Coalescing {
+
+    /** Whether async writes are coalesced per {@code (name, key)}. Default: {@code false}. */
+    private boolean enabled = false;
+
+    /** Longest a write waits before it is flushed to the store. Default: {@code 1s}. */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /** Number of distinct pending entries that triggers an early flush. Default: {@code 10000}. */
+    private int maxPendingWrites = 10_000;
+}
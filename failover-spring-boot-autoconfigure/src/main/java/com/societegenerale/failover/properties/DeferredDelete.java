@@ -0,0 +1,37 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.societegenerale.failover.properties;
+
+import lombok.Data;
+
+/**
+ * Deferred delete settings, bound to {@code failover.store.deferred-delete.*}.
+ *
+ * <p>When enabled, the expired entries a recover finds are queued and removed in batches on a background thread
+ * instead of on the recovering thread. An entry dropped because the queue is full stays until the expiry cleanup
+ * removes it; reads already leave it out. Off by default.
+ *
+ * @author Anand Manissery
+ */
+@Data
+public class DeferredDelete {
+
+    /** Whether the expired entries found on recover are deleted in the background. Default: {@code false}. */
+    private boolean enabled = false;
+
+    /** Number of expired entries that may wait for their delete, per store. Default: {@code 10000}. */
+    private int maxPending = 10_000;
+}
@@ -66,6 +66,12 @@ public class FailoverProperties {
     @NestedConfigurationProperty()
     private Observable observable = new Observable();
 
+    @NestedConfigurationProperty()
+    private Key key = new Key();
+
+    @NestedConfigurationProperty()
+    private LatencyBudget latencyBudget = new LatencyBudget();
+
     /**
      * Returns a flat map of key failover properties for inclusion in startup reports.
      *
@@ -75,6 +81,7 @@ public class FailoverProperties {
         var info = new LinkedHashMap<String,String>();
         info.put("enabled", Boolean.toString(enabled));
         info.put("type", type.name());
+        info.put("key.mode", key.getMode().name());
         info.put("store.type", store.getType().name());
         info.put("store.jdbc.table-prefix", store.getJdbc().getTablePrefix());
         info.put("scheduler.enabled", Boolean.toString(scheduler.isEnabled()));
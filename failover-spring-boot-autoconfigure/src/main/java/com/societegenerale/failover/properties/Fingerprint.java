@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.properties;
+
+import lombok.Data;
+
+/**
+ * Content-fingerprint deduplication settings, bound to {@code failover.store.fingerprint.*}.
+ *
+ * <p>When enabled, each stored payload is hashed and compared with the hash of the last write of the same
+ * {@code (name, key)}; an unchanged payload only has its {@code AS_OF}/{@code EXPIRE_ON} touched instead of being
+ * rewritten. Needs a {@code PayloadCanonicalizer}, provided by the JDBC store. Off by default.
+ *
+ * @author Anand Manissery
+ */
+@Data
+public class Fingerprint {
+
+    /** Whether unchanged payloads are touched instead of rewritten. Default: {@code false}. */
+    private boolean enabled = false;
+
+    /** Number of entries whose fingerprint is kept in memory before the map is reset. Default: {@code 100000}. */
+    private int maxTrackedEntries = 100_000;
+}
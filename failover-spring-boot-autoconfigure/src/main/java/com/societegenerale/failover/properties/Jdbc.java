@@ -18,6 +18,7 @@ package com.societegenerale.failover.properties;
 
 import lombok.Data;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -76,6 +77,27 @@ public class Jdbc {
      */
     private boolean liveEntriesGaugeEnabled = false;
 
+    /**
+     * Max rows the JDBC store sends in one JDBC batch when several payloads are written together — the
+     * slices of a scatter/gather call, or the entries flushed at once by the async store's write
+     * coalescing. Default {@code 100}. A batch that fails is replayed row by row, so a bad row only loses
+     * itself.
+     */
+    private int batchSize = 100;
+
+    /**
+     * SQL type of the {@code PAYLOAD} column. Default {@link PayloadColumnType#VARCHAR}, the existing schemas.
+     * {@link PayloadColumnType#BLOB} or {@link PayloadColumnType#VARBINARY} store the serialized bytes directly
+     * (encrypted payloads as raw ciphertext, without Base64); the column must be created with a matching binary
+     * type. Ignored when a {@code PayloadColumnResolver} bean is declared.
+     */
+    private PayloadColumnType payloadColumnType = PayloadColumnType.VARCHAR;
+
+    /**
+     * Expired-row cleanup settings for the JDBC store, bound to {@code failover.store.jdbc.cleanup.*}.
+     */
+    private Cleanup cleanup = new Cleanup();
+
     /**
      * Payload-at-rest encryption for the JDBC store. JDBC-only: other store types never persist a
      * payload string, so this lives under {@code failover.store.jdbc.encryption} rather than the
@@ -83,6 +105,12 @@ public class Jdbc {
      */
     private Encryption encryption = new Encryption();
 
+    /**
+     * Payload compression for the JDBC store, applied before encryption. JDBC-only, like
+     * {@link #encryption}.
+     */
+    private Compression compression = new Compression();
+
     /**
      * Encryption settings for the {@code PAYLOAD} column.
      *
@@ -123,4 +151,56 @@ public class Jdbc {
          */
         private String key = "";
     }
+
+    /**
+     * Compression settings for the {@code PAYLOAD} column.
+     *
+     * <p>{@code enabled} gates the <b>write</b> side only: payloads of at least {@link #threshold} bytes are
+     * written as {@code CMP(<codec>:<compressed>)}. Reads always honour the {@code CMP(...)} marker, so rows
+     * written before compression was enabled, and compressed rows after it is disabled, stay readable.
+     */
+    @Data
+    public static class Compression {
+
+        /** Whether new writes are compressed. Default {@code false}. */
+        private boolean enabled = false;
+
+        /**
+         * Id of the registered {@code PayloadCodec} to compress new writes with. Defaults to {@code "deflate"},
+         * the built-in JDK {@code Deflater}; declare your own {@code PayloadCodec} bean and set this to its id
+         * to use another algorithm.
+         */
+        private String codec = "deflate";
+
+        /** Smallest serialized payload, in bytes, that is compressed. Default {@code 1024}. */
+        private int threshold = 1024;
+
+        /** Level of the built-in {@code deflate} codec, {@code 0}-{@code 9}, or {@code -1} for the JDK default. */
+        private int level = -1;
+    }
+
+    /**
+     * Chunked cleanup of expired rows.
+     *
+     * <p>By default the expiry cleanup removes every expired row in a single {@code DELETE}, which can hold
+     * locks and generate undo/WAL for a long time on a large table. With {@code chunked} enabled it deletes
+     * at most {@link #chunkSize} rows per statement, pauses {@link #pause} between statements, and stops once
+     * {@link #timeBudget} is spent — the rows left over are picked up by the next run. Databases without a
+     * known row-limited {@code DELETE} keep the single statement.
+     */
+    @Data
+    public static class Cleanup {
+
+        /** Whether the expiry cleanup deletes in chunks. Default {@code false} (one {@code DELETE}). */
+        private boolean chunked = false;
+
+        /** Max rows deleted per statement. Default {@code 10000}. */
+        private int chunkSize = 10_000;
+
+        /** Pause between two chunks, to leave room for the regular traffic. Default {@code 100ms}. */
+        private Duration pause = Duration.ofMillis(100);
+
+        /** Longest a single cleanup run may take before it yields to the next one. Default {@code 5m}. */
+        private Duration timeBudget = Duration.ofMinutes(5);
+    }
 }
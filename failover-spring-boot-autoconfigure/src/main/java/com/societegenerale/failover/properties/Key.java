@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.properties;
+
+import com.societegenerale.failover.core.key.KeyMode;
+import lombok.Data;
+
+/**
+ * Final store key configuration for the failover framework.
+ *
+ * @author Anand Manissery
+ */
+@Data
+public class Key {
+
+    /**
+     * How the {@code <name-or-domain>:<raw-key>} string is hashed into the final UUID-formatted store key.
+     *
+     * <p>{@link KeyMode#MD5_UUID} (default) keeps the type-3 UUID keys of previous releases.
+     * {@link KeyMode#FAST_HASH} uses MurmurHash3 instead, which is cheaper on the hot path but produces
+     * different keys: entries stored under the other mode are no longer found and simply age out.
+     */
+    private KeyMode mode = KeyMode.MD5_UUID;
+}
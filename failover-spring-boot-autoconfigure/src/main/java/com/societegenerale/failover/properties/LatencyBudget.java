@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.properties;
+
+import com.societegenerale.failover.core.BasicFailoverExecution;
+import lombok.Data;
+
+/**
+ * Latency budget configuration, for failovers declaring {@code @Failover(latencyBudget)}.
+ *
+ * <p>A call over its budget is answered from the store while the upstream call goes on in the background, so that
+ * its result is stored. This bounds how many such calls each failover may leave running.
+ *
+ * @author Anand Manissery
+ */
+@Data
+public class LatencyBudget {
+
+    /**
+     * Max upstream calls per failover method left running in the background past their latency budget. Past it, a
+     * call over budget waits for the upstream as if it had no budget. Must be {@code > 0}.
+     */
+    private int maxBackgroundCalls = BasicFailoverExecution.DEFAULT_MAX_BACKGROUND_CALLS;
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Negative lookup cache settings, bound to {@code failover.store.negative-cache.*}.
+ *
+ * <p>When enabled, a recover that finds no entry is remembered for a short time: repeated recovers of the same key
+ * are answered empty from memory instead of querying the store again. A store of the key forgets it at once. Off by
+ * default.
+ *
+ * @author Anand Manissery
+ */
+@Data
+public class NegativeCache {
+
+    /** Whether lookup misses are remembered. Default: {@code false}. */
+    private boolean enabled = false;
+
+    /**
+     * How long a miss is remembered. Also bounds how long an entry stored through another instance sharing the store
+     * goes unseen here. Must be positive. Default: {@code 1s}.
+     */
+    private Duration timeToLive = Duration.ofSeconds(1);
+
+    /** Number of misses remembered, per store, before they are all forgotten. Default: {@code 100000}. */
+    private int maxTrackedEntries = 100_000;
+}
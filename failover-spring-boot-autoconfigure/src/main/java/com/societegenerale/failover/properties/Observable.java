@@ -32,6 +32,8 @@ public class Observable {
 
     private Cardinality cardinality = new Cardinality();
 
+    private MeterCache meterCache = new MeterCache();
+
     /**
      * Non-blocking metric publishing. When {@link #enabled} (default), failover metrics are handed off to a
      * bounded queue and drained by a virtual-thread worker, so emitting metrics can never block or slow the
@@ -100,4 +102,16 @@ public class Observable {
         /** Maximum distinct {@code name} tag values allowed across {@code failover.*} meters. Must be {@code > 0}. */
         private int maxApis = 1_000;
     }
+
+    /**
+     * Bounds the Micrometer publisher's cache of resolved counter/timer handles. Each distinct tag combination
+     * is registered once and then recorded through its cached handle; past {@link #maxSize} handles, meters are
+     * registered per call again, so a tag explosion can never grow the cache without limit.
+     */
+    @Data
+    public static class MeterCache {
+
+        /** Maximum cached meter handles (default {@code 10000}); {@code 0} disables caching. Must be {@code >= 0}. */
+        private int maxSize = 10_000;
+    }
 }
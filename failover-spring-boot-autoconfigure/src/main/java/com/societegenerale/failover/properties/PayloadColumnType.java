@@ -0,0 +1,31 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.properties;
+
+/// SQL type of the JDBC store's `PAYLOAD` column
+/// @author Anand Manissery
+public enum PayloadColumnType {
+
+    /// Text column (`VARCHAR`, `TEXT`, `CLOB`): the payload is stored as a string.
+    VARCHAR,
+
+    /// `BLOB` column (Oracle, H2, DB2): the payload is stored as bytes.
+    BLOB,
+
+    /// `BYTEA` (PostgreSQL), `VARBINARY(MAX)` (SQL Server) or `LONGBLOB` (MySQL, MariaDB): the payload is stored as bytes.
+    VARBINARY
+}
@@ -19,6 +19,8 @@ package com.societegenerale.failover.properties;
 import lombok.Data;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import java.time.Duration;
+
 import static com.societegenerale.failover.properties.StoreType.INMEMORY;
 
 /**
@@ -47,6 +49,20 @@ public class Store {
      */
     private boolean async = true;
 
+    /**
+     * Minimum time between two store writes of the same entry, for failovers that do not set
+     * {@code @Failover(minRefreshInterval)}. Within it a successful call skips the write, leaving the stored
+     * copy and its expiry untouched. Default: {@code 0} (write on every success).
+     */
+    private Duration minRefreshInterval = Duration.ZERO;
+
+    /**
+     * Whether concurrent lookups of the same entry share one store read: while a recover of a
+     * {@code (name, key)} reads the store, the others of that entry wait for it instead of reading too.
+     * Default: {@code false}.
+     */
+    private boolean singleFlight = false;
+
     /**
      * Back-pressure settings for the async store executor (bound to {@code failover.store.async-executor.*}).
      * Only relevant when {@link #async} is {@code true}. Unbounded by default.
@@ -54,6 +70,41 @@ public class Store {
     @NestedConfigurationProperty
     private AsyncExecutor asyncExecutor = new AsyncExecutor();
 
+    /**
+     * Write coalescing for the async store (bound to {@code failover.store.coalescing.*}).
+     * Only relevant when {@link #async} is {@code true}. Off by default.
+     */
+    @NestedConfigurationProperty
+    private Coalescing coalescing = new Coalescing();
+
+    /**
+     * Content-fingerprint deduplication (bound to {@code failover.store.fingerprint.*}): unchanged payloads
+     * only have their expiry touched. JDBC store only. Off by default.
+     */
+    @NestedConfigurationProperty
+    private Fingerprint fingerprint = new Fingerprint();
+
+    /**
+     * Deferred delete of the expired entries found on recover (bound to {@code failover.store.deferred-delete.*}):
+     * they are removed in batches on a background thread. Off by default.
+     */
+    @NestedConfigurationProperty
+    private DeferredDelete deferredDelete = new DeferredDelete();
+
+    /**
+     * Negative lookup cache (bound to {@code failover.store.negative-cache.*}): recovers of a key the store does not
+     * hold are answered from memory for a short time. Off by default.
+     */
+    @NestedConfigurationProperty
+    private NegativeCache negativeCache = new NegativeCache();
+
+    /**
+     * Near cache in front of the store (bound to {@code failover.store.tiered.*}): hot keys are recovered from
+     * memory. Off by default.
+     */
+    @NestedConfigurationProperty
+    private Tiered tiered = new Tiered();
+
     @NestedConfigurationProperty
     private Inmemory inmemory = new Inmemory();
 
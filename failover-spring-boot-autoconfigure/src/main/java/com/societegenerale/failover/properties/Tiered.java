@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.properties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Tiered store settings, bound to {@code failover.store.tiered.*}.
+ *
+ * <p>When enabled, a bounded Caffeine near cache is put in front of the configured store: hot keys are recovered from
+ * memory, the others read from the store and cached. Meant for a persistent store ({@code jdbc}, or a custom one);
+ * requires Caffeine on the classpath. Off by default.
+ *
+ * @author Anand Manissery
+ */
+@Data
+public class Tiered {
+
+    /** Whether the near cache is put in front of the store. Default: {@code false}. */
+    private boolean enabled = false;
+
+    /** Maximum number of entries the near cache holds, per store. Default: {@code 10000}. */
+    private long maxSize = 10_000;
+
+    /**
+     * Longest time an entry stays in the near cache after it was cached, even if its {@code expireOn} is later.
+     * Bounds how long a write made by another instance to a shared store goes unseen here. {@code 0} keeps entries
+     * until their {@code expireOn}. Default: {@code 5m}.
+     */
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    /**
+     * Whether writes reach the store in the background (write-behind) rather than before the call returns
+     * (write-through). Default: {@code false}.
+     */
+    private boolean writeBehind = false;
+
+    /** Number of write-behind writes that may wait for the store, per store; beyond it, writes go through. Default: {@code 10000}. */
+    private int maxPendingWrites = 10_000;
+}
@@ -51,6 +51,8 @@ import com.societegenerale.failover.core.store.FailoverStore;
 import com.societegenerale.failover.store.async.FailoverStoreAsync;
 import com.societegenerale.failover.store.inmemory.FailoverStoreInmemory;
 import com.societegenerale.failover.store.multitenant.TenantContextPropagator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.micrometer.tracing.Tracer;
@@ -68,6 +70,7 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -189,6 +192,41 @@ class FailoverAutoConfigurationTest {
             assertThat(applicationContext.getBean(BasicFailoverExecution.class)).isNotNull();
         }
 
+        @Test
+        @DisplayName("should hand the contextPropagator to BasicFailoverExecution for latency-budget calls")
+        void shouldPropagateContextToLatencyBudgetCalls() {
+            assertThat(ReflectionTestUtils.getField(applicationContext.getBean(BasicFailoverExecution.class), "contextPropagator"))
+                    .isSameAs(applicationContext.getBean("contextPropagator"));
+        }
+
+        @Test
+        @DisplayName("should bind the request collapsing counters of BasicFailoverExecution")
+        void shouldBindRequestCollapsingMeters() {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            applicationContext.getBean("failoverRequestCollapsingMeterBinder", MeterBinder.class).bindTo(registry);
+
+            assertThat(registry.find("failover.request.collapse.calls.total").functionCounter()).isNotNull();
+            assertThat(registry.find("failover.request.collapsed.total").functionCounter()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should bind the latency budget meters on the basic execution")
+        void shouldBindLatencyBudgetMeter() {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            applicationContext.getBean("failoverLatencyBudgetMeterBinder", MeterBinder.class).bindTo(registry);
+
+            assertThat(registry.find("failover.upstream.budget.exceeded.total").functionCounter()).isNotNull();
+            assertThat(registry.find("failover.upstream.budget.background").gauge()).isNotNull();
+            assertThat(registry.find("failover.upstream.budget.saturated.total").functionCounter()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should bound the background calls of BasicFailoverExecution to the default")
+        void shouldBoundBackgroundCallsByDefault() {
+            assertThat(ReflectionTestUtils.getField(applicationContext.getBean(BasicFailoverExecution.class), "maxBackgroundCalls"))
+                    .isEqualTo(BasicFailoverExecution.DEFAULT_MAX_BACKGROUND_CALLS);
+        }
+
         @Test
         @DisplayName("should load MethodExceptionHandler bean")
         void shouldLoadMethodExceptionHandlerBean() {
@@ -238,6 +276,12 @@ class FailoverAutoConfigurationTest {
             assertThat(propagator).isInstanceOf(MdcContextPropagator.class);
         }
 
+        @Test
+        @DisplayName("should load FailoverExpiryRefreshListener when spring-cloud-context is on the classpath")
+        void shouldLoadFailoverExpiryRefreshListener() {
+            assertThat(applicationContext.getBean(FailoverExpiryRefreshListener.class)).isNotNull();
+        }
+
         @Test
         @DisplayName("payloadSplitterLookup is registered")
         void payloadSplitterLookupIsRegistered() {
@@ -345,6 +389,18 @@ class FailoverAutoConfigurationTest {
                     applicationContext.getBean("failoverObservablePublisher", ObservablePublisher.class);
             assertThat(publisher).isInstanceOf(AsyncObservablePublisher.class);
         }
+
+        @Test
+        @DisplayName("binds the drop counter and the drain gauges of the async publisher")
+        void bindsAsyncPublisherMeters() {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            applicationContext.getBean("failoverMetricsDroppedMeterBinder", MeterBinder.class).bindTo(registry);
+
+            assertThat(registry.find("failover.metrics.dropped.total").functionCounter()).isNotNull();
+            assertThat(registry.find("failover.metrics.queue.depth").gauge()).isNotNull();
+            assertThat(registry.find("failover.metrics.drain.lag").timeGauge()).isNotNull();
+            assertThat(registry.find("failover.metrics.drain.batch.size").gauge()).isNotNull();
+        }
     }
 
     @Nested
@@ -573,6 +629,24 @@ class FailoverAutoConfigurationTest {
         void basicFailoverExecutionNotRegistered() {
             assertThat(applicationContext.getBeansOfType(BasicFailoverExecution.class)).isEmpty();
         }
+
+        @Test
+        @DisplayName("request collapsing counters are not bound for a custom FailoverExecution")
+        void requestCollapsingMetersNotBound() {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            applicationContext.getBean("failoverRequestCollapsingMeterBinder", MeterBinder.class).bindTo(registry);
+
+            assertThat(registry.find("failover.request.collapsed.total").functionCounter()).isNull();
+        }
+
+        @Test
+        @DisplayName("latency budget meter is not bound on a custom execution")
+        void latencyBudgetMeterNotBound() {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            applicationContext.getBean("failoverLatencyBudgetMeterBinder", MeterBinder.class).bindTo(registry);
+
+            assertThat(registry.find("failover.upstream.budget.exceeded.total").functionCounter()).isNull();
+        }
     }
 
     // ── failover.scatter.parallel=true ───────────────────────────────────────
@@ -630,6 +704,25 @@ class FailoverAutoConfigurationTest {
         }
     }
 
+    // ── failover.latency-budget.max-background-calls ────────────────────────
+
+    @Nested
+    @SpringBootTest(classes = {MyTestApplication.class})
+    @TestPropertySource(properties = {"failover.latency-budget.max-background-calls=4"})
+    @DisplayName("when failover.latency-budget.max-background-calls is set")
+    class WhenLatencyBudgetBackgroundCallsBounded {
+
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        @Test
+        @DisplayName("BasicFailoverExecution leaves at most the configured calls in the background")
+        void backgroundCallsBounded() {
+            assertThat(ReflectionTestUtils.getField(applicationContext.getBean(BasicFailoverExecution.class), "maxBackgroundCalls"))
+                    .isEqualTo(4);
+        }
+    }
+
     // ── @ConditionalOnMissingBean(name="scatterGatherExecutor") ─────────────
 
     @Nested
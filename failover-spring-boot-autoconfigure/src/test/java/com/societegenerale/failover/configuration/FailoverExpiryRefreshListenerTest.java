@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.configuration;
+
+import com.societegenerale.failover.core.expiry.FailoverExpiryExtractor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+
+import java.util.Set;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FailoverExpiryRefreshListenerTest {
+
+    @Mock
+    private FailoverExpiryExtractor failoverExpiryExtractor;
+
+    @Test
+    @DisplayName("should refresh the expiry extractor on an environment change")
+    void shouldRefreshTheExpiryExtractorOnEnvironmentChange() {
+        var listener = new FailoverExpiryRefreshListener(failoverExpiryExtractor);
+
+        listener.onApplicationEvent(new EnvironmentChangeEvent(Set.of("app.failover.ttl")));
+
+        verify(failoverExpiryExtractor).refresh();
+    }
+}
@@ -80,6 +80,9 @@ class FailoverStartupSummaryLoggerTest {
         @Failover(name = "expr-duration-only",
                   expiryDurationExpression = "${expiry.duration:5}")
         void expressionDurationOnly() { /* annotation fixture */ }
+
+        @Failover(name = "refresh-failover", minRefreshInterval = 30)
+        void refreshFailover() { /* annotation fixture */ }
     }
 
     private static Failover annotation(String method) throws Exception {
@@ -120,6 +123,13 @@ class FailoverStartupSummaryLoggerTest {
             assertThat(FailoverStartupSummaryLogger.toConfigLine(annotation("expressionDurationOnly")))
                     .isEqualTo("expr-duration-only : expiry=${expiry.duration:5} HOURS");
         }
+
+        @Test
+        @DisplayName("minimum refresh interval — shown with its unit when positive")
+        void minRefreshInterval() throws Exception {
+            assertThat(FailoverStartupSummaryLogger.toConfigLine(annotation("refreshFailover")))
+                    .isEqualTo("refresh-failover : expiry=1 HOURS, minRefresh=30 SECONDS");
+        }
     }
 
     // ── buildSummary — infrastructure ─────────────────────────────────────────
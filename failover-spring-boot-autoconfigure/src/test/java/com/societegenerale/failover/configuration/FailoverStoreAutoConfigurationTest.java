@@ -18,16 +18,31 @@ package com.societegenerale.failover.configuration;
 
 import com.societegenerale.failover.core.scanner.FailoverScanner;
 import com.societegenerale.failover.core.store.DefaultFailoverStore;
+import com.societegenerale.failover.core.store.DeferredDeleteFailoverStore;
 import com.societegenerale.failover.core.store.FailoverStore;
+import com.societegenerale.failover.core.store.FingerprintingFailoverStore;
+import com.societegenerale.failover.core.store.NegativeLookupFailoverStore;
+import com.societegenerale.failover.core.store.RefreshThrottle;
+import com.societegenerale.failover.core.store.SingleFlightFailoverStore;
 import com.societegenerale.failover.store.async.BoundedTaskExecutor;
 import com.societegenerale.failover.store.async.FailoverStoreAsync;
+import com.societegenerale.failover.store.async.WriteCoalescing;
 import com.societegenerale.failover.store.caffeine.FailoverStoreCaffeine;
+import com.societegenerale.failover.store.caffeine.TieredFailoverStore;
 import com.societegenerale.failover.store.inmemory.FailoverStoreInmemory;
+import com.societegenerale.failover.store.jdbc.ChunkedCleanup;
 import com.societegenerale.failover.store.jdbc.FailoverStoreJdbc;
+import com.societegenerale.failover.store.jdbc.resolver.BlobPayloadColumnResolver;
+import com.societegenerale.failover.store.jdbc.resolver.PayloadColumnResolver;
+import com.societegenerale.failover.store.jdbc.resolver.VarcharPayloadColumnResolver;
+import com.societegenerale.failover.store.jdbc.serializer.Serializer;
 import com.societegenerale.failover.store.multitenant.FixedTenantResolver;
 import com.societegenerale.failover.store.multitenant.MultiTenantFailoverStore;
 import com.societegenerale.failover.store.multitenant.TenantResolver;
 import com.societegenerale.failover.store.multitenant.TenantStoreFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -42,8 +57,11 @@ import org.springframework.core.task.TaskExecutor;
 import org.springframework.test.context.TestPropertySource;
 
 import static com.societegenerale.failover.configuration.BeanAssertions.assertBasicBean;
+import java.sql.Types;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -95,6 +113,13 @@ class FailoverStoreAutoConfigurationTest {
             assertThat(inner).isInstanceOf(DefaultFailoverStore.class);
         }
 
+        @Test
+        @DisplayName("failoverStore reports the writes failed on its executor to the refresh throttle")
+        void shouldReportAsyncFailuresToRefreshThrottle() {
+            assertThat(ReflectionTestUtils.getField(failoverStore, "writeFailureListener"))
+                    .isSameAs(applicationContext.getBean(RefreshThrottle.class));
+        }
+
         @Test
         @DisplayName("innermost store should be FailoverStoreInmemory by default")
         void innermostShouldBeInmemory() {
@@ -110,6 +135,50 @@ class FailoverStoreAutoConfigurationTest {
                     .hasSize(1)
                     .containsOnlyKeys("failoverStore");
         }
+
+        @Test
+        @DisplayName("writes are not coalesced by default")
+        void writesNotCoalescedByDefault() {
+            assertThat(applicationContext.getBeansOfType(WriteCoalescing.class)).isEmpty();
+            assertThat(ReflectionTestUtils.getField(failoverStore, "coalescer")).isNull();
+        }
+    }
+
+    @Nested
+    @SpringBootTest(classes = {MyTestApplication.class})
+    @TestPropertySource(properties = {
+            "failover.store.async=true",
+            "failover.store.coalescing.enabled=true",
+            "failover.store.coalescing.flush-interval=250ms",
+            "failover.store.coalescing.max-pending-writes=50"})
+    @DisplayName("when failover.store.coalescing.enabled=true")
+    class WhenWriteCoalescingEnabled {
+
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        @Autowired
+        private FailoverStore<Object> failoverStore;
+
+        @Test
+        @DisplayName("failoverWriteCoalescing carries the configured settings and the async store coalesces")
+        void asyncStoreCoalesces() {
+            WriteCoalescing coalescing = applicationContext.getBean("failoverWriteCoalescing", WriteCoalescing.class);
+            assertThat(coalescing.getFlushInterval()).isEqualTo(Duration.ofMillis(250));
+            assertThat(coalescing.getMaxPendingWrites()).isEqualTo(50);
+            assertThat(failoverStore).isInstanceOf(FailoverStoreAsync.class);
+            assertThat(ReflectionTestUtils.getField(failoverStore, "coalescer")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("binds the coalesced and flushed counters")
+        void bindsCoalescingCounters() {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            applicationContext.getBean("failoverWriteCoalescingMeterBinder", MeterBinder.class).bindTo(registry);
+
+            assertThat(registry.find("failover.store.coalesced.total").functionCounter()).isNotNull();
+            assertThat(registry.find("failover.store.flushed.total").functionCounter()).isNotNull();
+        }
     }
 
     @Nested
@@ -242,6 +311,21 @@ class FailoverStoreAutoConfigurationTest {
                     .isNotInstanceOf(MultiTenantFailoverStore.class);
         }
 
+        @Test
+        @DisplayName("failoverStore and the tenant stores are AutoCloseable, so Spring closes them on shutdown")
+        @SuppressWarnings("unchecked")
+        void failoverStoreIsClosedOnShutdown() {
+            MultiTenantFailoverStore<Object> multiTenant = cast(failoverStore);
+            multiTenant.prewarm(Set.of("test-tenant"));
+            Map<String, FailoverStore<Object>> stores =
+                    (Map<String, FailoverStore<Object>>) ReflectionTestUtils.getField(multiTenant, "stores");
+
+            // the inferred destroy method of an @Bean is close() on an AutoCloseable instance
+            assertThat(failoverStore).isInstanceOf(AutoCloseable.class);
+            assertThat(requireNonNull(stores).get("test-tenant")).isInstanceOf(AutoCloseable.class);
+            assertThat(((FailoverStoreAsync<Object>) stores.get("test-tenant")).getFailoverStore()).isInstanceOf(AutoCloseable.class);
+        }
+
         @Test
         @DisplayName("should register failoverTaskExecutor bean")
         void shouldRegisterTaskExecutorBean() {
@@ -334,6 +418,38 @@ class FailoverStoreAutoConfigurationTest {
             DefaultFailoverStore<Object> defaultStore = cast(requireNonNull(async.getFailoverStore()));
             assertThat(requireNonNull(defaultStore.getFailoverStore())).isInstanceOf(FailoverStoreJdbc.class);
         }
+
+        @Test
+        @DisplayName("the payload column defaults to VARCHAR")
+        void payloadColumnDefaultsToVarchar() {
+            assertThat(applicationContext.getBean(PayloadColumnResolver.class)).isInstanceOf(VarcharPayloadColumnResolver.class);
+        }
+
+        @Test
+        @DisplayName("compression is off: payloads are written as is and no compression meters are bound")
+        void compressionDisabledByDefault() {
+            Serializer serializer = applicationContext.getBean(Serializer.class);
+            assertThat(serializer.serialize(Map.of("pair", "EUR/USD ".repeat(500)))).startsWith("{");
+            assertThat(applicationContext.containsBean("failoverCompressionMeterBinder")).isFalse();
+        }
+
+        @Test
+        @DisplayName("the tiered store is off: no near cache stage is registered")
+        void tieredDisabledByDefault() {
+            assertThat(applicationContext.containsBean("failoverTieredStage")).isFalse();
+        }
+
+        @Test
+        @DisplayName("the negative lookup cache is off: no hit counter is registered")
+        void negativeCacheDisabledByDefault() {
+            assertThat(applicationContext.containsBean("failoverNegativeCacheHits")).isFalse();
+        }
+
+        @Test
+        @DisplayName("single-flight lookups are off: no lookup stats are registered")
+        void singleFlightDisabledByDefault() {
+            assertThat(applicationContext.containsBean("failoverSingleFlightStats")).isFalse();
+        }
     }
 
     @Nested
@@ -441,6 +557,290 @@ class FailoverStoreAutoConfigurationTest {
         }
     }
 
+    @Nested
+    @SpringBootTest(classes = {MyTestApplication.class})
+    @TestPropertySource(properties = {"failover.store.type=jdbc", "failover.store.jdbc.table-prefix=DEAL_", "failover.store.async=false",
+            "failover.store.jdbc.batch-size=50"})
+    @DisplayName("when failover.store.jdbc.batch-size is set")
+    class WhenStoreJdbcBatchSizeConfigured {
+
+        @Autowired
+        private FailoverStore<Object> failoverStore;
+
+        @Test
+        @DisplayName("FailoverStoreJdbc should use the configured batch size")
+        void jdbcStoreShouldUseConfiguredBatchSize() {
+            DefaultFailoverStore<Object> defaultStore = cast(failoverStore);
+            FailoverStoreJdbc<Object> jdbcStore = cast(requireNonNull(defaultStore.getFailoverStore()));
+            assertThat(jdbcStore.getBatchSize()).isEqualTo(50);
+        }
+    }
+
+    @Nested
+    @SpringBootTest(classes = {MyTestApplication.class})
+    @TestPropertySource(properties = {"failover.store.type=jdbc", "failover.store.jdbc.table-prefix=DEAL_", "failover.store.async=false",
+            "failover.store.jdbc.cleanup.chunked=true", "failover.store.jdbc.cleanup.chunk-size=500",
+            "failover.store.jdbc.cleanup.pause=20ms", "failover.store.jdbc.cleanup.time-budget=30s"})
+    @DisplayName("when failover.store.jdbc.cleanup.chunked=true")
+    class WhenChunkedCleanupEnabledOnJdbc {
+
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        @Autowired
+        private FailoverStore<Object> failoverStore;
+
+        @Test
+        @DisplayName("failoverChunkedCleanup carries the configured settings and is handed to FailoverStoreJdbc")
+        void jdbcStoreCleansInChunks() {
+            ChunkedCleanup chunkedCleanup = applicationContext.getBean("failoverChunkedCleanup", ChunkedCleanup.class);
+            assertThat(chunkedCleanup.getChunkSize()).isEqualTo(500);
+            assertThat(chunkedCleanup.getPause()).isEqualTo(Duration.ofMillis(20));
+            assertThat(chunkedCleanup.getTimeBudget()).isEqualTo(Duration.ofSeconds(30));
+
+            DefaultFailoverStore<Object> defaultStore = cast(failoverStore);
+            assertThat(ReflectionTestUtils.getField(requireNonNull(defaultStore.getFailoverStore()), "chunkedCleanup"))
+                    .isSameAs(chunkedCleanup);
+        }
+
+        @Test
+        @DisplayName("binds the deleted-rows counter and the cleanup timer")
+        void bindsCleanupMeters() {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            applicationContext.getBean("failoverChunkedCleanupMeterBinder", MeterBinder.class).bindTo(registry);
+
+            assertThat(registry.find("failover.store.cleanup.deleted.total").functionCounter()).isNotNull();
+            assertThat(registry.find("failover.store.cleanup.duration").functionTimer()).isNotNull();
+        }
+    }
+
+    @Nested
+    @SpringBootTest(classes = {MyTestApplication.class})
+    @TestPropertySource(properties = {"failover.store.type=jdbc", "failover.store.jdbc.table-prefix=DEAL_", "failover.store.async=false",
+            "failover.store.fingerprint.enabled=true", "failover.store.fingerprint.max-tracked-entries=10"})
+    @DisplayName("when failover.store.fingerprint.enabled=true on the jdbc store")
+    class WhenFingerprintEnabledOnJdbc {
+
+        @Autowired
+        private FailoverStore<Object> failoverStore;
+
+        @Test
+        @DisplayName("the fingerprint stage sits between DefaultFailoverStore and FailoverStoreJdbc")
+        void fingerprintStageWrapsJdbc() {
+            DefaultFailoverStore<Object> defaultStore = cast(failoverStore);
+            assertThat(defaultStore.getFailoverStore()).isInstanceOf(FingerprintingFailoverStore.class);
+            FingerprintingFailoverStore<Object> fingerprinting = cast(defaultStore.getFailoverStore());
+            assertThat(fingerprinting.getFailoverStore()).isInstanceOf(FailoverStoreJdbc.class);
+            assertThat(ReflectionTestUtils.getField(fingerprinting, "maxTrackedEntries")).isEqualTo(10);
+        }
+    }
+
+    @Nested
+    @SpringBootTest(classes = {MyTestApplication.class})
+    @TestPropertySource(properties = {"failover.store.async=false", "failover.store.fingerprint.enabled=true"})
+    @DisplayName("when failover.store.fingerprint.enabled=true on a store without a PayloadCanonicalizer")
+    class WhenFingerprintEnabledWithoutCanonicalizer {
+
+        @Autowired
+        private FailoverStore<Object> failoverStore;
+
+        @Test
+        @DisplayName("the fingerprint stage is left out")
+        void fingerprintStageLeftOut() {
+            DefaultFailoverStore<Object> defaultStore = cast(failoverStore);
+            assertThat(defaultStore.getFailoverStore()).isInstanceOf(FailoverStoreInmemory.class);
+        }
+    }
+
+    @Nested
+    @SpringBootTest(classes = {MyTestApplication.class})
+    @TestPropertySource(properties = {"failover.store.type=jdbc", "failover.store.jdbc.table-prefix=DEAL_", "failover.store.async=false",
+            "failover.store.fingerprint.enabled=true", "failover.store.deferred-delete.enabled=true", "failover.store.deferred-delete.max-pending=50"})
+    @DisplayName("when failover.store.deferred-delete.enabled=true")
+    class WhenDeferredDeleteEnabled {
+
+        @Autowired
+        private FailoverStore<Object> failoverStore;
+
+        @Test
+        @DisplayName("the deferred delete stage sits between DefaultFailoverStore and the fingerprint stage")
+        void deferredDeleteStageWrapsFingerprinting() {
+            DefaultFailoverStore<Object> defaultStore = cast(failoverStore);
+            assertThat(defaultStore.getFailoverStore()).isInstanceOf(DeferredDeleteFailoverStore.class);
+            DeferredDeleteFailoverStore<Object> deferred = cast(defaultStore.getFailoverStore());
+            assertThat(deferred.getFailoverStore()).isInstanceOf(FingerprintingFailoverStore.class);
+            BlockingQueue<?> pending = cast(ReflectionTestUtils.getField(deferred, "pending"));
+            assertThat(pending.remainingCapacity()).isEqualTo(50);
+        }
+    }
+
+    @Nested
+    @SpringBootTest(classes = {MyTestApplication.class})
+    @TestPropertySource(properties = {"failover.store.type=jdbc", "failover.store.jdbc.table-prefix=DEAL_", "failover.store.async=false",
+            "failover.store.deferred-delete.enabled=true", "failover.store.single-flight=true"})
+    @DisplayName("when failover.store.single-flight=true")
+    class WhenSingleFlightEnabled {
+
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        @Autowired
+        private FailoverStore<Object> failoverStore;
+
+        @Test
+        @DisplayName("the single-flight stage sits right under DefaultFailoverStore, on the shared stats")
+        void singleFlightStageWrapsDeferredDelete() {
+            DefaultFailoverStore<Object> defaultStore = cast(failoverStore);
+            assertThat(defaultStore.getFailoverStore()).isInstanceOf(SingleFlightFailoverStore.class);
+            SingleFlightFailoverStore<Object> singleFlight = cast(defaultStore.getFailoverStore());
+            assertThat(singleFlight.getFailoverStore()).isInstanceOf(DeferredDeleteFailoverStore.class);
+            assertThat(singleFlight.stats()).isSameAs(applicationContext.getBean("failoverSingleFlightStats"));
+        }
+
+        @Test
+        @DisplayName("binds the lookup and shared counters and the fan-in gauge")
+        void bindsSingleFlightMeters() {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            applicationContext.getBean("failoverSingleFlightMeterBinder", MeterBinder.class).bindTo(registry);
+
+            assertThat(registry.find("failover.store.single.flight.lookups.total").functionCounter()).isNotNull();
+            assertThat(registry.find("failover.store.single.flight.shared.total").functionCounter()).isNotNull();
+            assertThat(registry.find("failover.store.single.flight.fan.in").gauge()).isNotNull();
+        }
+    }
+
+    @Nested
+    @SpringBootTest(classes = {MyTestApplication.class})
+    @TestPropertySource(properties = {"failover.store.type=jdbc", "failover.store.jdbc.table-prefix=DEAL_", "failover.store.async=false",
+            "failover.store.tiered.enabled=true", "failover.store.negative-cache.enabled=true",
+            "failover.store.negative-cache.time-to-live=250ms", "failover.store.negative-cache.max-tracked-entries=50"})
+    @DisplayName("when failover.store.negative-cache.enabled=true")
+    class WhenNegativeCacheEnabled {
+
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        @Autowired
+        private FailoverStore<Object> failoverStore;
+
+        @Test
+        @DisplayName("the negative lookup stage sits between DefaultFailoverStore and the near cache")
+        void negativeLookupStageWrapsTiered() {
+            DefaultFailoverStore<Object> defaultStore = cast(failoverStore);
+            assertThat(defaultStore.getFailoverStore()).isInstanceOf(NegativeLookupFailoverStore.class);
+            NegativeLookupFailoverStore<Object> negative = cast(defaultStore.getFailoverStore());
+            assertThat(negative.getFailoverStore()).isInstanceOf(TieredFailoverStore.class);
+            assertThat(ReflectionTestUtils.getField(negative, "timeToLiveNanos")).isEqualTo(Duration.ofMillis(250).toNanos());
+            assertThat(ReflectionTestUtils.getField(negative, "maxTrackedEntries")).isEqualTo(50);
+            assertThat(ReflectionTestUtils.getField(negative, "negativeHits"))
+                    .isSameAs(applicationContext.getBean("failoverNegativeCacheHits"));
+        }
+
+        @Test
+        @DisplayName("binds the negative lookup hit counter")
+        void bindsNegativeCacheMeter() {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            applicationContext.getBean("failoverNegativeCacheMeterBinder", MeterBinder.class).bindTo(registry);
+
+            assertThat(registry.find("failover.store.negative.hits.total").functionCounter()).isNotNull();
+        }
+    }
+
+    @Nested
+    @SpringBootTest(classes = {MyTestApplication.class})
+    @TestPropertySource(properties = {"failover.store.type=jdbc", "failover.store.jdbc.table-prefix=DEAL_", "failover.store.async=false",
+            "failover.store.deferred-delete.enabled=true", "failover.store.tiered.enabled=true", "failover.store.tiered.max-size=500",
+            "failover.store.tiered.write-behind=true", "failover.store.tiered.max-pending-writes=50"})
+    @DisplayName("when failover.store.tiered.enabled=true on the jdbc store")
+    class WhenTieredEnabledOnJdbc {
+
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        @Autowired
+        private FailoverStore<Object> failoverStore;
+
+        @Test
+        @DisplayName("the near cache sits between the deferred delete stage and FailoverStoreJdbc, in write-behind mode")
+        void tieredStageWrapsJdbc() {
+            DefaultFailoverStore<Object> defaultStore = cast(failoverStore);
+            DeferredDeleteFailoverStore<Object> deferred = cast(defaultStore.getFailoverStore());
+            assertThat(deferred.getFailoverStore()).isInstanceOf(TieredFailoverStore.class);
+            TieredFailoverStore<Object> tiered = cast(deferred.getFailoverStore());
+            assertThat(tiered.getFailoverStore()).isInstanceOf(FailoverStoreJdbc.class);
+            assertThat(ReflectionTestUtils.getField(tiered, "writeBehind")).isEqualTo(true);
+            BlockingQueue<?> pending = cast(ReflectionTestUtils.getField(tiered, "pending"));
+            assertThat(pending.remainingCapacity()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("binds the hit and miss counters, the hit ratio gauge and the failed-write counter")
+        void bindsTieredMeters() {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            applicationContext.getBean("failoverTieredMeterBinder", MeterBinder.class).bindTo(registry);
+
+            assertThat(registry.find("failover.store.tiered.hits.total").functionCounter()).isNotNull();
+            assertThat(registry.find("failover.store.tiered.misses.total").functionCounter()).isNotNull();
+            assertThat(registry.find("failover.store.tiered.hit.ratio").gauge()).isNotNull();
+            assertThat(registry.find("failover.store.tiered.write.failed.total").functionCounter()).isNotNull();
+        }
+    }
+
+    @Nested
+    @SpringBootTest(classes = {MyTestApplication.class})
+    @TestPropertySource(properties = {"failover.store.type=jdbc", "failover.store.jdbc.table-prefix=DEAL_", "failover.store.async=false",
+            "failover.store.jdbc.payload-column-type=varbinary"})
+    @DisplayName("when failover.store.jdbc.payload-column-type=varbinary")
+    class WhenBinaryPayloadColumn {
+
+        @Autowired
+        private PayloadColumnResolver payloadColumnResolver;
+
+        @Test
+        @DisplayName("the payload is bound as VARBINARY bytes")
+        void payloadColumnIsBinary() {
+            assertThat(payloadColumnResolver).isInstanceOf(BlobPayloadColumnResolver.class);
+            assertThat(payloadColumnResolver.binary()).isTrue();
+            assertThat(payloadColumnResolver.payloadType()).isEqualTo(Types.VARBINARY);
+        }
+    }
+
+    @Nested
+    @SpringBootTest(classes = {MyTestApplication.class})
+    @TestPropertySource(properties = {"failover.store.type=jdbc", "failover.store.jdbc.table-prefix=DEAL_", "failover.store.async=false",
+            "failover.store.jdbc.compression.enabled=true", "failover.store.jdbc.compression.threshold=16"})
+    @DisplayName("when failover.store.jdbc.compression.enabled=true")
+    class WhenCompressionEnabledOnJdbc {
+
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        @Autowired
+        private Serializer serializer;
+
+        @Test
+        @DisplayName("the serializer wraps payloads above the threshold in a CMP(deflate:...) envelope")
+        void serializerCompresses() {
+            String stored = serializer.serialize(Map.of("pair", "EUR/USD ".repeat(50)));
+            assertThat(stored).startsWith("CMP(deflate:");
+            assertThat(serializer.deserialize(stored, Map.class)).containsEntry("pair", "EUR/USD ".repeat(50));
+        }
+
+        @Test
+        @DisplayName("binds the byte counters, the ratio gauge and the (de)compression timers")
+        void bindsCompressionMeters() {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            applicationContext.getBean("failoverCompressionMeterBinder", MeterBinder.class).bindTo(registry);
+
+            assertThat(registry.find("failover.store.compression.bytes.in").functionCounter()).isNotNull();
+            assertThat(registry.find("failover.store.compression.bytes.out").functionCounter()).isNotNull();
+            assertThat(registry.find("failover.store.compression.skipped.total").functionCounter()).isNotNull();
+            assertThat(registry.find("failover.store.compression.ratio").gauge()).isNotNull();
+            assertThat(registry.find("failover.store.compression.duration").functionTimer()).isNotNull();
+            assertThat(registry.find("failover.store.decompression.duration").functionTimer()).isNotNull();
+        }
+    }
+
     // ── Custom overrides (ConditionalOnMissingBean) ───────────────────────────
 
     @Nested
@@ -494,6 +894,30 @@ class FailoverStoreAutoConfigurationTest {
         }
     }
 
+    @Nested
+    @DisplayName("describeChain — the logged chain lists the stages applied, outermost first")
+    class DescribeChain {
+
+        @Test
+        @DisplayName("defaults to FailoverStoreAsync(DefaultFailoverStore(raw))")
+        void defaults() {
+            assertThat(FailoverStoreAutoConfiguration.describeChain(true, false, false, false, false, false))
+                    .isEqualTo("FailoverStoreAsync(DefaultFailoverStore(raw))");
+            assertThat(FailoverStoreAutoConfiguration.describeChain(false, false, false, false, false, false))
+                    .isEqualTo("DefaultFailoverStore(raw)");
+        }
+
+        @Test
+        @DisplayName("lists every optional stage in the order perTenantChain nests them")
+        void everyStage() {
+            assertThat(FailoverStoreAutoConfiguration.describeChain(true, true, true, true, true, true))
+                    .isEqualTo("FailoverStoreAsync(DefaultFailoverStore(SingleFlightFailoverStore(DeferredDeleteFailoverStore("
+                            + "NegativeLookupFailoverStore(TieredFailoverStore(FingerprintingFailoverStore(raw)))))))");
+            assertThat(FailoverStoreAutoConfiguration.describeChain(false, false, true, false, true, false))
+                    .isEqualTo("DefaultFailoverStore(DeferredDeleteFailoverStore(TieredFailoverStore(raw)))");
+        }
+    }
+
     @Nested
     @DisplayName("mergeAllowedPayloadClasses — auto-derived exact class names + configured entries (audit I-02)")
     class MergeAllowedPayloadClasses {
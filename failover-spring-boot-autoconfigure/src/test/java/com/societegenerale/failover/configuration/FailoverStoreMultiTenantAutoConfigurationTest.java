@@ -63,6 +63,7 @@ import javax.sql.DataSource;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -409,6 +410,15 @@ class FailoverStoreMultiTenantAutoConfigurationTest {
             assertThat(factory.create("acme")).isNotSameAs(factory.create("globex"));
         }
 
+        @Test
+        @DisplayName("failoverTenantScope resolves the tenant of the calling thread, like the store does")
+        @SuppressWarnings("unchecked")
+        void tenantScopeResolvesCurrentTenant() {
+            Supplier<String> tenantScope = applicationContext.getBean("failoverTenantScope", Supplier.class);
+            withTenant("acme", () -> assertThat(tenantScope.get()).isEqualTo("acme"));
+            withTenant("globex", () -> assertThat(tenantScope.get()).isEqualTo("globex"));
+        }
+
         @Nested
         @DisplayName("cleanByExpiry")
         class CleanByExpiry {
@@ -666,6 +676,12 @@ class FailoverStoreMultiTenantAutoConfigurationTest {
             assertThat(applicationContext.getBeansOfType(TenantStoreFactory.class)).hasSize(1);
         }
 
+        @Test
+        @DisplayName("registers no failoverTenantScope")
+        void registersNoTenantScope() {
+            assertThat(applicationContext.containsBean("failoverTenantScope")).isFalse();
+        }
+
         @Test
         @DisplayName("failoverStore is NOT MultiTenantFailoverStore")
         void failoverStoreIsNotMultiTenant() {
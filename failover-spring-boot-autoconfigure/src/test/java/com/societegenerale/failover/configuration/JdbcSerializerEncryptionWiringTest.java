@@ -22,6 +22,9 @@ import com.societegenerale.failover.store.jdbc.serializer.Serializer;
 import com.societegenerale.failover.store.jdbc.serializer.cipher.AesGcmPayloadCipher;
 import com.societegenerale.failover.store.jdbc.serializer.cipher.Base64PayloadCipher;
 import com.societegenerale.failover.store.jdbc.serializer.cipher.PayloadCipher;
+import com.societegenerale.failover.store.jdbc.serializer.compression.CompressionStats;
+import com.societegenerale.failover.store.jdbc.serializer.compression.DeflatePayloadCodec;
+import com.societegenerale.failover.store.jdbc.serializer.compression.PayloadCodec;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -38,7 +41,8 @@ import static org.mockito.Mockito.when;
 /**
  * Unit test for the JDBC serializer/encryption wiring in
  * {@link FailoverStoreAutoConfiguration.JdbcStoreConfiguration#serializer}. Exercises the
- * encryption-enabled / disabled / custom-cipher / fail-fast paths without a Spring context.
+ * encryption-enabled / disabled / custom-cipher / fail-fast paths, and the compression stage under the
+ * encryption, without a Spring context.
  */
 class JdbcSerializerEncryptionWiringTest {
 
@@ -47,14 +51,23 @@ class JdbcSerializerEncryptionWiringTest {
 
     record Sample(String name, int value) {}
 
+    private final CompressionStats compressionStats = new CompressionStats();
+
     private Serializer build(FailoverProperties props, List<PayloadCipher> ciphers) {
+        return build(props, ciphers, List.of(new DeflatePayloadCodec()));
+    }
+
+    private Serializer build(FailoverProperties props, List<PayloadCipher> ciphers, List<PayloadCodec> codecs) {
         @SuppressWarnings("unchecked")
         ObjectProvider<FailoverScanner> scannerProvider = mock(ObjectProvider.class);
         when(scannerProvider.getIfAvailable()).thenReturn(null);
         @SuppressWarnings("unchecked")
         ObjectProvider<PayloadCipher> cipherProvider = mock(ObjectProvider.class);
         when(cipherProvider.orderedStream()).thenReturn(ciphers.stream());
-        return config.serializer(new ObjectMapper(), props, scannerProvider, cipherProvider);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<PayloadCodec> codecProvider = mock(ObjectProvider.class);
+        when(codecProvider.orderedStream()).thenReturn(codecs.stream());
+        return config.serializer(new ObjectMapper(), props, scannerProvider, cipherProvider, codecProvider, compressionStats);
     }
 
     private FailoverProperties props(boolean enabled, String cipherId) {
@@ -123,4 +136,56 @@ class JdbcSerializerEncryptionWiringTest {
             assertThat(recovered).isEqualTo(new Sample("acme", 1));
         }
     }
+
+    @Nested
+    @DisplayName("compression enabled")
+    class CompressionEnabled {
+
+        private FailoverProperties compressed(boolean encrypted) {
+            FailoverProperties props = props(encrypted, "b64");
+            props.getStore().getJdbc().getCompression().setEnabled(true);
+            props.getStore().getJdbc().getCompression().setThreshold(64);
+            return props;
+        }
+
+        private final Sample large = new Sample("acme-".repeat(100), 1);
+
+        @Test
+        @DisplayName("writes CMP(deflate:..) above the threshold, as is below it, and both round-trip")
+        void compressesAboveThreshold() {
+            Serializer serializer = build(compressed(false), List.of(new Base64PayloadCipher()));
+
+            String stored = serializer.serialize(large);
+            assertThat(stored).startsWith("CMP(deflate:");
+            assertThat(serializer.deserialize(stored, Sample.class)).isEqualTo(large);
+
+            String small = serializer.serialize(new Sample("a", 1));
+            assertThat(small).doesNotStartWith("CMP(").contains("\"a\"");
+            assertThat(compressionStats.compressions()).isEqualTo(1);
+            assertThat(compressionStats.skipped()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("compresses before encrypting: the ENC envelope holds the CMP envelope")
+        void compressesThenEncrypts() {
+            Serializer serializer = build(compressed(true), List.of(new Base64PayloadCipher()));
+
+            String stored = serializer.serialize(large);
+            assertThat(stored).startsWith("ENC(b64:");
+            String inner = new Base64PayloadCipher().decrypt(stored.substring("ENC(b64:".length(), stored.length() - 1));
+            assertThat(inner).startsWith("CMP(deflate:");
+            assertThat(serializer.deserialize(stored, Sample.class)).isEqualTo(large);
+        }
+
+        @Test
+        @DisplayName("fails fast when the configured codec id matches no registered bean")
+        void unknownCodecIdFailsFast() {
+            FailoverProperties props = compressed(false);
+            props.getStore().getJdbc().getCompression().setCodec("zstd");
+            assertThatThrownBy(() -> build(props, List.of(new Base64PayloadCipher())))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("zstd")
+                    .hasMessageContaining("compression.codec");
+        }
+    }
 }
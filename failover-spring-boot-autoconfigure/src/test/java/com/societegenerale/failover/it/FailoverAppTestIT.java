@@ -233,7 +233,7 @@ class FailoverAppTestIT {
         }
 
         @Test
-        @DisplayName("manually expired row — recovery returns null and removes the row from H2")
+        @DisplayName("manually expired row — recovery returns null and leaves the row to the expiry cleanup")
         void manuallyExpiredRowRecoveryReturnsNull() {
             service.fetchOne("1");
             expireAll(NAME);
@@ -242,7 +242,9 @@ class FailoverAppTestIT {
             ThirdParty recovered = service.fetchOne("1");
 
             assertThat(recovered).isNull();
-            assertThat(rowCount(NAME)).isZero(); // expired row is deleted by DefaultFailoverHandler on recovery
+            assertThat(rowCount(NAME)).isEqualTo(1); // filtered out by the store SELECT, not read back
+            failoverHandler.clean();
+            assertThat(rowCount(NAME)).isZero();
         }
 
         @Test
@@ -19,6 +19,7 @@ package com.societegenerale.failover.properties;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static com.societegenerale.failover.properties.ExceptionPolicy.RETHROW;
@@ -45,6 +46,13 @@ class FailoverPropertiesTest {
         assertThat(result) .containsEntry("type", "BASIC");
     }
 
+    @Test
+    @DisplayName("should use the MD5 UUID key mode by default")
+    void shouldUseMd5UuidKeyModeByDefault() {
+        Map<String, String> result = failoverProperties.additionalInfo();
+        assertThat(result).containsEntry("key.mode", "MD5_UUID");
+    }
+
     @Test
     @DisplayName("should have inmemory store by default")
     void shouldHaveInmemoryStoreByDefault() {
@@ -64,6 +72,35 @@ class FailoverPropertiesTest {
         assertThat(failoverProperties.getStore().getCaffeine().getMaxSize()).isEqualTo(10_000L);
     }
 
+    @Test
+    @DisplayName("should cap the Micrometer meter handle cache at 10000 handles by default")
+    void shouldHaveDefaultMeterCacheMaxSize() {
+        assertThat(failoverProperties.getObservable().getMeterCache().getMaxSize()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("should write on every success by default")
+    void shouldHaveNoMinRefreshIntervalByDefault() {
+        assertThat(failoverProperties.getStore().getMinRefreshInterval()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("should not fingerprint stored payloads by default")
+    void shouldHaveFingerprintDisabledByDefault() {
+        Fingerprint fingerprint = failoverProperties.getStore().getFingerprint();
+        assertThat(fingerprint.isEnabled()).isFalse();
+        assertThat(fingerprint.getMaxTrackedEntries()).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("should not coalesce async store writes by default")
+    void shouldHaveCoalescingDisabledByDefault() {
+        Coalescing coalescing = failoverProperties.getStore().getCoalescing();
+        assertThat(coalescing.isEnabled()).isFalse();
+        assertThat(coalescing.getFlushInterval()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(coalescing.getMaxPendingWrites()).isEqualTo(10_000);
+    }
+
     @Test
     @DisplayName("should not have any value on jdbc table prefix by default")
     void shouldNotHaveAnyValueOnTablePrefixByDefault() {
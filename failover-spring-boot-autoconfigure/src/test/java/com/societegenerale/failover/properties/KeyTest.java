@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.properties;
+
+import com.societegenerale.failover.core.key.KeyMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyTest {
+
+    private final Key key = new Key();
+
+    @Test
+    @DisplayName("defaults: MD5_UUID mode")
+    void defaults() {
+        assertThat(key.getMode()).isEqualTo(KeyMode.MD5_UUID);
+    }
+
+    @Test
+    @DisplayName("mode is settable")
+    void settable() {
+        key.setMode(KeyMode.FAST_HASH);
+
+        assertThat(key.getMode()).isEqualTo(KeyMode.FAST_HASH);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.async;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Pending writes of one {@link FailoverStoreAsync}, keyed by {@code (name, key)}, plus the flusher that
+ * applies them (see {@link WriteCoalescing}).
+ *
+ * <p>Stores and deletes share the map, so a delete replaces a pending store for the same entry (and the other
+ * way round) and the last call wins. All writes are applied by the single flusher thread, one after the
+ * other, so two flushes never race each other on the same entry.
+ *
+ * @param <T> the type of the payload
+ * @author Anand Manissery
+ */
+@Slf4j
+final class CoalescingWriteBuffer<T> implements AutoCloseable {
+
+    /** Grace period for the flusher to apply the remaining writes on {@link #close()}. */
+    private static final long SHUTDOWN_AWAIT_SECONDS = 5;
+
+    /** Identifies a stored entry. */
+    record Entry(String name, String key) {
+
+        static Entry of(ReferentialPayload<?> payload) {
+            return new Entry(payload.getName(), payload.getKey());
+        }
+    }
+
+    /**
+     * A write waiting to be flushed.
+     *
+     * @param delete    {@code true} for a delete, {@code false} for a store
+     * @param payload   the payload passed to the write
+     * @param onFailure told when a store cannot be written, bound on the thread that parked it
+     * @param <T>       the type of the payload
+     */
+    record PendingWrite<T>(boolean delete, ReferentialPayload<T> payload, Consumer<ReferentialPayload<?>> onFailure) {
+    }
+
+    private final WriteCoalescing coalescing;
+    private final Consumer<List<PendingWrite<T>>> writer;
+    private final Map<Entry, PendingWrite<T>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ExecutorService flusher;
+    private volatile boolean running = true;
+    private volatile Thread flusherThread;
+
+    /**
+     * @param coalescing flush interval, early-flush threshold and shared counters
+     * @param writer     applies the writes of one flush to the delegate store; must not throw
+     */
+    CoalescingWriteBuffer(WriteCoalescing coalescing, Consumer<List<PendingWrite<T>>> writer) {
+        this.coalescing = coalescing;
+        this.writer = writer;
+        this.flusher = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("failover-store-coalescer").factory());
+        this.flusher.execute(this::flushLoop);
+    }
+
+    /** Parks {@code write}, replacing any pending write for the same entry. Never blocks. */
+    void add(PendingWrite<T> write) {
+        if (pending.put(Entry.of(write.payload()), write) != null) {
+            coalescing.recordCoalesced();
+        } else if (pendingCount.incrementAndGet() == coalescing.getMaxPendingWrites()) {
+            LockSupport.unpark(flusherThread);
+        }
+    }
+
+    /** @return number of distinct entries waiting to be flushed */
+    int pendingCount() {
+        return pendingCount.get();
+    }
+
+    private void flushLoop() {
+        flusherThread = Thread.currentThread();
+        long intervalNanos = coalescing.getFlushInterval().toNanos();
+        while (running) {
+            // A producer that filled the buffer before this thread was known could not unpark it.
+            if (pendingCount.get() < coalescing.getMaxPendingWrites()) {
+                LockSupport.parkNanos(this, intervalNanos);
+            }
+            flush();
+        }
+        // Apply whatever is left so a clean shutdown does not lose the latest payloads.
+        flush();
+    }
+
+    /**
+     * Drains every pending write and hands them to the writer in one go, so the stores can be written as a
+     * single batch. An entry written again while the flush runs is simply picked up by the next flush, which
+     * runs on the same thread — so it can never overtake the one applied here.
+     */
+    private void flush() {
+        List<PendingWrite<T>> writes = new ArrayList<>();
+        for (Entry entry : pending.keySet()) {
+            // Only this thread removes entries, so a key seen here is still mapped.
+            writes.add(pending.remove(entry));
+            pendingCount.decrementAndGet();
+        }
+        if (!writes.isEmpty()) {
+            writer.accept(writes);
+            coalescing.recordFlushed(writes.size());
+            log.debug("Failover Store : flushed {} coalesced write(s).", writes.size());
+        }
+    }
+
+    /** Stops the flusher after applying the pending writes. Idempotent. */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(flusherThread);
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(SHUTDOWN_AWAIT_SECONDS, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -16,27 +16,34 @@
 
 package com.societegenerale.failover.store.async;
 
-import com.societegenerale.failover.core.observable.Metrics;
+import com.societegenerale.failover.core.observable.FailoverAction;
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.publisher.ObservablePublisher;
 import com.societegenerale.failover.core.payload.ReferentialPayload;
 import com.societegenerale.failover.core.store.FailoverStore;
+import com.societegenerale.failover.core.store.FailoverStoreBatchException;
 import com.societegenerale.failover.core.store.FailoverStoreException;
 import com.societegenerale.failover.core.store.FailoverStoreSizeAware;
+import com.societegenerale.failover.core.store.WriteFailureListener;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.task.TaskExecutor;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
-import static com.societegenerale.failover.core.util.CommonsUtil.canonicalTypeOf;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
- * {@link FailoverStore} decorator that offloads write operations ({@link #store},
+ * {@link FailoverStore} decorator that offloads write operations ({@link #store}, {@link #storeAll},
  * {@link #delete}, {@link #cleanByExpiry}) to a {@link TaskExecutor}, keeping the calling
- * thread unblocked. {@link #find} remains synchronous because the caller needs the result.
+ * thread unblocked. {@link #find(String, String)} remains synchronous because the caller needs the result.
  *
  * <h2>Threading contract</h2>
  * <p>Each write method captures only the method arguments in its executor lambda — never any
@@ -58,14 +65,31 @@ import static com.societegenerale.failover.core.util.CommonsUtil.canonicalTypeOf
  * factory (e.g. one per tenant in multitenant mode) — unlike Spring's {@code @Async} annotation,
  * which silently degrades to synchronous execution for non-Spring-managed instances.
  *
+ * <h2>Write coalescing</h2>
+ * <p>When built with a {@link WriteCoalescing}, {@link #store} and {@link #delete} no longer submit one task
+ * per call: the write is parked per {@code (name, key)}, replacing the previous unflushed write for the same
+ * entry, and a dedicated flusher thread applies the latest write of each entry on every flush, the stores as a
+ * single {@link FailoverStore#storeAll} batch. The executor
+ * then only runs {@link #cleanByExpiry}. {@link #close()} flushes what is still pending.
+ *
+ * <h2>Write failures</h2>
+ * <p>A failed write is logged and reported to the {@link ObservablePublisher}; the caller has already returned.
+ * A {@link WriteFailureListener} (the handler's refresh throttle) is bound on the calling thread when a store is
+ * accepted, and told about each payload of it that could not be written — rejected by the executor, or failed
+ * inside it — so the next successful call writes the entry again.
+ *
  * @param <T> the type of the payload
  * @author Anand Manissery
  */
 @Slf4j
-public class FailoverStoreAsync<T> implements FailoverStore<T>, FailoverStoreSizeAware {
+public class FailoverStoreAsync<T> implements FailoverStore<T>, FailoverStoreSizeAware, AutoCloseable {
 
     /** Metric action tag value published when an async store operation fails inside the executor. */
-    static final String ASYNC_FAILED_ACTION = "store-async-failed";
+    static final String ASYNC_FAILED_ACTION = FailoverAction.STORE_ASYNC_FAILED.tag();
+
+    /** Callback of the writes whose failure nobody is told about (deletes). */
+    private static final Consumer<ReferentialPayload<?>> IGNORE_FAILURE = failed -> {
+    };
 
     @Getter
     private final FailoverStore<T> failoverStore;
@@ -76,6 +100,13 @@ public class FailoverStoreAsync<T> implements FailoverStore<T>, FailoverStoreSiz
     @Nullable
     private final ObservablePublisher observablePublisher;
 
+    /** Told about the stores that could not be written. */
+    private final WriteFailureListener writeFailureListener;
+
+    /** Pending coalesced writes; {@code null} when every write is submitted to the executor on its own. */
+    @Nullable
+    private final CoalescingWriteBuffer<T> coalescer;
+
     /**
      * Creates an async decorator that only logs failures (no metric emission).
      *
@@ -94,52 +125,212 @@ public class FailoverStoreAsync<T> implements FailoverStore<T>, FailoverStoreSiz
      * @param observablePublisher sink notified on async failure; {@code null} disables metric emission
      */
     public FailoverStoreAsync(FailoverStore<T> failoverStore, TaskExecutor executor, @Nullable ObservablePublisher observablePublisher) {
+        this(failoverStore, executor, observablePublisher, null);
+    }
+
+    /**
+     * Creates an async decorator that coalesces {@link #store} and {@link #delete} calls per {@code (name, key)}.
+     *
+     * @param failoverStore       the delegate store
+     * @param executor            the executor that runs {@link #cleanByExpiry} (and every write when not coalescing)
+     * @param observablePublisher sink notified on async failure; {@code null} disables metric emission
+     * @param coalescing          write-coalescing settings; {@code null} submits every write on its own
+     */
+    public FailoverStoreAsync(FailoverStore<T> failoverStore, TaskExecutor executor, @Nullable ObservablePublisher observablePublisher,
+                              @Nullable WriteCoalescing coalescing) {
+        this(failoverStore, executor, observablePublisher, coalescing, WriteFailureListener.NONE);
+    }
+
+    /**
+     * Creates an async decorator that also tells {@code writeFailureListener} about the stores it could not write.
+     *
+     * @param failoverStore        the delegate store
+     * @param executor             the executor that runs {@link #cleanByExpiry} (and every write when not coalescing)
+     * @param observablePublisher  sink notified on async failure; {@code null} disables metric emission
+     * @param coalescing           write-coalescing settings; {@code null} submits every write on its own
+     * @param writeFailureListener bound on the calling thread of each store, told when it could not be written
+     */
+    public FailoverStoreAsync(FailoverStore<T> failoverStore, TaskExecutor executor, @Nullable ObservablePublisher observablePublisher,
+                              @Nullable WriteCoalescing coalescing, WriteFailureListener writeFailureListener) {
         this.failoverStore = failoverStore;
         this.executor = executor;
         this.observablePublisher = observablePublisher;
+        this.writeFailureListener = writeFailureListener;
+        this.coalescer = coalescing == null ? null : new CoalescingWriteBuffer<>(coalescing, this::apply);
     }
 
     /**
-     * Submits the store operation to the executor.
+     * Submits the store operation to the executor, or parks it for the next flush when coalescing.
      *
      * <p>{@code referentialPayload} is captured by reference in the lambda — safe because
      * {@link ReferentialPayload} is treated as immutable after being passed here.
-     * No {@code ThreadLocal} values are read inside the lambda.
+     * No {@code ThreadLocal} values are read inside the lambda: the failure listener is bound before it.
      */
     @Override
     public void store(ReferentialPayload<T> referentialPayload) {
-        submit("store", referentialPayload.getName(), () -> {
+        Consumer<ReferentialPayload<?>> onFailure = writeFailureListener.bind();
+        if (coalescer != null) {
+            coalescer.add(new CoalescingWriteBuffer.PendingWrite<>(false, referentialPayload, onFailure));
+            return;
+        }
+        if (!submit("store", referentialPayload.getName(), () -> doStore(referentialPayload, onFailure))) {
+            onFailure.accept(referentialPayload);
+        }
+    }
+
+    private void doStore(ReferentialPayload<T> referentialPayload, Consumer<ReferentialPayload<?>> onFailure) {
+        try {
+            log.debug("Failover Store : Async store executing for '{}'. ReferentialPayload : {{}}",
+                    referentialPayload.getName(), referentialPayload);
+            failoverStore.store(referentialPayload);
+        } catch (Exception e) {
+            log.error("Failover Store : Async store failed for '{}'. Failover data not persisted. Cause: {}",
+                    referentialPayload.getName(), e.getMessage(), e);
+            emitFailure("store", referentialPayload.getName(), e);
+            onFailure.accept(referentialPayload);
+        }
+    }
+
+    /**
+     * Submits the whole batch to the executor as one task, so the delegate can write it in a single round trip.
+     * When coalescing, each payload is parked on its own instead, replacing any unflushed write of the same entry.
+     * No {@code ThreadLocal} values are read inside the lambda: the failure listener is bound before it.
+     */
+    @Override
+    public void storeAll(List<ReferentialPayload<T>> referentialPayloads) {
+        if (referentialPayloads.isEmpty()) {
+            return;
+        }
+        Consumer<ReferentialPayload<?>> onFailure = writeFailureListener.bind();
+        if (coalescer != null) {
+            referentialPayloads.forEach(p -> coalescer.add(new CoalescingWriteBuffer.PendingWrite<>(false, p, onFailure)));
+            return;
+        }
+        List<ReferentialPayload<T>> batch = List.copyOf(referentialPayloads);
+        if (!submit("storeAll", batch.getFirst().getName(), () -> doStoreAll(batch, onFailure))) {
+            batch.forEach(onFailure);
+        }
+    }
+
+    /**
+     * Writes the batch through the delegate's {@link FailoverStore#storeAll}. When only some payloads fail, each of
+     * them is reported as a failed {@code store}; any other failure is reported once for the whole batch. Either
+     * way, {@code onFailure} is told about every payload not written.
+     */
+    private void doStoreAll(List<ReferentialPayload<T>> batch, Consumer<ReferentialPayload<?>> onFailure) {
+        String name = batch.getFirst().getName();
+        try {
+            log.debug("Failover Store : Async storeAll executing for '{}' ({} payloads)", name, batch.size());
+            failoverStore.storeAll(batch);
+        } catch (FailoverStoreBatchException e) {
+            for (ReferentialPayload<?> failed : e.getFailedPayloads()) {
+                log.error("Failover Store : Async store of batch failed for '{}' key '{}'. Cause: {}",
+                        failed.getName(), failed.getKey(), e.getMessage(), e);
+                emitFailure("store", failed.getName(), e);
+                onFailure.accept(failed);
+            }
+        } catch (Exception e) {
+            log.error("Failover Store : Async storeAll failed for '{}'. {} payloads not persisted. Cause: {}",
+                    name, batch.size(), e.getMessage(), e);
+            emitFailure("storeAll", name, e);
+            batch.forEach(onFailure);
+        }
+    }
+
+    /**
+     * Submits the touch operation to the executor. When coalescing it is parked as a full store instead: a
+     * pending store of the same entry it replaces may not have been written yet.
+     * No {@code ThreadLocal} values are read inside the lambda: the failure listener is bound before it.
+     */
+    @Override
+    public void touch(ReferentialPayload<T> referentialPayload, Instant writtenExpireOn) {
+        Consumer<ReferentialPayload<?>> onFailure = writeFailureListener.bind();
+        if (coalescer != null) {
+            coalescer.add(new CoalescingWriteBuffer.PendingWrite<>(false, referentialPayload, onFailure));
+            return;
+        }
+        boolean submitted = submit("touch", referentialPayload.getName(), () -> {
             try {
-                log.debug("Failover Store : Async store executing for '{}'. ReferentialPayload : {{}}",
-                        referentialPayload.getName(), referentialPayload);
-                failoverStore.store(referentialPayload);
+                failoverStore.touch(referentialPayload, writtenExpireOn);
             } catch (Exception e) {
-                log.error("Failover Store : Async store failed for '{}'. Failover data not persisted. Cause: {}",
+                log.error("Failover Store : Async touch failed for '{}'. Cause: {}",
                         referentialPayload.getName(), e.getMessage(), e);
-                emitFailure("store", referentialPayload.getName(), e);
+                emitFailure("touch", referentialPayload.getName(), e);
+                onFailure.accept(referentialPayload);
             }
         });
+        if (!submitted) {
+            onFailure.accept(referentialPayload);
+        }
     }
 
     /**
-     * Submits the delete operation to the executor.
+     * Submits the delete operation to the executor, or parks it for the next flush when coalescing.
      * No {@code ThreadLocal} values are read inside the lambda.
      */
     @Override
     public void delete(ReferentialPayload<T> referentialPayload) {
-        submit("delete", referentialPayload.getName(), () -> {
+        if (coalescer != null) {
+            coalescer.add(new CoalescingWriteBuffer.PendingWrite<>(true, referentialPayload, IGNORE_FAILURE));
+            return;
+        }
+        submit("delete", referentialPayload.getName(), () -> doDelete(referentialPayload));
+    }
+
+    /**
+     * Submits the conditional delete of the expired entries to the executor as one task. It is never parked with
+     * the coalesced writes: it must not replace a pending store of the same entry, and it keeps an entry that such
+     * a store has rewritten by the time it runs. No {@code ThreadLocal} values are read inside the lambda.
+     */
+    @Override
+    public void deleteExpired(List<ReferentialPayload<T>> referentialPayloads) {
+        if (referentialPayloads.isEmpty()) {
+            return;
+        }
+        String name = referentialPayloads.getFirst().getName();
+        submit("deleteExpired", name, () -> {
             try {
-                log.debug("Failover Store : Async delete executing for '{}'. ReferentialPayload : {{}}",
-                        referentialPayload.getName(), referentialPayload);
-                failoverStore.delete(referentialPayload);
+                failoverStore.deleteExpired(referentialPayloads);
             } catch (Exception e) {
-                log.error("Failover Store : Async delete failed for '{}'. Cause: {}",
-                        referentialPayload.getName(), e.getMessage(), e);
-                emitFailure("delete", referentialPayload.getName(), e);
+                log.error("Failover Store : Async deleteExpired failed for '{}'. Cause: {}", name, e.getMessage(), e);
+                emitFailure("deleteExpired", name, e);
             }
         });
     }
 
+    private void doDelete(ReferentialPayload<T> referentialPayload) {
+        try {
+            log.debug("Failover Store : Async delete executing for '{}'. ReferentialPayload : {{}}",
+                    referentialPayload.getName(), referentialPayload);
+            failoverStore.delete(referentialPayload);
+        } catch (Exception e) {
+            log.error("Failover Store : Async delete failed for '{}'. Cause: {}",
+                    referentialPayload.getName(), e.getMessage(), e);
+            emitFailure("delete", referentialPayload.getName(), e);
+        }
+    }
+
+    /**
+     * Applies the writes of one flush on the flusher thread: deletes one by one, stores as a single
+     * {@link FailoverStore#storeAll} batch so the delegate can write them in one round trip. A store that fails is
+     * reported to the callback bound when it was parked — there is a single pending write per entry.
+     */
+    private void apply(List<CoalescingWriteBuffer.PendingWrite<T>> writes) {
+        List<ReferentialPayload<T>> stores = new ArrayList<>(writes.size());
+        Map<CoalescingWriteBuffer.Entry, Consumer<ReferentialPayload<?>>> onFailure = new HashMap<>();
+        for (CoalescingWriteBuffer.PendingWrite<T> write : writes) {
+            if (write.delete()) {
+                doDelete(write.payload());
+            } else {
+                stores.add(write.payload());
+                onFailure.put(CoalescingWriteBuffer.Entry.of(write.payload()), write.onFailure());
+            }
+        }
+        if (!stores.isEmpty()) {
+            doStoreAll(stores, failed -> onFailure.getOrDefault(CoalescingWriteBuffer.Entry.of(failed), IGNORE_FAILURE).accept(failed));
+        }
+    }
+
     /**
      * Executes find synchronously on the calling thread — the result is needed immediately.
      * No thread boundary is crossed.
@@ -149,9 +340,17 @@ public class FailoverStoreAsync<T> implements FailoverStore<T>, FailoverStoreSiz
         return failoverStore.find(name, key);
     }
 
+    /**
+     * Executes the cutoff-aware find synchronously on the calling thread (same rationale as {@link #find(String, String)}).
+     */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key, Instant expiredBefore) {
+        return failoverStore.find(name, key, expiredBefore);
+    }
+
     /**
      * Executes findAll synchronously on the calling thread — the result is needed immediately,
-     * so no executor boundary is crossed (same rationale as {@link #find}).
+     * so no executor boundary is crossed (same rationale as {@link #find(String, String)}).
      *
      * @param name the referential name
      * @return all matching payloads, or an empty list if none exist
@@ -161,6 +360,45 @@ public class FailoverStoreAsync<T> implements FailoverStore<T>, FailoverStoreSiz
         return failoverStore.findAll(name);
     }
 
+    /**
+     * Streams on the calling thread — the caller consumes the entries right away, so no executor boundary
+     * is crossed (same rationale as {@link #find(String, String)}).
+     *
+     * @param name          the referential name
+     * @param expiredBefore entries expiring before this instant may come without their payload
+     * @return the delegate's stream of matching payloads
+     */
+    @Override
+    public Stream<ReferentialPayload<T>> streamAll(String name, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.streamAll(name, expiredBefore);
+    }
+
+    /**
+     * Executes the keyed findAll synchronously on the calling thread (same rationale as {@link #find(String, String)}).
+     *
+     * @param name the referential name
+     * @param keys the keys to look up
+     * @return the payloads found, or an empty list if none
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys) throws FailoverStoreException {
+        return failoverStore.findAll(name, keys);
+    }
+
+    /**
+     * Executes the cutoff-aware keyed findAll synchronously on the calling thread (same rationale as
+     * {@link #find(String, String)}).
+     *
+     * @param name          the referential name
+     * @param keys          the keys to look up
+     * @param expiredBefore entries expiring before this instant are left out
+     * @return the unexpired payloads found, or an empty list if none
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.findAll(name, keys, expiredBefore);
+    }
+
     /**
      * Submits the cleanup operation to the executor.
      * No {@code ThreadLocal} values are read inside the lambda.
@@ -193,14 +431,17 @@ public class FailoverStoreAsync<T> implements FailoverStore<T>, FailoverStoreSiz
      * @param operation the write operation name, used as the metric's {@code async-operation} tag
      * @param name      the referential name (may be empty for {@code cleanByExpiry})
      * @param task      the write task to run on the executor
+     * @return {@code false} when the executor rejected the task
      */
-    private void submit(String operation, String name, Runnable task) {
+    private boolean submit(String operation, String name, Runnable task) {
         try {
             executor.execute(task);
+            return true;
         } catch (RuntimeException rejected) {
             log.error("Failover Store : Async '{}' rejected at submit time for '{}' (executor saturated or shutting down). "
                     + "Failover data not persisted. Cause: {}", operation, name, rejected.getMessage(), rejected);
             emitFailure(operation, name, rejected);
+            return false;
         }
     }
 
@@ -216,6 +457,19 @@ public class FailoverStoreAsync<T> implements FailoverStore<T>, FailoverStoreSiz
         return failoverStore instanceof FailoverStoreSizeAware sizeAware && sizeAware.liveEntryCountSupported();
     }
 
+    /** Number of distinct entries waiting for the next coalesced flush; always {@code 0} when not coalescing. */
+    public int pendingWrites() {
+        return coalescer == null ? 0 : coalescer.pendingCount();
+    }
+
+    /** Flushes the pending coalesced writes and stops the flusher; a no-op when not coalescing. Idempotent. */
+    @Override
+    public void close() {
+        if (coalescer != null) {
+            coalescer.close();
+        }
+    }
+
     /**
      * Reports an executor-side failure to the {@link ObservablePublisher} (when configured) so a
      * silently-degraded async store layer is visible as a metric, not only in logs. Publishing must
@@ -226,10 +480,7 @@ public class FailoverStoreAsync<T> implements FailoverStore<T>, FailoverStoreSiz
             return;
         }
         try {
-            observablePublisher.publish(Metrics.of(name)
-                    .collect("action", ASYNC_FAILED_ACTION)
-                    .collect("async-operation", operation)
-                    .collect("exception-type", canonicalTypeOf(cause)));
+            observablePublisher.publish(FailoverEvent.storeAsyncFailed(name, operation, cause));
         } catch (Exception publishError) {
             log.debug("Failover Store : failed to publish async-failure metric for operation '{}'. Cause: {}", operation, publishError.getMessage(), publishError);
         }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.async;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-coalescing settings for {@link FailoverStoreAsync}, shared by every store instance built from the
+ * same configuration (one per tenant in multi-tenant mode) so its counters cover them all.
+ *
+ * <p>With coalescing on, a write is not handed to the executor straight away: it is parked in a map keyed by
+ * {@code (name, key)} where a later write for the same entry replaces the earlier, not-yet-flushed one. A
+ * flusher drains the map every {@code flushInterval}, or as soon as {@code maxPendingWrites} distinct
+ * entries are waiting. A hot referential called hundreds of times a second therefore costs one store write
+ * per interval instead of one per call — the store only keeps the latest payload anyway.
+ *
+ * @author Anand Manissery
+ */
+public class WriteCoalescing {
+
+    /** Longest a write waits before it is flushed. */
+    @Getter
+    private final Duration flushInterval;
+
+    /** Number of distinct pending entries that triggers an early flush. */
+    @Getter
+    private final int maxPendingWrites;
+
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+
+    /**
+     * @param flushInterval    longest a write waits before it is flushed; must be positive
+     * @param maxPendingWrites number of distinct pending entries that triggers an early flush; must be {@code > 0}
+     */
+    public WriteCoalescing(Duration flushInterval, int maxPendingWrites) {
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("flushInterval must be positive, but was " + flushInterval);
+        }
+        if (maxPendingWrites <= 0) {
+            throw new IllegalArgumentException("maxPendingWrites must be > 0, but was " + maxPendingWrites);
+        }
+        this.flushInterval = flushInterval;
+        this.maxPendingWrites = maxPendingWrites;
+    }
+
+    /** @return writes replaced by a later write for the same entry before they were flushed */
+    public long coalescedWrites() {
+        return coalesced.sum();
+    }
+
+    /** @return writes applied to the delegate store by a flush */
+    public long flushedWrites() {
+        return flushed.sum();
+    }
+
+    void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    void recordFlushed(int count) {
+        flushed.add(count);
+    }
+}
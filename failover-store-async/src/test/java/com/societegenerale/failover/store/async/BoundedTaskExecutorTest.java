@@ -122,10 +122,15 @@ class BoundedTaskExecutorTest {
     @Test
     @DisplayName("permit is released once a task completes — capacity is reusable")
     void releasesPermitAfterCompletion() throws InterruptedException {
-        var executor = new BoundedTaskExecutor(delegate, 1, RejectionPolicy.ABORT, "x");
-
+        // counts down once the bounded wrapper — task and permit release — has returned
         var firstDone = new CountDownLatch(1);
-        executor.execute(firstDone::countDown);
+        TaskExecutor signalling = task -> delegate.execute(() -> {
+            task.run();
+            firstDone.countDown();
+        });
+        var executor = new BoundedTaskExecutor(signalling, 1, RejectionPolicy.ABORT, "x");
+
+        executor.execute(() -> { });
         assertThat(firstDone.await(2, TimeUnit.SECONDS)).isTrue();
 
         var secondDone = new CountDownLatch(1);
@@ -16,10 +16,14 @@
 
 package com.societegenerale.failover.store.async;
 
-import com.societegenerale.failover.core.observable.Metrics;
+import com.societegenerale.failover.annotations.Failover;
+import com.societegenerale.failover.core.observable.FailoverEvent;
 import com.societegenerale.failover.core.observable.publisher.ObservablePublisher;
 import com.societegenerale.failover.core.payload.ReferentialPayload;
 import com.societegenerale.failover.core.store.FailoverStore;
+import com.societegenerale.failover.core.store.FailoverStoreBatchException;
+import com.societegenerale.failover.core.store.RefreshThrottle;
+import com.societegenerale.failover.core.store.WriteFailureListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,20 +35,36 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
  * @author Anand Manissery
@@ -82,6 +102,57 @@ class FailoverStoreAsyncTest {
         verify(failoverStore).delete(referentialPayload);
     }
 
+    @Test
+    @DisplayName("should delegate touch to the inner store via the executor")
+    void shouldCallTouch() {
+        Instant writtenExpireOn = Instant.parse("2026-01-01T00:00:00Z");
+        failoverStoreAsync.touch(referentialPayload, writtenExpireOn);
+        verify(failoverStore).touch(referentialPayload, writtenExpireOn);
+    }
+
+    @Test
+    @DisplayName("should delegate storeAll to the inner store as one executor task, and skip an empty batch")
+    void shouldCallStoreAll() {
+        given(referentialPayload.getName()).willReturn("country");
+
+        failoverStoreAsync.storeAll(List.of(referentialPayload));
+        failoverStoreAsync.storeAll(List.of());
+
+        verify(failoverStore).storeAll(List.of(referentialPayload));
+        verifyNoMoreInteractions(failoverStore);
+    }
+
+    @Test
+    @DisplayName("should run findAll by keys synchronously on the inner store")
+    void shouldCallFindAllByKeys() {
+        given(failoverStore.findAll("country", List.of("FR"))).willReturn(List.of(referentialPayload));
+
+        assertThat(failoverStoreAsync.findAll("country", List.of("FR"))).containsExactly(referentialPayload);
+    }
+
+    @Test
+    @DisplayName("should delegate deleteExpired to the inner store as one executor task, and skip an empty list")
+    void shouldCallDeleteExpired() {
+        given(referentialPayload.getName()).willReturn("country");
+
+        failoverStoreAsync.deleteExpired(List.of(referentialPayload));
+        failoverStoreAsync.deleteExpired(List.of());
+
+        verify(failoverStore).deleteExpired(List.of(referentialPayload));
+        verifyNoMoreInteractions(failoverStore);
+    }
+
+    @Test
+    @DisplayName("should run find and findAll by keys with a cutoff synchronously on the inner store")
+    void shouldCallFindWithCutoff() {
+        Instant cutoff = Instant.parse("2026-01-01T00:00:00Z");
+        given(failoverStore.find("country", "FR", cutoff)).willReturn(Optional.of(referentialPayload));
+        given(failoverStore.findAll("country", List.of("FR"), cutoff)).willReturn(List.of(referentialPayload));
+
+        assertThat(failoverStoreAsync.find("country", "FR", cutoff)).contains(referentialPayload);
+        assertThat(failoverStoreAsync.findAll("country", List.of("FR"), cutoff)).containsExactly(referentialPayload);
+    }
+
     @Test
     @DisplayName("liveEntryCount: 0 and unsupported when the delegate is not size-aware")
     void liveEntryCountUnsupportedForPlainDelegate() {
@@ -238,15 +309,28 @@ class FailoverStoreAsyncTest {
 
             failoverStoreAsyncWithPublisher.store(referentialPayload);
 
-            ArgumentCaptor<Metrics> captor = ArgumentCaptor.forClass(Metrics.class);
+            ArgumentCaptor<FailoverEvent> captor = ArgumentCaptor.forClass(FailoverEvent.class);
             verify(observablePublisher).publish(captor.capture());
-            Map<String, String> info = captor.getValue().getInfo();
+            Map<String, String> info = captor.getValue().toMetrics().getInfo();
             assertThat(info).containsEntry("failover-action", "store-async-failed");
             assertThat(info).containsEntry("failover-async-operation", "store");
             assertThat(info).containsEntry("failover-name", "country");
             assertThat(info).containsEntry("failover-exception-type", "java.lang.RuntimeException");
         }
 
+        @Test
+        @DisplayName("deleteExpired() failure publishes a store-async-failed metric for the deleteExpired operation")
+        void deleteExpiredFailurePublishesMetric() {
+            given(referentialPayload.getName()).willReturn("country");
+            doThrow(new RuntimeException("DB unavailable")).when(failoverStore).deleteExpired(List.of(referentialPayload));
+
+            failoverStoreAsyncWithPublisher.deleteExpired(List.of(referentialPayload));
+
+            ArgumentCaptor<FailoverEvent> captor = ArgumentCaptor.forClass(FailoverEvent.class);
+            verify(observablePublisher).publish(captor.capture());
+            assertThat(captor.getValue().toMetrics().getInfo()).containsEntry("failover-async-operation", "deleteExpired");
+        }
+
         @Test
         @DisplayName("delete() failure publishes a store-async-failed metric for the delete operation")
         void deleteFailurePublishesMetric() {
@@ -255,9 +339,50 @@ class FailoverStoreAsyncTest {
 
             failoverStoreAsyncWithPublisher.delete(referentialPayload);
 
-            ArgumentCaptor<Metrics> captor = ArgumentCaptor.forClass(Metrics.class);
+            ArgumentCaptor<FailoverEvent> captor = ArgumentCaptor.forClass(FailoverEvent.class);
+            verify(observablePublisher).publish(captor.capture());
+            assertThat(captor.getValue().toMetrics().getInfo()).containsEntry("failover-async-operation", "delete");
+        }
+
+        @Test
+        @DisplayName("touch() failure publishes a store-async-failed metric for the touch operation")
+        void touchFailurePublishesMetric() {
+            given(referentialPayload.getName()).willReturn("country");
+            doThrow(new RuntimeException("DB unavailable")).when(failoverStore).touch(eq(referentialPayload), any());
+
+            failoverStoreAsyncWithPublisher.touch(referentialPayload, Instant.now());
+
+            ArgumentCaptor<FailoverEvent> captor = ArgumentCaptor.forClass(FailoverEvent.class);
             verify(observablePublisher).publish(captor.capture());
-            assertThat(captor.getValue().getInfo()).containsEntry("failover-async-operation", "delete");
+            assertThat(captor.getValue().toMetrics().getInfo()).containsEntry("failover-async-operation", "touch");
+        }
+
+        @Test
+        @DisplayName("storeAll() failure publishes a store-async-failed metric for the storeAll operation")
+        void storeAllFailurePublishesMetric() {
+            given(referentialPayload.getName()).willReturn("country");
+            doThrow(new RuntimeException("DB unavailable")).when(failoverStore).storeAll(any());
+
+            failoverStoreAsyncWithPublisher.storeAll(List.of(referentialPayload));
+
+            ArgumentCaptor<FailoverEvent> captor = ArgumentCaptor.forClass(FailoverEvent.class);
+            verify(observablePublisher).publish(captor.capture());
+            assertThat(captor.getValue().toMetrics().getInfo()).containsEntry("failover-async-operation", "storeAll");
+        }
+
+        @Test
+        @DisplayName("storeAll() partial failure publishes a store-async-failed metric per failed payload")
+        void storeAllPartialFailurePublishesMetricPerPayload() {
+            ReferentialPayload<String> fr = new ReferentialPayload<>("country", "FR", true, Instant.EPOCH, Instant.MAX, "France");
+            ReferentialPayload<String> de = new ReferentialPayload<>("country", "DE", true, Instant.EPOCH, Instant.MAX, "Germany");
+            doThrow(new FailoverStoreBatchException(List.of(fr, de), new RuntimeException("row rejected"))).when(failoverStore).storeAll(any());
+
+            failoverStoreAsyncWithPublisher.storeAll(List.of(fr, de));
+
+            ArgumentCaptor<FailoverEvent> captor = ArgumentCaptor.forClass(FailoverEvent.class);
+            verify(observablePublisher, times(2)).publish(captor.capture());
+            assertThat(captor.getAllValues()).allSatisfy(event ->
+                    assertThat(event.toMetrics().getInfo()).containsEntry("failover-async-operation", "store"));
         }
 
         @Test
@@ -268,9 +393,9 @@ class FailoverStoreAsyncTest {
 
             failoverStoreAsyncWithPublisher.cleanByExpiry(now);
 
-            ArgumentCaptor<Metrics> captor = ArgumentCaptor.forClass(Metrics.class);
+            ArgumentCaptor<FailoverEvent> captor = ArgumentCaptor.forClass(FailoverEvent.class);
             verify(observablePublisher).publish(captor.capture());
-            assertThat(captor.getValue().getInfo()).containsEntry("failover-async-operation", "cleanByExpiry");
+            assertThat(captor.getValue().toMetrics().getInfo()).containsEntry("failover-async-operation", "cleanByExpiry");
         }
 
         @Test
@@ -284,7 +409,7 @@ class FailoverStoreAsyncTest {
         @DisplayName("a publisher that itself throws does not break the swallow contract")
         void publisherFailureIsSwallowed() {
             doThrow(new RuntimeException("DB unavailable")).when(failoverStore).store(referentialPayload);
-            doThrow(new RuntimeException("publisher down")).when(observablePublisher).publish(org.mockito.ArgumentMatchers.any());
+            doThrow(new RuntimeException("publisher down")).when(observablePublisher).publish(org.mockito.ArgumentMatchers.any(FailoverEvent.class));
             assertThatNoException().isThrownBy(() -> failoverStoreAsyncWithPublisher.store(referentialPayload));
         }
 
@@ -298,9 +423,9 @@ class FailoverStoreAsyncTest {
 
             async.store(referentialPayload);
 
-            ArgumentCaptor<Metrics> captor = ArgumentCaptor.forClass(Metrics.class);
+            ArgumentCaptor<FailoverEvent> captor = ArgumentCaptor.forClass(FailoverEvent.class);
             verify(observablePublisher).publish(captor.capture());
-            Map<String, String> info = captor.getValue().getInfo();
+            Map<String, String> info = captor.getValue().toMetrics().getInfo();
             assertThat(info).containsEntry("failover-action", "store-async-failed");
             assertThat(info).containsEntry("failover-async-operation", "store");
             assertThat(info).containsEntry("failover-name", "country");
@@ -317,9 +442,9 @@ class FailoverStoreAsyncTest {
 
             async.delete(referentialPayload);
 
-            ArgumentCaptor<Metrics> captor = ArgumentCaptor.forClass(Metrics.class);
+            ArgumentCaptor<FailoverEvent> captor = ArgumentCaptor.forClass(FailoverEvent.class);
             verify(observablePublisher).publish(captor.capture());
-            assertThat(captor.getValue().getInfo()).containsEntry("failover-async-operation", "delete");
+            assertThat(captor.getValue().toMetrics().getInfo()).containsEntry("failover-async-operation", "delete");
         }
 
         @Test
@@ -329,9 +454,9 @@ class FailoverStoreAsyncTest {
 
             async.cleanByExpiry(Instant.now());
 
-            ArgumentCaptor<Metrics> captor = ArgumentCaptor.forClass(Metrics.class);
+            ArgumentCaptor<FailoverEvent> captor = ArgumentCaptor.forClass(FailoverEvent.class);
             verify(observablePublisher).publish(captor.capture());
-            assertThat(captor.getValue().getInfo()).containsEntry("failover-async-operation", "cleanByExpiry");
+            assertThat(captor.getValue().toMetrics().getInfo()).containsEntry("failover-async-operation", "cleanByExpiry");
         }
 
         @Test
@@ -402,4 +527,307 @@ class FailoverStoreAsyncTest {
         assertThat(result).isSameAs(payloads);
         verify(failoverStore).findAll("name");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("streamAll() delegates synchronously to the inner store — not via executor")
+    void streamAllDelegatesSynchronouslyToInnerStore() {
+        Stream<ReferentialPayload<String>> payloads = Stream.empty();
+        Instant cutoff = Instant.now();
+        given(failoverStore.streamAll("name", cutoff)).willReturn(payloads);
+
+        Stream<ReferentialPayload<String>> result = failoverStoreAsync.streamAll("name", cutoff);
+
+        assertThat(result).isSameAs(payloads);
+        verify(failoverStore).streamAll("name", cutoff);
+    }
+
+    @Nested
+    @DisplayName("write coalescing")
+    class Coalescing {
+
+        @Mock
+        private TaskExecutor executor;
+
+        @Mock
+        private ObservablePublisher observablePublisher;
+
+        private static ReferentialPayload<String> payload(String key, String value) {
+            return new ReferentialPayload<>("country", key, true, Instant.EPOCH, Instant.MAX, value);
+        }
+
+        @BeforeEach
+        void setUp() {
+            // Flushed stores go through storeAll, whose default writes each payload through store().
+            lenient().doCallRealMethod().when(failoverStore).storeAll(anyList());
+        }
+
+        @Test
+        @DisplayName("keeps only the latest write per (name, key) and flushes it without the executor")
+        void latestWriteWins() {
+            WriteCoalescing coalescing = new WriteCoalescing(Duration.ofHours(1), 100);
+            ReferentialPayload<String> latest = payload("FR", "v3");
+            try (FailoverStoreAsync<String> async = new FailoverStoreAsync<>(failoverStore, executor, observablePublisher, coalescing)) {
+                async.store(payload("FR", "v1"));
+                async.store(payload("FR", "v2"));
+                async.store(latest);
+                assertThat(async.pendingWrites()).isEqualTo(1);
+            }
+
+            verify(failoverStore).storeAll(List.of(latest));
+            verify(failoverStore).store(latest);
+            verifyNoMoreInteractions(failoverStore);
+            verifyNoInteractions(executor);
+            assertThat(coalescing.coalescedWrites()).isEqualTo(2);
+            assertThat(coalescing.flushedWrites()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("a delete replaces a pending store for the same entry")
+        void deleteReplacesPendingStore() {
+            WriteCoalescing coalescing = new WriteCoalescing(Duration.ofHours(1), 100);
+            ReferentialPayload<String> stored = payload("FR", "v1");
+            ReferentialPayload<String> deleted = payload("FR", "v1");
+            try (FailoverStoreAsync<String> async = new FailoverStoreAsync<>(failoverStore, executor, observablePublisher, coalescing)) {
+                async.store(stored);
+                async.delete(deleted);
+            }
+
+            verify(failoverStore).delete(deleted);
+            verifyNoMoreInteractions(failoverStore);
+        }
+
+        @Test
+        @DisplayName("deleteExpired is submitted right away and leaves a pending store of the same entry in place")
+        void deleteExpiredBypassesCoalescing() {
+            WriteCoalescing coalescing = new WriteCoalescing(Duration.ofHours(1), 100);
+            ReferentialPayload<String> stored = payload("FR", "v2");
+            ReferentialPayload<String> expired = payload("FR", "v1");
+            willAnswer(invocation -> {
+                invocation.getArgument(0, Runnable.class).run();
+                return null;
+            }).given(executor).execute(any(Runnable.class));
+            try (FailoverStoreAsync<String> async = new FailoverStoreAsync<>(failoverStore, executor, observablePublisher, coalescing)) {
+                async.store(stored);
+                async.deleteExpired(List.of(expired));
+                verify(failoverStore).deleteExpired(List.of(expired));
+                assertThat(async.pendingWrites()).isEqualTo(1);
+            }
+
+            verify(failoverStore).store(stored);
+        }
+
+        @Test
+        @DisplayName("a batch is parked payload by payload, each replacing a pending write of the same entry, and flushed as one batch")
+        void storeAllIsParkedPerPayload() {
+            WriteCoalescing coalescing = new WriteCoalescing(Duration.ofHours(1), 100);
+            ReferentialPayload<String> fr = payload("FR", "v2");
+            ReferentialPayload<String> be = payload("BE", "v1");
+            try (FailoverStoreAsync<String> async = new FailoverStoreAsync<>(failoverStore, executor, observablePublisher, coalescing)) {
+                async.store(payload("FR", "v1"));
+                async.storeAll(List.of(fr, be));
+                assertThat(async.pendingWrites()).isEqualTo(2);
+            }
+
+            verify(failoverStore).storeAll(argThat(batch -> batch.size() == 2 && batch.containsAll(List.of(fr, be))));
+            verify(failoverStore).store(fr);
+            verify(failoverStore).store(be);
+            verifyNoMoreInteractions(failoverStore);
+            verifyNoInteractions(executor);
+        }
+
+        @Test
+        @DisplayName("a touch is parked as a full store, keeping the content of a pending store")
+        void touchIsParkedAsStore() {
+            WriteCoalescing coalescing = new WriteCoalescing(Duration.ofHours(1), 100);
+            ReferentialPayload<String> touched = payload("FR", "v2");
+            try (FailoverStoreAsync<String> async = new FailoverStoreAsync<>(failoverStore, executor, observablePublisher, coalescing)) {
+                async.store(payload("FR", "v1"));
+                async.touch(touched, Instant.now());
+            }
+
+            verify(failoverStore).storeAll(List.of(touched));
+            verify(failoverStore).store(touched);
+            verifyNoMoreInteractions(failoverStore);
+            verifyNoInteractions(executor);
+        }
+
+        @Test
+        @DisplayName("flushes on the interval")
+        void flushesOnInterval() {
+            WriteCoalescing coalescing = new WriteCoalescing(Duration.ofMillis(20), 100);
+            ReferentialPayload<String> fr = payload("FR", "v1");
+            try (FailoverStoreAsync<String> async = new FailoverStoreAsync<>(failoverStore, executor, observablePublisher, coalescing)) {
+                async.store(fr);
+
+                verify(failoverStore, timeout(2_000)).store(fr);
+            }
+        }
+
+        @Test
+        @DisplayName("flushes early once max-pending-writes distinct entries are waiting")
+        void flushesEarlyOnSize() {
+            WriteCoalescing coalescing = new WriteCoalescing(Duration.ofHours(1), 2);
+            ReferentialPayload<String> fr = payload("FR", "v1");
+            ReferentialPayload<String> de = payload("DE", "v1");
+            try (FailoverStoreAsync<String> async = new FailoverStoreAsync<>(failoverStore, executor, observablePublisher, coalescing)) {
+                async.store(fr);
+                async.store(de);
+
+                verify(failoverStore, timeout(2_000)).store(fr);
+                verify(failoverStore, timeout(2_000)).store(de);
+            }
+        }
+
+        @Test
+        @DisplayName("a failing flushed write is reported and does not stop the flush")
+        void failingWriteIsReported() {
+            WriteCoalescing coalescing = new WriteCoalescing(Duration.ofHours(1), 100);
+            ReferentialPayload<String> fr = payload("FR", "v1");
+            ReferentialPayload<String> de = payload("DE", "v1");
+            doThrow(new IllegalStateException("db down")).when(failoverStore).store(fr);
+            try (FailoverStoreAsync<String> async = new FailoverStoreAsync<>(failoverStore, executor, observablePublisher, coalescing)) {
+                async.store(fr);
+                async.store(de);
+            }
+
+            verify(failoverStore).store(de);
+            ArgumentCaptor<FailoverEvent> event = ArgumentCaptor.forClass(FailoverEvent.class);
+            verify(observablePublisher).publish(event.capture());
+            assertThat(event.getValue().getName()).isEqualTo("country");
+            assertThat(coalescing.flushedWrites()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("close() and pendingWrites() are no-ops without coalescing")
+        void noOpWithoutCoalescing() {
+            failoverStoreAsync.close();
+            assertThat(failoverStoreAsync.pendingWrites()).isZero();
+        }
+
+        @Test
+        @DisplayName("rejects a non-positive flush interval or max-pending-writes")
+        void rejectsInvalidSettings() {
+            assertThatThrownBy(() -> new WriteCoalescing(Duration.ZERO, 1))
+                    .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("flushInterval");
+            assertThatThrownBy(() -> new WriteCoalescing(Duration.ofSeconds(-1), 1))
+                    .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("flushInterval");
+            assertThatThrownBy(() -> new WriteCoalescing(Duration.ofSeconds(1), 0))
+                    .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("maxPendingWrites");
+        }
+    }
+
+    @Nested
+    @DisplayName("write failure listener")
+    class WriteFailures {
+
+        private final List<ReferentialPayload<?>> failed = new CopyOnWriteArrayList<>();
+
+        private final WriteFailureListener listener = () -> failed::add;
+
+        private static ReferentialPayload<String> payload(String key, String value) {
+            return new ReferentialPayload<>("country", key, true, Instant.EPOCH, Instant.MAX, value);
+        }
+
+        @Test
+        @DisplayName("a store failing inside the executor is reported to the listener")
+        void storeFailureIsReported() {
+            ReferentialPayload<String> fr = payload("FR", "France");
+            doThrow(new IllegalStateException("db down")).when(failoverStore).store(fr);
+            var async = new FailoverStoreAsync<>(failoverStore, SYNC_EXECUTOR, null, null, listener);
+
+            async.store(fr);
+
+            assertThat(failed).containsExactly(fr);
+        }
+
+        @Test
+        @DisplayName("a successful store is not reported")
+        void successIsNotReported() {
+            var async = new FailoverStoreAsync<>(failoverStore, SYNC_EXECUTOR, null, null, listener);
+
+            async.store(payload("FR", "France"));
+
+            assertThat(failed).isEmpty();
+        }
+
+        @Test
+        @DisplayName("a store rejected by the executor is reported to the listener")
+        void rejectedStoreIsReported() {
+            ReferentialPayload<String> fr = payload("FR", "France");
+            TaskExecutor rejectingExecutor = task -> {
+                throw new java.util.concurrent.RejectedExecutionException("saturated");
+            };
+            var async = new FailoverStoreAsync<>(failoverStore, rejectingExecutor, null, null, listener);
+
+            async.store(fr);
+
+            assertThat(failed).containsExactly(fr);
+        }
+
+        @Test
+        @DisplayName("a partially failed storeAll reports only the payloads not written")
+        void partialStoreAllFailureReportsFailedPayloads() {
+            ReferentialPayload<String> fr = payload("FR", "France");
+            ReferentialPayload<String> de = payload("DE", "Germany");
+            doThrow(new FailoverStoreBatchException(List.of(de), new RuntimeException("row rejected"))).when(failoverStore).storeAll(any());
+            var async = new FailoverStoreAsync<>(failoverStore, SYNC_EXECUTOR, null, null, listener);
+
+            async.storeAll(List.of(fr, de));
+
+            assertThat(failed).containsExactly(de);
+        }
+
+        @Test
+        @DisplayName("a failed storeAll reports every payload of the batch")
+        void storeAllFailureReportsWholeBatch() {
+            ReferentialPayload<String> fr = payload("FR", "France");
+            ReferentialPayload<String> de = payload("DE", "Germany");
+            doThrow(new IllegalStateException("db down")).when(failoverStore).storeAll(any());
+            var async = new FailoverStoreAsync<>(failoverStore, SYNC_EXECUTOR, null, null, listener);
+
+            async.storeAll(List.of(fr, de));
+
+            assertThat(failed).containsExactly(fr, de);
+        }
+
+        @Test
+        @DisplayName("a flushed store that fails is reported to the callback bound when it was parked")
+        void coalescedStoreFailureIsReported() {
+            ReferentialPayload<String> fr = payload("FR", "France");
+            ReferentialPayload<String> de = payload("DE", "Germany");
+            lenient().doCallRealMethod().when(failoverStore).storeAll(anyList());
+            doThrow(new IllegalStateException("db down")).when(failoverStore).store(fr);
+            try (var async = new FailoverStoreAsync<>(failoverStore, SYNC_EXECUTOR, null, new WriteCoalescing(Duration.ofHours(1), 100), listener)) {
+                async.store(fr);
+                async.store(de);
+            }
+
+            assertThat(failed).containsExactly(fr);
+        }
+
+        @Test
+        @DisplayName("the refresh throttle writes again after a store failed on the executor, in the tenant of the caller")
+        void throttleForgetsWriteFailedOnExecutor() throws InterruptedException {
+            Failover failover = org.mockito.Mockito.mock(Failover.class);
+            given(failover.minRefreshInterval()).willReturn(-1L);
+            ThreadLocal<String> tenant = new ThreadLocal<>();
+            RefreshThrottle throttle = new RefreshThrottle(Duration.ofMinutes(1), RefreshThrottle.DEFAULT_MAX_TRACKED_ENTRIES, tenant::get);
+            ReferentialPayload<String> fr = payload("FR", "France");
+            doThrow(new IllegalStateException("db down")).when(failoverStore).store(fr);
+            ExecutorService pool = Executors.newSingleThreadExecutor();
+            var async = new FailoverStoreAsync<>(failoverStore, pool::execute, null, null, throttle);
+            tenant.set("acme");
+            try {
+                assertThat(throttle.shouldStore(failover, "country", "FR", Instant.EPOCH, Instant.MAX)).isTrue();
+                async.store(fr);
+                pool.shutdown();
+                assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+                assertThat(throttle.shouldStore(failover, "country", "FR", Instant.EPOCH, Instant.MAX)).isTrue();
+            } finally {
+                tenant.remove();
+                pool.shutdownNow();
+            }
+        }
+    }
+}
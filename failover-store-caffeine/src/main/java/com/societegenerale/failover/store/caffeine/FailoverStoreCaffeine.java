@@ -29,8 +29,12 @@ import org.jspecify.annotations.NonNull;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
 
@@ -103,16 +107,35 @@ public class FailoverStoreCaffeine<T> implements FailoverStore<T>, FailoverStore
      * @param maximumSize maximum number of entries to retain; {@code <= 0} means unbounded
      */
     public FailoverStoreCaffeine(FailoverClock fClock, long maximumSize) {
+        this(fClock, maximumSize, Duration.ZERO);
+    }
+
+    /**
+     * Constructs a {@code FailoverStoreCaffeine} with an optional maximum entry count and an optional cap on
+     * how long an entry is kept.
+     *
+     * <p>When {@code timeToLive} is positive, an entry is kept until its {@code expireOn} or for
+     * {@code timeToLive} after it was written, whichever comes first. Used when the cache is a near cache in
+     * front of a shared store ({@link TieredFailoverStore}), so a copy written there by another instance is
+     * picked up within {@code timeToLive}.
+     *
+     * @param fClock      clock used to compute each entry's remaining TTL from its {@code expireOn}
+     *                    timestamp; must not be {@code null}
+     * @param maximumSize maximum number of entries to retain; {@code <= 0} means unbounded
+     * @param timeToLive  longest time an entry is kept after its write; zero or negative means until its {@code expireOn}
+     */
+    public FailoverStoreCaffeine(FailoverClock fClock, long maximumSize, Duration timeToLive) {
         this.failoverClock = fClock;
+        long maxTtlNanos = timeToLive.isPositive() ? timeToLive.toNanos() : Long.MAX_VALUE;
         var builder = Caffeine.newBuilder()
                 .expireAfter(new Expiry<String, ReferentialPayload<T>>() {
                     @Override
                     public long expireAfterCreate(@NonNull String key, @NonNull ReferentialPayload<T> value, long currentTime) {
-                        return Duration.between(failoverClock.now(), value.getExpireOn()).toNanos();
+                        return Math.min(Duration.between(failoverClock.now(), value.getExpireOn()).toNanos(), maxTtlNanos);
                     }
                     @Override
                     public long expireAfterUpdate(@NonNull String key, @NonNull ReferentialPayload<T> value, long currentTime, long currentDuration) {
-                        return Duration.between(failoverClock.now(), value.getExpireOn()).toNanos();
+                        return Math.min(Duration.between(failoverClock.now(), value.getExpireOn()).toNanos(), maxTtlNanos);
                     }
                     @Override
                     public long expireAfterRead(@NonNull String key, @NonNull ReferentialPayload<T> value, long currentTime, long currentDuration) {
@@ -141,6 +164,32 @@ public class FailoverStoreCaffeine<T> implements FailoverStore<T>, FailoverStore
         cache.put(storeKey(rPayload.getName(), rPayload.getKey()), rPayload);
     }
 
+    /**
+     * Stores defensive copies of the payloads with a single {@link Cache#putAll}; each entry's TTL is derived
+     * from its own {@code expireOn}, as for {@link #store}.
+     *
+     * @param referentialPayloads the payloads to cache; must not be {@code null}
+     */
+    @Override
+    public void storeAll(List<ReferentialPayload<T>> referentialPayloads) {
+        Map<String, ReferentialPayload<T>> copies = new LinkedHashMap<>();
+        referentialPayloads.forEach(p -> copies.put(storeKey(p.getName(), p.getKey()), p.copy()));
+        cache.putAll(copies);
+    }
+
+    /**
+     * Stores a defensive copy of the payload unless the cache already holds the same entry with an {@code asOf}
+     * at least as recent. Used by {@link TieredFailoverStore} to fill the near cache from a read, which must not
+     * overwrite a newer copy written meanwhile.
+     *
+     * @param referentialPayload the payload read from the persistent store
+     */
+    void storeIfNewer(ReferentialPayload<T> referentialPayload) {
+        var rPayload = referentialPayload.copy();
+        cache.asMap().merge(storeKey(rPayload.getName(), rPayload.getKey()), rPayload,
+                (cached, read) -> read.getAsOf().isAfter(cached.getAsOf()) ? read : cached);
+    }
+
     /**
      * Invalidates the cache entry for the given payload.
      *
@@ -153,6 +202,18 @@ public class FailoverStoreCaffeine<T> implements FailoverStore<T>, FailoverStore
         cache.invalidate(storeKey(referentialPayload.getName(), referentialPayload.getKey()));
     }
 
+    /**
+     * Invalidates the cache entries of the given expired payloads, each only while the cached entry still carries
+     * the same {@code expireOn} — an entry rewritten or touched since it was read is kept.
+     *
+     * @param referentialPayloads the expired payloads, as read from this store
+     */
+    @Override
+    public void deleteExpired(List<ReferentialPayload<T>> referentialPayloads) {
+        referentialPayloads.forEach(expired -> cache.asMap().computeIfPresent(storeKey(expired.getName(), expired.getKey()),
+                (storeKey, cached) -> cached.getExpireOn().equals(expired.getExpireOn()) ? null : cached));
+    }
+
     /**
      * Looks up a payload by referential name and key.
      *
@@ -169,6 +230,21 @@ public class FailoverStoreCaffeine<T> implements FailoverStore<T>, FailoverStore
         return ofNullable(cache.getIfPresent(storeKey(name, key))).map(ReferentialPayload::copy);
     }
 
+    /**
+     * Looks up a payload by referential name and key, leaving it out without copying it when its {@code expireOn}
+     * is before {@code expiredBefore} — an entry the caller's expiry policy treats as expired while Caffeine still
+     * holds it.
+     *
+     * @param name          the referential name
+     * @param key           the unique key within that referential
+     * @param expiredBefore entries expiring before this instant are left out
+     * @return an {@link Optional} containing a copy of the cached payload, or empty if absent or expired
+     */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key, Instant expiredBefore) {
+        return ofNullable(cache.getIfPresent(storeKey(name, key))).filter(p -> !p.getExpireOn().isBefore(expiredBefore)).map(ReferentialPayload::copy);
+    }
+
     /**
      * Returns defensive copies of all cached entries whose composite key is prefixed by
      * {@code name##}.
@@ -186,6 +262,50 @@ public class FailoverStoreCaffeine<T> implements FailoverStore<T>, FailoverStore
         ).map(e-> e.getValue().copy()).toList();
     }
 
+    /**
+     * Streams defensive copies of the cached entries of {@code name}, copied one at a time as the stream is
+     * consumed rather than collected into a list first. Same prefix scan as {@link #findAll(String)}.
+     *
+     * @param name          the referential name
+     * @param expiredBefore unused: the payloads are already in memory
+     * @return a stream of defensive copies of the matching payloads
+     */
+    @Override
+    public Stream<ReferentialPayload<T>> streamAll(String name, Instant expiredBefore) throws FailoverStoreException {
+        return cache.asMap().entrySet().stream().filter(e->
+                e.getKey().startsWith(name + STORE_KEY_DELIMITER)
+        ).map(e-> e.getValue().copy());
+    }
+
+    /**
+     * Returns defensive copies of the cached entries for the given name and keys with a single
+     * {@link Cache#getAllPresent}. Keys never stored, expired or deleted are left out; reading does not reset TTLs.
+     *
+     * @param name the referential name
+     * @param keys the keys to look up
+     * @return defensive copies of the payloads found, or an empty list if none
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys) {
+        return cache.getAllPresent(keys.stream().map(key -> storeKey(name, key)).toList())
+                .values().stream().map(ReferentialPayload::copy).toList();
+    }
+
+    /**
+     * Same as {@link #findAll(String, Collection)}, leaving out the entries expiring before {@code expiredBefore}
+     * without copying them.
+     *
+     * @param name          the referential name
+     * @param keys          the keys to look up
+     * @param expiredBefore entries expiring before this instant are left out
+     * @return defensive copies of the unexpired payloads found, or an empty list if none
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys, Instant expiredBefore) {
+        return cache.getAllPresent(keys.stream().map(key -> storeKey(name, key)).toList())
+                .values().stream().filter(p -> !p.getExpireOn().isBefore(expiredBefore)).map(ReferentialPayload::copy).toList();
+    }
+
     /**
      * No-op for this implementation.
      *
@@ -0,0 +1,410 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.caffeine;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import com.societegenerale.failover.core.store.FailoverStore;
+import com.societegenerale.failover.core.store.FailoverStoreBatchException;
+import com.societegenerale.failover.core.store.FailoverStoreException;
+import com.societegenerale.failover.core.store.FailoverStoreSizeAware;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.societegenerale.failover.core.util.CommonsUtil.closeQuietly;
+
+/**
+ * {@link FailoverStore} decorator that puts a bounded in-memory near cache ({@link FailoverStoreCaffeine}, the L1) in
+ * front of a persistent store (the L2, e.g. {@code FailoverStoreJdbc}), so the hot keys of an outage are recovered
+ * from memory instead of with a round trip and a deserialization each time.
+ *
+ * <h2>Reads</h2>
+ * <p>{@link #find} and the keyed {@link #findAll(String, Collection)} are answered from the near cache; the keys it
+ * does not hold are read from the persistent store and put in the near cache (read-through). A read never replaces
+ * a copy with a more recent {@code asOf} written meanwhile. {@link #findAll(String)} and {@link #streamAll} read the
+ * whole referential from the persistent store — the near cache only holds part of it — without filling the near
+ * cache. Hits and misses are counted in the {@link TieredStats}.
+ *
+ * <h2>Writes</h2>
+ * <ul>
+ *   <li><b>Write-through</b> (default): {@link #store}, {@link #storeAll} and {@link #touch} write to the persistent
+ *       store first, then to the near cache; a write the persistent store rejects leaves the near cache as it was.</li>
+ *   <li><b>Write-behind</b>: the near cache is written on the calling thread and the write is queued, up to
+ *       {@code maxPendingWrites}. A drain task, started on the executor when the first write is queued, hands
+ *       everything queued by then to the persistent store's {@link FailoverStore#storeAll} in one call. A touch is
+ *       queued as a full store. A write that finds the queue full, or the executor refusing the drain, is applied
+ *       on the calling thread instead — like a delete, after a running drain and dropping a queued write of the
+ *       entry, so an older write cannot land over it. A drain that fails is logged and counted; the near cache
+ *       keeps the entries.</li>
+ * </ul>
+ *
+ * <p>{@link #delete} removes the entry from the persistent store — dropping a queued write of it first — then from
+ * the near cache. In write-behind mode it waits for a running drain, so a write already taken off the queue cannot
+ * reach the persistent store after the delete and bring the entry back; {@link #deleteExpired} removes the entries
+ * from both. {@link #cleanByExpiry} only reaches the persistent store, since the near cache expires its entries by
+ * itself.
+ *
+ * <p>{@link #close()} flushes the queued writes to the persistent store on the closing thread, then closes it; a
+ * write made after the close goes through.
+ *
+ * <p>The near cache is local to the instance: a write made through another instance to a shared persistent store is
+ * seen here once the near cache copy expires. Bound that delay with the near cache's time-to-live
+ * ({@link FailoverStoreCaffeine#FailoverStoreCaffeine(com.societegenerale.failover.core.clock.FailoverClock, long, java.time.Duration)}).
+ *
+ * @param <T> the type of the payload held by each referential entry
+ * @author Anand Manissery
+ */
+@Slf4j
+public class TieredFailoverStore<T> implements FailoverStore<T>, FailoverStoreSizeAware, AutoCloseable {
+
+    /** Default number of write-behind writes that may wait for the persistent store. */
+    public static final int DEFAULT_MAX_PENDING_WRITES = 10_000;
+
+    @Getter
+    private final FailoverStoreCaffeine<T> nearCache;
+
+    @Getter
+    private final FailoverStore<T> failoverStore;
+
+    private final TieredStats stats;
+
+    /** {@code true} in write-behind mode. */
+    private final boolean writeBehind;
+
+    private final Executor executor;
+
+    private final BlockingQueue<ReferentialPayload<T>> pending;
+
+    /** {@code true} while a drain task is submitted or running. */
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /**
+     * Held by a drain from taking the queued writes until the persistent store has them, and by a delete or a write
+     * that bypasses the queue.
+     */
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    private volatile boolean closed;
+
+    /**
+     * Write-through tiered store.
+     *
+     * @param nearCache     the L1 near cache
+     * @param failoverStore the L2 persistent store
+     * @param stats         the hit/miss counters
+     */
+    public TieredFailoverStore(FailoverStoreCaffeine<T> nearCache, FailoverStore<T> failoverStore, TieredStats stats) {
+        this.nearCache = nearCache;
+        this.failoverStore = failoverStore;
+        this.stats = stats;
+        this.writeBehind = false;
+        this.executor = Runnable::run;
+        this.pending = new ArrayBlockingQueue<>(1);
+    }
+
+    /**
+     * Write-behind tiered store, draining the queued writes on a new virtual thread.
+     *
+     * @param nearCache        the L1 near cache
+     * @param failoverStore    the L2 persistent store
+     * @param stats            the hit/miss counters
+     * @param maxPendingWrites writes that may wait for the persistent store; must be {@code > 0}
+     */
+    public TieredFailoverStore(FailoverStoreCaffeine<T> nearCache, FailoverStore<T> failoverStore, TieredStats stats, int maxPendingWrites) {
+        this(nearCache, failoverStore, stats, maxPendingWrites, task -> Thread.ofVirtual().name("failover-tiered-write-behind").start(task));
+    }
+
+    /**
+     * Write-behind tiered store.
+     *
+     * @param nearCache        the L1 near cache
+     * @param failoverStore    the L2 persistent store
+     * @param stats            the hit/miss counters
+     * @param maxPendingWrites writes that may wait for the persistent store; must be {@code > 0}
+     * @param executor         runs the drain tasks
+     */
+    public TieredFailoverStore(FailoverStoreCaffeine<T> nearCache, FailoverStore<T> failoverStore, TieredStats stats,
+                               int maxPendingWrites, Executor executor) {
+        if (maxPendingWrites <= 0) {
+            throw new IllegalArgumentException("maxPendingWrites must be > 0, but was " + maxPendingWrites);
+        }
+        this.nearCache = nearCache;
+        this.failoverStore = failoverStore;
+        this.stats = stats;
+        this.writeBehind = true;
+        this.executor = executor;
+        this.pending = new ArrayBlockingQueue<>(maxPendingWrites);
+    }
+
+    @Override
+    public void store(ReferentialPayload<T> referentialPayload) throws FailoverStoreException {
+        if (writeBehind) {
+            nearCache.store(referentialPayload);
+            enqueue(referentialPayload);
+            return;
+        }
+        failoverStore.store(referentialPayload);
+        nearCache.store(referentialPayload);
+    }
+
+    /**
+     * Writes the payloads to the persistent store in one call, then to the near cache. When the persistent store
+     * rejects some of them, the others still reach the near cache before the {@link FailoverStoreBatchException}
+     * is rethrown.
+     */
+    @Override
+    public void storeAll(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        if (writeBehind) {
+            nearCache.storeAll(referentialPayloads);
+            referentialPayloads.forEach(this::enqueue);
+            return;
+        }
+        try {
+            failoverStore.storeAll(referentialPayloads);
+            nearCache.storeAll(referentialPayloads);
+        } catch (FailoverStoreBatchException e) {
+            Set<String> failed = e.getFailedPayloads().stream().map(TieredFailoverStore::entryId).collect(Collectors.toSet());
+            nearCache.storeAll(referentialPayloads.stream().filter(p -> !failed.contains(entryId(p))).toList());
+            throw e;
+        }
+    }
+
+    /** Touches the persistent store, then refreshes the near cache copy; in write-behind mode, queued as a full store. */
+    @Override
+    public void touch(ReferentialPayload<T> referentialPayload, Instant writtenExpireOn) throws FailoverStoreException {
+        if (writeBehind) {
+            store(referentialPayload);
+            return;
+        }
+        failoverStore.touch(referentialPayload, writtenExpireOn);
+        nearCache.store(referentialPayload);
+    }
+
+    @Override
+    public void delete(ReferentialPayload<T> referentialPayload) throws FailoverStoreException {
+        if (!writeBehind) {
+            failoverStore.delete(referentialPayload);
+            nearCache.delete(referentialPayload);
+            return;
+        }
+        String id = entryId(referentialPayload);
+        drainLock.lock();
+        try {
+            pending.removeIf(queued -> entryId(queued).equals(id));
+            failoverStore.delete(referentialPayload);
+        } finally {
+            drainLock.unlock();
+        }
+        nearCache.delete(referentialPayload);
+    }
+
+    @Override
+    public void deleteExpired(List<ReferentialPayload<T>> referentialPayloads) throws FailoverStoreException {
+        failoverStore.deleteExpired(referentialPayloads);
+        nearCache.deleteExpired(referentialPayloads);
+    }
+
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key) throws FailoverStoreException {
+        Optional<ReferentialPayload<T>> near = nearCache.find(name, key);
+        if (near.isPresent()) {
+            stats.recordHits(1);
+            return near;
+        }
+        stats.recordMisses(1);
+        Optional<ReferentialPayload<T>> stored = failoverStore.find(name, key);
+        stored.ifPresent(nearCache::storeIfNewer);
+        return stored;
+    }
+
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key, Instant expiredBefore) throws FailoverStoreException {
+        Optional<ReferentialPayload<T>> near = nearCache.find(name, key, expiredBefore);
+        if (near.isPresent()) {
+            stats.recordHits(1);
+            return near;
+        }
+        stats.recordMisses(1);
+        Optional<ReferentialPayload<T>> stored = failoverStore.find(name, key, expiredBefore);
+        stored.ifPresent(nearCache::storeIfNewer);
+        return stored;
+    }
+
+    /** Reads the whole referential from the persistent store, leaving the near cache as it is. */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name) throws FailoverStoreException {
+        return failoverStore.findAll(name);
+    }
+
+    /** Streams the whole referential from the persistent store, leaving the near cache as it is. */
+    @Override
+    public Stream<ReferentialPayload<T>> streamAll(String name, Instant expiredBefore) throws FailoverStoreException {
+        return failoverStore.streamAll(name, expiredBefore);
+    }
+
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys) throws FailoverStoreException {
+        List<ReferentialPayload<T>> near = nearCache.findAll(name, keys);
+        List<String> missing = missingKeys(keys, near);
+        return missing.isEmpty() ? near : concat(near, failoverStore.findAll(name, missing));
+    }
+
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys, Instant expiredBefore) throws FailoverStoreException {
+        List<ReferentialPayload<T>> near = nearCache.findAll(name, keys, expiredBefore);
+        List<String> missing = missingKeys(keys, near);
+        return missing.isEmpty() ? near : concat(near, failoverStore.findAll(name, missing, expiredBefore));
+    }
+
+    private List<String> missingKeys(Collection<String> keys, List<ReferentialPayload<T>> near) {
+        Set<String> found = near.stream().map(ReferentialPayload::getKey).collect(Collectors.toSet());
+        List<String> missing = keys.stream().filter(key -> !found.contains(key)).distinct().toList();
+        stats.recordHits(found.size());
+        stats.recordMisses(missing.size());
+        return missing;
+    }
+
+    private List<ReferentialPayload<T>> concat(List<ReferentialPayload<T>> near, List<ReferentialPayload<T>> stored) {
+        stored.forEach(nearCache::storeIfNewer);
+        List<ReferentialPayload<T>> all = new ArrayList<>(near.size() + stored.size());
+        all.addAll(near);
+        all.addAll(stored);
+        return all;
+    }
+
+    /** Cleans the persistent store; the near cache expires its entries by itself. */
+    @Override
+    public void cleanByExpiry(Instant expiry) throws FailoverStoreException {
+        failoverStore.cleanByExpiry(expiry);
+    }
+
+    /** @return the number of write-behind writes waiting for the persistent store */
+    public int pendingWrites() {
+        return pending.size();
+    }
+
+    private void enqueue(ReferentialPayload<T> referentialPayload) {
+        if (closed) {
+            writeThrough(referentialPayload);
+            return;
+        }
+        if (!pending.offer(referentialPayload.copy())) {
+            log.debug("Write-behind queue full, writing through: name='{}', key='{}'", referentialPayload.getName(), referentialPayload.getKey());
+            writeThrough(referentialPayload);
+            return;
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Writes the payload to the persistent store on the calling thread. As {@link #delete} does, it waits for a
+     * running drain and drops a queued write of the entry first: either is older and would otherwise overwrite it.
+     */
+    private void writeThrough(ReferentialPayload<T> referentialPayload) {
+        String id = entryId(referentialPayload);
+        drainLock.lock();
+        try {
+            pending.removeIf(queued -> entryId(queued).equals(id));
+            failoverStore.store(referentialPayload);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (pending.isEmpty() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            log.debug("Write-behind drain rejected by its executor, writing through. Cause: {}", e.getMessage());
+            drain();
+        }
+    }
+
+    private void drain() {
+        try {
+            writePending();
+        } finally {
+            draining.set(false);
+        }
+        // writes queued while this drain ran found it in progress and did not start one
+        scheduleDrain();
+    }
+
+    private void writePending() {
+        List<ReferentialPayload<T>> batch = new ArrayList<>();
+        drainLock.lock();
+        try {
+            pending.drainTo(batch);
+            if (!batch.isEmpty()) {
+                failoverStore.storeAll(batch);
+            }
+        } catch (FailoverStoreBatchException e) {
+            stats.recordFailedWrites(e.getFailedPayloads().size());
+            log.warn("Write-behind of {} of {} entries failed; the near cache keeps them. Cause: {}",
+                    e.getFailedPayloads().size(), batch.size(), e.getMessage());
+        } catch (RuntimeException e) {
+            stats.recordFailedWrites(batch.size());
+            log.warn("Write-behind of {} entries failed; the near cache keeps them. Cause: {}", batch.size(), e.getMessage());
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the queued writes to the persistent store on the calling thread — after a running drain — and closes
+     * the persistent store. Writes made afterwards go through.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        writePending();
+        closeQuietly(failoverStore);
+    }
+
+    /** Forwards the live entry count to the persistent store when it is size-aware; otherwise reports 0. */
+    @Override
+    public long liveEntryCount(String name) {
+        return failoverStore instanceof FailoverStoreSizeAware sizeAware ? sizeAware.liveEntryCount(name) : 0L;
+    }
+
+    /** Live counting is supported only when the persistent store supports it. */
+    @Override
+    public boolean liveEntryCountSupported() {
+        return failoverStore instanceof FailoverStoreSizeAware sizeAware && sizeAware.liveEntryCountSupported();
+    }
+
+    private static String entryId(ReferentialPayload<?> referentialPayload) {
+        return referentialPayload.getName() + '\u0000' + referentialPayload.getKey();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.caffeine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the {@link TieredFailoverStore} near cache: lookups answered by it (hits) or passed on to the
+ * persistent store (misses), and the write-behind writes that could not be applied. One instance may be shared
+ * by several tiered stores, e.g. one per tenant, to publish them as a single set of meters.
+ *
+ * @author Anand Manissery
+ */
+public class TieredStats {
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder failedWrites = new LongAdder();
+
+    void recordHits(long count) {
+        hits.add(count);
+    }
+
+    void recordMisses(long count) {
+        misses.add(count);
+    }
+
+    void recordFailedWrites(long count) {
+        failedWrites.add(count);
+    }
+
+    /** @return the number of entries found in the near cache */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /** @return the number of entries looked up in the persistent store because the near cache did not hold them */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /** @return {@code hits / (hits + misses)}, or {@code NaN} before the first lookup */
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? Double.NaN : (double) h / total;
+    }
+
+    /** @return the number of write-behind writes the persistent store failed to apply */
+    public long failedWrites() {
+        return failedWrites.sum();
+    }
+}
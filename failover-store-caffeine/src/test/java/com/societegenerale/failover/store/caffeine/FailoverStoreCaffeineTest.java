@@ -27,7 +27,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -252,6 +254,72 @@ class FailoverStoreCaffeineTest {
         assertThat(result).extracting(ReferentialPayload::getKey).containsExactlyInAnyOrder("1", "2");
     }
 
+    @Test
+    @DisplayName("should stream copies of the referentials of the given name")
+    void shouldStreamAllReferentialForGivenName() {
+        var other = new ReferentialPayload<>("other-failover", "1", true, NOW, NOW.plusSeconds(60L), new ThirdParty(3L, "BATA", 7));
+        failoverStoreCaffeine.store(referentialPayload);
+        failoverStoreCaffeine.store(other);
+
+        List<ReferentialPayload<ThirdParty>> result;
+        try (var stream = failoverStoreCaffeine.streamAll(NAME, NOW)) {
+            result = stream.toList();
+        }
+
+        assertThat(result).singleElement().isEqualTo(referentialPayload).isNotSameAs(referentialPayload);
+    }
+
+    @Test
+    @DisplayName("should store all the referentials at once, each with its own TTL")
+    void shouldStoreAllTheReferentials() {
+        var rp2 = new ReferentialPayload<>(NAME, "2", true, NOW, NOW.plusSeconds(120L), new ThirdParty(2L, "TATA", 6));
+
+        failoverStoreCaffeine.storeAll(List.of(referentialPayload, rp2));
+
+        assertThat(failoverStoreCaffeine.findAll(NAME)).containsExactlyInAnyOrder(referentialPayload, rp2);
+    }
+
+    @Test
+    @DisplayName("should find the referentials of the given keys, leaving out missing keys and other names")
+    void shouldFindAllReferentialForGivenKeys() {
+        var rp2 = new ReferentialPayload<>(NAME, "2", true, NOW, NOW.plusSeconds(60L), new ThirdParty(2L, "TATA", 6));
+        var other = new ReferentialPayload<>("other-failover", "3", true, NOW, NOW.plusSeconds(60L), new ThirdParty(3L, "BATA", 7));
+        failoverStoreCaffeine.storeAll(List.of(referentialPayload, rp2, other));
+
+        var result = failoverStoreCaffeine.findAll(NAME, List.of("1", "3", "4"));
+
+        assertThat(result).containsExactly(referentialPayload);
+    }
+
+    @Test
+    @DisplayName("should leave out the referentials expiring before the cutoff on find and findAll by keys, though still cached")
+    void shouldLeaveOutReferentialsExpiringBeforeCutoff() {
+        var expiringSooner = new ReferentialPayload<>(NAME, "2", true, NOW, NOW.plusSeconds(30L), new ThirdParty(2L, "TATA", 6));
+        failoverStoreCaffeine.storeAll(List.of(referentialPayload, expiringSooner));
+        Instant cutoff = NOW.plusSeconds(45L);
+
+        assertThat(failoverStoreCaffeine.find(NAME, "1", cutoff)).contains(referentialPayload);
+        assertThat(failoverStoreCaffeine.find(NAME, "2", cutoff)).isEmpty();
+        assertThat(failoverStoreCaffeine.findAll(NAME, List.of("1", "2", "3"), cutoff)).containsExactly(referentialPayload);
+        assertThat(failoverStoreCaffeine.find(NAME, "2")).isPresent();
+    }
+
+    @Test
+    @DisplayName("should delete the expired referentials unless they were refreshed since they were read")
+    void shouldDeleteExpiredReferentialsUnlessRefreshed() {
+        var rp2 = new ReferentialPayload<>(NAME, "2", true, NOW, NOW.plusSeconds(30L), new ThirdParty(2L, "TATA", 6));
+        failoverStoreCaffeine.storeAll(List.of(referentialPayload, rp2));
+        var readExpired = failoverStoreCaffeine.find(NAME, "2").orElseThrow();
+        var readBeforeRefresh = referentialPayload.copy().withUpToDate(false);
+        readBeforeRefresh.setExpireOn(NOW.plusSeconds(10L));
+
+        failoverStoreCaffeine.deleteExpired(List.of(readExpired, readBeforeRefresh,
+                new ReferentialPayload<>(NAME, "9", false, NOW, NOW, null)));
+
+        assertThat(failoverStoreCaffeine.find(NAME, "2")).isEmpty();
+        assertThat(failoverStoreCaffeine.find(NAME, "1")).contains(referentialPayload);
+    }
+
     @Test
     @DisplayName("should return empty list when no referential found for given name in findAll")
     void shouldReturnEmptyListWhenNoReferentialFoundForGivenNameInFindAll() {
@@ -285,6 +353,16 @@ class FailoverStoreCaffeineTest {
         assertThat(unbounded.findAll(NAME)).hasSize(200);
     }
 
+    @Test
+    @DisplayName("time-to-live caps how long an entry is kept, ahead of its expireOn")
+    void shouldCapEntryLifetimeWithTimeToLive() {
+        var capped = new FailoverStoreCaffeine<ThirdParty>(clock, 0, Duration.ofSeconds(1));
+        capped.store(referentialPayload);
+        assertThat(capped.find(NAME, "1")).isPresent();
+
+        await().atMost(3, TimeUnit.SECONDS).until(() -> capped.find(NAME, "1").isEmpty());
+    }
+
     @Data
     @AllArgsConstructor
     static class ThirdParty  {
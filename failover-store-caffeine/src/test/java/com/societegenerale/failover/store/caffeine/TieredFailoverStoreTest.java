@@ -0,0 +1,532 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.caffeine;
+
+import com.societegenerale.failover.core.clock.FailoverClock;
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import com.societegenerale.failover.core.store.FailoverStore;
+import com.societegenerale.failover.core.store.FailoverStoreBatchException;
+import com.societegenerale.failover.core.store.FailoverStoreException;
+import com.societegenerale.failover.core.store.FailoverStoreSizeAware;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * @author Anand Manissery
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TieredFailoverStore")
+class TieredFailoverStoreTest {
+
+    private static final String NAME = "quotes";
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock
+    private FailoverClock clock;
+
+    @Mock
+    private FailoverStore<String> persistent;
+
+    private FailoverStoreCaffeine<String> nearCache;
+
+    private final TieredStats stats = new TieredStats();
+
+    private TieredFailoverStore<String> tiered;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.now()).thenReturn(NOW);
+        nearCache = new FailoverStoreCaffeine<>(clock, 100);
+        tiered = new TieredFailoverStore<>(nearCache, persistent, stats);
+    }
+
+    private static ReferentialPayload<String> payload(String key, String value) {
+        return payload(key, value, NOW);
+    }
+
+    private static ReferentialPayload<String> payload(String key, String value, Instant asOf) {
+        return new ReferentialPayload<>(NAME, key, true, asOf, NOW.plusSeconds(600), value);
+    }
+
+    @Nested
+    @DisplayName("reads")
+    class Reads {
+
+        @Test
+        @DisplayName("a miss reads the persistent store once and fills the near cache; the next find is a hit")
+        void readThrough() {
+            when(persistent.find(NAME, "1")).thenReturn(Optional.of(payload("1", "v1")));
+
+            assertThat(tiered.find(NAME, "1")).map(ReferentialPayload::getPayload).contains("v1");
+            assertThat(tiered.find(NAME, "1")).map(ReferentialPayload::getPayload).contains("v1");
+
+            verify(persistent).find(NAME, "1");
+            assertThat(stats.hits()).isEqualTo(1);
+            assertThat(stats.misses()).isEqualTo(1);
+            assertThat(stats.hitRatio()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("an entry absent from both tiers is a miss every time and is not cached")
+        void absent() {
+            when(persistent.find(NAME, "1")).thenReturn(Optional.empty());
+
+            assertThat(tiered.find(NAME, "1")).isEmpty();
+            assertThat(tiered.find(NAME, "1")).isEmpty();
+
+            assertThat(stats.misses()).isEqualTo(2);
+            assertThat(nearCache.find(NAME, "1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("the expiry-filtered find goes through the same way")
+        void readThroughWithExpiry() {
+            Instant cutoff = NOW.plusSeconds(1);
+            when(persistent.find(NAME, "1", cutoff)).thenReturn(Optional.of(payload("1", "v1")));
+
+            assertThat(tiered.find(NAME, "1", cutoff)).isPresent();
+            assertThat(tiered.find(NAME, "1", cutoff)).isPresent();
+            assertThat(tiered.find(NAME, "1", NOW.plusSeconds(3600))).isEmpty();
+
+            verify(persistent).find(NAME, "1", cutoff);
+            assertThat(stats.hits()).isEqualTo(1);
+            assertThat(stats.misses()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("a read does not replace a more recent near cache copy written meanwhile")
+        void readDoesNotOverwriteNewer() {
+            nearCache.store(payload("1", "new", NOW.plusSeconds(5)));
+            nearCache.storeIfNewer(payload("1", "old", NOW));
+            assertThat(nearCache.find(NAME, "1")).map(ReferentialPayload::getPayload).contains("new");
+
+            nearCache.storeIfNewer(payload("1", "newer", NOW.plusSeconds(10)));
+            assertThat(nearCache.find(NAME, "1")).map(ReferentialPayload::getPayload).contains("newer");
+        }
+
+        @Test
+        @DisplayName("keyed findAll serves the cached keys and reads only the missing ones")
+        void keyedFindAll() {
+            nearCache.store(payload("1", "v1"));
+            when(persistent.findAll(NAME, List.of("2", "3"))).thenReturn(List.of(payload("2", "v2")));
+
+            assertThat(tiered.findAll(NAME, List.of("1", "2", "3"))).extracting(ReferentialPayload::getKey).containsExactlyInAnyOrder("1", "2");
+            assertThat(stats.hits()).isEqualTo(1);
+            assertThat(stats.misses()).isEqualTo(2);
+            assertThat(nearCache.find(NAME, "2")).isPresent();
+        }
+
+        @Test
+        @DisplayName("keyed findAll with every key cached does not reach the persistent store")
+        void keyedFindAllAllHits() {
+            nearCache.store(payload("1", "v1"));
+            nearCache.store(payload("2", "v2"));
+            Instant cutoff = NOW.plusSeconds(1);
+
+            assertThat(tiered.findAll(NAME, List.of("1", "2"), cutoff)).hasSize(2);
+            verifyNoInteractions(persistent);
+        }
+
+        @Test
+        @DisplayName("keyed findAll with expiry reads the missing keys with the same cutoff")
+        void keyedFindAllWithExpiry() {
+            Instant cutoff = NOW.plusSeconds(1);
+            when(persistent.findAll(NAME, List.of("1"), cutoff)).thenReturn(List.of(payload("1", "v1")));
+
+            assertThat(tiered.findAll(NAME, List.of("1"), cutoff)).hasSize(1);
+            assertThat(nearCache.find(NAME, "1")).isPresent();
+        }
+
+        @Test
+        @DisplayName("findAll and streamAll of a whole referential read the persistent store and leave the near cache alone")
+        void wholeReferential() {
+            when(persistent.findAll(NAME)).thenReturn(List.of(payload("1", "v1")));
+            when(persistent.streamAll(NAME, NOW)).thenReturn(Stream.of(payload("2", "v2")));
+
+            assertThat(tiered.findAll(NAME)).hasSize(1);
+            try (Stream<ReferentialPayload<String>> stream = tiered.streamAll(NAME, NOW)) {
+                assertThat(stream).hasSize(1);
+            }
+            assertThat(nearCache.findAll(NAME)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("write-through")
+    class WriteThrough {
+
+        @Test
+        @DisplayName("store writes the persistent store, then the near cache")
+        void store() {
+            ReferentialPayload<String> p = payload("1", "v1");
+            tiered.store(p);
+
+            verify(persistent).store(p);
+            assertThat(nearCache.find(NAME, "1")).contains(p);
+        }
+
+        @Test
+        @DisplayName("a rejected store leaves the near cache as it was")
+        void rejectedStore() {
+            nearCache.store(payload("1", "old"));
+            doThrow(new FailoverStoreException("down")).when(persistent).store(any());
+
+            assertThatThrownBy(() -> tiered.store(payload("1", "new"))).isInstanceOf(FailoverStoreException.class);
+            assertThat(nearCache.find(NAME, "1")).map(ReferentialPayload::getPayload).contains("old");
+        }
+
+        @Test
+        @DisplayName("storeAll caches only the payloads the persistent store accepted")
+        void storeAllPartialFailure() {
+            ReferentialPayload<String> ok = payload("1", "v1");
+            ReferentialPayload<String> ko = payload("2", "v2");
+            doThrow(new FailoverStoreBatchException(List.of(ko), new IllegalStateException("boom"))).when(persistent).storeAll(anyList());
+
+            assertThatThrownBy(() -> tiered.storeAll(List.of(ok, ko))).isInstanceOf(FailoverStoreBatchException.class);
+            assertThat(nearCache.find(NAME, "1")).isPresent();
+            assertThat(nearCache.find(NAME, "2")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("storeAll writes both tiers")
+        void storeAll() {
+            tiered.storeAll(List.of(payload("1", "v1"), payload("2", "v2")));
+            verify(persistent).storeAll(anyList());
+            assertThat(nearCache.findAll(NAME)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("touch touches the persistent store and refreshes the near cache")
+        void touch() {
+            ReferentialPayload<String> p = payload("1", "v1");
+            tiered.touch(p, NOW);
+            verify(persistent).touch(p, NOW);
+            verify(persistent, never()).store(any());
+            assertThat(nearCache.find(NAME, "1")).isPresent();
+        }
+
+        @Test
+        @DisplayName("delete removes the entry from the persistent store, then from the near cache")
+        void delete() {
+            ReferentialPayload<String> p = payload("1", "v1");
+            nearCache.store(p);
+            tiered.delete(p);
+
+            verify(persistent).delete(p);
+            assertThat(nearCache.find(NAME, "1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("deleteExpired reaches both tiers; cleanByExpiry only the persistent store")
+        void expiry() {
+            ReferentialPayload<String> p = payload("1", "v1");
+            nearCache.store(p);
+            tiered.deleteExpired(List.of(p));
+            tiered.cleanByExpiry(NOW);
+
+            verify(persistent).deleteExpired(List.of(p));
+            verify(persistent).cleanByExpiry(NOW);
+            assertThat(nearCache.find(NAME, "1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("close closes the persistent store")
+        @SuppressWarnings("unchecked")
+        void closeClosesPersistentStore() throws Exception {
+            FailoverStore<String> closeable = mock(FailoverStore.class, withSettings().extraInterfaces(AutoCloseable.class));
+
+            new TieredFailoverStore<>(nearCache, closeable, stats).close();
+
+            verify((AutoCloseable) closeable).close();
+            verify(closeable, never()).storeAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("write-behind")
+    class WriteBehind {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        private final Executor manual = tasks::add;
+
+        private void runTasks() {
+            while (!tasks.isEmpty()) {
+                tasks.removeFirst().run();
+            }
+        }
+
+        @Test
+        @DisplayName("store writes the near cache at once and the persistent store in one batch on drain")
+        void batchesOnDrain() {
+            TieredFailoverStore<String> behind = new TieredFailoverStore<>(nearCache, persistent, stats, 10, manual);
+            behind.store(payload("1", "v1"));
+            behind.storeAll(List.of(payload("2", "v2"), payload("3", "v3")));
+            behind.touch(payload("4", "v4"), NOW);
+
+            assertThat(behind.find(NAME, "3")).isPresent();
+            assertThat(behind.pendingWrites()).isEqualTo(4);
+            assertThat(tasks).hasSize(1);
+            verifyNoInteractions(persistent);
+
+            runTasks();
+            verify(persistent).storeAll(argThat(batch -> batch.size() == 4));
+            assertThat(behind.pendingWrites()).isZero();
+        }
+
+        @Test
+        @DisplayName("delete drops a queued write of the entry before deleting it")
+        void deleteDropsQueuedWrite() {
+            TieredFailoverStore<String> behind = new TieredFailoverStore<>(nearCache, persistent, stats, 10, manual);
+            ReferentialPayload<String> p = payload("1", "v1");
+            behind.store(p);
+            behind.store(payload("2", "v2"));
+            behind.delete(p);
+
+            assertThat(behind.pendingWrites()).isEqualTo(1);
+            verify(persistent).delete(p);
+            assertThat(behind.find(NAME, "1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("delete waits for a running drain, so a drained write cannot bring the entry back")
+        void deleteWaitsForRunningDrain() throws InterruptedException {
+            TieredFailoverStore<String> behind = new TieredFailoverStore<>(nearCache, persistent, stats, 10, manual);
+            CountDownLatch draining = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                draining.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(persistent).storeAll(anyList());
+            ReferentialPayload<String> p = payload("1", "v1");
+            behind.store(p);
+            Thread drainer = Thread.ofVirtual().start(tasks.removeFirst());
+            assertThat(draining.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Thread deleter = Thread.ofVirtual().start(() -> behind.delete(p));
+            deleter.join(100);
+            assertThat(deleter.isAlive()).isTrue();
+            verify(persistent, never()).delete(p);
+
+            release.countDown();
+            deleter.join(5_000);
+            drainer.join(5_000);
+
+            InOrder inOrder = inOrder(persistent);
+            inOrder.verify(persistent).storeAll(anyList());
+            inOrder.verify(persistent).delete(p);
+            assertThat(behind.find(NAME, "1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("close flushes the queued writes, closes the persistent store, and later writes go through")
+        @SuppressWarnings("unchecked")
+        void closeFlushesQueuedWrites() throws Exception {
+            FailoverStore<String> closeable = mock(FailoverStore.class, withSettings().extraInterfaces(AutoCloseable.class));
+            TieredFailoverStore<String> behind = new TieredFailoverStore<>(nearCache, closeable, stats, 10, manual);
+            behind.store(payload("1", "v1"));
+            behind.store(payload("2", "v2"));
+
+            behind.close();
+
+            verify(closeable).storeAll(argThat(batch -> batch.size() == 2));
+            verify((AutoCloseable) closeable).close();
+            assertThat(behind.pendingWrites()).isZero();
+
+            ReferentialPayload<String> late = payload("3", "v3");
+            behind.store(late);
+            verify(closeable).store(late);
+            assertThat(behind.pendingWrites()).isZero();
+        }
+
+        @Test
+        @DisplayName("a full queue writes through on the calling thread")
+        void fullQueueWritesThrough() {
+            TieredFailoverStore<String> behind = new TieredFailoverStore<>(nearCache, persistent, stats, 1, manual);
+            behind.store(payload("1", "v1"));
+            ReferentialPayload<String> overflow = payload("2", "v2");
+            behind.store(overflow);
+
+            verify(persistent).store(overflow);
+            assertThat(behind.pendingWrites()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("a full queue drops a queued older write of the entry before writing through")
+        void fullQueueDropsQueuedWriteOfEntry() {
+            TieredFailoverStore<String> behind = new TieredFailoverStore<>(nearCache, persistent, stats, 1, manual);
+            behind.store(payload("1", "v1"));
+            ReferentialPayload<String> newer = payload("1", "v2");
+            behind.store(newer);
+
+            verify(persistent).store(newer);
+            assertThat(behind.pendingWrites()).isZero();
+            runTasks();
+            verify(persistent, never()).storeAll(anyList());
+            assertThat(behind.find(NAME, "1")).get().extracting(ReferentialPayload::getPayload).isEqualTo("v2");
+        }
+
+        @Test
+        @DisplayName("a full queue waits for a running drain, so a drained older write cannot land over the newer one")
+        void fullQueueWaitsForRunningDrain() throws InterruptedException {
+            TieredFailoverStore<String> behind = new TieredFailoverStore<>(nearCache, persistent, stats, 1, manual);
+            CountDownLatch draining = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                draining.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(persistent).storeAll(anyList());
+            behind.store(payload("1", "v1"));
+            Thread drainer = Thread.ofVirtual().start(tasks.removeFirst());
+            assertThat(draining.await(5, TimeUnit.SECONDS)).isTrue();
+            behind.store(payload("2", "v1"));
+
+            ReferentialPayload<String> newer = payload("1", "v2");
+            Thread writer = Thread.ofVirtual().start(() -> behind.store(newer));
+            writer.join(100);
+            assertThat(writer.isAlive()).isTrue();
+            verify(persistent, never()).store(newer);
+
+            release.countDown();
+            writer.join(5_000);
+            drainer.join(5_000);
+
+            InOrder inOrder = inOrder(persistent);
+            inOrder.verify(persistent).storeAll(argThat(batch -> batch.size() == 1 && batch.getFirst().getKey().equals("1")));
+            inOrder.verify(persistent).store(newer);
+        }
+
+        @Test
+        @DisplayName("a rejected drain writes through on the calling thread")
+        void rejectedDrainWritesThrough() {
+            Executor rejecting = task -> {
+                throw new RejectedExecutionException("saturated");
+            };
+            TieredFailoverStore<String> behind = new TieredFailoverStore<>(nearCache, persistent, stats, 10, rejecting);
+            behind.store(payload("1", "v1"));
+
+            verify(persistent).storeAll(anyList());
+            assertThat(behind.pendingWrites()).isZero();
+        }
+
+        @Test
+        @DisplayName("a failed drain is counted and the near cache keeps the entries")
+        void failedDrainCounted() {
+            TieredFailoverStore<String> behind = new TieredFailoverStore<>(nearCache, persistent, stats, 10, manual);
+            doThrow(new FailoverStoreException("down")).when(persistent).storeAll(anyList());
+            behind.store(payload("1", "v1"));
+            behind.store(payload("2", "v2"));
+            runTasks();
+
+            assertThat(stats.failedWrites()).isEqualTo(2);
+            assertThat(nearCache.findAll(NAME)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("a partially failed drain counts only the failed payloads")
+        void partiallyFailedDrain() {
+            TieredFailoverStore<String> behind = new TieredFailoverStore<>(nearCache, persistent, stats, 10, manual);
+            ReferentialPayload<String> ko = payload("2", "v2");
+            doThrow(new FailoverStoreBatchException(List.of(ko), new IllegalStateException("boom"))).when(persistent).storeAll(anyList());
+            behind.store(payload("1", "v1"));
+            behind.store(ko);
+            runTasks();
+
+            assertThat(stats.failedWrites()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("the default executor drains on a virtual thread")
+        void virtualThreadDrain() {
+            TieredFailoverStore<String> behind = new TieredFailoverStore<>(nearCache, persistent, stats, 10);
+            behind.store(payload("1", "v1"));
+            await().untilAsserted(() -> verify(persistent).storeAll(anyList()));
+        }
+
+        @Test
+        @DisplayName("maxPendingWrites must be positive")
+        void rejectsMaxPending() {
+            assertThatThrownBy(() -> new TieredFailoverStore<>(nearCache, persistent, stats, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("maxPendingWrites");
+        }
+    }
+
+    @Nested
+    @DisplayName("live entry count")
+    class LiveEntryCount {
+
+        @Test
+        @DisplayName("forwarded to a size-aware persistent store")
+        @SuppressWarnings("unchecked")
+        void forwarded() {
+            FailoverStore<String> sizeAware = mock(FailoverStore.class, withSettings().extraInterfaces(FailoverStoreSizeAware.class));
+            when(((FailoverStoreSizeAware) sizeAware).liveEntryCount(NAME)).thenReturn(7L);
+            when(((FailoverStoreSizeAware) sizeAware).liveEntryCountSupported()).thenReturn(true);
+            TieredFailoverStore<String> store = new TieredFailoverStore<>(nearCache, sizeAware, stats);
+
+            assertThat(store.liveEntryCount(NAME)).isEqualTo(7L);
+            assertThat(store.liveEntryCountSupported()).isTrue();
+        }
+
+        @Test
+        @DisplayName("0 and unsupported otherwise")
+        void notSizeAware() {
+            assertThat(tiered.liveEntryCount(NAME)).isZero();
+            assertThat(tiered.liveEntryCountSupported()).isFalse();
+            assertThat(tiered.getNearCache()).isSameAs(nearCache);
+            assertThat(tiered.getFailoverStore()).isSameAs(persistent);
+            assertThat(new TieredStats().hitRatio()).isNaN();
+        }
+    }
+}
@@ -23,10 +23,12 @@ import com.societegenerale.failover.core.store.FailoverStoreSizeAware;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -100,6 +102,18 @@ public class FailoverStoreInmemory<T> implements FailoverStore<T>, FailoverStore
         store.put(storeKey(payload.getName(), payload.getKey()), payload);
     }
 
+    /**
+     * Stores defensive copies of the payloads with a single {@link Map#putAll}.
+     *
+     * @param referentialPayloads the payloads to store; must not be {@code null}
+     */
+    @Override
+    public void storeAll(List<ReferentialPayload<T>> referentialPayloads) {
+        Map<String, ReferentialPayload<T>> copies = new LinkedHashMap<>();
+        referentialPayloads.forEach(p -> copies.put(storeKey(p.getName(), p.getKey()), p.copy()));
+        store.putAll(copies);
+    }
+
     /**
      * Removes the entry for the given payload's ({@code name}, {@code key}) pair.
      *
@@ -112,6 +126,18 @@ public class FailoverStoreInmemory<T> implements FailoverStore<T>, FailoverStore
         store.remove(storeKey(referentialPayload.getName(), referentialPayload.getKey()));
     }
 
+    /**
+     * Removes the entries of the given expired payloads, each only while the stored entry still carries the same
+     * {@code expireOn} — an entry rewritten or touched since it was read is kept.
+     *
+     * @param referentialPayloads the expired payloads, as read from this store
+     */
+    @Override
+    public void deleteExpired(List<ReferentialPayload<T>> referentialPayloads) {
+        referentialPayloads.forEach(expired -> store.computeIfPresent(storeKey(expired.getName(), expired.getKey()),
+                (storeKey, stored) -> stored.getExpireOn().equals(expired.getExpireOn()) ? null : stored));
+    }
+
     /**
      * Looks up a payload by name and key, returning a defensive copy if found.
      *
@@ -124,6 +150,20 @@ public class FailoverStoreInmemory<T> implements FailoverStore<T>, FailoverStore
         return Optional.ofNullable(store.get(storeKey(name, key))).map(ReferentialPayload::copy);
     }
 
+    /**
+     * Looks up a payload by name and key, returning a defensive copy if found and not expiring before
+     * {@code expiredBefore} — an expired entry is not copied.
+     *
+     * @param name          the referential name
+     * @param key           the unique key within that referential
+     * @param expiredBefore entries expiring before this instant are left out
+     * @return an {@link Optional} containing a copy of the stored payload, or empty if not found or expired
+     */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key, Instant expiredBefore) {
+        return Optional.ofNullable(store.get(storeKey(name, key))).filter(p -> !p.getExpireOn().isBefore(expiredBefore)).map(ReferentialPayload::copy);
+    }
+
     /**
      * Returns defensive copies of all entries whose composite key is prefixed by {@code name##}.
      *
@@ -143,6 +183,34 @@ public class FailoverStoreInmemory<T> implements FailoverStore<T>, FailoverStore
         }
     }
 
+    /**
+     * Returns defensive copies of the entries stored under {@code name} for the given keys — one map lookup per
+     * key, no prefix scan. Keys without an entry are left out.
+     *
+     * @param name the referential name
+     * @param keys the keys to look up
+     * @return defensive copies of the payloads found, or an empty list if none
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys) {
+        return keys.stream().map(key -> store.get(storeKey(name, key))).filter(Objects::nonNull).map(ReferentialPayload::copy).toList();
+    }
+
+    /**
+     * Same as {@link #findAll(String, Collection)}, leaving out the entries expiring before {@code expiredBefore}
+     * without copying them.
+     *
+     * @param name          the referential name
+     * @param keys          the keys to look up
+     * @param expiredBefore entries expiring before this instant are left out
+     * @return defensive copies of the unexpired payloads found, or an empty list if none
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys, Instant expiredBefore) {
+        return keys.stream().map(key -> store.get(storeKey(name, key))).filter(Objects::nonNull)
+                .filter(p -> !p.getExpireOn().isBefore(expiredBefore)).map(ReferentialPayload::copy).toList();
+    }
+
     /**
      * Evicts all entries whose {@code expireOn} instant is strictly before the given cutoff.
      *
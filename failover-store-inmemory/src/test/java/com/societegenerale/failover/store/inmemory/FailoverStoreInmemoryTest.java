@@ -23,6 +23,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -121,6 +122,56 @@ class FailoverStoreInmemoryTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("should store all the referentials at once")
+    void shouldStoreAllTheReferentials() {
+        var rp2 = new ReferentialPayload<>("third-party-failover", "2", true, NOW, NOW, new ThirdParty(2L, "TATA", 6));
+
+        failoverStoreInmemory.storeAll(List.of(referentialPayload, rp2));
+
+        assertThat(failoverStoreInmemory.findAll("third-party-failover")).containsExactlyInAnyOrder(referentialPayload, rp2);
+    }
+
+    @Test
+    @DisplayName("should find the referentials of the given keys, leaving out missing keys and other names")
+    void shouldFindAllReferentialForGivenKeys() {
+        var rp2 = new ReferentialPayload<>("third-party-failover", "2", true, NOW, NOW, new ThirdParty(2L, "TATA", 6));
+        var other = new ReferentialPayload<>("other-failover", "3", true, NOW, NOW, new ThirdParty(3L, "BATA", 7));
+        failoverStoreInmemory.storeAll(List.of(referentialPayload, rp2, other));
+
+        var result = failoverStoreInmemory.findAll("third-party-failover", List.of("1", "3", "4"));
+
+        assertThat(result).containsExactly(referentialPayload);
+        assertThat(result.getFirst()).isNotSameAs(failoverStoreInmemory.find("third-party-failover", "1").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("should leave out the referentials expiring before the cutoff on find and findAll by keys")
+    void shouldLeaveOutExpiredReferentialsWithCutoff() {
+        var expired = new ReferentialPayload<>("third-party-failover", "2", true, NOW, NOW.minusSeconds(60), new ThirdParty(2L, "TATA", 6));
+        failoverStoreInmemory.storeAll(List.of(referentialPayload, expired));
+
+        assertThat(failoverStoreInmemory.find("third-party-failover", "1", NOW)).contains(referentialPayload);
+        assertThat(failoverStoreInmemory.find("third-party-failover", "2", NOW)).isEmpty();
+        assertThat(failoverStoreInmemory.find("third-party-failover", "3", NOW)).isEmpty();
+        assertThat(failoverStoreInmemory.findAll("third-party-failover", List.of("1", "2", "3"), NOW)).containsExactly(referentialPayload);
+    }
+
+    @Test
+    @DisplayName("should delete the expired referentials unless they were refreshed since they were read")
+    void shouldDeleteExpiredReferentialsUnlessRefreshed() {
+        var expired = new ReferentialPayload<>("third-party-failover", "2", true, NOW, NOW.minusSeconds(60), new ThirdParty(2L, "TATA", 6));
+        failoverStoreInmemory.storeAll(List.of(referentialPayload, expired));
+        var readExpired = failoverStoreInmemory.find("third-party-failover", "2").orElseThrow();
+        var readRefreshed = referentialPayload.copy().withUpToDate(false);
+        readRefreshed.setExpireOn(NOW.minusSeconds(60));
+
+        failoverStoreInmemory.deleteExpired(List.of(readExpired, readRefreshed, payload("9")));
+
+        assertThat(failoverStoreInmemory.find("third-party-failover", "2")).isEmpty();
+        assertThat(failoverStoreInmemory.find("third-party-failover", "1")).contains(referentialPayload);
+    }
+
     @Test
     @DisplayName("bounded store evicts the least-recently-accessed entry past maxEntries (audit I-10)")
     void shouldEvictLeastRecentlyAccessedWhenMaxEntriesExceeded() {
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.societegenerale.failover.store.jdbc;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chunked expiry-cleanup settings for {@link FailoverStoreJdbc}, shared by every store instance built from the
+ * same configuration (one per tenant in multi-tenant mode) so its counters cover them all.
+ *
+ * <p>Without chunking, {@link FailoverStoreJdbc#cleanByExpiry} removes every expired row in a single
+ * {@code DELETE}, which on a large table holds its locks and produces its undo/redo in one burst, stalling the
+ * concurrent merges of the store path. With chunking, each statement removes at most {@code chunkSize} rows;
+ * statements repeat, {@code pause} apart, until no expired row is left or the run has spent its
+ * {@code timeBudget} — whatever remains is removed by the next run.
+ *
+ * @author Anand Manissery
+ */
+public class ChunkedCleanup {
+
+    /** Max rows removed by one {@code DELETE}. */
+    @Getter
+    private final int chunkSize;
+
+    /** Pause between two chunks, letting the store path's writes through. */
+    @Getter
+    private final Duration pause;
+
+    /** Longest a cleanup run keeps deleting chunks. */
+    @Getter
+    private final Duration timeBudget;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder deletedRows = new LongAdder();
+    private final LongAdder durationNanos = new LongAdder();
+
+    /**
+     * @param chunkSize  max rows removed by one {@code DELETE}; must be {@code > 0}
+     * @param pause      pause between two chunks; must not be negative
+     * @param timeBudget longest a cleanup run keeps deleting chunks; must be positive
+     */
+    public ChunkedCleanup(int chunkSize, Duration pause, Duration timeBudget) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be > 0, but was " + chunkSize);
+        }
+        if (pause.isNegative()) {
+            throw new IllegalArgumentException("pause must not be negative, but was " + pause);
+        }
+        if (timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("timeBudget must be positive, but was " + timeBudget);
+        }
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.timeBudget = timeBudget;
+    }
+
+    /** @return cleanup runs completed */
+    public long cleanupRuns() {
+        return runs.sum();
+    }
+
+    /** @return rows removed by all cleanup runs */
+    public long deletedRows() {
+        return deletedRows.sum();
+    }
+
+    /** @return time spent by all cleanup runs, in nanoseconds */
+    public double cleanupNanos() {
+        return durationNanos.sum();
+    }
+
+    void recordRun(long deleted, long nanos) {
+        runs.increment();
+        deletedRows.add(deleted);
+        durationNanos.add(nanos);
+    }
+}
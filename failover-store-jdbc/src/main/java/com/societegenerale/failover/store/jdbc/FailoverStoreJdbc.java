@@ -18,22 +18,34 @@ package com.societegenerale.failover.store.jdbc;
 
 import com.societegenerale.failover.core.payload.ReferentialPayload;
 import com.societegenerale.failover.core.store.FailoverStore;
+import com.societegenerale.failover.core.store.FailoverStoreBatchException;
 import com.societegenerale.failover.core.store.FailoverStoreException;
 import com.societegenerale.failover.core.store.FailoverStoreSizeAware;
 import com.societegenerale.failover.store.jdbc.resolver.FailoverStoreQueryResolver;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DuplicateKeyException;
-import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
 
 /**
  * JDBC-backed {@link FailoverStore} implementation.
@@ -49,6 +61,19 @@ import java.util.concurrent.atomic.AtomicBoolean;
  *       is used from the start.</li>
  * </ol>
  *
+ * <p>{@link #storeAll} sends the merge statements in JDBC batches of {@code batchSize} rows, and
+ * {@link #findAll(String, Collection)} reads many keys with {@code IN (...)} selects, so a
+ * scatter/gather of many slices, or a buffered writer flushing many entries, costs a round trip
+ * per batch rather than per row. A row that fails does not fail the rest of its batch.
+ *
+ * <p>{@link #streamAll} reads a referential through a cursor of {@value #STREAM_FETCH_SIZE} rows per fetch,
+ * and leaves the payload of already-expired rows undeserialized, so recovering a large referential
+ * never holds all of its rows at once.
+ *
+ * <p>{@link #cleanByExpiry} removes the expired rows in a single {@code DELETE}, or — with a
+ * {@link ChunkedCleanup} and a dialect that can limit a {@code DELETE} — in chunks, so a large cleanup
+ * never holds its locks long enough to stall the store path.
+ *
  * @param <T> the type of the business payload held by each {@link ReferentialPayload}
  * @author Anand Manissery
  * @see FailoverStore
@@ -59,6 +84,15 @@ public class FailoverStoreJdbc<T> implements FailoverStore<T>, FailoverStoreSize
     /** Max INSERT→UPDATE attempts before a write is abandoned (1 initial + 1 bounded retry). */
     private static final int MAX_INSERT_OR_UPDATE_ATTEMPTS = 2;
 
+    /** Keys per {@code IN (...)} select of {@link #findAll(String, Collection)}, well under Oracle's 1000-element limit. */
+    static final int MAX_KEYS_PER_SELECT = 500;
+
+    /** Rows fetched per round trip by the cursor behind {@link #streamAll}. */
+    static final int STREAM_FETCH_SIZE = 500;
+
+    /** Rows per JDBC batch of {@link #storeAll} when none is configured. */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
     private final JdbcTemplate jdbcTemplate;
 
     private final FailoverStoreQueryResolver queryResolver;
@@ -79,6 +113,18 @@ public class FailoverStoreJdbc<T> implements FailoverStore<T>, FailoverStoreSize
     /** Flipped to false at runtime if the merge SQL fails with a grammar error. */
     private final AtomicBoolean mergeEnabled;
 
+    /** Max rows sent in one JDBC batch by {@link #storeAll}. */
+    @Getter
+    private final int batchSize;
+
+    /** Chunked expiry cleanup; {@code null} removes every expired row in a single {@code DELETE}. */
+    @Nullable
+    private final ChunkedCleanup chunkedCleanup;
+
+    /** A row of a {@link #storeAll} batch that could not be written. */
+    private record RowFailure<T>(ReferentialPayload<T> payload, RuntimeException cause) {
+    }
+
     /**
      * Constructs the store with the live-entries gauge disabled.
      *
@@ -91,7 +137,7 @@ public class FailoverStoreJdbc<T> implements FailoverStore<T>, FailoverStoreSize
     }
 
     /**
-     * Constructs the store and resolves the merge query at construction time.
+     * Constructs the store with {@value #DEFAULT_BATCH_SIZE} rows per JDBC batch.
      *
      * @param jdbcTemplate               the JDBC template used for all SQL operations
      * @param failoverStoreQueryResolver provides SQL strings, parameter arrays, and type arrays
@@ -100,6 +146,42 @@ public class FailoverStoreJdbc<T> implements FailoverStore<T>, FailoverStoreSize
      *                                   {@code SELECT COUNT(*)} per scrape (opt-in; see audit A7)
      */
     public FailoverStoreJdbc(JdbcTemplate jdbcTemplate, FailoverStoreQueryResolver failoverStoreQueryResolver, RowMapper<ReferentialPayload<T>> rowMapper, boolean liveEntryCountEnabled) {
+        this(jdbcTemplate, failoverStoreQueryResolver, rowMapper, liveEntryCountEnabled, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructs the store and resolves the merge query at construction time.
+     *
+     * @param jdbcTemplate               the JDBC template used for all SQL operations
+     * @param failoverStoreQueryResolver provides SQL strings, parameter arrays, and type arrays
+     * @param rowMapper                  maps {@code FAILOVER_STORE} rows to {@link ReferentialPayload}
+     * @param liveEntryCountEnabled      {@code true} to support the {@code failover.live.entries} gauge via a
+     *                                   {@code SELECT COUNT(*)} per scrape (opt-in; see audit A7)
+     * @param batchSize                  max rows sent in one JDBC batch by {@link #storeAll}; must be {@code > 0}
+     */
+    public FailoverStoreJdbc(JdbcTemplate jdbcTemplate, FailoverStoreQueryResolver failoverStoreQueryResolver, RowMapper<ReferentialPayload<T>> rowMapper,
+                             boolean liveEntryCountEnabled, int batchSize) {
+        this(jdbcTemplate, failoverStoreQueryResolver, rowMapper, liveEntryCountEnabled, batchSize, null);
+    }
+
+    /**
+     * Constructs the store and resolves the merge query at construction time.
+     *
+     * @param jdbcTemplate               the JDBC template used for all SQL operations
+     * @param failoverStoreQueryResolver provides SQL strings, parameter arrays, and type arrays
+     * @param rowMapper                  maps {@code FAILOVER_STORE} rows to {@link ReferentialPayload}
+     * @param liveEntryCountEnabled      {@code true} to support the {@code failover.live.entries} gauge via a
+     *                                   {@code SELECT COUNT(*)} per scrape (opt-in; see audit A7)
+     * @param batchSize                  max rows sent in one JDBC batch by {@link #storeAll}; must be {@code > 0}
+     * @param chunkedCleanup             chunked expiry-cleanup settings; {@code null} cleans up in a single {@code DELETE}
+     */
+    public FailoverStoreJdbc(JdbcTemplate jdbcTemplate, FailoverStoreQueryResolver failoverStoreQueryResolver, RowMapper<ReferentialPayload<T>> rowMapper,
+                             boolean liveEntryCountEnabled, int batchSize, @Nullable ChunkedCleanup chunkedCleanup) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be > 0, but was " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.chunkedCleanup = chunkedCleanup;
         this.jdbcTemplate  = jdbcTemplate;
         this.queryResolver = failoverStoreQueryResolver;
         this.rowMapper = rowMapper;
@@ -133,6 +215,54 @@ public class FailoverStoreJdbc<T> implements FailoverStore<T>, FailoverStoreSize
         insertOrUpdate(referentialPayload);
     }
 
+    /**
+     * Persists or updates the payloads, sending their merge statements in JDBC batches of {@code batchSize} rows.
+     *
+     * <p>When a batch fails, its rows are written again one by one through {@link #store}, so only the rows that
+     * fail on their own are lost; replaying the rows that made it is harmless since a merge is idempotent. The
+     * INSERT/UPDATE fallback, used when no merge dialect is available or the merge SQL fails with a
+     * {@link org.springframework.jdbc.BadSqlGrammarException}, writes row by row too.
+     *
+     * @param referentialPayloads the payloads to persist; must not be {@code null}
+     * @throws FailoverStoreBatchException naming the rows that could not be written, after every other row was
+     */
+    @Override
+    public void storeAll(List<ReferentialPayload<T>> referentialPayloads) {
+        List<RowFailure<T>> failures = new ArrayList<>();
+        for (int from = 0; from < referentialPayloads.size(); from += batchSize) {
+            storeBatch(referentialPayloads.subList(from, Math.min(from + batchSize, referentialPayloads.size())), failures);
+        }
+        if (!failures.isEmpty()) {
+            throw new FailoverStoreBatchException(failures.stream().map(RowFailure::payload).toList(), failures.getFirst().cause());
+        }
+    }
+
+    private void storeBatch(List<ReferentialPayload<T>> batch, List<RowFailure<T>> failures) {
+        if (mergeEnabled.get()) {
+            try {
+                var counts = jdbcTemplate.batchUpdate(mergeQuery,
+                        batch.stream().map(queryResolver::buildInsertMergeParams).toList(),
+                        queryResolver.buildInsertMergeTypes());
+                log.debug("Referential payloads merged in one batch. Statements executed: '{}'", counts.length);
+                return;
+            } catch (BadSqlGrammarException e) {
+                log.warn("Native merge/upsert not supported by this database — switching permanently to INSERT/UPDATE fallback. Cause: {}", e.getMessage());
+                mergeEnabled.set(false);
+            } catch (DataAccessException e) {
+                log.debug("Batch of {} merge statement(s) failed — storing its rows one by one. Cause: {}", batch.size(), e.getMessage());
+            }
+        }
+        for (ReferentialPayload<T> referentialPayload : batch) {
+            try {
+                store(referentialPayload);
+            } catch (RuntimeException e) {
+                log.warn("Referential payload of batch could not be stored for name='{}', key='{}'. Cause: {}",
+                        referentialPayload.getName(), referentialPayload.getKey(), e.getMessage());
+                failures.add(new RowFailure<>(referentialPayload, e));
+            }
+        }
+    }
+
     /**
      * Inserts the payload; on {@link org.springframework.dao.DuplicateKeyException} falls back to UPDATE.
      *
@@ -169,6 +299,36 @@ public class FailoverStoreJdbc<T> implements FailoverStore<T>, FailoverStoreSize
                 referentialPayload.getName(), referentialPayload.getKey(), MAX_INSERT_OR_UPDATE_ATTEMPTS);
     }
 
+    /**
+     * Refreshes only {@code AS_OF} and {@code EXPIRE_ON} of the row, leaving the {@code PAYLOAD} column (and
+     * the redo/WAL its rewrite would cost) untouched, while the row still has the {@code EXPIRE_ON} the caller
+     * last wrote. When no such row exists — removed by expiry cleanup, or rewritten by another instance since the
+     * caller's write, or without a touch query from the resolver — the payload is stored in full instead.
+     *
+     * <p>The check relies on {@code EXPIRE_ON} keeping the precision it was written with (e.g.
+     * {@code TIMESTAMP(9)}); a column that rounds it only turns every touch into a full write.
+     *
+     * @param referentialPayload the payload carrying the new {@code asOf}/{@code expireOn}; must not be {@code null}
+     * @param writtenExpireOn    the {@code expireOn} the caller last wrote the row with
+     */
+    @Override
+    public void touch(ReferentialPayload<T> referentialPayload, Instant writtenExpireOn) {
+        String touchQuery = queryResolver.getTouchQuery();
+        if (touchQuery == null) {
+            store(referentialPayload);
+            return;
+        }
+        var count = jdbcTemplate.update(touchQuery,
+                queryResolver.buildTouchParams(referentialPayload, writtenExpireOn),
+                queryResolver.buildTouchTypes());
+        if (count > 0) {
+            log.debug("Referential payload touched. Records updated: '{}'", count);
+            return;
+        }
+        log.debug("No row to touch as last written for name='{}', key='{}' — storing the payload in full.", referentialPayload.getName(), referentialPayload.getKey());
+        store(referentialPayload);
+    }
+
     /**
      * Deletes the row identified by the payload's {@code name} and {@code key}.
      *
@@ -181,24 +341,71 @@ public class FailoverStoreJdbc<T> implements FailoverStore<T>, FailoverStoreSize
         log.debug("Referential payload deleted. No of record deleted : '{}'", count);
     }
 
+    /**
+     * Deletes the rows of the given expired payloads with batched {@code DELETE}s of at most {@code batchSize}
+     * statements each, every row only while its {@code EXPIRE_ON} still equals the one it was read with — a row
+     * rewritten or touched since is kept. Without a guarded delete query from the resolver, the rows are left to
+     * {@link #cleanByExpiry}.
+     *
+     * @param referentialPayloads the expired payloads, as read from this store
+     */
+    @Override
+    public void deleteExpired(List<ReferentialPayload<T>> referentialPayloads) {
+        String deleteExpiredQuery = queryResolver.getDeleteExpiredQuery();
+        if (deleteExpiredQuery == null) {
+            log.debug("No guarded delete query — {} expired referential payloads are left to the expiry cleanup.", referentialPayloads.size());
+            return;
+        }
+        int[] types = {Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP};
+        for (int from = 0; from < referentialPayloads.size(); from += batchSize) {
+            var counts = jdbcTemplate.batchUpdate(deleteExpiredQuery,
+                    referentialPayloads.subList(from, Math.min(from + batchSize, referentialPayloads.size())).stream()
+                            .map(payload -> new Object[]{payload.getName(), payload.getKey(), Timestamp.from(payload.getExpireOn())})
+                            .toList(),
+                    types);
+            log.debug("Expired referential payloads deleted in one batch. Statements executed: '{}'", counts.length);
+        }
+    }
+
     /**
      * Looks up the payload for the given {@code name} and {@code key}.
      *
+     * <p>A missing row is an empty result, not an exception: recoveries of keys that were never stored are
+     * frequent while an upstream is down, and each would otherwise build and discard a stack trace.
+     *
      * @param name the referential name
      * @param key  the unique key within that referential
      * @return an {@link Optional} containing the payload, or empty if not found
      */
     @Override
     public Optional<ReferentialPayload<T>> find(String name, String key) {
-        try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(
-                    queryResolver.getSelectQuery(),
-                    rowMapper,
-                    name, key));
-        } catch (EmptyResultDataAccessException e) {
-            log.debug("No referential found for name : '{}'", name, e);
-            return Optional.empty();
+        return Optional.ofNullable(jdbcTemplate.query(queryResolver.getSelectQuery(), this::firstRow, name, key));
+    }
+
+    /**
+     * Looks up the payload for the given {@code name} and {@code key} with {@code EXPIRE_ON >= expiredBefore} in the
+     * query, so an expired row is neither transferred nor deserialized. Without such a query from the resolver, the
+     * row is read with {@link #find(String, String)} and filtered in memory.
+     *
+     * @param name          the referential name
+     * @param key           the unique key within that referential
+     * @param expiredBefore rows expiring before this instant are left out
+     * @return an {@link Optional} containing the payload, or empty if not found or expired
+     */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key, Instant expiredBefore) {
+        String selectUnexpiredQuery = queryResolver.getSelectUnexpiredQuery();
+        if (selectUnexpiredQuery == null) {
+            return FailoverStore.super.find(name, key, expiredBefore);
         }
+        return Optional.ofNullable(jdbcTemplate.query(selectUnexpiredQuery, this::firstRow,
+                name, key, Timestamp.from(expiredBefore)));
+    }
+
+    /** Maps the first row of a single-key select, or returns {@code null} when there is none. */
+    @Nullable
+    private ReferentialPayload<T> firstRow(ResultSet resultSet) throws SQLException {
+        return resultSet.next() ? rowMapper.mapRow(resultSet, 0) : null;
     }
 
     /**
@@ -216,15 +423,150 @@ public class FailoverStoreJdbc<T> implements FailoverStore<T>, FailoverStoreSize
         return jdbcTemplate.query(queryResolver.getSelectAllByNameQuery(), rowMapper, name);
     }
 
+    /**
+     * Streams the rows of the given referential {@code name} through a database cursor, fetching
+     * {@value #STREAM_FETCH_SIZE} rows per round trip; the statement and its connection are held until the
+     * stream is closed.
+     *
+     * <p>A row whose {@code EXPIRE_ON} is before {@code expiredBefore} is returned without deserializing its
+     * {@code PAYLOAD}: its name, key, {@code AS_OF} and {@code EXPIRE_ON} are read, its payload is {@code null}.
+     * Every other row goes through {@code rowMapper}. On PostgreSQL the driver only honours the fetch size
+     * inside a transaction; outside one it reads the whole result at once, as {@link #findAll(String)} does.
+     *
+     * @param name          the referential name
+     * @param expiredBefore rows expiring before this instant are returned without their payload
+     * @return a stream of the matching payloads, to be closed by the caller
+     */
+    @Override
+    public Stream<ReferentialPayload<T>> streamAll(String name, Instant expiredBefore) throws FailoverStoreException {
+        String selectAllByNameQuery = queryResolver.getSelectAllByNameQuery();
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement(selectAllByNameQuery);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            statement.setString(1, name);
+            return statement;
+        }, (resultSet, rowNum) -> mapUnlessExpired(resultSet, rowNum, expiredBefore));
+    }
+
+    private @Nullable ReferentialPayload<T> mapUnlessExpired(ResultSet resultSet, int rowNum, Instant expiredBefore) throws SQLException {
+        Timestamp asOf = resultSet.getTimestamp("AS_OF");
+        Timestamp expireOn = resultSet.getTimestamp("EXPIRE_ON");
+        if (asOf == null || expireOn == null || !expireOn.toInstant().isBefore(expiredBefore)) {
+            // live row, or a corrupt one left to the row mapper to reject
+            return rowMapper.mapRow(resultSet, rowNum);
+        }
+        return new ReferentialPayload<>(resultSet.getString("FAILOVER_NAME"), resultSet.getString("FAILOVER_KEY"), false,
+                asOf.toInstant(), expireOn.toInstant(), null);
+    }
+
+    /**
+     * Returns the rows of the given referential {@code name} for the given keys, read with
+     * {@code IN (...)} selects of at most {@value #MAX_KEYS_PER_SELECT} keys each, or one by one without a keyed
+     * select from the resolver. Keys without a row are left out.
+     *
+     * @param name the referential name
+     * @param keys the keys to look up
+     * @return the matching payloads, or an empty list if none exist
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys) throws FailoverStoreException {
+        return findByKeys(keys, queryResolver::getSelectByKeysQuery, key -> find(name, key), name);
+    }
+
+    /**
+     * Same as {@link #findAll(String, Collection)}, with {@code EXPIRE_ON >= expiredBefore} in each select so
+     * expired rows are neither transferred nor deserialized.
+     *
+     * @param name          the referential name
+     * @param keys          the keys to look up
+     * @param expiredBefore rows expiring before this instant are left out
+     * @return the matching unexpired payloads, or an empty list if none exist
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys, Instant expiredBefore) throws FailoverStoreException {
+        return findByKeys(keys, queryResolver::getSelectUnexpiredByKeysQuery, key -> find(name, key, expiredBefore),
+                name, Timestamp.from(expiredBefore));
+    }
+
+    /**
+     * Runs the keyed select once per chunk of keys, binding {@code leadingArgs} before the keys of the chunk, or
+     * {@code findOne} per key when the resolver has no keyed select.
+     */
+    private List<ReferentialPayload<T>> findByKeys(Collection<String> keys, IntFunction<@Nullable String> queryForKeyCount,
+                                                   Function<String, Optional<ReferentialPayload<T>>> findOne, Object... leadingArgs) {
+        List<String> distinctKeys = keys.stream().distinct().toList();
+        List<ReferentialPayload<T>> found = new ArrayList<>(distinctKeys.size());
+        for (int from = 0; from < distinctKeys.size(); from += MAX_KEYS_PER_SELECT) {
+            List<String> chunk = distinctKeys.subList(from, Math.min(from + MAX_KEYS_PER_SELECT, distinctKeys.size()));
+            String query = queryForKeyCount.apply(chunk.size());
+            if (query == null) {
+                chunk.forEach(key -> findOne.apply(key).ifPresent(found::add));
+                continue;
+            }
+            Object[] args = new Object[leadingArgs.length + chunk.size()];
+            System.arraycopy(leadingArgs, 0, args, 0, leadingArgs.length);
+            for (int i = 0; i < chunk.size(); i++) {
+                args[leadingArgs.length + i] = chunk.get(i);
+            }
+            found.addAll(jdbcTemplate.query(query, rowMapper, args));
+        }
+        return found;
+    }
+
     /**
      * Deletes all rows whose {@code EXPIRE_ON} is before {@code expiry}.
      *
+     * <p>With a {@link ChunkedCleanup}, each {@code DELETE} removes at most {@code chunkSize} rows. Chunks repeat,
+     * {@code pause} apart, until one comes back short — nothing expired is left — or the next one would start after
+     * the run's {@code timeBudget}, leaving the rest to the next run. The rows removed and the time spent are
+     * recorded per run. Without a dialect able to limit a {@code DELETE}, the rows are removed in one statement.
+     *
      * @param expiry the cut-off instant; rows with {@code EXPIRE_ON < expiry} are removed
      */
     @Override
     public void cleanByExpiry(Instant expiry) {
-        var count = jdbcTemplate.update(queryResolver.getCleanUpQuery(), Timestamp.from(expiry));
-        log.debug("Referential payload cleaned up by given expiry : '{}' . No of record deleted : '{}'", expiry, count);
+        String chunkedQuery = queryResolver.getChunkedCleanUpQuery();
+        if (chunkedCleanup == null || chunkedQuery == null) {
+            var count = jdbcTemplate.update(queryResolver.getCleanUpQuery(), Timestamp.from(expiry));
+            log.debug("Referential payload cleaned up by given expiry : '{}' . No of record deleted : '{}'", expiry, count);
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + chunkedCleanup.getTimeBudget().toNanos();
+        long deleted = 0;
+        int chunks = 0;
+        while (true) {
+            int count = jdbcTemplate.update(chunkedQuery, Timestamp.from(expiry), chunkedCleanup.getChunkSize());
+            deleted += count;
+            chunks++;
+            if (count < chunkedCleanup.getChunkSize()) {
+                break;
+            }
+            if (System.nanoTime() + chunkedCleanup.getPause().toNanos() >= deadline) {
+                log.info("Referential payload cleanup stopped after {} chunk(s): time budget of {} spent, the remaining expired rows are left to the next run.",
+                        chunks, chunkedCleanup.getTimeBudget());
+                break;
+            }
+            if (!pauseBetweenChunks(chunkedCleanup.getPause())) {
+                break;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        chunkedCleanup.recordRun(deleted, nanos);
+        log.debug("Referential payload cleaned up by given expiry : '{}' . No of record deleted : '{}' in {} chunk(s), {} ms",
+                expiry, deleted, chunks, nanos / 1_000_000);
+    }
+
+    /** @return {@code false} when interrupted during the pause, which ends the cleanup run */
+    private static boolean pauseBetweenChunks(Duration pause) {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Referential payload cleanup interrupted, the remaining expired rows are left to the next run.");
+            return false;
+        }
     }
 
     /**
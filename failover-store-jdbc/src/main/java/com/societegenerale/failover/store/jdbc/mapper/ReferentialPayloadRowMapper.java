@@ -16,6 +16,7 @@
 
 package com.societegenerale.failover.store.jdbc.mapper;
 
+import com.societegenerale.failover.core.payload.LazyReferentialPayload;
 import com.societegenerale.failover.core.payload.ReferentialPayload;
 import com.societegenerale.failover.core.store.FailoverStoreException;
 import com.societegenerale.failover.store.jdbc.resolver.PayloadColumnResolver;
@@ -34,9 +35,15 @@ import org.springframework.jdbc.core.RowMapper;
  *       in either column triggers a {@link com.societegenerale.failover.core.store.FailoverStoreException})</li>
  *   <li>{@code PAYLOAD_CLASS} — fully-qualified class name resolved via {@link Serializer#toClass(String)}</li>
  *   <li>{@code PAYLOAD} — serialized payload extracted by the {@link PayloadColumnResolver}
- *       and deserialized via {@link Serializer#deserialize}</li>
+ *       and deserialized via {@link Serializer#deserialize}, or as bytes via
+ *       {@link Serializer#deserializeFromBytes} when the resolver is {@link PayloadColumnResolver#binary() binary}</li>
  * </ul>
  *
+ * <p>The payload is deserialized lazily: the row is mapped to a {@link LazyReferentialPayload} holding the
+ * serialized form, and {@link Serializer#deserialize} only runs on its first {@code getPayload()}. A row
+ * that turns out to be expired, or is otherwise never read, costs no deserialization (nor decryption).
+ * The class is still resolved while mapping, so a class rejected by the allowlist fails the read.
+ *
  * <p>The {@code upToDate} flag is always set to {@code false} for rows read from the store.
  *
  * @param <T> the type of the business payload
@@ -54,7 +61,7 @@ public class ReferentialPayloadRowMapper<T> implements RowMapper<ReferentialPayl
      *
      * @param rs     the {@code ResultSet} positioned on the current row
      * @param rowNum the row number (unused)
-     * @return the mapped payload with {@code upToDate} set to {@code false}
+     * @return the mapped payload with {@code upToDate} set to {@code false}, deserialized on first access
      * @throws java.sql.SQLException if any column cannot be read
      * @throws com.societegenerale.failover.core.store.FailoverStoreException if {@code AS_OF}
      *         or {@code EXPIRE_ON} is {@code NULL}, indicating a corrupt row
@@ -74,7 +81,13 @@ public class ReferentialPayloadRowMapper<T> implements RowMapper<ReferentialPayl
         var expireOn        = expireOnTs.toInstant();
         String payloadClass = rs.getString("PAYLOAD_CLASS");
         Class<T> clazz = serializer.toClass(payloadClass); //cast(forName(payloadClass));
-        T payload = serializer.deserialize(payloadColumnResolver.extractPayload(rs, "PAYLOAD"), clazz);
-        return new ReferentialPayload<>(failoverName, failoverKey, false, asOf, expireOn, payload);
+        if (payloadColumnResolver.binary()) {
+            byte[] serialized = payloadColumnResolver.extractPayloadBytes(rs, "PAYLOAD");
+            return new LazyReferentialPayload<>(failoverName, failoverKey, false, asOf, expireOn,
+                    () -> serializer.deserializeFromBytes(serialized, clazz));
+        }
+        String serialized = payloadColumnResolver.extractPayload(rs, "PAYLOAD");
+        return new LazyReferentialPayload<>(failoverName, failoverKey, false, asOf, expireOn,
+                () -> serializer.deserialize(serialized, clazz));
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.resolver;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Set;
+
+/**
+ * {@link PayloadColumnResolver} for a binary PAYLOAD column ({@code BLOB}, {@code BYTEA}, {@code VARBINARY}, ...).
+ *
+ * <p>The payload is bound and read as {@code byte[]}, so the serializer's bytes reach the column without
+ * going through a {@code String}, and an encrypted payload is stored as raw ciphertext rather than Base64 text.
+ *
+ * <p>The JDBC type defaults to {@link Types#BLOB} (Oracle, H2, DB2). Use {@link Types#VARBINARY} for a
+ * PostgreSQL {@code BYTEA}, a SQL Server {@code VARBINARY(MAX)} or a MySQL/MariaDB {@code LONGBLOB}: PostgreSQL
+ * maps {@code BLOB} to large objects, not to {@code BYTEA}.
+ *
+ * @author Anand Manissery
+ */
+public class BlobPayloadColumnResolver implements PayloadColumnResolver {
+
+    private static final Set<Integer> BINARY_TYPES = Set.of(Types.BLOB, Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY);
+
+    private final int payloadType;
+
+    /**
+     * Creates a resolver binding the payload as {@link Types#BLOB}.
+     */
+    public BlobPayloadColumnResolver() {
+        this(Types.BLOB);
+    }
+
+    /**
+     * Creates a resolver binding the payload with the given binary JDBC type.
+     *
+     * @param payloadType one of {@link Types#BLOB}, {@link Types#BINARY}, {@link Types#VARBINARY} or {@link Types#LONGVARBINARY}
+     * @throws IllegalArgumentException if {@code payloadType} is not a binary JDBC type
+     */
+    public BlobPayloadColumnResolver(int payloadType) {
+        if (!BINARY_TYPES.contains(payloadType)) {
+            throw new IllegalArgumentException("BlobPayloadColumnResolver needs a binary JDBC type (BLOB, BINARY, VARBINARY or LONGVARBINARY), but was " + payloadType + ".");
+        }
+        this.payloadType = payloadType;
+    }
+
+    @Override
+    public int payloadType() {
+        return payloadType;
+    }
+
+    @Override
+    public boolean binary() {
+        return true;
+    }
+
+    @Override
+    public byte[] extractPayloadBytes(ResultSet resultSet, String payloadColumn) throws SQLException {
+        return resultSet.getBytes(payloadColumn);
+    }
+
+    /** Reads the bytes as UTF-8 text, for callers still on the string path. */
+    @Override
+    public String extractPayload(ResultSet resultSet, String payloadColumn) throws SQLException {
+        byte[] payload = extractPayloadBytes(resultSet, payloadColumn);
+        return payload == null ? null : new String(payload, StandardCharsets.UTF_8);
+    }
+}
@@ -24,6 +24,7 @@ import org.jspecify.annotations.Nullable;
 
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.Collections;
 import java.util.regex.Pattern;
 
 import static org.springframework.util.StringUtils.replace;
@@ -53,6 +54,10 @@ import static org.springframework.util.StringUtils.replace;
  *   <li><b>Other</b> — falls back to separate INSERT + UPDATE (no native upsert)</li>
  * </ul>
  *
+ * <p>The same dialect picks the row limit of the chunked expiry cleanup: {@code FETCH FIRST} (H2),
+ * {@code LIMIT} (MySQL / MariaDB, and a {@code ctid} sub-select on PostgreSQL, whose DELETE has no
+ * limit) and {@code ROWNUM} (Oracle). Other databases clean up in a single DELETE.
+ *
  * <p>This class has no I/O dependencies and is fully unit-testable.
  *
  * @author Anand Manissery
@@ -75,12 +80,28 @@ public class DefaultFailoverStoreQueryResolver implements FailoverStoreQueryReso
     /** Params: AS_OF, EXPIRE_ON, PAYLOAD, PAYLOAD_CLASS, FAILOVER_NAME, FAILOVER_KEY */
     private static final String UPDATE_SQL = "UPDATE " + PREFIX + "FAILOVER_STORE SET AS_OF = ? , EXPIRE_ON = ? , PAYLOAD = ? , PAYLOAD_CLASS = ? WHERE FAILOVER_NAME = ? AND FAILOVER_KEY = ?";
 
+    /** Params: AS_OF, EXPIRE_ON, FAILOVER_NAME, FAILOVER_KEY */
+    private static final String TOUCH_SQL = "UPDATE " + PREFIX + "FAILOVER_STORE SET AS_OF = ? , EXPIRE_ON = ? WHERE FAILOVER_NAME = ? AND FAILOVER_KEY = ? AND EXPIRE_ON = ?";
+
     private static final String SELECT_SQL              = "SELECT FAILOVER_NAME, FAILOVER_KEY, AS_OF, EXPIRE_ON, PAYLOAD, PAYLOAD_CLASS FROM " + PREFIX + "FAILOVER_STORE WHERE FAILOVER_NAME = ? AND FAILOVER_KEY = ?";
     private static final String SELECT_ALL_BY_NAME_SQL  = "SELECT FAILOVER_NAME, FAILOVER_KEY, AS_OF, EXPIRE_ON, PAYLOAD, PAYLOAD_CLASS FROM " + PREFIX + "FAILOVER_STORE WHERE FAILOVER_NAME = ?";
     private static final String DELETE_SQL              = "DELETE FROM " + PREFIX + "FAILOVER_STORE WHERE FAILOVER_NAME = ? AND FAILOVER_KEY = ?";
+
+    /** Params: FAILOVER_NAME, FAILOVER_KEY, EXPIRE_ON */
+    private static final String SELECT_UNEXPIRED_SQL    = SELECT_SQL + " AND EXPIRE_ON >= ?";
+
+    /** Params: FAILOVER_NAME, FAILOVER_KEY, EXPIRE_ON — deletes the row only while it was not rewritten or touched */
+    private static final String DELETE_EXPIRED_SQL      = DELETE_SQL + " AND EXPIRE_ON = ?";
+
     private static final String CLEAN_UP_SQL = "DELETE FROM " + PREFIX + "FAILOVER_STORE WHERE EXPIRE_ON < ?";
     private static final String COUNT_BY_NAME_SQL = "SELECT COUNT(*) FROM " + PREFIX + "FAILOVER_STORE WHERE FAILOVER_NAME = ?";
 
+    /** Row-limited expiry cleanup per dialect. Params: EXPIRE_ON, max rows */
+    private static final String CHUNKED_CLEAN_UP_SQL_H2         = CLEAN_UP_SQL + " FETCH FIRST ? ROWS ONLY";
+    private static final String CHUNKED_CLEAN_UP_SQL_POSTGRESQL = "DELETE FROM " + PREFIX + "FAILOVER_STORE WHERE ctid IN (SELECT ctid FROM " + PREFIX + "FAILOVER_STORE WHERE EXPIRE_ON < ? LIMIT ?)";
+    private static final String CHUNKED_CLEAN_UP_SQL_MYSQL      = CLEAN_UP_SQL + " LIMIT ?";
+    private static final String CHUNKED_CLEAN_UP_SQL_ORACLE     = CLEAN_UP_SQL + " AND ROWNUM <= ?";
+
     /** H2 native MERGE. Params: FAILOVER_NAME, FAILOVER_KEY, AS_OF, EXPIRE_ON, PAYLOAD, PAYLOAD_CLASS */
     private static final String MERGE_SQL_H2 = "MERGE INTO " + PREFIX + "FAILOVER_STORE (FAILOVER_NAME, FAILOVER_KEY, AS_OF, EXPIRE_ON, PAYLOAD, PAYLOAD_CLASS) KEY (FAILOVER_NAME, FAILOVER_KEY) VALUES (?, ?, ?, ?, ?, ?)";
 
@@ -99,12 +120,19 @@ public class DefaultFailoverStoreQueryResolver implements FailoverStoreQueryReso
 
     @Getter private final String insertQuery;
     @Getter private final String updateQuery;
+    @Getter private final String touchQuery;
     @Getter private final String selectQuery;
+    @Getter private final String selectUnexpiredQuery;
     @Getter private final String selectAllByNameQuery;
     @Getter private final String deleteQuery;
+    @Getter private final String deleteExpiredQuery;
     @Getter private final String cleanUpQuery;
     @Getter private final String countByNameQuery;
 
+    /** Row-limited expiry cleanup for the detected database, or {@code null} when no dialect is available. */
+    @Nullable
+    @Getter private final String chunkedCleanUpQuery;
+
     /**
      * Native merge/upsert query resolved for the detected database, or {@code null} when
      * no known dialect is available — the store falls back to INSERT + UPDATE in that case.
@@ -140,12 +168,34 @@ public class DefaultFailoverStoreQueryResolver implements FailoverStoreQueryReso
         this.payloadColumnResolver = payloadColumnResolver;
         this.insertQuery           = applyPrefix(INSERT_SQL,             tablePrefix);
         this.updateQuery           = applyPrefix(UPDATE_SQL,             tablePrefix);
+        this.touchQuery            = applyPrefix(TOUCH_SQL,              tablePrefix);
         this.selectQuery           = applyPrefix(SELECT_SQL,             tablePrefix);
+        this.selectUnexpiredQuery  = applyPrefix(SELECT_UNEXPIRED_SQL,   tablePrefix);
         this.selectAllByNameQuery  = applyPrefix(SELECT_ALL_BY_NAME_SQL, tablePrefix);
         this.deleteQuery           = applyPrefix(DELETE_SQL,             tablePrefix);
+        this.deleteExpiredQuery    = applyPrefix(DELETE_EXPIRED_SQL,     tablePrefix);
         this.cleanUpQuery          = applyPrefix(CLEAN_UP_SQL,           tablePrefix);
         this.countByNameQuery      = applyPrefix(COUNT_BY_NAME_SQL,      tablePrefix);
-        this.mergeQuery            = resolveMergeQuery(tablePrefix, databaseResolver.resolve());
+        String dbProduct           = databaseResolver.resolve();
+        this.mergeQuery            = resolveMergeQuery(tablePrefix, dbProduct);
+        this.chunkedCleanUpQuery   = resolveChunkedCleanUpQuery(tablePrefix, dbProduct);
+    }
+
+    @Override
+    public String getSelectByKeysQuery(int keyCount) {
+        return selectAllByNameQuery + keyInList(keyCount);
+    }
+
+    @Override
+    public String getSelectUnexpiredByKeysQuery(int keyCount) {
+        return selectAllByNameQuery + " AND EXPIRE_ON >= ?" + keyInList(keyCount);
+    }
+
+    private static String keyInList(int keyCount) {
+        if (keyCount <= 0) {
+            throw new IllegalArgumentException("keyCount must be > 0, but was " + keyCount);
+        }
+        return " AND FAILOVER_KEY IN (" + String.join(", ", Collections.nCopies(keyCount, "?")) + ")";
     }
 
     // -----------------------------------------------------------------
@@ -159,11 +209,16 @@ public class DefaultFailoverStoreQueryResolver implements FailoverStoreQueryReso
                 p.getKey(),
                 Timestamp.from(p.getAsOf()),
                 Timestamp.from(p.getExpireOn()),
-                serializer.serialize(p.getPayload()),
+                payloadColumnValue(p),
                 serializer.toClassName(p.getPayload())
         };
     }
 
+    /** The serialized payload in the column's form: bytes for a binary column, a string otherwise. */
+    private <T> Object payloadColumnValue(ReferentialPayload<T> p) {
+        return payloadColumnResolver.binary() ? serializer.serializeToBytes(p.getPayload()) : serializer.serialize(p.getPayload());
+    }
+
     @Override
     public int[] buildInsertMergeTypes() {
         return new int[]{Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP, payloadColumnResolver.payloadType(), Types.VARCHAR};
@@ -174,7 +229,7 @@ public class DefaultFailoverStoreQueryResolver implements FailoverStoreQueryReso
         return new Object[]{
                 Timestamp.from(p.getAsOf()),
                 Timestamp.from(p.getExpireOn()),
-                serializer.serialize(p.getPayload()),
+                payloadColumnValue(p),
                 serializer.toClassName(p.getPayload()),
                 p.getName(),
                 p.getKey()
@@ -187,7 +242,7 @@ public class DefaultFailoverStoreQueryResolver implements FailoverStoreQueryReso
     }
 
     // -----------------------------------------------------------------
-    // Merge dialect detection
+    // Dialect detection (merge and chunked cleanup)
     // -----------------------------------------------------------------
 
     @Nullable
@@ -217,6 +272,24 @@ public class DefaultFailoverStoreQueryResolver implements FailoverStoreQueryReso
         return null;
     }
 
+    @Nullable
+    private static String resolveChunkedCleanUpQuery(String tablePrefix, @Nullable String dbProduct) {
+        String db = dbProduct == null ? "" : dbProduct.toLowerCase();
+        if (db.contains("h2")) {
+            return applyPrefix(CHUNKED_CLEAN_UP_SQL_H2, tablePrefix);
+        }
+        if (db.contains("postgres")) {
+            return applyPrefix(CHUNKED_CLEAN_UP_SQL_POSTGRESQL, tablePrefix);
+        }
+        if (db.contains("mysql") || db.contains("mariadb")) {
+            return applyPrefix(CHUNKED_CLEAN_UP_SQL_MYSQL, tablePrefix);
+        }
+        if (db.contains("oracle")) {
+            return applyPrefix(CHUNKED_CLEAN_UP_SQL_ORACLE, tablePrefix);
+        }
+        return null;
+    }
+
     // -----------------------------------------------------------------
     // Helpers
     // -----------------------------------------------------------------
@@ -19,6 +19,10 @@ package com.societegenerale.failover.store.jdbc.resolver;
 import com.societegenerale.failover.core.payload.ReferentialPayload;
 import org.jspecify.annotations.Nullable;
 
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+
 /**
  * Contract for resolving JDBC queries, binding parameters, and mapping result-set rows
  * for the failover store.
@@ -26,6 +30,10 @@ import org.jspecify.annotations.Nullable;
  * <p>Implementations own the SQL text, column ordering, SQL types, and result-set mapping
  * so that schema changes require edits in exactly one place.
  *
+ * <p>The queries that only make the store cheaper — touching a row, filtering on expiry or several keys in the
+ * query, guarding or chunking expiry deletes — are optional: their defaults return {@code null} and the store falls
+ * back to the required queries, as described on each method.
+ *
  * @author Anand Manissery
  * @see DefaultFailoverStoreQueryResolver
  */
@@ -41,18 +49,93 @@ public interface FailoverStoreQueryResolver {
     /** @return the UPDATE SQL for an existing row (SET columns first, then WHERE predicate) */
     String getUpdateQuery();
 
+    /**
+     * UPDATE SQL that refreshes only {@code AS_OF} and {@code EXPIRE_ON} of an existing row, leaving {@code PAYLOAD}
+     * untouched, and only while the row still has the {@code EXPIRE_ON} the caller last wrote. Params: see
+     * {@link #buildTouchParams}. {@code null} (default) — a touch stores the payload in full.
+     *
+     * @return the touch SQL, or {@code null}
+     */
+    @Nullable
+    default String getTouchQuery() {
+        return null;
+    }
+
     /** @return the SELECT SQL that retrieves a single row by {@code FAILOVER_NAME} and {@code FAILOVER_KEY} */
     String getSelectQuery();
 
+    /**
+     * SELECT SQL that retrieves a single row by {@code FAILOVER_NAME} and {@code FAILOVER_KEY} unless its
+     * {@code EXPIRE_ON} is before a given timestamp. Params: FAILOVER_NAME, FAILOVER_KEY, EXPIRE_ON. {@code null}
+     * (default) — the row is read with {@link #getSelectQuery()} and filtered in memory.
+     *
+     * @return the SELECT SQL, or {@code null}
+     */
+    @Nullable
+    default String getSelectUnexpiredQuery() {
+        return null;
+    }
+
     /** @return the SELECT SQL that retrieves all rows for a given {@code FAILOVER_NAME} */
     String getSelectAllByNameQuery();
 
+    /**
+     * SELECT SQL that retrieves the rows of a given {@code FAILOVER_NAME} whose {@code FAILOVER_KEY} is one of
+     * {@code keyCount} keys. Params: FAILOVER_NAME, then the keys. {@code null} (default) — the keys are read one
+     * by one with {@link #getSelectQuery()}.
+     *
+     * @param keyCount number of key placeholders in the {@code IN} list; must be {@code > 0}
+     * @return the SELECT SQL, or {@code null}
+     */
+    @Nullable
+    default String getSelectByKeysQuery(int keyCount) {
+        return null;
+    }
+
+    /**
+     * SELECT SQL that retrieves the rows of a given {@code FAILOVER_NAME} whose {@code FAILOVER_KEY} is one of
+     * {@code keyCount} keys, leaving out the rows whose {@code EXPIRE_ON} is before a given timestamp.
+     * Params: FAILOVER_NAME, EXPIRE_ON, then the keys. {@code null} (default) — the keys are read one by one with
+     * {@link #getSelectUnexpiredQuery()}, or filtered in memory when that one is {@code null} too.
+     *
+     * @param keyCount number of key placeholders in the {@code IN} list; must be {@code > 0}
+     * @return the SELECT SQL, or {@code null}
+     */
+    @Nullable
+    default String getSelectUnexpiredByKeysQuery(int keyCount) {
+        return null;
+    }
+
     /** @return the DELETE SQL that removes a single row by {@code FAILOVER_NAME} and {@code FAILOVER_KEY} */
     String getDeleteQuery();
 
+    /**
+     * DELETE SQL that removes a single row by {@code FAILOVER_NAME} and {@code FAILOVER_KEY} only while its
+     * {@code EXPIRE_ON} still equals a given timestamp. Params: FAILOVER_NAME, FAILOVER_KEY, EXPIRE_ON. {@code null}
+     * (default) — expired rows found by a lookup are left to the scheduled {@link #getCleanUpQuery() cleanup}.
+     *
+     * @return the guarded DELETE SQL, or {@code null}
+     */
+    @Nullable
+    default String getDeleteExpiredQuery() {
+        return null;
+    }
+
     /** @return the DELETE SQL that removes all rows with {@code EXPIRE_ON} before a given timestamp */
     String getCleanUpQuery();
 
+    /**
+     * DELETE SQL that removes at most a given number of rows with {@code EXPIRE_ON} before a given timestamp,
+     * using the row-limit syntax of the detected database dialect. Params: EXPIRE_ON, max rows. {@code null}
+     * (default) when no known dialect is available — cleanup then runs {@link #getCleanUpQuery()} in one statement.
+     *
+     * @return the row-limited DELETE SQL, or {@code null}
+     */
+    @Nullable
+    default String getChunkedCleanUpQuery() {
+        return null;
+    }
+
     /** @return the {@code SELECT COUNT(*)} SQL counting all rows for a given {@code FAILOVER_NAME} (capacity gauge) */
     String getCountByNameQuery();
 
@@ -84,4 +167,23 @@ public interface FailoverStoreQueryResolver {
 
     /** SQL types matching {@link #buildUpdateParams} column order. */
     int[] buildUpdateTypes();
+
+    /**
+     * Builds the parameter array for the touch query (SET columns first, then WHERE predicate).
+     * Column order: AS_OF, EXPIRE_ON, FAILOVER_NAME, FAILOVER_KEY, then {@code writtenExpireOn} for EXPIRE_ON.
+     */
+    default <T> Object[] buildTouchParams(ReferentialPayload<T> payload, Instant writtenExpireOn) {
+        return new Object[]{
+                Timestamp.from(payload.getAsOf()),
+                Timestamp.from(payload.getExpireOn()),
+                payload.getName(),
+                payload.getKey(),
+                Timestamp.from(writtenExpireOn)
+        };
+    }
+
+    /** SQL types matching {@link #buildTouchParams} column order. */
+    default int[] buildTouchTypes() {
+        return new int[]{Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP};
+    }
 }
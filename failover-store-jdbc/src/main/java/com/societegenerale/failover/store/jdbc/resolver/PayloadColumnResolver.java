@@ -16,6 +16,7 @@
 
 package com.societegenerale.failover.store.jdbc.resolver;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -23,10 +24,12 @@ import java.sql.SQLException;
  * Strategy for resolving the SQL type and extracting the value of the PAYLOAD column.
  *
  * <p>Implement this interface to support payload column types other than the default
- * {@code VARCHAR} (e.g. {@code TEXT} or {@code CLOB}).
+ * {@code VARCHAR} (e.g. {@code TEXT} or {@code CLOB}). A {@link #binary() binary} resolver makes the store
+ * bind and read the payload as bytes, see {@link BlobPayloadColumnResolver}.
  *
  * @author Anand Manissery
  * @see VarcharPayloadColumnResolver
+ * @see BlobPayloadColumnResolver
  */
 public interface PayloadColumnResolver {
 
@@ -46,4 +49,29 @@ public interface PayloadColumnResolver {
      * @throws SQLException if a database access error occurs
      */
     String extractPayload(ResultSet resultSet, String payloadColumn) throws SQLException;
+
+    /**
+     * Whether the payload column holds bytes. When {@code true} the store writes the serializer's
+     * {@code serializeToBytes} output and reads through {@link #extractPayloadBytes}; otherwise it uses the
+     * string form. Default {@code false}.
+     *
+     * @return {@code true} for a binary payload column
+     */
+    default boolean binary() {
+        return false;
+    }
+
+    /**
+     * Extracts the payload bytes from the current row of the given result set. Only called when
+     * {@link #binary()} is {@code true}; defaults to the UTF-8 bytes of {@link #extractPayload}.
+     *
+     * @param resultSet     result set positioned on the current row
+     * @param payloadColumn name of the payload column
+     * @return the payload bytes, or {@code null} if the column is SQL NULL
+     * @throws SQLException if a database access error occurs
+     */
+    default byte[] extractPayloadBytes(ResultSet resultSet, String payloadColumn) throws SQLException {
+        String payload = extractPayload(resultSet, payloadColumn);
+        return payload == null ? null : payload.getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.serializer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Payload class allowlist of {@link JsonSerializer}, held as a trie of the dot-separated segments of its
+ * entries. A class name is allowed when one of its leading segment runs is an entry: entry
+ * {@code "com.acme"} allows {@code "com.acme"}, {@code "com.acme.Country"} and {@code "com.acme.ref.Currency"},
+ * not {@code "com.acmex.Country"}. A lookup walks the segments of the class name once, whatever the number
+ * of entries.
+ *
+ * <p>Immutable once built.
+ *
+ * @author Anand Manissery
+ */
+final class AllowlistTrie {
+
+    private final Node root = new Node();
+
+    private final boolean empty;
+
+    private AllowlistTrie(List<String> entries) {
+        for (String entry : entries) {
+            Node node = root;
+            for (String segment : entry.split("\\.", -1)) {
+                node = node.children.computeIfAbsent(segment, ignored -> new Node());
+            }
+            node.entry = true;
+        }
+        this.empty = entries.isEmpty();
+    }
+
+    /**
+     * Builds the trie of the given entries.
+     *
+     * @param entries exact class names or package prefixes
+     * @return the trie
+     */
+    static AllowlistTrie of(List<String> entries) {
+        return new AllowlistTrie(entries);
+    }
+
+    /**
+     * @return {@code true} when the trie was built from no entry
+     */
+    boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Tells whether {@code className} is an entry or lives under one.
+     *
+     * @param className the fully-qualified class name
+     * @return {@code true} when an entry covers the class name
+     */
+    boolean allows(String className) {
+        Node node = root;
+        int start = 0;
+        while (true) {
+            int dot = className.indexOf('.', start);
+            node = node.children.get(dot < 0 ? className.substring(start) : className.substring(start, dot));
+            if (node == null) {
+                return false;
+            }
+            if (node.entry) {
+                return true;
+            }
+            if (dot < 0) {
+                return false;
+            }
+            start = dot + 1;
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        private boolean entry;
+    }
+}
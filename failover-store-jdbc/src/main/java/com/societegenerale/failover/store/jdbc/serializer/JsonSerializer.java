@@ -16,12 +16,19 @@
 
 package com.societegenerale.failover.store.jdbc.serializer;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.societegenerale.failover.core.store.FailoverStoreException;
+import com.societegenerale.failover.domain.Referential;
+import com.societegenerale.failover.domain.ReferentialAware;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
 
 import static com.societegenerale.failover.core.util.CastingUtils.cast;
@@ -45,14 +52,27 @@ import static java.lang.Class.forName;
  * by the startup scanner, which only completes after all singletons are built. An empty resolved
  * allowlist preserves the historical allow-all behaviour.
  *
+ * <h2>Caches</h2>
+ * <p>The allowlist is checked through a trie of its entries ({@link AllowlistTrie}), and the outcome of
+ * {@link #toClass} — the loaded class, or why it was refused — is cached per class name, for at most
+ * {@value #MAX_CACHED_CLASS_NAMES} names; past it, a name is resolved on every call. Reading a referential
+ * back thus checks and loads each payload class once, not once per row. The {@link ObjectReader} and
+ * {@link ObjectWriter} of each payload class are cached as well.
+ *
  * @author Anand Manissery
  * @see Serializer
  */
 @Slf4j
 public class JsonSerializer implements Serializer {
 
+    /** Number of class names whose {@link #toClass} outcome is cached. */
+    static final int MAX_CACHED_CLASS_NAMES = 1_024;
+
     private final ObjectMapper objectMapper;
 
+    /** {@link #objectMapper} with the per-write {@code asOf}/{@code upToDate} left out; used by {@link #canonicalize}. */
+    private final ObjectMapper canonicalMapper;
+
     private final Supplier<List<String>> allowedPayloadClassesSupplier;
 
     /**
@@ -63,7 +83,16 @@ public class JsonSerializer implements Serializer {
 
     /** Memoized resolved allowlist; resolved once on first {@link #toClass} call. */
     @Nullable
-    private volatile List<String> resolvedAllowedPayloadClasses;
+    private volatile AllowlistTrie resolvedAllowlist;
+
+    /** Outcome of {@link #toClass} per class name. */
+    private final ConcurrentMap<String, ClassResolution> resolvedClasses = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Class<?>, ObjectWriter> canonicalWriters = new ConcurrentHashMap<>();
 
     /**
      * Creates a serializer with no payload class restriction (allow-all).
@@ -112,32 +141,77 @@ public class JsonSerializer implements Serializer {
         this.objectMapper = objectMapper;
         this.allowedPayloadClassesSupplier = allowedPayloadClassesSupplier;
         this.strict = strict;
+        this.canonicalMapper = objectMapper.rebuild()
+                .addMixIn(Referential.class, PerWriteMetadataMixIn.class)
+                .addMixIn(ReferentialAware.class, PerWriteMetadataMixIn.class)
+                .build();
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Delegates to {@link ObjectMapper#writeValueAsString}.
+     * <p>Delegates to the {@link ObjectWriter} of the payload's class, cached per class.
      */
     @Override
     public @Nullable <T> String serialize(@Nullable T payload) {
         if(payload == null) {
             return null;
         }
-        return objectMapper.writeValueAsString(payload);
+        return writers.computeIfAbsent(payload.getClass(), objectMapper::writerFor).writeValueAsString(payload);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Same JSON as {@link #serialize}, without the {@code asOf} and {@code upToDate} of
+     * {@link Referential}/{@link ReferentialAware} payloads: both are set on every store and restored from the
+     * row's columns on recover, so they must not make an unchanged payload look changed.
+     */
+    @Override
+    public @Nullable <T> String canonicalize(@Nullable T payload) {
+        if (payload == null) {
+            return null;
+        }
+        return canonicalWriters.computeIfAbsent(payload.getClass(), canonicalMapper::writerFor).writeValueAsString(payload);
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Delegates to {@link ObjectMapper#readValue(String, Class)}.
+     * <p>Delegates to the {@link ObjectReader} of {@code clazz}, cached per class.
      */
     @Override
     public @Nullable <T> T deserialize(@Nullable String payload, Class<T> clazz) {
         if (payload == null || clazz == null) {
             return null;
         }
-        return objectMapper.readValue(payload, clazz);
+        return readers.computeIfAbsent(clazz, objectMapper::readerFor).readValue(payload);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Writes UTF-8 JSON straight to a byte array, without the intermediate {@code String}.
+     */
+    @Override
+    public <T> byte @Nullable [] serializeToBytes(@Nullable T payload) {
+        if(payload == null) {
+            return null;
+        }
+        return writers.computeIfAbsent(payload.getClass(), objectMapper::writerFor).writeValueAsBytes(payload);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Parses the UTF-8 JSON bytes directly, without decoding them to a {@code String} first.
+     */
+    @Override
+    public @Nullable <T> T deserializeFromBytes(byte @Nullable [] payload, Class<T> clazz) {
+        if (payload == null || clazz == null) {
+            return null;
+        }
+        return readers.computeIfAbsent(clazz, objectMapper::readerFor).readValue(payload);
     }
 
     /** {@inheritDoc} */
@@ -161,41 +235,52 @@ public class JsonSerializer implements Serializer {
         if(className == null) {
             return null;
         }
+        ClassResolution resolution = resolvedClasses.get(className);
+        if (resolution == null) {
+            resolution = resolve(className);
+            if (resolvedClasses.size() < MAX_CACHED_CLASS_NAMES) {
+                resolvedClasses.putIfAbsent(className, resolution);
+            }
+        }
+        return cast(resolution.get());
+    }
+
+    private ClassResolution resolve(String className) {
         if (!isAllowed(className)) {
-            throw new FailoverStoreException(
+            return ClassResolution.refused(
                     "Payload class '%s' read from the failover store is not in the allowlist (auto-derived from @Failover payload packages plus failover.store.jdbc.allowed-payload-classes). Refusing to load it."
-                            .formatted(className));
+                            .formatted(className), null);
         }
         try {
-            return cast(forName(className));
+            return ClassResolution.loaded(forName(className));
         } catch (ClassNotFoundException e) {
-            throw new FailoverStoreException(
+            return ClassResolution.refused(
                     "Payload class '%s' read from the failover store is not on the classpath. The class may have been renamed or removed since the row was stored; clean the stale rows or restore the class."
                             .formatted(className), e);
         }
     }
 
     private boolean isAllowed(String className) {
-        List<String> allowed = resolvedAllowedPayloadClasses();
-        if (allowed.isEmpty()) {
+        AllowlistTrie allowlist = resolvedAllowlist();
+        if (allowlist.isEmpty()) {
             // Empty allowlist: fail-closed (deny all) in strict mode, else legacy allow-all.
             return !strict;
         }
-        return allowed.stream()
-                .anyMatch(entry -> className.equals(entry) || className.startsWith(entry + "."));
+        return allowlist.allows(className);
     }
 
     /** Resolves the allowlist from the supplier once and memoizes it (double-checked). */
-    private List<String> resolvedAllowedPayloadClasses() {
-        List<String> resolved = resolvedAllowedPayloadClasses;
+    private AllowlistTrie resolvedAllowlist() {
+        AllowlistTrie resolved = resolvedAllowlist;
         if (resolved == null) {
             synchronized (this) {
-                resolved = resolvedAllowedPayloadClasses;
+                resolved = resolvedAllowlist;
                 if (resolved == null) {
                     List<String> supplied = allowedPayloadClassesSupplier.get();
-                    resolved = supplied == null ? List.of() : List.copyOf(supplied);
-                    resolvedAllowedPayloadClasses = resolved;
-                    logGrantSummary(resolved); // emit the audit summary exactly once, on first resolution
+                    List<String> entries = supplied == null ? List.of() : List.copyOf(supplied);
+                    resolved = AllowlistTrie.of(entries);
+                    resolvedAllowlist = resolved;
+                    logGrantSummary(entries); // emit the audit summary exactly once, on first resolution
                 }
             }
         }
@@ -244,4 +329,29 @@ public class JsonSerializer implements Serializer {
             return false;
         }
     }
+
+    /** Outcome of {@link #toClass} for one class name: the loaded class, or the reason it was refused. */
+    private record ClassResolution(@Nullable Class<?> loaded, @Nullable String refusal, @Nullable Throwable cause) {
+
+        static ClassResolution loaded(Class<?> loaded) {
+            return new ClassResolution(loaded, null, null);
+        }
+
+        static ClassResolution refused(String refusal, @Nullable Throwable cause) {
+            return new ClassResolution(null, refusal, cause);
+        }
+
+        /** Returns the loaded class, or throws a new exception for a refused one. */
+        Class<?> get() {
+            if (loaded != null) {
+                return loaded;
+            }
+            throw cause == null ? new FailoverStoreException(refusal) : new FailoverStoreException(refusal, cause);
+        }
+    }
+
+    /** Leaves out the metadata the framework sets on every store. */
+    @JsonIgnoreProperties({"asOf", "upToDate"})
+    private abstract static class PerWriteMetadataMixIn {
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.serializer;
+
+import com.societegenerale.failover.core.store.FailoverStoreException;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Self-describing {@code <TAG>(<id>:<body>)} wrapper used by the {@link Serializer} decorators to mark a
+ * transformed {@code PAYLOAD} value, e.g. {@code ENC(aesgcm:...)} or {@code CMP(deflate:...)}.
+ *
+ * <p>The {@code id} names the cipher/codec that produced the body, so a reader dispatches on it. A value
+ * without the envelope is someone else's (plaintext, or another decorator's output) and is passed through,
+ * which keeps older rows readable. The binary form is the ASCII {@code <TAG>(<id>:} prefix, the raw body
+ * bytes and a closing {@code )}.
+ *
+ * @author Anand Manissery
+ */
+public final class PayloadEnvelope {
+
+    private static final byte SEPARATOR_BYTE = ':';
+    private static final byte SUFFIX_BYTE = ')';
+
+    private final String prefix;
+    private final byte[] prefixBytes;
+    private final String description;
+    private final String idKind;
+
+    /**
+     * @param tag         the envelope tag, e.g. {@code "ENC"}
+     * @param description what the envelope holds, for error messages (e.g. {@code "encrypted payload"})
+     * @param idKind      what the id names, for error messages (e.g. {@code "cipher"})
+     */
+    public PayloadEnvelope(String tag, String description, String idKind) {
+        this.prefix = tag + "(";
+        this.prefixBytes = prefix.getBytes(StandardCharsets.US_ASCII);
+        this.description = description;
+        this.idKind = idKind;
+    }
+
+    /**
+     * Checks an id can be written in the envelope.
+     *
+     * @param id the cipher/codec id
+     * @return {@code true} if the id is non-blank and contains neither {@code ':'} nor {@code ')'}
+     */
+    public static boolean isValidId(@Nullable String id) {
+        return id != null && !id.isBlank() && !id.contains(":") && !id.contains(")");
+    }
+
+    /**
+     * @param id   the cipher/codec id
+     * @param body the transformed payload text
+     * @return {@code <TAG>(<id>:<body>)}
+     */
+    public String wrap(String id, String body) {
+        return prefix + id + ":" + body + ")";
+    }
+
+    /**
+     * @param id   the cipher/codec id
+     * @param body the transformed payload bytes
+     * @return the ASCII {@code <TAG>(<id>:} prefix, {@code body}, then {@code )}
+     */
+    public byte[] wrap(String id, byte[] body) {
+        byte[] idBytes = id.getBytes(StandardCharsets.US_ASCII);
+        byte[] out = new byte[prefixBytes.length + idBytes.length + 1 + body.length + 1];
+        int pos = 0;
+        System.arraycopy(prefixBytes, 0, out, pos, prefixBytes.length);
+        pos += prefixBytes.length;
+        System.arraycopy(idBytes, 0, out, pos, idBytes.length);
+        pos += idBytes.length;
+        out[pos++] = SEPARATOR_BYTE;
+        System.arraycopy(body, 0, out, pos, body.length);
+        out[out.length - 1] = SUFFIX_BYTE;
+        return out;
+    }
+
+    /**
+     * @param stored a stored {@code PAYLOAD} value; {@code null} is allowed
+     * @return the id and body, or {@code null} if {@code stored} is {@code null} or not in this envelope
+     * @throws FailoverStoreException if the envelope has no {@code ':'} after the id
+     */
+    public @Nullable Unwrapped<String> unwrap(@Nullable String stored) {
+        if (stored == null || !stored.startsWith(prefix) || !stored.endsWith(")")) {
+            return null;
+        }
+        String body = stored.substring(prefix.length(), stored.length() - 1);
+        int sep = body.indexOf(':');
+        if (sep < 0) {
+            throw malformed(stored);
+        }
+        return new Unwrapped<>(body.substring(0, sep), body.substring(sep + 1));
+    }
+
+    /**
+     * Byte counterpart of {@link #unwrap(String)}; the body is copied out of {@code stored}.
+     *
+     * @param stored a stored {@code PAYLOAD} value; {@code null} is allowed
+     * @return the id and body, or {@code null} if {@code stored} is {@code null} or not in this envelope
+     * @throws FailoverStoreException if the envelope has no {@code ':'} after the id
+     */
+    public @Nullable Unwrapped<byte[]> unwrap(byte @Nullable [] stored) {
+        Slice slice = unwrapSlice(stored);
+        return slice == null ? null : new Unwrapped<>(slice.id(), slice.body());
+    }
+
+    /**
+     * Like {@link #unwrap(byte[])}, but locates the body inside {@code stored} instead of copying it, for a
+     * reader that takes an offset and a length.
+     *
+     * @param stored a stored {@code PAYLOAD} value; {@code null} is allowed
+     * @return the id and the body's range in {@code stored}, or {@code null} if {@code stored} is {@code null}
+     * or not in this envelope
+     * @throws FailoverStoreException if the envelope has no {@code ':'} after the id
+     */
+    public @Nullable Slice unwrapSlice(byte @Nullable [] stored) {
+        if (stored == null || stored.length <= prefixBytes.length
+                || !Arrays.equals(stored, 0, prefixBytes.length, prefixBytes, 0, prefixBytes.length)
+                || stored[stored.length - 1] != SUFFIX_BYTE) {
+            return null;
+        }
+        int sep = -1;
+        for (int i = prefixBytes.length; i < stored.length - 1; i++) {
+            if (stored[i] == SEPARATOR_BYTE) {
+                sep = i;
+                break;
+            }
+        }
+        if (sep < 0) {
+            throw malformed(new String(stored, 0, Math.min(stored.length, 65), StandardCharsets.US_ASCII));
+        }
+        String id = new String(stored, prefixBytes.length, sep - prefixBytes.length, StandardCharsets.US_ASCII);
+        return new Slice(id, stored, sep + 1, stored.length - 1 - (sep + 1));
+    }
+
+    private FailoverStoreException malformed(String stored) {
+        return new FailoverStoreException("Malformed " + description + " envelope (missing ':' after " + idKind + " id): " + truncate(stored));
+    }
+
+    private static String truncate(String s) {
+        return s.length() <= 64 ? s : s.substring(0, 64) + "…";
+    }
+
+    /**
+     * An envelope's content.
+     *
+     * @param id   the cipher/codec id that produced the body
+     * @param body the transformed payload
+     * @param <B>  {@code String} or {@code byte[]}
+     */
+    public record Unwrapped<B>(String id, B body) {
+    }
+
+    /**
+     * An envelope's content, left in place in the stored bytes.
+     *
+     * @param id     the cipher/codec id that produced the body
+     * @param array  the stored bytes, envelope included
+     * @param offset where the body starts in {@code array}
+     * @param length the body length
+     */
+    public record Slice(String id, byte[] array, int offset, int length) {
+
+        /**
+         * @return a copy of the body
+         */
+        public byte[] body() {
+            return Arrays.copyOfRange(array, offset, offset + length);
+        }
+    }
+}
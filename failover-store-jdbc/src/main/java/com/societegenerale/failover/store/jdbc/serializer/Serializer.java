@@ -18,10 +18,16 @@ package com.societegenerale.failover.store.jdbc.serializer;
 
 import org.jspecify.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Strategy for serializing and deserializing business payloads to and from a storable
  * string representation (e.g. JSON), and for resolving a payload's runtime {@link Class}.
  *
+ * <p>Payloads bound to a binary {@code PAYLOAD} column go through {@link #serializeToBytes} and
+ * {@link #deserializeFromBytes} instead. Both default to the UTF-8 form of the string methods;
+ * implementations override them to skip the intermediate {@code String} (and any Base64 text).
+ *
  * <p>All methods accept {@code null} and return {@code null} when input is {@code null},
  * so callers do not need null-guards around every invocation.
  *
@@ -39,6 +45,19 @@ public interface Serializer {
      */
     @Nullable <T> String serialize(@Nullable T payload);
 
+    /**
+     * Renders {@code payload} into the canonical form hashed to detect unchanged payloads
+     * (see {@code FingerprintingFailoverStore}): deterministic, never encrypted, and without the per-write
+     * {@code asOf}/{@code upToDate} metadata. Defaults to {@link #serialize}.
+     *
+     * @param <T>     the payload type
+     * @param payload the object to render; {@code null} is allowed
+     * @return the canonical form, or {@code null} if {@code payload} is {@code null}
+     */
+    default @Nullable <T> String canonicalize(@Nullable T payload) {
+        return serialize(payload);
+    }
+
     /**
      * Deserializes {@code payload} back to an instance of {@code clazz}.
      *
@@ -49,6 +68,32 @@ public interface Serializer {
      */
     @Nullable <T> T deserialize(@Nullable String payload, Class<T> clazz);
 
+    /**
+     * Serializes {@code payload} to the bytes stored in a binary payload column.
+     * Defaults to the UTF-8 encoding of {@link #serialize}.
+     *
+     * @param <T>     the payload type
+     * @param payload the object to serialize; {@code null} is allowed
+     * @return the serialized bytes, or {@code null} if {@code payload} is {@code null}
+     */
+    default <T> byte @Nullable [] serializeToBytes(@Nullable T payload) {
+        String serialized = serialize(payload);
+        return serialized == null ? null : serialized.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deserializes bytes previously produced by {@link #serializeToBytes} back to an instance of {@code clazz}.
+     * Defaults to {@link #deserialize} on the UTF-8 decoded string.
+     *
+     * @param <T>     the target type
+     * @param payload the serialized bytes; {@code null} is allowed
+     * @param clazz   the target class; {@code null} is allowed
+     * @return the deserialized object, or {@code null} if either argument is {@code null}
+     */
+    default @Nullable <T> T deserializeFromBytes(byte @Nullable [] payload, Class<T> clazz) {
+        return deserialize(payload == null ? null : new String(payload, StandardCharsets.UTF_8), clazz);
+    }
+
     /**
      * Returns the fully-qualified class name of {@code payload}'s runtime type.
      *
@@ -22,9 +22,11 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
-import java.util.Arrays;
 import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * Production-grade {@link PayloadCipher} using <b>AES-GCM</b> (authenticated encryption) — the
@@ -32,12 +34,22 @@ import java.util.Base64;
  *
  * <h2>Format</h2>
  * <p>Each {@link #encrypt} call generates a fresh random 16-byte IV (nonce) and produces
- * {@code Base64( IV (16 bytes) || ciphertext+GCM-tag )}. A random IV per write means encrypting the
+ * {@code Base64( IV (16 bytes) || ciphertext+GCM-tag )}; {@link #encryptBytes} produces the same bytes
+ * without the Base64, for a binary payload column. A random IV per write means encrypting the
  * same plaintext twice yields different ciphertext (semantic security) and is mandatory for GCM —
  * never reuse an IV with the same key. The 128-bit GCM tag authenticates the ciphertext, so
  * {@link #decrypt} throws (rather than returning garbage) if a stored row was tampered with or was
  * encrypted under a different key.
  *
+ * <h2>Cipher reuse</h2>
+ * <p>{@code Cipher.getInstance} walks the security providers on every call, so {@code javax.crypto.Cipher}
+ * instances are pooled and re-initialised with each payload's IV. A {@code Cipher} is not thread-safe: a call
+ * borrows one from the pool, or creates one when none is idle, and hands it back when done. The pool is a
+ * bounded non-blocking queue rather than a {@code ThreadLocal}: virtual threads are created per task, so a
+ * {@code ThreadLocal} would miss on nearly every call and keep a cipher per thread alive. A burst above the
+ * pool size creates extra instances, which are dropped on return. Encryption writes the IV and the ciphertext
+ * straight into one output array, and decryption reads them in place by offset and length, without copies.
+ *
  * <h2>Key</h2>
  * <p>The key is supplied at construction as raw bytes and must be a valid AES key length: 16, 24, or
  * 32 bytes (AES-128 / 192 / 256). Provide a high-entropy key from a secret manager / KMS / env var —
@@ -63,16 +75,39 @@ public class AesGcmPayloadCipher implements PayloadCipher {
     private static final int IV_LENGTH_BYTES = 16;      // 128-bit IV (prepended to ciphertext, same length used on decrypt)
     private static final int GCM_TAG_LENGTH_BITS = 128; // full-strength authentication tag
 
+    /** Default number of idle {@code Cipher} instances kept for reuse. */
+    static final int DEFAULT_POOL_SIZE = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    private static final String DECRYPTION_FAILED = "AES-GCM decryption of the failover payload failed (wrong key, tampered data, or "
+            + "row not written by this cipher).";
+
     private final SecretKeySpec key;
     private final SecureRandom secureRandom = new SecureRandom();
+    private final BlockingQueue<Cipher> pool;
+    private final int poolSize;
 
     /**
-     * Creates an AES-GCM cipher from raw key bytes.
+     * Creates an AES-GCM cipher from raw key bytes, pooling up to {@link #DEFAULT_POOL_SIZE} idle
+     * {@code Cipher} instances.
      *
      * @param keyBytes the AES key; must be 16, 24, or 32 bytes long (AES-128/192/256)
      * @throws IllegalArgumentException if the key length is not a valid AES key size
      */
     public AesGcmPayloadCipher(byte[] keyBytes) {
+        this(keyBytes, DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Creates an AES-GCM cipher from raw key bytes.
+     *
+     * @param keyBytes the AES key; must be 16, 24, or 32 bytes long (AES-128/192/256)
+     * @param poolSize max idle {@code Cipher} instances kept for reuse; {@code 0} creates one per call
+     * @throws IllegalArgumentException if the key length is not a valid AES key size, or {@code poolSize} is negative
+     */
+    public AesGcmPayloadCipher(byte[] keyBytes, int poolSize) {
+        if (poolSize < 0) {
+            throw new IllegalArgumentException("poolSize must be >= 0, but was " + poolSize);
+        }
         if (keyBytes == null || (keyBytes.length != 16 && keyBytes.length != 24 && keyBytes.length != 32)) {
             throw new IllegalArgumentException(
                     "AES-GCM key must be 16, 24, or 32 bytes (AES-128/192/256), but was "
@@ -81,6 +116,8 @@ public class AesGcmPayloadCipher implements PayloadCipher {
                             + "failover.store.jdbc.encryption.key.");
         }
         this.key = new SecretKeySpec(keyBytes, "AES");
+        this.pool = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+        this.poolSize = poolSize;
     }
 
     /**
@@ -111,6 +148,33 @@ public class AesGcmPayloadCipher implements PayloadCipher {
 
     @Override
     public @Nullable String encrypt(@Nullable String plaintext) {
+        if (plaintext == null) {
+            return null;
+        }
+        return Base64.getEncoder().encodeToString(encryptBytes(plaintext.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public @Nullable String decrypt(@Nullable String ciphertext) {
+        if (ciphertext == null) {
+            return null;
+        }
+        final byte[] all;
+        try {
+            all = Base64.getDecoder().decode(ciphertext);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(DECRYPTION_FAILED, e);
+        }
+        return new String(decryptBytes(all), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Returns {@code IV || ciphertext+GCM-tag} as raw bytes — the {@link #encrypt} format without the Base64.
+     */
+    @Override
+    public byte @Nullable [] encryptBytes(byte @Nullable [] plaintext) {
         if (plaintext == null) {
             return null;
         }
@@ -118,40 +182,66 @@ public class AesGcmPayloadCipher implements PayloadCipher {
             byte[] iv = new byte[IV_LENGTH_BYTES];
             secureRandom.nextBytes(iv);
 
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            Cipher cipher = borrow();
             cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
-            byte[] ciphertext = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
-
-            byte[] out = new byte[iv.length + ciphertext.length];
-            System.arraycopy(iv, 0, out, 0, iv.length);
-            System.arraycopy(ciphertext, 0, out, iv.length, ciphertext.length);
-            return Base64.getEncoder().encodeToString(out);
-        } catch (Exception e) {
+            // IV and ciphertext+tag share one array: doFinal writes straight after the IV.
+            byte[] out = new byte[IV_LENGTH_BYTES + cipher.getOutputSize(plaintext.length)];
+            System.arraycopy(iv, 0, out, 0, IV_LENGTH_BYTES);
+            cipher.doFinal(plaintext, 0, plaintext.length, out, IV_LENGTH_BYTES);
+            release(cipher);
+            return out;
+        } catch (GeneralSecurityException | RuntimeException e) {
             throw new IllegalStateException("AES-GCM encryption of the failover payload failed.", e);
         }
     }
 
+    /** {@inheritDoc} */
     @Override
-    public @Nullable String decrypt(@Nullable String ciphertext) {
+    public byte @Nullable [] decryptBytes(byte @Nullable [] ciphertext) {
         if (ciphertext == null) {
             return null;
         }
+        return decryptBytes(ciphertext, 0, ciphertext.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reads the IV and the ciphertext+tag in place, without copying them out of {@code ciphertext}.
+     */
+    @Override
+    public byte[] decryptBytes(byte[] ciphertext, int offset, int length) {
+        if (length <= IV_LENGTH_BYTES) {
+            throw new IllegalStateException(DECRYPTION_FAILED, new IllegalArgumentException("ciphertext too short to contain an IV"));
+        }
         try {
-            byte[] all = Base64.getDecoder().decode(ciphertext);
-            if (all.length <= IV_LENGTH_BYTES) {
-                throw new IllegalArgumentException("ciphertext too short to contain an IV");
-            }
-            byte[] iv = Arrays.copyOfRange(all, 0, IV_LENGTH_BYTES);
-            byte[] body = Arrays.copyOfRange(all, IV_LENGTH_BYTES, all.length);
-
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
-            return new String(cipher.doFinal(body), StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            // Tampered row, wrong key, or non-AES-GCM input — fail loudly, never return garbage.
-            throw new IllegalStateException(
-                    "AES-GCM decryption of the failover payload failed (wrong key, tampered data, or "
-                            + "row not written by this cipher).", e);
+            Cipher cipher = borrow();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, ciphertext, offset, IV_LENGTH_BYTES));
+            byte[] plaintext = cipher.doFinal(ciphertext, offset + IV_LENGTH_BYTES, length - IV_LENGTH_BYTES);
+            release(cipher);
+            return plaintext;
+        } catch (GeneralSecurityException | RuntimeException e) {
+            // Tampered row, wrong key, or non-AES-GCM input — fail loudly, never return garbage. The cipher that
+            // failed is not handed back to the pool.
+            throw new IllegalStateException(DECRYPTION_FAILED, e);
+        }
+    }
+
+    private Cipher borrow() throws GeneralSecurityException {
+        Cipher cipher = pool.poll();
+        return cipher != null ? cipher : Cipher.getInstance(TRANSFORMATION);
+    }
+
+    private void release(Cipher cipher) {
+        if (poolSize > 0) {
+            pool.offer(cipher);
         }
     }
+
+    /**
+     * @return the number of idle {@code Cipher} instances currently pooled
+     */
+    int pooled() {
+        return pool.size();
+    }
 }
@@ -57,4 +57,14 @@ public class Base64PayloadCipher implements PayloadCipher {
         }
         return new String(Base64.getDecoder().decode(ciphertext), StandardCharsets.UTF_8);
     }
+
+    @Override
+    public byte @Nullable [] encryptBytes(byte @Nullable [] plaintext) {
+        return plaintext == null ? null : Base64.getEncoder().encode(plaintext);
+    }
+
+    @Override
+    public byte @Nullable [] decryptBytes(byte @Nullable [] ciphertext) {
+        return ciphertext == null ? null : Base64.getDecoder().decode(ciphertext);
+    }
 }
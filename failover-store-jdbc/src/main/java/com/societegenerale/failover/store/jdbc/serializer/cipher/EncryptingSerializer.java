@@ -17,6 +17,7 @@
 package com.societegenerale.failover.store.jdbc.serializer.cipher;
 
 import com.societegenerale.failover.core.store.FailoverStoreException;
+import com.societegenerale.failover.store.jdbc.serializer.PayloadEnvelope;
 import com.societegenerale.failover.store.jdbc.serializer.Serializer;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
@@ -42,6 +43,12 @@ import java.util.Map;
  *       honour the {@code ENC} marker either way, so toggling encryption never breaks existing rows.</li>
  * </ul>
  *
+ * <h2>Binary envelope</h2>
+ * <p>{@link #serializeToBytes}/{@link #deserializeFromBytes} (binary {@code PAYLOAD} column) use the same
+ * envelope with the raw {@link PayloadCipher#encryptBytes} output in place of the text: the ASCII bytes of
+ * {@code ENC(<id>:}, the ciphertext, then {@code )}. No Base64, so an encrypted row is only the IV and tag
+ * larger than its plaintext.
+ *
  * <p>Only {@link #serialize}/{@link #deserialize} (the {@code PAYLOAD} column) are transformed.
  * {@link #toClassName}/{@link #toClass} pass through unchanged, so {@code PAYLOAD_CLASS} stays
  * plaintext and the deserialization allowlist keeps gating on the real class name.
@@ -51,8 +58,7 @@ import java.util.Map;
 @Slf4j
 public class EncryptingSerializer implements Serializer {
 
-    private static final String PREFIX = "ENC(";
-    private static final String SUFFIX = ")";
+    private static final PayloadEnvelope ENVELOPE = new PayloadEnvelope("ENC", "encrypted payload", "cipher");
 
     private final Serializer delegate;
 
@@ -84,7 +90,7 @@ public class EncryptingSerializer implements Serializer {
         Map<String, PayloadCipher> map = new LinkedHashMap<>();
         for (PayloadCipher cipher : ciphers) {
             String id = cipher.id();
-            if (id == null || id.isBlank() || id.contains(":") || id.contains(")")) {
+            if (!PayloadEnvelope.isValidId(id)) {
                 throw new IllegalArgumentException("Invalid PayloadCipher id '" + id + "': must be non-blank and contain neither ':' nor ')'.");
             }
             PayloadCipher existing = map.putIfAbsent(id, cipher);
@@ -101,7 +107,13 @@ public class EncryptingSerializer implements Serializer {
         if (json == null || writeCipher == null) {
             return json; // null payload, or encryption disabled -> plaintext
         }
-        return PREFIX + writeCipher.id() + ":" + writeCipher.encrypt(json) + SUFFIX;
+        return ENVELOPE.wrap(writeCipher.id(), writeCipher.encrypt(json));
+    }
+
+    /** Delegates unencrypted: a fresh IV per write would make every fingerprint differ. */
+    @Override
+    public @Nullable <T> String canonicalize(@Nullable T payload) {
+        return delegate.canonicalize(payload);
     }
 
     @Override
@@ -111,30 +123,57 @@ public class EncryptingSerializer implements Serializer {
 
     /** Strips and decrypts an {@code ENC(id:..)} value via the matching cipher; passes plaintext through. */
     private @Nullable String decryptIfEnveloped(@Nullable String stored) {
-        if (stored == null || !stored.startsWith(PREFIX) || !stored.endsWith(SUFFIX)) {
+        PayloadEnvelope.Unwrapped<String> enveloped = ENVELOPE.unwrap(stored);
+        if (enveloped == null) {
             return stored; // legacy plaintext (or null) — not enveloped
         }
-        String body = stored.substring(PREFIX.length(), stored.length() - SUFFIX.length());
-        int sep = body.indexOf(':');
-        if (sep < 0) {
-            throw new FailoverStoreException("Malformed encrypted payload envelope (missing ':' after cipher id): " + truncate(stored));
+        PayloadCipher cipher = cipherFor(enveloped.id());
+        try {
+            return cipher.decrypt(enveloped.body());
+        } catch (Exception e) {
+            throw decryptionFailed(enveloped.id(), e);
         }
-        String id = body.substring(0, sep);
-        String ciphertext = body.substring(sep + 1);
+    }
+
+    @Override
+    public <T> byte @Nullable [] serializeToBytes(@Nullable T payload) {
+        byte[] plain = delegate.serializeToBytes(payload);
+        if (plain == null || writeCipher == null) {
+            return plain; // null payload, or encryption disabled -> plaintext
+        }
+        return ENVELOPE.wrap(writeCipher.id(), writeCipher.encryptBytes(plain));
+    }
+
+    @Override
+    public @Nullable <T> T deserializeFromBytes(byte @Nullable [] payload, Class<T> clazz) {
+        return delegate.deserializeFromBytes(decryptIfEnveloped(payload), clazz);
+    }
+
+    /** Byte-envelope counterpart of {@link #decryptIfEnveloped(String)}; the ciphertext is decrypted in place. */
+    private byte @Nullable [] decryptIfEnveloped(byte @Nullable [] stored) {
+        PayloadEnvelope.Slice enveloped = ENVELOPE.unwrapSlice(stored);
+        if (enveloped == null) {
+            return stored; // legacy plaintext (or null) — not enveloped
+        }
+        PayloadCipher cipher = cipherFor(enveloped.id());
+        try {
+            return cipher.decryptBytes(enveloped.array(), enveloped.offset(), enveloped.length());
+        } catch (Exception e) {
+            throw decryptionFailed(enveloped.id(), e);
+        }
+    }
+
+    private PayloadCipher cipherFor(String id) {
         PayloadCipher cipher = ciphersById.get(id);
         if (cipher == null) {
             throw new FailoverStoreException("No PayloadCipher registered for id '" + id + "' (available: " + ciphersById.keySet()
                     + "). The row was encrypted by a cipher that is no longer on the classpath; register it to read the row, or let the row expire from the cache.");
         }
-        try {
-            return cipher.decrypt(ciphertext);
-        } catch (Exception e) {
-            throw new FailoverStoreException("Failed to decrypt payload with cipher '" + id + "'. The key may be wrong or the data corrupted.", e);
-        }
+        return cipher;
     }
 
-    private static String truncate(String s) {
-        return s.length() <= 64 ? s : s.substring(0, 64) + "…";
+    private static FailoverStoreException decryptionFailed(String id, Exception cause) {
+        return new FailoverStoreException("Failed to decrypt payload with cipher '" + id + "'. The key may be wrong or the data corrupted.", cause);
     }
 
     @Override
@@ -18,6 +18,11 @@ package com.societegenerale.failover.store.jdbc.serializer.cipher;
 
 import org.jspecify.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
 /**
  * Strategy for encrypting and decrypting the serialized payload string before it is written to /
  * after it is read from the JDBC failover store. Applies <em>only</em> to the JDBC store — other
@@ -41,6 +46,11 @@ import org.jspecify.annotations.Nullable;
  *       cipher, so a misconfiguration surfaces loudly rather than corrupting the payload.</li>
  * </ul>
  *
+ * <h2>Binary payload column</h2>
+ * <p>With a binary {@code PAYLOAD} column the serializer calls {@link #encryptBytes}/{@link #decryptBytes}
+ * instead. Their defaults Base64 the bytes and reuse {@link #encrypt}/{@link #decrypt}, so any cipher works
+ * there unchanged; override them to encrypt the bytes directly, as {@link AesGcmPayloadCipher} does.
+ *
  * <p>Declare a {@code PayloadCipher} bean to provide real encryption (AES-GCM, a KMS/Jasypt-backed
  * implementation, …). The built-in {@link Base64PayloadCipher} is encoding only — not security.
  *
@@ -73,4 +83,48 @@ public interface PayloadCipher {
      * @return the serialized payload, or {@code null} if {@code ciphertext} is {@code null}
      */
     @Nullable String decrypt(@Nullable String ciphertext);
+
+    /**
+     * Encrypts serialized payload bytes to raw ciphertext bytes (no envelope), for a binary payload column.
+     * Defaults to {@link #encrypt} of the Base64-encoded bytes, so arbitrary bytes survive a text-only cipher.
+     *
+     * @param plaintext the serialized payload bytes; {@code null} is allowed
+     * @return the raw ciphertext, or {@code null} if {@code plaintext} is {@code null}
+     */
+    default byte @Nullable [] encryptBytes(byte @Nullable [] plaintext) {
+        if (plaintext == null) {
+            return null;
+        }
+        String ciphertext = encrypt(Base64.getEncoder().encodeToString(plaintext));
+        return ciphertext == null ? null : ciphertext.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decrypts raw ciphertext bytes previously returned by {@link #encryptBytes} back to the serialized payload bytes.
+     *
+     * @param ciphertext the raw ciphertext; {@code null} is allowed
+     * @return the serialized payload bytes, or {@code null} if {@code ciphertext} is {@code null}
+     */
+    default byte @Nullable [] decryptBytes(byte @Nullable [] ciphertext) {
+        if (ciphertext == null) {
+            return null;
+        }
+        String plaintext = decrypt(new String(ciphertext, StandardCharsets.UTF_8));
+        return plaintext == null ? null : Base64.getDecoder().decode(plaintext);
+    }
+
+    /**
+     * Decrypts the raw ciphertext held in {@code ciphertext[offset, offset + length)}, such as the body of a
+     * binary {@code ENC(...)} envelope. Defaults to {@link #decryptBytes(byte[])} of a copy of that range;
+     * override it to read the range in place, as {@link AesGcmPayloadCipher} does.
+     *
+     * @param ciphertext the array holding the raw ciphertext
+     * @param offset     where the ciphertext starts
+     * @param length     the ciphertext length
+     * @return the serialized payload bytes
+     */
+    default byte[] decryptBytes(byte[] ciphertext, int offset, int length) {
+        byte[] plaintext = decryptBytes(Arrays.copyOfRange(ciphertext, offset, offset + length));
+        return Objects.requireNonNull(plaintext, "decryptBytes returned null for a non-null ciphertext");
+    }
 }
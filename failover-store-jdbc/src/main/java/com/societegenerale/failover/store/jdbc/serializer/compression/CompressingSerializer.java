@@ -0,0 +1,213 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.serializer.compression;
+
+import com.societegenerale.failover.core.store.FailoverStoreException;
+import com.societegenerale.failover.store.jdbc.serializer.PayloadEnvelope;
+import com.societegenerale.failover.store.jdbc.serializer.Serializer;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Serializer} decorator that compresses the serialized payload before it is stored and
+ * decompresses it on read.
+ *
+ * <h2>Envelope</h2>
+ * <p>A compressed value is wrapped as {@code CMP(<id>:<compressed>)} where {@code id} is the
+ * {@link PayloadCodec#id()} that produced it: Base64 text on the string path, the raw compressed bytes
+ * on the byte path (binary payload column). On read a {@code CMP(id:..)} value is decompressed by the
+ * registered codec with that id and any other value is passed through, so rows written before compression
+ * was enabled, or below the threshold, stay readable.
+ *
+ * <h2>Threshold</h2>
+ * <p>Only payloads whose serialized form is at least {@code thresholdBytes} long are compressed (on the
+ * string path the length in chars is compared, a lower bound of the UTF-8 size). A payload that does not
+ * get smaller once compressed is written as is.
+ *
+ * <h2>Ordering with encryption</h2>
+ * <p>Ciphertext does not compress, so this decorator sits <em>under</em> the
+ * {@link com.societegenerale.failover.store.jdbc.serializer.cipher.EncryptingSerializer}:
+ * {@code new EncryptingSerializer(new CompressingSerializer(json, ...), ...)} compresses first, then encrypts.
+ *
+ * <p>{@link #canonicalize}, {@link #toClassName} and {@link #toClass} pass through unchanged.
+ *
+ * @author Anand Manissery
+ */
+public class CompressingSerializer implements Serializer {
+
+    private static final PayloadEnvelope ENVELOPE = new PayloadEnvelope("CMP", "compressed payload", "codec");
+
+    private final Serializer delegate;
+
+    /** Codecs available for <b>read</b>, keyed by {@link PayloadCodec#id()}. */
+    private final Map<String, PayloadCodec> codecsById;
+
+    /** Codec used for <b>write</b>; {@code null} means compression is disabled (write as is). */
+    @Nullable
+    private final PayloadCodec writeCodec;
+
+    private final int thresholdBytes;
+
+    private final CompressionStats stats;
+
+    /**
+     * @param delegate       the underlying serializer (e.g. {@code JsonSerializer})
+     * @param codecs         all available codecs (used for reads); ids must be unique and envelope-safe
+     * @param writeCodec     the codec to compress new writes with, or {@code null} to write as is;
+     *                       when non-null it must be one of {@code codecs}
+     * @param thresholdBytes smallest serialized payload that is compressed; must be {@code >= 0}
+     * @param stats          the counters to record into
+     * @throws IllegalArgumentException if two codecs share an id, an id is blank or contains
+     *                                  {@code ':'}/{@code ')'}, {@code writeCodec} is not in {@code codecs},
+     *                                  or {@code thresholdBytes} is negative
+     */
+    public CompressingSerializer(Serializer delegate, List<PayloadCodec> codecs, @Nullable PayloadCodec writeCodec,
+                                 int thresholdBytes, CompressionStats stats) {
+        if (thresholdBytes < 0) {
+            throw new IllegalArgumentException("thresholdBytes must be >= 0, but was " + thresholdBytes);
+        }
+        this.delegate = delegate;
+        this.codecsById = indexById(codecs);
+        this.writeCodec = writeCodec;
+        this.thresholdBytes = thresholdBytes;
+        this.stats = stats;
+        if (writeCodec != null && this.codecsById.get(writeCodec.id()) != writeCodec) {
+            throw new IllegalArgumentException("Write codec '" + writeCodec.id() + "' is not among the registered codecs " + this.codecsById.keySet());
+        }
+    }
+
+    private static Map<String, PayloadCodec> indexById(List<PayloadCodec> codecs) {
+        Map<String, PayloadCodec> map = new LinkedHashMap<>();
+        for (PayloadCodec codec : codecs) {
+            String id = codec.id();
+            if (!PayloadEnvelope.isValidId(id)) {
+                throw new IllegalArgumentException("Invalid PayloadCodec id '" + id + "': must be non-blank and contain neither ':' nor ')'.");
+            }
+            PayloadCodec existing = map.putIfAbsent(id, codec);
+            if (existing != null) {
+                throw new IllegalArgumentException("Duplicate PayloadCodec id '" + id + "' (" + existing.getClass().getName() + " and " + codec.getClass().getName() + "). Ids must be unique.");
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public @Nullable <T> String serialize(@Nullable T payload) {
+        String serialized = delegate.serialize(payload);
+        if (serialized == null || writeCodec == null) {
+            return serialized;
+        }
+        if (serialized.length() < thresholdBytes) {
+            stats.recordSkipped();
+            return serialized;
+        }
+        byte[] compressed = compress(writeCodec, serialized.getBytes(StandardCharsets.UTF_8));
+        return compressed == null ? serialized : ENVELOPE.wrap(writeCodec.id(), Base64.getEncoder().encodeToString(compressed));
+    }
+
+    @Override
+    public <T> byte @Nullable [] serializeToBytes(@Nullable T payload) {
+        byte[] serialized = delegate.serializeToBytes(payload);
+        if (serialized == null || writeCodec == null) {
+            return serialized;
+        }
+        if (serialized.length < thresholdBytes) {
+            stats.recordSkipped();
+            return serialized;
+        }
+        byte[] compressed = compress(writeCodec, serialized);
+        return compressed == null ? serialized : ENVELOPE.wrap(writeCodec.id(), compressed);
+    }
+
+    /** @return the compressed bytes, or {@code null} if they are not smaller than {@code plain} */
+    private byte @Nullable [] compress(PayloadCodec codec, byte[] plain) {
+        long start = System.nanoTime();
+        byte[] compressed = codec.compress(plain);
+        long nanos = System.nanoTime() - start;
+        if (compressed.length >= plain.length) {
+            stats.recordSkipped();
+            return null;
+        }
+        stats.recordCompression(plain.length, compressed.length, nanos);
+        return compressed;
+    }
+
+    /** Delegates uncompressed: the fingerprint hashes the payload, not its stored form. */
+    @Override
+    public @Nullable <T> String canonicalize(@Nullable T payload) {
+        return delegate.canonicalize(payload);
+    }
+
+    @Override
+    public @Nullable <T> T deserialize(@Nullable String payload, Class<T> clazz) {
+        PayloadEnvelope.Unwrapped<String> enveloped = ENVELOPE.unwrap(payload);
+        if (enveloped == null) {
+            return delegate.deserialize(payload, clazz);
+        }
+        byte[] compressed;
+        try {
+            compressed = Base64.getDecoder().decode(enveloped.body());
+        } catch (IllegalArgumentException e) {
+            throw decompressionFailed(enveloped.id(), e);
+        }
+        return delegate.deserialize(new String(decompress(enveloped.id(), compressed), StandardCharsets.UTF_8), clazz);
+    }
+
+    @Override
+    public @Nullable <T> T deserializeFromBytes(byte @Nullable [] payload, Class<T> clazz) {
+        PayloadEnvelope.Unwrapped<byte[]> enveloped = ENVELOPE.unwrap(payload);
+        if (enveloped == null) {
+            return delegate.deserializeFromBytes(payload, clazz);
+        }
+        return delegate.deserializeFromBytes(decompress(enveloped.id(), enveloped.body()), clazz);
+    }
+
+    private byte[] decompress(String id, byte[] compressed) {
+        PayloadCodec codec = codecsById.get(id);
+        if (codec == null) {
+            throw new FailoverStoreException("No PayloadCodec registered for id '" + id + "' (available: " + codecsById.keySet()
+                    + "). The row was compressed by a codec that is no longer on the classpath; register it to read the row, or let the row expire from the cache.");
+        }
+        long start = System.nanoTime();
+        try {
+            byte[] plain = codec.decompress(compressed);
+            stats.recordDecompression(System.nanoTime() - start);
+            return plain;
+        } catch (Exception e) {
+            throw decompressionFailed(id, e);
+        }
+    }
+
+    private static FailoverStoreException decompressionFailed(String id, Exception cause) {
+        return new FailoverStoreException("Failed to decompress payload with codec '" + id + "'. The data may be corrupted.", cause);
+    }
+
+    @Override
+    public @Nullable <T> String toClassName(@Nullable T payload) {
+        return delegate.toClassName(payload);
+    }
+
+    @Override
+    public @Nullable <T> Class<T> toClass(@Nullable String className) {
+        return delegate.toClass(className);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.serializer.compression;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a {@link CompressingSerializer}: how much it compressed, how well, and the time it took.
+ * The auto-configuration exposes them as {@code failover.store.compression.*} meters.
+ *
+ * @author Anand Manissery
+ */
+public class CompressionStats {
+
+    private final LongAdder compressions = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder uncompressedBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+    private final LongAdder decompressions = new LongAdder();
+    private final LongAdder decompressionNanos = new LongAdder();
+
+    /** @return payloads written compressed */
+    public long compressions() {
+        return compressions.sum();
+    }
+
+    /** @return payloads written as is: below the threshold, or not smaller once compressed */
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    /** @return serialized size of the payloads written compressed, in bytes */
+    public long uncompressedBytes() {
+        return uncompressedBytes.sum();
+    }
+
+    /** @return compressed size of the same payloads, in bytes */
+    public long compressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    /** @return {@link #uncompressedBytes()} over {@link #compressedBytes()}, or {@code NaN} before the first compression */
+    public double ratio() {
+        long out = compressedBytes.sum();
+        return out == 0 ? Double.NaN : (double) uncompressedBytes.sum() / out;
+    }
+
+    /** @return time spent compressing, in nanoseconds */
+    public double compressionNanos() {
+        return compressionNanos.sum();
+    }
+
+    /** @return payloads read compressed */
+    public long decompressions() {
+        return decompressions.sum();
+    }
+
+    /** @return time spent decompressing, in nanoseconds */
+    public double decompressionNanos() {
+        return decompressionNanos.sum();
+    }
+
+    void recordCompression(int in, int out, long nanos) {
+        compressions.increment();
+        uncompressedBytes.add(in);
+        compressedBytes.add(out);
+        compressionNanos.add(nanos);
+    }
+
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    void recordDecompression(long nanos) {
+        decompressions.increment();
+        decompressionNanos.add(nanos);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.serializer.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Built-in {@link PayloadCodec} using the JDK {@link Deflater} (raw DEFLATE, no zlib header).
+ *
+ * <p>Each call uses its own {@code Deflater}/{@code Inflater} and releases its native memory with
+ * {@code end()} before returning, so an instance is thread-safe.
+ *
+ * @author Anand Manissery
+ */
+public class DeflatePayloadCodec implements PayloadCodec {
+
+    /** Envelope id persisted in {@code CMP(deflate:...)}. */
+    public static final String ID = "deflate";
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final int level;
+
+    /**
+     * Creates a codec with the {@link Deflater#DEFAULT_COMPRESSION default} level.
+     */
+    public DeflatePayloadCodec() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param level the compression level, {@code 0}-{@code 9}, or {@code -1} for the default
+     * @throws IllegalArgumentException if {@code level} is out of range
+     */
+    public DeflatePayloadCodec(int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Deflate level must be between -1 and 9, but was " + level);
+        }
+        this.level = level;
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] compress(byte[] plain) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(plain);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, plain.length / 4));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] compressed) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated deflate stream: the payload ends before the compressed data does.");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Payload is not a valid deflate stream.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.serializer.compression;
+
+/**
+ * Strategy for compressing the serialized payload before it is written to the JDBC failover store and
+ * decompressing it after it is read.
+ *
+ * <p>Like {@link com.societegenerale.failover.store.jdbc.serializer.cipher.PayloadCipher}, a codec deals in
+ * raw bytes only: the {@link CompressingSerializer} owns the {@code CMP(<id>:...)} envelope and, on read,
+ * dispatches to the registered codec whose {@link #id()} matches the tag.
+ *
+ * <h2>Contract</h2>
+ * <ul>
+ *   <li>{@link #id()} must be short, stable and <b>unique</b> across all registered codecs; it is
+ *       persisted inside every compressed row, so changing it strands existing rows.</li>
+ *   <li>{@code decompress(compress(x))} must equal {@code x}.</li>
+ *   <li>{@code decompress} must throw when its input was not produced by this codec.</li>
+ * </ul>
+ *
+ * <p>Declare a {@code PayloadCodec} bean to plug in another algorithm (LZ4, Zstandard, ...). The built-in
+ * one is {@link DeflatePayloadCodec}.
+ *
+ * @author Anand Manissery
+ * @see DeflatePayloadCodec
+ */
+public interface PayloadCodec {
+
+    /**
+     * Short, stable, unique identifier persisted in the {@code CMP(<id>:...)} envelope and used on read to
+     * select this codec. Example: {@code "deflate"}.
+     *
+     * @return the codec id; must not be {@code null}, empty, or contain {@code ':'} or {@code ')'}
+     */
+    String id();
+
+    /**
+     * Compresses serialized payload bytes.
+     *
+     * @param plain the serialized payload; never {@code null}
+     * @return the compressed bytes (no envelope)
+     */
+    byte[] compress(byte[] plain);
+
+    /**
+     * Decompresses bytes previously returned by {@link #compress}.
+     *
+     * @param compressed the compressed bytes (no envelope); never {@code null}
+     * @return the serialized payload
+     */
+    byte[] decompress(byte[] compressed);
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import com.societegenerale.failover.store.jdbc.mapper.ReferentialPayloadRowMapper;
+import com.societegenerale.failover.store.jdbc.resolver.BlobPayloadColumnResolver;
+import com.societegenerale.failover.store.jdbc.resolver.DefaultDatabaseResolver;
+import com.societegenerale.failover.store.jdbc.resolver.DefaultFailoverStoreQueryResolver;
+import com.societegenerale.failover.store.jdbc.serializer.JsonSerializer;
+import com.societegenerale.failover.store.jdbc.serializer.Serializer;
+import com.societegenerale.failover.store.jdbc.serializer.cipher.AesGcmPayloadCipher;
+import com.societegenerale.failover.store.jdbc.serializer.cipher.EncryptingSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test (real H2 JDBC store) for the binary {@code PAYLOAD} column.
+ *
+ * <p>Wires a {@link FailoverStoreJdbc} with a {@link BlobPayloadColumnResolver} and asserts that the column
+ * holds the serializer's bytes (plain UTF-8 JSON, or the binary {@code ENC(aesgcm:...)} envelope without
+ * Base64) and that both round-trip on {@code find} and {@code findAll}.
+ */
+@SpringBootTest(classes = {MySpringBootApplication.class})
+class BlobPayloadJdbcTest {
+
+    private static final String NAME = "Blob-Failover-Name";
+    private static final Instant NOW = Instant.now();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Serializer json = new JsonSerializer(new JsonMapper());
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.update("DELETE FROM BLOB_FAILOVER_STORE");
+    }
+
+    private FailoverStoreJdbc<Quote> storeWith(Serializer serializer) {
+        var columnResolver = new BlobPayloadColumnResolver();
+        var queryResolver = new DefaultFailoverStoreQueryResolver(
+                "BLOB_", serializer, new DefaultDatabaseResolver(jdbcTemplate), columnResolver);
+        var rowMapper = new ReferentialPayloadRowMapper<Quote>(columnResolver, serializer);
+        return new FailoverStoreJdbc<>(jdbcTemplate, queryResolver, rowMapper);
+    }
+
+    private byte[] rawPayloadColumn(String key) {
+        return jdbcTemplate.queryForObject(
+                "SELECT PAYLOAD FROM BLOB_FAILOVER_STORE WHERE FAILOVER_NAME = ? AND FAILOVER_KEY = ?",
+                byte[].class, NAME, key);
+    }
+
+    @Test
+    @DisplayName("stores the UTF-8 JSON bytes and round-trips on find and findAll")
+    void plainBytesRoundTrip() {
+        var store = storeWith(json);
+        var quote = new Quote("EUR/USD", 1.0842);
+        store.store(new ReferentialPayload<>(NAME, "k1", false, NOW, NOW.plusSeconds(60), quote));
+
+        assertThat(rawPayloadColumn("k1")).isEqualTo(json.serializeToBytes(quote));
+        assertThat(store.find(NAME, "k1").orElseThrow().getPayload()).isEqualTo(quote);
+        assertThat(store.findAll(NAME)).extracting(ReferentialPayload::getPayload).containsExactly(quote);
+    }
+
+    @Test
+    @DisplayName("encrypted rows hold the binary envelope: raw AES-GCM bytes, no Base64, nor plaintext")
+    void encryptedBytesRoundTrip() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        var aes = new AesGcmPayloadCipher(key);
+        var store = storeWith(new EncryptingSerializer(json, List.of(aes), aes));
+        var quote = new Quote("EUR/USD", 1.0842);
+        store.store(new ReferentialPayload<>(NAME, "k2", false, NOW, NOW.plusSeconds(60), quote));
+
+        byte[] raw = rawPayloadColumn("k2");
+        byte[] plain = json.serializeToBytes(quote);
+        assertThat(new String(raw, 0, "ENC(aesgcm:".length(), StandardCharsets.US_ASCII)).isEqualTo("ENC(aesgcm:");
+        assertThat(new String(raw, StandardCharsets.ISO_8859_1)).doesNotContain("EUR/USD");
+        // envelope + 16-byte IV + 16-byte tag on top of the plaintext: no Base64 expansion
+        assertThat(raw).hasSize("ENC(aesgcm:".length() + 16 + plain.length + 16 + ")".length());
+        assertThat(store.find(NAME, "k2").orElseThrow().getPayload()).isEqualTo(quote);
+    }
+
+    // ── fixtures ──
+
+    @Data @AllArgsConstructor @NoArgsConstructor
+    static class Quote { private String pair; private double rate; }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.societegenerale.failover.store.jdbc;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import com.societegenerale.failover.store.jdbc.resolver.FailoverStoreQueryResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Mock-based unit tests for the chunked {@link FailoverStoreJdbc#cleanByExpiry} paths that the H2-backed
+ * integration test cannot exercise: an interrupted pause, and a database without a row-limited DELETE.
+ *
+ * @author Anand Manissery
+ */
+@ExtendWith(MockitoExtension.class)
+class FailoverStoreJdbcChunkedCleanupTest {
+
+    private static final String CLEAN_UP_SQL = "CLEAN_UP_SQL";
+    private static final String CHUNKED_SQL  = "CHUNKED_SQL";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private FailoverStoreQueryResolver queryResolver;
+
+    @Mock
+    private RowMapper<ReferentialPayload<String>> rowMapper;
+
+    @AfterEach
+    void clearInterrupt() {
+        Thread.interrupted();
+    }
+
+    private FailoverStoreJdbc<String> store(ChunkedCleanup chunkedCleanup) {
+        return new FailoverStoreJdbc<>(jdbcTemplate, queryResolver, rowMapper, false, FailoverStoreJdbc.DEFAULT_BATCH_SIZE, chunkedCleanup);
+    }
+
+    @Test
+    @DisplayName("an interrupt during the pause ends the run and keeps the interrupt flag")
+    void interruptedPauseEndsTheRun() {
+        var chunking = new ChunkedCleanup(10, Duration.ofMinutes(1), Duration.ofHours(1));
+        given(queryResolver.getChunkedCleanUpQuery()).willReturn(CHUNKED_SQL);
+        given(jdbcTemplate.update(eq(CHUNKED_SQL), any(Timestamp.class), any(Integer.class))).willReturn(10);
+        var store = store(chunking);
+
+        Thread.currentThread().interrupt();
+        store.cleanByExpiry(Instant.now());
+
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        verify(jdbcTemplate, times(1)).update(eq(CHUNKED_SQL), any(Timestamp.class), any(Integer.class));
+        assertThat(chunking.deletedRows()).isEqualTo(10);
+        assertThat(chunking.cleanupRuns()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("without a row-limited DELETE for the database, the cleanup runs in a single statement")
+    void noChunkedQueryFallsBackToSingleDelete() {
+        var chunking = new ChunkedCleanup(10, Duration.ZERO, Duration.ofHours(1));
+        given(queryResolver.getCleanUpQuery()).willReturn(CLEAN_UP_SQL);
+
+        store(chunking).cleanByExpiry(Instant.now());
+
+        verify(jdbcTemplate).update(eq(CLEAN_UP_SQL), any(Timestamp.class));
+        verify(jdbcTemplate, never()).update(eq(CHUNKED_SQL), any(Timestamp.class), any(Integer.class));
+        assertThat(chunking.cleanupRuns()).isZero();
+    }
+
+    @Test
+    @DisplayName("rejects a non-positive chunk size or time budget and a negative pause")
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new ChunkedCleanup(0, Duration.ZERO, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("chunkSize");
+        assertThatThrownBy(() -> new ChunkedCleanup(1, Duration.ofSeconds(-1), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("pause");
+        assertThatThrownBy(() -> new ChunkedCleanup(1, Duration.ZERO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("timeBudget");
+        assertThatThrownBy(() -> new ChunkedCleanup(1, Duration.ZERO, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("timeBudget");
+    }
+}
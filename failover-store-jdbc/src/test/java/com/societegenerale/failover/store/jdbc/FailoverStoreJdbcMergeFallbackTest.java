@@ -33,9 +33,13 @@ import org.springframework.jdbc.core.RowMapper;
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
@@ -113,6 +117,42 @@ class FailoverStoreJdbcMergeFallbackTest {
         verify(jdbcTemplate, times(2)).update(eq(INSERT_SQL), any(Object[].class), any(int[].class));
     }
 
+    @Test
+    @DisplayName("batch merge throws BadSqlGrammarException — disables merge and stores the batch via INSERT/UPDATE")
+    void batchBadSqlGrammarDisablesMergeAndFallsBack() {
+        given(jdbcTemplate.batchUpdate(eq(MERGE_SQL), anyList(), any(int[].class)))
+                .willThrow(new BadSqlGrammarException("storeAll", MERGE_SQL, new SQLException("unsupported")));
+        given(jdbcTemplate.update(eq(INSERT_SQL), any(Object[].class), any(int[].class))).willReturn(1);
+        FailoverStoreJdbc<String> store = storeWithMerge(MERGE_SQL);
+
+        store.storeAll(List.of(payload, payload));   // batch merge fails → row-by-row fallback
+        store.storeAll(List.of(payload));            // merge must NOT be attempted again
+
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(MERGE_SQL), anyList(), any(int[].class));
+        verify(jdbcTemplate, times(3)).update(eq(INSERT_SQL), any(Object[].class), any(int[].class));
+    }
+
+    @Test
+    @DisplayName("batch merge — payloads are sent in JDBC batches of at most the configured batch size")
+    void batchMergeHonoursBatchSize() {
+        given(queryResolver.getMergeQuery()).willReturn(MERGE_SQL);
+        given(jdbcTemplate.batchUpdate(eq(MERGE_SQL), anyList(), any(int[].class))).willReturn(new int[]{1, 1});
+        FailoverStoreJdbc<String> store = new FailoverStoreJdbc<>(jdbcTemplate, queryResolver, rowMapper, false, 2);
+
+        store.storeAll(List.of(payload, payload, payload));
+
+        verify(jdbcTemplate).batchUpdate(eq(MERGE_SQL), argThat((List<Object[]> rows) -> rows.size() == 2), any(int[].class));
+        verify(jdbcTemplate).batchUpdate(eq(MERGE_SQL), argThat((List<Object[]> rows) -> rows.size() == 1), any(int[].class));
+    }
+
+    @Test
+    @DisplayName("a non-positive batch size is rejected")
+    void nonPositiveBatchSizeIsRejected() {
+        assertThatThrownBy(() -> new FailoverStoreJdbc<>(jdbcTemplate, queryResolver, rowMapper, false, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("batchSize");
+    }
+
     // ── INSERT/UPDATE fallback (no merge dialect) ────────────────────────────────
 
     @Test
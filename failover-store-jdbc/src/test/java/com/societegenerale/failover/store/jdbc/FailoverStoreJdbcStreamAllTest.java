@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.societegenerale.failover.store.jdbc;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import com.societegenerale.failover.store.jdbc.resolver.FailoverStoreQueryResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Mock-based unit tests for the row handling of {@link FailoverStoreJdbc#streamAll} that the H2-backed
+ * integration test cannot reach: the cursor's fetch size, and rows whose timestamps are missing.
+ *
+ * @author Anand Manissery
+ */
+@ExtendWith(MockitoExtension.class)
+class FailoverStoreJdbcStreamAllTest {
+
+    private static final String SELECT_ALL_SQL = "SELECT_ALL_SQL";
+    private static final Instant CUTOFF = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private FailoverStoreQueryResolver queryResolver;
+
+    @Mock
+    private RowMapper<ReferentialPayload<String>> rowMapper;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Captor
+    private ArgumentCaptor<PreparedStatementCreator> statementCreator;
+
+    @Captor
+    private ArgumentCaptor<RowMapper<ReferentialPayload<String>>> streamRowMapper;
+
+    private FailoverStoreJdbc<String> store;
+
+    @BeforeEach
+    void setUp() {
+        given(queryResolver.getSelectAllByNameQuery()).willReturn(SELECT_ALL_SQL);
+        store = new FailoverStoreJdbc<>(jdbcTemplate, queryResolver, rowMapper);
+        given(jdbcTemplate.queryForStream(statementCreator.capture(), streamRowMapper.capture())).willReturn(Stream.empty());
+        store.streamAll("name", CUTOFF).close();
+    }
+
+    @Test
+    @DisplayName("prepares the select with the cursor fetch size and the name")
+    void preparesSelectWithFetchSize() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        given(connection.prepareStatement(SELECT_ALL_SQL)).willReturn(statement);
+
+        assertThat(statementCreator.getValue().createPreparedStatement(connection)).isSameAs(statement);
+
+        verify(statement).setFetchSize(FailoverStoreJdbc.STREAM_FETCH_SIZE);
+        verify(statement).setString(1, "name");
+    }
+
+    @Test
+    @DisplayName("leaves a row with a missing AS_OF to the row mapper")
+    void rowWithoutAsOfGoesToRowMapper() throws SQLException {
+        var mapped = new ReferentialPayload<String>();
+        given(resultSet.getTimestamp("AS_OF")).willReturn(null);
+        given(resultSet.getTimestamp("EXPIRE_ON")).willReturn(Timestamp.from(CUTOFF.minusSeconds(1)));
+        given(rowMapper.mapRow(resultSet, 0)).willReturn(mapped);
+
+        assertThat(streamRowMapper.getValue().mapRow(resultSet, 0)).isSameAs(mapped);
+    }
+
+    @Test
+    @DisplayName("leaves a row with a missing EXPIRE_ON to the row mapper")
+    void rowWithoutExpireOnGoesToRowMapper() throws SQLException {
+        var mapped = new ReferentialPayload<String>();
+        given(resultSet.getTimestamp("AS_OF")).willReturn(Timestamp.from(CUTOFF.minusSeconds(60)));
+        given(resultSet.getTimestamp("EXPIRE_ON")).willReturn(null);
+        given(rowMapper.mapRow(resultSet, 0)).willReturn(mapped);
+
+        assertThat(streamRowMapper.getValue().mapRow(resultSet, 0)).isSameAs(mapped);
+    }
+
+    @Test
+    @DisplayName("reads an expired row without the row mapper")
+    void expiredRowSkipsRowMapper() throws SQLException {
+        given(resultSet.getTimestamp("AS_OF")).willReturn(Timestamp.from(CUTOFF.minusSeconds(60)));
+        given(resultSet.getTimestamp("EXPIRE_ON")).willReturn(Timestamp.from(CUTOFF.minusSeconds(1)));
+        given(resultSet.getString("FAILOVER_NAME")).willReturn("name");
+        given(resultSet.getString("FAILOVER_KEY")).willReturn("key");
+
+        var header = streamRowMapper.getValue().mapRow(resultSet, 0);
+
+        assertThat(header).isEqualTo(new ReferentialPayload<>("name", "key", false, CUTOFF.minusSeconds(60), CUTOFF.minusSeconds(1), null));
+        verify(rowMapper, never()).mapRow(any(), anyInt());
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.societegenerale.failover.store.jdbc;
 import com.societegenerale.failover.core.payload.ReferentialPayload;
+import com.societegenerale.failover.core.store.FailoverStoreBatchException;
 import com.societegenerale.failover.domain.Referential;
 import com.societegenerale.failover.store.jdbc.resolver.*;
 import com.societegenerale.failover.store.jdbc.serializer.Serializer;
@@ -32,6 +33,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +43,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 /**
  * @author Anand Manissery
  */
@@ -247,6 +250,269 @@ class FailoverStoreJdbcTest {
         }
     }
     // -------------------------------------------------------------------------
+    // touch()
+    // -------------------------------------------------------------------------
+    @Nested
+    @DisplayName("touch")
+    class TouchScenarios {
+        @Test
+        @DisplayName("should refresh asOf and expireOn while leaving the stored payload untouched")
+        void shouldRefreshTimestampsOnly() {
+            Instant asOf     = Instant.parse("2024-06-15T14:30:45Z");
+            Instant expireOn = Instant.parse("2024-06-16T14:30:45Z");
+            failoverStoreJdbc.store(referentialPayload);
+
+            failoverStoreJdbc.touch(new ReferentialPayload<>(NAME, KEY, false, asOf, expireOn, new Client(1L, "NOT-WRITTEN")), referentialPayload.getExpireOn());
+
+            var result = failoverStoreJdbc.find(NAME, KEY);
+            assertThat(result).isPresent();
+            assertThat(result.get().getAsOf()).isEqualTo(asOf);
+            assertThat(result.get().getExpireOn()).isEqualTo(expireOn);
+            assertThat(result.get().getPayload().getName()).isEqualTo("TATA");
+        }
+        @Test
+        @DisplayName("should store the payload in full when no row exists")
+        void shouldStoreInFullWhenRowIsMissing() {
+            failoverStoreJdbc.touch(referentialPayload, referentialPayload.getExpireOn());
+            assertThat(failoverStoreJdbc.find(NAME, KEY)).isPresent().contains(referentialPayload);
+        }
+        @Test
+        @DisplayName("should store the payload in full when the row was rewritten since the caller's write")
+        void shouldStoreInFullWhenRowWasRewritten() {
+            Instant writtenExpireOn = NOW.plusSeconds(60);
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, KEY, false, NOW, writtenExpireOn, new Client(1L, "MINE")));
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, KEY, false, NOW.plusSeconds(10), NOW.plusSeconds(70), new Client(2L, "THEIRS")));
+            var touched = new ReferentialPayload<>(NAME, KEY, false, NOW.plusSeconds(20), NOW.plusSeconds(80), new Client(1L, "MINE"));
+
+            failoverStoreJdbc.touch(touched, writtenExpireOn);
+
+            assertThat(failoverStoreJdbc.find(NAME, KEY)).isPresent().contains(touched);
+        }
+    }
+    // -------------------------------------------------------------------------
+    // storeAll()
+    // -------------------------------------------------------------------------
+    @Nested
+    @DisplayName("storeAll")
+    class StoreAllScenarios {
+        @Test
+        @DisplayName("should insert new rows and update existing ones in one batch")
+        void shouldInsertAndUpdateInOneBatch() {
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, "key-1", false, NOW, NOW.plusSeconds(3600), new Client(1L, "before")));
+            var updated  = new ReferentialPayload<>(NAME, "key-1", false, NOW, NOW.plusSeconds(7200), new Client(1L, "after"));
+            var inserted = new ReferentialPayload<>(NAME, "key-2", false, NOW, NOW.plusSeconds(3600), new Client(2L, "new"));
+            failoverStoreJdbc.storeAll(List.of(updated, inserted));
+            assertThat(failoverStoreJdbc.find(NAME, "key-1")).isPresent().contains(updated);
+            assertThat(failoverStoreJdbc.find(NAME, "key-2")).isPresent().contains(inserted);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TEST_FAILOVER_STORE", Integer.class)).isEqualTo(2);
+        }
+        @Test
+        @DisplayName("should store every other row of the batch and report the row that fails")
+        void shouldIsolateFailingRow() {
+            var first  = new ReferentialPayload<>(NAME, "key-1", false, NOW, NOW.plusSeconds(3600), new Client(1L, "c1"));
+            var tooLong = new ReferentialPayload<>(NAME, "k".repeat(300), false, NOW, NOW.plusSeconds(3600), new Client(2L, "c2"));
+            var last   = new ReferentialPayload<>(NAME, "key-3", false, NOW, NOW.plusSeconds(3600), new Client(3L, "c3"));
+            assertThatThrownBy(() -> failoverStoreJdbc.storeAll(List.of(first, tooLong, last)))
+                    .isInstanceOfSatisfying(FailoverStoreBatchException.class,
+                            e -> assertThat(e.getFailedPayloads()).containsExactly(tooLong));
+            assertThat(failoverStoreJdbc.find(NAME, "key-1")).isPresent().contains(first);
+            assertThat(failoverStoreJdbc.find(NAME, "key-3")).isPresent().contains(last);
+        }
+        @Test
+        @DisplayName("should do nothing for an empty batch")
+        void shouldDoNothingForEmptyBatch() {
+            failoverStoreJdbc.storeAll(List.of());
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TEST_FAILOVER_STORE", Integer.class)).isZero();
+        }
+    }
+    // -------------------------------------------------------------------------
+    // findAll(name, keys)
+    // -------------------------------------------------------------------------
+    @Nested
+    @DisplayName("findAll by keys")
+    class FindAllByKeysScenarios {
+        @Test
+        @DisplayName("should return the rows of the requested keys only, skipping missing and duplicate keys")
+        void shouldReturnRequestedKeysOnly() {
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, "key-1", false, NOW, NOW.plusSeconds(3600), new Client(1L, "c1")));
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, "key-2", false, NOW, NOW.plusSeconds(3600), new Client(2L, "c2")));
+            failoverStoreJdbc.store(new ReferentialPayload<>("other-name", "key-1", false, NOW, NOW.plusSeconds(3600), new Client(3L, "c3")));
+            var result = failoverStoreJdbc.findAll(NAME, List.of("key-1", "key-1", "missing"));
+            assertThat(result).hasSize(1);
+            assertThat(result.getFirst().getPayload().getName()).isEqualTo("c1");
+        }
+        @Test
+        @DisplayName("should split the keys over several selects beyond the IN list limit")
+        void shouldSplitKeysOverSeveralSelects() {
+            List<ReferentialPayload<Client>> payloads = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i <= FailoverStoreJdbc.MAX_KEYS_PER_SELECT; i++) {
+                payloads.add(new ReferentialPayload<>(NAME, "key-" + i, false, NOW, NOW.plusSeconds(3600), new Client((long) i, "c" + i)));
+                keys.add("key-" + i);
+            }
+            failoverStoreJdbc.storeAll(payloads);
+            assertThat(failoverStoreJdbc.findAll(NAME, keys)).hasSize(FailoverStoreJdbc.MAX_KEYS_PER_SELECT + 1);
+            Mockito.verify(failoverStoreQueryResolver).getSelectByKeysQuery(FailoverStoreJdbc.MAX_KEYS_PER_SELECT);
+            Mockito.verify(failoverStoreQueryResolver).getSelectByKeysQuery(1);
+        }
+        @Test
+        @DisplayName("should return an empty list for no keys")
+        void shouldReturnEmptyListForNoKeys() {
+            assertThat(failoverStoreJdbc.findAll(NAME, List.of())).isEmpty();
+        }
+    }
+    // -------------------------------------------------------------------------
+    // streamAll()
+    // -------------------------------------------------------------------------
+    @Nested
+    @DisplayName("streamAll")
+    class StreamAllScenarios {
+        @Test
+        @DisplayName("should stream the rows of the name, leaving the payload of rows expired before the cutoff undeserialized")
+        void shouldStreamRowsWithoutExpiredPayloads() {
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, "live", false, NOW, NOW.plusSeconds(3600), new Client(1L, "c1")));
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, "expired", false, NOW, NOW.plusSeconds(60), new Client(2L, "c2")));
+            failoverStoreJdbc.store(new ReferentialPayload<>("other-name", "live", false, NOW, NOW.plusSeconds(3600), new Client(3L, "c3")));
+            List<ReferentialPayload<Client>> result;
+            try (var stream = failoverStoreJdbc.streamAll(NAME, NOW.plusSeconds(120))) {
+                result = stream.toList();
+            }
+            assertThat(result).hasSize(2);
+            var live = result.stream().filter(r -> r.getKey().equals("live")).findFirst().orElseThrow();
+            var expired = result.stream().filter(r -> r.getKey().equals("expired")).findFirst().orElseThrow();
+            assertThat(live.getPayload().getName()).isEqualTo("c1");
+            assertThat(expired.getPayload()).isNull();
+            assertThat(expired.getName()).isEqualTo(NAME);
+            assertThat(expired.getAsOf()).isEqualTo(NOW);
+            assertThat(expired.getExpireOn()).isEqualTo(NOW.plusSeconds(60));
+            assertThat(expired.isUpToDate()).isFalse();
+        }
+        @Test
+        @DisplayName("should stream nothing for an unknown name")
+        void shouldStreamNothingForUnknownName() {
+            try (var stream = failoverStoreJdbc.streamAll("unknown", NOW)) {
+                assertThat(stream).isEmpty();
+            }
+        }
+    }
+    // -------------------------------------------------------------------------
+    // find() / findAll(keys) with a cutoff
+    // -------------------------------------------------------------------------
+    @Nested
+    @DisplayName("expiry-filtered reads")
+    class ExpiryFilteredReadScenarios {
+        @Test
+        @DisplayName("should find a row only when it does not expire before the cutoff (boundary: EXPIRE_ON >= ?)")
+        void shouldFindOnlyUnexpiredRow() {
+            Instant cutoff = NOW.plusSeconds(300);
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, "live", false, NOW, NOW.plusSeconds(3600), new Client(1L, "c1")));
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, "at-boundary", false, NOW, cutoff, new Client(2L, "c2")));
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, "expired", false, NOW, NOW.plusSeconds(60), new Client(3L, "c3")));
+            assertThat(failoverStoreJdbc.find(NAME, "live", cutoff)).hasValueSatisfying(r -> assertThat(r.getPayload().getName()).isEqualTo("c1"));
+            assertThat(failoverStoreJdbc.find(NAME, "at-boundary", cutoff)).isPresent();
+            assertThat(failoverStoreJdbc.find(NAME, "expired", cutoff)).isEmpty();
+            assertThat(failoverStoreJdbc.find(NAME, "unknown", cutoff)).isEmpty();
+        }
+        @Test
+        @DisplayName("should find the unexpired rows of the given keys only")
+        void shouldFindAllUnexpiredRowsOfKeys() {
+            Instant cutoff = NOW.plusSeconds(300);
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, "live", false, NOW, NOW.plusSeconds(3600), new Client(1L, "c1")));
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, "expired", false, NOW, NOW.plusSeconds(60), new Client(2L, "c2")));
+            failoverStoreJdbc.store(new ReferentialPayload<>("other-name", "live", false, NOW, NOW.plusSeconds(3600), new Client(3L, "c3")));
+            var result = failoverStoreJdbc.findAll(NAME, List.of("live", "expired", "unknown"), cutoff);
+            assertThat(result).singleElement().satisfies(r -> {
+                assertThat(r.getKey()).isEqualTo("live");
+                assertThat(r.getPayload().getName()).isEqualTo("c1");
+            });
+        }
+    }
+    // -------------------------------------------------------------------------
+    // deleteExpired()
+    // -------------------------------------------------------------------------
+    @Nested
+    @DisplayName("deleteExpired")
+    class DeleteExpiredScenarios {
+        @Test
+        @DisplayName("should delete the rows still holding the EXPIRE_ON they were read with and keep the refreshed ones")
+        void shouldDeleteUnchangedRowsAndKeepRefreshedOnes() {
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, "unchanged", false, NOW, NOW.plusSeconds(60), new Client(1L, "c1")));
+            failoverStoreJdbc.store(new ReferentialPayload<>(NAME, "refreshed", false, NOW, NOW.plusSeconds(60), new Client(2L, "c2")));
+            var unchanged = failoverStoreJdbc.find(NAME, "unchanged").orElseThrow();
+            var refreshed = failoverStoreJdbc.find(NAME, "refreshed").orElseThrow();
+            failoverStoreJdbc.touch(new ReferentialPayload<>(NAME, "refreshed", false, NOW.plusSeconds(120), NOW.plusSeconds(3600), null), refreshed.getExpireOn());
+            failoverStoreJdbc.deleteExpired(List.of(unchanged, refreshed, new ReferentialPayload<>(NAME, "unknown", false, NOW, NOW, null)));
+            assertThat(failoverStoreJdbc.find(NAME, "unchanged")).isEmpty();
+            assertThat(failoverStoreJdbc.find(NAME, "refreshed")).hasValueSatisfying(r -> assertThat(r.getExpireOn()).isEqualTo(NOW.plusSeconds(3600)));
+        }
+        @Test
+        @DisplayName("should delete in batches of batchSize")
+        void shouldDeleteInBatches() {
+            var batched = new FailoverStoreJdbc<>(jdbcTemplate, failoverStoreQueryResolver, rowMapper, false, 2, null);
+            for (int i = 0; i < 5; i++) {
+                batched.store(new ReferentialPayload<>(NAME, "k" + i, false, NOW, NOW.plusSeconds(60), new Client((long) i, "c" + i)));
+            }
+            batched.deleteExpired(batched.findAll(NAME));
+            assertThat(batched.findAll(NAME)).isEmpty();
+        }
+        @Test
+        @DisplayName("should do nothing for an empty list")
+        void shouldDoNothingForEmptyList() {
+            assertThatNoException().isThrownBy(() -> failoverStoreJdbc.deleteExpired(List.of()));
+        }
+    }
+    // -------------------------------------------------------------------------
+    // resolver without the optional queries
+    // -------------------------------------------------------------------------
+    @Nested
+    @DisplayName("resolver without the optional queries — falls back to the required ones")
+    class OptionalQueryFallbackScenarios {
+        /** A resolver whose optional queries are left at their interface default ({@code null}). */
+        private FailoverStoreJdbc<Client> storeWithoutOptionalQueries() {
+            var spyResolver = Mockito.spy(new DefaultFailoverStoreQueryResolver(
+                    "TEST_", serializer, new DefaultDatabaseResolver(jdbcTemplate), new VarcharPayloadColumnResolver()));
+            Mockito.doReturn(null).when(spyResolver).getTouchQuery();
+            Mockito.doReturn(null).when(spyResolver).getSelectUnexpiredQuery();
+            Mockito.doReturn(null).when(spyResolver).getSelectByKeysQuery(Mockito.anyInt());
+            Mockito.doReturn(null).when(spyResolver).getSelectUnexpiredByKeysQuery(Mockito.anyInt());
+            Mockito.doReturn(null).when(spyResolver).getDeleteExpiredQuery();
+            Mockito.doReturn(null).when(spyResolver).getChunkedCleanUpQuery();
+            return new FailoverStoreJdbc<>(jdbcTemplate, spyResolver, rowMapper);
+        }
+        @Test
+        @DisplayName("touch stores the payload in full")
+        void touchStoresInFull() {
+            var store = storeWithoutOptionalQueries();
+            store.store(referentialPayload);
+            var touched = new ReferentialPayload<>(NAME, KEY, false, NOW, NOW.plusSeconds(3600), new Client(2L, "WRITTEN"));
+            store.touch(touched, referentialPayload.getExpireOn());
+            assertThat(store.find(NAME, KEY)).isPresent().contains(touched);
+        }
+        @Test
+        @DisplayName("reads with a cutoff filter in memory, by key and for several keys")
+        void readsWithCutoffFilterInMemory() {
+            var store = storeWithoutOptionalQueries();
+            Instant cutoff = NOW.plusSeconds(300);
+            store.store(new ReferentialPayload<>(NAME, "live", false, NOW, NOW.plusSeconds(3600), new Client(1L, "c1")));
+            store.store(new ReferentialPayload<>(NAME, "expired", false, NOW, NOW.plusSeconds(60), new Client(2L, "c2")));
+            assertThat(store.find(NAME, "live", cutoff)).isPresent();
+            assertThat(store.find(NAME, "expired", cutoff)).isEmpty();
+            assertThat(store.findAll(NAME, List.of("live", "expired", "unknown"))).hasSize(2);
+            assertThat(store.findAll(NAME, List.of("live", "expired", "unknown"), cutoff))
+                    .singleElement().satisfies(r -> assertThat(r.getKey()).isEqualTo("live"));
+        }
+        @Test
+        @DisplayName("deleteExpired leaves the rows to the expiry cleanup, which removes them in one statement")
+        void deleteExpiredLeavesRowsToCleanup() {
+            var store = storeWithoutOptionalQueries();
+            store.store(new ReferentialPayload<>(NAME, "expired", false, NOW, NOW.plusSeconds(60), new Client(1L, "c1")));
+            store.deleteExpired(store.findAll(NAME));
+            assertThat(store.find(NAME, "expired")).isPresent();
+            store.cleanByExpiry(NOW.plusSeconds(120));
+            assertThat(store.find(NAME, "expired")).isEmpty();
+        }
+    }
+    // -------------------------------------------------------------------------
     // cleanByExpiry()
     // -------------------------------------------------------------------------
     @Nested
@@ -311,6 +577,46 @@ class FailoverStoreJdbcTest {
         }
     }
     // -------------------------------------------------------------------------
+    // cleanByExpiry() — chunked
+    // -------------------------------------------------------------------------
+    @Nested
+    @DisplayName("cleanByExpiry — chunked")
+    class ChunkedCleanByExpiryScenarios {
+        private FailoverStoreJdbc<Client> chunkedStore(ChunkedCleanup chunkedCleanup) {
+            return new FailoverStoreJdbc<>(jdbcTemplate, failoverStoreQueryResolver, rowMapper, false, FailoverStoreJdbc.DEFAULT_BATCH_SIZE, chunkedCleanup);
+        }
+        private void storeExpiring(int count, Instant expireOn) {
+            for (int i = 0; i < count; i++) {
+                failoverStoreJdbc.store(new ReferentialPayload<>(NAME, expireOn + "-" + i, false, NOW, expireOn, new Client((long) i, "c" + i)));
+            }
+        }
+        @Test
+        @DisplayName("should delete chunk after chunk until no expired row is left, keeping live rows")
+        void shouldDeleteChunksUntilNothingIsLeft() {
+            var chunking = new ChunkedCleanup(2, Duration.ofMillis(1), Duration.ofMinutes(1));
+            storeExpiring(5, NOW.plusSeconds(60));
+            storeExpiring(1, NOW.plusSeconds(3600));
+            chunkedStore(chunking).cleanByExpiry(NOW.plusSeconds(120));
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TEST_FAILOVER_STORE", Integer.class)).isEqualTo(1);
+            assertThat(chunking.deletedRows()).isEqualTo(5);
+            assertThat(chunking.cleanupRuns()).isEqualTo(1);
+            assertThat(chunking.cleanupNanos()).isPositive();
+            Mockito.verify(failoverStoreQueryResolver, Mockito.never()).getCleanUpQuery();
+        }
+        @Test
+        @DisplayName("should stop once the time budget is spent and leave the rest to the next run")
+        void shouldStopWhenTimeBudgetIsSpent() {
+            var chunking = new ChunkedCleanup(1, Duration.ZERO, Duration.ofNanos(1));
+            var store = chunkedStore(chunking);
+            storeExpiring(3, NOW.plusSeconds(60));
+            store.cleanByExpiry(NOW.plusSeconds(120));
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TEST_FAILOVER_STORE", Integer.class)).isEqualTo(2);
+            store.cleanByExpiry(NOW.plusSeconds(120));
+            assertThat(chunking.deletedRows()).isEqualTo(2);
+            assertThat(chunking.cleanupRuns()).isEqualTo(2);
+        }
+    }
+    // -------------------------------------------------------------------------
     // Concurrency
     // -------------------------------------------------------------------------
     @Nested
@@ -516,6 +822,28 @@ class FailoverStoreJdbcTest {
             assertThat(store.find(NAME, "exp-1")).isNotPresent();
             assertThat(store.find(NAME, "exp-2")).isPresent();
         }
+        @Test
+        @DisplayName("storeAll() stores every other row and reports the row that fails in fallback mode")
+        void storeAllIsolatesFailingRowInFallbackMode() {
+            var store   = buildFallbackStore();
+            var tooLong = new ReferentialPayload<>(NAME, "k".repeat(300), false, NOW, NOW.plusSeconds(3600), new Client(1L, "c1"));
+            var stored  = new ReferentialPayload<>(NAME, "key-2", false, NOW, NOW.plusSeconds(3600), new Client(2L, "c2"));
+            assertThatThrownBy(() -> store.storeAll(List.of(tooLong, stored)))
+                    .isInstanceOfSatisfying(FailoverStoreBatchException.class,
+                            e -> assertThat(e.getFailedPayloads()).containsExactly(tooLong));
+            assertThat(store.find(NAME, "key-2")).isPresent().contains(stored);
+        }
+        @Test
+        @DisplayName("storeAll() inserts and updates row by row in fallback mode")
+        void storeAllInsertsAndUpdatesInFallbackMode() {
+            var store   = buildFallbackStore();
+            var updated = new ReferentialPayload<>(NAME, "key-1", false, NOW, NOW.plusSeconds(7200), new Client(1L, "after"));
+            var created = new ReferentialPayload<>(NAME, "key-2", false, NOW, NOW.plusSeconds(3600), new Client(2L, "new"));
+            store.store(new ReferentialPayload<>(NAME, "key-1", false, NOW, NOW.plusSeconds(3600), new Client(1L, "before")));
+            store.storeAll(List.of(updated, created));
+            assertThat(store.find(NAME, "key-1")).isPresent().contains(updated);
+            assertThat(store.find(NAME, "key-2")).isPresent().contains(created);
+        }
     }
     // -------------------------------------------------------------------------
     // mergeQuery — final field resolved once at construction
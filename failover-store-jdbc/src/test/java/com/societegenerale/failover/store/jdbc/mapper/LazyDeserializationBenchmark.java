@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.mapper;
+
+import com.societegenerale.failover.core.payload.ReferentialPayload;
+import com.societegenerale.failover.store.jdbc.FailoverStoreJdbc;
+import com.societegenerale.failover.store.jdbc.resolver.DefaultDatabaseResolver;
+import com.societegenerale.failover.store.jdbc.resolver.DefaultFailoverStoreQueryResolver;
+import com.societegenerale.failover.store.jdbc.resolver.VarcharPayloadColumnResolver;
+import com.societegenerale.failover.store.jdbc.serializer.JsonSerializer;
+import com.societegenerale.failover.store.jdbc.serializer.Serializer;
+import org.h2.Driver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Micro-benchmark for reading a half-expired referential back from an in-memory H2 store: {@value #ROWS}
+ * rows, every other one past its {@code EXPIRE_ON}, read with {@link FailoverStoreJdbc#findAll(String)} and
+ * the payload of each live row consumed, as recover-all does. Compares the
+ * {@link ReferentialPayloadRowMapper} (payload deserialized on first {@code getPayload()}) against the same
+ * mapper forced to deserialize every row while mapping, as it did before.
+ *
+ * <p>Not a unit test (named {@code *Benchmark} so Surefire skips it). Run via the {@code benchmark}
+ * profile:
+ *
+ * <pre>{@code mvn -pl failover-store-jdbc -Pbenchmark test-compile exec:exec}</pre>
+ *
+ * @author Anand Manissery
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyDeserializationBenchmark {
+
+    static final int ROWS = 1_000;
+
+    private static final int HISTORY = 30;
+
+    private static final String NAME = "lazy-benchmark";
+
+    private final Instant now = Instant.now();
+
+    private SimpleDriverDataSource dataSource;
+
+    private FailoverStoreJdbc<Quote> lazyStore;
+
+    private FailoverStoreJdbc<Quote> eagerStore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SimpleDriverDataSource(new Driver(), "jdbc:h2:mem:lazy-benchmark;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE BENCH_FAILOVER_STORE (
+                    FAILOVER_NAME VARCHAR(50) NOT NULL,
+                    FAILOVER_KEY VARCHAR(256) NOT NULL,
+                    AS_OF TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+                    EXPIRE_ON TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+                    PAYLOAD VARCHAR(8000),
+                    PAYLOAD_CLASS VARCHAR(256),
+                    PRIMARY KEY(FAILOVER_NAME, FAILOVER_KEY))""");
+
+        Serializer serializer = new JsonSerializer(new JsonMapper(), List.of(Quote.class.getName(), Price.class.getName()));
+        var queryResolver = new DefaultFailoverStoreQueryResolver("BENCH_", serializer,
+                new DefaultDatabaseResolver(jdbcTemplate), new VarcharPayloadColumnResolver());
+        var rowMapper = new ReferentialPayloadRowMapper<Quote>(new VarcharPayloadColumnResolver(), serializer);
+        RowMapper<ReferentialPayload<Quote>> eagerRowMapper = (rs, rowNum) -> {
+            ReferentialPayload<Quote> mapped = rowMapper.mapRow(rs, rowNum);
+            mapped.getPayload();
+            return mapped;
+        };
+        lazyStore = new FailoverStoreJdbc<>(jdbcTemplate, queryResolver, rowMapper);
+        eagerStore = new FailoverStoreJdbc<>(jdbcTemplate, queryResolver, eagerRowMapper);
+
+        for (int i = 0; i < ROWS; i++) {
+            Instant expireOn = i % 2 == 0 ? now.minusSeconds(3600) : now.plusSeconds(3600);
+            lazyStore.store(new ReferentialPayload<>(NAME, "key-" + i, true, now, expireOn, quote(i)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("DROP TABLE BENCH_FAILOVER_STORE");
+    }
+
+    /** Before: every row deserialized while mapping, expired or not. */
+    @Benchmark
+    public void eagerHalfExpired(Blackhole blackhole) {
+        readLive(eagerStore, blackhole);
+    }
+
+    /** After: only the live rows are deserialized, on first {@code getPayload()}. */
+    @Benchmark
+    public void lazyHalfExpired(Blackhole blackhole) {
+        readLive(lazyStore, blackhole);
+    }
+
+    private void readLive(FailoverStoreJdbc<Quote> store, Blackhole blackhole) {
+        for (ReferentialPayload<Quote> payload : store.findAll(NAME)) {
+            if (!payload.getExpireOn().isBefore(now)) {
+                blackhole.consume(payload.getPayload());
+            }
+        }
+    }
+
+    private static Quote quote(int i) {
+        LocalDate valueDate = LocalDate.parse("2026-01-01").plusDays(i % 365);
+        List<Price> history = IntStream.range(0, HISTORY)
+                .mapToObj(day -> new Price(valueDate.minusDays(day), new BigDecimal("101.25").add(BigDecimal.valueOf(day, 2))))
+                .toList();
+        return new Quote("FR" + String.format("%010d", i), "Instrument " + i, "EUR", valueDate, List.of("XPAR", "XAMS", "XBRU"), history);
+    }
+
+    /** A quote with the mix of field types a referential payload typically carries, about 1.5 KB of JSON. */
+    public record Quote(String isin, String label, String currency, LocalDate valueDate, List<String> venues, List<Price> history) {
+    }
+
+    /** One day of a quote's price history. */
+    public record Price(LocalDate date, BigDecimal close) {
+    }
+}
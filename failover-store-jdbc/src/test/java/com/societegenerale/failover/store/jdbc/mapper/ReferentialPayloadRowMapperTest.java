@@ -31,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
@@ -38,6 +39,9 @@ import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -82,6 +86,9 @@ class ReferentialPayloadRowMapperTest {
         when(resultSet.getString("PAYLOAD_CLASS")).thenReturn(PAYLOAD_CLASS);
         when(payloadColumnResolver.extractPayload(resultSet, "PAYLOAD")).thenReturn(PAYLOAD_JSON);
         when(serializer.toClass(PAYLOAD_CLASS)).thenReturn((Class) SamplePayload.class);
+    }
+
+    private void stubDeserialization() {
         when(serializer.deserialize(PAYLOAD_JSON, SamplePayload.class)).thenReturn(new SamplePayload("hello"));
     }
 
@@ -93,6 +100,7 @@ class ReferentialPayloadRowMapperTest {
         @DisplayName("should map all columns to a ReferentialPayload")
         void mapsAllColumnsCorrectly() throws SQLException {
             stubHappyPath();
+            stubDeserialization();
 
             ReferentialPayload<SamplePayload> result = mapper.mapRow(resultSet, 0);
 
@@ -139,8 +147,9 @@ class ReferentialPayloadRowMapperTest {
         @DisplayName("should deserialize payload via Serializer.deserialize")
         void delegatesDeserializationToSerializer() throws SQLException {
             stubHappyPath();
+            stubDeserialization();
 
-            mapper.mapRow(resultSet, 0);
+            mapper.mapRow(resultSet, 0).getPayload();
 
             verify(serializer).deserialize(PAYLOAD_JSON, SamplePayload.class);
         }
@@ -149,6 +158,7 @@ class ReferentialPayloadRowMapperTest {
         @DisplayName("rowNum parameter does not affect mapping result")
         void rowNumIsIgnored() throws SQLException {
             stubHappyPath();
+            stubDeserialization();
             ReferentialPayload<SamplePayload> r1 = mapper.mapRow(resultSet, 0);
 
             stubHappyPath();
@@ -158,6 +168,62 @@ class ReferentialPayloadRowMapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("mapRow — lazy deserialization")
+    class LazyDeserialization {
+
+        @Test
+        @DisplayName("should not deserialize the payload while mapping the row")
+        void doesNotDeserializeOnMapRow() throws SQLException {
+            stubHappyPath();
+
+            ReferentialPayload<SamplePayload> result = mapper.mapRow(resultSet, 0);
+
+            assertThat(result.getExpireOn()).isEqualTo(EXPIRE_ON);
+            verify(serializer, never()).deserialize(any(), any());
+        }
+
+        @Test
+        @DisplayName("should deserialize the payload once, on first access")
+        void deserializesOnceOnFirstAccess() throws SQLException {
+            stubHappyPath();
+            stubDeserialization();
+            ReferentialPayload<SamplePayload> result = mapper.mapRow(resultSet, 0);
+
+            assertThat(result.getPayload()).isEqualTo(new SamplePayload("hello"));
+            assertThat(result.copy().getPayload()).isEqualTo(new SamplePayload("hello"));
+
+            verify(serializer, times(1)).deserialize(PAYLOAD_JSON, SamplePayload.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("mapRow — binary payload column")
+    class BinaryPayloadColumn {
+
+        @Test
+        @DisplayName("should read the payload bytes and deserialize them on first access")
+        void deserializesBytes() throws SQLException {
+            byte[] bytes = PAYLOAD_JSON.getBytes(StandardCharsets.UTF_8);
+            when(resultSet.getString("FAILOVER_NAME")).thenReturn(FAILOVER_NAME);
+            when(resultSet.getString("FAILOVER_KEY")).thenReturn(FAILOVER_KEY);
+            when(resultSet.getTimestamp("AS_OF")).thenReturn(Timestamp.from(AS_OF));
+            when(resultSet.getTimestamp("EXPIRE_ON")).thenReturn(Timestamp.from(EXPIRE_ON));
+            when(resultSet.getString("PAYLOAD_CLASS")).thenReturn(PAYLOAD_CLASS);
+            when(serializer.toClass(PAYLOAD_CLASS)).thenReturn((Class) SamplePayload.class);
+            when(payloadColumnResolver.binary()).thenReturn(true);
+            when(payloadColumnResolver.extractPayloadBytes(resultSet, "PAYLOAD")).thenReturn(bytes);
+            when(serializer.deserializeFromBytes(bytes, SamplePayload.class)).thenReturn(new SamplePayload("hello"));
+
+            ReferentialPayload<SamplePayload> result = mapper.mapRow(resultSet, 0);
+            verify(serializer, never()).deserializeFromBytes(any(), any());
+
+            assertThat(result.getPayload()).isEqualTo(new SamplePayload("hello"));
+            verify(payloadColumnResolver, never()).extractPayload(any(), any());
+            verify(serializer, never()).deserialize(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("mapRow — null payload")
     class NullPayload {
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.resolver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BlobPayloadColumnResolverTest {
+
+    private static final String PAYLOAD_COLUMN_NAME = "PAYLOAD";
+    private static final byte[] JSON_PAYLOAD = "{\"key\":\"some-value\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final BlobPayloadColumnResolver handler = new BlobPayloadColumnResolver();
+
+    @Test
+    @DisplayName("should default to BLOB as the payload SQL type and be binary")
+    void payloadTypeDefaultsToBlob() {
+        assertThat(handler.payloadType()).isEqualTo(Types.BLOB);
+        assertThat(handler.binary()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should accept the other binary SQL types")
+    void acceptsBinaryTypes() {
+        assertThat(new BlobPayloadColumnResolver(Types.VARBINARY).payloadType()).isEqualTo(Types.VARBINARY);
+        assertThat(new BlobPayloadColumnResolver(Types.BINARY).payloadType()).isEqualTo(Types.BINARY);
+        assertThat(new BlobPayloadColumnResolver(Types.LONGVARBINARY).payloadType()).isEqualTo(Types.LONGVARBINARY);
+    }
+
+    @Test
+    @DisplayName("should reject a non-binary SQL type")
+    void rejectsTextType() {
+        assertThatThrownBy(() -> new BlobPayloadColumnResolver(Types.VARCHAR))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("binary JDBC type");
+    }
+
+    @Test
+    @DisplayName("should extract the raw bytes from the result set")
+    void extractPayloadBytesReturnsBytes() throws SQLException {
+        when(resultSet.getBytes(PAYLOAD_COLUMN_NAME)).thenReturn(JSON_PAYLOAD);
+
+        assertThat(handler.extractPayloadBytes(resultSet, PAYLOAD_COLUMN_NAME)).isEqualTo(JSON_PAYLOAD);
+    }
+
+    @Test
+    @DisplayName("should decode the bytes as UTF-8 on the string path, null stays null")
+    void extractPayloadDecodesUtf8() throws SQLException {
+        when(resultSet.getBytes(PAYLOAD_COLUMN_NAME)).thenReturn(JSON_PAYLOAD, (byte[]) null);
+
+        assertThat(handler.extractPayload(resultSet, PAYLOAD_COLUMN_NAME)).isEqualTo("{\"key\":\"some-value\"}");
+        assertThat(handler.extractPayload(resultSet, PAYLOAD_COLUMN_NAME)).isNull();
+    }
+}
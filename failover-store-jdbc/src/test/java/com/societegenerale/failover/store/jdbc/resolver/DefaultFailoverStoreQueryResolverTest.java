@@ -150,6 +150,14 @@ class DefaultFailoverStoreQueryResolverTest {
             assertThat(whereIdx).isGreaterThan(setIdx);
         }
 
+        @Test
+        @DisplayName("touchQuery sets only AS_OF and EXPIRE_ON, never PAYLOAD, of the row as last written, on the prefixed table")
+        void touchQuerySetsTimestampsOnly() {
+            assertThat(defaultResolver().getTouchQuery())
+                    .contains("UPDATE TEST_FAILOVER_STORE SET AS_OF = ? , EXPIRE_ON = ? WHERE FAILOVER_NAME = ? AND FAILOVER_KEY = ? AND EXPIRE_ON = ?")
+                    .doesNotContain("PAYLOAD");
+        }
+
         @Test
         @DisplayName("selectQuery selects all six columns")
         void selectQuerySelectsAllColumns() {
@@ -167,6 +175,45 @@ class DefaultFailoverStoreQueryResolverTest {
                     .doesNotContain("FAILOVER_KEY = ?");
         }
 
+        @Test
+        @DisplayName("selectByKeysQuery filters by FAILOVER_NAME and an IN list of the requested size")
+        void selectByKeysQueryFiltersByNameAndKeyList() {
+            assertThat(defaultResolver().getSelectByKeysQuery(3))
+                    .startsWith(defaultResolver().getSelectAllByNameQuery())
+                    .endsWith(" AND FAILOVER_KEY IN (?, ?, ?)");
+        }
+
+        @Test
+        @DisplayName("selectByKeysQuery rejects an empty IN list")
+        void selectByKeysQueryRejectsNoKeys() {
+            assertThatThrownBy(() -> defaultResolver().getSelectByKeysQuery(0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("selectUnexpiredQuery adds an EXPIRE_ON lower bound to selectQuery")
+        void selectUnexpiredQueryBoundsExpireOn() {
+            assertThat(defaultResolver().getSelectUnexpiredQuery())
+                    .isEqualTo(defaultResolver().getSelectQuery() + " AND EXPIRE_ON >= ?");
+        }
+
+        @Test
+        @DisplayName("selectUnexpiredByKeysQuery binds EXPIRE_ON before the IN list of the requested size")
+        void selectUnexpiredByKeysQueryBoundsExpireOnBeforeKeyList() {
+            assertThat(defaultResolver().getSelectUnexpiredByKeysQuery(2))
+                    .startsWith(defaultResolver().getSelectAllByNameQuery())
+                    .endsWith(" AND EXPIRE_ON >= ? AND FAILOVER_KEY IN (?, ?)");
+            assertThatThrownBy(() -> defaultResolver().getSelectUnexpiredByKeysQuery(0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("deleteExpiredQuery deletes by FAILOVER_NAME and FAILOVER_KEY only while EXPIRE_ON is unchanged")
+        void deleteExpiredQueryMatchesExpireOn() {
+            assertThat(defaultResolver().getDeleteExpiredQuery())
+                    .isEqualTo(defaultResolver().getDeleteQuery() + " AND EXPIRE_ON = ?");
+        }
+
         @Test
         @DisplayName("deleteQuery filters by FAILOVER_NAME and FAILOVER_KEY")
         void deleteQueryPredicateOnNameAndKey() {
@@ -255,6 +302,16 @@ class DefaultFailoverStoreQueryResolverTest {
                     .isEqualTo(r.buildUpdateTypes().length);
         }
 
+        @Test
+        @DisplayName("touchQuery placeholder count matches buildTouchParams array length and buildTouchTypes length")
+        void touchQueryPlaceholderCountMatchesTouchBuilders() {
+            var r       = defaultResolver();
+            var objects = r.buildTouchParams(payload(new TestPayload("v")), NOW);
+            assertThat(countPlaceholders(r.getTouchQuery()))
+                    .isEqualTo(objects.length)
+                    .isEqualTo(r.buildTouchTypes().length);
+        }
+
         @Test
         @DisplayName("H2 mergeQuery placeholder count matches buildInsertMergeParams and buildInsertMergeTypes")
         void h2MergeQueryPlaceholderCountMatchesStoreBuilders() {
@@ -340,6 +397,64 @@ class DefaultFailoverStoreQueryResolverTest {
         }
     }
 
+    // =========================================================================
+    // 4b. Chunked cleanup dialect selection
+    // =========================================================================
+
+    @Nested
+    @DisplayName("chunkedCleanUpQuery — row limit per dialect")
+    class ChunkedCleanUpDialectScenarios {
+
+        @ParameterizedTest(name = "dbProduct=''{0}''")
+        @ValueSource(strings = {"H2", "PostgreSQL", "MySQL", "MariaDB", "Oracle"})
+        @DisplayName("known dialects delete expired rows of the prefixed table with two parameters: EXPIRE_ON, max rows")
+        void knownDialectsLimitTheDeletedRows(String dbProduct) {
+            assertThat(resolver(TABLE_PREFIX, dbProduct).getChunkedCleanUpQuery())
+                    .startsWith("DELETE FROM " + TABLE_PREFIX + "FAILOVER_STORE WHERE ")
+                    .contains("EXPIRE_ON < ?")
+                    .satisfies(q -> assertThat(q.chars().filter(c -> c == '?').count()).isEqualTo(2));
+        }
+
+        @Test
+        @DisplayName("H2 limits with FETCH FIRST")
+        void h2UsesFetchFirst() {
+            assertThat(resolver(TABLE_PREFIX, "H2").getChunkedCleanUpQuery()).endsWith("EXPIRE_ON < ? FETCH FIRST ? ROWS ONLY");
+        }
+
+        @Test
+        @DisplayName("PostgreSQL limits a ctid sub-select")
+        void postgresqlUsesCtidSubSelect() {
+            assertThat(resolver(TABLE_PREFIX, "PostgreSQL 14.5").getChunkedCleanUpQuery())
+                    .contains("WHERE ctid IN (SELECT ctid FROM " + TABLE_PREFIX + "FAILOVER_STORE WHERE EXPIRE_ON < ? LIMIT ?)");
+        }
+
+        @ParameterizedTest(name = "dbProduct=''{0}''")
+        @ValueSource(strings = {"MySQL 8.0.33", "MariaDB 10.11"})
+        @DisplayName("MySQL and MariaDB limit with LIMIT")
+        void mysqlAndMariaDbUseLimit(String dbProduct) {
+            assertThat(resolver(TABLE_PREFIX, dbProduct).getChunkedCleanUpQuery()).endsWith("EXPIRE_ON < ? LIMIT ?");
+        }
+
+        @Test
+        @DisplayName("Oracle limits with ROWNUM")
+        void oracleUsesRownum() {
+            assertThat(resolver(TABLE_PREFIX, "Oracle Database 19c").getChunkedCleanUpQuery()).endsWith("EXPIRE_ON < ? AND ROWNUM <= ?");
+        }
+
+        @ParameterizedTest(name = "dbProduct=''{0}''")
+        @ValueSource(strings = {"Microsoft SQL Server", "DB2", ""})
+        @DisplayName("unknown database products return null (single DELETE cleanup)")
+        void unknownDbProductReturnsNull(String dbProduct) {
+            assertThat(resolver(TABLE_PREFIX, dbProduct).getChunkedCleanUpQuery()).isNull();
+        }
+
+        @Test
+        @DisplayName("null dbProduct returns null (single DELETE cleanup)")
+        void nullDbProductReturnsNull() {
+            assertThat(resolver(TABLE_PREFIX, null).getChunkedCleanUpQuery()).isNull();
+        }
+    }
+
     // =========================================================================
     // 5. buildInsertMergeParams and buildInsertMergeTypes (INSERT / MERGE param order)
     // =========================================================================
@@ -437,6 +552,53 @@ class DefaultFailoverStoreQueryResolverTest {
         }
     }
 
+    @Nested
+    @DisplayName("binary payload column — PAYLOAD bound as bytes")
+    class BinaryPayloadColumnScenarios {
+
+        private FailoverStoreQueryResolver binaryResolver() {
+            when(databaseResolver.resolve()).thenReturn("H2");
+            return new DefaultFailoverStoreQueryResolver(TABLE_PREFIX, SERIALIZER, databaseResolver, new BlobPayloadColumnResolver());
+        }
+
+        @Test
+        @DisplayName("insert/merge and update params carry the serializer's bytes, typed BLOB")
+        void payloadIsBoundAsBytes() {
+            var r = binaryResolver();
+            var p = payload(new TestPayload("v"));
+            byte[] expected = SERIALIZER.serializeToBytes(p.getPayload());
+            assertThat(r.buildInsertMergeParams(p)[4]).isEqualTo(expected);
+            assertThat(r.buildInsertMergeTypes()[4]).isEqualTo(Types.BLOB);
+            assertThat(r.buildUpdateParams(p)[2]).isEqualTo(expected);
+            assertThat(r.buildUpdateTypes()[2]).isEqualTo(Types.BLOB);
+        }
+
+        @Test
+        @DisplayName("null payload → PAYLOAD is null")
+        void nullPayloadProducesNull() {
+            assertThat(binaryResolver().buildInsertMergeParams(payload(null))[4]).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("buildTouchParams and buildTouchTypes — touch param order (SET first, WHERE last)")
+    class BuildTouchObjectsScenarios {
+
+        @Test
+        @DisplayName("params are AS_OF, EXPIRE_ON, FAILOVER_NAME, FAILOVER_KEY, then the written EXPIRE_ON — no payload is serialized")
+        void paramsInColumnOrder() {
+            var obj = defaultResolver().buildTouchParams(payload(new TestPayload("v")), NOW);
+            assertThat(obj).containsExactly(Timestamp.from(NOW), Timestamp.from(EXPIRE), NAME, KEY, Timestamp.from(NOW));
+        }
+
+        @Test
+        @DisplayName("buildTouchTypes returns TIMESTAMP, TIMESTAMP, VARCHAR, VARCHAR, TIMESTAMP")
+        void typesInColumnOrder() {
+            assertThat(defaultResolver().buildTouchTypes())
+                    .containsExactly(Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP);
+        }
+    }
+
     // =========================================================================
     // 6. buildUpdateParams and buildUpdateTypes (UPDATE param order)
     // =========================================================================
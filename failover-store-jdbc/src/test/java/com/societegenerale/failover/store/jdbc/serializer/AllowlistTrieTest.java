@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.serializer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AllowlistTrieTest {
+
+    private final AllowlistTrie trie = AllowlistTrie.of(List.of("java.lang.String", "com.acme", "org.example.ref."));
+
+    @Test
+    @DisplayName("should allow an exact entry")
+    void allowsExactEntry() {
+        assertThat(trie.allows("java.lang.String")).isTrue();
+        assertThat(trie.allows("com.acme")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should allow a class under a package entry, at any depth")
+    void allowsClassUnderPackage() {
+        assertThat(trie.allows("com.acme.Country")).isTrue();
+        assertThat(trie.allows("com.acme.ref.Currency")).isTrue();
+        assertThat(trie.allows("com.acme.Country$Region")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should not match a partial segment")
+    void rejectsPartialSegment() {
+        assertThat(trie.allows("java.lang.StringBuilder")).isFalse();
+        assertThat(trie.allows("com.acmex.Country")).isFalse();
+        assertThat(trie.allows("com")).isFalse();
+        assertThat(trie.allows("java.lang")).isFalse();
+    }
+
+    @Test
+    @DisplayName("should treat an entry with a trailing dot as an exact name only")
+    void trailingDotEntryMatchesItselfOnly() {
+        assertThat(trie.allows("org.example.ref.")).isTrue();
+        assertThat(trie.allows("org.example.ref.Currency")).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reject a class outside every entry")
+    void rejectsUnlistedClass() {
+        assertThat(trie.allows("java.lang.Runtime")).isFalse();
+        assertThat(trie.allows("")).isFalse();
+    }
+
+    @Test
+    @DisplayName("should tell whether it was built from no entry")
+    void isEmpty() {
+        assertThat(AllowlistTrie.of(List.of()).isEmpty()).isTrue();
+        assertThat(trie.isEmpty()).isFalse();
+        assertThat(AllowlistTrie.of(List.of()).allows("java.lang.String")).isFalse();
+    }
+}
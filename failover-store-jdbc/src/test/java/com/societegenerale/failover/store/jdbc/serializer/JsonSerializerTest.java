@@ -17,20 +17,29 @@
 package com.societegenerale.failover.store.jdbc.serializer;
 
 import com.societegenerale.failover.core.store.FailoverStoreException;
+import com.societegenerale.failover.domain.Metadata;
+import com.societegenerale.failover.domain.Referential;
+import com.societegenerale.failover.domain.ReferentialAware;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 import tools.jackson.databind.ObjectMapper;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
+import static com.societegenerale.failover.core.util.CastingUtils.cast;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 class JsonSerializerTest {
 
@@ -87,6 +96,70 @@ class JsonSerializerTest {
         }
     }
 
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    @AllArgsConstructor
+    @NoArgsConstructor
+    static class CountryPayload extends Referential {
+        private String name;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    static class AwarePayload implements ReferentialAware {
+        private String name;
+        private Boolean upToDate;
+        private Instant asOf;
+        private Metadata metadata;
+    }
+
+    @Nested
+    @DisplayName("canonicalize")
+    class Canonicalize {
+
+        @Test
+        @DisplayName("should return null when payload is null")
+        void nullPayloadReturnsNull() {
+            assertThat(serializer.canonicalize(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("should render a plain POJO like serialize")
+        void pojoRendersLikeSerialize() {
+            SamplePayload payload = new SamplePayload("test", 1);
+            assertThat(serializer.canonicalize(payload)).isEqualTo(serializer.serialize(payload));
+        }
+
+        @Test
+        @DisplayName("should leave out asOf and upToDate of a Referential, keeping its business fields")
+        void referentialLeavesOutPerWriteMetadata() {
+            var first = new CountryPayload("FR");
+            first.setAsOf(Instant.parse("2026-01-01T10:00:00Z"));
+            first.setUpToDate(true);
+            var second = new CountryPayload("FR");
+            second.setAsOf(Instant.parse("2026-01-01T11:00:00Z"));
+
+            assertThat(serializer.canonicalize(first))
+                    .isEqualTo(serializer.canonicalize(second))
+                    .contains("\"name\":\"FR\"")
+                    .doesNotContain("asOf", "upToDate");
+            assertThat(serializer.canonicalize(new CountryPayload("DE"))).isNotEqualTo(serializer.canonicalize(second));
+            assertThat(serializer.serialize(first)).contains("asOf");
+        }
+
+        @Test
+        @DisplayName("should leave out asOf and upToDate of a ReferentialAware payload")
+        void referentialAwareLeavesOutPerWriteMetadata() {
+            var first = new AwarePayload("FR", true, Instant.parse("2026-01-01T10:00:00Z"), null);
+            var second = new AwarePayload("FR", false, Instant.parse("2026-01-01T11:00:00Z"), null);
+
+            assertThat(serializer.canonicalize(first))
+                    .isEqualTo(serializer.canonicalize(second))
+                    .doesNotContain("asOf", "upToDate");
+        }
+    }
+
     @Nested
     @DisplayName("deserialize")
     class Deserialize {
@@ -135,6 +208,51 @@ class JsonSerializerTest {
         }
     }
 
+    @Nested
+    @DisplayName("serializeToBytes / deserializeFromBytes")
+    class Bytes {
+
+        @Test
+        @DisplayName("should write the UTF-8 bytes of the JSON string")
+        void bytesAreUtf8Json() {
+            SamplePayload payload = new SamplePayload("é-test", 1);
+            assertThat(serializer.serializeToBytes(payload))
+                    .isEqualTo(serializer.serialize(payload).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("should round-trip a POJO through bytes")
+        void bytesRoundTrip() {
+            SamplePayload original = new SamplePayload("test", 99);
+            assertThat(serializer.deserializeFromBytes(serializer.serializeToBytes(original), SamplePayload.class)).isEqualTo(original);
+        }
+
+        @Test
+        @DisplayName("should return null for a null payload or class")
+        void nullsReturnNull() {
+            assertThat(serializer.serializeToBytes(null)).isNull();
+            assertThat(serializer.deserializeFromBytes(null, SamplePayload.class)).isNull();
+            assertThat((Object) serializer.deserializeFromBytes(new byte[]{'{', '}'}, null)).isNull();
+        }
+
+        @Test
+        @DisplayName("the interface defaults go through the string methods")
+        void defaultsUseStringPath() {
+            Serializer stringOnly = new Serializer() {
+                @Override public <T> String serialize(T payload) { return serializer.serialize(payload); }
+                @Override public <T> T deserialize(String payload, Class<T> clazz) { return serializer.deserialize(payload, clazz); }
+                @Override public <T> String toClassName(T payload) { return serializer.toClassName(payload); }
+                @Override public <T> Class<T> toClass(String className) { return serializer.toClass(className); }
+            };
+            SamplePayload original = new SamplePayload("test", 5);
+            byte[] bytes = stringOnly.serializeToBytes(original);
+            assertThat(bytes).isEqualTo(serializer.serializeToBytes(original));
+            assertThat(stringOnly.deserializeFromBytes(bytes, SamplePayload.class)).isEqualTo(original);
+            assertThat(stringOnly.serializeToBytes(null)).isNull();
+            assertThat(stringOnly.deserializeFromBytes(null, SamplePayload.class)).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("toClassName")
     class ToClassName {
@@ -341,6 +459,79 @@ class JsonSerializerTest {
         }
     }
 
+    @Nested
+    @DisplayName("caches")
+    class Caches {
+
+        private final JsonSerializer restricted = new JsonSerializer(OBJECT_MAPPER, List.of("java.lang.String"));
+
+        @Test
+        @DisplayName("should resolve a class name once and return the same class afterwards")
+        void cachesLoadedClass() {
+            assertThat(restricted.<String>toClass("java.lang.String")).isEqualTo(String.class);
+            assertThat(restricted.<String>toClass("java.lang.String")).isEqualTo(String.class);
+
+            assertThat(resolvedClasses(restricted)).containsOnlyKeys("java.lang.String");
+        }
+
+        @Test
+        @DisplayName("should keep refusing a cached class name, with a new exception each time")
+        void cachesRefusal() {
+            Throwable first = catchThrowable(() -> restricted.toClass("java.lang.Runtime"));
+            Throwable second = catchThrowable(() -> restricted.toClass("java.lang.Runtime"));
+
+            assertThat(first).isInstanceOf(FailoverStoreException.class).hasMessageContaining("allowlist");
+            assertThat(second).isInstanceOf(FailoverStoreException.class).hasMessage(first.getMessage()).isNotSameAs(first);
+        }
+
+        @Test
+        @DisplayName("should keep the cause of a cached class-not-found refusal")
+        void cachesNotFoundWithCause() {
+            serializer.toClass("java.lang.String");
+            for (int i = 0; i < 2; i++) {
+                assertThatThrownBy(() -> serializer.toClass("com.example.NonExistentClass"))
+                        .isInstanceOf(FailoverStoreException.class)
+                        .hasCauseInstanceOf(ClassNotFoundException.class);
+            }
+        }
+
+        @Test
+        @DisplayName("should stop caching past the bound and still resolve the names read after it")
+        void boundsTheClassCache() {
+            for (int i = 0; i < JsonSerializer.MAX_CACHED_CLASS_NAMES + 10; i++) {
+                String className = "java.lang.Missing" + i;
+                assertThatThrownBy(() -> restricted.toClass(className)).isInstanceOf(FailoverStoreException.class);
+            }
+
+            assertThat(resolvedClasses(restricted)).hasSize(JsonSerializer.MAX_CACHED_CLASS_NAMES);
+            assertThat(restricted.<String>toClass("java.lang.String")).isEqualTo(String.class);
+        }
+
+        @Test
+        @DisplayName("should reuse one reader and one writer per payload class")
+        void cachesReadersAndWriters() {
+            SamplePayload payload = new SamplePayload("cached", 1);
+
+            String json = serializer.serialize(payload);
+            assertThat(serializer.serialize(payload)).isEqualTo(json);
+            assertThat(serializer.deserialize(json, SamplePayload.class)).isEqualTo(payload);
+            assertThat(serializer.deserialize(json, SamplePayload.class)).isEqualTo(payload);
+            assertThat(serializer.canonicalize(payload)).isEqualTo(serializer.canonicalize(payload));
+
+            assertThat(cache(serializer, "writers")).containsOnlyKeys(SamplePayload.class);
+            assertThat(cache(serializer, "readers")).containsOnlyKeys(SamplePayload.class);
+            assertThat(cache(serializer, "canonicalWriters")).containsOnlyKeys(SamplePayload.class);
+        }
+
+        private Map<Object, Object> resolvedClasses(JsonSerializer jsonSerializer) {
+            return cache(jsonSerializer, "resolvedClasses");
+        }
+
+        private Map<Object, Object> cache(JsonSerializer jsonSerializer, String field) {
+            return cast(ReflectionTestUtils.getField(jsonSerializer, field));
+        }
+    }
+
     @Nested
     @DisplayName("serialize/deserialize round-trip")
     class RoundTrip {
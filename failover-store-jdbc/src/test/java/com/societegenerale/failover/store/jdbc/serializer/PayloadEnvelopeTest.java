@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.serializer;
+
+import com.societegenerale.failover.core.store.FailoverStoreException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PayloadEnvelope")
+class PayloadEnvelopeTest {
+
+    private final PayloadEnvelope envelope = new PayloadEnvelope("CMP", "compressed payload", "codec");
+
+    @Test
+    @DisplayName("string wrap/unwrap round-trips, the body may contain ':' and ')'")
+    void stringRoundTrip() {
+        String wrapped = envelope.wrap("deflate", "a:b)c");
+        assertThat(wrapped).isEqualTo("CMP(deflate:a:b)c)");
+        PayloadEnvelope.Unwrapped<String> unwrapped = envelope.unwrap(wrapped);
+        assertThat(unwrapped).isEqualTo(new PayloadEnvelope.Unwrapped<>("deflate", "a:b)c"));
+    }
+
+    @Test
+    @DisplayName("byte wrap/unwrap round-trips an arbitrary body")
+    void byteRoundTrip() {
+        byte[] body = {0, ':', ')', (byte) 0xFF};
+        byte[] wrapped = envelope.wrap("deflate", body);
+        assertThat(new String(wrapped, 0, 12, StandardCharsets.US_ASCII)).isEqualTo("CMP(deflate:");
+        PayloadEnvelope.Unwrapped<byte[]> unwrapped = envelope.unwrap(wrapped);
+        assertThat(unwrapped).isNotNull();
+        assertThat(unwrapped.id()).isEqualTo("deflate");
+        assertThat(unwrapped.body()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("unwrapSlice locates the body inside the stored bytes without copying them")
+    void slice() {
+        byte[] wrapped = envelope.wrap("deflate", new byte[]{7, 8, 9});
+        PayloadEnvelope.Slice slice = envelope.unwrapSlice(wrapped);
+        assertThat(slice).isNotNull();
+        assertThat(slice.id()).isEqualTo("deflate");
+        assertThat(slice.array()).isSameAs(wrapped);
+        assertThat(slice.offset()).isEqualTo("CMP(deflate:".length());
+        assertThat(slice.length()).isEqualTo(3);
+        assertThat(slice.body()).containsExactly(7, 8, 9);
+        assertThat(envelope.unwrapSlice("{}".getBytes(StandardCharsets.US_ASCII))).isNull();
+    }
+
+    @Test
+    @DisplayName("values outside the envelope, or in another one, are not unwrapped")
+    void notEnveloped() {
+        assertThat(envelope.unwrap((String) null)).isNull();
+        assertThat(envelope.unwrap("{\"a\":1}")).isNull();
+        assertThat(envelope.unwrap("ENC(b64:e30=)")).isNull();
+        assertThat(envelope.unwrap("CMP(deflate:abc")).isNull();
+        assertThat(envelope.unwrap((byte[]) null)).isNull();
+        assertThat(envelope.unwrap("CMP(".getBytes(StandardCharsets.US_ASCII))).isNull();
+        assertThat(envelope.unwrap("ENC(b64:e30=)".getBytes(StandardCharsets.US_ASCII))).isNull();
+    }
+
+    @Test
+    @DisplayName("an envelope without ':' after the id is malformed")
+    void malformed() {
+        assertThatThrownBy(() -> envelope.unwrap("CMP(deflate)"))
+                .isInstanceOf(FailoverStoreException.class)
+                .hasMessage("Malformed compressed payload envelope (missing ':' after codec id): CMP(deflate)");
+        assertThatThrownBy(() -> envelope.unwrap(("CMP(" + "x".repeat(100) + ")").getBytes(StandardCharsets.US_ASCII)))
+                .isInstanceOf(FailoverStoreException.class)
+                .hasMessageEndingWith("…");
+    }
+
+    @Test
+    @DisplayName("ids must be non-blank and free of ':' and ')'")
+    void validIds() {
+        assertThat(PayloadEnvelope.isValidId("deflate")).isTrue();
+        assertThat(PayloadEnvelope.isValidId(null)).isFalse();
+        assertThat(PayloadEnvelope.isValidId(" ")).isFalse();
+        assertThat(PayloadEnvelope.isValidId("a:b")).isFalse();
+        assertThat(PayloadEnvelope.isValidId("a)")).isFalse();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.serializer.cipher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmark for an AES-GCM encrypt + decrypt round trip of a ~1.5 KB JSON payload, as one store and
+ * one recover do. Compares the previous implementation (a {@code Cipher.getInstance} per call, IV and body
+ * copied out with {@code Arrays.copyOfRange}) against {@link AesGcmPayloadCipher} (pooled {@code Cipher}
+ * instances, IV and ciphertext read and written in place), on the binary column path.
+ *
+ * <p>Not a unit test (named {@code *Benchmark} so Surefire skips it). Run via the {@code benchmark}
+ * profile:
+ *
+ * <pre>{@code mvn -pl failover-store-jdbc -Pbenchmark test-compile exec:exec}</pre>
+ *
+ * @author Anand Manissery
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AesGcmCipherBenchmark {
+
+    private static final int IV_LENGTH_BYTES = 16;
+
+    private static final int GCM_TAG_LENGTH_BITS = 128;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private SecretKeySpec key;
+
+    private AesGcmPayloadCipher pooled;
+
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        secureRandom.nextBytes(keyBytes);
+        key = new SecretKeySpec(keyBytes, "AES");
+        pooled = new AesGcmPayloadCipher(keyBytes);
+        payload = "{\"isin\":\"FR0000120271\",\"close\":101.25,\"date\":\"2026-01-01\"},".repeat(25).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Before: a new {@code Cipher} per call and two copies on decrypt. */
+    @Benchmark
+    public byte[] perCallCipher() throws Exception {
+        return previousDecrypt(previousEncrypt(payload));
+    }
+
+    /** After: pooled {@code Cipher} instances, no copies. */
+    @Benchmark
+    public byte[] pooledCipher() {
+        return pooled.decryptBytes(pooled.encryptBytes(payload));
+    }
+
+    private byte[] previousEncrypt(byte[] plaintext) throws Exception {
+        byte[] iv = new byte[IV_LENGTH_BYTES];
+        secureRandom.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
+        byte[] ciphertext = cipher.doFinal(plaintext);
+        byte[] out = new byte[iv.length + ciphertext.length];
+        System.arraycopy(iv, 0, out, 0, iv.length);
+        System.arraycopy(ciphertext, 0, out, iv.length, ciphertext.length);
+        return out;
+    }
+
+    private byte[] previousDecrypt(byte[] ciphertext) throws Exception {
+        byte[] iv = Arrays.copyOfRange(ciphertext, 0, IV_LENGTH_BYTES);
+        byte[] body = Arrays.copyOfRange(ciphertext, IV_LENGTH_BYTES, ciphertext.length);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
+        return cipher.doFinal(body);
+    }
+}
@@ -17,10 +17,17 @@
 package com.societegenerale.failover.store.jdbc.serializer.cipher;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -153,4 +160,108 @@ class AesGcmPayloadCipherTest {
             assertThat(cipher.decrypt(enc)).isEqualTo("enveloped");
         }).doesNotThrowAnyException();
     }
+
+    @Test
+    @DisplayName("encryptBytes is the Base64-decoded encrypt format: IV + ciphertext + tag, interchangeable with the string form")
+    void bytesRoundTripAndMatchStringFormat() {
+        byte[] plaintext = "{\"name\":\"acme\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] encrypted = cipher.encryptBytes(plaintext);
+        assertThat(encrypted).hasSize(16 + plaintext.length + 16);
+        assertThat(cipher.decryptBytes(encrypted)).isEqualTo(plaintext);
+        assertThat(cipher.decrypt(Base64.getEncoder().encodeToString(encrypted))).isEqualTo("{\"name\":\"acme\"}");
+        assertThat(cipher.encryptBytes(null)).isNull();
+        assertThat(cipher.decryptBytes(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("decryptBytes of tampered ciphertext fails loudly")
+    void tamperedBytesFail() {
+        byte[] encrypted = cipher.encryptBytes(new byte[]{1, 2, 3});
+        encrypted[encrypted.length - 1] ^= 0x01;
+        assertThatThrownBy(() -> cipher.decryptBytes(encrypted))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("decryption");
+    }
+
+    @Test
+    @DisplayName("decrypt of input that is not Base64 fails loudly")
+    void nonBase64InputFails() {
+        assertThatThrownBy(() -> cipher.decrypt("not base64 !!"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("decryption");
+    }
+
+    @Test
+    @DisplayName("decryptBytes(array, offset, length) decrypts a ciphertext embedded in a larger array")
+    void decryptsRangeInPlace() {
+        byte[] plaintext = "{\"name\":\"acme\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] encrypted = cipher.encryptBytes(plaintext);
+        byte[] framed = new byte[encrypted.length + 7];
+        System.arraycopy(encrypted, 0, framed, 4, encrypted.length);
+
+        assertThat(cipher.decryptBytes(framed, 4, encrypted.length)).isEqualTo(plaintext);
+        assertThatThrownBy(() -> cipher.decryptBytes(framed, 4, 16))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("decryption");
+    }
+
+    @Nested
+    @DisplayName("Cipher instance pool")
+    class CipherPool {
+
+        @Test
+        @DisplayName("sequential calls reuse a single pooled Cipher")
+        void reusesOneCipher() {
+            AesGcmPayloadCipher pooled = new AesGcmPayloadCipher(randomKey(16), 4);
+            for (int i = 0; i < 10; i++) {
+                assertThat(pooled.decrypt(pooled.encrypt("payload-" + i))).isEqualTo("payload-" + i);
+            }
+            assertThat(pooled.pooled()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("pool size 0 keeps no Cipher between calls")
+        void poolSizeZero() {
+            AesGcmPayloadCipher unpooled = new AesGcmPayloadCipher(randomKey(16), 0);
+            assertThat(unpooled.decrypt(unpooled.encrypt("payload"))).isEqualTo("payload");
+            assertThat(unpooled.pooled()).isZero();
+        }
+
+        @Test
+        @DisplayName("a negative pool size is rejected")
+        void rejectsNegativePoolSize() {
+            assertThatThrownBy(() -> new AesGcmPayloadCipher(randomKey(16), -1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("poolSize");
+        }
+
+        @Test
+        @DisplayName("a Cipher that failed to decrypt is not handed back to the pool")
+        void failedCipherDropped() {
+            AesGcmPayloadCipher pooled = new AesGcmPayloadCipher(randomKey(16), 4);
+            byte[] encrypted = pooled.encryptBytes(new byte[]{1, 2, 3});
+            assertThat(pooled.pooled()).isEqualTo(1);
+            encrypted[encrypted.length - 1] ^= 0x01;
+
+            assertThatThrownBy(() -> pooled.decryptBytes(encrypted)).isInstanceOf(IllegalStateException.class);
+            assertThat(pooled.pooled()).isZero();
+        }
+
+        @Test
+        @DisplayName("round-trips from thousands of virtual threads; idle Ciphers stay within the pool size")
+        void concurrentVirtualThreads() throws Exception {
+            AesGcmPayloadCipher pooled = new AesGcmPayloadCipher(randomKey(32), 8);
+            List<Future<Boolean>> results = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 5_000; i++) {
+                    String plaintext = "{\"id\":" + i + "}";
+                    results.add(executor.submit(() -> plaintext.equals(pooled.decrypt(pooled.encrypt(plaintext)))));
+                }
+                for (Future<Boolean> result : results) {
+                    assertThat(result.get()).isTrue();
+                }
+            }
+            assertThat(pooled.pooled()).isBetween(1, 8);
+        }
+    }
 }
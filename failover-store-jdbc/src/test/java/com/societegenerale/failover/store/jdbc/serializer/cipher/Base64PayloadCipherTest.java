@@ -45,4 +45,23 @@ class Base64PayloadCipherTest {
         assertThat(cipher.encrypt(null)).isNull();
         assertThat(cipher.decrypt(null)).isNull();
     }
+
+    @Test
+    @DisplayName("encryptBytes then decryptBytes round-trips arbitrary bytes, null stays null")
+    void bytesRoundTrip() {
+        byte[] raw = {0, -1, 42, (byte) 0x80};
+        assertThat(cipher.decryptBytes(cipher.encryptBytes(raw))).isEqualTo(raw);
+        assertThat(cipher.encryptBytes(null)).isNull();
+        assertThat(cipher.decryptBytes(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("decryptBytes(array, offset, length) decrypts the given range only (default implementation)")
+    void decryptsRange() {
+        byte[] raw = {0, -1, 42};
+        byte[] encrypted = cipher.encryptBytes(raw);
+        byte[] framed = new byte[encrypted.length + 3];
+        System.arraycopy(encrypted, 0, framed, 2, encrypted.length);
+        assertThat(cipher.decryptBytes(framed, 2, encrypted.length)).isEqualTo(raw);
+    }
 }
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import tools.jackson.databind.ObjectMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -85,6 +86,13 @@ class EncryptingSerializerTest {
             assertThat(new EncryptingSerializer(delegate, List.of(b64), b64).serialize(null)).isNull();
             assertThat(new EncryptingSerializer(delegate, List.of(b64), null).serialize(null)).isNull();
         }
+
+        @Test
+        @DisplayName("canonicalizes to the delegate's plaintext form even when a write cipher is set")
+        void canonicalizeIsNeverEncrypted() {
+            Serializer enc = new EncryptingSerializer(delegate, List.of(b64), b64);
+            assertThat(enc.canonicalize(new Sample("acme", 1))).isEqualTo(delegate.canonicalize(new Sample("acme", 1)));
+        }
     }
 
     @Nested
@@ -174,6 +182,66 @@ class EncryptingSerializerTest {
         }
     }
 
+    @Nested
+    @DisplayName("binary envelope")
+    class BinaryEnvelope {
+
+        private static String ascii(byte[] bytes) {
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+
+        @Test
+        @DisplayName("wraps the raw ciphertext bytes as ENC(<id>:...) and round-trips")
+        void encryptsAndWrapsBytes() {
+            Serializer enc = new EncryptingSerializer(delegate, List.of(b64), b64);
+            byte[] stored = enc.serializeToBytes(new Sample("acme", 1));
+            assertThat(ascii(stored)).startsWith("ENC(b64:").endsWith(")").doesNotContain("acme");
+            assertThat(enc.deserializeFromBytes(stored, Sample.class)).isEqualTo(new Sample("acme", 1));
+        }
+
+        @Test
+        @DisplayName("a text-only cipher gets Base64 bytes through the default encryptBytes and still round-trips")
+        void textOnlyCipherRoundTrips() {
+            PayloadCipher rev = new ReverseCipher();
+            Serializer enc = new EncryptingSerializer(delegate, List.of(b64, rev), rev);
+            byte[] stored = enc.serializeToBytes(new Sample("acme", 2));
+            assertThat(ascii(stored)).startsWith("ENC(rev:");
+            assertThat(enc.deserializeFromBytes(stored, Sample.class)).isEqualTo(new Sample("acme", 2));
+        }
+
+        @Test
+        @DisplayName("writes and reads plaintext bytes when the write cipher is null, null stays null")
+        void plaintextBytes() {
+            Serializer enc = new EncryptingSerializer(delegate, List.of(b64), null);
+            byte[] stored = enc.serializeToBytes(new Sample("acme", 3));
+            assertThat(stored).isEqualTo(delegate.serializeToBytes(new Sample("acme", 3)));
+            assertThat(enc.deserializeFromBytes(stored, Sample.class)).isEqualTo(new Sample("acme", 3));
+            assertThat(enc.serializeToBytes(null)).isNull();
+            assertThat(enc.deserializeFromBytes(null, Sample.class)).isNull();
+        }
+
+        @Test
+        @DisplayName("throws on an unknown cipher id or a missing ':' separator")
+        void malformedBytesThrow() {
+            Serializer enc = new EncryptingSerializer(delegate, List.of(b64), b64);
+            assertThatThrownBy(() -> enc.deserializeFromBytes("ENC(aesgcm:xx)".getBytes(StandardCharsets.US_ASCII), Sample.class))
+                    .isInstanceOf(FailoverStoreException.class)
+                    .hasMessageContaining("aesgcm");
+            assertThatThrownBy(() -> enc.deserializeFromBytes("ENC(no-colon)".getBytes(StandardCharsets.US_ASCII), Sample.class))
+                    .isInstanceOf(FailoverStoreException.class)
+                    .hasMessageContaining("Malformed");
+        }
+
+        @Test
+        @DisplayName("wraps a cipher failure in a FailoverStoreException")
+        void cipherFailureIsWrapped() {
+            Serializer enc = new EncryptingSerializer(delegate, List.of(b64), b64);
+            assertThatThrownBy(() -> enc.deserializeFromBytes("ENC(b64:!!)".getBytes(StandardCharsets.US_ASCII), Sample.class))
+                    .isInstanceOf(FailoverStoreException.class)
+                    .hasMessageContaining("Failed to decrypt");
+        }
+    }
+
     @Nested
     @DisplayName("construction validation")
     class Construction {
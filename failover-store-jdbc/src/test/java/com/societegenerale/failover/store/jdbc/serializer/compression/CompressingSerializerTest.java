@@ -0,0 +1,237 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.serializer.compression;
+
+import com.societegenerale.failover.core.store.FailoverStoreException;
+import com.societegenerale.failover.store.jdbc.serializer.JsonSerializer;
+import com.societegenerale.failover.store.jdbc.serializer.Serializer;
+import com.societegenerale.failover.store.jdbc.serializer.cipher.Base64PayloadCipher;
+import com.societegenerale.failover.store.jdbc.serializer.cipher.EncryptingSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressingSerializerTest {
+
+    private static final int THRESHOLD = 256;
+
+    private final Serializer delegate = new JsonSerializer(new ObjectMapper());
+    private final DeflatePayloadCodec deflate = new DeflatePayloadCodec();
+    private final CompressionStats stats = new CompressionStats();
+
+    private final Sample large = new Sample("EUR/USD ".repeat(200), 1);
+    private final Sample small = new Sample("EUR/USD", 2);
+
+    private CompressingSerializer compressing(PayloadCodec writeCodec) {
+        return new CompressingSerializer(delegate, List.of(deflate), writeCodec, THRESHOLD, stats);
+    }
+
+    private static String ascii(byte[] bytes) {
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    @Data @AllArgsConstructor @NoArgsConstructor
+    static class Sample { private String name; private int value; }
+
+    /** Codec that "compresses" to a fixed larger output, to exercise the not-smaller fallback. */
+    static class InflatingCodec implements PayloadCodec {
+        @Override public String id() { return "inflating"; }
+        @Override public byte[] compress(byte[] plain) { return new byte[plain.length + 1]; }
+        @Override public byte[] decompress(byte[] compressed) { throw new UnsupportedOperationException(); }
+    }
+
+    @Nested
+    @DisplayName("string path")
+    class StringPath {
+
+        @Test
+        @DisplayName("wraps a payload above the threshold as CMP(deflate:<base64>) and round-trips")
+        void compressesAndRoundTrips() {
+            Serializer serializer = compressing(deflate);
+            String stored = serializer.serialize(large);
+            assertThat(stored).startsWith("CMP(deflate:").endsWith(")");
+            assertThat(stored.length()).isLessThan(delegate.serialize(large).length() / 4);
+            assertThat(serializer.deserialize(stored, Sample.class)).isEqualTo(large);
+        }
+
+        @Test
+        @DisplayName("writes a payload below the threshold as is")
+        void belowThresholdAsIs() {
+            assertThat(compressing(deflate).serialize(small)).isEqualTo(delegate.serialize(small));
+            assertThat(stats.skipped()).isEqualTo(1);
+            assertThat(stats.compressions()).isZero();
+        }
+
+        @Test
+        @DisplayName("writes as is when compression is disabled, and still reads CMP rows")
+        void disabledStillReads() {
+            String stored = compressing(deflate).serialize(large);
+            Serializer disabled = compressing(null);
+            assertThat(disabled.serialize(large)).isEqualTo(delegate.serialize(large));
+            assertThat(disabled.deserialize(stored, Sample.class)).isEqualTo(large);
+        }
+
+        @Test
+        @DisplayName("reads a row written before compression straight through")
+        void readsUncompressed() {
+            assertThat(compressing(deflate).deserialize(delegate.serialize(large), Sample.class)).isEqualTo(large);
+        }
+
+        @Test
+        @DisplayName("null stays null")
+        void nulls() {
+            assertThat(compressing(deflate).serialize(null)).isNull();
+            assertThat(compressing(deflate).deserialize(null, Sample.class)).isNull();
+        }
+
+        @Test
+        @DisplayName("throws when the body is not Base64")
+        void notBase64Throws() {
+            assertThatThrownBy(() -> compressing(deflate).deserialize("CMP(deflate:!!)", Sample.class))
+                    .isInstanceOf(FailoverStoreException.class)
+                    .hasMessageContaining("decompress");
+        }
+    }
+
+    @Nested
+    @DisplayName("byte path")
+    class BytePath {
+
+        @Test
+        @DisplayName("wraps the raw compressed bytes as CMP(deflate:...) and round-trips")
+        void compressesAndRoundTrips() {
+            Serializer serializer = compressing(deflate);
+            byte[] stored = serializer.serializeToBytes(large);
+            assertThat(ascii(stored)).startsWith("CMP(deflate:").endsWith(")");
+            assertThat(serializer.deserializeFromBytes(stored, Sample.class)).isEqualTo(large);
+        }
+
+        @Test
+        @DisplayName("writes bytes below the threshold, or with compression disabled, as is")
+        void asIs() {
+            assertThat(compressing(deflate).serializeToBytes(small)).isEqualTo(delegate.serializeToBytes(small));
+            assertThat(compressing(null).serializeToBytes(large)).isEqualTo(delegate.serializeToBytes(large));
+            assertThat(compressing(deflate).deserializeFromBytes(delegate.serializeToBytes(large), Sample.class)).isEqualTo(large);
+            assertThat(compressing(deflate).serializeToBytes(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("throws when the row names an unknown codec or is corrupted")
+        void unreadableRowsThrow() {
+            assertThatThrownBy(() -> compressing(deflate).deserializeFromBytes("CMP(zstd:xx)".getBytes(StandardCharsets.US_ASCII), Sample.class))
+                    .isInstanceOf(FailoverStoreException.class)
+                    .hasMessageContaining("zstd")
+                    .hasMessageContaining("registered");
+            assertThatThrownBy(() -> compressing(deflate).deserializeFromBytes("CMP(deflate:ÿÿ)".getBytes(StandardCharsets.ISO_8859_1), Sample.class))
+                    .isInstanceOf(FailoverStoreException.class)
+                    .hasMessageContaining("Failed to decompress");
+        }
+    }
+
+    @Nested
+    @DisplayName("stats")
+    class Stats {
+
+        @Test
+        @DisplayName("records bytes in/out, the ratio and the decompressions")
+        void recordsCompression() {
+            assertThat(stats.ratio()).isNaN();
+            Serializer serializer = compressing(deflate);
+            byte[] stored = serializer.serializeToBytes(large);
+            serializer.deserializeFromBytes(stored, Sample.class);
+
+            assertThat(stats.compressions()).isEqualTo(1);
+            assertThat(stats.uncompressedBytes()).isEqualTo(delegate.serializeToBytes(large).length);
+            assertThat(stats.compressedBytes()).isLessThan(stats.uncompressedBytes());
+            assertThat(stats.ratio()).isGreaterThan(4.0);
+            assertThat(stats.compressionNanos()).isPositive();
+            assertThat(stats.decompressions()).isEqualTo(1);
+            assertThat(stats.decompressionNanos()).isPositive();
+        }
+
+        @Test
+        @DisplayName("writes as is, and counts a skip, when the codec output is not smaller")
+        void notSmallerIsSkipped() {
+            PayloadCodec inflating = new InflatingCodec();
+            Serializer serializer = new CompressingSerializer(delegate, List.of(inflating), inflating, 0, stats);
+            assertThat(serializer.serialize(large)).isEqualTo(delegate.serialize(large));
+            assertThat(stats.skipped()).isEqualTo(1);
+            assertThat(stats.compressions()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("composition and pass-through")
+    class Composition {
+
+        @Test
+        @DisplayName("under an EncryptingSerializer, compresses first and round-trips on both paths")
+        void compressThenEncrypt() {
+            Base64PayloadCipher b64 = new Base64PayloadCipher();
+            Serializer serializer = new EncryptingSerializer(compressing(deflate), List.of(b64), b64);
+
+            String stored = serializer.serialize(large);
+            assertThat(b64.decrypt(stored.substring("ENC(b64:".length(), stored.length() - 1))).startsWith("CMP(deflate:");
+            assertThat(serializer.deserialize(stored, Sample.class)).isEqualTo(large);
+            assertThat(serializer.deserializeFromBytes(serializer.serializeToBytes(large), Sample.class)).isEqualTo(large);
+        }
+
+        @Test
+        @DisplayName("canonicalize, toClassName and toClass are not transformed")
+        void passThrough() {
+            Serializer serializer = compressing(deflate);
+            assertThat(serializer.canonicalize(large)).isEqualTo(delegate.canonicalize(large));
+            assertThat(serializer.toClassName(large)).isEqualTo(Sample.class.getName());
+            assertThat(serializer.<Sample>toClass(Sample.class.getName())).isEqualTo(Sample.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("construction validation")
+    class Construction {
+
+        @Test
+        @DisplayName("rejects duplicate or invalid codec ids, a foreign write codec and a negative threshold")
+        void rejectsInvalidSetup() {
+            assertThatThrownBy(() -> new CompressingSerializer(delegate, List.of(deflate, new DeflatePayloadCodec()), null, 0, stats))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Duplicate");
+            PayloadCodec badId = new InflatingCodec() {
+                @Override public String id() { return "a:b"; }
+            };
+            assertThatThrownBy(() -> new CompressingSerializer(delegate, List.of(badId), null, 0, stats))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Invalid PayloadCodec id");
+            assertThatThrownBy(() -> new CompressingSerializer(delegate, List.of(deflate), new DeflatePayloadCodec(), 0, stats))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("not among the registered codecs");
+            assertThatThrownBy(() -> new CompressingSerializer(delegate, List.of(deflate), deflate, -1, stats))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("thresholdBytes");
+        }
+    }
+}
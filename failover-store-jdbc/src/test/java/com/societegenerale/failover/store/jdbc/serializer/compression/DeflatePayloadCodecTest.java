@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022-2026, Société Générale All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.societegenerale.failover.store.jdbc.serializer.compression;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DeflatePayloadCodec")
+class DeflatePayloadCodecTest {
+
+    private final DeflatePayloadCodec codec = new DeflatePayloadCodec();
+
+    @Test
+    @DisplayName("id is 'deflate'")
+    void idIsDeflate() {
+        assertThat(codec.id()).isEqualTo("deflate");
+    }
+
+    @Test
+    @DisplayName("round-trips and shrinks repetitive JSON")
+    void roundTripsAndShrinks() {
+        byte[] json = "{\"pair\":\"EUR/USD\",\"rate\":1.0842},".repeat(500).getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = codec.compress(json);
+        assertThat(compressed.length).isLessThan(json.length / 8);
+        assertThat(codec.decompress(compressed)).isEqualTo(json);
+    }
+
+    @Test
+    @DisplayName("round-trips payloads larger than the internal buffer, random and empty ones")
+    void roundTripsAnySize() {
+        byte[] random = new byte[100_000];
+        new Random(42).nextBytes(random);
+        assertThat(codec.decompress(codec.compress(random))).isEqualTo(random);
+        assertThat(codec.decompress(codec.compress(new byte[0]))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("honours the level: 0 stores, 9 compresses")
+    void level() {
+        byte[] json = "{\"a\":1},".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        assertThat(new DeflatePayloadCodec(0).compress(json).length).isGreaterThan(json.length);
+        assertThat(new DeflatePayloadCodec(9).compress(json).length).isLessThan(json.length / 10);
+    }
+
+    @Test
+    @DisplayName("rejects a level out of range")
+    void rejectsLevel() {
+        assertThatThrownBy(() -> new DeflatePayloadCodec(10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DeflatePayloadCodec(-2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("decompress of garbage or a truncated stream fails loudly")
+    void invalidInputFails() {
+        assertThatThrownBy(() -> codec.decompress(new byte[]{(byte) 0xFF, (byte) 0xFF, 0x00}))
+                .isInstanceOf(IllegalStateException.class);
+        byte[] compressed = codec.compress("{\"a\":1},".repeat(1000).getBytes(StandardCharsets.UTF_8));
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+        assertThatThrownBy(() -> codec.decompress(truncated))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Truncated");
+    }
+}
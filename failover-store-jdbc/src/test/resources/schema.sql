@@ -24,4 +24,14 @@ CREATE TABLE TEST_FAILOVER_STORE (
     PAYLOAD_CLASS VARCHAR(256),
     PRIMARY KEY(FAILOVER_NAME, FAILOVER_KEY)
 );
-CREATE INDEX IF NOT EXISTS IDX_TEST_FAILOVER_STORE_EXPIRE_ON ON TEST_FAILOVER_STORE (EXPIRE_ON);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS IDX_TEST_FAILOVER_STORE_EXPIRE_ON ON TEST_FAILOVER_STORE (EXPIRE_ON);
+DROP TABLE IF EXISTS BLOB_FAILOVER_STORE;
+CREATE TABLE BLOB_FAILOVER_STORE (
+    FAILOVER_NAME VARCHAR(50) NOT NULL,
+    FAILOVER_KEY VARCHAR(256) NOT NULL,
+    AS_OF TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    EXPIRE_ON TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+    PAYLOAD BLOB,                         -- binary payload column (BlobPayloadColumnResolver)
+    PAYLOAD_CLASS VARCHAR(256),
+    PRIMARY KEY(FAILOVER_NAME, FAILOVER_KEY)
+);
@@ -19,15 +19,18 @@ package com.societegenerale.failover.store.multitenant;
 import com.societegenerale.failover.core.payload.ReferentialPayload;
 import com.societegenerale.failover.core.store.FailoverStore;
 import com.societegenerale.failover.core.store.FailoverStoreException;
+import com.societegenerale.failover.core.util.CommonsUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 /**
  * Outermost {@link FailoverStore} decorator that routes every operation to the correct
@@ -64,7 +67,7 @@ import java.util.function.UnaryOperator;
  */
 @Slf4j
 @RequiredArgsConstructor
-public class MultiTenantFailoverStore<T> implements FailoverStore<T> {
+public class MultiTenantFailoverStore<T> implements FailoverStore<T>, AutoCloseable {
 
     private final TenantResolver tenantResolver;
 
@@ -94,6 +97,29 @@ public class MultiTenantFailoverStore<T> implements FailoverStore<T> {
         tenantStore().store(payload);
     }
 
+    /**
+     * Stores the payloads in the current tenant's failover store, as one batch.
+     *
+     * @param payloads the payloads to persist
+     * @throws FailoverStoreException if the delegate store operation fails
+     */
+    @Override
+    public void storeAll(List<ReferentialPayload<T>> payloads) {
+        tenantStore().storeAll(payloads);
+    }
+
+    /**
+     * Touches the payload in the current tenant's failover store.
+     *
+     * @param payload         the payload carrying the new {@code asOf}/{@code expireOn}
+     * @param writtenExpireOn the {@code expireOn} the caller last wrote the entry with
+     * @throws FailoverStoreException if the delegate store operation fails
+     */
+    @Override
+    public void touch(ReferentialPayload<T> payload, Instant writtenExpireOn) {
+        tenantStore().touch(payload, writtenExpireOn);
+    }
+
     /**
      * Deletes the payload from the current tenant's failover store.
      *
@@ -105,6 +131,18 @@ public class MultiTenantFailoverStore<T> implements FailoverStore<T> {
         tenantStore().delete(payload);
     }
 
+    /**
+     * Deletes the expired payloads from the current tenant's failover store; the tenant is resolved on the calling
+     * thread, so a store that defers the delete to another thread already holds the right tenant's connection.
+     *
+     * @param payloads the expired payloads, as read from the current tenant's store
+     * @throws FailoverStoreException if the delegate delete operation fails
+     */
+    @Override
+    public void deleteExpired(List<ReferentialPayload<T>> payloads) {
+        tenantStore().deleteExpired(payloads);
+    }
+
     /**
      * Looks up a payload by name and key in the current tenant's failover store.
      *
@@ -118,6 +156,20 @@ public class MultiTenantFailoverStore<T> implements FailoverStore<T> {
         return tenantStore().find(name, key);
     }
 
+    /**
+     * Looks up an unexpired payload by name and key in the current tenant's failover store.
+     *
+     * @param name          the referential name
+     * @param key           the unique key within that referential
+     * @param expiredBefore entries expiring before this instant are left out
+     * @return an {@link Optional} containing the payload if found and unexpired, or empty
+     * @throws FailoverStoreException if the delegate lookup operation fails
+     */
+    @Override
+    public Optional<ReferentialPayload<T>> find(String name, String key, Instant expiredBefore) {
+        return tenantStore().find(name, key, expiredBefore);
+    }
+
     /**
      * Returns all payloads for the given name from the <b>current tenant's</b> store only.
      *
@@ -134,6 +186,47 @@ public class MultiTenantFailoverStore<T> implements FailoverStore<T> {
         return tenantStore().findAll(name);
     }
 
+    /**
+     * Streams all payloads for the given name from the <b>current tenant's</b> store only; the tenant is
+     * resolved once, on the calling thread, when the stream is opened.
+     *
+     * @param name          the referential name
+     * @param expiredBefore entries expiring before this instant may come without their payload
+     * @return the current tenant's stream of matching payloads
+     * @throws FailoverStoreException if the delegate lookup fails
+     */
+    @Override
+    public Stream<ReferentialPayload<T>> streamAll(String name, Instant expiredBefore) throws FailoverStoreException {
+        return tenantStore().streamAll(name, expiredBefore);
+    }
+
+    /**
+     * Looks up the payloads of the given keys in the <b>current tenant's</b> store only.
+     *
+     * @param name the referential name
+     * @param keys the keys to look up
+     * @return the payloads found for the current tenant, or an empty list if none
+     * @throws FailoverStoreException if the delegate lookup fails
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys) throws FailoverStoreException {
+        return tenantStore().findAll(name, keys);
+    }
+
+    /**
+     * Looks up the unexpired payloads of the given keys in the <b>current tenant's</b> store only.
+     *
+     * @param name          the referential name
+     * @param keys          the keys to look up
+     * @param expiredBefore entries expiring before this instant are left out
+     * @return the unexpired payloads found for the current tenant, or an empty list if none
+     * @throws FailoverStoreException if the delegate lookup fails
+     */
+    @Override
+    public List<ReferentialPayload<T>> findAll(String name, Collection<String> keys, Instant expiredBefore) throws FailoverStoreException {
+        return tenantStore().findAll(name, keys, expiredBefore);
+    }
+
     /**
      * Calls {@code cleanByExpiry} on every tenant store that has been initialised.
      * Called by the scheduler — not on a request thread, so no tenant resolution is needed.
@@ -143,6 +236,17 @@ public class MultiTenantFailoverStore<T> implements FailoverStore<T> {
         stores.values().forEach(s -> s.cleanByExpiry(expiry));
     }
 
+    /**
+     * Closes every tenant store that has been initialised, so each one applies the writes it still holds (for
+     * instance the coalesced writes of its {@code FailoverStoreAsync}) before the application stops. Called by
+     * Spring on shutdown, through the inferred destroy method of the {@code failoverStore} bean.
+     */
+    @Override
+    public void close() {
+        log.debug("Closing the failover stores of {} tenant(s): {}", stores.size(), stores.keySet());
+        stores.values().forEach(CommonsUtil::closeQuietly);
+    }
+
     /**
      * Pre-warms the store for each known tenant so {@link #cleanByExpiry} covers all tenants
      * from application startup, not just those that have received a request.
@@ -27,6 +27,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.UnaryOperator;
@@ -34,6 +35,7 @@ import java.util.function.UnaryOperator;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -69,6 +71,34 @@ class MultiTenantFailoverStoreTest {
             verifyNoInteractions(globexStore);
         }
 
+        @Test
+        @DisplayName("touch() routes to current tenant")
+        void touchRoutesToTenant() {
+            var store = new MultiTenantFailoverStore<>(() -> "acme", twoTenantFactory(), identity, null);
+            Instant writtenExpireOn = Instant.now();
+            store.touch(payload, writtenExpireOn);
+            verify(acmeStore).touch(payload, writtenExpireOn);
+            verifyNoInteractions(globexStore);
+        }
+
+        @Test
+        @DisplayName("storeAll() routes the whole batch to current tenant")
+        void storeAllRoutesToTenant() {
+            var store = new MultiTenantFailoverStore<>(() -> "acme", twoTenantFactory(), identity, null);
+            store.storeAll(List.of(payload));
+            verify(acmeStore).storeAll(List.of(payload));
+            verifyNoInteractions(globexStore);
+        }
+
+        @Test
+        @DisplayName("findAll() by keys routes to current tenant")
+        void findAllByKeysRoutesToTenant() {
+            when(acmeStore.findAll("name", List.of("key"))).thenReturn(List.of(payload));
+            var store = new MultiTenantFailoverStore<>(() -> "acme", twoTenantFactory(), identity, null);
+            assertThat(store.findAll("name", List.of("key"))).containsExactly(payload);
+            verifyNoInteractions(globexStore);
+        }
+
         @Test
         @DisplayName("delete() routes to current tenant")
         void deleteRoutesToTenant() {
@@ -88,6 +118,42 @@ class MultiTenantFailoverStoreTest {
             verifyNoInteractions(globexStore);
         }
 
+        @Test
+        @DisplayName("deleteExpired() routes to current tenant")
+        void deleteExpiredRoutesToTenant() {
+            var store = new MultiTenantFailoverStore<>(() -> "acme", twoTenantFactory(), identity, null);
+            store.deleteExpired(List.of(payload));
+            verify(acmeStore).deleteExpired(List.of(payload));
+            verifyNoInteractions(globexStore);
+        }
+
+        @Test
+        @DisplayName("find() and findAll() by keys with a cutoff route to current tenant")
+        void findWithCutoffRoutesToTenant() {
+            Instant cutoff = Instant.now();
+            when(acmeStore.find("name", "key", cutoff)).thenReturn(Optional.of(payload));
+            when(acmeStore.findAll("name", List.of("key"), cutoff)).thenReturn(List.of(payload));
+            var store = new MultiTenantFailoverStore<>(() -> "acme", twoTenantFactory(), identity, null);
+            assertThat(store.find("name", "key", cutoff)).contains(payload);
+            assertThat(store.findAll("name", List.of("key"), cutoff)).containsExactly(payload);
+            verifyNoInteractions(globexStore);
+        }
+
+        @Test
+        @DisplayName("streamAll() routes to current tenant")
+        void streamAllRoutesToCurrentTenant() {
+            var store = new MultiTenantFailoverStore<>(() -> "acme", twoTenantFactory(), identity, null);
+            Stream<ReferentialPayload<String>> payloads = Stream.empty();
+            Instant cutoff = Instant.now();
+            given(acmeStore.streamAll("country", cutoff)).willReturn(payloads);
+
+            Stream<ReferentialPayload<String>> result = store.streamAll("country", cutoff);
+
+            assertThat(result).isSameAs(payloads);
+            verify(acmeStore).streamAll("country", cutoff);
+            verifyNoInteractions(globexStore);
+        }
+
         @Test
         @DisplayName("findAll() routes to current tenant")
         void findAllRoutesToCurrentTenant() {
@@ -236,4 +302,56 @@ class MultiTenantFailoverStoreTest {
             assertThat(count[0]).isEqualTo(2);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("close")
+    class Close {
+
+        private final List<FailoverStore<String>> decorated = new ArrayList<>();
+
+        /** Wraps each raw store into a closeable mock, as FailoverStoreAsync does in the real chain. */
+        private final UnaryOperator<FailoverStore<String>> closeableDecorator = raw -> {
+            FailoverStore<String> store = mock(FailoverStore.class, withSettings().extraInterfaces(AutoCloseable.class));
+            decorated.add(store);
+            return store;
+        };
+
+        @Test
+        @DisplayName("close() closes the store of every initialised tenant")
+        void closeClosesEveryTenantStore() throws Exception {
+            var store = new MultiTenantFailoverStore<>(() -> "acme", twoTenantFactory(), closeableDecorator, null);
+            store.prewarm(Set.of("acme", "globex"));
+
+            store.close();
+
+            assertThat(decorated).hasSize(2);
+            for (FailoverStore<String> tenantStore : decorated) {
+                verify((AutoCloseable) tenantStore).close();
+            }
+        }
+
+        @Test
+        @DisplayName("close() goes on with the other tenants when one store fails to close")
+        void closeSurvivesFailingTenantStore() throws Exception {
+            var store = new MultiTenantFailoverStore<>(() -> "acme", twoTenantFactory(), closeableDecorator, null);
+            store.prewarm(Set.of("acme", "globex"));
+            doThrow(new IllegalStateException("boom")).when((AutoCloseable) decorated.get(0)).close();
+
+            store.close();
+
+            verify((AutoCloseable) decorated.get(1)).close();
+        }
+
+        @Test
+        @DisplayName("close() leaves stores that hold nothing to close alone")
+        void closeIgnoresPlainStores() {
+            var store = new MultiTenantFailoverStore<>(() -> "acme", twoTenantFactory(), identity, null);
+            store.store(payload);
+
+            store.close();
+
+            verify(acmeStore).store(payload);
+            verifyNoMoreInteractions(acmeStore);
+        }
+    }
+}